@@ -0,0 +1,79 @@
+package com.javajedis.legalconnect.common.service;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Compares rendering the notification email straight through the template engine, as every send used to,
+ * with {@link EmailTemplateRenderer} for a fan-out where every recipient gets the same variables, and for
+ * distinct variables where nothing can be reused.
+ *
+ * <p>Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.include=EmailTemplateRenderingBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailTemplateRenderingBenchmark {
+
+    private static final String TEMPLATE = "notification-email";
+    private static final Map<String, Object> FAN_OUT_VARIABLES = Map.of(
+            "notificationType", "New Blog Post",
+            "content", "A lawyer you follow published a new article on tenancy law.");
+
+    private SpringTemplateEngine templateEngine;
+    private EmailTemplateRenderer renderer;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCacheable(true);
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        renderer = new EmailTemplateRenderer(templateEngine, new SimpleMeterRegistry());
+        renderer.preloadTemplates();
+    }
+
+    @Benchmark
+    public String engineProcess() {
+        Context context = new Context();
+        context.setVariables(FAN_OUT_VARIABLES);
+        return templateEngine.process(TEMPLATE, context);
+    }
+
+    @Benchmark
+    public String rendererFanOut() {
+        return renderer.render(TEMPLATE, FAN_OUT_VARIABLES);
+    }
+
+    @Benchmark
+    public String rendererDistinctVariables() {
+        return renderer.render(TEMPLATE, Map.of(
+                "notificationType", "Case Update",
+                "content", "Case status changed, update " + sequence++));
+    }
+}
@@ -0,0 +1,176 @@
+package com.javajedis.legalconnect.jobscheduler;
+
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.quartz.JobBuilder;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.TriggerBuilder;
+import org.quartz.impl.StdSchedulerFactory;
+import org.quartz.impl.matchers.GroupMatcher;
+
+/**
+ * Compares deleting the notification jobs of one task among {@code storedJobs} stored jobs by scanning every
+ * job key for the task's name prefix, as {@link JobSchedulerService#deleteAllJobsForTask} used to, with
+ * reading the task's job group.
+ *
+ * <p>Both schedulers use the in-memory job store and are never started. The JDBC job store indexes
+ * {@code QRTZ_JOB_DETAILS} by job group, so a group lookup stays proportional to the task's jobs there too,
+ * while a scan reads every job key over the connection.
+ *
+ * <p>Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.include=TaskJobLookupBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskJobLookupBenchmark {
+
+    private static final String WEBPUSH_JOB_PREFIX = "webpush_";
+    private static final String EMAIL_JOB_PREFIX = "email_";
+    private static final OffsetDateTime FIRE_AT = OffsetDateTime.now().plusDays(30);
+
+    /**
+     * Jobs named after their task in the default group, as stored before jobs were grouped by task.
+     */
+    @State(Scope.Benchmark)
+    public static class LegacyLayout {
+        @Param("100000")
+        private int storedJobs;
+
+        private Scheduler scheduler;
+        private UUID taskId;
+        private UUID recipientId;
+
+        @Setup(Level.Trial)
+        public void setUp() throws SchedulerException {
+            scheduler = scheduler("LegacyLayout");
+            for (int i = 0; i < storedJobs / 2; i++) {
+                storeJobs(UUID.randomUUID(), UUID.randomUUID());
+            }
+            taskId = UUID.randomUUID();
+            recipientId = UUID.randomUUID();
+        }
+
+        @Setup(Level.Invocation)
+        public void storeTaskJobs() throws SchedulerException {
+            storeJobs(taskId, recipientId);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SchedulerException {
+            scheduler.shutdown();
+        }
+
+        private void storeJobs(UUID task, UUID recipient) throws SchedulerException {
+            for (String jobId : new String[] {WEBPUSH_JOB_PREFIX + task + "_" + recipient,
+                    EMAIL_JOB_PREFIX + task + "_" + recipient + "@example.com"}) {
+                scheduler.scheduleJob(JobBuilder.newJob(WebPushJob.class)
+                                .withIdentity(jobId)
+                                .storeDurably()
+                                .build(),
+                        TriggerBuilder.newTrigger()
+                                .withIdentity("trigger_" + jobId)
+                                .startAt(Date.from(FIRE_AT.toInstant()))
+                                .build());
+            }
+        }
+    }
+
+    /**
+     * Jobs in the group of their task, as {@link JobSchedulerService#migrateLegacyTaskJobs} moves them.
+     */
+    @State(Scope.Benchmark)
+    public static class GroupedLayout {
+        @Param("100000")
+        private int storedJobs;
+
+        private Scheduler scheduler;
+        private JobSchedulerService jobSchedulerService;
+        private UUID taskId;
+        private UUID recipientId;
+
+        @Setup(Level.Trial)
+        public void setUp() throws SchedulerException {
+            scheduler = scheduler("GroupedLayout");
+            jobSchedulerService = new JobSchedulerService(scheduler);
+            for (int i = 0; i < storedJobs / 2; i++) {
+                storeJobs(UUID.randomUUID(), UUID.randomUUID());
+            }
+            taskId = UUID.randomUUID();
+            recipientId = UUID.randomUUID();
+        }
+
+        @Setup(Level.Invocation)
+        public void storeTaskJobs() throws SchedulerException {
+            storeJobs(taskId, recipientId);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SchedulerException {
+            scheduler.shutdown();
+        }
+
+        private void storeJobs(UUID task, UUID recipient) throws SchedulerException {
+            String group = "task_" + task;
+            for (String jobId : new String[] {WEBPUSH_JOB_PREFIX + task + "_" + recipient,
+                    EMAIL_JOB_PREFIX + task + "_" + recipient + "@example.com"}) {
+                scheduler.scheduleJob(JobBuilder.newJob(WebPushJob.class)
+                                .withIdentity(jobId, group)
+                                .storeDurably()
+                                .build(),
+                        TriggerBuilder.newTrigger()
+                                .withIdentity("trigger_" + jobId, group)
+                                .startAt(Date.from(FIRE_AT.toInstant()))
+                                .build());
+            }
+        }
+    }
+
+    @Benchmark
+    public int prefixScan(LegacyLayout layout) throws SchedulerException {
+        int deleted = 0;
+        for (JobKey jobKey : layout.scheduler.getJobKeys(GroupMatcher.anyGroup())) {
+            String jobName = jobKey.getName();
+            if (jobName.startsWith(WEBPUSH_JOB_PREFIX + layout.taskId + "_")
+                    || jobName.startsWith(EMAIL_JOB_PREFIX + layout.taskId + "_")) {
+                layout.scheduler.deleteJob(jobKey);
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    @Benchmark
+    public void groupLookup(GroupedLayout layout) {
+        layout.jobSchedulerService.deleteAllJobsForTask(layout.taskId);
+    }
+
+    private static Scheduler scheduler(String name) throws SchedulerException {
+        Properties properties = new Properties();
+        properties.setProperty("org.quartz.scheduler.instanceName", name);
+        properties.setProperty("org.quartz.scheduler.skipUpdateCheck", "true");
+        properties.setProperty("org.quartz.threadPool.threadCount", "1");
+        properties.setProperty("org.quartz.jobStore.class", "org.quartz.simpl.RAMJobStore");
+        return new StdSchedulerFactory(properties).getScheduler();
+    }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -12,16 +13,18 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.javajedis.legalconnect.common.dto.ApiResponse;
-import com.javajedis.legalconnect.common.service.EmailService;
 import com.javajedis.legalconnect.lawyer.Lawyer;
 import com.javajedis.legalconnect.lawyer.LawyerRepo;
 import com.javajedis.legalconnect.lawyer.LawyerSpecialization;
 import com.javajedis.legalconnect.lawyer.LawyerSpecializationRepo;
+import com.javajedis.legalconnect.lawyer.LawyerStatusChangedEvent;
 import com.javajedis.legalconnect.lawyer.dto.LawyerInfoDTO;
 import com.javajedis.legalconnect.lawyer.enums.VerificationStatus;
-import com.javajedis.legalconnect.notifications.NotificationService;
+import com.javajedis.legalconnect.notifications.NotificationDispatcher;
+import com.javajedis.legalconnect.notifications.NotificationEvent;
 import com.javajedis.legalconnect.user.ProfilePictureDTO;
 import com.javajedis.legalconnect.user.UserInfoResponseDTO;
 
@@ -34,8 +37,8 @@ import lombok.extern.slf4j.Slf4j;
 public class AdminService {
     private final LawyerRepo lawyerRepo;
     private final LawyerSpecializationRepo lawyerSpecializationRepo;
-    private final NotificationService notificationService;
-    private final EmailService emailService;
+    private final NotificationDispatcher notificationDispatcher;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get lawyers by verification status with pagination support.
@@ -80,6 +83,7 @@ public class AdminService {
     /**
      * Update lawyer verification status (approve/reject).
      */
+    @Transactional
     public ResponseEntity<ApiResponse<AdminLawyerDTO>> updateLawyerVerificationStatus(
             UUID lawyerId, VerificationStatus status) {
 
@@ -94,25 +98,17 @@ public class AdminService {
         Lawyer updatedLawyer = lawyerRepo.save(lawyer);
 
         UUID lawyerUserId = lawyer.getUser().getId();
-        String lawyerEmail = lawyer.getUser().getEmail();
+        eventPublisher.publishEvent(new LawyerStatusChangedEvent(lawyerUserId));
 
         String subject = "Lawyer Verification Status Updated";
         String content = String.format("Your lawyer verification status has been updated to %s by the admin.", status);
 
-
-        notificationService.sendNotification(lawyerUserId, content);
-        log.info("Web push notification sent to lawyer: {} for verification status update", lawyerEmail);
-
         Map<String, Object> templateVariables = new HashMap<>();
         templateVariables.put("notificationType", "Verification Status Update");
         templateVariables.put("content", content);
 
-        emailService.sendTemplateEmail(
-                lawyerEmail,
-                subject,
-                "notification-email",
-                templateVariables
-        );
+        notificationDispatcher.dispatch(NotificationEvent.of(null, lawyer.getUser(), subject, content, templateVariables));
+        log.info("Verification status notification dispatched to lawyer: {}", lawyer.getUser().getEmail());
 
         AdminLawyerDTO lawyerDTO = convertToAdminLawyerDTO(updatedLawyer);
 
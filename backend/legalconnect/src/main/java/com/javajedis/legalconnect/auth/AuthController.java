@@ -56,7 +56,7 @@ public class AuthController {
      */
     @Operation(summary = "Verify email with OTP", description = "Verifies the user's email address using the provided OTP code.")
     @PostMapping("/verify-email")
-    public ResponseEntity<ApiResponse<Boolean>> verifyEmail(@Valid @RequestBody EmailVerifyDTO verificationData) {
+    public ResponseEntity<ApiResponse<AuthResponseDTO>> verifyEmail(@Valid @RequestBody EmailVerifyDTO verificationData) {
         log.info("POST /auth/verify-email called for email: {}", verificationData.getEmail());
         return authService.verifyEmail(verificationData);
     }
@@ -9,12 +9,14 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.javajedis.legalconnect.auth.dto.AuthResponseDTO;
 import com.javajedis.legalconnect.auth.dto.EmailVerifyDTO;
 import com.javajedis.legalconnect.auth.dto.ResetPasswordDTO;
 import com.javajedis.legalconnect.auth.dto.UserRegisterDTO;
 import com.javajedis.legalconnect.common.dto.ApiResponse;
+import com.javajedis.legalconnect.common.security.TokenVersionService;
 import com.javajedis.legalconnect.common.service.EmailService;
 import com.javajedis.legalconnect.common.service.VerificationCodeService;
 import com.javajedis.legalconnect.common.utility.JWTUtil;
@@ -41,6 +43,7 @@ public class AuthService {
     private final EmailService emailService;
     private final VerificationCodeService verificationCodeService;
     private final NotificationPreferenceService notificationPreferenceService;
+    private final TokenVersionService tokenVersionService;
 
     /**
      * Registers a new user with the provided data and returns JWT token with user details.
@@ -67,17 +70,7 @@ public class AuthService {
 
         String token = jwtUtil.generateToken(savedUser);
 
-        AuthResponseDTO responseDTO = new AuthResponseDTO(
-                token,
-                savedUser.getId(),
-                savedUser.getFirstName(),
-                savedUser.getLastName(),
-                savedUser.getEmail(),
-                savedUser.getRole(),
-                savedUser.isEmailVerified(),
-                savedUser.getCreatedAt(),
-                savedUser.getUpdatedAt()
-        );
+        AuthResponseDTO responseDTO = AuthResponseDTO.of(token, savedUser);
 
         return ApiResponse.success(responseDTO, HttpStatus.CREATED, "User Registered Successfully");
     }
@@ -102,19 +95,9 @@ public class AuthService {
                 });
 
         // Generate JWT token with enhanced claims
-        String token = jwtUtil.generateToken(user);
+        String token = jwtUtil.generateToken(user, tokenVersionService.getCurrentVersionOrDefault(user.getId()));
 
-        AuthResponseDTO responseDTO = new AuthResponseDTO(
-                token,
-                user.getId(),
-                user.getFirstName(),
-                user.getLastName(),
-                user.getEmail(),
-                user.getRole(),
-                user.isEmailVerified(),
-                user.getCreatedAt(),
-                user.getUpdatedAt()
-        );
+        AuthResponseDTO responseDTO = AuthResponseDTO.of(token, user);
 
         log.info("User logged in successfully: {}", user.getEmail());
         return ApiResponse.success(responseDTO, HttpStatus.OK, "User login successful");
@@ -147,9 +130,11 @@ public class AuthService {
     }
 
     /**
-     * Verifies the user's email using the provided OTP code.
+     * Verifies the user's email using the provided OTP code. Tokens issued before the change are revoked,
+     * so the response carries a new token for the client to use instead.
      */
-    public ResponseEntity<ApiResponse<Boolean>> verifyEmail(EmailVerifyDTO verificationData) {
+    @Transactional
+    public ResponseEntity<ApiResponse<AuthResponseDTO>> verifyEmail(EmailVerifyDTO verificationData) {
         log.debug("Verifying email: {} with OTP", verificationData.getEmail());
         User user = userRepo.findByEmail(verificationData.getEmail())
                 .orElseThrow(() -> {
@@ -170,14 +155,16 @@ public class AuthService {
 
         user.setEmailVerified(true);
         userRepo.save(user);
+        String token = jwtUtil.generateToken(user, tokenVersionService.bumpVersion(user.getId()));
         verificationCodeService.removeVerificationCode(user.getId(), user.getEmail());
         log.info("Email verified successfully: {}", user.getEmail());
-        return ApiResponse.success(true, HttpStatus.OK, "Email verified successfully");
+        return ApiResponse.success(AuthResponseDTO.of(token, user), HttpStatus.OK, "Email verified successfully");
     }
 
     /**
      * Resets the user's password using OTP verification.
      */
+    @Transactional
     public ResponseEntity<ApiResponse<Boolean>> resetPassword(ResetPasswordDTO data) {
         log.debug("Resetting password for email: {}", data.getEmail());
         User user = userRepo.findByEmail(data.getEmail())
@@ -193,6 +180,7 @@ public class AuthService {
         }
         user.setPassword(passwordEncoder.encode(data.getPassword()));
         userRepo.save(user);
+        tokenVersionService.bumpVersion(user.getId());
         verificationCodeService.removeVerificationCode(user.getId(), user.getEmail());
         log.info("Password reset successful for email: {}", user.getEmail());
         return ApiResponse.success(true, HttpStatus.OK, "Password reset successful");
@@ -4,6 +4,7 @@ import java.time.OffsetDateTime;
 import java.util.UUID;
 
 import com.javajedis.legalconnect.user.Role;
+import com.javajedis.legalconnect.user.User;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -21,4 +22,20 @@ public class AuthResponseDTO {
     private OffsetDateTime createdAt;
     private OffsetDateTime updatedAt;
 
+    /**
+     * Builds the response for a user and a token just issued to them.
+     */
+    public static AuthResponseDTO of(String token, User user) {
+        return new AuthResponseDTO(
+                token,
+                user.getId(),
+                user.getFirstName(),
+                user.getLastName(),
+                user.getEmail(),
+                user.getRole(),
+                user.isEmailVerified(),
+                user.getCreatedAt(),
+                user.getUpdatedAt()
+        );
+    }
 }
\ No newline at end of file
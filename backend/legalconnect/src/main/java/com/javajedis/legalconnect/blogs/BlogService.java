@@ -22,6 +22,7 @@ import com.javajedis.legalconnect.blogs.dto.UserSubscriptionsListResponseDTO;
 import com.javajedis.legalconnect.blogs.dto.WriteBlogDTO;
 import com.javajedis.legalconnect.blogs.search.EsBlogService;
 import com.javajedis.legalconnect.common.dto.ApiResponse;
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
 import com.javajedis.legalconnect.common.utility.GetUserUtil;
 import com.javajedis.legalconnect.user.User;
 import com.javajedis.legalconnect.user.UserInfoResponseDTO;
@@ -168,8 +169,8 @@ public class BlogService {
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, UPDATED_AT_FIELD));
 
         Page<Blog> blogPage;
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
-        if (currentUser != null && currentUser.getId().equals(authorId)) {
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
+        if (currentUser != null && currentUser.id().equals(authorId)) {
             blogPage = blogRepo.findByAuthorId(authorId, pageable);
         } else {
             blogPage = blogRepo.findByAuthorIdAndStatus(authorId, BlogStatus.PUBLISHED, pageable);
@@ -226,30 +227,30 @@ public class BlogService {
     public ResponseEntity<ApiResponse<String>> unsubscribe(UUID authorId) {
         log.debug("Unsubscribing from author: {}", authorId);
 
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
         if (currentUser == null) {
             return ApiResponse.error(ERR_UNAUTHORIZED, HttpStatus.UNAUTHORIZED);
         }
 
-        Subscriber sub = subscriberRepo.findByAuthorIdAndSubscriberId(authorId, currentUser.getId()).orElse(null);
+        Subscriber sub = subscriberRepo.findByAuthorIdAndSubscriberId(authorId, currentUser.id()).orElse(null);
         if (sub == null) {
             return ApiResponse.error("Subscription not found", HttpStatus.NOT_FOUND);
         }
 
-        subscriberRepo.deleteByAuthorIdAndSubscriberId(authorId, currentUser.getId());
+        subscriberRepo.deleteByAuthorIdAndSubscriberId(authorId, currentUser.id());
         return ApiResponse.success("Unsubscribed successfully", HttpStatus.OK, "Unsubscribed successfully");
     }
 
     public ResponseEntity<ApiResponse<AuthorSubscribersListResponseDTO>> getSubscribers(int page, int size) {
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
         if (currentUser == null) {
             return ApiResponse.error(ERR_UNAUTHORIZED, HttpStatus.UNAUTHORIZED);
         }
         
-        log.debug("Getting subscribers for author: {} page={}, size={}", currentUser.getId(),page, size);
+        log.debug("Getting subscribers for author: {} page={}, size={}", currentUser.id(),page, size);
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, UPDATED_AT_FIELD));
-        Page<Subscriber> subsPage = subscriberRepo.findByAuthorId(currentUser.getId(), pageable);
+        Page<Subscriber> subsPage = subscriberRepo.findByAuthorId(currentUser.id(), pageable);
 
         List<UserInfoResponseDTO> subscribers = subsPage.getContent().stream().map(sub -> {
             User s = sub.getSubscriber();
@@ -278,14 +279,14 @@ public class BlogService {
     public ResponseEntity<ApiResponse<BlogListResponseDTO>> getSubscribedBlogs(int page, int size, String sortDirection) {
         log.debug("Getting subscribed blogs for current user page={}, size={}, sort={}", page, size, sortDirection);
 
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
         if (currentUser == null) {
             return ApiResponse.error(ERR_UNAUTHORIZED, HttpStatus.UNAUTHORIZED);
         }
 
         Pageable pageable = PageRequest.of(page, size, Sort.by("ASC".equalsIgnoreCase(sortDirection) ? Sort.Direction.ASC : Sort.Direction.DESC, UPDATED_AT_FIELD));
 
-        Page<Subscriber> subscriptions = subscriberRepo.findBySubscriberId(currentUser.getId(), pageable);
+        Page<Subscriber> subscriptions = subscriberRepo.findBySubscriberId(currentUser.id(), pageable);
         List<UUID> authorIds = subscriptions.getContent().stream().map(s -> s.getAuthor().getId()).toList();
 
         Page<Blog> blogPage;
@@ -311,15 +312,15 @@ public class BlogService {
     }
 
     public ResponseEntity<ApiResponse<UserSubscriptionsListResponseDTO>> getSubscribedAuthors(int page, int size) {
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
         if (currentUser == null) {
             return ApiResponse.error(ERR_UNAUTHORIZED, HttpStatus.UNAUTHORIZED);
         }
         
-        log.debug("Getting authors current user subscribed to: {} page={}, size={}", currentUser.getId(), page, size);
+        log.debug("Getting authors current user subscribed to: {} page={}, size={}", currentUser.id(), page, size);
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, UPDATED_AT_FIELD));
-        Page<Subscriber> subsPage = subscriberRepo.findBySubscriberId(currentUser.getId(), pageable);
+        Page<Subscriber> subsPage = subscriberRepo.findBySubscriberId(currentUser.id(), pageable);
 
         List<UserInfoResponseDTO> authors = subsPage.getContent().stream().map(sub -> {
             User a = sub.getAuthor();
@@ -347,7 +348,7 @@ public class BlogService {
 
     public ResponseEntity<ApiResponse<BlogSearchListResponseDTO>> searchPublished(String query, int page, int size) {
         log.debug("Searching published blogs with query='{}', page={}, size={}", query, page, size);
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
 
         var searchPage = esBlogService.searchPublishedBlogs(query, page, size);
 
@@ -359,8 +360,8 @@ public class BlogService {
                     r.blog().getAuthorEmail()
             );
             boolean subscribed = false;
-            if (currentUser != null && !currentUser.getId().equals(r.blog().getAuthorId())) {
-                subscribed = subscriberRepo.findByAuthorIdAndSubscriberId(r.blog().getAuthorId(), currentUser.getId()).isPresent();
+            if (currentUser != null && !currentUser.id().equals(r.blog().getAuthorId())) {
+                subscribed = subscriberRepo.findByAuthorIdAndSubscriberId(r.blog().getAuthorId(), currentUser.id()).isPresent();
             }
             BlogResponseDTO blogInfo = new BlogResponseDTO(
                     r.blog().getId(),
@@ -393,14 +394,14 @@ public class BlogService {
             return ApiResponse.error(ERR_BLOG_NOT_FOUND, HttpStatus.NOT_FOUND);
         }
 
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
         if (currentUser == null) {
             log.warn("Unauthenticated user attempted to {} blog", operation);
             return ApiResponse.error(ERR_UNAUTHORIZED, HttpStatus.UNAUTHORIZED);
         }
 
-        if (!blog.getAuthor().getId().equals(currentUser.getId())) {
-            log.warn("User {} not authorized to {} blog {}", currentUser.getEmail(), operation, blog.getId());
+        if (!blog.getAuthor().getId().equals(currentUser.id())) {
+            log.warn("User {} not authorized to {} blog {}", currentUser.email(), operation, blog.getId());
             String message = "You can only " + operation + " your own blogs";
             return ApiResponse.error(message, HttpStatus.FORBIDDEN);
         }
@@ -415,10 +416,10 @@ public class BlogService {
                 blog.getAuthor().getLastName(),
                 blog.getAuthor().getEmail()
         );
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
         boolean subscribed = false;
-        if (currentUser != null && !currentUser.getId().equals(blog.getAuthor().getId())) {
-            subscribed = subscriberRepo.findByAuthorIdAndSubscriberId(blog.getAuthor().getId(), currentUser.getId()).isPresent();
+        if (currentUser != null && !currentUser.id().equals(blog.getAuthor().getId())) {
+            subscribed = subscriberRepo.findByAuthorIdAndSubscriberId(blog.getAuthor().getId(), currentUser.id()).isPresent();
         }
         return new BlogResponseDTO(
                 blog.getId(),
@@ -16,6 +16,8 @@ import org.springframework.stereotype.Service;
 
 import com.javajedis.legalconnect.blogs.Blog;
 import com.javajedis.legalconnect.blogs.BlogStatus;
+import com.javajedis.legalconnect.common.resilience.ExternalCallGuard;
+import com.javajedis.legalconnect.common.resilience.ExternalCallGuards;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,10 +29,19 @@ public class EsBlogService {
 
     private final EsBlogRepo esBlogRepo;
     private final ElasticsearchOperations elasticOps;
+    private final ExternalCallGuards externalCallGuards;
+
+    /**
+     * Returns the guard of Elasticsearch calls; failed calls are logged and answered with empty results.
+     */
+    private ExternalCallGuard esGuard() {
+        return externalCallGuards.guard(ExternalCallGuards.ELASTICSEARCH);
+    }
 
     public void index(Blog blog) {
         try {
-            esBlogRepo.save(mapToEsBlog(blog));
+            EsBlog doc = mapToEsBlog(blog);
+            esGuard().call(() -> esBlogRepo.save(doc));
         } catch (Exception e) {
             log.error("Failed to index blog {} in Elasticsearch", blog.getId(), e);
         }
@@ -42,7 +53,10 @@ public class EsBlogService {
 
     public void delete(UUID blogId) {
         try {
-            esBlogRepo.deleteById(blogId);
+            esGuard().call(() -> {
+                esBlogRepo.deleteById(blogId);
+                return null;
+            });
         } catch (Exception e) {
             log.error("Failed to delete blog {} from Elasticsearch", blogId, e);
         }
@@ -50,7 +64,7 @@ public class EsBlogService {
 
     public Optional<EsBlog> getById(UUID blogId) {
         try {
-            return esBlogRepo.findById(blogId);
+            return esGuard().call(() -> esBlogRepo.findById(blogId), unavailable -> Optional.empty());
         } catch (Exception e) {
             log.error("Failed to fetch blog {} from Elasticsearch", blogId, e);
             return Optional.empty();
@@ -73,7 +87,11 @@ public class EsBlogService {
                     .withPageable(pageable)
                     .build();
 
-            SearchHits<EsBlog> hits = elasticOps.search(nativeQuery, EsBlog.class);
+            SearchHits<EsBlog> hits = esGuard().call(() -> elasticOps.search(nativeQuery, EsBlog.class), unavailable -> null);
+            if (hits == null) {
+                log.warn("Elasticsearch unavailable, returning no blog search results");
+                return new SearchPage(List.of(), 0L);
+            }
             List<SearchResult> results = new ArrayList<>();
             for (SearchHit<EsBlog> hit : hits) {
                 EsBlog doc = hit.getContent();
@@ -3,11 +3,11 @@ package com.javajedis.legalconnect.caseassets;
 import com.javajedis.legalconnect.caseassets.dtos.*;
 import com.javajedis.legalconnect.casemanagement.CaseRepo;
 import com.javajedis.legalconnect.common.dto.ApiResponse;
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
 import com.javajedis.legalconnect.common.service.AwsService;
-import com.javajedis.legalconnect.common.service.EmailService;
 import com.javajedis.legalconnect.common.utility.GetUserUtil;
-import com.javajedis.legalconnect.notifications.NotificationPreferenceService;
-import com.javajedis.legalconnect.notifications.NotificationService;
+import com.javajedis.legalconnect.notifications.NotificationDispatcher;
+import com.javajedis.legalconnect.notifications.NotificationEvent;
 import com.javajedis.legalconnect.notifications.NotificationType;
 import com.javajedis.legalconnect.user.User;
 import com.javajedis.legalconnect.user.UserRepo;
@@ -22,6 +22,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -58,15 +59,14 @@ public class CaseAssetService {
     private final CaseRepo caseRepo;
     private final DocumentRepo documentRepo;
     private final AwsService awsService;
-    private final NotificationService notificationService;
-    private final NotificationPreferenceService notificationPreferenceService;
-    private final EmailService emailService;
+    private final NotificationDispatcher notificationDispatcher;
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
     
     /**
      * Create note for a user in a case
      */
+    @Transactional
     public ResponseEntity<ApiResponse<NoteResponseDTO>> createNote(CreateNoteDTO noteData) {
         log.debug("Creating note for case ID: {}", noteData.getCaseId());
 
@@ -104,24 +104,12 @@ public class CaseAssetService {
                 currentUser.getFirstName(),
                 currentUser.getLastName());
 
-        UUID recipientId = recipient.getId();
+        Map<String, Object> templateVariables = new HashMap<>();
+        templateVariables.put("notificationType", "Case Note Added");
+        templateVariables.put("content", content);
 
-        if (notificationPreferenceService.checkWebPushEnabled(recipientId, NotificationType.NOTE_CREATE)) {
-            notificationService.sendNotification(recipientId, content);
-        }
-
-        if (notificationPreferenceService.checkEmailEnabled(recipientId, NotificationType.NOTE_CREATE)) {
-            Map<String, Object> templateVariables = new HashMap<>();
-            templateVariables.put("notificationType", "Case Note Added");
-            templateVariables.put("content", content);
-
-            emailService.sendTemplateEmail(
-                    recipient.getEmail(),
-                    subject,
-                    "notification-email",
-                    templateVariables
-            );
-        }
+        notificationDispatcher.dispatch(NotificationEvent.of(NotificationType.NOTE_CREATE, recipient, subject, content,
+                templateVariables).withSource("note", savedNote.getId(), "created"));
 
         NoteResponseDTO noteResponse = mapNoteToNoteResponseDTO(savedNote);
         return ApiResponse.success(noteResponse, HttpStatus.CREATED, "Note created successfully");
@@ -397,24 +385,12 @@ public class CaseAssetService {
                 currentUser.getFirstName(),
                 currentUser.getLastName());
 
-        UUID recipientId = recipient.getId();
+        Map<String, Object> templateVariables = new HashMap<>();
+        templateVariables.put("notificationType", "Case Document Uploaded");
+        templateVariables.put("content", content);
 
-        if (notificationPreferenceService.checkWebPushEnabled(recipientId, NotificationType.DOC_UPLOAD)) {
-            notificationService.sendNotification(recipientId, content);
-        }
-
-        if (notificationPreferenceService.checkEmailEnabled(recipientId, NotificationType.DOC_UPLOAD)) {
-            Map<String, Object> templateVariables = new HashMap<>();
-            templateVariables.put("notificationType", "Case Document Uploaded");
-            templateVariables.put("content", content);
-
-            emailService.sendTemplateEmail(
-                    recipient.getEmail(),
-                    subject,
-                    "notification-email",
-                    templateVariables
-            );
-        }
+        notificationDispatcher.dispatch(NotificationEvent.of(NotificationType.DOC_UPLOAD, recipient, subject, content,
+                templateVariables).withSource("document", savedDocument.getId(), "created"));
         return ApiResponse.success(mapDocumentToDocumentResponseDTO(savedDocument), HttpStatus.CREATED, "Document uploaded successfully");
     }
 
@@ -626,14 +602,14 @@ public class CaseAssetService {
 
     public ResponseEntity<ApiResponse<DocumentListResponseDTO>> getMyDocuments(int page, int size, String sortDirection) {
 		log.debug("Getting documents for current user with page={}, size={}, sort={}", page, size, sortDirection);
-		User user = GetUserUtil.getAuthenticatedUser(userRepo);
+		AuthenticatedUser user = GetUserUtil.getAuthenticatedPrincipal(userRepo);
 		if (user == null) {
 			return ApiResponse.error("User is not authenticated", HttpStatus.UNAUTHORIZED);
 		}
 		Sort.Direction direction = "ASC".equalsIgnoreCase(sortDirection) ? Sort.Direction.ASC : Sort.Direction.DESC;
 		Sort sort = Sort.by(direction, CREATED_AT_FIELD);
 		Pageable pageable = PageRequest.of(page, size, sort);
-		Page<Document> documentPage = documentRepo.findByUploadedById(user.getId(), pageable);
+		Page<Document> documentPage = documentRepo.findByUploadedById(user.id(), pageable);
 		List<DocumentResponseDTO> documents = documentPage.getContent().stream()
 				.map(this::mapDocumentToDocumentResponseDTO)
 				.toList();
@@ -642,22 +618,22 @@ public class CaseAssetService {
 			documentPage,
 			sortDirection,
 			CREATED_AT_FIELD,
-			Map.of("uploadedBy", user.getId().toString())
+			Map.of("uploadedBy", user.id().toString())
 		);
-		log.info("Retrieved {} documents for user: {} (page {}/{})", documents.size(), user.getEmail(), page + 1, documentPage.getTotalPages());
+		log.info("Retrieved {} documents for user: {} (page {}/{})", documents.size(), user.email(), page + 1, documentPage.getTotalPages());
 		return ApiResponse.success(response, HttpStatus.OK, DOCUMENTS_RETRIEVED_SUCCESS, metadata);
 	}
 
 	public ResponseEntity<ApiResponse<DocumentListResponseDTO>> getVisibleDocumentsForCurrentUser(int page, int size, String sortDirection) {
 		log.debug("Getting visible documents across all cases for current user with page={}, size={}, sort={}", page, size, sortDirection);
-		User user = GetUserUtil.getAuthenticatedUser(userRepo);
+		AuthenticatedUser user = GetUserUtil.getAuthenticatedPrincipal(userRepo);
 		if (user == null) {
 			return ApiResponse.error("User is not authenticated", HttpStatus.UNAUTHORIZED);
 		}
 		Sort.Direction direction = "ASC".equalsIgnoreCase(sortDirection) ? Sort.Direction.ASC : Sort.Direction.DESC;
 		Sort sort = Sort.by(direction, CREATED_AT_FIELD);
 		Pageable pageable = PageRequest.of(page, size, sort);
-		Page<Document> documentPage = documentRepo.findVisibleDocumentsForUser(user.getId(), AssetPrivacy.SHARED, pageable);
+		Page<Document> documentPage = documentRepo.findVisibleDocumentsForUser(user.id(), AssetPrivacy.SHARED, pageable);
 		List<DocumentResponseDTO> documents = documentPage.getContent().stream()
 				.map(this::mapDocumentToDocumentResponseDTO)
 				.toList();
@@ -666,9 +642,9 @@ public class CaseAssetService {
 			documentPage,
 			sortDirection,
 			CREATED_AT_FIELD,
-			Map.of("visibleToUser", user.getId().toString())
+			Map.of("visibleToUser", user.id().toString())
 		);
-		log.info("Retrieved {} visible documents for user: {} (page {}/{})", documents.size(), user.getEmail(), page + 1, documentPage.getTotalPages());
+		log.info("Retrieved {} visible documents for user: {} (page {}/{})", documents.size(), user.email(), page + 1, documentPage.getTotalPages());
 		return ApiResponse.success(response, HttpStatus.OK, DOCUMENTS_RETRIEVED_SUCCESS, metadata);
 	}
 
@@ -3,13 +3,13 @@ package com.javajedis.legalconnect.casemanagement;
 import com.javajedis.legalconnect.casemanagement.dto.*;
 import com.javajedis.legalconnect.common.dto.ApiResponse;
 import com.javajedis.legalconnect.common.exception.UserNotFoundException;
-import com.javajedis.legalconnect.common.service.EmailService;
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
 import com.javajedis.legalconnect.common.utility.GetUserUtil;
 import com.javajedis.legalconnect.lawyer.Lawyer;
 import com.javajedis.legalconnect.lawyer.LawyerRepo;
 import com.javajedis.legalconnect.lawyer.LawyerUtil;
-import com.javajedis.legalconnect.notifications.NotificationPreferenceService;
-import com.javajedis.legalconnect.notifications.NotificationService;
+import com.javajedis.legalconnect.notifications.NotificationDispatcher;
+import com.javajedis.legalconnect.notifications.NotificationEvent;
 import com.javajedis.legalconnect.notifications.NotificationType;
 import com.javajedis.legalconnect.user.User;
 import com.javajedis.legalconnect.user.UserRepo;
@@ -22,6 +22,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
 import java.util.List;
@@ -42,13 +43,12 @@ public class CaseManagementService {
     private final CaseRepo caseRepo;
     private final UserRepo userRepo;
     private final LawyerRepo lawyerRepo;
-    private final NotificationService notificationService;
-    private final NotificationPreferenceService notificationPreferenceService;
-    private final EmailService emailService;
+    private final NotificationDispatcher notificationDispatcher;
 
     /**
      * Create a case for the authenticated lawyer.
      */
+    @Transactional
     public ResponseEntity<ApiResponse<CaseResponseDTO>> createCase(CreateCaseDTO caseData) {
         log.debug("Creating case");
         User user = LawyerUtil.getAuthenticatedLawyerUser(userRepo);
@@ -90,24 +90,12 @@ public class CaseManagementService {
                 lawyer.getUser().getFirstName(),
                 lawyer.getUser().getLastName());
 
-        UUID clientId = client.getId();
+        Map<String, Object> templateVariables = new HashMap<>();
+        templateVariables.put("notificationType", "Case Creation");
+        templateVariables.put("content", content);
 
-        if (notificationPreferenceService.checkWebPushEnabled(clientId, NotificationType.CASE_CREATE)) {
-            notificationService.sendNotification(clientId, content);
-        }
-
-        if (notificationPreferenceService.checkEmailEnabled(clientId, NotificationType.CASE_CREATE)) {
-            Map<String, Object> templateVariables = new HashMap<>();
-            templateVariables.put("notificationType", "Case Creation");
-            templateVariables.put("content", content);
-
-            emailService.sendTemplateEmail(
-                    client.getEmail(),
-                    subject,
-                    "notification-email",
-                    templateVariables
-            );
-        }
+        notificationDispatcher.dispatch(NotificationEvent.of(NotificationType.CASE_CREATE, client, subject, content,
+                templateVariables).withSource("case", savedCase.getId(), "created"));
 
         CaseResponseDTO caseResponse = mapCaseToCaseResponseDTO(savedCase);
         return ApiResponse.success(caseResponse, HttpStatus.CREATED, "Case created successfully");
@@ -142,6 +130,7 @@ public class CaseManagementService {
     /**
      * Updates case status for the authenticated lawyer.
      */
+    @Transactional
     public ResponseEntity<ApiResponse<CaseResponseDTO>> updateCaseStatus(UUID caseId, UpdateCaseStatusDTO statusData) {
         log.debug("Updating case status with ID: {}", caseId);
 
@@ -168,24 +157,12 @@ public class CaseManagementService {
                 lawyer.getUser().getFirstName(),
                 lawyer.getUser().getLastName());
 
-        UUID clientId = client.getId();
+        Map<String, Object> templateVariables = new HashMap<>();
+        templateVariables.put("notificationType", "Case Status Update");
+        templateVariables.put("content", content);
 
-        if (notificationPreferenceService.checkWebPushEnabled(clientId, NotificationType.CASE_CREATE)) {
-            notificationService.sendNotification(clientId, content);
-        }
-
-        if (notificationPreferenceService.checkEmailEnabled(clientId, NotificationType.CASE_CREATE)) {
-            Map<String, Object> templateVariables = new HashMap<>();
-            templateVariables.put("notificationType", "Case Status Update");
-            templateVariables.put("content", content);
-
-            emailService.sendTemplateEmail(
-                    client.getEmail(),
-                    subject,
-                    "notification-email",
-                    templateVariables
-            );
-        }
+        notificationDispatcher.dispatch(NotificationEvent.of(NotificationType.CASE_CREATE, client, subject, content,
+                templateVariables));
 
         CaseResponseDTO caseResponse = mapCaseToCaseResponseDTO(updatedCase);
         return ApiResponse.success(caseResponse, HttpStatus.OK, "Case status updated successfully");
@@ -199,7 +176,7 @@ public class CaseManagementService {
      */
     public ResponseEntity<ApiResponse<CaseResponseDTO>> getCaseById(UUID caseId) {
         log.debug("Getting case with ID: {}", caseId);
-        User user = GetUserUtil.getAuthenticatedUser(userRepo);
+        AuthenticatedUser user = GetUserUtil.getAuthenticatedPrincipal(userRepo);
 
         if (user == null) {
             log.warn("Unauthorized case access attempt");
@@ -212,16 +189,16 @@ public class CaseManagementService {
             return ApiResponse.error(CASE_NOT_FOUND_MSG, HttpStatus.NOT_FOUND);
         }
 
-        boolean hasAccess = caseEntity.getClient().getId().equals(user.getId())
-                || caseEntity.getLawyer().getUser().getId().equals(user.getId());
+        boolean hasAccess = caseEntity.getClient().getId().equals(user.id())
+                || caseEntity.getLawyer().getUser().getId().equals(user.id());
 
         if (!hasAccess) {
-            log.warn("User {} attempted to access case {} without permission", user.getEmail(), caseId);
+            log.warn("User {} attempted to access case {} without permission", user.email(), caseId);
             return ApiResponse.error("You don't have permission to view this case", HttpStatus.FORBIDDEN);
         }
 
         CaseResponseDTO caseResponse = mapCaseToCaseResponseDTO(caseEntity);
-        log.info("Case {} retrieved by user: {}", caseId, user.getEmail());
+        log.info("Case {} retrieved by user: {}", caseId, user.email());
         return ApiResponse.success(caseResponse, HttpStatus.OK, "Case retrieved successfully");
     }
 
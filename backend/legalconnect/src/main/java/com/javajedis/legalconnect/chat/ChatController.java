@@ -2,9 +2,9 @@ package com.javajedis.legalconnect.chat;
 
 import com.javajedis.legalconnect.chat.dto.*;
 import com.javajedis.legalconnect.common.dto.ApiResponse;
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
 import com.javajedis.legalconnect.common.security.RequireUserOrVerifiedLawyer;
 import com.javajedis.legalconnect.common.utility.GetUserUtil;
-import com.javajedis.legalconnect.user.User;
 import com.javajedis.legalconnect.user.UserRepo;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -16,7 +16,6 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.UUID;
 
-
 @Slf4j
 @Tag(name = "A. Chat", description = "Chat and messaging endpoints")
 @RestController
@@ -37,32 +36,34 @@ public class ChatController {
     @RequireUserOrVerifiedLawyer
     @PostMapping("/send")
     public ResponseEntity<ApiResponse<MessageResponseDTO>> sendMessage(@Valid @RequestBody SendMessageDTO messageData) {
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
         if (currentUser == null) {
             log.warn("POST /chat/send called but no authenticated user found");
             throw new SecurityException(AUTHENTICATION_REQUIRED_MSG);
         }
 
-        log.info("POST /chat/send called for user: {} to receiver: {}", currentUser.getId(), messageData.getReceiverId());
-        return chatService.sendMessage(currentUser.getId(), messageData);
+        log.info("POST /chat/send called for user: {} to receiver: {}", currentUser.id(), messageData.getReceiverId());
+        return chatService.sendMessage(currentUser.id(), messageData);
     }
 
     /**
-     * Get all conversations for the authenticated user.
+     * Get conversations for the authenticated user with pagination support.
      * Returns conversations ordered by most recent activity with unread counts and latest messages.
      */
-    @Operation(summary = "Get user conversations", description = "Retrieves all conversations for the authenticated user ordered by most recent activity with unread counts and latest messages.")
+    @Operation(summary = "Get user conversations", description = "Retrieves conversations for the authenticated user with pagination support, ordered by most recent activity with unread counts and latest messages.")
     @RequireUserOrVerifiedLawyer
     @GetMapping("/conversations")
-    public ResponseEntity<ApiResponse<ConversationListResponseDTO>> getUserConversations() {
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
+    public ResponseEntity<ApiResponse<ConversationListResponseDTO>> getUserConversations(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
         if (currentUser == null) {
             log.warn("GET /chat/conversations called but no authenticated user found");
             throw new SecurityException(AUTHENTICATION_REQUIRED_MSG);
         }
 
-        log.info("GET /chat/conversations called for user: {}", currentUser.getId());
-        return chatService.getUserConversations(currentUser.getId());
+        log.info("GET /chat/conversations called for user: {} with page={}, size={}", currentUser.id(), page, size);
+        return chatService.getUserConversations(currentUser.id(), page, size);
     }
 
     /**
@@ -77,15 +78,38 @@ public class ChatController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
 
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
         if (currentUser == null) {
             log.warn("GET /chat/conversations/{}/messages called but no authenticated user found", id);
             throw new SecurityException(AUTHENTICATION_REQUIRED_MSG);
         }
 
         log.info("GET /chat/conversations/{}/messages called for user: {} with page={}, size={}",
-                id, currentUser.getId(), page, size);
-        return chatService.getConversationMessages(id, currentUser.getId(), page, size);
+                id, currentUser.id(), page, size);
+        return chatService.getConversationMessages(id, currentUser.id(), page, size);
+    }
+
+    /**
+     * Get messages for a specific conversation older than a cursor.
+     * Only participants of the conversation can access its messages.
+     */
+    @Operation(summary = "Get conversation message history", description = "Retrieves messages older than the given cursor, newest first. The cursor is <createdAt>,<id> of the oldest message already loaded; omit it for the newest messages. Returns the cursor for the next page instead of total counts.")
+    @RequireUserOrVerifiedLawyer
+    @GetMapping("/conversations/{id}/messages/history")
+    public ResponseEntity<ApiResponse<MessageHistoryResponseDTO>> getConversationMessageHistory(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = "20") int size) {
+
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
+        if (currentUser == null) {
+            log.warn("GET /chat/conversations/{}/messages/history called but no authenticated user found", id);
+            throw new SecurityException(AUTHENTICATION_REQUIRED_MSG);
+        }
+
+        log.info("GET /chat/conversations/{}/messages/history called for user: {} with before={}, size={}",
+                id, currentUser.id(), before, size);
+        return chatService.getConversationMessageHistory(id, currentUser.id(), before, size);
     }
 
     /**
@@ -96,14 +120,14 @@ public class ChatController {
     @RequireUserOrVerifiedLawyer
     @PutMapping("/conversations/{id}/read")
     public ResponseEntity<ApiResponse<Void>> markConversationAsRead(@PathVariable UUID id) {
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
         if (currentUser == null) {
             log.warn("PUT /chat/conversations/{}/read called but no authenticated user found", id);
             throw new SecurityException(AUTHENTICATION_REQUIRED_MSG);
         }
 
-        log.info("PUT /chat/conversations/{}/read called for user: {}", id, currentUser.getId());
-        return chatService.markConversationAsRead(id, currentUser.getId());
+        log.info("PUT /chat/conversations/{}/read called for user: {}", id, currentUser.id());
+        return chatService.markConversationAsRead(id, currentUser.id());
     }
 
     /**
@@ -113,13 +137,13 @@ public class ChatController {
     @RequireUserOrVerifiedLawyer
     @GetMapping("/unread-count")
     public ResponseEntity<ApiResponse<UnreadCountResponseDTO>> getTotalUnreadCount() {
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
         if (currentUser == null) {
             log.warn("GET /chat/unread-count called but no authenticated user found");
             throw new SecurityException(AUTHENTICATION_REQUIRED_MSG);
         }
 
-        log.info("GET /chat/unread-count called for user: {}", currentUser.getId());
-        return chatService.getTotalUnreadCount(currentUser.getId());
+        log.info("GET /chat/unread-count called for user: {}", currentUser.id());
+        return chatService.getTotalUnreadCount(currentUser.id());
     }
 }
\ No newline at end of file
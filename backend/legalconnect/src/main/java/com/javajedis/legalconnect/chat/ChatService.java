@@ -1,8 +1,12 @@
 package com.javajedis.legalconnect.chat;
 
+import java.sql.Timestamp;
+import java.time.Instant;
 import java.time.OffsetDateTime;
-import java.util.ArrayList;
+import java.time.ZoneOffset;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,19 +15,21 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.javajedis.legalconnect.chat.dto.ConversationListResponseDTO;
 import com.javajedis.legalconnect.chat.dto.ConversationResponseDTO;
+import com.javajedis.legalconnect.chat.dto.MessageHistoryResponseDTO;
 import com.javajedis.legalconnect.chat.dto.MessageListResponseDTO;
 import com.javajedis.legalconnect.chat.dto.MessageResponseDTO;
 import com.javajedis.legalconnect.chat.dto.SendMessageDTO;
 import com.javajedis.legalconnect.chat.dto.UnreadCountResponseDTO;
 import com.javajedis.legalconnect.common.dto.ApiResponse;
+import com.javajedis.legalconnect.common.service.UnreadCounterService;
 import com.javajedis.legalconnect.common.service.WebSocketService;
 import com.javajedis.legalconnect.user.ProfilePictureDTO;
-import com.javajedis.legalconnect.user.User;
 import com.javajedis.legalconnect.user.UserRepo;
 
 import lombok.RequiredArgsConstructor;
@@ -39,12 +45,17 @@ public class ChatService {
     private static final String USER_NOT_FOUND_MSG = "User not found";
     private static final String USER_NOT_PARTICIPANT_LOG_MSG = "User {} is not a participant in conversation {}";
     private static final String ACCESS_DENIED_NOT_PARTICIPANT_MSG = "Access denied: You are not a participant in this conversation";
+    private static final String INVALID_PAGE_MSG = "Page number cannot be negative";
+    private static final String INVALID_PAGE_SIZE_MSG = "Page size must be between 1 and 100";
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String UNREAD_COUNTER_SCOPE = "chat";
 
     private final MessageRepo messageRepo;
     private final ConversationRepo conversationRepo;
     private final UserRepo userRepo;
     private final WebSocketService webSocketService;
     private final ChatWebSocketController chatWebSocketController;
+    private final UnreadCounterService unreadCounterService;
 
     /**
      * Sends a message and triggers real-time delivery via WebSocket.
@@ -80,6 +91,7 @@ public class ChatService {
         Message savedMessage = messageRepo.save(message);
         conversation.setUpdatedAt(OffsetDateTime.now());
         conversationRepo.save(conversation);
+        unreadCounterService.increment(UNREAD_COUNTER_SCOPE, messageData.getReceiverId(), conversation.getId().toString(), 1);
 
         MessageResponseDTO responseDTO = convertToMessageResponseDTO(savedMessage);
 
@@ -99,31 +111,47 @@ public class ChatService {
     }
 
     /**
-     * Retrieves all conversations for a user with unread counts and latest messages.
+     * Retrieves a page of conversations for a user with unread counts and latest messages.
      */
     @Transactional(readOnly = true)
-    public ResponseEntity<ApiResponse<ConversationListResponseDTO>> getUserConversations(UUID userId) {
-        log.debug("Retrieving conversations for user {}", userId);
+    public ResponseEntity<ApiResponse<ConversationListResponseDTO>> getUserConversations(UUID userId, int page, int size) {
+        log.debug("Retrieving conversations for user {}, page {}, size {}", userId, page, size);
+
+        if (page < 0) {
+            log.warn("Invalid page number: {}", page);
+            return ApiResponse.error(INVALID_PAGE_MSG, HttpStatus.BAD_REQUEST);
+        }
+
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            log.warn("Invalid page size: {}", size);
+            return ApiResponse.error(INVALID_PAGE_SIZE_MSG, HttpStatus.BAD_REQUEST);
+        }
 
         if (!userRepo.existsById(userId)) {
             log.warn(USER_NOT_FOUND_LOG_MSG, userId);
             return ApiResponse.error(USER_NOT_FOUND_MSG, HttpStatus.NOT_FOUND);
         }
 
-        List<Conversation> conversations = conversationRepo.findByParticipantOrderByUpdatedAtDesc(userId);
-        List<ConversationResponseDTO> conversationDTOs = new ArrayList<>();
-
-        for (Conversation conversation : conversations) {
-            ConversationResponseDTO dto = convertToConversationResponseDTO(conversation, userId);
-            if (dto != null) {
-                conversationDTOs.add(dto);
-            }
-        }
+        Page<Object[]> inboxPage = conversationRepo.findInboxRawResultsByParticipant(userId, PageRequest.of(page, size));
+        List<ConversationResponseDTO> conversationDTOs = inboxPage.getContent().stream()
+                .map(this::mapRowToConversationResponseDTO)
+                .toList();
 
         ConversationListResponseDTO response = new ConversationListResponseDTO(conversationDTOs);
 
-        log.info("Retrieved {} conversations for user {}", conversationDTOs.size(), userId);
-        return ApiResponse.success(response, HttpStatus.OK, "Conversations retrieved successfully");
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("totalCount", inboxPage.getTotalElements());
+        metadata.put("pageNumber", inboxPage.getNumber());
+        metadata.put("pageSize", inboxPage.getSize());
+        metadata.put("totalPages", inboxPage.getTotalPages());
+        metadata.put("hasNext", inboxPage.hasNext());
+        metadata.put("hasPrevious", inboxPage.hasPrevious());
+        metadata.put("isFirst", inboxPage.isFirst());
+        metadata.put("isLast", inboxPage.isLast());
+
+        log.info("Retrieved {} conversations for user {} (page {}/{})",
+                conversationDTOs.size(), userId, page + 1, inboxPage.getTotalPages());
+        return ApiResponse.success(response, HttpStatus.OK, "Conversations retrieved successfully", metadata);
     }
 
     /**
@@ -138,27 +166,17 @@ public class ChatService {
         // Validate pagination parameters
         if (page < 0) {
             log.warn("Invalid page number: {}", page);
-            return ApiResponse.error("Page number cannot be negative", HttpStatus.BAD_REQUEST);
+            return ApiResponse.error(INVALID_PAGE_MSG, HttpStatus.BAD_REQUEST);
         }
 
-        if (size < 1 || size > 100) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
             log.warn("Invalid page size: {}", size);
-            return ApiResponse.error("Page size must be between 1 and 100", HttpStatus.BAD_REQUEST);
+            return ApiResponse.error(INVALID_PAGE_SIZE_MSG, HttpStatus.BAD_REQUEST);
         }
 
-        if (!userRepo.existsById(userId)) {
-            log.warn(USER_NOT_FOUND_LOG_MSG, userId);
-            return ApiResponse.error(USER_NOT_FOUND_MSG, HttpStatus.BAD_REQUEST);
-        }
-
-        if (!conversationRepo.existsById(conversationId)) {
-            log.warn("Conversation not found: {}", conversationId);
-            return ApiResponse.error("Conversation not found", HttpStatus.NOT_FOUND);
-        }
-
-        if (!conversationRepo.isUserParticipant(conversationId, userId)) {
-            log.warn(USER_NOT_PARTICIPANT_LOG_MSG, userId, conversationId);
-            return ApiResponse.error(ACCESS_DENIED_NOT_PARTICIPANT_MSG, HttpStatus.BAD_REQUEST);
+        ResponseEntity<ApiResponse<MessageListResponseDTO>> accessError = checkConversationAccess(conversationId, userId);
+        if (accessError != null) {
+            return accessError;
         }
 
         Pageable pageable = PageRequest.of(page, size);
@@ -176,6 +194,58 @@ public class ChatService {
         return ApiResponse.success(response, HttpStatus.OK, "Messages retrieved successfully");
     }
 
+    /**
+     * Retrieves messages of a conversation older than a cursor, newest first. Each page is a seek on the
+     * conversation's (created_at, id) index, so scrolling far back costs the same as the first page and no total
+     * count is computed. Pass the returned next cursor as {@code before} to get the following page.
+     */
+    @Transactional(readOnly = true)
+    public ResponseEntity<ApiResponse<MessageHistoryResponseDTO>> getConversationMessageHistory(
+            UUID conversationId, UUID userId, String before, int size) {
+        log.debug("Retrieving message history for conversation {} by user {}, before {}, size {}",
+                conversationId, userId, before, size);
+
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            log.warn("Invalid page size: {}", size);
+            return ApiResponse.error(INVALID_PAGE_SIZE_MSG, HttpStatus.BAD_REQUEST);
+        }
+
+        MessageCursor cursor = null;
+        if (before != null && !before.isBlank()) {
+            try {
+                cursor = MessageCursor.parse(before);
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid message cursor {}: {}", before, e.getMessage());
+                return ApiResponse.error("Invalid cursor", e.getMessage(), HttpStatus.BAD_REQUEST);
+            }
+        }
+
+        ResponseEntity<ApiResponse<MessageHistoryResponseDTO>> accessError = checkConversationAccess(conversationId, userId);
+        if (accessError != null) {
+            return accessError;
+        }
+
+        // Fetch one extra row to learn whether older messages exist without counting them
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Message> messages = cursor == null
+                ? messageRepo.findByConversationIdOrderByCreatedAtDescIdDesc(conversationId, limit)
+                : messageRepo.findByConversationIdBefore(conversationId, cursor.createdAt(), cursor.id(), limit);
+
+        boolean hasMore = messages.size() > size;
+        List<Message> pageMessages = hasMore ? messages.subList(0, size) : messages;
+        String nextCursor = hasMore ? MessageCursor.of(pageMessages.get(size - 1)).encode() : null;
+
+        List<MessageResponseDTO> messageDTOs = pageMessages.stream()
+                .map(this::convertToMessageResponseDTO)
+                .toList();
+
+        log.info("Retrieved {} messages for conversation {} (before {}, size {})",
+                messageDTOs.size(), conversationId, before, size);
+
+        return ApiResponse.success(new MessageHistoryResponseDTO(messageDTOs, nextCursor, hasMore),
+                HttpStatus.OK, "Messages retrieved successfully");
+    }
+
     /**
      * Marks all messages in a conversation as read for the specified user.
      * Only messages sent by other participants will be marked as read.
@@ -202,8 +272,9 @@ public class ChatService {
         int updatedCount = messageRepo.markMessagesAsReadByConversationAndReceiver(conversationId, userId);
 
         if (updatedCount > 0) {
+            unreadCounterService.reset(UNREAD_COUNTER_SCOPE, userId, conversationId.toString());
             try {
-                long totalUnreadCount = messageRepo.countTotalUnreadByUser(userId);
+                long totalUnreadCount = countTotalUnread(userId);
                 UnreadCountResponseDTO unreadCountUpdate = new UnreadCountResponseDTO(totalUnreadCount);
                 chatWebSocketController.sendUnreadCountUpdate(userId, unreadCountUpdate);
                 log.debug("Sent unread count update to user {} after marking conversation as read", userId);
@@ -252,6 +323,7 @@ public class ChatService {
         if (!message.isRead()) {
             message.setRead(true);
             messageRepo.save(message);
+            unreadCounterService.increment(UNREAD_COUNTER_SCOPE, userId, message.getConversationId().toString(), -1);
             try {
                 chatWebSocketController.sendReadStatusUpdate(message.getSenderId(), messageId, true);
                 log.debug("Sent read status update to sender {} for message {}", message.getSenderId(), messageId);
@@ -260,7 +332,7 @@ public class ChatService {
             }
 
             try {
-                long totalUnreadCount = messageRepo.countTotalUnreadByUser(userId);
+                long totalUnreadCount = countTotalUnread(userId);
                 UnreadCountResponseDTO unreadCountUpdate = new UnreadCountResponseDTO(totalUnreadCount);
                 chatWebSocketController.sendUnreadCountUpdate(userId, unreadCountUpdate);
                 log.debug("Sent unread count update to user {} after marking message as read", userId);
@@ -287,7 +359,7 @@ public class ChatService {
             return ApiResponse.error(USER_NOT_FOUND_MSG, HttpStatus.BAD_REQUEST);
         }
 
-        long totalUnreadCount = messageRepo.countTotalUnreadByUser(userId);
+        long totalUnreadCount = countTotalUnread(userId);
 
         UnreadCountResponseDTO response = new UnreadCountResponseDTO(totalUnreadCount);
 
@@ -295,6 +367,50 @@ public class ChatService {
         return ApiResponse.success(response, HttpStatus.OK, "Unread count retrieved successfully");
     }
 
+    /**
+     * Corrects unread counters that drifted from the messages table, for example after a failed Redis write.
+     */
+    @Scheduled(initialDelayString = "${spring.custom.unread.reconcile-interval-ms:300000}",
+            fixedDelayString = "${spring.custom.unread.reconcile-interval-ms:300000}")
+    public void reconcileUnreadCounters() {
+        unreadCounterService.reconcile(UNREAD_COUNTER_SCOPE, this::loadUnreadCountsByConversation);
+    }
+
+    private long countTotalUnread(UUID userId) {
+        return unreadCounterService.getTotal(UNREAD_COUNTER_SCOPE, userId, this::loadUnreadCountsByConversation);
+    }
+
+    private Map<String, Long> loadUnreadCountsByConversation(UUID userId) {
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : messageRepo.countUnreadByUserGroupedByConversation(userId)) {
+            counts.put(row[0].toString(), ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    /**
+     * Checks that the user and conversation exist and that the user takes part in it.
+     *
+     * @return the error response to return, or null if access is allowed
+     */
+    private <T> ResponseEntity<ApiResponse<T>> checkConversationAccess(UUID conversationId, UUID userId) {
+        if (!userRepo.existsById(userId)) {
+            log.warn(USER_NOT_FOUND_LOG_MSG, userId);
+            return ApiResponse.error(USER_NOT_FOUND_MSG, HttpStatus.BAD_REQUEST);
+        }
+
+        if (!conversationRepo.existsById(conversationId)) {
+            log.warn("Conversation not found: {}", conversationId);
+            return ApiResponse.error("Conversation not found", HttpStatus.NOT_FOUND);
+        }
+
+        if (!conversationRepo.isUserParticipant(conversationId, userId)) {
+            log.warn(USER_NOT_PARTICIPANT_LOG_MSG, userId, conversationId);
+            return ApiResponse.error(ACCESS_DENIED_NOT_PARTICIPANT_MSG, HttpStatus.BAD_REQUEST);
+        }
+        return null;
+    }
+
     /**
      * Finds an existing conversation between two users or creates a new one.
      */
@@ -332,50 +448,49 @@ public class ChatService {
     }
 
     /**
-     * Converts a Conversation entity to ConversationResponseDTO with additional data.
+     * Maps a row of {@link ConversationRepo#findInboxRawResultsByParticipant} to a conversation response DTO.
      */
-    private ConversationResponseDTO convertToConversationResponseDTO(Conversation conversation, UUID currentUserId) {
-        try {
-            UUID otherParticipantId = conversation.getParticipantOneId().equals(currentUserId)
-                    ? conversation.getParticipantTwoId()
-                    : conversation.getParticipantOneId();
-
-            Optional<User> otherUser = userRepo.findById(otherParticipantId);
-            if (otherUser.isEmpty()) {
-                log.warn("Other participant not found for conversation {}: {}", conversation.getId(), otherParticipantId);
-                return null;
-            }
+    private ConversationResponseDTO mapRowToConversationResponseDTO(Object[] row) {
+        UUID conversationId = (UUID) row[0];
 
-            User otherParticipant = otherUser.get();
-            String otherParticipantName = otherParticipant.getFirstName() + " " + otherParticipant.getLastName();
-            
-            // Create profile picture DTO for other participant
-            ProfilePictureDTO otherParticipantProfilePicture = null;
-            if (otherParticipant.getProfilePictureUrl() != null) {
-                otherParticipantProfilePicture = new ProfilePictureDTO(
-                    otherParticipant.getProfilePictureUrl(),
-                    otherParticipant.getProfilePictureThumbnailUrl(),
-                    otherParticipant.getProfilePicturePublicId()
-                );
-            }
-            
-            Optional<Message> latestMessage = messageRepo.findTopByConversationIdOrderByCreatedAtDesc(conversation.getId());
-            MessageResponseDTO latestMessageDTO = latestMessage.map(this::convertToMessageResponseDTO).orElse(null);
-            long unreadCount = messageRepo.countUnreadByConversationAndUser(conversation.getId(), currentUserId);
-
-            ConversationResponseDTO dto = new ConversationResponseDTO();
-            dto.setId(conversation.getId());
-            dto.setOtherParticipantId(otherParticipantId);
-            dto.setOtherParticipantName(otherParticipantName);
-            dto.setOtherParticipantProfilePicture(otherParticipantProfilePicture);
-            dto.setLatestMessage(latestMessageDTO);
-            dto.setUnreadCount((int) unreadCount);
-            dto.setUpdatedAt(conversation.getUpdatedAt());
-
-            return dto;
-        } catch (Exception e) {
-            log.error("Error converting conversation {} to DTO: {}", conversation.getId(), e.getMessage());
-            return null;
+        ProfilePictureDTO otherParticipantProfilePicture = null;
+        String profilePictureUrl = (String) row[5];
+        if (profilePictureUrl != null) {
+            otherParticipantProfilePicture = new ProfilePictureDTO(profilePictureUrl, (String) row[6], (String) row[7]);
+        }
+
+        MessageResponseDTO latestMessageDTO = null;
+        if (row[8] != null) {
+            latestMessageDTO = new MessageResponseDTO();
+            latestMessageDTO.setId((UUID) row[8]);
+            latestMessageDTO.setConversationId(conversationId);
+            latestMessageDTO.setSenderId((UUID) row[9]);
+            latestMessageDTO.setContent((String) row[10]);
+            latestMessageDTO.setRead(Boolean.TRUE.equals(row[11]));
+            latestMessageDTO.setCreatedAt(toOffsetDateTime(row[12]));
+        }
+
+        ConversationResponseDTO dto = new ConversationResponseDTO();
+        dto.setId(conversationId);
+        dto.setOtherParticipantId((UUID) row[2]);
+        dto.setOtherParticipantName(row[3] + " " + row[4]);
+        dto.setOtherParticipantProfilePicture(otherParticipantProfilePicture);
+        dto.setLatestMessage(latestMessageDTO);
+        dto.setUnreadCount(row[13] != null ? ((Number) row[13]).intValue() : 0);
+        dto.setUpdatedAt(toOffsetDateTime(row[1]));
+        return dto;
+    }
+
+    private OffsetDateTime toOffsetDateTime(Object value) {
+        if (value instanceof OffsetDateTime offsetDateTime) {
+            return offsetDateTime;
+        }
+        if (value instanceof Instant instant) {
+            return instant.atOffset(ZoneOffset.UTC);
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toInstant().atOffset(ZoneOffset.UTC);
         }
+        return null;
     }
 }
\ No newline at end of file
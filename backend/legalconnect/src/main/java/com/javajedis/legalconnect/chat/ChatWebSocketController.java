@@ -127,7 +127,8 @@ public class ChatWebSocketController {
 
     /**
      * Sends a chat message directly to a specific user's WebSocket connection.
-     * This method is used internally by the chat service for real-time message delivery.
+     * This method is used internally by the chat service for real-time message delivery,
+     * and reaches the user on whichever node they are connected to.
      */
     public void sendMessageToUser(UUID userId, MessageResponseDTO message) {
         if (userId == null || message == null) {
@@ -140,14 +141,12 @@ public class ChatWebSocketController {
             throw new IllegalArgumentException("Message content cannot be empty");
         }
 
-        if (!webSocketService.isUserConnected(userId)) {
+        String topicDestination = "/topic/chat-" + userId;
+        if (!webSocketService.sendToUser(userId, topicDestination, message)) {
             log.debug("User {} is not connected, cannot send WebSocket chat message", userId);
             return;
         }
 
-        String topicDestination = "/topic/chat-" + userId;
-        messagingTemplate.convertAndSend(topicDestination, message);
-
         log.debug("Chat message sent to user {} via WebSocket topic: {}", userId, message.getContent());
     }
 
@@ -161,14 +160,12 @@ public class ChatWebSocketController {
             throw new IllegalArgumentException("UserId and unreadCount cannot be null");
         }
 
-        if (!webSocketService.isUserConnected(userId)) {
+        String topicDestination = "/topic/chat-unread-" + userId;
+        if (!webSocketService.sendToUser(userId, topicDestination, unreadCount)) {
             log.debug("User {} is not connected, cannot send WebSocket unread count update", userId);
             return;
         }
 
-        String topicDestination = "/topic/chat-unread-" + userId;
-        messagingTemplate.convertAndSend(topicDestination, unreadCount);
-
         log.debug("Unread count update sent to user {} via WebSocket: {}", userId, unreadCount.getTotalUnreadCount());
     }
 
@@ -182,15 +179,13 @@ public class ChatWebSocketController {
             throw new IllegalArgumentException("SenderId and messageId cannot be null");
         }
 
-        if (!webSocketService.isUserConnected(senderId)) {
+        ReadStatusUpdateDTO readStatusUpdate = new ReadStatusUpdateDTO(messageId, isRead);
+        String topicDestination = "/topic/chat-read-status-" + senderId;
+        if (!webSocketService.sendToUser(senderId, topicDestination, readStatusUpdate)) {
             log.debug("Sender {} is not connected, cannot send WebSocket read status update", senderId);
             return;
         }
 
-        ReadStatusUpdateDTO readStatusUpdate = new ReadStatusUpdateDTO(messageId, isRead);
-        String topicDestination = "/topic/chat-read-status-" + senderId;
-        messagingTemplate.convertAndSend(topicDestination, readStatusUpdate);
-
         log.debug("Read status update sent to sender {} for message {}: read={}", senderId, messageId, isRead);
     }
 
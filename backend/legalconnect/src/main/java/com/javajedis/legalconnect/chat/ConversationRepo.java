@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,6 +19,27 @@ public interface ConversationRepo extends JpaRepository<Conversation, UUID> {
      */
     @Query("SELECT c FROM Conversation c WHERE c.participantOneId = :userId OR c.participantTwoId = :userId ORDER BY c.updatedAt DESC")
     List<Conversation> findByParticipantOrderByUpdatedAtDesc(@Param("userId") UUID userId);
+
+    /**
+     * Returns one page of a user's inbox as Object[] for mapping in the service layer, ordered by most recent activity.
+     * Participant, latest message and unread count are resolved in the same statement, so the inbox is one round trip.
+     * Fields: conversationId, updatedAt, otherParticipantId, firstName, lastName, profilePictureUrl, profilePictureThumbnailUrl, profilePicturePublicId, latestMessageId, latestMessageSenderId, latestMessageContent, latestMessageIsRead, latestMessageCreatedAt, unreadCount
+     */
+    @Query(value = "SELECT c.id, c.updated_at, u.id, u.first_name, u.last_name, " +
+            "u.profile_picture_url, u.profile_picture_thumbnail_url, u.profile_picture_public_id, " +
+            "lm.id, lm.sender_id, lm.content, lm.is_read, lm.created_at, " +
+            "(SELECT COUNT(*) FROM messages um WHERE um.conversation_id = c.id AND um.sender_id <> :userId AND um.is_read = false) " +
+            "FROM conversations c " +
+            "JOIN users u ON u.id = CASE WHEN c.participant_one_id = :userId THEN c.participant_two_id ELSE c.participant_one_id END " +
+            "LEFT JOIN LATERAL (SELECT m.id, m.sender_id, m.content, m.is_read, m.created_at FROM messages m " +
+            "WHERE m.conversation_id = c.id ORDER BY m.created_at DESC LIMIT 1) lm ON true " +
+            "WHERE c.participant_one_id = :userId OR c.participant_two_id = :userId " +
+            "ORDER BY c.updated_at DESC, c.id",
+            countQuery = "SELECT COUNT(c.id) FROM conversations c " +
+                    "JOIN users u ON u.id = CASE WHEN c.participant_one_id = :userId THEN c.participant_two_id ELSE c.participant_one_id END " +
+                    "WHERE c.participant_one_id = :userId OR c.participant_two_id = :userId",
+            nativeQuery = true)
+    Page<Object[]> findInboxRawResultsByParticipant(@Param("userId") UUID userId, Pageable pageable);
     
     /**
      * Find a conversation between two specific participants
@@ -0,0 +1,47 @@
+package com.javajedis.legalconnect.chat;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+/**
+ * Position in a conversation's message history, the creation time and ID of the last message a client has seen.
+ * Encoded as {@code <createdAt>,<id>} with the timestamp in ISO-8601 UTC, for example
+ * {@code 2025-01-31T10:15:30.123456Z,5f0c...}.
+ */
+public record MessageCursor(OffsetDateTime createdAt, UUID id) {
+
+    /**
+     * Creates the cursor pointing at a message.
+     */
+    public static MessageCursor of(Message message) {
+        return new MessageCursor(message.getCreatedAt(), message.getId());
+    }
+
+    /**
+     * Parses an encoded cursor.
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static MessageCursor parse(String value) {
+        int separator = value.lastIndexOf(',');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Cursor must be <createdAt>,<id>");
+        }
+        try {
+            return new MessageCursor(
+                    OffsetDateTime.parse(value.substring(0, separator).trim()),
+                    UUID.fromString(value.substring(separator + 1).trim()));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor has an invalid timestamp", e);
+        }
+    }
+
+    /**
+     * Encodes the cursor for use as a request parameter.
+     */
+    public String encode() {
+        return createdAt.withOffsetSameInstant(ZoneOffset.UTC) + "," + id;
+    }
+}
@@ -1,5 +1,6 @@
 package com.javajedis.legalconnect.chat;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,6 +20,22 @@ public interface MessageRepo extends JpaRepository<Message, UUID> {
      * Find messages for a conversation with pagination, ordered by creation date (newest first)
      */
     Page<Message> findByConversationIdOrderByCreatedAtDesc(UUID conversationId, Pageable pageable);
+
+    /**
+     * Find the newest messages of a conversation without counting the rest, for the first page of a keyset scroll
+     */
+    List<Message> findByConversationIdOrderByCreatedAtDescIdDesc(UUID conversationId, Pageable pageable);
+
+    /**
+     * Find the messages of a conversation older than a cursor position, newest first. The redundant
+     * {@code createdAt <= :createdAt} bound lets the database seek on the (conversation_id, created_at, id) index.
+     */
+    @Query("SELECT m FROM Message m WHERE m.conversationId = :conversationId AND m.createdAt <= :createdAt " +
+           "AND (m.createdAt < :createdAt OR m.id < :id) ORDER BY m.createdAt DESC, m.id DESC")
+    List<Message> findByConversationIdBefore(@Param("conversationId") UUID conversationId,
+                                             @Param("createdAt") OffsetDateTime createdAt,
+                                             @Param("id") UUID id,
+                                             Pageable pageable);
     
     /**
      * Count unread messages in a conversation for a specific user (excluding messages sent by the user)
@@ -43,6 +60,15 @@ public interface MessageRepo extends JpaRepository<Message, UUID> {
     @Query("SELECT COUNT(m) FROM Message m WHERE m.senderId != :userId AND m.isRead = false AND m.conversationId IN " +
            "(SELECT c.id FROM Conversation c WHERE c.participantOneId = :userId OR c.participantTwoId = :userId)")
     long countTotalUnreadByUser(@Param("userId") UUID userId);
+
+    /**
+     * Count unread messages for a user per conversation, only conversations with unread messages are returned.
+     * Fields: conversationId, unreadCount
+     */
+    @Query("SELECT m.conversationId, COUNT(m) FROM Message m WHERE m.senderId != :userId AND m.isRead = false AND m.conversationId IN " +
+           "(SELECT c.id FROM Conversation c WHERE c.participantOneId = :userId OR c.participantTwoId = :userId) " +
+           "GROUP BY m.conversationId")
+    List<Object[]> countUnreadByUserGroupedByConversation(@Param("userId") UUID userId);
     
     /**
      * Mark all unread messages in a conversation as read for a specific user (excluding messages sent by the user)
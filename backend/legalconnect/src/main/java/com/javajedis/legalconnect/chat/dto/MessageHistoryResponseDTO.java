@@ -0,0 +1,16 @@
+package com.javajedis.legalconnect.chat.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageHistoryResponseDTO {
+    private List<MessageResponseDTO> messages;
+    private String nextCursor;
+    private boolean hasMore;
+}
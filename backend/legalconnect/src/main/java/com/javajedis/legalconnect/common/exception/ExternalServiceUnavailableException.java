@@ -0,0 +1,39 @@
+package com.javajedis.legalconnect.common.exception;
+
+/**
+ * Exception thrown when a call to an external service is not made or not awaited: its bulkhead is full,
+ * its circuit breaker is open, or the call timed out.
+ */
+public class ExternalServiceUnavailableException extends RuntimeException {
+
+    /**
+     * Why the call was given up.
+     */
+    public enum Reason {
+        BULKHEAD_FULL,
+        CIRCUIT_OPEN,
+        TIMEOUT,
+        INTERRUPTED
+    }
+
+    private final String integration;
+    private final Reason reason;
+
+    public ExternalServiceUnavailableException(String integration, Reason reason) {
+        this(integration, reason, null);
+    }
+
+    public ExternalServiceUnavailableException(String integration, Reason reason, Throwable cause) {
+        super(integration + " is unavailable: " + reason.name().toLowerCase(), cause);
+        this.integration = integration;
+        this.reason = reason;
+    }
+
+    public String getIntegration() {
+        return integration;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+}
@@ -200,6 +200,16 @@ public class GlobalExceptionHandler {
         return ApiResponse.error(ex.getMessage(), HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Handles external services that are overloaded, timed out or cut off by their circuit breaker.
+     */
+    @ExceptionHandler(ExternalServiceUnavailableException.class)
+    public ResponseEntity<ApiResponse<String>> handleExternalServiceUnavailable(ExternalServiceUnavailableException ex) {
+        log.warn("External service unavailable: {}", ex.getMessage());
+        return ApiResponse.error("A required service is temporarily unavailable. Please try again later.",
+                HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     /**
      * Handles runtime errors.
      */
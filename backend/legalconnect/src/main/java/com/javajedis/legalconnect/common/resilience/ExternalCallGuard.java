@@ -0,0 +1,274 @@
+package com.javajedis.legalconnect.common.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import com.javajedis.legalconnect.common.exception.ExternalServiceUnavailableException;
+import com.javajedis.legalconnect.common.exception.ExternalServiceUnavailableException.Reason;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bulkhead, timeout and circuit breaker around the calls to one external service.
+ *
+ * <p>A call first needs the circuit to let it through and a permit of the bulkhead, waiting at most
+ * {@code maxWait} for one. It then runs on a worker thread while the caller waits at most {@code timeout}
+ * for its result; a call that times out is interrupted and keeps its permit until it actually returns, so
+ * the bulkhead bounds the requests in flight at the service, not just the callers waiting for them.
+ *
+ * <p>The circuit opens after {@code failureThreshold} consecutive failures or timeouts and short-circuits
+ * every call for {@code openDuration}. It then lets a single trial call through and closes again if that
+ * call succeeds. Exceptions rejected by the failure predicate, such as a 404 from the service, are passed
+ * to the caller without counting against the circuit.
+ */
+@Slf4j
+public class ExternalCallGuard {
+    static final String METRIC_CALLS = "integration.calls";
+    static final String METRIC_CIRCUIT_STATE = "integration.circuit.state";
+    static final String METRIC_BULKHEAD_ACTIVE = "integration.bulkhead.active";
+    static final String OUTCOME_SUCCESS = "success";
+    static final String OUTCOME_CLIENT_ERROR = "client_error";
+    static final String OUTCOME_FAILURE = "failure";
+    static final String OUTCOME_TIMEOUT = "timeout";
+    static final String OUTCOME_REJECTED = "rejected";
+    static final String OUTCOME_SHORT_CIRCUITED = "short_circuited";
+
+    /**
+     * State of the circuit breaker; the state gauge reports the ordinal.
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /**
+     * Limits of one guarded integration.
+     *
+     * @param maxConcurrent    calls allowed in flight at once
+     * @param maxWait          how long a call waits for a free slot before it is rejected
+     * @param timeout          how long the caller waits for the result
+     * @param failureThreshold consecutive failures that open the circuit; 0 disables the circuit breaker
+     * @param openDuration     how long an open circuit short-circuits calls before a trial call
+     */
+    public record Settings(int maxConcurrent, Duration maxWait, Duration timeout, int failureThreshold,
+                           Duration openDuration) {
+    }
+
+    private final String integration;
+    private final Settings settings;
+    private final Predicate<Throwable> recordsFailure;
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoTime;
+    private final Semaphore permits;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean trialInFlight;
+
+    public ExternalCallGuard(String integration, Settings settings, Predicate<Throwable> recordsFailure,
+                             ExecutorService executor, MeterRegistry meterRegistry) {
+        this(integration, settings, recordsFailure, executor, meterRegistry, System::nanoTime);
+    }
+
+    ExternalCallGuard(String integration, Settings settings, Predicate<Throwable> recordsFailure,
+                      ExecutorService executor, MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        this.integration = integration;
+        this.settings = settings;
+        this.recordsFailure = recordsFailure;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.nanoTime = nanoTime;
+        this.permits = new Semaphore(settings.maxConcurrent());
+
+        Gauge.builder(METRIC_CIRCUIT_STATE, this, guard -> guard.getState().ordinal())
+                .description("Circuit breaker state of external integrations (0 closed, 1 open, 2 half open)")
+                .tag("integration", integration)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_BULKHEAD_ACTIVE, this, ExternalCallGuard::getActiveCalls)
+                .description("Calls to external integrations currently in flight")
+                .tag("integration", integration)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the call, throwing {@link ExternalServiceUnavailableException} if it is rejected or times out.
+     * Exceptions of the call itself are rethrown unchanged.
+     */
+    public <T, E extends Exception> T call(GuardedCall<T, E> call) throws E {
+        return call(call, unavailable -> {
+            throw unavailable;
+        });
+    }
+
+    /**
+     * Runs the call, answering with the fallback if it is rejected or times out. Exceptions of the call
+     * itself are rethrown unchanged.
+     */
+    public <T, E extends Exception> T call(GuardedCall<T, E> call,
+                                           Function<ExternalServiceUnavailableException, T> fallback) throws E {
+        long start = System.nanoTime();
+        if (!tryAcquireCircuit()) {
+            return unavailable(Reason.CIRCUIT_OPEN, OUTCOME_SHORT_CIRCUITED, start, null, fallback);
+        }
+
+        try {
+            if (!permits.tryAcquire(settings.maxWait().toNanos(), TimeUnit.NANOSECONDS)) {
+                releaseTrial();
+                return unavailable(Reason.BULKHEAD_FULL, OUTCOME_REJECTED, start, null, fallback);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            releaseTrial();
+            return unavailable(Reason.INTERRUPTED, OUTCOME_REJECTED, start, e, fallback);
+        }
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                try {
+                    return call.call();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            releaseTrial();
+            return unavailable(Reason.BULKHEAD_FULL, OUTCOME_REJECTED, start, e, fallback);
+        }
+
+        try {
+            T result = future.get(settings.timeout().toNanos(), TimeUnit.NANOSECONDS);
+            onSuccess();
+            record(OUTCOME_SUCCESS, start);
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            onFailure();
+            log.warn("Call to {} timed out after {} ms", integration, settings.timeout().toMillis());
+            return unavailable(Reason.TIMEOUT, OUTCOME_TIMEOUT, start, e, fallback);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            releaseTrial();
+            return unavailable(Reason.INTERRUPTED, OUTCOME_REJECTED, start, e, fallback);
+        } catch (ExecutionException e) {
+            return rethrow(e.getCause(), start);
+        }
+    }
+
+    public String getIntegration() {
+        return integration;
+    }
+
+    public Settings getSettings() {
+        return settings;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Returns the number of calls currently in flight, including timed out calls that have not returned yet.
+     */
+    public int getActiveCalls() {
+        return settings.maxConcurrent() - permits.availablePermits();
+    }
+
+    private synchronized boolean tryAcquireCircuit() {
+        if (state == State.OPEN) {
+            if (nanoTime.getAsLong() - openedAtNanos < settings.openDuration().toNanos()) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+            log.info("Circuit of {} is half open, letting a trial call through", integration);
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    private synchronized void releaseTrial() {
+        if (state == State.HALF_OPEN) {
+            trialInFlight = false;
+        }
+    }
+
+    private synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        if (state == State.HALF_OPEN) {
+            state = State.CLOSED;
+            trialInFlight = false;
+            log.info("Circuit of {} closed", integration);
+        }
+    }
+
+    private synchronized void onFailure() {
+        if (settings.failureThreshold() <= 0) {
+            return;
+        }
+        if (state == State.HALF_OPEN || (state == State.CLOSED && ++consecutiveFailures >= settings.failureThreshold())) {
+            state = State.OPEN;
+            openedAtNanos = nanoTime.getAsLong();
+            consecutiveFailures = 0;
+            trialInFlight = false;
+            log.warn("Circuit of {} opened for {} ms", integration, settings.openDuration().toMillis());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T, E extends Exception> T rethrow(Throwable cause, long start) throws E {
+        if (recordsFailure.test(cause)) {
+            onFailure();
+            record(OUTCOME_FAILURE, start);
+        } else {
+            onSuccess();
+            record(OUTCOME_CLIENT_ERROR, start);
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        // The call can only throw E or unchecked exceptions.
+        throw (E) cause;
+    }
+
+    private <T> T unavailable(Reason reason, String outcome, long start, Throwable cause,
+                              Function<ExternalServiceUnavailableException, T> fallback) {
+        record(outcome, start);
+        log.debug("Call to {} not completed: {}", integration, reason);
+        return fallback.apply(new ExternalServiceUnavailableException(integration, reason, cause));
+    }
+
+    private void record(String outcome, long start) {
+        Timer.builder(METRIC_CALLS)
+                .description("Calls to external integrations")
+                .tags(Tags.of("integration", integration, "outcome", outcome))
+                .register(meterRegistry)
+                .record(Duration.ofNanos(System.nanoTime() - start));
+    }
+}
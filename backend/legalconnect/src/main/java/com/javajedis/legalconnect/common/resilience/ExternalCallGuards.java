@@ -0,0 +1,88 @@
+package com.javajedis.legalconnect.common.resilience;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates and holds one {@link ExternalCallGuard} per external integration.
+ *
+ * <p>Limits are read from {@code spring.custom.resilience.<integration>.*} ({@code max-concurrent},
+ * {@code max-wait-ms}, {@code timeout-ms}, {@code failure-threshold} and {@code open-ms}). Guarded calls run
+ * on virtual threads, so a slow service only ties up request threads for as long as its timeout.
+ */
+@Slf4j
+@Component
+public class ExternalCallGuards {
+    public static final String STRIPE = "stripe";
+    public static final String GOOGLE = "google";
+    public static final String CLOUDINARY = "cloudinary";
+    public static final String S3 = "s3";
+    public static final String ELASTICSEARCH = "elasticsearch";
+
+    static final String PROPERTY_PREFIX = "spring.custom.resilience.";
+    static final int DEFAULT_MAX_CONCURRENT = 20;
+    static final long DEFAULT_MAX_WAIT_MS = 100;
+    static final long DEFAULT_TIMEOUT_MS = 10_000;
+    static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    static final long DEFAULT_OPEN_MS = 30_000;
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("external-call-", 0).factory());
+    private final Map<String, ExternalCallGuard> guards = new ConcurrentHashMap<>();
+
+    public ExternalCallGuards(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Returns the guard of an integration whose every exception counts as a failure.
+     */
+    public ExternalCallGuard guard(String integration) {
+        return guard(integration, exception -> true);
+    }
+
+    /**
+     * Returns the guard of an integration, creating it on first use. The failure predicate decides which
+     * exceptions count against the circuit; it is fixed by the first caller, so each integration should be
+     * guarded from one place.
+     */
+    public ExternalCallGuard guard(String integration, Predicate<Throwable> recordsFailure) {
+        return guards.computeIfAbsent(integration, name -> {
+            ExternalCallGuard.Settings settings = settings(name);
+            log.info("Guarding {} calls: {}", name, settings);
+            return new ExternalCallGuard(name, settings, recordsFailure, executor, meterRegistry);
+        });
+    }
+
+    /**
+     * Reads the configured limits of an integration.
+     */
+    public ExternalCallGuard.Settings settings(String integration) {
+        String prefix = PROPERTY_PREFIX + integration + ".";
+        return new ExternalCallGuard.Settings(
+                environment.getProperty(prefix + "max-concurrent", Integer.class, DEFAULT_MAX_CONCURRENT),
+                Duration.ofMillis(environment.getProperty(prefix + "max-wait-ms", Long.class, DEFAULT_MAX_WAIT_MS)),
+                Duration.ofMillis(environment.getProperty(prefix + "timeout-ms", Long.class, DEFAULT_TIMEOUT_MS)),
+                environment.getProperty(prefix + "failure-threshold", Integer.class, DEFAULT_FAILURE_THRESHOLD),
+                Duration.ofMillis(environment.getProperty(prefix + "open-ms", Long.class, DEFAULT_OPEN_MS)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
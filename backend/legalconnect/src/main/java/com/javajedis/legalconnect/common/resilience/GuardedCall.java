@@ -0,0 +1,13 @@
+package com.javajedis.legalconnect.common.resilience;
+
+/**
+ * A call to an external service that may throw the checked exception of its client library.
+ *
+ * @param <T> the result type
+ * @param <E> the checked exception type of the client
+ */
+@FunctionalInterface
+public interface GuardedCall<T, E extends Exception> {
+
+    T call() throws E;
+}
@@ -0,0 +1,64 @@
+package com.javajedis.legalconnect.common.security;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.javajedis.legalconnect.user.Role;
+import com.javajedis.legalconnect.user.User;
+
+/**
+ * Lightweight security principal built from signed token claims or from a loaded user.
+ * Carries only the identity fields services need, so callers can avoid loading the full user entity.
+ *
+ * @param id            the user ID
+ * @param email         the user email (used as the principal name)
+ * @param role          the user role
+ * @param emailVerified whether the user's email is verified
+ */
+public record AuthenticatedUser(
+        UUID id,
+        String email,
+        Role role,
+        boolean emailVerified
+) implements UserDetails {
+
+    /**
+     * Creates a principal from a loaded user entity.
+     *
+     * @param user the user entity
+     * @return the principal
+     */
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getRole(), user.isEmailVerified());
+    }
+
+    /**
+     * Checks whether a user entity is this principal, comparing IDs so a lazy reference is not loaded.
+     *
+     * @param user the user entity, may be null
+     * @return true if the user has this principal's ID
+     */
+    public boolean matches(User user) {
+        return user != null && id.equals(user.getId());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
@@ -0,0 +1,74 @@
+package com.javajedis.legalconnect.common.security;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.authentication.CredentialsExpiredException;
+import org.springframework.stereotype.Component;
+
+import com.javajedis.legalconnect.common.utility.ParsedToken;
+import com.javajedis.legalconnect.user.Role;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Builds the security principal straight from signed token claims, without loading the user.
+ * Opt-in through {@code spring.custom.security.trust-token-claims}; when disabled, or when the
+ * claims cannot be trusted, callers fall back to loading the user from the database.
+ */
+@Slf4j
+@Component
+public class ClaimsPrincipalResolver {
+    private final TokenVersionService tokenVersionService;
+    private final boolean enabled;
+
+    public ClaimsPrincipalResolver(TokenVersionService tokenVersionService,
+                                   @Value("${spring.custom.security.trust-token-claims:false}") boolean enabled) {
+        this.tokenVersionService = tokenVersionService;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Resolves a principal from the token claims.
+     *
+     * @param token the verified token
+     * @return the principal, or empty if the caller should load the user from the database
+     * @throws CredentialsExpiredException if the token was issued before the user's latest security change
+     */
+    public Optional<AuthenticatedUser> resolve(ParsedToken token) {
+        if (!enabled || token.userId() == null || token.role() == null || token.emailVerified() == null) {
+            return Optional.empty();
+        }
+
+        UUID userId;
+        Role role;
+        try {
+            userId = UUID.fromString(token.userId());
+            role = Role.valueOf(token.role());
+        } catch (IllegalArgumentException e) {
+            log.warn("Token for {} carries malformed identity claims, falling back to database lookup", token.subject());
+            return Optional.empty();
+        }
+
+        long currentVersion;
+        try {
+            currentVersion = tokenVersionService.getCurrentVersion(userId);
+        } catch (DataAccessException e) {
+            log.warn("Token version unavailable for user {}, falling back to database lookup: {}", userId, e.getMessage());
+            return Optional.empty();
+        }
+
+        long tokenVersion = token.tokenVersion() == null ? 0L : token.tokenVersion();
+        if (tokenVersion != currentVersion) {
+            throw new CredentialsExpiredException("Token version " + tokenVersion + " is stale for user " + userId);
+        }
+
+        return Optional.of(new AuthenticatedUser(userId, token.subject(), role, token.emailVerified()));
+    }
+}
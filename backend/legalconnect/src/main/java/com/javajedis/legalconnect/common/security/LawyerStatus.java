@@ -0,0 +1,34 @@
+package com.javajedis.legalconnect.common.security;
+
+import java.util.UUID;
+
+import com.javajedis.legalconnect.lawyer.enums.VerificationStatus;
+import com.javajedis.legalconnect.user.Role;
+
+/**
+ * Snapshot of the lawyer state of a user, as used by lawyer access checks.
+ *
+ * @param role               the user role
+ * @param lawyerId           the lawyer profile ID, null if the user has no lawyer profile
+ * @param verificationStatus the verification status of the lawyer profile, null if there is none
+ */
+public record LawyerStatus(
+        Role role,
+        UUID lawyerId,
+        VerificationStatus verificationStatus
+) {
+
+    /**
+     * @return true if the user has the LAWYER role and a lawyer profile
+     */
+    public boolean isLawyer() {
+        return role == Role.LAWYER && lawyerId != null;
+    }
+
+    /**
+     * @return true if the user is a lawyer with APPROVED verification status
+     */
+    public boolean isVerifiedLawyer() {
+        return isLawyer() && verificationStatus == VerificationStatus.APPROVED;
+    }
+}
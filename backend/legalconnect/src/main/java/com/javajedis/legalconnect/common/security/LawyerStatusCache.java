@@ -0,0 +1,93 @@
+package com.javajedis.legalconnect.common.security;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.javajedis.legalconnect.lawyer.LawyerStatusChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-node cache of lawyer status by user ID, backing the lawyer access checks.
+ *
+ * <p>Entries are evicted when a {@link LawyerStatusChangedEvent} is published. The eviction is relayed to
+ * the other nodes over Redis pub/sub. Entries also expire after a short time, which bounds staleness if
+ * an eviction message is lost.
+ */
+@Slf4j
+@Component
+public class LawyerStatusCache implements MessageListener {
+    public static final String EVICTION_CHANNEL = "lawyer:status:evictions";
+
+    private static final long MAX_SIZE = 10_000;
+    private static final Duration ENTRY_TTL = Duration.ofMinutes(10);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<UUID, LawyerStatus> cache = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterWrite(ENTRY_TTL)
+            .build();
+
+    public LawyerStatusCache(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * Gets the cached lawyer status for a user, loading it on a miss.
+     *
+     * @param userId the user ID
+     * @param loader loads the status from the database, may return null if the user does not exist
+     * @return the lawyer status, or null if the loader returned null
+     */
+    public LawyerStatus get(UUID userId, Function<UUID, LawyerStatus> loader) {
+        return cache.get(userId, loader);
+    }
+
+    /**
+     * Evicts the cached status of a user on this node only.
+     *
+     * @param userId the user ID
+     */
+    public void evict(UUID userId) {
+        cache.invalidate(userId);
+    }
+
+    /**
+     * Evicts the changed user locally and relays the eviction to the other nodes once the change is committed.
+     *
+     * @param event the lawyer status change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLawyerStatusChanged(LawyerStatusChangedEvent event) {
+        evict(event.userId());
+        try {
+            redisTemplate.convertAndSend(EVICTION_CHANNEL, event.userId().toString());
+        } catch (DataAccessException e) {
+            log.warn("Failed to relay lawyer status eviction for user {}: {}", event.userId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Applies an eviction relayed by another node.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            evict(UUID.fromString(body));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed lawyer status eviction message: {}", body);
+        }
+    }
+}
@@ -7,9 +7,6 @@ import org.springframework.stereotype.Component;
 import com.javajedis.legalconnect.common.utility.GetUserUtil;
 import com.javajedis.legalconnect.lawyer.Lawyer;
 import com.javajedis.legalconnect.lawyer.LawyerRepo;
-import com.javajedis.legalconnect.lawyer.enums.VerificationStatus;
-import com.javajedis.legalconnect.user.Role;
-import com.javajedis.legalconnect.user.User;
 import com.javajedis.legalconnect.user.UserRepo;
 
 import lombok.extern.slf4j.Slf4j;
@@ -20,10 +17,12 @@ public class LawyerVerificationChecker {
     
     private final UserRepo userRepo;
     private final LawyerRepo lawyerRepo;
+    private final LawyerStatusCache lawyerStatusCache;
     
-    public LawyerVerificationChecker(UserRepo userRepo, LawyerRepo lawyerRepo) {
+    public LawyerVerificationChecker(UserRepo userRepo, LawyerRepo lawyerRepo, LawyerStatusCache lawyerStatusCache) {
         this.userRepo = userRepo;
         this.lawyerRepo = lawyerRepo;
+        this.lawyerStatusCache = lawyerStatusCache;
     }
     
     /**
@@ -49,28 +48,22 @@ public class LawyerVerificationChecker {
             }
             
             // Get authenticated user safely
-            User user = GetUserUtil.getAuthenticatedUser(userRepo);
+            AuthenticatedUser user = GetUserUtil.getAuthenticatedPrincipal(userRepo);
             if (user == null) {
                 log.debug("Could not find authenticated user in database");
                 return false;
             }
             
-            // Double-check role from database
-            if (user.getRole() != Role.LAWYER) {
-                log.debug("User {} does not have LAWYER role in database", user.getEmail());
-                return false;
-            }
-            
-            // Find lawyer profile
-            Lawyer lawyer = lawyerRepo.findByUser(user).orElse(null);
-            if (lawyer == null) {
-                log.debug("No lawyer profile found for user {}", user.getEmail());
+            // Double-check role and lawyer profile from the cached database state
+            LawyerStatus status = getLawyerStatus(user);
+            if (!status.isLawyer()) {
+                log.debug("User {} does not have LAWYER role or lawyer profile in database", user.email());
                 return false;
             }
             
             // Check verification status
-            boolean isVerified = lawyer.getVerificationStatus() == VerificationStatus.APPROVED;
-            log.debug("Lawyer verification check for {}: {}", user.getEmail(), isVerified);
+            boolean isVerified = status.isVerifiedLawyer();
+            log.debug("Lawyer verification check for {}: {}", user.email(), isVerified);
             
             return isVerified;
             
@@ -100,14 +93,24 @@ public class LawyerVerificationChecker {
                 return false;
             }
             
-            User user = GetUserUtil.getAuthenticatedUser(userRepo);
-            return user != null && 
-                   user.getRole() == Role.LAWYER && 
-                   lawyerRepo.findByUser(user).isPresent();
+            AuthenticatedUser user = GetUserUtil.getAuthenticatedPrincipal(userRepo);
+            return user != null && getLawyerStatus(user).isLawyer();
                    
         } catch (Exception e) {
             log.warn("Error checking lawyer status: {}", e.getMessage());
             return false;
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * Gets the lawyer status of the user from the cache, loading the lawyer profile on a miss.
+     */
+    private LawyerStatus getLawyerStatus(AuthenticatedUser user) {
+        return lawyerStatusCache.get(user.id(), userId -> {
+            Lawyer lawyer = lawyerRepo.findByUserId(userId).orElse(null);
+            return lawyer == null
+                    ? new LawyerStatus(user.role(), null, null)
+                    : new LawyerStatus(user.role(), lawyer.getId(), lawyer.getVerificationStatus());
+        });
+    }
+}
@@ -0,0 +1,301 @@
+package com.javajedis.legalconnect.common.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.javajedis.legalconnect.common.utility.JWTUtil;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Revocation list for JWTs (logout blacklist) with an in-process near-cache.
+ *
+ * <p>Revoked tokens are stored in Redis under their SHA-256 hash and announced to every node over
+ * Redis pub/sub. Each node keeps a Bloom filter of revoked hashes plus a small set of revocations it
+ * has already confirmed, so the common "not revoked" answer needs no network round trip. Bloom filter
+ * hits are confirmed against Redis before the token is rejected.
+ *
+ * <p>Until the local filter has been loaded from Redis every lookup goes to Redis. When Redis is
+ * unavailable, tokens confirmed revoked locally and Bloom filter hits are rejected, and all other
+ * tokens are accepted.
+ *
+ * <p>Pub/sub does not guarantee delivery, so the filter is also reloaded from Redis on a fixed interval,
+ * and on every resync tick while the subscription is down. A missed announcement is therefore picked up
+ * within {@code full-resync-interval-ms} at the latest.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService implements MessageListener {
+    public static final String REVOCATION_CHANNEL = "jwt:revocations";
+    static final String BLACKLIST_PREFIX = "blacklist:jwt:";
+
+    private static final int EXPECTED_REVOCATIONS_PER_GENERATION = 100_000;
+    private static final double BLOOM_FALSE_POSITIVE_RATE = 0.001;
+    private static final long CONFIRMED_REVOKED_MAX_SIZE = 10_000;
+    private static final int SCAN_BATCH_SIZE = 1_000;
+    private static final int TOKEN_HASH_LENGTH = 64;
+    private static final String METRIC_LOOKUPS = "jwt.revocation.lookups";
+    private static final String TAG_RESULT = "result";
+
+    private final StringRedisTemplate redisTemplate;
+    private final long fullResyncIntervalMillis;
+    // Guards the generation fields, so a revocation is never written to a filter that is being replaced
+    private final Object generationLock = new Object();
+
+    // Revoked token hashes known to this node, each entry lives until its token expires
+    private final Cache<String, Long> confirmedRevoked = Caffeine.newBuilder()
+            .maximumSize(CONFIRMED_REVOKED_MAX_SIZE)
+            .expireAfter(new RevokedTokenExpiry())
+            .build();
+
+    // Two generations, each spanning one token lifetime, so entries age out without a rebuild
+    private volatile BloomFilter<CharSequence> currentGeneration = newGeneration();
+    private volatile BloomFilter<CharSequence> previousGeneration = newGeneration();
+    private volatile boolean synced;
+    private volatile long lastResyncAt;
+    private volatile BooleanSupplier subscriptionListening = () -> true;
+
+    private final Counter localNegativeCounter;
+    private final Counter confirmedHitCounter;
+    private final Counter redisConfirmedCounter;
+    private final Counter falsePositiveCounter;
+    private final Counter unsyncedCounter;
+    private final Counter redisUnavailableCounter;
+
+    public TokenRevocationService(StringRedisTemplate redisTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${spring.custom.security.revocation.full-resync-interval-ms:300000}")
+                                  long fullResyncIntervalMillis) {
+        this.redisTemplate = redisTemplate;
+        this.fullResyncIntervalMillis = fullResyncIntervalMillis;
+        this.localNegativeCounter = lookupCounter(meterRegistry, "local_negative");
+        this.confirmedHitCounter = lookupCounter(meterRegistry, "confirmed_hit");
+        this.redisConfirmedCounter = lookupCounter(meterRegistry, "redis_confirmed");
+        this.falsePositiveCounter = lookupCounter(meterRegistry, "false_positive");
+        this.unsyncedCounter = lookupCounter(meterRegistry, "unsynced");
+        this.redisUnavailableCounter = lookupCounter(meterRegistry, "redis_unavailable");
+        Gauge.builder("jwt.revocation.confirmed.size", confirmedRevoked, Cache::estimatedSize)
+                .description("Revoked tokens confirmed on this node")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Revokes a token until its expiration and announces the revocation to all nodes.
+     *
+     * @param token      the JWT token
+     * @param expiration the token expiration date
+     */
+    public void revoke(String token, Date expiration) {
+        long expiresAt = expiration.getTime();
+        long ttl = expiresAt - System.currentTimeMillis();
+        if (ttl <= 0) {
+            return;
+        }
+        String tokenId = JWTUtil.hashToken(token);
+        remember(tokenId, expiresAt);
+        redisTemplate.opsForValue().set(BLACKLIST_PREFIX + tokenId, "true", ttl, TimeUnit.MILLISECONDS);
+        try {
+            redisTemplate.convertAndSend(REVOCATION_CHANNEL, tokenId + ":" + expiresAt);
+        } catch (DataAccessException e) {
+            log.warn("Failed to publish token revocation, other nodes will confirm it against Redis: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Checks whether a token has been revoked.
+     *
+     * @param token      the JWT token
+     * @param expiration the token expiration date, used to bound how long a confirmed revocation is cached
+     * @return true if the token has been revoked
+     */
+    public boolean isRevoked(String token, Date expiration) {
+        String tokenId = JWTUtil.hashToken(token);
+        if (confirmedRevoked.getIfPresent(tokenId) != null) {
+            confirmedHitCounter.increment();
+            return true;
+        }
+
+        boolean mightBeRevoked = currentGeneration.mightContain(tokenId) || previousGeneration.mightContain(tokenId);
+        if (synced && !mightBeRevoked) {
+            localNegativeCounter.increment();
+            return false;
+        }
+
+        try {
+            boolean revoked = Boolean.TRUE.equals(redisTemplate.hasKey(BLACKLIST_PREFIX + tokenId));
+            if (revoked) {
+                redisConfirmedCounter.increment();
+                remember(tokenId, expiration != null ? expiration.getTime()
+                        : System.currentTimeMillis() + JWTUtil.TOKEN_VALIDITY_MILLIS);
+            } else if (mightBeRevoked) {
+                falsePositiveCounter.increment();
+            } else {
+                unsyncedCounter.increment();
+            }
+            return revoked;
+        } catch (DataAccessException e) {
+            redisUnavailableCounter.increment();
+            synced = false;
+            log.warn("Redis unavailable for revocation check, answering from local state: {}", e.getMessage());
+            return mightBeRevoked;
+        }
+    }
+
+    /**
+     * Applies a revocation published by another node.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        try {
+            remember(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed token revocation message: {}", body);
+        }
+    }
+
+    /**
+     * Loads all current revocations from Redis into the local filter once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        resync();
+    }
+
+    /**
+     * Reports whether the revocation channel subscription is up. Until it is back, every resync tick
+     * reloads the filter, since announcements published meanwhile are lost.
+     *
+     * @param listening true while this node is subscribed to {@link #REVOCATION_CHANNEL}
+     */
+    public void watchSubscription(BooleanSupplier listening) {
+        this.subscriptionListening = listening;
+    }
+
+    /**
+     * Reloads the local filter when revocations may have been missed: after Redis was unavailable, while
+     * the subscription is down, and once every {@code full-resync-interval-ms} regardless.
+     */
+    @Scheduled(fixedDelayString = "${spring.custom.security.revocation.resync-interval-ms:30000}")
+    public void resyncIfNeeded() {
+        if (!synced) {
+            resync();
+        } else if (!subscriptionListening.getAsBoolean()) {
+            log.warn("Token revocation subscription is down, reloading revocations from Redis");
+            resync();
+        } else if (System.currentTimeMillis() - lastResyncAt >= fullResyncIntervalMillis) {
+            resync();
+        }
+    }
+
+    /**
+     * Starts a new Bloom filter generation once per token lifetime. Revocations stay in the
+     * previous generation for one more lifetime, which outlives every token they could match.
+     */
+    @Scheduled(initialDelay = JWTUtil.TOKEN_VALIDITY_MILLIS, fixedRate = JWTUtil.TOKEN_VALIDITY_MILLIS)
+    public void rotateGenerations() {
+        synchronized (generationLock) {
+            previousGeneration = currentGeneration;
+            currentGeneration = newGeneration();
+        }
+        log.debug("Rotated token revocation filter generation");
+    }
+
+    boolean isSynced() {
+        return synced;
+    }
+
+    private void resync() {
+        BloomFilter<CharSequence> loaded = newGeneration();
+        int count = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_PREFIX + "*").count(SCAN_BATCH_SIZE).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                String tokenId = key.substring(BLACKLIST_PREFIX.length());
+                if (tokenId.length() != TOKEN_HASH_LENGTH) {
+                    // Entry written before revocations were keyed by hash, keep it as a confirmed revocation
+                    tokenId = JWTUtil.hashToken(tokenId);
+                    Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                    if (ttl != null && ttl > 0) {
+                        confirmedRevoked.put(tokenId, System.currentTimeMillis() + ttl);
+                    }
+                }
+                loaded.put(tokenId);
+                count++;
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not load token revocations from Redis, will retry: {}", e.getMessage());
+            return;
+        }
+        synchronized (generationLock) {
+            // Keep anything received over pub/sub while the scan was running
+            loaded.putAll(currentGeneration);
+            previousGeneration = newGeneration();
+            currentGeneration = loaded;
+        }
+        lastResyncAt = System.currentTimeMillis();
+        synced = true;
+        log.info("Loaded {} token revocations into local filter", count);
+    }
+
+    private void remember(String tokenId, long expiresAt) {
+        synchronized (generationLock) {
+            currentGeneration.put(tokenId);
+        }
+        confirmedRevoked.put(tokenId, expiresAt);
+    }
+
+    private static BloomFilter<CharSequence> newGeneration() {
+        return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8),
+                EXPECTED_REVOCATIONS_PER_GENERATION, BLOOM_FALSE_POSITIVE_RATE);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_LOOKUPS)
+                .description("Token revocation lookups by outcome")
+                .tag(TAG_RESULT, result)
+                .register(meterRegistry);
+    }
+
+    private static final class RevokedTokenExpiry implements Expiry<String, Long> {
+        @Override
+        public long expireAfterCreate(String key, Long expiresAt, long currentTime) {
+            long remaining = expiresAt - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remaining));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Long expiresAt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, expiresAt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Long expiresAt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
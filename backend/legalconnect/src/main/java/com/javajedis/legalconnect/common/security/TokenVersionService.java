@@ -0,0 +1,66 @@
+package com.javajedis.legalconnect.common.security;
+
+import java.util.UUID;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service for the per-user token version counter stored in Redis.
+ * Every issued token carries the version current at login; bumping the counter
+ * revokes all older tokens for that user when claims-trusting authentication is enabled.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenVersionService {
+    private static final String TOKEN_VERSION_PREFIX = "token:version:";
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * Gets the current token version for a user.
+     *
+     * @param userId the user ID
+     * @return the current version, or 0 if the user has never been bumped
+     * @throws DataAccessException if Redis is unavailable
+     */
+    public long getCurrentVersion(UUID userId) {
+        String value = redisTemplate.opsForValue().get(TOKEN_VERSION_PREFIX + userId);
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+    /**
+     * Gets the current token version for a user, falling back to 0 when Redis is unavailable.
+     * Used when issuing tokens so that login keeps working during a Redis outage.
+     *
+     * @param userId the user ID
+     * @return the current version, or 0 if it cannot be read
+     */
+    public long getCurrentVersionOrDefault(UUID userId) {
+        try {
+            return getCurrentVersion(userId);
+        } catch (DataAccessException e) {
+            log.warn("Could not read token version for user {}, issuing token with version 0: {}", userId, e.getMessage());
+            return 0L;
+        }
+    }
+
+    /**
+     * Increments the token version for a user, revoking every token issued before the change.
+     * Call after password, role or email verification changes, inside the transaction that makes the
+     * change, so that a failure here rolls it back instead of leaving the old tokens valid.
+     *
+     * @param userId the user ID
+     * @return the new version
+     * @throws DataAccessException if Redis is unavailable
+     */
+    public long bumpVersion(UUID userId) {
+        Long version = redisTemplate.opsForValue().increment(TOKEN_VERSION_PREFIX + userId);
+        log.debug("Token version for user {} bumped to {}", userId, version);
+        return version == null ? 0L : version;
+    }
+}
@@ -1,11 +1,14 @@
 package com.javajedis.legalconnect.common.service;
 
 import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.javajedis.legalconnect.common.resilience.ExternalCallGuard;
+import com.javajedis.legalconnect.common.resilience.ExternalCallGuards;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,6 +25,22 @@ import java.util.List;
 public class AwsServiceImplementation implements AwsService {
 
     private final AmazonS3 s3Client;
+    private final ExternalCallGuards externalCallGuards;
+
+    /**
+     * Returns the guard of S3 calls. Client errors such as a missing key do not count against its circuit.
+     */
+    private ExternalCallGuard s3Guard() {
+        return externalCallGuards.guard(ExternalCallGuards.S3, AwsServiceImplementation::isS3Outage);
+    }
+
+    static boolean isS3Outage(Throwable exception) {
+        if (exception instanceof AmazonServiceException serviceException) {
+            int statusCode = serviceException.getStatusCode();
+            return statusCode == 429 || statusCode >= 500;
+        }
+        return true;
+    }
 
     // Method to upload a file to an S3 bucket
     @Override
@@ -40,7 +59,7 @@ public class AwsServiceImplementation implements AwsService {
             metadata.setContentType(contentType);
         }
 
-        s3Client.putObject(bucketName, keyName, value, metadata);
+        s3Guard().call(() -> s3Client.putObject(bucketName, keyName, value, metadata));
         log.info("File uploaded to bucket({}): {}", bucketName, keyName);
         return keyName;
     }
@@ -51,15 +70,18 @@ public class AwsServiceImplementation implements AwsService {
             final String bucketName,
             final String keyName
     ) throws IOException, AmazonClientException {
-        S3Object s3Object = s3Client.getObject(bucketName, keyName);
-        InputStream inputStream = s3Object.getObjectContent();
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-
-        int len;
-        byte[] buffer = new byte[4096];
-        while ((len = inputStream.read(buffer, 0, buffer.length)) != -1) {
-            outputStream.write(buffer, 0, len);
-        }
+        ByteArrayOutputStream outputStream = s3Guard().call(() -> {
+            S3Object s3Object = s3Client.getObject(bucketName, keyName);
+            InputStream inputStream = s3Object.getObjectContent();
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+            int len;
+            byte[] buffer = new byte[4096];
+            while ((len = inputStream.read(buffer, 0, buffer.length)) != -1) {
+                content.write(buffer, 0, len);
+            }
+            return content;
+        });
 
         log.info("File downloaded from bucket({}): {}", bucketName, keyName);
         return outputStream;
@@ -69,7 +91,7 @@ public class AwsServiceImplementation implements AwsService {
     @Override
     public List<String> listFiles(final String bucketName) throws AmazonClientException {
         List<String> keys = new ArrayList<>();
-        ObjectListing objectListing = s3Client.listObjects(bucketName);
+        ObjectListing objectListing = s3Guard().call(() -> s3Client.listObjects(bucketName));
 
         while (true) {
             List<S3ObjectSummary> objectSummaries = objectListing.getObjectSummaries();
@@ -82,7 +104,8 @@ public class AwsServiceImplementation implements AwsService {
                     .map(S3ObjectSummary::getKey)
                     .forEach(keys::add);
 
-            objectListing = s3Client.listNextBatchOfObjects(objectListing);
+            ObjectListing previousListing = objectListing;
+            objectListing = s3Guard().call(() -> s3Client.listNextBatchOfObjects(previousListing));
         }
 
         log.info("Files found in bucket({}): {}", bucketName, keys);
@@ -95,7 +118,10 @@ public class AwsServiceImplementation implements AwsService {
             final String bucketName,
             final String keyName
     ) throws AmazonClientException {
-        s3Client.deleteObject(bucketName, keyName);
+        s3Guard().call(() -> {
+            s3Client.deleteObject(bucketName, keyName);
+            return null;
+        });
         log.info("File deleted from bucket({}): {}", bucketName, keyName);
     }
 }
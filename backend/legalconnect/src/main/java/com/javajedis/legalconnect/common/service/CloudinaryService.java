@@ -10,6 +10,9 @@ import org.springframework.web.multipart.MultipartFile;
 import com.cloudinary.Cloudinary;
 import com.cloudinary.Transformation;
 import com.cloudinary.utils.ObjectUtils;
+import com.javajedis.legalconnect.common.exception.ExternalServiceUnavailableException;
+import com.javajedis.legalconnect.common.resilience.ExternalCallGuard;
+import com.javajedis.legalconnect.common.resilience.ExternalCallGuards;
 import com.javajedis.legalconnect.user.ProfilePictureDTO;
 
 import lombok.extern.slf4j.Slf4j;
@@ -19,10 +22,13 @@ import lombok.extern.slf4j.Slf4j;
 public class CloudinaryService {
 
     private final Cloudinary cloudinary;
+    private final ExternalCallGuard guard;
 
     public CloudinaryService(@Value("${cloudinary.cloud-name}") String cloudName,
                            @Value("${cloudinary.api-key}") String apiKey,
-                           @Value("${cloudinary.api-secret}") String apiSecret) {
+                           @Value("${cloudinary.api-secret}") String apiSecret,
+                           ExternalCallGuards externalCallGuards) {
+        this.guard = externalCallGuards.guard(ExternalCallGuards.CLOUDINARY);
         this.cloudinary = new Cloudinary(ObjectUtils.asMap(
                 "cloud_name", cloudName,
                 "api_key", apiKey,
@@ -42,8 +48,9 @@ public class CloudinaryService {
                     "fetch_format", "auto"
             );
 
+            byte[] bytes = file.getBytes();
             @SuppressWarnings("unchecked")
-            Map<String, Object> uploadResult = cloudinary.uploader().upload(file.getBytes(), uploadParams);
+            Map<String, Object> uploadResult = guard.call(() -> cloudinary.uploader().upload(bytes, uploadParams));
             String fullPictureUrl = (String) uploadResult.get("secure_url");
             String publicId = (String) uploadResult.get("public_id");
 
@@ -70,10 +77,10 @@ public class CloudinaryService {
     public void deleteProfilePicture(String publicId) {
         try {
             if (publicId != null && !publicId.isEmpty()) {
-                cloudinary.uploader().destroy(publicId, ObjectUtils.emptyMap());
+                guard.call(() -> cloudinary.uploader().destroy(publicId, ObjectUtils.emptyMap()));
                 log.info("Successfully deleted image with public_id: {}", publicId);
             }
-        } catch (IOException e) {
+        } catch (IOException | ExternalServiceUnavailableException e) {
             log.error("Error deleting image from Cloudinary: {}", e.getMessage(), e);
         }
     }
@@ -1,16 +1,21 @@
 package com.javajedis.legalconnect.common.service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.regex.Pattern;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
@@ -21,15 +26,18 @@ import lombok.extern.slf4j.Slf4j;
 public class EmailService {
     private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
     private final JavaMailSender mailSender;
-    private final TemplateEngine templateEngine;
+    private final EmailTemplateRenderer templateRenderer;
+    private final PooledSmtpSender smtpSender;
 
     private final String fromEmail;
 
     public EmailService(JavaMailSender mailSender,
-                        TemplateEngine templateEngine,
+                        EmailTemplateRenderer templateRenderer,
+                        PooledSmtpSender smtpSender,
                         @Value("${spring.mail.username}") String fromEmail) {
         this.mailSender = mailSender;
-        this.templateEngine = templateEngine;
+        this.templateRenderer = templateRenderer;
+        this.smtpSender = smtpSender;
         this.fromEmail = fromEmail;
     }
 
@@ -53,18 +61,79 @@ public class EmailService {
 
     /**
      * Send an email using a template (for OTP, notifications, etc.)
+     * Returns before the email is sent, which still goes over the pooled SMTP connections;
+     * callers already on a worker thread should use {@link #deliverTemplateEmail} instead.
      */
     @Async
     public void sendTemplateEmail(String to, String subject, String templateName, Map<String, Object> variables) {
-        if (to == null || to.isEmpty() || !EMAIL_PATTERN.matcher(to).matches()) {
+        if (!isValidAddress(to)) {
             log.warn("Invalid email address: {}", to);
             return;
         }
-        Context context = new Context();
-        if (variables != null) {
-            context.setVariables(variables);
+        try {
+            deliverTemplateEmail(to, subject, templateName, variables);
+        } catch (MailException e) {
+            log.error("Failed to send template email to {}: {}", to, e.getMessage());
         }
-        String htmlContent = templateEngine.process(templateName, context);
+    }
+
+    /**
+     * Send an email using a template on the calling thread, reporting failures to the caller.
+     * Used by the notification outbox relay, which retries failed deliveries.
+     *
+     * @throws IllegalArgumentException if the address is invalid
+     * @throws MailException            if the email could not be built or sent
+     */
+    public void deliverTemplateEmail(String to, String subject, String templateName, Map<String, Object> variables) {
+        smtpSender.send(buildTemplateMessage(new TemplateEmail(to, subject, templateName, variables)));
+        log.info("Sent template email to {} with subject {} using template {}", to, subject, templateName);
+    }
+
+    /**
+     * Send several template emails over one pooled SMTP connection, for fan-out.
+     * An email that cannot be built or sent does not stop the others.
+     *
+     * @param emails the emails to send
+     * @return the failure of each email in input order, null where the email was sent
+     */
+    public List<RuntimeException> deliverTemplateEmails(List<TemplateEmail> emails) {
+        List<RuntimeException> failures = new ArrayList<>(Collections.nCopies(emails.size(), null));
+        List<MimeMessage> messages = new ArrayList<>();
+        List<Integer> messageIndexes = new ArrayList<>();
+        for (int i = 0; i < emails.size(); i++) {
+            try {
+                messages.add(buildTemplateMessage(emails.get(i)));
+                messageIndexes.add(i);
+            } catch (RuntimeException e) {
+                // Covers template errors too, so one bad email never fails the whole batch
+                failures.set(i, e);
+            }
+        }
+
+        try {
+            smtpSender.sendBatch(messages);
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            for (int j = 0; j < messages.size(); j++) {
+                Exception cause = failedMessages.isEmpty() ? e : failedMessages.get(messages.get(j));
+                if (cause != null) {
+                    failures.set(messageIndexes.get(j), cause instanceof RuntimeException runtime
+                            ? runtime : new MailSendException(cause.getMessage(), cause));
+                }
+            }
+        } catch (RuntimeException e) {
+            messageIndexes.forEach(index -> failures.set(index, e));
+        }
+        long failed = failures.stream().filter(Objects::nonNull).count();
+        log.info("Sent {} of {} template emails in a batch", emails.size() - failed, emails.size());
+        return failures;
+    }
+
+    private MimeMessage buildTemplateMessage(TemplateEmail email) {
+        if (!isValidAddress(email.to())) {
+            throw new IllegalArgumentException("Invalid email address: " + email.to());
+        }
+        String htmlContent = templateRenderer.render(email.templateName(), email.variables());
         if (htmlContent == null) {
             htmlContent = "";
         }
@@ -72,13 +141,27 @@ public class EmailService {
             MimeMessage mimeMessage = mailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true);
             helper.setFrom(fromEmail);
-            helper.setTo(to);
-            helper.setSubject(subject);
+            helper.setTo(email.to());
+            helper.setSubject(email.subject());
             helper.setText(htmlContent, true);
-            mailSender.send(mimeMessage);
-            log.info("Sent template email to {} with subject {} using template {}", to, subject, templateName);
-        } catch (MessagingException | org.springframework.mail.MailException e) {
-            log.error("Failed to send template email to {}: {}", to, e.getMessage());
+            return mimeMessage;
+        } catch (MessagingException e) {
+            throw new MailPreparationException("Failed to build email to " + email.to(), e);
         }
     }
+
+    private static boolean isValidAddress(String to) {
+        return to != null && !to.isEmpty() && EMAIL_PATTERN.matcher(to).matches();
+    }
+
+    /**
+     * A template email to send in a batch.
+     *
+     * @param to           the recipient address
+     * @param subject      the subject
+     * @param templateName the template
+     * @param variables    the template variables
+     */
+    public record TemplateEmail(String to, String subject, String templateName, Map<String, Object> variables) {
+    }
 }
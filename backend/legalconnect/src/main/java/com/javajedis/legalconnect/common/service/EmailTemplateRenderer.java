@@ -0,0 +1,135 @@
+package com.javajedis.legalconnect.common.service;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.exceptions.TemplateEngineException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Renders email templates, reusing the output of identical renders.
+ *
+ * <p>Every recipient of a fan-out, such as a blog publish or an admin announcement, gets the same body.
+ * Renders are memoized by template name and variables, so the template runs once per distinct set of
+ * variables. Only variables made of immutable values are memoized; anything else is rendered every time.
+ * Entries expire after a minute, which keeps bodies that print the current time close to it.
+ *
+ * <p>Parsed templates are cached by the template engine ({@code spring.thymeleaf.cache}); the email
+ * templates are parsed at startup so the first emails do not pay for it.
+ */
+@Slf4j
+@Component
+public class EmailTemplateRenderer {
+    static final String METRIC_RENDER = "mail.template.render";
+    static final List<String> PRELOADED_TEMPLATES = List.of("notification-email", "notification-digest",
+            "otp-verification");
+
+    private static final long MAX_SIZE = 1_000;
+    private static final Duration ENTRY_TTL = Duration.ofMinutes(1);
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(String.class, Boolean.class, Character.class,
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, BigDecimal.class,
+            BigInteger.class, UUID.class);
+
+    private final TemplateEngine templateEngine;
+    private final Cache<RenderKey, String> rendered = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterWrite(ENTRY_TTL)
+            .build();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter uncacheableCounter;
+
+    public EmailTemplateRenderer(TemplateEngine templateEngine, MeterRegistry meterRegistry) {
+        this.templateEngine = templateEngine;
+        this.hitCounter = renderCounter(meterRegistry, "hit");
+        this.missCounter = renderCounter(meterRegistry, "miss");
+        this.uncacheableCounter = renderCounter(meterRegistry, "uncacheable");
+    }
+
+    /**
+     * Renders a template, reusing an earlier render with the same variables.
+     *
+     * @param templateName the template
+     * @param variables    the template variables, may be null
+     * @return the rendered body
+     */
+    public String render(String templateName, Map<String, Object> variables) {
+        Map<String, Object> values = variables == null ? Map.of() : variables;
+        if (!isMemoizable(values)) {
+            uncacheableCounter.increment();
+            return process(templateName, values);
+        }
+
+        RenderKey key = new RenderKey(templateName, Collections.unmodifiableMap(new HashMap<>(values)));
+        String body = rendered.getIfPresent(key);
+        if (body != null) {
+            hitCounter.increment();
+            return body;
+        }
+        missCounter.increment();
+        body = process(templateName, key.variables());
+        if (body != null) {
+            rendered.put(key, body);
+        }
+        return body;
+    }
+
+    /**
+     * Parses the email templates into the template engine cache.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadTemplates() {
+        for (String templateName : PRELOADED_TEMPLATES) {
+            try {
+                templateEngine.process(templateName, new Context());
+            } catch (TemplateEngineException e) {
+                log.warn("Failed to preload email template {}: {}", templateName, e.getMessage());
+            }
+        }
+        log.info("Preloaded {} email templates", PRELOADED_TEMPLATES.size());
+    }
+
+    static boolean isMemoizable(Map<String, Object> variables) {
+        for (Object value : variables.values()) {
+            if (value != null && !IMMUTABLE_TYPES.contains(value.getClass()) && !(value instanceof Enum<?>)
+                    && !value.getClass().getPackageName().equals("java.time")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String process(String templateName, Map<String, Object> variables) {
+        Context context = new Context();
+        context.setVariables(variables);
+        return templateEngine.process(templateName, context);
+    }
+
+    private static Counter renderCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_RENDER)
+                .description("Email template renders by memoization result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record RenderKey(String templateName, Map<String, Object> variables) {
+    }
+}
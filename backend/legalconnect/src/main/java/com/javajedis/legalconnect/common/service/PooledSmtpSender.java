@@ -0,0 +1,259 @@
+package com.javajedis.legalconnect.common.service;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends MIME messages over a small pool of authenticated SMTP connections.
+ *
+ * <p>{@link JavaMailSender#send(MimeMessage)} opens a connection, with its TLS handshake and login, for
+ * every call. This sender keeps up to {@code pool.size} connections open and sends each batch over one of
+ * them. Connections idle for longer than {@code pool.max-idle-ms} are closed instead of reused, and a
+ * connection that has carried {@code pool.max-messages-per-connection} messages is replaced, within a
+ * batch if need be, since servers drop idle sessions and limit messages per session.
+ */
+@Slf4j
+@Component
+public class PooledSmtpSender {
+    static final String METRIC_SEND = "mail.smtp.send";
+    static final String METRIC_CONNECTIONS = "mail.smtp.connections";
+
+    private static final String DEFAULT_PROTOCOL = "smtp";
+
+    private final JavaMailSender mailSender;
+    private final Semaphore permits;
+    private final BlockingQueue<PooledTransport> idle;
+    private final long maxIdleNanos;
+    private final int maxMessagesPerConnection;
+    private final Duration acquireTimeout;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter connectionCounter;
+
+    public PooledSmtpSender(JavaMailSender mailSender,
+                            MeterRegistry meterRegistry,
+                            @Value("${spring.custom.mail.pool.size:2}") int poolSize,
+                            @Value("${spring.custom.mail.pool.max-idle-ms:30000}") long maxIdleMillis,
+                            @Value("${spring.custom.mail.pool.max-messages-per-connection:500}") int maxMessagesPerConnection,
+                            @Value("${spring.custom.mail.pool.acquire-timeout-ms:30000}") long acquireTimeoutMillis) {
+        this.mailSender = mailSender;
+        this.permits = new Semaphore(poolSize, true);
+        this.idle = new LinkedBlockingQueue<>(poolSize);
+        this.maxIdleNanos = TimeUnit.MILLISECONDS.toNanos(maxIdleMillis);
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.acquireTimeout = Duration.ofMillis(acquireTimeoutMillis);
+        this.successTimer = sendTimer(meterRegistry, "success");
+        this.failureTimer = sendTimer(meterRegistry, "failure");
+        this.connectionCounter = Counter.builder(METRIC_CONNECTIONS)
+                .description("SMTP connections opened")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Sends one message over a pooled connection.
+     *
+     * @throws MailSendException if the message could not be sent
+     */
+    public void send(MimeMessage message) {
+        sendBatch(List.of(message));
+    }
+
+    /**
+     * Sends messages over a single pooled connection. A message that fails does not stop the others.
+     *
+     * @param messages the messages, sent in order
+     * @throws MailSendException listing the messages that could not be sent
+     */
+    public void sendBatch(List<MimeMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        if (!(mailSender instanceof JavaMailSenderImpl senderImpl)) {
+            // No access to the session, e.g. a custom sender; let it manage its own connections.
+            long start = System.nanoTime();
+            try {
+                mailSender.send(messages.toArray(MimeMessage[]::new));
+                successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            } catch (RuntimeException e) {
+                failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+            return;
+        }
+
+        acquirePermit();
+        PooledTransport pooled = null;
+        Map<Object, Exception> failures = new LinkedHashMap<>();
+        try {
+            pooled = borrow(senderImpl);
+            // Checked once per batch: on a live SMTP connection each check is a NOOP round trip.
+            boolean connected = pooled.transport.isConnected();
+            for (int i = 0; i < messages.size(); i++) {
+                MimeMessage message = messages.get(i);
+                if (pooled.sent >= maxMessagesPerConnection) {
+                    // The server may refuse further messages on this session; carry on over a new one.
+                    closeQuietly(pooled.transport);
+                    pooled = new PooledTransport(newTransport(senderImpl));
+                    connected = false;
+                }
+                if (!connected) {
+                    long start = System.nanoTime();
+                    try {
+                        connect(senderImpl, pooled.transport);
+                        connected = true;
+                    } catch (MessagingException e) {
+                        log.error("Failed to connect to SMTP server {}: {}", senderImpl.getHost(), e.getMessage());
+                        for (MimeMessage unsent : messages.subList(i, messages.size())) {
+                            failures.put(unsent, e);
+                            failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                        }
+                        break;
+                    }
+                }
+                if (sendMessage(pooled, message, failures)) {
+                    pooled.sent++;
+                } else {
+                    connected = pooled.transport.isConnected();
+                }
+            }
+        } finally {
+            release(pooled);
+            permits.release();
+        }
+        if (!failures.isEmpty()) {
+            throw new MailSendException(failures);
+        }
+    }
+
+    /**
+     * Closes the idle connections.
+     */
+    @PreDestroy
+    public void shutdown() {
+        PooledTransport pooled;
+        while ((pooled = idle.poll()) != null) {
+            closeQuietly(pooled.transport);
+        }
+    }
+
+    private boolean sendMessage(PooledTransport pooled, MimeMessage message, Map<Object, Exception> failures) {
+        long start = System.nanoTime();
+        try {
+            if (message.getSentDate() == null) {
+                message.setSentDate(new Date());
+            }
+            message.saveChanges();
+            Address[] recipients = message.getAllRecipients();
+            pooled.transport.sendMessage(message, recipients != null ? recipients : new Address[0]);
+            successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return true;
+        } catch (MessagingException e) {
+            failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            failures.put(message, e);
+            log.warn("Failed to send email over pooled SMTP connection: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private PooledTransport borrow(JavaMailSenderImpl senderImpl) {
+        PooledTransport pooled;
+        while ((pooled = idle.poll()) != null) {
+            if (System.nanoTime() - pooled.lastUsedNanos < maxIdleNanos) {
+                return pooled;
+            }
+            closeQuietly(pooled.transport);
+        }
+        return new PooledTransport(newTransport(senderImpl));
+    }
+
+    private Transport newTransport(JavaMailSenderImpl senderImpl) {
+        try {
+            String protocol = StringUtils.hasText(senderImpl.getProtocol()) ? senderImpl.getProtocol() : DEFAULT_PROTOCOL;
+            return senderImpl.getSession().getTransport(protocol);
+        } catch (MessagingException e) {
+            throw new MailSendException("Failed to create SMTP transport", e);
+        }
+    }
+
+    private void release(PooledTransport pooled) {
+        if (pooled == null) {
+            return;
+        }
+        if (pooled.sent >= maxMessagesPerConnection || !idle.offer(pooled.touch())) {
+            closeQuietly(pooled.transport);
+        }
+    }
+
+    private void connect(JavaMailSenderImpl senderImpl, Transport transport) throws MessagingException {
+        String username = StringUtils.hasLength(senderImpl.getUsername()) ? senderImpl.getUsername() : null;
+        String password = username != null ? senderImpl.getPassword() : null;
+        transport.connect(senderImpl.getHost(), senderImpl.getPort(), username, password);
+        connectionCounter.increment();
+        log.debug("Opened SMTP connection to {}", senderImpl.getHost());
+    }
+
+    private void acquirePermit() {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new MailSendException("Timed out waiting for a pooled SMTP connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted while waiting for a pooled SMTP connection", e);
+        }
+    }
+
+    private static void closeQuietly(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("Failed to close SMTP connection: {}", e.getMessage());
+        }
+    }
+
+    private static Timer sendTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder(METRIC_SEND)
+                .description("Emails sent over pooled SMTP connections by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static final class PooledTransport {
+        private final Transport transport;
+        private long lastUsedNanos = System.nanoTime();
+        private int sent;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        private PooledTransport touch() {
+            lastUsedNanos = System.nanoTime();
+            return this;
+        }
+    }
+}
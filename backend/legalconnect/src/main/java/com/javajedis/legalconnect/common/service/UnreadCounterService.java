@@ -0,0 +1,331 @@
+package com.javajedis.legalconnect.common.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-user unread counters kept in Redis, so unread badges can be served without counting rows.
+ *
+ * <p>Each user has one hash per scope (for example chat or notifications). The hash holds one field per
+ * bucket (for example a conversation ID) with its unread count, plus a version field that changes on every
+ * write. A missing hash means the counters are unknown: reads then load them from the database and store
+ * them, and writes are skipped. Increases made inside a transaction wait for it to commit, so a badge never
+ * counts an item that was rolled back; decreases apply at once, so the caller can read its own change back.
+ * Counters expire after a day and are reconciled periodically, which bounds any drift from failed writes.
+ */
+@Slf4j
+@Service
+public class UnreadCounterService {
+    static final String KEY_PREFIX = "unread:";
+    static final String VERSION_FIELD = "_version";
+
+    private static final Duration COUNTER_TTL = Duration.ofDays(1);
+    private static final Duration RECONCILE_LOCK_TTL = Duration.ofMinutes(5);
+    private static final String RECONCILE_LOCK_PREFIX = "unread-reconcile:";
+    private static final int SCAN_BATCH_SIZE = 500;
+
+    // Applies a delta to an existing hash, dropping buckets that reach zero
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+                    + "local count = redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2]) "
+                    + "if count <= 0 then redis.call('HDEL', KEYS[1], ARGV[1]) end "
+                    + "redis.call('HINCRBY', KEYS[1], '" + VERSION_FIELD + "', 1) "
+                    + "return 1",
+            Long.class);
+
+    // Clears one bucket of an existing hash
+    private static final RedisScript<Long> RESET_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+                    + "redis.call('HDEL', KEYS[1], ARGV[1]) "
+                    + "redis.call('HINCRBY', KEYS[1], '" + VERSION_FIELD + "', 1) "
+                    + "return 1",
+            Long.class);
+
+    // Replaces the hash when its version still matches ARGV[1] ('' means the hash must not exist)
+    private static final RedisScript<Long> STORE_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('HGET', KEYS[1], '" + VERSION_FIELD + "') "
+                    + "if (version or '') ~= ARGV[1] then return 0 end "
+                    + "redis.call('DEL', KEYS[1]) "
+                    + "redis.call('HSET', KEYS[1], '" + VERSION_FIELD + "', (tonumber(version) or 0) + 1) "
+                    + "for i = 3, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end "
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[2]) "
+                    + "return 1",
+            Long.class);
+
+    // Deletes the reconciliation lock only while this node still holds it
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end "
+                    + "return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String lockOwner = UUID.randomUUID().toString();
+
+    public UnreadCounterService(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * Gets the total unread count of a user in a scope, loading the counters on a miss.
+     *
+     * @param scope  the counter scope
+     * @param userId the user ID
+     * @param loader loads the unread count per bucket from the database
+     * @return the total unread count
+     */
+    public long getTotal(String scope, UUID userId, Function<UUID, Map<String, Long>> loader) {
+        String key = key(scope, userId);
+        try {
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(key);
+            if (!entries.isEmpty()) {
+                return sum(entries);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Redis unavailable for unread counter {}, counting from database: {}", key, e.getMessage());
+            return total(loader.apply(userId));
+        }
+
+        Map<String, Long> counts = loader.apply(userId);
+        store(key, "", counts);
+        return total(counts);
+    }
+
+    /**
+     * Adds a delta to one bucket of a user's counters. A positive delta waits for the current transaction
+     * to commit. Does nothing if the counters are not loaded.
+     *
+     * @param scope  the counter scope
+     * @param userId the user ID
+     * @param bucket the bucket, for example a conversation ID
+     * @param delta  the change in unread count
+     */
+    public void increment(String scope, UUID userId, String bucket, long delta) {
+        Runnable write = () -> execute(INCREMENT_SCRIPT, key(scope, userId), bucket, String.valueOf(delta));
+        if (delta > 0) {
+            afterCommit(write);
+        } else {
+            write.run();
+        }
+    }
+
+    /**
+     * Adds a delta to the same bucket of several users' counters in one pipelined round trip, for fan-outs.
+     * A positive delta waits for the current transaction to commit. Users whose counters are not loaded are skipped.
+     *
+     * @param scope   the counter scope
+     * @param userIds the user IDs
+     * @param bucket  the bucket
+     * @param delta   the change in unread count
+     */
+    public void incrementAll(String scope, Collection<UUID> userIds, String bucket, long delta) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<UUID> targets = List.copyOf(userIds);
+        Runnable write = () -> executeAll(scope, targets, bucket, delta);
+        if (delta > 0) {
+            afterCommit(write);
+        } else {
+            write.run();
+        }
+    }
+
+    /**
+     * Sets one bucket of a user's counters to zero. Does nothing if the counters are not loaded.
+     *
+     * @param scope  the counter scope
+     * @param userId the user ID
+     * @param bucket the bucket, for example a conversation ID
+     */
+    public void reset(String scope, UUID userId, String bucket) {
+        execute(RESET_SCRIPT, key(scope, userId), bucket);
+    }
+
+    private void executeAll(String scope, List<UUID> userIds, String bucket, long delta) {
+        String script = INCREMENT_SCRIPT.getScriptAsString();
+        String deltaArg = String.valueOf(delta);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (UUID userId : userIds) {
+                    stringConnection.eval(script, ReturnType.INTEGER, 1, key(scope, userId), bucket, deltaArg);
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("Failed to update {} unread counters for {}, they will be corrected on reconciliation: {}",
+                    userIds.size(), scope, e.getMessage());
+        }
+    }
+
+    /**
+     * Compares every loaded counter of a scope with the database and replaces the ones that drifted.
+     * Counters written while a user is being compared are left alone until the next run. Only one node
+     * reconciles a scope at a time.
+     *
+     * @param scope  the counter scope
+     * @param loader loads the unread count per bucket from the database
+     */
+    public void reconcile(String scope, Function<UUID, Map<String, Long>> loader) {
+        String lockKey = RECONCILE_LOCK_PREFIX + scope;
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, lockOwner, RECONCILE_LOCK_TTL))) {
+                log.debug("Unread counters for {} are being reconciled by another node", scope);
+                return;
+            }
+        } catch (DataAccessException e) {
+            log.warn("Skipping unread counter reconciliation for {}: {}", scope, e.getMessage());
+            return;
+        }
+
+        int checked = 0;
+        int corrected = 0;
+        try {
+            for (String key : scanKeys(scope)) {
+                UUID userId = parseUserId(scope, key);
+                if (userId == null) {
+                    continue;
+                }
+                Map<Object, Object> entries = redisTemplate.opsForHash().entries(key);
+                Object version = entries.get(VERSION_FIELD);
+                if (version == null) {
+                    continue;
+                }
+                Map<String, Long> counts = nonZero(loader.apply(userId));
+                checked++;
+                if (!counts.equals(buckets(entries)) && store(key, version.toString(), counts)) {
+                    corrected++;
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("Unread counter reconciliation for {} stopped early: {}", scope, e.getMessage());
+        } finally {
+            releaseLock(lockKey);
+        }
+        if (corrected > 0) {
+            log.info("Reconciled {} unread counters for {}, corrected {}", checked, scope, corrected);
+        } else {
+            log.debug("Reconciled {} unread counters for {}, no drift found", checked, scope);
+        }
+    }
+
+    private boolean store(String key, String expectedVersion, Map<String, Long> counts) {
+        List<String> args = new ArrayList<>();
+        args.add(expectedVersion);
+        args.add(String.valueOf(COUNTER_TTL.toMillis()));
+        counts.forEach((bucket, count) -> {
+            if (count > 0) {
+                args.add(bucket);
+                args.add(String.valueOf(count));
+            }
+        });
+        try {
+            return Long.valueOf(1).equals(redisTemplate.execute(STORE_SCRIPT, List.of(key), args.toArray()));
+        } catch (DataAccessException e) {
+            log.warn("Failed to store unread counter {}: {}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    private void execute(RedisScript<Long> script, String key, Object... args) {
+        try {
+            redisTemplate.execute(script, List.of(key), args);
+        } catch (DataAccessException e) {
+            log.warn("Failed to update unread counter {}, it will be corrected on reconciliation: {}", key, e.getMessage());
+        }
+    }
+
+    private List<String> scanKeys(String scope) {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + scope + ":*").count(SCAN_BATCH_SIZE).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+            }
+        }
+        return keys;
+    }
+
+    private void releaseLock(String lockKey) {
+        try {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), lockOwner);
+        } catch (DataAccessException e) {
+            log.debug("Failed to release reconciliation lock {}, it will expire: {}", lockKey, e.getMessage());
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static Map<String, Long> buckets(Map<Object, Object> entries) {
+        Map<String, Long> buckets = new HashMap<>();
+        entries.forEach((field, value) -> {
+            if (!VERSION_FIELD.equals(field)) {
+                buckets.put(field.toString(), Long.parseLong(value.toString()));
+            }
+        });
+        return buckets;
+    }
+
+    private static Map<String, Long> nonZero(Map<String, Long> counts) {
+        Map<String, Long> nonZero = new HashMap<>();
+        counts.forEach((bucket, count) -> {
+            if (count > 0) {
+                nonZero.put(bucket, count);
+            }
+        });
+        return nonZero;
+    }
+
+    private static long sum(Map<Object, Object> entries) {
+        return total(buckets(entries));
+    }
+
+    private static long total(Map<String, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static UUID parseUserId(String scope, String key) {
+        try {
+            return UUID.fromString(key.substring((KEY_PREFIX + scope + ":").length()));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring unread counter with malformed key: {}", key);
+            return null;
+        }
+    }
+
+    private static String key(String scope, UUID userId) {
+        return KEY_PREFIX + scope + ":" + userId;
+    }
+}
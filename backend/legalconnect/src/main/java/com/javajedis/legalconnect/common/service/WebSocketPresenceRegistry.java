@@ -0,0 +1,178 @@
+package com.javajedis.legalconnect.common.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cluster-wide record of which nodes hold a WebSocket connection for each user, kept in Redis.
+ *
+ * <p>Each user has one hash whose fields are node IDs and whose values are the time of the node's last
+ * heartbeat. Nodes refresh their users on every heartbeat; a field older than {@link #PRESENCE_TTL} belongs
+ * to a node that stopped without cleaning up and is ignored. The whole hash also expires after that time.
+ */
+@Slf4j
+@Component
+public class WebSocketPresenceRegistry {
+    static final String KEY_PREFIX = "ws:presence:";
+    static final Duration PRESENCE_TTL = Duration.ofSeconds(60);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public WebSocketPresenceRegistry(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * Gets the ID identifying this node in the registry and in relayed messages.
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Records that a user is connected to this node.
+     *
+     * @param userId the user ID
+     */
+    public void markOnline(UUID userId) {
+        try {
+            String key = key(userId);
+            redisTemplate.opsForHash().put(key, nodeId, String.valueOf(System.currentTimeMillis()));
+            redisTemplate.expire(key, PRESENCE_TTL);
+        } catch (DataAccessException e) {
+            log.warn("Failed to record WebSocket presence for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * Records that a user no longer has a connection on this node.
+     *
+     * @param userId the user ID
+     */
+    public void markOffline(UUID userId) {
+        try {
+            redisTemplate.opsForHash().delete(key(userId), nodeId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to clear WebSocket presence for user {}, it will expire: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * Refreshes the presence of every user connected to this node in one pipelined round trip.
+     *
+     * @param userIds the users connected to this node
+     */
+    public void heartbeat(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        String now = String.valueOf(System.currentTimeMillis());
+        long ttlSeconds = PRESENCE_TTL.toSeconds();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (UUID userId : userIds) {
+                    String key = key(userId);
+                    stringConnection.hSet(key, nodeId, now);
+                    stringConnection.expire(key, ttlSeconds);
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("Failed to refresh WebSocket presence for {} users: {}", userIds.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Checks whether a user has a live connection on any other node.
+     *
+     * @param userId the user ID
+     * @return true if another node reported the user within the presence TTL, false otherwise or if Redis is down
+     */
+    public boolean isOnlineElsewhere(UUID userId) {
+        Map<Object, Object> nodes;
+        try {
+            nodes = redisTemplate.opsForHash().entries(key(userId));
+        } catch (DataAccessException e) {
+            log.warn("Failed to read WebSocket presence for user {}: {}", userId, e.getMessage());
+            return false;
+        }
+        return !liveOtherNodes(nodes, System.currentTimeMillis() - PRESENCE_TTL.toMillis()).isEmpty();
+    }
+
+    /**
+     * Finds the other nodes holding a connection for each of several users, in one pipelined round trip.
+     *
+     * @param userIds the user IDs
+     * @return the other nodes of every user connected elsewhere; empty if none is, or if Redis is down
+     */
+    public Map<UUID, Set<String>> nodesElsewhere(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        List<UUID> ordered = new ArrayList<>(userIds);
+        List<Object> results;
+        try {
+            results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (UUID userId : ordered) {
+                    stringConnection.hGetAll(key(userId));
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("Failed to read WebSocket presence for {} users: {}", ordered.size(), e.getMessage());
+            return Map.of();
+        }
+
+        long oldest = System.currentTimeMillis() - PRESENCE_TTL.toMillis();
+        Map<UUID, Set<String>> nodesByUser = new HashMap<>();
+        for (int i = 0; i < ordered.size() && i < results.size(); i++) {
+            if (results.get(i) instanceof Map<?, ?> nodes) {
+                Set<String> live = liveOtherNodes(nodes, oldest);
+                if (!live.isEmpty()) {
+                    nodesByUser.put(ordered.get(i), live);
+                }
+            }
+        }
+        return nodesByUser;
+    }
+
+    private Set<String> liveOtherNodes(Map<?, ?> nodes, long oldest) {
+        Set<String> live = new HashSet<>();
+        for (Map.Entry<?, ?> entry : nodes.entrySet()) {
+            if (!nodeId.equals(entry.getKey()) && parseMillis(entry.getValue()) >= oldest) {
+                live.add(entry.getKey().toString());
+            }
+        }
+        return live;
+    }
+
+    private static long parseMillis(Object value) {
+        try {
+            return Long.parseLong(value.toString());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static String key(UUID userId) {
+        return KEY_PREFIX + userId;
+    }
+}
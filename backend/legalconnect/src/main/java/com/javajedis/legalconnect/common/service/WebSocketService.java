@@ -1,15 +1,34 @@
 package com.javajedis.legalconnect.common.service;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.socket.messaging.SessionConnectEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.javajedis.legalconnect.notifications.dto.NotificationResponseDTO;
 import com.javajedis.legalconnect.notifications.exception.NotificationDeliveryException;
 
@@ -17,22 +36,48 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * WebSocket service for managing active connections and real-time notification delivery.
- * Maintains active user sessions and provides methods to send notifications to specific users.
+ * Tracks every session of each user in the {@link WebSocketSessionIndex} and provides methods to send
+ * notifications to specific users.
+ *
+ * <p>With {@code spring.custom.websocket.broker-mode} set to {@code redis}, each node also records its users in
+ * the {@link WebSocketPresenceRegistry} and relays messages for users connected elsewhere over Redis pub/sub,
+ * so a message produced on any node reaches the user. The default {@code local} mode only delivers to users
+ * connected to this node. Messages for many users at once are grouped by the node holding each user and published
+ * in batches on that node's own channel.
  */
 @Slf4j
 @Service
-public class WebSocketService {
+public class WebSocketService implements MessageListener {
+    public static final String RELAY_CHANNEL = "ws:relay";
 
-    private final SimpMessagingTemplate messagingTemplate;
-
-    // Store active user sessions: userId -> sessionId
-    private final ConcurrentHashMap<UUID, String> activeUserSessions = new ConcurrentHashMap<>();
+    static final int RELAY_BATCH_SIZE = 500;
 
-    // Store session to user mapping: sessionId -> userId (for cleanup)
-    private final ConcurrentHashMap<String, UUID> sessionToUserMap = new ConcurrentHashMap<>();
+    private static final String REDIS_BROKER_MODE = "redis";
+    private static final String BROADCAST_DESTINATION = "/topic/broadcast";
+    private static final Duration STALE_SESSION_AGE = Duration.ofMinutes(5);
 
-    public WebSocketService(SimpMessagingTemplate messagingTemplate) {
+    private final SimpMessagingTemplate messagingTemplate;
+    private final WebSocketSessionIndex sessionIndex;
+    private final SimpUserRegistry simpUserRegistry;
+    private final WebSocketPresenceRegistry presenceRegistry;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean relayEnabled;
+
+    public WebSocketService(SimpMessagingTemplate messagingTemplate,
+                            WebSocketSessionIndex sessionIndex,
+                            SimpUserRegistry simpUserRegistry,
+                            WebSocketPresenceRegistry presenceRegistry,
+                            StringRedisTemplate redisTemplate,
+                            ObjectMapper objectMapper,
+                            @Value("${spring.custom.websocket.broker-mode:local}") String brokerMode) {
         this.messagingTemplate = messagingTemplate;
+        this.sessionIndex = sessionIndex;
+        this.simpUserRegistry = simpUserRegistry;
+        this.presenceRegistry = presenceRegistry;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.relayEnabled = REDIS_BROKER_MODE.equalsIgnoreCase(brokerMode);
     }
 
     /**
@@ -45,8 +90,10 @@ public class WebSocketService {
             throw new IllegalArgumentException("UserId and notification cannot be null");
         }
 
-        String sessionId = activeUserSessions.get(userId);
-        if (sessionId == null) {
+        // Presence is read once and reused for delivery, so a remote user costs one Redis lookup
+        boolean connectedHere = sessionIndex.isConnected(userId);
+        boolean connectedElsewhere = relayEnabled && presenceRegistry.isOnlineElsewhere(userId);
+        if (!connectedHere && !connectedElsewhere) {
             log.debug("User {} is not connected via WebSocket, skipping real-time delivery", userId);
             return false;
         }
@@ -56,25 +103,83 @@ public class WebSocketService {
             throw new NotificationDeliveryException("Cannot send notification with empty content");
         }
 
-        String topicDestination = "/topic/user-" + userId;
-        messagingTemplate.convertAndSend(topicDestination, notification);
+        String topicDestination = userTopic(userId);
+        boolean delivered = deliver(userId, topicDestination, notification, connectedHere, connectedElsewhere);
 
         log.debug("Notification sent to user {} via WebSocket topic: {}", userId, notification.getContent());
-        return true;
+        return delivered;
+    }
+
+    /**
+     * Sends a notification to each of several users, for fan-outs to many users. Users connected to this node
+     * get theirs directly; in redis broker mode, the users connected elsewhere are looked up in one round trip
+     * and their notifications are published to each of their nodes in batches.
+     *
+     * @param notifications the notification of every user
+     * @return the number of users whose notification was sent locally or relayed
+     */
+    public int sendNotificationsToUsers(Map<UUID, NotificationResponseDTO> notifications) {
+        Set<UUID> reached = new HashSet<>();
+        notifications.forEach((userId, notification) -> {
+            if (sessionIndex.isConnected(userId)) {
+                messagingTemplate.convertAndSend(userTopic(userId), notification);
+                reached.add(userId);
+            }
+        });
+
+        if (relayEnabled && !notifications.isEmpty()) {
+            Map<String, List<RelayMessage>> messagesByNode = new HashMap<>();
+            presenceRegistry.nodesElsewhere(notifications.keySet()).forEach((userId, nodes) -> {
+                RelayMessage relayMessage = new RelayMessage(presenceRegistry.getNodeId(), userId, userTopic(userId),
+                        objectMapper.valueToTree(notifications.get(userId)));
+                nodes.forEach(node -> messagesByNode.computeIfAbsent(node, key -> new ArrayList<>()).add(relayMessage));
+            });
+            messagesByNode.forEach((node, messages) -> {
+                for (int from = 0; from < messages.size(); from += RELAY_BATCH_SIZE) {
+                    List<RelayMessage> batch = messages.subList(from, Math.min(from + RELAY_BATCH_SIZE, messages.size()));
+                    if (relayBatch(node, batch)) {
+                        batch.forEach(relayMessage -> reached.add(relayMessage.userId()));
+                    }
+                }
+            });
+        }
+        log.debug("Sent {} notifications over WebSocket, {} users reached", notifications.size(), reached.size());
+        return reached.size();
+    }
+
+    /**
+     * Gets the channel on which other nodes publish message batches for the users of this node.
+     */
+    public String nodeChannel() {
+        return nodeChannel(presenceRegistry.getNodeId());
+    }
+
+    /**
+     * Sends a message to a destination subscribed by a specific user, on whichever node the user is connected to.
+     *
+     * @param userId      the user ID
+     * @param destination the destination, for example a per-user topic
+     * @param payload     the message payload
+     * @return true if the message was sent locally or relayed to another node, false if the user is not connected
+     */
+    public boolean sendToUser(UUID userId, String destination, Object payload) {
+        return deliver(userId, destination, payload, sessionIndex.isConnected(userId),
+                relayEnabled && presenceRegistry.isOnlineElsewhere(userId));
     }
 
     /**
-     * Checks if a user is currently connected via WebSocket.
+     * Checks if a user is currently connected via WebSocket, on this node or, in redis broker mode, on any node.
      */
     public boolean isUserConnected(UUID userId) {
-        return activeUserSessions.containsKey(userId);
+        return sessionIndex.isConnected(userId) || (relayEnabled && presenceRegistry.isOnlineElsewhere(userId));
     }
 
     /**
-     * Gets the number of active WebSocket connections.
+     * Gets the number of active WebSocket connections on this node. A user connected from several
+     * devices holds one connection per device.
      */
     public int getActiveConnectionCount() {
-        return activeUserSessions.size();
+        return sessionIndex.getSessionCount();
     }
 
     /**
@@ -101,18 +206,13 @@ public class WebSocketService {
         if (userIdObj instanceof String string) {
             UUID userId = UUID.fromString(string);
 
-            String existingSessionId = activeUserSessions.get(userId);
-            if (existingSessionId != null && !existingSessionId.equals(sessionId)) {
-                log.info("User {} had existing WebSocket session {}, replacing with new session {}",
-                        userId, existingSessionId, sessionId);
-                sessionToUserMap.remove(existingSessionId);
+            boolean firstSession = sessionIndex.add(userId, sessionId);
+            if (firstSession && relayEnabled) {
+                presenceRegistry.markOnline(userId);
             }
 
-            activeUserSessions.put(userId, sessionId);
-            sessionToUserMap.put(sessionId, userId);
-
             log.info("User {} connected via WebSocket with session {}", userId, sessionId);
-            log.debug("Active WebSocket connections: {}", activeUserSessions.size());
+            log.debug("Active WebSocket connections: {}", sessionIndex.getSessionCount());
         } else if (userIdObj == null) {
             log.warn("No userId found in WebSocket session attributes for session: {}", sessionId);
         } else {
@@ -135,16 +235,10 @@ public class WebSocketService {
             return;
         }
 
-        UUID userId = sessionToUserMap.remove(sessionId);
+        UUID userId = removeSession(sessionId);
         if (userId != null) {
-            String removedSessionId = activeUserSessions.remove(userId);
-            if (removedSessionId != null && !removedSessionId.equals(sessionId)) {
-                log.warn("Session ID mismatch during cleanup for user {}: expected {}, found {}",
-                        userId, sessionId, removedSessionId);
-            }
-
             log.info("User {} disconnected from WebSocket session {}", userId, sessionId);
-            log.debug("Active WebSocket connections: {}", activeUserSessions.size());
+            log.debug("Active WebSocket connections: {}", sessionIndex.getSessionCount());
         } else {
             log.debug("WebSocket session {} disconnected (no associated user)", sessionId);
         }
@@ -154,10 +248,12 @@ public class WebSocketService {
      * Manually disconnects a user session (for administrative purposes).
      */
     public boolean disconnectUser(UUID userId) {
-        String sessionId = activeUserSessions.remove(userId);
-        if (sessionId != null) {
-            sessionToUserMap.remove(sessionId);
-            log.info("Manually disconnected user {} from WebSocket", userId);
+        int removedSessions = sessionIndex.removeUser(userId);
+        if (removedSessions > 0) {
+            if (relayEnabled) {
+                presenceRegistry.markOffline(userId);
+            }
+            log.info("Manually disconnected user {} from {} WebSocket sessions", userId, removedSessions);
             return true;
         }
         return false;
@@ -174,13 +270,174 @@ public class WebSocketService {
             throw new IllegalArgumentException("Broadcast message cannot be null");
         }
 
+        if (relayEnabled) {
+            relay(null, BROADCAST_DESTINATION, message);
+        }
+
         int activeConnections = getActiveConnectionCount();
         if (activeConnections == 0) {
             log.debug("No active WebSocket connections for broadcast");
             return;
         }
 
-        messagingTemplate.convertAndSend("/topic/broadcast", message);
+        messagingTemplate.convertAndSend(BROADCAST_DESTINATION, message);
         log.info("Broadcast message sent to {} connected users", activeConnections);
     }
+
+    /**
+     * Refreshes the presence of the users connected to this node, so other nodes keep relaying to them.
+     */
+    @Scheduled(fixedRateString = "${spring.custom.websocket.presence-heartbeat-ms:20000}")
+    public void refreshPresence() {
+        if (relayEnabled) {
+            presenceRegistry.heartbeat(sessionIndex.getUserIds());
+        }
+    }
+
+    /**
+     * Removes sessions that have been idle past the stale threshold and that the broker no longer knows about,
+     * which happens when a disconnect event is lost. Idle sessions the broker still holds are kept.
+     */
+    @Scheduled(fixedDelayString = "${spring.custom.websocket.stale-sweep-interval-ms:60000}")
+    public void sweepStaleSessions() {
+        sweepStaleSessions(System.currentTimeMillis() - STALE_SESSION_AGE.toMillis());
+    }
+
+    void sweepStaleSessions(long lastSeenBefore) {
+        int swept = 0;
+        for (String sessionId : sessionIndex.findIdleSessions(lastSeenBefore)) {
+            UUID userId = sessionIndex.getUserId(sessionId);
+            if (userId != null && !isKnownToBroker(userId, sessionId) && removeSession(sessionId) != null) {
+                swept++;
+            }
+        }
+        if (swept > 0) {
+            log.info("Swept {} stale WebSocket sessions, {} remain", swept, sessionIndex.getSessionCount());
+        }
+    }
+
+    /**
+     * Delivers a message relayed by another node to the matching users connected to this node.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (!RELAY_CHANNEL.equals(new String(message.getChannel(), StandardCharsets.UTF_8))) {
+            onBatch(message);
+            return;
+        }
+
+        RelayMessage relayMessage;
+        try {
+            relayMessage = objectMapper.readValue(message.getBody(), RelayMessage.class);
+        } catch (IOException e) {
+            log.warn("Ignoring malformed WebSocket relay message: {}", new String(message.getBody(), StandardCharsets.UTF_8));
+            return;
+        }
+
+        if (presenceRegistry.getNodeId().equals(relayMessage.node())) {
+            return;
+        }
+        if (relayMessage.userId() == null) {
+            if (sessionIndex.getSessionCount() > 0) {
+                messagingTemplate.convertAndSend(relayMessage.destination(), relayMessage.payload());
+            }
+        } else {
+            deliverRelayed(relayMessage);
+        }
+    }
+
+    private void onBatch(Message message) {
+        RelayBatch relayBatch;
+        try {
+            relayBatch = objectMapper.readValue(message.getBody(), RelayBatch.class);
+        } catch (IOException e) {
+            log.warn("Ignoring malformed WebSocket relay batch of {} bytes", message.getBody().length);
+            return;
+        }
+        for (RelayMessage relayMessage : relayBatch.messages()) {
+            if (relayMessage.userId() != null) {
+                deliverRelayed(relayMessage);
+            }
+        }
+    }
+
+    private void deliverRelayed(RelayMessage relayMessage) {
+        if (sessionIndex.isConnected(relayMessage.userId())) {
+            messagingTemplate.convertAndSend(relayMessage.destination(), relayMessage.payload());
+            log.debug("Relayed WebSocket message delivered to user {} at {}", relayMessage.userId(), relayMessage.destination());
+        }
+    }
+
+    private boolean deliver(UUID userId, String destination, Object payload,
+                            boolean connectedHere, boolean connectedElsewhere) {
+        boolean sent = false;
+        if (connectedHere) {
+            messagingTemplate.convertAndSend(destination, payload);
+            sent = true;
+        }
+        if (connectedElsewhere) {
+            sent = relay(userId, destination, payload) || sent;
+        }
+        return sent;
+    }
+
+    private UUID removeSession(String sessionId) {
+        UUID userId = sessionIndex.remove(sessionId);
+        if (userId != null && relayEnabled && !sessionIndex.isConnected(userId)) {
+            presenceRegistry.markOffline(userId);
+        }
+        return userId;
+    }
+
+    private boolean isKnownToBroker(UUID userId, String sessionId) {
+        SimpUser user = simpUserRegistry.getUser(userId.toString());
+        return user != null && user.getSession(sessionId) != null;
+    }
+
+    private boolean relay(UUID userId, String destination, Object payload) {
+        try {
+            RelayMessage relayMessage = new RelayMessage(presenceRegistry.getNodeId(), userId, destination,
+                    objectMapper.valueToTree(payload));
+            redisTemplate.convertAndSend(RELAY_CHANNEL, objectMapper.writeValueAsString(relayMessage));
+            return true;
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.error("Failed to serialize WebSocket message for {}: {}", destination, e.getMessage());
+        } catch (DataAccessException e) {
+            log.warn("Failed to relay WebSocket message for {} to other nodes: {}", destination, e.getMessage());
+        }
+        return false;
+    }
+
+    private boolean relayBatch(String node, List<RelayMessage> messages) {
+        try {
+            String body = objectMapper.writeValueAsString(new RelayBatch(presenceRegistry.getNodeId(), messages));
+            redisTemplate.convertAndSend(nodeChannel(node), body);
+            return true;
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize WebSocket relay batch for node {}: {}", node, e.getMessage());
+        } catch (DataAccessException e) {
+            log.warn("Failed to relay {} WebSocket messages to node {}: {}", messages.size(), node, e.getMessage());
+        }
+        return false;
+    }
+
+    private static String nodeChannel(String node) {
+        return RELAY_CHANNEL + ":" + node;
+    }
+
+    private static String userTopic(UUID userId) {
+        return "/topic/user-" + userId;
+    }
+
+    /**
+     * A message published to the other nodes. A null user ID marks a broadcast.
+     */
+    record RelayMessage(String node, UUID userId, String destination, JsonNode payload) {
+    }
+
+    /**
+     * Messages for users of one node, published on that node's channel.
+     */
+    record RelayBatch(String node, List<RelayMessage> messages) {
+    }
 }
\ No newline at end of file
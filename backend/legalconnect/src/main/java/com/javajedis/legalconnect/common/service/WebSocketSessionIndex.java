@@ -0,0 +1,166 @@
+package com.javajedis.legalconnect.common.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Index of the WebSocket sessions open on this node, by user and by session.
+ *
+ * <p>A user may hold several sessions at once, for example one per device or browser tab. Connects,
+ * disconnects and activity updates are constant time, and reads never block. Each session records when it
+ * last sent a frame, so sessions whose disconnect was missed can be found and swept.
+ */
+@Component
+public class WebSocketSessionIndex {
+
+    private final ConcurrentHashMap<UUID, Set<String>> sessionsByUser = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, SessionEntry> sessions = new ConcurrentHashMap<>();
+
+    public WebSocketSessionIndex(MeterRegistry meterRegistry) {
+        Gauge.builder("websocket.sessions", sessions, ConcurrentHashMap::size)
+                .description("WebSocket sessions open on this node")
+                .register(meterRegistry);
+        Gauge.builder("websocket.users", sessionsByUser, ConcurrentHashMap::size)
+                .description("Users with at least one WebSocket session on this node")
+                .register(meterRegistry);
+        Gauge.builder("websocket.sessions.per.user.max", this, WebSocketSessionIndex::maxSessionsPerUser)
+                .description("Most WebSocket sessions held by a single user on this node")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers a session for a user.
+     *
+     * @param userId    the user ID
+     * @param sessionId the session ID
+     * @return true if this is the user's first session on this node
+     */
+    public boolean add(UUID userId, String sessionId) {
+        sessions.put(sessionId, new SessionEntry(userId, System.currentTimeMillis()));
+        boolean[] first = new boolean[1];
+        sessionsByUser.compute(userId, (id, userSessions) -> {
+            Set<String> updated = userSessions != null ? userSessions : ConcurrentHashMap.newKeySet();
+            first[0] = updated.isEmpty();
+            updated.add(sessionId);
+            return updated;
+        });
+        return first[0];
+    }
+
+    /**
+     * Removes a session.
+     *
+     * @param sessionId the session ID
+     * @return the user that owned the session, or null if the session was unknown
+     */
+    public UUID remove(String sessionId) {
+        SessionEntry entry = sessions.remove(sessionId);
+        if (entry == null) {
+            return null;
+        }
+        sessionsByUser.computeIfPresent(entry.userId(), (id, userSessions) -> {
+            userSessions.remove(sessionId);
+            return userSessions.isEmpty() ? null : userSessions;
+        });
+        return entry.userId();
+    }
+
+    /**
+     * Removes every session of a user.
+     *
+     * @param userId the user ID
+     * @return the number of sessions removed
+     */
+    public int removeUser(UUID userId) {
+        Set<String> userSessions = sessionsByUser.remove(userId);
+        if (userSessions == null) {
+            return 0;
+        }
+        userSessions.forEach(sessions::remove);
+        return userSessions.size();
+    }
+
+    /**
+     * Records activity on a session. Unknown sessions are ignored.
+     *
+     * @param sessionId the session ID
+     */
+    public void touch(String sessionId) {
+        SessionEntry entry = sessions.get(sessionId);
+        if (entry != null) {
+            entry.lastSeen = System.currentTimeMillis();
+        }
+    }
+
+    public boolean isConnected(UUID userId) {
+        return sessionsByUser.containsKey(userId);
+    }
+
+    public UUID getUserId(String sessionId) {
+        SessionEntry entry = sessions.get(sessionId);
+        return entry != null ? entry.userId() : null;
+    }
+
+    public Set<String> getSessions(UUID userId) {
+        Set<String> userSessions = sessionsByUser.get(userId);
+        return userSessions != null ? Set.copyOf(userSessions) : Set.of();
+    }
+
+    public Set<UUID> getUserIds() {
+        return sessionsByUser.keySet();
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    public int getUserCount() {
+        return sessionsByUser.size();
+    }
+
+    /**
+     * Finds the sessions that have not sent a frame since the given time.
+     *
+     * @param lastSeenBefore the cutoff, in epoch milliseconds
+     * @return the idle session IDs
+     */
+    public List<String> findIdleSessions(long lastSeenBefore) {
+        List<String> idle = new ArrayList<>();
+        sessions.forEach((sessionId, entry) -> {
+            if (entry.lastSeen < lastSeenBefore) {
+                idle.add(sessionId);
+            }
+        });
+        return idle;
+    }
+
+    private double maxSessionsPerUser() {
+        int max = 0;
+        for (Set<String> userSessions : sessionsByUser.values()) {
+            max = Math.max(max, userSessions.size());
+        }
+        return max;
+    }
+
+    private static final class SessionEntry {
+        private final UUID userId;
+        private volatile long lastSeen;
+
+        private SessionEntry(UUID userId, long lastSeen) {
+            this.userId = userId;
+            this.lastSeen = lastSeen;
+        }
+
+        private UUID userId() {
+            return userId;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.javajedis.legalconnect.common.exception.EmailNotVerifiedException;
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
 import com.javajedis.legalconnect.user.User;
 import com.javajedis.legalconnect.user.UserRepo;
 
@@ -57,6 +58,16 @@ public class EmailVerificationFilter extends OncePerRequestFilter {
             return;
         }
 
+        // Claims-trusting principals already carry the signed verification status
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            if (!principal.emailVerified()) {
+                log.warn("Unauthorized access attempt: User {} has not verified their email", email);
+                throw new EmailNotVerifiedException("Please verify your email before accessing this resource");
+            }
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         try {
             // Look up user by email
             User user = userRepo.findByEmail(email)
@@ -6,6 +6,7 @@ import java.util.Map;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
 import com.javajedis.legalconnect.user.User;
 import com.javajedis.legalconnect.user.UserRepo;
 
@@ -74,4 +75,25 @@ public class GetUserUtil {
         String email = authentication.getName();
         return userRepo.findByEmail(email).orElse(null);
     }
+
+    /**
+     * Gets the lightweight principal of the currently authenticated user.
+     * Uses the principal built from token claims when available and only loads the user
+     * from the database when the request was authenticated through the database path.
+     *
+     * @param userRepo the user repository
+     * @return the authenticated principal or null if not authenticated
+     */
+    public static AuthenticatedUser getAuthenticatedPrincipal(UserRepo userRepo) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal;
+        }
+        return userRepo.findByEmail(authentication.getName())
+                .map(AuthenticatedUser::from)
+                .orElse(null);
+    }
 }
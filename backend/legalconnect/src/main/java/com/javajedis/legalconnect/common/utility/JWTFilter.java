@@ -1,8 +1,9 @@
 package com.javajedis.legalconnect.common.utility;
 
 import java.io.IOException;
+import java.util.Optional;
 
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.authentication.CredentialsExpiredException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,26 +12,36 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
+import com.javajedis.legalconnect.common.security.ClaimsPrincipalResolver;
+import com.javajedis.legalconnect.common.security.TokenRevocationService;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Component
 public class JWTFilter extends OncePerRequestFilter {
     final UserDetailsService userDetailsService;
     final JWTUtil jwtUtil;
-    private final StringRedisTemplate redisTemplate;
+    private final TokenRevocationService tokenRevocationService;
+    private final ClaimsPrincipalResolver claimsPrincipalResolver;
 
     /**
-     * @param userDetailsService the service to load user details
-     * @param jwtUtil            the utility to handle JWT operations
-     * @param redisTemplate      the Redis template for blacklist checking
+     * @param userDetailsService      the service to load user details
+     * @param jwtUtil                 the utility to handle JWT operations
+     * @param tokenRevocationService  the service checking the logout blacklist
+     * @param claimsPrincipalResolver the resolver building principals from trusted token claims
      */
-    public JWTFilter(UserDetailsService userDetailsService, JWTUtil jwtUtil, StringRedisTemplate redisTemplate) {
+    public JWTFilter(UserDetailsService userDetailsService, JWTUtil jwtUtil, TokenRevocationService tokenRevocationService,
+                     ClaimsPrincipalResolver claimsPrincipalResolver) {
         this.userDetailsService = userDetailsService;
         this.jwtUtil = jwtUtil;
-        this.redisTemplate = redisTemplate;
+        this.tokenRevocationService = tokenRevocationService;
+        this.claimsPrincipalResolver = claimsPrincipalResolver;
     }
 
     @Override
@@ -54,21 +65,21 @@ public class JWTFilter extends OncePerRequestFilter {
         String authorizationHeader = request.getHeader("Authorization");
         String username = null;
         String jwt = null;
+        ParsedToken parsedToken = null;
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             jwt = authorizationHeader.substring(7);
-            username = jwtUtil.extractUsername(jwt);
-            // Check if token is blacklisted in Redis
-            String blacklistKey = "blacklist:jwt:" + jwt;
-            if (Boolean.TRUE.equals(redisTemplate.hasKey(blacklistKey))) {
+            parsedToken = jwtUtil.parseToken(jwt);
+            username = parsedToken.subject();
+            // Check if token has been revoked by logout
+            if (tokenRevocationService.isRevoked(jwt, parsedToken.expiration())) {
                 // Optionally, you can log or set a response header here
                 chain.doFilter(request, response);
                 return;
             }
         }
         if (username != null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-            boolean isValidToken = jwtUtil.validateToken(jwt);
-            if (isValidToken) {
+            UserDetails userDetails = resolveUserDetails(username, parsedToken);
+            if (userDetails != null && !parsedToken.isExpired()) {
                 UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(userDetails, jwt, userDetails.getAuthorities());
                 auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(auth);
@@ -77,6 +88,25 @@ public class JWTFilter extends OncePerRequestFilter {
         chain.doFilter(request, response);
     }
 
+    /**
+     * Resolves the principal for a verified token. Uses the signed claims when claims-trusting
+     * authentication is enabled and falls back to loading the user from the database otherwise.
+     *
+     * @return the user details, or null if the token has been revoked by a newer token version
+     */
+    private UserDetails resolveUserDetails(String username, ParsedToken parsedToken) {
+        try {
+            Optional<AuthenticatedUser> principal = claimsPrincipalResolver.resolve(parsedToken);
+            if (principal.isPresent()) {
+                return principal.get();
+            }
+        } catch (CredentialsExpiredException e) {
+            log.debug("Rejected stale token for {}: {}", username, e.getMessage());
+            return null;
+        }
+        return userDetailsService.loadUserByUsername(username);
+    }
+
     public UserDetailsService getUserDetailsService() {
         return userDetailsService;
     }
@@ -84,4 +114,8 @@ public class JWTFilter extends OncePerRequestFilter {
     public JWTUtil getJwtUtil() {
         return jwtUtil;
     }
+
+    public ClaimsPrincipalResolver getClaimsPrincipalResolver() {
+        return claimsPrincipalResolver;
+    }
 }
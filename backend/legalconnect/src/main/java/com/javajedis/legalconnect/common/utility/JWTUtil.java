@@ -1,17 +1,26 @@
 package com.javajedis.legalconnect.common.utility;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import javax.crypto.SecretKey;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.javajedis.legalconnect.user.User;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 
@@ -23,6 +32,10 @@ public class JWTUtil {
     public static final String CLAIM_LAST_NAME = "lastName";
     public static final String CLAIM_EMAIL_VERIFIED = "emailVerified";
     public static final String CLAIM_TOKEN_TYPE = "tokenType";
+    public static final String CLAIM_TOKEN_VERSION = "tokenVersion";
+
+    public static final long TOKEN_VALIDITY_MILLIS = 1000L * 60 * 60;
+    private static final long PARSED_TOKEN_CACHE_MAX_SIZE = 10_000;
 
     @Value("${spring.custom.security.jwtsecret}")
     private String secretKey;
@@ -30,13 +43,92 @@ public class JWTUtil {
     @Value("${spring.application.name:LegalConnect}")
     private String issuer;
 
+    private volatile SecretKey signingKey;
+    private volatile JwtParser jwtParser;
+
+    // Verified tokens keyed by token hash, each entry lives until its token expires
+    private final Cache<String, ParsedToken> parsedTokenCache = Caffeine.newBuilder()
+            .maximumSize(PARSED_TOKEN_CACHE_MAX_SIZE)
+            .expireAfter(new ParsedTokenExpiry())
+            .build();
+
     /**
      * Retrieves the signing key used for JWT operations.
+     * The key is derived from the secret once and reused afterwards.
      *
      * @return the secret key used for signing JWTs
      */
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secretKey.getBytes());
+        SecretKey key = signingKey;
+        if (key == null) {
+            key = Keys.hmacShaKeyFor(secretKey.getBytes());
+            signingKey = key;
+        }
+        return key;
+    }
+
+    /**
+     * Retrieves the shared JWT parser bound to the signing key.
+     *
+     * @return the JWT parser
+     */
+    private JwtParser getParser() {
+        JwtParser parser = jwtParser;
+        if (parser == null) {
+            parser = Jwts.parser()
+                    .verifyWith(getSigningKey())
+                    .build();
+            jwtParser = parser;
+        }
+        return parser;
+    }
+
+    /**
+     * Verifies the provided JWT token once and returns all of its claims.
+     * Verified tokens are cached by hash until they expire, so repeated calls for the
+     * same token skip signature verification.
+     *
+     * @param token the JWT token
+     * @return the verified token claims
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered or expired
+     */
+    public ParsedToken parseToken(String token) {
+        String tokenHash = hashToken(token);
+        ParsedToken cached = parsedTokenCache.getIfPresent(tokenHash);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = extractAllClaims(token);
+        ParsedToken parsedToken = new ParsedToken(
+                claims.getSubject(),
+                claims.get(CLAIM_USER_ID, String.class),
+                claims.get("role", String.class),
+                claims.get(CLAIM_FIRST_NAME, String.class),
+                claims.get(CLAIM_LAST_NAME, String.class),
+                claims.get(CLAIM_EMAIL_VERIFIED, Boolean.class),
+                claims.get(CLAIM_TOKEN_TYPE, String.class),
+                claims.get(CLAIM_TOKEN_VERSION, Long.class),
+                claims.getIssuedAt(),
+                claims.getExpiration()
+        );
+        parsedTokenCache.put(tokenHash, parsedToken);
+        return parsedToken;
+    }
+
+    /**
+     * Computes a compact SHA-256 hex digest of the token, used as a cache and storage key.
+     *
+     * @param token the JWT token
+     * @return the hex encoded token hash
+     */
+    public static String hashToken(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
     }
 
     /**
@@ -46,8 +138,7 @@ public class JWTUtil {
      * @return the username extracted from the token
      */
     public String extractUsername(String token) {
-        Claims claims = extractAllClaims(token);
-        return claims.getSubject();
+        return parseToken(token).subject();
     }
 
     /**
@@ -57,7 +148,7 @@ public class JWTUtil {
      * @return the expiration date of the token
      */
     public Date extractExpiration(String token) {
-        return extractAllClaims(token).getExpiration();
+        return parseToken(token).expiration();
     }
 
     /**
@@ -67,9 +158,7 @@ public class JWTUtil {
      * @return the claims extracted from the token
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return getParser()
                 .parseSignedClaims(token)
                 .getPayload();
     }
@@ -81,7 +170,7 @@ public class JWTUtil {
      * @return true if the token is expired, false otherwise
      */
     private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return parseToken(token).isExpired();
     }
 
     /**
@@ -105,6 +194,17 @@ public class JWTUtil {
      * @return the generated JWT token
      */
     public String generateToken(User user) {
+        return generateToken(user, 0L);
+    }
+
+    /**
+     * Generates a new JWT token with enhanced claims and the user's current token version.
+     *
+     * @param user         the user entity
+     * @param tokenVersion the user's current token version
+     * @return the generated JWT token
+     */
+    public String generateToken(User user, long tokenVersion) {
         Map<String, Object> claims = new HashMap<>();
         claims.put(CLAIM_USER_ID, user.getId().toString());
         claims.put("role", user.getRole().name());
@@ -112,6 +212,7 @@ public class JWTUtil {
         claims.put(CLAIM_LAST_NAME, user.getLastName());
         claims.put(CLAIM_EMAIL_VERIFIED, user.isEmailVerified());
         claims.put(CLAIM_TOKEN_TYPE, "ACCESS");
+        claims.put(CLAIM_TOKEN_VERSION, tokenVersion);
 
         return createToken(claims, user.getEmail());
     }
@@ -132,7 +233,7 @@ public class JWTUtil {
                 .header().empty().add("typ", "JWT")
                 .and()
                 .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60)) // 1 hour expiration time
+                .expiration(new Date(System.currentTimeMillis() + TOKEN_VALIDITY_MILLIS)) // 1 hour expiration time
                 .signWith(getSigningKey())
                 .compact();
     }
@@ -154,8 +255,7 @@ public class JWTUtil {
      * @return the user ID
      */
     public String extractUserId(String token) {
-        Claims claims = extractAllClaims(token);
-        return claims.get(CLAIM_USER_ID, String.class);
+        return parseToken(token).userId();
     }
 
     /**
@@ -165,8 +265,7 @@ public class JWTUtil {
      * @return the user role
      */
     public String extractUserRole(String token) {
-        Claims claims = extractAllClaims(token);
-        return claims.get("role", String.class);
+        return parseToken(token).role();
     }
 
     /**
@@ -176,8 +275,7 @@ public class JWTUtil {
      * @return the token type
      */
     public String extractTokenType(String token) {
-        Claims claims = extractAllClaims(token);
-        return claims.get(CLAIM_TOKEN_TYPE, String.class);
+        return parseToken(token).tokenType();
     }
 
     /**
@@ -187,8 +285,7 @@ public class JWTUtil {
      * @return the first name
      */
     public String extractFirstName(String token) {
-        Claims claims = extractAllClaims(token);
-        return claims.get(CLAIM_FIRST_NAME, String.class);
+        return parseToken(token).firstName();
     }
 
     /**
@@ -198,8 +295,7 @@ public class JWTUtil {
      * @return the last name
      */
     public String extractLastName(String token) {
-        Claims claims = extractAllClaims(token);
-        return claims.get(CLAIM_LAST_NAME, String.class);
+        return parseToken(token).lastName();
     }
 
     /**
@@ -209,8 +305,7 @@ public class JWTUtil {
      * @return the email verification status
      */
     public Boolean extractEmailVerified(String token) {
-        Claims claims = extractAllClaims(token);
-        return claims.get(CLAIM_EMAIL_VERIFIED, Boolean.class);
+        return parseToken(token).emailVerified();
     }
 
     /**
@@ -220,15 +315,15 @@ public class JWTUtil {
      * @return map containing all user information
      */
     public Map<String, Object> extractAllUserInfo(String token) {
-        Claims claims = extractAllClaims(token);
+        ParsedToken parsedToken = parseToken(token);
         Map<String, Object> userInfo = new HashMap<>();
-        userInfo.put(CLAIM_USER_ID, claims.get(CLAIM_USER_ID, String.class));
-        userInfo.put("email", claims.getSubject());
-        userInfo.put("role", claims.get("role", String.class));
-        userInfo.put(CLAIM_FIRST_NAME, claims.get(CLAIM_FIRST_NAME, String.class));
-        userInfo.put(CLAIM_LAST_NAME, claims.get(CLAIM_LAST_NAME, String.class));
-        userInfo.put(CLAIM_EMAIL_VERIFIED, claims.get(CLAIM_EMAIL_VERIFIED, Boolean.class));
-        userInfo.put(CLAIM_TOKEN_TYPE, claims.get(CLAIM_TOKEN_TYPE, String.class));
+        userInfo.put(CLAIM_USER_ID, parsedToken.userId());
+        userInfo.put("email", parsedToken.subject());
+        userInfo.put("role", parsedToken.role());
+        userInfo.put(CLAIM_FIRST_NAME, parsedToken.firstName());
+        userInfo.put(CLAIM_LAST_NAME, parsedToken.lastName());
+        userInfo.put(CLAIM_EMAIL_VERIFIED, parsedToken.emailVerified());
+        userInfo.put(CLAIM_TOKEN_TYPE, parsedToken.tokenType());
         return userInfo;
     }
 
@@ -269,4 +364,28 @@ public class JWTUtil {
     public static boolean isValidAuthorizationHeader(String authorizationHeader) {
         return authorizationHeader != null && authorizationHeader.startsWith("Bearer ");
     }
+
+    /**
+     * Expires cached tokens at the moment the token itself expires.
+     */
+    private static final class ParsedTokenExpiry implements Expiry<String, ParsedToken> {
+        @Override
+        public long expireAfterCreate(String key, ParsedToken value, long currentTime) {
+            if (value.expiration() == null) {
+                return TimeUnit.MILLISECONDS.toNanos(TOKEN_VALIDITY_MILLIS);
+            }
+            long remaining = value.expiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remaining));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, ParsedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, ParsedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,41 @@
+package com.javajedis.legalconnect.common.utility;
+
+import java.util.Date;
+
+/**
+ * Result of a single signature verification pass over a JWT.
+ * Holds every claim the application reads so callers never need to parse the same token twice.
+ *
+ * @param subject       the token subject (user email)
+ * @param userId        the user ID claim
+ * @param role          the user role claim
+ * @param firstName     the first name claim
+ * @param lastName      the last name claim
+ * @param emailVerified the email verification claim
+ * @param tokenType     the token type claim
+ * @param tokenVersion  the token version claim, null for tokens issued without one
+ * @param issuedAt      the issue date of the token
+ * @param expiration    the expiration date of the token
+ */
+public record ParsedToken(
+        String subject,
+        String userId,
+        String role,
+        String firstName,
+        String lastName,
+        Boolean emailVerified,
+        String tokenType,
+        Long tokenVersion,
+        Date issuedAt,
+        Date expiration
+) {
+
+    /**
+     * Checks whether the token has passed its expiration date.
+     *
+     * @return true if the token is expired, false otherwise
+     */
+    public boolean isExpired() {
+        return expiration != null && expiration.before(new Date());
+    }
+}
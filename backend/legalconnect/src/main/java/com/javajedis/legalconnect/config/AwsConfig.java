@@ -4,6 +4,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
@@ -26,11 +27,18 @@ public class AwsConfig {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // Socket timeouts match the timeout of the S3 call guard
+    @Value("${spring.custom.resilience.s3.timeout-ms:30000}")
+    private int timeoutMillis;
+
     // Creating a bean for Amazon S3 client
     @Bean
     public AmazonS3 s3Client() {
         AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
-                .withRegion(region);
+                .withRegion(region)
+                .withClientConfiguration(new ClientConfiguration()
+                        .withConnectionTimeout(timeoutMillis)
+                        .withSocketTimeout(timeoutMillis));
 
         // Use IAM roles in production, fallback to access keys for local development
         if (accessKey != null && !accessKey.isEmpty() && accessSecret != null && !accessSecret.isEmpty()) {
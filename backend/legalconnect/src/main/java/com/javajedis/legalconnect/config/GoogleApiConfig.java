@@ -0,0 +1,21 @@
+package com.javajedis.legalconnect.config;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.google.api.client.googleapis.apache.v2.GoogleApacheHttpTransport;
+import com.google.api.client.http.HttpTransport;
+
+@Configuration
+public class GoogleApiConfig {
+
+    // One transport for every Google call: the trust store is loaded once and connections are pooled,
+    // so calendar and token requests reuse open TLS connections instead of handshaking each time
+    @Bean(destroyMethod = "shutdown")
+    public HttpTransport googleHttpTransport() throws GeneralSecurityException, IOException {
+        return GoogleApacheHttpTransport.newTrustedTransport();
+    }
+}
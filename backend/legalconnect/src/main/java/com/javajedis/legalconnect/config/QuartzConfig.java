@@ -0,0 +1,29 @@
+package com.javajedis.legalconnect.config;
+
+import org.springframework.boot.autoconfigure.quartz.SchedulerFactoryBeanCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.javajedis.legalconnect.jobscheduler.QuartzJobMetricsListener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Registers job metrics on the Quartz scheduler configured by the {@code spring.quartz} properties.
+ */
+@Configuration
+public class QuartzConfig {
+
+    @Bean
+    public QuartzJobMetricsListener quartzJobMetricsListener(MeterRegistry meterRegistry) {
+        return new QuartzJobMetricsListener(meterRegistry);
+    }
+
+    @Bean
+    public SchedulerFactoryBeanCustomizer quartzJobMetricsCustomizer(QuartzJobMetricsListener listener) {
+        return schedulerFactoryBean -> {
+            schedulerFactoryBean.setGlobalJobListeners(listener);
+            schedulerFactoryBean.setGlobalTriggerListeners(listener);
+        };
+    }
+}
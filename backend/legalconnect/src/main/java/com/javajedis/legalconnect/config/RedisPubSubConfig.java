@@ -0,0 +1,38 @@
+package com.javajedis.legalconnect.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.javajedis.legalconnect.common.security.LawyerStatusCache;
+import com.javajedis.legalconnect.common.security.TokenRevocationService;
+import com.javajedis.legalconnect.common.service.WebSocketService;
+import com.javajedis.legalconnect.notifications.NotificationPreferenceCache;
+
+/**
+ * Redis pub/sub wiring used to keep per-node caches in sync across the cluster and to relay
+ * WebSocket messages to the node holding the user's connection.
+ */
+@Configuration
+public class RedisPubSubConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       TokenRevocationService tokenRevocationService,
+                                                                       LawyerStatusCache lawyerStatusCache,
+                                                                       WebSocketService webSocketService,
+                                                                       NotificationPreferenceCache notificationPreferenceCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(tokenRevocationService, new ChannelTopic(TokenRevocationService.REVOCATION_CHANNEL));
+        tokenRevocationService.watchSubscription(container::isListening);
+        container.addMessageListener(lawyerStatusCache, new ChannelTopic(LawyerStatusCache.EVICTION_CHANNEL));
+        container.addMessageListener(webSocketService, new ChannelTopic(WebSocketService.RELAY_CHANNEL));
+        container.addMessageListener(webSocketService, new ChannelTopic(webSocketService.nodeChannel()));
+        container.addMessageListener(notificationPreferenceCache,
+                new ChannelTopic(NotificationPreferenceCache.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
@@ -3,7 +3,6 @@ package com.javajedis.legalconnect.config;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -15,6 +14,7 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import com.javajedis.legalconnect.common.security.TokenRevocationService;
 import com.javajedis.legalconnect.common.utility.EmailVerificationFilter;
 import com.javajedis.legalconnect.common.utility.JWTFilter;
 
@@ -22,20 +22,22 @@ import com.javajedis.legalconnect.common.utility.JWTFilter;
 @EnableMethodSecurity
 @Configuration
 public class SpringSecurityConfig {
-    private final StringRedisTemplate redisTemplate;
+    private final TokenRevocationService tokenRevocationService;
 
     @Autowired
-    public SpringSecurityConfig(StringRedisTemplate redisTemplate) {
-        this.redisTemplate = redisTemplate;
+    public SpringSecurityConfig(TokenRevocationService tokenRevocationService) {
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @SuppressWarnings("java:S4502") // CSRF protection is disabled as we use JWT tokens in Authorization header
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http, JWTFilter jwtFilter, EmailVerificationFilter emailVerificationFilter, CorsConfigurationSource corsConfigurationSource) throws Exception {
-        JWTFilter filterWithRedis = new JWTFilter(jwtFilter.getUserDetailsService(), jwtFilter.getJwtUtil(), redisTemplate);
+        JWTFilter filterWithRedis = new JWTFilter(jwtFilter.getUserDetailsService(), jwtFilter.getJwtUtil(), tokenRevocationService,
+                jwtFilter.getClaimsPrincipalResolver());
         return http.authorizeHttpRequests(request -> request
                         .requestMatchers("/auth/**").permitAll()
                         .requestMatchers("/schedule/oauth/callback").permitAll()
+                        .requestMatchers("/payments/webhook/stripe").permitAll()
                         .requestMatchers("/ws/**").permitAll()
                         .requestMatchers("/notification-test.html","/websocket-debug.html","chat-test.html").
                                             permitAll()
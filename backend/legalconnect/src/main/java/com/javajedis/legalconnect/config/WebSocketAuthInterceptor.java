@@ -1,6 +1,9 @@
 package com.javajedis.legalconnect.config;
 
+import com.javajedis.legalconnect.common.security.ClaimsPrincipalResolver;
+import com.javajedis.legalconnect.common.service.WebSocketSessionIndex;
 import com.javajedis.legalconnect.common.utility.JWTUtil;
+import com.javajedis.legalconnect.common.utility.ParsedToken;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -8,6 +11,7 @@ import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.CredentialsExpiredException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -20,14 +24,20 @@ import java.util.Map;
 @Component
 public class WebSocketAuthInterceptor implements ChannelInterceptor {
     private final JWTUtil jwtUtil;
+    private final WebSocketSessionIndex sessionIndex;
+    private final ClaimsPrincipalResolver claimsPrincipalResolver;
 
-    public WebSocketAuthInterceptor(JWTUtil jwtUtil) {
+    public WebSocketAuthInterceptor(JWTUtil jwtUtil, WebSocketSessionIndex sessionIndex,
+                                    ClaimsPrincipalResolver claimsPrincipalResolver) {
         this.jwtUtil = jwtUtil;
+        this.sessionIndex = sessionIndex;
+        this.claimsPrincipalResolver = claimsPrincipalResolver;
     }
 
     /**
      * Intercepts messages before they are sent to the channel.
-     * Performs JWT authentication for CONNECT commands with comprehensive error handling.
+     * Performs JWT authentication for CONNECT commands with comprehensive error handling,
+     * and records activity on the session for any other frame.
      */
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -37,6 +47,10 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
             return handleWebSocketAuthentication(accessor, message);
         }
 
+        if (accessor != null && accessor.getSessionId() != null) {
+            sessionIndex.touch(accessor.getSessionId());
+        }
+
         return message;
     }
 
@@ -52,15 +66,15 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
             return null;
         }
 
-        boolean isValid = jwtUtil.validateToken(token);
-        if (!isValid) {
+        ParsedToken parsedToken = jwtUtil.parseToken(token);
+        if (parsedToken.isExpired()) {
             log.warn("Invalid JWT token provided for WebSocket connection from session: {}", accessor.getSessionId());
             return null;
         }
 
-        String userId = jwtUtil.extractUserId(token);
-        String email = jwtUtil.extractUsername(token);
-        String role = jwtUtil.extractUserRole(token);
+        String userId = parsedToken.userId();
+        String email = parsedToken.subject();
+        String role = parsedToken.role();
 
         if (userId == null || userId.trim().isEmpty()) {
             log.error("JWT token missing userId for WebSocket connection from session: {}", accessor.getSessionId());
@@ -72,6 +86,11 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
             return null;
         }
 
+        if (isStale(parsedToken)) {
+            log.warn("Stale JWT token provided for WebSocket connection from session: {}", accessor.getSessionId());
+            return null;
+        }
+
         Authentication authentication = createAuthentication(userId, email, role);
         accessor.setUser(authentication);
         Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
@@ -87,6 +106,20 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
         return message;
     }
 
+    /**
+     * Applies the token version check of the HTTP filter, so a token revoked by a password or role change
+     * cannot open a socket. Like the filter, it only runs with claims-trusting authentication enabled.
+     */
+    private boolean isStale(ParsedToken parsedToken) {
+        try {
+            claimsPrincipalResolver.resolve(parsedToken);
+            return false;
+        } catch (CredentialsExpiredException e) {
+            log.debug("Rejected stale WebSocket token: {}", e.getMessage());
+            return true;
+        }
+    }
+
     /**
      * Extracts JWT token from WebSocket connection headers.
      * Looks for token in Authorization header or as a query parameter.
@@ -49,7 +49,7 @@ public class EmailJob implements Job {
             ObjectMapper objectMapper = new ObjectMapper();
             String templateVariablesJson = dataMap.getString("templateVariables");
             Map<String, Object> templateVariables = objectMapper.readValue(templateVariablesJson, new TypeReference<Map<String, Object>>() {});
-            emailService.sendTemplateEmail(receiverEmailAddress, subject, emailTemplate, templateVariables);
+            emailService.deliverTemplateEmail(receiverEmailAddress, subject, emailTemplate, templateVariables);
         } catch (Exception e) {
             log.error("Failed to deserialize template variables or send email for task: {}", taskId, e);
             throw new JobExecutionException("Failed to process email job", e, false);
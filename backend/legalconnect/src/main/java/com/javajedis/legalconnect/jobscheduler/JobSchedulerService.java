@@ -1,25 +1,35 @@
 package com.javajedis.legalconnect.jobscheduler;
 
-import java.time.OffsetDateTime;
-import java.util.Date;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.quartz.JobBuilder;
-import org.quartz.JobDataMap;
 import org.quartz.JobDetail;
 import org.quartz.JobKey;
+import org.quartz.ObjectAlreadyExistsException;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
+import org.quartz.SimpleScheduleBuilder;
 import org.quartz.Trigger;
 import org.quartz.TriggerBuilder;
 import org.quartz.impl.matchers.GroupMatcher;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Schedules and manages Quartz jobs.
+ *
+ * <p>Reminders are stored in the {@code reminders} table and fired by a single polling job, but notification
+ * jobs scheduled per task before that may still be pending. They live in their own job group,
+ * {@code task_<taskId>}, so deleting the jobs of a task reads that group alone rather than every job in the
+ * scheduler.
+ */
 @Slf4j
 @Service
 @SuppressWarnings("javaarchitecture:S7091") // Cyclic dependency warning. Will Fix later
@@ -28,8 +38,8 @@ public class JobSchedulerService {
     private static final String EMAIL_JOB_PREFIX = "email_";
     private static final String PAYMENT_RELEASE_JOB_PREFIX = "payment release_";
     private static final String TRIGGER_PREFIX = "trigger_";
-    private static final String TASK_ID_STRING = "taskId";
-
+    private static final String REMINDER_POLL_JOB = "reminder poller";
+    private static final String TASK_GROUP_PREFIX = "task_";
 
     private final Scheduler scheduler;
 
@@ -38,284 +48,149 @@ public class JobSchedulerService {
     }
 
     /**
-     * Schedule WebPush notification for a specific user
+     * Delete all jobs for a specific task
      */
-    public void scheduleWebPushNotification(WebPushJobDTO webPushJobDTO) {
-        if (webPushJobDTO.getTaskId() == null || webPushJobDTO.getRecipientId() == null || webPushJobDTO.getDateTime() == null) {
-            log.warn("Cannot schedule WebPush notification: missing required fields (taskId, recipientId, or dateTime)");
-            return;
-        }
-
+    public void deleteAllJobsForTask(UUID taskId) {
         try {
-            String jobId = WEBPUSH_JOB_PREFIX + webPushJobDTO.getTaskId() + "_" + webPushJobDTO.getRecipientId();
-
-            JobDataMap jobDataMap = new JobDataMap();
-            jobDataMap.put(TASK_ID_STRING, webPushJobDTO.getTaskId().toString());
-            jobDataMap.put("recipientId", webPushJobDTO.getRecipientId().toString());
-            jobDataMap.put("content", webPushJobDTO.getContent());
-            jobDataMap.put("dateTime", webPushJobDTO.getDateTime().toString());
-
-            JobDetail job = JobBuilder.newJob(WebPushJob.class)
-                    .withIdentity(jobId)
-                    .setJobData(jobDataMap)
-                    .storeDurably()
-                    .requestRecovery()
-                    .build();
-
-            Trigger trigger = TriggerBuilder.newTrigger()
-                    .withIdentity(TRIGGER_PREFIX + jobId)
-                    .startAt(Date.from(webPushJobDTO.getDateTime().toInstant()))
-                    .build();
-
-            scheduler.scheduleJob(job, trigger);
-            log.debug("Scheduled WebPush notification job: {} for time: {}", jobId, webPushJobDTO.getDateTime());
-
+            List<JobKey> jobKeys = new ArrayList<>(scheduler.getJobKeys(GroupMatcher.jobGroupEquals(taskGroup(taskId))));
+            if (!jobKeys.isEmpty()) {
+                scheduler.deleteJobs(jobKeys);
+            }
+            log.info("Deleted {} jobs for task: {}", jobKeys.size(), taskId);
         } catch (SchedulerException e) {
-            log.error("Failed to schedule WebPush notification for task: {} and recipient: {}",
-                    webPushJobDTO.getTaskId(), webPushJobDTO.getRecipientId(), e);
+            log.error("Failed to delete all jobs for task: {}", taskId, e);
         }
     }
 
     /**
-     * Schedule Email notification for a specific user
+     * Schedule the repeating reminder poll job, replacing any previous schedule
      */
-    public void scheduleEmailNotification(EmailJobDTO emailJobDTO) {
-        if (emailJobDTO.getTaskId() == null || emailJobDTO.getReceiverEmailAddress() == null || emailJobDTO.getDateTime() == null) {
-            log.warn("Cannot schedule Email notification: missing required fields (taskId, receiverEmailAddress, or dateTime)");
-            return;
-        }
-
+    public void scheduleReminderPolling(long intervalMillis) {
         try {
-            String jobId = EMAIL_JOB_PREFIX + emailJobDTO.getTaskId() + "_" + emailJobDTO.getReceiverEmailAddress();
-
-            JobDataMap jobDataMap = new JobDataMap();
-            jobDataMap.put(TASK_ID_STRING, emailJobDTO.getTaskId().toString());
-            jobDataMap.put("emailTemplate", emailJobDTO.getEmailTemplate());
-            jobDataMap.put("receiverEmailAddress", emailJobDTO.getReceiverEmailAddress());
-            jobDataMap.put("subject", emailJobDTO.getSubject());
-            jobDataMap.put("dateTime", emailJobDTO.getDateTime().toString());
-
-            String templateVariablesJson = serializeTemplateVariables(emailJobDTO);
-            if (templateVariablesJson == null) {
-                return;
-            }
-            jobDataMap.put("templateVariables", templateVariablesJson);
-
-            JobDetail job = JobBuilder.newJob(EmailJob.class)
-                    .withIdentity(jobId)
-                    .setJobData(jobDataMap)
+            JobDetail job = JobBuilder.newJob(ReminderPollJob.class)
+                    .withIdentity(REMINDER_POLL_JOB)
                     .storeDurably()
-                    .requestRecovery()
                     .build();
 
             Trigger trigger = TriggerBuilder.newTrigger()
-                    .withIdentity(TRIGGER_PREFIX + jobId)
-                    .startAt(Date.from(emailJobDTO.getDateTime().toInstant()))
+                    .withIdentity(TRIGGER_PREFIX + REMINDER_POLL_JOB)
+                    .startNow()
+                    .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                            .withIntervalInMilliseconds(intervalMillis)
+                            .repeatForever()
+                            .withMisfireHandlingInstructionNextWithRemainingCount())
                     .build();
 
-            scheduler.scheduleJob(job, trigger);
-            log.debug("Scheduled Email notification job: {} for time: {}", jobId, emailJobDTO.getDateTime());
+            scheduler.scheduleJob(job, Set.of(trigger), true);
+            log.info("Scheduled reminder polling every {} ms", intervalMillis);
 
         } catch (SchedulerException e) {
-            log.error("Failed to schedule Email notification for task: {} and email: {}",
-                    emailJobDTO.getTaskId(), emailJobDTO.getReceiverEmailAddress(), e);
+            log.error("Failed to schedule reminder polling", e);
         }
     }
 
     /**
-     * Update WebPush notification job
+     * Move notification jobs stored in the default group, before jobs were grouped by task, into their task
+     * group. Jobs without a trigger left have already fired and are deleted. A run interrupted between copying
+     * a job and deleting its original is completed by the next one.
      */
-    public void updateWebPushNotification(WebPushJobDTO webPushJobDTO) {
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyTaskJobs() {
+        int moved = 0;
+        int deleted = 0;
         try {
-            String jobId = WEBPUSH_JOB_PREFIX + webPushJobDTO.getTaskId() + "_" + webPushJobDTO.getRecipientId();
-            scheduler.deleteJob(JobKey.jobKey(jobId));
-
-            scheduleWebPushNotification(webPushJobDTO);
-            log.debug("Updated WebPush notification job: {}", jobId);
-
-        } catch (SchedulerException e) {
-            log.error("Failed to update WebPush notification for task: {} and recipient: {}",
-                    webPushJobDTO.getTaskId(), webPushJobDTO.getRecipientId(), e);
-        }
-    }
-
-    /**
-     * Update Email notification job
-     */
-    public void updateEmailNotification(EmailJobDTO emailJobDTO) {
-        try {
-            String jobId = EMAIL_JOB_PREFIX + emailJobDTO.getTaskId() + "_" + emailJobDTO.getReceiverEmailAddress();
-            scheduler.deleteJob(JobKey.jobKey(jobId));
-
-            scheduleEmailNotification(emailJobDTO);
-            log.debug("Updated Email notification job: {}", jobId);
-
-        } catch (SchedulerException e) {
-            log.error("Failed to update Email notification for task: {} and email: {}",
-                    emailJobDTO.getTaskId(), emailJobDTO.getReceiverEmailAddress(), e);
-        }
-    }
-
-    /**
-     * Delete WebPush notification job
-     */
-    public void deleteWebPushNotification(UUID taskId, UUID recipientId) {
-        try {
-            String jobId = WEBPUSH_JOB_PREFIX + taskId + "_" + recipientId;
-            scheduler.deleteJob(JobKey.jobKey(jobId));
-            log.debug("Deleted WebPush notification job: {}", jobId);
-        } catch (SchedulerException e) {
-            log.error("Failed to delete WebPush notification job for task: {} and recipient: {}",
-                    taskId, recipientId, e);
-        }
-    }
-
-    /**
-     * Delete Email notification job
-     */
-    public void deleteEmailNotification(UUID taskId, String receiverEmail) {
-        try {
-            String jobId = EMAIL_JOB_PREFIX + taskId + "_" + receiverEmail;
-            scheduler.deleteJob(JobKey.jobKey(jobId));
-            log.debug("Deleted Email notification job: {}", jobId);
-        } catch (SchedulerException e) {
-            log.error("Failed to delete Email notification job for task: {} and email: {}",
-                    taskId, receiverEmail, e);
-        }
-    }
-
-    /**
-     * Delete all jobs for a specific task
-     */
-    public void deleteAllJobsForTask(UUID taskId) {
-        try {
-            // Get all job keys and filter by task ID
-            for (JobKey jobKey : scheduler.getJobKeys(GroupMatcher.anyGroup())) {
-                String jobName = jobKey.getName();
-                if (jobName.startsWith(WEBPUSH_JOB_PREFIX + taskId + "_") ||
-                        jobName.startsWith(EMAIL_JOB_PREFIX + taskId + "_")) {
+            for (JobKey jobKey : scheduler.getJobKeys(GroupMatcher.jobGroupEquals(JobKey.DEFAULT_GROUP))) {
+                UUID taskId = legacyTaskId(jobKey.getName());
+                if (taskId == null) {
+                    continue;
+                }
+                List<? extends Trigger> triggers = scheduler.getTriggersOfJob(jobKey);
+                if (!triggers.isEmpty()) {
+                    moveToGroup(jobKey, triggers, taskGroup(taskId));
+                    moved++;
+                } else {
                     scheduler.deleteJob(jobKey);
-                    log.debug("Deleted job: {}", jobName);
+                    deleted++;
                 }
             }
-            log.info("Deleted all jobs for task: {}", taskId);
-        } catch (SchedulerException e) {
-            log.error("Failed to delete all jobs for task: {}", taskId, e);
-        }
-    }
-
-    /**
-     * Check if a WebPush notification job exists
-     */
-    public boolean webPushJobExists(UUID taskId, UUID recipientId) {
-        try {
-            String jobId = WEBPUSH_JOB_PREFIX + taskId + "_" + recipientId;
-            return scheduler.checkExists(JobKey.jobKey(jobId));
+            if (moved > 0 || deleted > 0) {
+                log.info("Moved {} notification jobs into task groups and deleted {} fired jobs", moved, deleted);
+            }
         } catch (SchedulerException e) {
-            log.error("Failed to check WebPush job existence for task: {} and recipient: {}",
-                    taskId, recipientId, e);
-            return false;
+            log.error("Failed to migrate notification jobs into task groups", e);
         }
     }
 
     /**
-     * Check if an Email notification job exists
+     * Delete the per-payment release jobs scheduled before due payments were released in bulk by the
+     * payment release sweeper, which now releases those payments.
      */
-    public boolean emailJobExists(UUID taskId, String receiverEmail) {
+    @EventListener(ApplicationReadyEvent.class)
+    public void removePaymentReleaseJobs() {
         try {
-            String jobId = EMAIL_JOB_PREFIX + taskId + "_" + receiverEmail;
-            return scheduler.checkExists(JobKey.jobKey(jobId));
+            List<JobKey> jobKeys = new ArrayList<>();
+            for (JobKey jobKey : scheduler.getJobKeys(GroupMatcher.jobGroupEquals(JobKey.DEFAULT_GROUP))) {
+                if (jobKey.getName().startsWith(PAYMENT_RELEASE_JOB_PREFIX)) {
+                    jobKeys.add(jobKey);
+                }
+            }
+            if (!jobKeys.isEmpty()) {
+                scheduler.deleteJobs(jobKeys);
+                log.info("Deleted {} payment release jobs", jobKeys.size());
+            }
         } catch (SchedulerException e) {
-            log.error("Failed to check Email job existence for task: {} and email: {}",
-                    taskId, receiverEmail, e);
-            return false;
+            log.error("Failed to delete payment release jobs", e);
         }
     }
 
     /**
-     * Schedule payment release job
+     * Copies a job and its triggers into the group, then deletes the original. Quartz offers no transaction
+     * spanning both steps, so a copy left by an interrupted run, or made by another node, is kept as it is
+     * rather than replaced, which would re-arm triggers that have fired since.
      */
-    public void schedulePaymentRelease(UUID paymentId, OffsetDateTime releaseAt) {
-        try {
-            String jobId = PAYMENT_RELEASE_JOB_PREFIX + paymentId.toString();
-
-            JobDataMap jobDataMap = new JobDataMap();
-            jobDataMap.put(TASK_ID_STRING, paymentId.toString());
-            jobDataMap.put("paymentId", paymentId.toString());
-
-            JobDetail job = JobBuilder.newJob(PaymentReleaseJob.class)
-                    .withIdentity(jobId)
-                    .setJobData(jobDataMap)
-                    .storeDurably()
-                    .requestRecovery()
-                    .build();
-
-            Trigger trigger = TriggerBuilder.newTrigger()
-                    .withIdentity(TRIGGER_PREFIX + jobId)
-                    .startAt(Date.from(releaseAt.toInstant()))
+    private void moveToGroup(JobKey jobKey, List<? extends Trigger> triggers, String group) throws SchedulerException {
+        JobKey movedKey = JobKey.jobKey(jobKey.getName(), group);
+        if (!scheduler.checkExists(movedKey)) {
+            JobDetail job = scheduler.getJobDetail(jobKey).getJobBuilder()
+                    .withIdentity(movedKey)
                     .build();
-
-            scheduler.scheduleJob(job, trigger);
-            log.debug("Scheduled Payment release job: {} for time: {}", jobId, releaseAt);
-
-        } catch (SchedulerException e) {
-            log.error("Failed to schedule Payment release for task: {} ",
-                    paymentId, e);
+            Set<Trigger> movedTriggers = new HashSet<>();
+            for (Trigger trigger : triggers) {
+                movedTriggers.add(trigger.getTriggerBuilder()
+                        .withIdentity(trigger.getKey().getName(), group)
+                        .forJob(job)
+                        .build());
+            }
+            try {
+                scheduler.scheduleJob(job, movedTriggers, false);
+            } catch (ObjectAlreadyExistsException e) {
+                log.debug("Job {} was moved into its task group by another node", jobKey.getName());
+            }
         }
+        scheduler.deleteJob(jobKey);
     }
 
-    /**
-     * Delete Payment release job
-     */
-    public void deletePaymentRelease(UUID taskId) {
-        try {
-            String jobId = PAYMENT_RELEASE_JOB_PREFIX + taskId;
-            scheduler.deleteJob(JobKey.jobKey(jobId));
-            log.debug("Deleted Payment release notification job: {}", jobId);
-        } catch (SchedulerException e) {
-            log.error("Failed to delete Payment Release job for task: {}",
-                    taskId, e);
+    private static UUID legacyTaskId(String jobName) {
+        String prefix;
+        if (jobName.startsWith(WEBPUSH_JOB_PREFIX)) {
+            prefix = WEBPUSH_JOB_PREFIX;
+        } else if (jobName.startsWith(EMAIL_JOB_PREFIX)) {
+            prefix = EMAIL_JOB_PREFIX;
+        } else {
+            return null;
         }
-    }
-
-    /**
-     * Check if a Payment release job exists
-     */
-    public boolean paymentReleaseJobExists(UUID taskId) {
-        try {
-            String jobId = PAYMENT_RELEASE_JOB_PREFIX + taskId;
-            return scheduler.checkExists(JobKey.jobKey(jobId));
-        } catch (SchedulerException e) {
-            log.error("Failed to check Payment release existence for task: {}",
-                    taskId, e);
-            return false;
+        int end = prefix.length() + 36;
+        if (jobName.length() <= end || jobName.charAt(end) != '_') {
+            return null;
         }
-    }
-
-    /**
-     * Get scheduler status information
-     */
-    public void logSchedulerStatus() {
         try {
-            log.info("Scheduler Name: {}", scheduler.getSchedulerName());
-            log.info("Scheduler Instance ID: {}", scheduler.getSchedulerInstanceId());
-            log.info("Scheduler State: {}", scheduler.getMetaData().getRunningSince());
-            log.info("Total Jobs: {}", scheduler.getJobKeys(GroupMatcher.anyGroup()).size());
-        } catch (SchedulerException e) {
-            log.error("Failed to get scheduler status", e);
+            return UUID.fromString(jobName.substring(prefix.length(), end));
+        } catch (IllegalArgumentException e) {
+            return null;
         }
     }
 
-    /**
-     * Serialize template variables to JSON string
-     */
-    private String serializeTemplateVariables(EmailJobDTO emailJobDTO) {
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            return objectMapper.writeValueAsString(emailJobDTO.getTemplateVariables());
-        } catch (JsonProcessingException e) {
-            log.error("Failed to serialize template variables for task: {}", emailJobDTO.getTaskId(), e);
-            return null;
-        }
+    private static String taskGroup(UUID taskId) {
+        return TASK_GROUP_PREFIX + taskId;
     }
 }
@@ -0,0 +1,117 @@
+package com.javajedis.legalconnect.jobscheduler;
+
+import java.time.Duration;
+
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.JobKey;
+import org.quartz.JobListener;
+import org.quartz.Trigger;
+import org.quartz.Trigger.CompletedExecutionInstruction;
+import org.quartz.TriggerListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+/**
+ * Records execution time, start delay and misfires of Quartz jobs. Executions are tagged by job class;
+ * misfires, which are reported from within the job store, by the kind of job named in the trigger's job key.
+ *
+ * <p>Registered as a global job and trigger listener, so it sees every job of this node's scheduler,
+ * and in a cluster only the executions this node performed.
+ */
+public class QuartzJobMetricsListener implements JobListener, TriggerListener {
+    static final String METRIC_EXECUTION = "quartz.job.execution";
+    static final String METRIC_START_DELAY = "quartz.job.start.delay";
+    static final String METRIC_MISFIRES = "quartz.job.misfires";
+    static final String UNKNOWN_JOB = "unknown";
+
+    private static final String NAME = "jobMetrics";
+    private static final String START_NANOS = NAME + ".startNanos";
+
+    private final MeterRegistry meterRegistry;
+
+    public QuartzJobMetricsListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void jobToBeExecuted(JobExecutionContext context) {
+        context.put(START_NANOS, System.nanoTime());
+        if (context.getScheduledFireTime() != null && context.getFireTime() != null) {
+            long delayMillis = context.getFireTime().getTime() - context.getScheduledFireTime().getTime();
+            Timer.builder(METRIC_START_DELAY)
+                    .description("Delay between the scheduled and the actual start of Quartz jobs")
+                    .tag("job", jobName(context.getJobDetail()))
+                    .register(meterRegistry)
+                    .record(Duration.ofMillis(Math.max(0, delayMillis)));
+        }
+    }
+
+    @Override
+    public void jobExecutionVetoed(JobExecutionContext context) {
+        // Vetoed jobs do not run and are not timed.
+    }
+
+    @Override
+    public void jobWasExecuted(JobExecutionContext context, JobExecutionException jobException) {
+        Object startNanos = context.get(START_NANOS);
+        if (!(startNanos instanceof Long start)) {
+            return;
+        }
+        Timer.builder(METRIC_EXECUTION)
+                .description("Execution time of Quartz jobs")
+                .tag("job", jobName(context.getJobDetail()))
+                .tag("outcome", jobException == null ? "success" : "failure")
+                .register(meterRegistry)
+                .record(Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    @Override
+    public void triggerFired(Trigger trigger, JobExecutionContext context) {
+        // Executions are recorded by the job listener callbacks.
+    }
+
+    @Override
+    public boolean vetoJobExecution(Trigger trigger, JobExecutionContext context) {
+        return false;
+    }
+
+    @Override
+    public void triggerMisfired(Trigger trigger) {
+        Counter.builder(METRIC_MISFIRES)
+                .description("Quartz triggers that missed their fire time by more than the misfire threshold")
+                .tag("job", jobName(trigger))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @Override
+    public void triggerComplete(Trigger trigger, JobExecutionContext context,
+                                CompletedExecutionInstruction triggerInstructionCode) {
+        // Completion is recorded by the job listener callbacks.
+    }
+
+    /**
+     * Job names are the job kind followed by the ids it works on, e.g. {@code webpush_<task>_<recipient>};
+     * only the kind is used, which keeps the tag's values few.
+     */
+    private static String jobName(Trigger trigger) {
+        JobKey jobKey = trigger.getJobKey();
+        if (jobKey == null) {
+            return UNKNOWN_JOB;
+        }
+        int separator = jobKey.getName().indexOf('_');
+        return separator < 0 ? jobKey.getName() : jobKey.getName().substring(0, separator);
+    }
+
+    private static String jobName(JobDetail jobDetail) {
+        return jobDetail == null ? UNKNOWN_JOB : jobDetail.getJobClass().getSimpleName();
+    }
+}
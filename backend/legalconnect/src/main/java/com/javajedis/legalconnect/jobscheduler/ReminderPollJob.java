@@ -0,0 +1,32 @@
+package com.javajedis.legalconnect.jobscheduler;
+
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.stereotype.Component;
+
+import com.javajedis.legalconnect.notifications.ReminderPoller;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@DisallowConcurrentExecution
+public class ReminderPollJob implements Job {
+    private final ReminderPoller reminderPoller;
+
+    public ReminderPollJob(ReminderPoller reminderPoller) {
+        this.reminderPoller = reminderPoller;
+    }
+
+    @Override
+    public void execute(JobExecutionContext context) throws JobExecutionException {
+        try {
+            reminderPoller.poll();
+        } catch (Exception e) {
+            log.error("Error executing reminder poll job: {}", e.getMessage(), e);
+            throw new JobExecutionException("Failed to execute reminder poll job", e, false);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.javajedis.legalconnect.jobscheduler;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+import org.quartz.SchedulerConfigException;
+import org.quartz.spi.ThreadPool;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A Quartz {@link ThreadPool} that runs every job on its own virtual thread.
+ *
+ * <p>Jobs mostly wait on SMTP, Stripe and the database, so a fixed pool of platform threads caps how many
+ * can run at once. Here {@code threadCount} only bounds the number of concurrently running jobs, which the
+ * scheduler also uses to size the batches of triggers it acquires. Configure it with
+ * {@code org.quartz.threadPool.class} and {@code org.quartz.threadPool.threadCount}.
+ */
+@Slf4j
+public class VirtualThreadPool implements ThreadPool {
+    static final int DEFAULT_THREAD_COUNT = 100;
+
+    private final Set<Thread> running = ConcurrentHashMap.newKeySet();
+    private final Object availability = new Object();
+    private int threadCount = DEFAULT_THREAD_COUNT;
+    private String instanceName = "QuartzScheduler";
+    private Semaphore permits;
+    private ThreadFactory threadFactory;
+    private volatile boolean shutdown;
+
+    @Override
+    public void initialize() throws SchedulerConfigException {
+        if (threadCount <= 0) {
+            throw new SchedulerConfigException("Thread count must be > 0");
+        }
+        permits = new Semaphore(threadCount);
+        threadFactory = Thread.ofVirtual().name(instanceName + "-job-", 0).factory();
+        log.info("Quartz virtual thread pool initialized with {} concurrent jobs", threadCount);
+    }
+
+    @Override
+    public boolean runInThread(Runnable runnable) {
+        if (runnable == null || shutdown) {
+            return false;
+        }
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        if (shutdown) {
+            permits.release();
+            return false;
+        }
+
+        Thread thread = threadFactory.newThread(() -> {
+            try {
+                runnable.run();
+            } finally {
+                running.remove(Thread.currentThread());
+                permits.release();
+                synchronized (availability) {
+                    availability.notifyAll();
+                }
+            }
+        });
+        running.add(thread);
+        thread.start();
+        return true;
+    }
+
+    @Override
+    public int blockForAvailableThreads() {
+        synchronized (availability) {
+            while (!shutdown && permits.availablePermits() < 1) {
+                try {
+                    availability.wait(500);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        return shutdown ? 0 : permits.availablePermits();
+    }
+
+    @Override
+    public void shutdown(boolean waitForJobsToComplete) {
+        shutdown = true;
+        synchronized (availability) {
+            availability.notifyAll();
+        }
+        if (!waitForJobsToComplete) {
+            return;
+        }
+        for (Thread thread : Set.copyOf(running)) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public int getPoolSize() {
+        return threadCount;
+    }
+
+    @Override
+    public void setInstanceId(String schedInstId) {
+        // Thread names use the scheduler name only.
+    }
+
+    @Override
+    public void setInstanceName(String schedName) {
+        this.instanceName = schedName;
+    }
+
+    /**
+     * Sets the maximum number of jobs running at once.
+     */
+    public void setThreadCount(int threadCount) {
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Accepted for compatibility with {@code SimpleThreadPool} settings; virtual threads always have normal priority.
+     */
+    public void setThreadPriority(int threadPriority) {
+        // Virtual threads ignore priorities.
+    }
+
+    /**
+     * Accepted for compatibility with {@code SimpleThreadPool} settings; job threads always inherit the context
+     * class loader of the scheduler thread that starts them.
+     */
+    public void setThreadsInheritContextClassLoaderOfInitializingThread(boolean inherit) {
+        // Virtual threads inherit the context class loader of the thread that creates them.
+    }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -38,6 +39,7 @@ public class LawyerService {
     private final UserRepo userRepo;
     private final LawyerSpecializationRepo lawyerSpecializationRepo;
     private final AwsService awsService;
+    private final ApplicationEventPublisher eventPublisher;
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
 
@@ -73,6 +75,7 @@ public class LawyerService {
         lawyer.setVerificationStatus(VerificationStatus.PENDING);
         Lawyer savedLawyer = lawyerRepo.save(lawyer);
         log.info("Profile created for user: {}", user.getEmail());
+        eventPublisher.publishEvent(new LawyerStatusChangedEvent(user.getId()));
         saveLawyerSpecializations(savedLawyer, lawyerProfileDTO.getSpecializations());
         LawyerInfoDTO lawyerInfoDTO = LawyerUtil.mapLawyerToLawyerInfoDTO(savedLawyer, lawyerProfileDTO.getSpecializations());
         return ApiResponse.success(lawyerInfoDTO, HttpStatus.CREATED, "Lawyer profile created successfully");
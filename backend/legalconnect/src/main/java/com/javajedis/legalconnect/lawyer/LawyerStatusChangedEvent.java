@@ -0,0 +1,11 @@
+package com.javajedis.legalconnect.lawyer;
+
+import java.util.UUID;
+
+/**
+ * Published when a user's lawyer profile or verification status changes, so cached lawyer status can be evicted.
+ *
+ * @param userId the ID of the user owning the lawyer profile
+ */
+public record LawyerStatusChangedEvent(UUID userId) {
+}
@@ -12,12 +12,13 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.javajedis.legalconnect.casemanagement.Case;
 import com.javajedis.legalconnect.casemanagement.CaseRepo;
 import com.javajedis.legalconnect.casemanagement.CaseStatus;
 import com.javajedis.legalconnect.common.dto.ApiResponse;
-import com.javajedis.legalconnect.common.service.EmailService;
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
 import com.javajedis.legalconnect.common.utility.GetUserUtil;
 import com.javajedis.legalconnect.lawyer.LawyerRepo;
 import com.javajedis.legalconnect.lawyer.enums.District;
@@ -29,7 +30,8 @@ import com.javajedis.legalconnect.lawyerdirectory.dto.LawyerReviewListResponseDT
 import com.javajedis.legalconnect.lawyerdirectory.dto.LawyerReviewResponseDTO;
 import com.javajedis.legalconnect.lawyerdirectory.dto.LawyerSearchResultDTO;
 import com.javajedis.legalconnect.lawyerdirectory.dto.UpdateLawyerReviewDTO;
-import com.javajedis.legalconnect.notifications.NotificationService;
+import com.javajedis.legalconnect.notifications.NotificationDispatcher;
+import com.javajedis.legalconnect.notifications.NotificationEvent;
 import com.javajedis.legalconnect.user.ProfilePictureDTO;
 import com.javajedis.legalconnect.user.User;
 import com.javajedis.legalconnect.user.UserRepo;
@@ -47,8 +49,7 @@ public class LawyerDirectoryService {
     private final LawyerReviewRepo lawyerReviewRepo;
     private final UserRepo userRepo;
     private final CaseRepo caseRepo;
-    private final NotificationService notificationService;
-    private final EmailService emailService;
+    private final NotificationDispatcher notificationDispatcher;
 
 
     /**
@@ -88,6 +89,7 @@ public class LawyerDirectoryService {
     /**
      * Adds a review for a lawyer by a client for a resolved case.
      */
+    @Transactional
     public ResponseEntity<ApiResponse<LawyerReviewResponseDTO>> addReview(CreateLawyerReviewDTO reviewDTO) {
         log.info("Adding review for case: {} by client", reviewDTO.getCaseId());
         Case caseEntity = caseRepo.findById(reviewDTO.getCaseId()).orElse(null);
@@ -98,8 +100,8 @@ public class LawyerDirectoryService {
         User client = caseEntity.getClient();
         User lawyer = caseEntity.getLawyer().getUser();
 
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
-        if (!client.getId().equals(currentUser.getId())) {
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
+        if (!client.getId().equals(currentUser.id())) {
             return ApiResponse.error("You are not authorized to create review for this case", HttpStatus.FORBIDDEN);
         }
         if (!caseEntity.getStatus().equals(CaseStatus.RESOLVED)) {
@@ -115,26 +117,18 @@ public class LawyerDirectoryService {
 
         LawyerReview savedReview = lawyerReviewRepo.save(lawyerReview);
 
-        UUID lawyerUserId = lawyer.getId();
-        String lawyerEmail = lawyer.getEmail();
         String clientName = client.getFirstName() + " " + client.getLastName();
 
         String subject = "New Client Review Received";
         String content = String.format("Your client %s has provided feedback for case '%s'.",
                 clientName, caseEntity.getTitle());
 
-        notificationService.sendNotification(lawyerUserId, content);
-
         Map<String, Object> templateVariables = new HashMap<>();
         templateVariables.put("notificationType", "Client Review");
         templateVariables.put("content", content);
 
-        emailService.sendTemplateEmail(
-                lawyerEmail,
-                subject,
-                "notification-email",
-                templateVariables
-        );
+        notificationDispatcher.dispatch(NotificationEvent.of(null, lawyer, subject, content, templateVariables)
+                .withSource("review", savedReview.getId(), "created"));
 
         LawyerReviewResponseDTO responseDTO = mapReviewToResponseDTO(savedReview);
 
@@ -151,8 +145,8 @@ public class LawyerDirectoryService {
             return ApiResponse.error(REVIEW_NOT_FOUND_MSG, HttpStatus.NOT_FOUND);
         }
 
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
-        if (!existingReview.getClient().getId().equals(currentUser.getId())) {
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
+        if (!existingReview.getClient().getId().equals(currentUser.id())) {
             return ApiResponse.error("You are not authorized to update this review", HttpStatus.FORBIDDEN);
         }
 
@@ -175,8 +169,8 @@ public class LawyerDirectoryService {
             return ApiResponse.error(REVIEW_NOT_FOUND_MSG, HttpStatus.NOT_FOUND);
         }
 
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
-        if (!existingReview.getClient().getId().equals(currentUser.getId())) {
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
+        if (!existingReview.getClient().getId().equals(currentUser.id())) {
             return ApiResponse.error("You are not authorized to delete this review", HttpStatus.FORBIDDEN);
         }
 
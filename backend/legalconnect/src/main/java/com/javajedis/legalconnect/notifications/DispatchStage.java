@@ -0,0 +1,110 @@
+package com.javajedis.legalconnect.notifications;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * One stage of the notification pipeline: a fixed pool of threads draining a bounded queue.
+ *
+ * <p>When the queue is full the submitting thread runs the task itself, which slows producers down
+ * instead of dropping notifications or growing the queue without bound.
+ */
+@Slf4j
+final class DispatchStage {
+    static final String METRIC_TASKS = "notifications.dispatch.tasks";
+    static final String METRIC_QUEUE = "notifications.dispatch.queue";
+    static final String METRIC_SATURATED = "notifications.dispatch.saturated";
+
+    private static final String TAG_STAGE = "stage";
+    private static final String TAG_OUTCOME = "outcome";
+
+    private final String name;
+    private final ThreadPoolExecutor executor;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter saturatedCounter;
+
+    DispatchStage(String name, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.successTimer = taskTimer(meterRegistry, name, "success");
+        this.failureTimer = taskTimer(meterRegistry, name, "failure");
+        this.saturatedCounter = Counter.builder(METRIC_SATURATED)
+                .description("Notification tasks run by the submitting thread because the stage queue was full")
+                .tag(TAG_STAGE, name)
+                .register(meterRegistry);
+
+        RejectedExecutionHandler callerRuns = (task, pool) -> {
+            if (pool.isShutdown()) {
+                log.warn("Notification {} stage is shut down, dropping task", name);
+                return;
+            }
+            saturatedCounter.increment();
+            task.run();
+        };
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("notify-" + name + "-"),
+                callerRuns);
+
+        Gauge.builder(METRIC_QUEUE, executor, pool -> pool.getQueue().size())
+                .description("Notification tasks waiting in the stage queue")
+                .tag(TAG_STAGE, name)
+                .register(meterRegistry);
+    }
+
+    String name() {
+        return name;
+    }
+
+    /**
+     * Queues a task. Failures are logged and counted, never propagated.
+     *
+     * @param description what the task does, for logging
+     * @param task        the task
+     */
+    void submit(String description, Runnable task) {
+        executor.execute(() -> {
+            long start = System.nanoTime();
+            try {
+                task.run();
+                successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            } catch (RuntimeException e) {
+                failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                log.error("Notification {} stage failed to {}: {}", name, description, e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Stops accepting tasks and waits for the queued ones to finish.
+     *
+     * @param timeoutMillis how long to wait
+     * @return true if every queued task finished in time
+     */
+    boolean shutdown(long timeoutMillis) {
+        executor.shutdown();
+        try {
+            return executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Timer taskTimer(MeterRegistry meterRegistry, String stage, String outcome) {
+        return Timer.builder(METRIC_TASKS)
+                .description("Notification dispatch tasks by stage and outcome")
+                .tag(TAG_STAGE, stage)
+                .tag(TAG_OUTCOME, outcome)
+                .register(meterRegistry);
+    }
+}
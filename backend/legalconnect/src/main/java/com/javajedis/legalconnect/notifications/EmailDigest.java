@@ -0,0 +1,44 @@
+package com.javajedis.legalconnect.notifications;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * How a user receives the emails of a notification type: one email per notification, or one digest per
+ * window collecting every notification of the window.
+ */
+public enum EmailDigest {
+    IMMEDIATE(null),
+    FIFTEEN_MINUTES(Duration.ofMinutes(15)),
+    HOURLY(Duration.ofHours(1)),
+    DAILY(Duration.ofDays(1));
+
+    private final Duration window;
+
+    EmailDigest(Duration window) {
+        this.window = window;
+    }
+
+    public boolean isImmediate() {
+        return window == null;
+    }
+
+    /**
+     * Returns the end of the window containing {@code now}, when its digest is sent. Windows are aligned
+     * to UTC, so every notification of a window shares its end.
+     *
+     * @param now the current time
+     * @return the end of the current window
+     * @throws IllegalStateException for {@link #IMMEDIATE}, which has no window
+     */
+    public OffsetDateTime windowEnd(OffsetDateTime now) {
+        if (window == null) {
+            throw new IllegalStateException("Immediate emails have no digest window");
+        }
+        long windowSeconds = window.toSeconds();
+        long end = (Math.floorDiv(now.toEpochSecond(), windowSeconds) + 1) * windowSeconds;
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(end), ZoneOffset.UTC);
+    }
+}
@@ -10,13 +10,18 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_receiver_read_created", columnList = "receiver_id, is_read, created_at"),
+        @Index(name = "idx_notifications_receiver_created", columnList = "receiver_id, created_at"),
+        @Index(name = "idx_notifications_created", columnList = "created_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,78 @@
+package com.javajedis.legalconnect.notifications;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.amazonaws.AmazonClientException;
+import com.javajedis.legalconnect.common.exception.ExternalServiceUnavailableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Enforces the retention period of read notifications, keeping the {@code notifications} table, and the
+ * per-user history every page sorts, limited to recent and unread notifications.
+ */
+@Slf4j
+@Component
+public class NotificationArchiver {
+    static final String METRIC_ARCHIVED = "notifications.archived";
+
+    private final NotificationRetentionService retentionService;
+    private final Duration readRetention;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Counter archivedCounter;
+
+    public NotificationArchiver(NotificationRetentionService retentionService,
+                                MeterRegistry meterRegistry,
+                                @Value("${spring.custom.notifications.retention.read-ttl-days:90}") int readTtlDays,
+                                @Value("${spring.custom.notifications.retention.batch-size:5000}") int batchSize,
+                                @Value("${spring.custom.notifications.retention.max-batches:100}") int maxBatches) {
+        this.retentionService = retentionService;
+        this.readRetention = Duration.ofDays(readTtlDays);
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.archivedCounter = Counter.builder(METRIC_ARCHIVED)
+                .description("Read notifications moved to the archive")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Archives read notifications older than the retention period, a bounded number of batches per run.
+     */
+    @Scheduled(cron = "${spring.custom.notifications.retention.cron:0 0 4 * * *}")
+    public void compact() {
+        if (!retentionService.isArchiveConfigured()) {
+            log.warn("Skipping notification archival, no archive bucket is configured");
+            return;
+        }
+
+        OffsetDateTime cutoff = OffsetDateTime.now().minus(readRetention);
+        int archived = 0;
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                int count = retentionService.archiveBatch(cutoff, batchSize);
+                archived += count;
+                archivedCounter.increment(count);
+                if (count < batchSize) {
+                    break;
+                }
+            }
+        } catch (AmazonClientException | ExternalServiceUnavailableException | DataAccessException
+                 | UncheckedIOException e) {
+            log.error("Notification archival stopped after {} notifications: {}", archived, e.getMessage());
+        }
+
+        if (archived > 0) {
+            log.info("Archived {} read notifications created before {}", archived, cutoff);
+        }
+    }
+}
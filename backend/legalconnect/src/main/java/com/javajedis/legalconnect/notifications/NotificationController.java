@@ -1,10 +1,10 @@
 package com.javajedis.legalconnect.notifications;
 
 import com.javajedis.legalconnect.common.dto.ApiResponse;
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
 import com.javajedis.legalconnect.common.security.RequireUserOrVerifiedLawyer;
 import com.javajedis.legalconnect.common.utility.GetUserUtil;
 import com.javajedis.legalconnect.notifications.dto.*;
-import com.javajedis.legalconnect.user.User;
 import com.javajedis.legalconnect.user.UserRepo;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -50,15 +50,15 @@ public class NotificationController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "false") boolean unreadOnly) {
 
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
         if (currentUser == null) {
             log.warn("GET /notifications/ called but no authenticated user found");
             throw new SecurityException(AUTHENTICATION_REQUIRED_MSG);
         }
 
         log.info("GET /notifications/ called for user: {} with page={}, size={}, unreadOnly={}",
-                currentUser.getId(), page, size, unreadOnly);
-        return notificationService.getUserNotifications(currentUser.getId(), page, size, unreadOnly);
+                currentUser.id(), page, size, unreadOnly);
+        return notificationService.getUserNotifications(currentUser.id(), page, size, unreadOnly);
     }
 
     /**
@@ -68,14 +68,14 @@ public class NotificationController {
     @RequireUserOrVerifiedLawyer
     @GetMapping("/unread-count")
     public ResponseEntity<ApiResponse<UnreadCountResponseDTO>> getUnreadCount() {
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
         if (currentUser == null) {
             log.warn("GET /notifications/unread-count called but no authenticated user found");
             throw new SecurityException(AUTHENTICATION_REQUIRED_MSG);
         }
 
-        log.info("GET /notifications/unread-count called for user: {}", currentUser.getId());
-        return notificationService.getUnreadCount(currentUser.getId());
+        log.info("GET /notifications/unread-count called for user: {}", currentUser.id());
+        return notificationService.getUnreadCount(currentUser.id());
     }
 
     /**
@@ -85,14 +85,14 @@ public class NotificationController {
     @RequireUserOrVerifiedLawyer
     @PutMapping("/{id}/read")
     public ResponseEntity<ApiResponse<NotificationResponseDTO>> markNotificationAsRead(@PathVariable UUID id) {
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
         if (currentUser == null) {
             log.warn("PUT /notifications/{}/read called but no authenticated user found", id);
             throw new SecurityException(AUTHENTICATION_REQUIRED_MSG);
         }
 
-        log.info("PUT /notifications/{}/read called for user: {}", id, currentUser.getId());
-        return notificationService.markAsRead(id, currentUser.getId());
+        log.info("PUT /notifications/{}/read called for user: {}", id, currentUser.id());
+        return notificationService.markAsRead(id, currentUser.id());
     }
 
     /**
@@ -101,15 +101,32 @@ public class NotificationController {
     @Operation(summary = "Mark all notifications as read", description = "Marks all notifications as read for the authenticated user.")
     @RequireUserOrVerifiedLawyer
     @PutMapping("/mark-all-read")
-    public ResponseEntity<ApiResponse<UnreadCountResponseDTO>> markAllNotificationsAsRead() {
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
+    public ResponseEntity<ApiResponse<MarkReadResponseDTO>> markAllNotificationsAsRead() {
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
         if (currentUser == null) {
             log.warn("PUT /notifications/mark-all-read called but no authenticated user found");
             throw new SecurityException(AUTHENTICATION_REQUIRED_MSG);
         }
 
-        log.info("PUT /notifications/mark-all-read called for user: {}", currentUser.getId());
-        return notificationService.markAllAsRead(currentUser.getId());
+        log.info("PUT /notifications/mark-all-read called for user: {}", currentUser.id());
+        return notificationService.markAllAsRead(currentUser.id());
+    }
+
+    /**
+     * Mark a notification and every older notification as read for the authenticated user.
+     */
+    @Operation(summary = "Mark notifications as read up to one", description = "Marks the given notification and every older notification as read for the authenticated user.")
+    @RequireUserOrVerifiedLawyer
+    @PutMapping("/{id}/read-up-to")
+    public ResponseEntity<ApiResponse<MarkReadResponseDTO>> markNotificationsAsReadUpTo(@PathVariable UUID id) {
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
+        if (currentUser == null) {
+            log.warn("PUT /notifications/{}/read-up-to called but no authenticated user found", id);
+            throw new SecurityException(AUTHENTICATION_REQUIRED_MSG);
+        }
+
+        log.info("PUT /notifications/{}/read-up-to called for user: {}", id, currentUser.id());
+        return notificationService.markAsReadUpTo(id, currentUser.id());
     }
 
     /**
@@ -119,13 +136,13 @@ public class NotificationController {
     @RequireUserOrVerifiedLawyer
     @GetMapping("/preferences")
     public ResponseEntity<ApiResponse<NotificationPreferenceListResponseDTO>> getNotificationPreferences() {
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
         if (currentUser == null) {
             log.warn("GET /notifications/preferences called but no authenticated user found");
             throw new SecurityException(AUTHENTICATION_REQUIRED_MSG);
         }
 
-        log.info("GET /notifications/preferences called for user: {}", currentUser.getId());
+        log.info("GET /notifications/preferences called for user: {}", currentUser.id());
         return notificationPreferenceService.getAllPreferences();
     }
 
@@ -139,14 +156,14 @@ public class NotificationController {
             @PathVariable NotificationType type,
             @Valid @RequestBody UpdateNotificationPreferenceDTO updateData) {
 
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
         if (currentUser == null) {
             log.warn("PUT /notifications/preferences/{} called but no authenticated user found", type);
             throw new SecurityException(AUTHENTICATION_REQUIRED_MSG);
         }
 
         log.info("PUT /notifications/preferences/{} called for user: {} with emailEnabled={}, webPushEnabled={}",
-                type, currentUser.getId(), updateData.isEmailEnabled(), updateData.isWebPushEnabled());
+                type, currentUser.id(), updateData.isEmailEnabled(), updateData.isWebPushEnabled());
 
         return notificationPreferenceService.updateNotificationPref(type, updateData);
     }
@@ -0,0 +1,87 @@
+package com.javajedis.legalconnect.notifications;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends the email digests whose window has ended.
+ */
+@Slf4j
+@Component
+public class NotificationDigestFlusher {
+    static final String METRIC_DIGESTS = "notifications.digest.emails";
+    static final String METRIC_ITEMS = "notifications.digest.items";
+
+    private final NotificationDigestService digestService;
+    private final NotificationOutboxRelay outboxRelay;
+    private final int batchSize;
+    private final Counter digestCounter;
+    private final Counter itemCounter;
+
+    public NotificationDigestFlusher(NotificationDigestService digestService,
+                                     NotificationOutboxRelay outboxRelay,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${spring.custom.notifications.digest.batch-size:500}") int batchSize) {
+        this.digestService = digestService;
+        this.outboxRelay = outboxRelay;
+        this.batchSize = batchSize;
+        this.digestCounter = Counter.builder(METRIC_DIGESTS)
+                .description("Digest emails sent")
+                .register(meterRegistry);
+        this.itemCounter = Counter.builder(METRIC_ITEMS)
+                .description("Notifications coalesced into digest emails")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Flushes every due digest, one user per transaction.
+     */
+    @Scheduled(fixedDelayString = "${spring.custom.notifications.digest.flush-interval-ms:60000}")
+    public void flushDue() {
+        OffsetDateTime now = OffsetDateTime.now();
+        int flushedDigests = 0;
+        List<UUID> recipients;
+        int flushedInPage;
+        do {
+            recipients = digestService.recipientsDue(now, batchSize);
+            flushedInPage = 0;
+            for (UUID recipientId : recipients) {
+                if (flush(recipientId, now)) {
+                    flushedInPage++;
+                }
+            }
+            flushedDigests += flushedInPage;
+            // A full page may hide more users; stop once a page makes no progress, e.g. locked by another node.
+        } while (recipients.size() == batchSize && flushedInPage > 0);
+
+        if (flushedDigests > 0) {
+            log.info("Sent {} notification digests", flushedDigests);
+            outboxRelay.wakeUp();
+        }
+    }
+
+    private boolean flush(UUID recipientId, OffsetDateTime now) {
+        try {
+            int items = digestService.flush(recipientId, now);
+            if (items == 0) {
+                return false;
+            }
+            digestCounter.increment();
+            itemCounter.increment(items);
+            return true;
+        } catch (DataAccessException e) {
+            log.error("Failed to flush notification digest for user {}: {}", recipientId, e.getMessage());
+            return false;
+        }
+    }
+}
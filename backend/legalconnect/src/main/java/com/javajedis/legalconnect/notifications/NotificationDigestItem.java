@@ -0,0 +1,60 @@
+package com.javajedis.legalconnect.notifications;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A notification held back for a user's email digest, sent with the rest of its window at {@code flushAt}.
+ */
+@Entity
+@Table(name = "notification_digest_items", indexes = {
+        @Index(name = "idx_notification_digest_items_flush_at", columnList = "flush_at"),
+        @Index(name = "idx_notification_digest_items_recipient_flush_at", columnList = "recipient_id, flush_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationDigestItem {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(name = "id", nullable = false, updatable = false, columnDefinition = "UUID")
+    private UUID id;
+
+    @Column(name = "recipient_id", nullable = false, columnDefinition = "UUID")
+    private UUID recipientId;
+
+    @Column(name = "recipient_email", nullable = false)
+    private String recipientEmail;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "notification_type", nullable = false)
+    private NotificationType notificationType;
+
+    @Column(name = "subject")
+    private String subject;
+
+    @Column(name = "content", nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "flush_at", nullable = false, columnDefinition = "TIMESTAMPTZ")
+    private OffsetDateTime flushAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false, columnDefinition = "TIMESTAMPTZ DEFAULT now()")
+    private OffsetDateTime createdAt;
+}
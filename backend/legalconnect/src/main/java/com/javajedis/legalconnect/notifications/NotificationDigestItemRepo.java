@@ -0,0 +1,33 @@
+package com.javajedis.legalconnect.notifications;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for NotificationDigestItem entity.
+ */
+@Repository
+public interface NotificationDigestItemRepo extends JpaRepository<NotificationDigestItem, UUID> {
+
+    /**
+     * Find users with at least one digest item due.
+     */
+    @Query("SELECT DISTINCT i.recipientId FROM NotificationDigestItem i WHERE i.flushAt <= :now")
+    List<UUID> findRecipientsDue(@Param("now") OffsetDateTime now, Pageable pageable);
+
+    /**
+     * Lock the due digest items of a user, oldest first, skipping items locked by another flush.
+     * Must run inside a transaction; the locks are held until it ends.
+     */
+    @Query(value = "SELECT * FROM notification_digest_items WHERE recipient_id = :recipientId AND flush_at <= :now "
+            + "ORDER BY created_at FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<NotificationDigestItem> lockDueForRecipient(@Param("recipientId") UUID recipientId,
+                                                     @Param("now") OffsetDateTime now);
+}
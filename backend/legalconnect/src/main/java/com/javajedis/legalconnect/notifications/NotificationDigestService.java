@@ -0,0 +1,110 @@
+package com.javajedis.legalconnect.notifications;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.javajedis.legalconnect.notifications.NotificationEvent.Recipient;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds back the emails of users who chose a digest and sends each user one email per window.
+ *
+ * <p>Items are stored in the caller's transaction, like outbox rows. A flush locks the due items of one
+ * user, renders them into a single digest email written to the outbox, and deletes them, all in one
+ * transaction. Flushes on several nodes skip each other's locked items, so a window is sent once.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationDigestService {
+    static final String DIGEST_TEMPLATE = "notification-digest";
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy hh:mm a", Locale.ENGLISH);
+
+    private final NotificationDigestItemRepo digestItemRepo;
+    private final NotificationOutboxService outboxService;
+
+    /**
+     * Holds a notification for the recipient's next digest of the given window.
+     *
+     * @param recipient the user to notify
+     * @param type      the notification type
+     * @param subject   the email subject the notification would have had
+     * @param content   the notification text
+     * @param digest    the digest window, not {@link EmailDigest#IMMEDIATE}
+     */
+    @Transactional
+    public void add(Recipient recipient, NotificationType type, String subject, String content, EmailDigest digest) {
+        NotificationDigestItem item = new NotificationDigestItem();
+        item.setRecipientId(recipient.userId());
+        item.setRecipientEmail(recipient.email());
+        item.setNotificationType(type);
+        item.setSubject(subject);
+        item.setContent(content);
+        item.setFlushAt(digest.windowEnd(OffsetDateTime.now()));
+        digestItemRepo.save(item);
+        log.debug("Held {} notification for the {} digest of user {}", type, digest, recipient.userId());
+    }
+
+    /**
+     * Finds users with a digest due.
+     *
+     * @param now   the current time
+     * @param limit the maximum number of users
+     * @return the user IDs
+     */
+    public List<UUID> recipientsDue(OffsetDateTime now, int limit) {
+        return digestItemRepo.findRecipientsDue(now, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Sends the due digest of one user.
+     *
+     * @param recipientId the user ID
+     * @param now         the current time
+     * @return the number of notifications in the digest, 0 if nothing was due or another node holds it
+     */
+    @Transactional
+    public int flush(UUID recipientId, OffsetDateTime now) {
+        List<NotificationDigestItem> items = digestItemRepo.lockDueForRecipient(recipientId, now);
+        if (items.isEmpty()) {
+            return 0;
+        }
+
+        List<Map<String, Object>> entries = new ArrayList<>();
+        for (NotificationDigestItem item : items) {
+            Map<String, Object> entry = new HashMap<>();
+            entry.put("notificationType", item.getNotificationType().getDisplayName());
+            entry.put("content", item.getContent());
+            entry.put("time", item.getCreatedAt() == null ? null
+                    : TIME_FORMAT.format(item.getCreatedAt().withOffsetSameInstant(ZoneOffset.UTC)));
+            entries.add(entry);
+        }
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("notificationCount", items.size());
+        variables.put("notifications", entries);
+
+        NotificationDigestItem latest = items.get(items.size() - 1);
+        String subject = items.size() == 1 && latest.getSubject() != null
+                ? latest.getSubject()
+                : "LegalConnect: " + items.size() + " new notifications";
+        outboxService.enqueueEmail("digest:" + items.get(0).getId(), recipientId, latest.getRecipientEmail(), subject,
+                DIGEST_TEMPLATE, variables);
+        digestItemRepo.deleteAllInBatch(items);
+        log.debug("Flushed digest of {} notifications for user {}", items.size(), recipientId);
+        return items.size();
+    }
+}
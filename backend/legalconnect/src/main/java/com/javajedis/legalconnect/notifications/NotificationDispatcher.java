@@ -0,0 +1,209 @@
+package com.javajedis.legalconnect.notifications;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.javajedis.legalconnect.jobscheduler.JobSchedulerService;
+import com.javajedis.legalconnect.notifications.NotificationEvent.Recipient;
+import com.javajedis.legalconnect.notifications.NotificationEvent.Reminder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Delivers {@link NotificationEvent}s off the request thread.
+ *
+ * <p>The delivery channels of every recipient are resolved up front with one bulk preference lookup.
+ * Web notifications and emails are written to the outbox in the caller's transaction, so they survive a
+ * crash after the commit and vanish with a rollback; the {@link NotificationOutboxRelay} is woken once the
+ * transaction commits. Emails of users who chose a digest for the event's type are held by the
+ * {@link NotificationDigestService} instead. Reminders are stored by the {@link ReminderService}, also in the
+ * caller's transaction.
+ *
+ * <p>Outbox rows are keyed by the event's source, type, channel and recipient, so an event dispatched twice
+ * is delivered once. Events without a source get a random key and are always delivered.
+ *
+ * <p>Tasks may still have Quartz reminder jobs scheduled before reminders moved to the {@code reminders}
+ * table. Replacing or cancelling the reminders of a task deletes those jobs on a bounded single-thread stage
+ * after the commit, in the order the changes were dispatched.
+ */
+@Slf4j
+@Service
+public class NotificationDispatcher {
+    static final String EMAIL_TEMPLATE = "notification-email";
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+    private final NotificationOutboxService outboxService;
+    private final NotificationOutboxRelay outboxRelay;
+    private final NotificationDigestService digestService;
+    private final ReminderService reminderService;
+    private final NotificationPreferenceService preferenceService;
+    private final JobSchedulerService jobSchedulerService;
+    private final DispatchStage reminderStage;
+
+    public NotificationDispatcher(NotificationOutboxService outboxService,
+                                  NotificationOutboxRelay outboxRelay,
+                                  NotificationDigestService digestService,
+                                  ReminderService reminderService,
+                                  NotificationPreferenceService preferenceService,
+                                  JobSchedulerService jobSchedulerService,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${spring.custom.notifications.dispatch.queue-capacity:1000}") int queueCapacity) {
+        this.outboxService = outboxService;
+        this.outboxRelay = outboxRelay;
+        this.digestService = digestService;
+        this.reminderService = reminderService;
+        this.preferenceService = preferenceService;
+        this.jobSchedulerService = jobSchedulerService;
+        this.reminderStage = new DispatchStage("reminder", 1, queueCapacity, meterRegistry);
+    }
+
+    /**
+     * Notifies the recipients of an event on the channels they have enabled, and stores its reminder.
+     *
+     * @param event the event
+     */
+    public void dispatch(NotificationEvent event) {
+        Map<UUID, NotificationPreferenceMask> preferences = preferencesOf(event);
+        NotificationType type = event.type();
+
+        List<Recipient> webRecipients = new ArrayList<>();
+        List<Recipient> emailRecipients = new ArrayList<>();
+        Map<Recipient, EmailDigest> digestRecipients = new LinkedHashMap<>();
+        for (Recipient recipient : event.recipients()) {
+            NotificationPreferenceMask mask = maskOf(preferences, recipient);
+            if (type == null || mask.isWebPushEnabled(type)) {
+                webRecipients.add(recipient);
+            }
+            if (type == null) {
+                emailRecipients.add(recipient);
+            } else if (mask.isEmailEnabled(type)) {
+                EmailDigest digest = mask.emailDigest(type);
+                if (digest.isImmediate()) {
+                    emailRecipients.add(recipient);
+                } else {
+                    digestRecipients.put(recipient, digest);
+                }
+            }
+        }
+
+        Reminder reminder = event.reminder();
+        List<Recipient> webReminders = new ArrayList<>();
+        List<Recipient> emailReminders = new ArrayList<>();
+        if (reminder != null) {
+            for (Recipient recipient : reminder.recipients()) {
+                NotificationPreferenceMask mask = maskOf(preferences, recipient);
+                if (mask.isWebPushEnabled(NotificationType.SCHEDULE_REMINDER)) {
+                    webReminders.add(recipient);
+                }
+                if (mask.isEmailEnabled(NotificationType.SCHEDULE_REMINDER)) {
+                    emailReminders.add(recipient);
+                }
+            }
+        }
+
+        String eventId = eventIdOf(event);
+        for (Recipient recipient : webRecipients) {
+            outboxService.enqueueWebPush(dedupKey(eventId, "web", recipient), recipient.userId(), event.content());
+        }
+        for (Recipient recipient : emailRecipients) {
+            outboxService.enqueueEmail(dedupKey(eventId, "email", recipient), recipient.userId(), recipient.email(),
+                    event.subject(), EMAIL_TEMPLATE, event.templateVariables());
+        }
+        digestRecipients.forEach((recipient, digest) ->
+                digestService.add(recipient, type, event.subject(), event.content(), digest));
+        if (reminder != null) {
+            if (reminder.replaceExisting()) {
+                reminderService.cancel(reminder.taskId());
+            }
+            reminderService.schedule(reminder.taskId(), reminder.fireAt(), webReminders, emailReminders,
+                    event.subject(), event.content(), EMAIL_TEMPLATE, event.templateVariables());
+        }
+
+        afterCommit(() -> {
+            if (!webRecipients.isEmpty() || !emailRecipients.isEmpty()) {
+                outboxRelay.wakeUp();
+            }
+            if (reminder != null && reminder.replaceExisting()) {
+                deleteLegacyReminderJobs(reminder.taskId());
+            }
+        });
+    }
+
+    /**
+     * Deletes the pending reminders of a task.
+     *
+     * @param taskId the task ID
+     */
+    public void cancelReminders(UUID taskId) {
+        reminderService.cancel(taskId);
+        afterCommit(() -> deleteLegacyReminderJobs(taskId));
+    }
+
+    /**
+     * Stops the reminder stage, letting queued reminder changes finish.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (!reminderStage.shutdown(SHUTDOWN_TIMEOUT_MILLIS)) {
+            log.warn("Notification {} stage did not drain within {} ms", reminderStage.name(), SHUTDOWN_TIMEOUT_MILLIS);
+        }
+    }
+
+    private void deleteLegacyReminderJobs(UUID taskId) {
+        reminderStage.submit("delete reminder jobs of task " + taskId,
+                () -> jobSchedulerService.deleteAllJobsForTask(taskId));
+    }
+
+    private static String eventIdOf(NotificationEvent event) {
+        if (event.source() == null) {
+            return UUID.randomUUID().toString();
+        }
+        return event.source() + ":" + (event.type() != null ? event.type().name() : "notice");
+    }
+
+    private static String dedupKey(String eventId, String channel, Recipient recipient) {
+        return eventId + ":" + channel + ":" + recipient.userId();
+    }
+
+    private Map<UUID, NotificationPreferenceMask> preferencesOf(NotificationEvent event) {
+        Set<UUID> userIds = new HashSet<>();
+        if (event.type() != null) {
+            event.recipients().forEach(recipient -> userIds.add(recipient.userId()));
+        }
+        if (event.reminder() != null) {
+            event.reminder().recipients().forEach(recipient -> userIds.add(recipient.userId()));
+        }
+        return userIds.isEmpty() ? Map.of() : preferenceService.preferencesFor(userIds);
+    }
+
+    private static NotificationPreferenceMask maskOf(Map<UUID, NotificationPreferenceMask> preferences,
+                                                     Recipient recipient) {
+        return preferences.getOrDefault(recipient.userId(), NotificationPreferenceMask.ALL_ENABLED);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.javajedis.legalconnect.notifications;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.javajedis.legalconnect.user.User;
+
+/**
+ * A domain event to notify one or more users about, handed to {@link NotificationDispatcher}.
+ *
+ * <p>Each recipient gets a web notification and an email, subject to their preferences for {@code type}.
+ * A null type bypasses preferences, for notices every user must receive. An optional reminder schedules
+ * deferred notifications for a task, subject to the {@link NotificationType#SCHEDULE_REMINDER} preferences
+ * of its recipients.
+ *
+ * <p>An event with a source is delivered once per source, type, channel and recipient, so dispatching the
+ * same occurrence again, for example from a retried request, notifies no one twice. Occurrences without a
+ * stable identity, such as updates that may repeat, have no source and are always delivered.
+ *
+ * @param type              the preference type gating delivery, or null to always deliver
+ * @param recipients        the users to notify now
+ * @param subject           the email subject
+ * @param content           the notification text
+ * @param templateVariables the variables of the notification email template
+ * @param reminder          the reminder to schedule, or null
+ * @param source            identifies the domain occurrence, such as {@code case:<id>:created}, or null
+ */
+public record NotificationEvent(NotificationType type,
+                                List<Recipient> recipients,
+                                String subject,
+                                String content,
+                                Map<String, Object> templateVariables,
+                                Reminder reminder,
+                                String source) {
+
+    public NotificationEvent {
+        recipients = List.copyOf(recipients);
+        templateVariables = Collections.unmodifiableMap(new HashMap<>(templateVariables));
+    }
+
+    /**
+     * Creates an event notifying a single user.
+     *
+     * @param type              the preference type gating delivery, or null to always deliver
+     * @param recipient         the user to notify
+     * @param subject           the email subject
+     * @param content           the notification text
+     * @param templateVariables the variables of the notification email template
+     * @return the event
+     */
+    public static NotificationEvent of(NotificationType type, User recipient, String subject, String content,
+                                       Map<String, Object> templateVariables) {
+        return new NotificationEvent(type, List.of(Recipient.of(recipient)), subject, content, templateVariables, null, null);
+    }
+
+    /**
+     * Returns a copy of this event that also schedules the given reminder.
+     */
+    public NotificationEvent withReminder(Reminder reminder) {
+        return new NotificationEvent(type, recipients, subject, content, templateVariables, reminder, source);
+    }
+
+    /**
+     * Returns a copy of this event identified by the given domain occurrence.
+     *
+     * @param entity the kind of entity the occurrence is about, such as {@code case}
+     * @param id     the entity ID
+     * @param action what happened to the entity, such as {@code created}
+     */
+    public NotificationEvent withSource(String entity, UUID id, String action) {
+        return new NotificationEvent(type, recipients, subject, content, templateVariables, reminder,
+                entity + ":" + id + ":" + action);
+    }
+
+    /**
+     * A user to notify.
+     *
+     * @param userId the user ID, used for web notifications
+     * @param email  the email address
+     */
+    public record Recipient(UUID userId, String email) {
+
+        public static Recipient of(User user) {
+            return new Recipient(user.getId(), user.getEmail());
+        }
+    }
+
+    /**
+     * Deferred notifications for a task, such as a schedule or a meeting.
+     *
+     * @param taskId          the task the reminder jobs belong to
+     * @param fireAt          when the reminders fire
+     * @param recipients      the users to remind
+     * @param replaceExisting whether to delete the existing reminder jobs of the task first
+     */
+    public record Reminder(UUID taskId, OffsetDateTime fireAt, List<Recipient> recipients, boolean replaceExisting) {
+
+        public Reminder {
+            recipients = List.copyOf(recipients);
+        }
+
+        /**
+         * Creates reminders for a new task.
+         */
+        public static Reminder schedule(UUID taskId, OffsetDateTime fireAt, User... recipients) {
+            return new Reminder(taskId, fireAt, recipientsOf(recipients), false);
+        }
+
+        /**
+         * Creates reminders that replace the existing reminders of a task.
+         */
+        public static Reminder reschedule(UUID taskId, OffsetDateTime fireAt, User... recipients) {
+            return new Reminder(taskId, fireAt, recipientsOf(recipients), true);
+        }
+
+        private static List<Recipient> recipientsOf(User... users) {
+            return Arrays.stream(users).map(Recipient::of).toList();
+        }
+    }
+}
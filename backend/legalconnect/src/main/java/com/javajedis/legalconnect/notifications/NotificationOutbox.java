@@ -0,0 +1,90 @@
+package com.javajedis.legalconnect.notifications;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A notification waiting to be delivered, written in the same transaction as the change it reports.
+ * Rows are drained by {@link NotificationOutboxRelay}.
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_notification_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationOutbox {
+    @Id
+    @Column(name = "id", nullable = false, updatable = false, columnDefinition = "UUID")
+    private UUID id;
+
+    @Column(name = "dedup_key", nullable = false, unique = true, updatable = false)
+    private String dedupKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "channel", nullable = false, updatable = false)
+    private Channel channel;
+
+    @Column(name = "recipient_id", columnDefinition = "UUID")
+    private UUID recipientId;
+
+    @Column(name = "recipient_email")
+    private String recipientEmail;
+
+    @Column(name = "subject")
+    private String subject;
+
+    @Column(name = "template_name")
+    private String templateName;
+
+    @Column(name = "content", columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "template_variables", columnDefinition = "TEXT")
+    private String templateVariables;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status = Status.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false, columnDefinition = "TIMESTAMPTZ")
+    private OffsetDateTime nextAttemptAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false, columnDefinition = "TIMESTAMPTZ DEFAULT now()")
+    private OffsetDateTime createdAt;
+
+    @Column(name = "sent_at", columnDefinition = "TIMESTAMPTZ")
+    private OffsetDateTime sentAt;
+
+    public enum Channel {
+        EMAIL,
+        WEB_PUSH
+    }
+
+    public enum Status {
+        PENDING,
+        SENT,
+        FAILED
+    }
+}
@@ -0,0 +1,226 @@
+package com.javajedis.legalconnect.notifications;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.javajedis.legalconnect.common.service.EmailService;
+import com.javajedis.legalconnect.common.service.EmailService.TemplateEmail;
+import com.javajedis.legalconnect.notifications.NotificationOutbox.Channel;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Delivers the notification outbox in batches.
+ *
+ * <p>Workers are started by a poll and whenever a transaction that wrote to the outbox commits. Each worker
+ * claims a batch, delivers it without holding row locks, and records the outcome. The emails of a batch
+ * share one pooled SMTP connection. A full batch starts another worker, up to {@code workers} per node.
+ * Rows are claimed with {@code FOR UPDATE SKIP LOCKED} and leased, so relays on several nodes never deliver
+ * the same row concurrently. Delivery is at least once: a node that dies between sending and recording the
+ * outcome sends those rows again after the lease.
+ */
+@Slf4j
+@Component
+public class NotificationOutboxRelay {
+    static final String METRIC_RELAYED = "notifications.outbox.relayed";
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+    private final NotificationOutboxService outboxService;
+    private final NotificationService notificationService;
+    private final EmailService emailService;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int workers;
+    private final int retentionDays;
+    private final ExecutorService executor;
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+
+    public NotificationOutboxRelay(NotificationOutboxService outboxService,
+                                   NotificationService notificationService,
+                                   EmailService emailService,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${spring.custom.notifications.outbox.batch-size:100}") int batchSize,
+                                   @Value("${spring.custom.notifications.outbox.workers:2}") int workers,
+                                   @Value("${spring.custom.notifications.outbox.retention-days:7}") int retentionDays) {
+        this.outboxService = outboxService;
+        this.notificationService = notificationService;
+        this.emailService = emailService;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.workers = workers;
+        this.retentionDays = retentionDays;
+        this.executor = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("outbox-relay-"));
+    }
+
+    /**
+     * Picks up rows that are due for a retry, or were enqueued while every worker was busy.
+     */
+    @Scheduled(fixedDelayString = "${spring.custom.notifications.outbox.poll-interval-ms:2000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    /**
+     * Starts a worker unless {@code workers} are already draining the outbox.
+     */
+    public void wakeUp() {
+        int active;
+        do {
+            active = activeWorkers.get();
+            if (active >= workers) {
+                return;
+            }
+        } while (!activeWorkers.compareAndSet(active, active + 1));
+
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            activeWorkers.decrementAndGet();
+            log.debug("Notification outbox relay is shut down");
+        }
+    }
+
+    /**
+     * Deletes sent rows once they are older than the retention period.
+     */
+    @Scheduled(cron = "${spring.custom.notifications.outbox.purge-cron:0 30 3 * * *}")
+    public void purgeSent() {
+        int purged = outboxService.purgeSentBefore(OffsetDateTime.now().minusDays(retentionDays));
+        if (purged > 0) {
+            log.info("Purged {} sent notifications from the outbox", purged);
+        }
+    }
+
+    /**
+     * Stops the workers, letting the batches in flight finish.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                log.warn("Notification outbox relay did not stop within {} ms", SHUTDOWN_TIMEOUT_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Claims and delivers one batch.
+     *
+     * @return the number of rows claimed
+     */
+    int relayBatch() {
+        List<NotificationOutbox> rows = outboxService.claim(batchSize);
+        List<UUID> sent = new ArrayList<>();
+        List<NotificationOutbox> emailRows = new ArrayList<>();
+        List<TemplateEmail> emails = new ArrayList<>();
+        Map<String, Map<UUID, NotificationOutbox>> webRowsByContent = new LinkedHashMap<>();
+        try {
+            for (NotificationOutbox row : rows) {
+                try {
+                    if (row.getChannel() == Channel.EMAIL) {
+                        emails.add(new TemplateEmail(row.getRecipientEmail(), row.getSubject(), row.getTemplateName(),
+                                outboxService.readVariables(row)));
+                        emailRows.add(row);
+                        continue;
+                    }
+                    if (row.getContent() == null) {
+                        throw new IllegalArgumentException("Web notification has no content");
+                    }
+                    Map<UUID, NotificationOutbox> group = webRowsByContent.computeIfAbsent(row.getContent(),
+                            content -> new LinkedHashMap<>());
+                    if (group.putIfAbsent(row.getRecipientId(), row) != null) {
+                        // The same text twice for one user is two notifications, not one.
+                        notificationService.sendNotification(row.getRecipientId(), row.getContent());
+                        sent.add(row.getId());
+                        record(row, "sent");
+                    }
+                } catch (RuntimeException e) {
+                    recordFailure(row, e);
+                }
+            }
+
+            // Web notifications of a fan-out share their content and are written together.
+            webRowsByContent.forEach((content, group) -> {
+                try {
+                    notificationService.sendNotifications(group.keySet(), content);
+                    for (NotificationOutbox row : group.values()) {
+                        sent.add(row.getId());
+                        record(row, "sent");
+                    }
+                } catch (RuntimeException e) {
+                    group.values().forEach(row -> recordFailure(row, e));
+                }
+            });
+
+            // Emails of a batch share one pooled SMTP connection.
+            List<RuntimeException> emailFailures;
+            try {
+                emailFailures = emails.isEmpty() ? List.of() : emailService.deliverTemplateEmails(emails);
+            } catch (RuntimeException e) {
+                emailFailures = Collections.nCopies(emails.size(), e);
+            }
+            for (int i = 0; i < emailRows.size(); i++) {
+                NotificationOutbox row = emailRows.get(i);
+                RuntimeException failure = emailFailures.get(i);
+                if (failure == null) {
+                    sent.add(row.getId());
+                    record(row, "sent");
+                } else {
+                    recordFailure(row, failure);
+                }
+            }
+        } finally {
+            // Rows already delivered are recorded even if a later step fails, so a retry does not resend them.
+            outboxService.markSent(sent);
+        }
+        return rows.size();
+    }
+
+    private void recordFailure(NotificationOutbox row, RuntimeException e) {
+        if (e instanceof IllegalArgumentException) {
+            outboxService.markFailed(row, e.getMessage(), true);
+            record(row, "failed");
+            return;
+        }
+        log.warn("Failed to deliver {} notification {} (attempt {}): {}", row.getChannel(), row.getId(),
+                row.getAttempts(), e.getMessage());
+        record(row, outboxService.markFailed(row, e.getMessage(), false) ? "retried" : "failed");
+    }
+
+    private void drain() {
+        try {
+            while (relayBatch() >= batchSize) {
+                wakeUp();
+            }
+        } catch (RuntimeException e) {
+            log.error("Notification outbox relay failed: {}", e.getMessage(), e);
+        } finally {
+            activeWorkers.decrementAndGet();
+        }
+    }
+
+    private void record(NotificationOutbox row, String outcome) {
+        meterRegistry.counter(METRIC_RELAYED, "channel", row.getChannel().name(), "outcome", outcome).increment();
+    }
+}
@@ -0,0 +1,77 @@
+package com.javajedis.legalconnect.notifications;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for NotificationOutbox entity.
+ * Claims pending rows with row locks that concurrent relays skip, so every row is handed to one relay at a time.
+ */
+@Repository
+public interface NotificationOutboxRepo extends JpaRepository<NotificationOutbox, UUID> {
+
+    /**
+     * Insert an outbox row unless a row with the same dedup key already exists.
+     *
+     * @return 1 if the row was inserted, 0 if it was a duplicate
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notification_outbox (id, dedup_key, channel, recipient_id, recipient_email, subject, "
+            + "template_name, content, template_variables, status, attempts, next_attempt_at) "
+            + "VALUES (:id, :dedupKey, :channel, :recipientId, :recipientEmail, :subject, :templateName, :content, "
+            + ":templateVariables, 'PENDING', 0, :nextAttemptAt) "
+            + "ON CONFLICT (dedup_key) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id,
+                       @Param("dedupKey") String dedupKey,
+                       @Param("channel") String channel,
+                       @Param("recipientId") UUID recipientId,
+                       @Param("recipientEmail") String recipientEmail,
+                       @Param("subject") String subject,
+                       @Param("templateName") String templateName,
+                       @Param("content") String content,
+                       @Param("templateVariables") String templateVariables,
+                       @Param("nextAttemptAt") OffsetDateTime nextAttemptAt);
+
+    /**
+     * Lock up to {@code limit} pending rows that are due, oldest first, skipping rows locked by other relays.
+     * Must run inside a transaction; the locks are held until it ends.
+     */
+    @Query(value = "SELECT * FROM notification_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now "
+            + "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<NotificationOutbox> lockDue(@Param("now") OffsetDateTime now, @Param("limit") int limit);
+
+    /**
+     * Mark delivered rows as sent.
+     */
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = com.javajedis.legalconnect.notifications.NotificationOutbox.Status.SENT, "
+            + "o.sentAt = :sentAt, o.lastError = null WHERE o.id IN :ids")
+    int markSent(@Param("ids") Collection<UUID> ids, @Param("sentAt") OffsetDateTime sentAt);
+
+    /**
+     * Record a failed delivery, either rescheduling the row or giving up on it.
+     */
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = :status, o.nextAttemptAt = :nextAttemptAt, "
+            + "o.lastError = :lastError WHERE o.id = :id")
+    int markFailed(@Param("id") UUID id,
+                   @Param("status") NotificationOutbox.Status status,
+                   @Param("nextAttemptAt") OffsetDateTime nextAttemptAt,
+                   @Param("lastError") String lastError);
+
+    /**
+     * Delete rows sent before the cutoff.
+     */
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.status = com.javajedis.legalconnect.notifications.NotificationOutbox.Status.SENT "
+            + "AND o.sentAt < :cutoff")
+    int deleteSentBefore(@Param("cutoff") OffsetDateTime cutoff);
+}
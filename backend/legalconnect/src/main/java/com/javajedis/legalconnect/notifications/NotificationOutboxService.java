@@ -0,0 +1,198 @@
+package com.javajedis.legalconnect.notifications;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javajedis.legalconnect.notifications.NotificationOutbox.Channel;
+import com.javajedis.legalconnect.notifications.NotificationOutbox.Status;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes notifications to the outbox and tracks their delivery.
+ *
+ * <p>Enqueueing joins the caller's transaction, so a notification is stored if and only if the change it
+ * reports commits. Claimed rows are leased rather than held locked during delivery: a claim pushes
+ * {@code nextAttemptAt} past the lease, so rows of a relay that dies mid-batch become due again once the
+ * lease expires.
+ */
+@Slf4j
+@Service
+public class NotificationOutboxService {
+    static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final TypeReference<Map<String, Object>> VARIABLES_TYPE = new TypeReference<>() { };
+
+    private final NotificationOutboxRepo outboxRepo;
+    private final ObjectMapper objectMapper;
+    private final int maxAttempts;
+    private final Duration lease;
+
+    public NotificationOutboxService(NotificationOutboxRepo outboxRepo,
+                                     ObjectMapper objectMapper,
+                                     @Value("${spring.custom.notifications.outbox.max-attempts:8}") int maxAttempts,
+                                     @Value("${spring.custom.notifications.outbox.lease-ms:300000}") long leaseMillis) {
+        this.outboxRepo = outboxRepo;
+        this.objectMapper = objectMapper;
+        this.maxAttempts = maxAttempts;
+        this.lease = Duration.ofMillis(leaseMillis);
+    }
+
+    /**
+     * Stores a template email for delivery.
+     *
+     * @param dedupKey       identifies the email; a second email with the same key is ignored
+     * @param recipientId    the recipient user ID
+     * @param recipientEmail the recipient email address
+     * @param subject        the email subject
+     * @param templateName   the email template
+     * @param variables      the template variables
+     * @return true if the email was stored, false if it was a duplicate
+     */
+    @Transactional
+    public boolean enqueueEmail(String dedupKey, UUID recipientId, String recipientEmail, String subject,
+                                String templateName, Map<String, Object> variables) {
+        return insert(dedupKey, Channel.EMAIL, recipientId, recipientEmail, subject, templateName, null,
+                writeVariables(variables));
+    }
+
+    /**
+     * Stores a web notification for delivery.
+     *
+     * @param dedupKey    identifies the notification; a second notification with the same key is ignored
+     * @param recipientId the recipient user ID
+     * @param content     the notification text
+     * @return true if the notification was stored, false if it was a duplicate
+     */
+    @Transactional
+    public boolean enqueueWebPush(String dedupKey, UUID recipientId, String content) {
+        return insert(dedupKey, Channel.WEB_PUSH, recipientId, null, null, null, content, null);
+    }
+
+    /**
+     * Claims up to {@code batchSize} due rows for delivery, counting the attempt and leasing them.
+     *
+     * @param batchSize the maximum number of rows to claim
+     * @return the claimed rows, oldest first
+     */
+    @Transactional
+    public List<NotificationOutbox> claim(int batchSize) {
+        OffsetDateTime now = OffsetDateTime.now();
+        List<NotificationOutbox> rows = outboxRepo.lockDue(now, batchSize);
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        OffsetDateTime leasedUntil = now.plus(lease);
+        for (NotificationOutbox row : rows) {
+            row.setAttempts(row.getAttempts() + 1);
+            row.setNextAttemptAt(leasedUntil);
+        }
+        return outboxRepo.saveAll(rows);
+    }
+
+    /**
+     * Marks delivered rows as sent.
+     *
+     * @param ids the IDs of the delivered rows
+     */
+    @Transactional
+    public void markSent(Collection<UUID> ids) {
+        if (!ids.isEmpty()) {
+            outboxRepo.markSent(ids, OffsetDateTime.now());
+        }
+    }
+
+    /**
+     * Records a failed delivery. The row is retried with exponential backoff until it has been attempted
+     * {@code max-attempts} times, unless the failure is permanent.
+     *
+     * @param row       the claimed row
+     * @param error     the failure message
+     * @param permanent whether retrying cannot succeed, e.g. an invalid address
+     * @return true if the row will be retried
+     */
+    @Transactional
+    public boolean markFailed(NotificationOutbox row, String error, boolean permanent) {
+        boolean retry = !permanent && row.getAttempts() < maxAttempts;
+        OffsetDateTime nextAttemptAt = retry
+                ? OffsetDateTime.now().plus(backoff(row.getAttempts()))
+                : row.getNextAttemptAt();
+        outboxRepo.markFailed(row.getId(), retry ? Status.PENDING : Status.FAILED, nextAttemptAt, truncate(error));
+        if (!retry) {
+            log.warn("Giving up on {} notification {} after {} attempts: {}", row.getChannel(), row.getId(),
+                    row.getAttempts(), error);
+        }
+        return retry;
+    }
+
+    /**
+     * Deletes rows sent before the cutoff.
+     *
+     * @param cutoff the cutoff
+     * @return the number of rows deleted
+     */
+    @Transactional
+    public int purgeSentBefore(OffsetDateTime cutoff) {
+        return outboxRepo.deleteSentBefore(cutoff);
+    }
+
+    /**
+     * Reads the template variables of an email row.
+     *
+     * @throws IllegalArgumentException if the stored variables cannot be parsed
+     */
+    public Map<String, Object> readVariables(NotificationOutbox row) {
+        if (row.getTemplateVariables() == null) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(row.getTemplateVariables(), VARIABLES_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unreadable template variables: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    static Duration backoff(int attempts) {
+        int doublings = Math.clamp(attempts - 1L, 0, 20);
+        Duration delay = BASE_BACKOFF.multipliedBy(1L << doublings);
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private boolean insert(String dedupKey, Channel channel, UUID recipientId, String recipientEmail, String subject,
+                           String templateName, String content, String templateVariables) {
+        int inserted = outboxRepo.insertIfAbsent(UUID.randomUUID(), dedupKey, channel.name(), recipientId,
+                recipientEmail, subject, templateName, content, templateVariables, OffsetDateTime.now());
+        if (inserted == 0) {
+            log.debug("Skipping duplicate {} notification {}", channel, dedupKey);
+        }
+        return inserted > 0;
+    }
+
+    private String writeVariables(Map<String, Object> variables) {
+        try {
+            return objectMapper.writeValueAsString(variables == null ? Map.of() : variables);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Template variables are not serializable: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
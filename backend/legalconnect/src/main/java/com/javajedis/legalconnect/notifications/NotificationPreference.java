@@ -46,6 +46,10 @@ public class NotificationPreference {
     @Column(name = "web_push_enabled", nullable = false)
     private boolean webPushEnabled = true;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "email_digest", nullable = false, columnDefinition = "VARCHAR(32) DEFAULT 'IMMEDIATE'")
+    private EmailDigest emailDigest = EmailDigest.IMMEDIATE;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false, columnDefinition = "TIMESTAMPTZ DEFAULT now()")
     private OffsetDateTime createdAt;
@@ -0,0 +1,106 @@
+package com.javajedis.legalconnect.notifications;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-node cache of notification preference masks by user ID, backing the preference checks made
+ * before every notification is sent.
+ *
+ * <p>Entries are invalidated when a user changes a preference. The invalidation is relayed to the other
+ * nodes over Redis pub/sub. Entries also expire after a while, which bounds staleness if an invalidation
+ * message is lost.
+ */
+@Slf4j
+@Component
+public class NotificationPreferenceCache implements MessageListener {
+    public static final String INVALIDATION_CHANNEL = "notification:preferences:invalidations";
+
+    private static final long MAX_SIZE = 50_000;
+    private static final Duration ENTRY_TTL = Duration.ofMinutes(30);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<UUID, NotificationPreferenceMask> cache = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterWrite(ENTRY_TTL)
+            .build();
+
+    public NotificationPreferenceCache(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * Gets the cached preferences of a user, loading them on a miss.
+     *
+     * @param userId the user ID
+     * @param loader loads the mask from the database
+     * @return the preference mask
+     */
+    public NotificationPreferenceMask get(UUID userId, Function<UUID, NotificationPreferenceMask> loader) {
+        return cache.get(userId, loader);
+    }
+
+    /**
+     * Gets the cached preferences of several users, loading all misses at once.
+     *
+     * @param userIds the user IDs
+     * @param loader  loads the masks of the missing users from the database, in one query
+     * @return the preference mask of every requested user
+     */
+    public Map<UUID, NotificationPreferenceMask> getAll(Collection<UUID> userIds,
+                                                        Function<Set<? extends UUID>, Map<UUID, NotificationPreferenceMask>> loader) {
+        return cache.getAll(userIds, loader);
+    }
+
+    /**
+     * Evicts the cached preferences of a user on this node only.
+     *
+     * @param userId the user ID
+     */
+    public void evict(UUID userId) {
+        cache.invalidate(userId);
+    }
+
+    /**
+     * Evicts the cached preferences of a user locally and on the other nodes.
+     *
+     * @param userId the user ID
+     */
+    public void invalidate(UUID userId) {
+        evict(userId);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, userId.toString());
+        } catch (DataAccessException e) {
+            log.warn("Failed to relay notification preference invalidation for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * Applies an invalidation relayed by another node.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            evict(UUID.fromString(body));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed notification preference invalidation message: {}", body);
+        }
+    }
+}
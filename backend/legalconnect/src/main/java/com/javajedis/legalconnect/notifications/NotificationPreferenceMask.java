@@ -0,0 +1,70 @@
+package com.javajedis.legalconnect.notifications;
+
+import java.util.Collection;
+
+/**
+ * A user's notification preferences packed into two bitmasks, one bit per {@link NotificationType} ordinal,
+ * and their email digest modes, four bits per ordinal holding the {@link EmailDigest} ordinal.
+ * Types without a stored preference are enabled and immediate, matching the defaults of
+ * {@link NotificationPreference}.
+ */
+public record NotificationPreferenceMask(long emailMask, long webPushMask, long emailDigests) {
+
+    public static final NotificationPreferenceMask ALL_ENABLED = new NotificationPreferenceMask(-1L, -1L);
+
+    private static final int DIGEST_BITS = 4;
+    private static final long DIGEST_MASK = (1L << DIGEST_BITS) - 1;
+
+    /**
+     * Creates a mask with immediate emails for every type.
+     */
+    public NotificationPreferenceMask(long emailMask, long webPushMask) {
+        this(emailMask, webPushMask, 0L);
+    }
+
+    /**
+     * Builds the mask of one user from their stored preferences.
+     *
+     * @param preferences the stored preferences of the user
+     * @return the mask
+     */
+    public static NotificationPreferenceMask of(Collection<NotificationPreference> preferences) {
+        long email = ALL_ENABLED.emailMask;
+        long webPush = ALL_ENABLED.webPushMask;
+        long digests = 0L;
+        for (NotificationPreference preference : preferences) {
+            NotificationType type = preference.getNotificationType();
+            long bit = bit(type);
+            if (!preference.isEmailEnabled()) {
+                email &= ~bit;
+            }
+            if (!preference.isWebPushEnabled()) {
+                webPush &= ~bit;
+            }
+            if (preference.getEmailDigest() != null) {
+                digests |= (long) preference.getEmailDigest().ordinal() << digestShift(type);
+            }
+        }
+        return new NotificationPreferenceMask(email, webPush, digests);
+    }
+
+    public boolean isEmailEnabled(NotificationType type) {
+        return (emailMask & bit(type)) != 0;
+    }
+
+    public boolean isWebPushEnabled(NotificationType type) {
+        return (webPushMask & bit(type)) != 0;
+    }
+
+    public EmailDigest emailDigest(NotificationType type) {
+        return EmailDigest.values()[(int) ((emailDigests >>> digestShift(type)) & DIGEST_MASK)];
+    }
+
+    private static int digestShift(NotificationType type) {
+        return type.ordinal() * DIGEST_BITS;
+    }
+
+    private static long bit(NotificationType type) {
+        return 1L << type.ordinal();
+    }
+}
@@ -1,5 +1,6 @@
 package com.javajedis.legalconnect.notifications;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -48,4 +49,12 @@ public interface NotificationPreferenceRepo extends JpaRepository<NotificationPr
      * @return List of all notification preferences for the user
      */
     List<NotificationPreference> findByUserId(UUID userId);
+
+    /**
+     * Find all notification preferences for a set of users.
+     *
+     * @param userIds the IDs of the users
+     * @return List of all notification preferences for the users
+     */
+    List<NotificationPreference> findByUserIdIn(Collection<? extends UUID> userIds);
 } 
\ No newline at end of file
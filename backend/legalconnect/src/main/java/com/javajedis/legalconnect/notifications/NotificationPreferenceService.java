@@ -1,14 +1,20 @@
 package com.javajedis.legalconnect.notifications;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import com.javajedis.legalconnect.common.dto.ApiResponse;
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
 import com.javajedis.legalconnect.common.utility.GetUserUtil;
 import com.javajedis.legalconnect.notifications.dto.NotificationPreferenceListResponseDTO;
 import com.javajedis.legalconnect.notifications.dto.NotificationPreferenceResponseDTO;
@@ -30,26 +36,26 @@ public class NotificationPreferenceService {
     private static final String PREFERENCES_RETRIEVED_MSG = "Notification preferences retrieved successfully";
     private static final String UNAUTHORIZED_PREFERENCE_RETRIEVAL_LOG = "Unauthorized preference retrieval attempt";
     private static final String UNAUTHORIZED_PREFERENCE_UPDATE_LOG = "Unauthorized preference update attempt";
-    private static final String PREFERENCE_NOT_FOUND_LOG = "No preference found for user: {} and type: {}, defaulting to true";
 
     private final NotificationPreferenceRepo notificationPreferenceRepo;
     private final UserRepo userRepo;
+    private final NotificationPreferenceCache preferenceCache;
 
     /**
      * Retrieves all notification preferences for the authenticated user.
      */
     public ResponseEntity<ApiResponse<NotificationPreferenceListResponseDTO>> getAllPreferences() {
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
 
         if (currentUser == null) {
             log.warn(UNAUTHORIZED_PREFERENCE_RETRIEVAL_LOG);
             return ApiResponse.error(NOT_AUTHENTICATED_MSG, HttpStatus.UNAUTHORIZED);
         }
 
-        log.debug("Getting all notification preferences for authenticated user: {}", currentUser.getId().toString());
+        log.debug("Getting all notification preferences for authenticated user: {}", currentUser.id().toString());
 
         List<NotificationPreference> notificationPreferences =
-                notificationPreferenceRepo.findByUserId(currentUser.getId());
+                notificationPreferenceRepo.findByUserId(currentUser.id());
 
         List<NotificationPreferenceResponseDTO> preferenceDTOs = notificationPreferences.stream()
                 .map(this::mapToNotificationPreferenceResponseDTO)
@@ -57,7 +63,7 @@ public class NotificationPreferenceService {
 
         NotificationPreferenceListResponseDTO responseData = new NotificationPreferenceListResponseDTO(preferenceDTOs);
 
-        log.info("Retrieved {} notification preferences for user: {}", preferenceDTOs.size(), currentUser.getEmail());
+        log.info("Retrieved {} notification preferences for user: {}", preferenceDTOs.size(), currentUser.email());
         return ApiResponse.success(responseData, HttpStatus.OK, PREFERENCES_RETRIEVED_MSG);
     }
 
@@ -66,33 +72,38 @@ public class NotificationPreferenceService {
      */
     public ResponseEntity<ApiResponse<NotificationPreferenceResponseDTO>> updateNotificationPref(
             NotificationType type, UpdateNotificationPreferenceDTO data) {
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
 
         if (currentUser == null) {
             log.warn(UNAUTHORIZED_PREFERENCE_UPDATE_LOG);
             return ApiResponse.error(NOT_AUTHENTICATED_MSG, HttpStatus.UNAUTHORIZED);
         }
 
-        log.debug("Updating notification preference for type: {} for authenticated user {}", type, currentUser.getId().toString());
+        log.debug("Updating notification preference for type: {} for authenticated user {}", type, currentUser.id().toString());
 
         Optional<NotificationPreference> preferenceOpt = notificationPreferenceRepo.findByUserIdAndNotificationType(
-                currentUser.getId(), type);
+                currentUser.id(), type);
 
         if (preferenceOpt.isEmpty()) {
-            log.warn("Notification preference not found for user: {} and type: {}", currentUser.getEmail(), type);
+            log.warn("Notification preference not found for user: {} and type: {}", currentUser.email(), type);
             return ApiResponse.error(PREFERENCE_NOT_FOUND_MSG, HttpStatus.NOT_FOUND);
         }
 
         NotificationPreference currentPreference = preferenceOpt.get();
         currentPreference.setEmailEnabled(data.isEmailEnabled());
         currentPreference.setWebPushEnabled(data.isWebPushEnabled());
+        if (data.getEmailDigest() != null) {
+            currentPreference.setEmailDigest(data.getEmailDigest());
+        }
 
         NotificationPreference updatedPreference = notificationPreferenceRepo.save(currentPreference);
+        preferenceCache.invalidate(currentUser.id());
 
         NotificationPreferenceResponseDTO responseDTO = mapToNotificationPreferenceResponseDTO(updatedPreference);
 
-        log.info("Notification preference updated for user: {} and type: {} (email: {}, webPush: {})",
-                currentUser.getEmail(), type, data.isEmailEnabled(), data.isWebPushEnabled());
+        log.info("Notification preference updated for user: {} and type: {} (email: {}, webPush: {}, digest: {})",
+                currentUser.email(), type, data.isEmailEnabled(), data.isWebPushEnabled(),
+                updatedPreference.getEmailDigest());
 
         return ApiResponse.success(responseDTO, HttpStatus.OK, PREFERENCE_UPDATED_MSG);
     }
@@ -101,16 +112,7 @@ public class NotificationPreferenceService {
      * Checks if email notifications are enabled for a specific user and notification type.
      */
     public boolean checkEmailEnabled(UUID userId, NotificationType type) {
-        log.debug("Checking email enabled status for user: {} and type: {}", userId, type);
-
-        NotificationPreference preference = notificationPreferenceRepo.findByUserIdAndNotificationType(userId, type).orElse(null);
-
-        if (preference == null) {
-            log.debug(PREFERENCE_NOT_FOUND_LOG, userId, type);
-            return true;
-        }
-
-        boolean enabled = preference.isEmailEnabled();
+        boolean enabled = preferencesOf(userId).isEmailEnabled(type);
         log.debug("Email enabled status for user: {} and type: {} is: {}", userId, type, enabled);
         return enabled;
     }
@@ -119,18 +121,40 @@ public class NotificationPreferenceService {
      * Checks if web push notifications are enabled for a specific user and notification type.
      */
     public boolean checkWebPushEnabled(UUID userId, NotificationType type) {
-        log.debug("Checking web push enabled status for user: {} and type: {}", userId, type);
+        boolean enabled = preferencesOf(userId).isWebPushEnabled(type);
+        log.debug("Web push enabled status for user: {} and type: {} is: {}", userId, type, enabled);
+        return enabled;
+    }
 
-        NotificationPreference preference = notificationPreferenceRepo.findByUserIdAndNotificationType(userId, type).orElse(null);
+    /**
+     * Gets the notification preferences of several users at once, for paths that notify many users.
+     * Users missing from the cache are loaded in a single query.
+     *
+     * @param userIds the user IDs
+     * @return the preference mask of every requested user
+     */
+    public Map<UUID, NotificationPreferenceMask> preferencesFor(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        return preferenceCache.getAll(userIds, this::loadMasks);
+    }
 
-        if (preference == null) {
-            log.debug(PREFERENCE_NOT_FOUND_LOG, userId, type);
-            return true; // Default to enabled if no preference is set
+    private NotificationPreferenceMask preferencesOf(UUID userId) {
+        if (userId == null) {
+            return NotificationPreferenceMask.ALL_ENABLED;
         }
+        return preferenceCache.get(userId, id -> NotificationPreferenceMask.of(notificationPreferenceRepo.findByUserId(id)));
+    }
 
-        boolean enabled = preference.isWebPushEnabled();
-        log.debug("Web push enabled status for user: {} and type: {} is: {}", userId, type, enabled);
-        return enabled;
+    private Map<UUID, NotificationPreferenceMask> loadMasks(Set<? extends UUID> userIds) {
+        Map<UUID, List<NotificationPreference>> byUser = notificationPreferenceRepo.findByUserIdIn(userIds).stream()
+                .collect(Collectors.groupingBy(NotificationPreference::getUserId));
+        Map<UUID, NotificationPreferenceMask> masks = new HashMap<>();
+        for (UUID userId : userIds) {
+            masks.put(userId, NotificationPreferenceMask.of(byUser.getOrDefault(userId, List.of())));
+        }
+        return masks;
     }
 
     /**
@@ -144,7 +168,8 @@ public class NotificationPreferenceService {
                 preference.getNotificationType(),
                 preference.getNotificationType().getDisplayName(),
                 preference.isEmailEnabled(),
-                preference.isWebPushEnabled()
+                preference.isWebPushEnabled(),
+                preference.getEmailDigest()
         );
     }
 
@@ -167,6 +192,7 @@ public class NotificationPreferenceService {
                 notificationPreferenceRepo.save(preference);
             }
         }
+        preferenceCache.invalidate(userId);
         log.info("Initialized default notification preferences for user: {}", userId);
     }
 }
@@ -1,10 +1,13 @@
 package com.javajedis.legalconnect.notifications;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -37,4 +40,26 @@ public interface NotificationRepo extends JpaRepository<Notification, UUID> {
      * Count total notifications for a specific receiver
      */
     long countByReceiverId(UUID receiverId);
+
+    /**
+     * Mark all unread notifications of a receiver as read in one statement
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.receiverId = :receiverId AND n.isRead = false")
+    int markAllAsReadByReceiverId(@Param("receiverId") UUID receiverId);
+
+    /**
+     * Mark the unread notifications of a receiver created up to a point in time as read in one statement
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.receiverId = :receiverId AND n.isRead = false " +
+           "AND n.createdAt <= :upTo")
+    int markAsReadUpToByReceiverId(@Param("receiverId") UUID receiverId, @Param("upTo") OffsetDateTime upTo);
+
+    /**
+     * Lock the oldest read notifications created before the cutoff, skipping rows locked by another archiver
+     */
+    @Query(value = "SELECT * FROM notifications WHERE is_read = true AND created_at < :cutoff "
+            + "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Notification> lockExpiredRead(@Param("cutoff") OffsetDateTime cutoff, @Param("limit") int limit);
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+package com.javajedis.legalconnect.notifications;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javajedis.legalconnect.common.service.AwsService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves read notifications past their retention period out of the {@code notifications} table.
+ *
+ * <p>Each batch is written to object storage as one gzip-compressed JSON Lines file and then deleted, in
+ * one transaction holding row locks, so archivers on several nodes never pick the same rows. Unread
+ * notifications are never archived. If the upload fails the rows stay; if the delete fails after the upload,
+ * the next run archives them again, so an archived notification may appear in two files.
+ */
+@Slf4j
+@Service
+public class NotificationRetentionService {
+    static final String ARCHIVE_PREFIX = "notification-archive/";
+    static final String ARCHIVE_CONTENT_TYPE = "application/gzip";
+
+    private static final DateTimeFormatter DAY_PATH = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+
+    private final NotificationRepo notificationRepo;
+    private final AwsService awsService;
+    private final ObjectMapper objectMapper;
+    private final String bucketName;
+
+    public NotificationRetentionService(NotificationRepo notificationRepo,
+                                        AwsService awsService,
+                                        ObjectMapper objectMapper,
+                                        @Value("${cloud.aws.s3.bucket:}") String bucketName) {
+        this.notificationRepo = notificationRepo;
+        this.awsService = awsService;
+        this.objectMapper = objectMapper;
+        this.bucketName = bucketName;
+    }
+
+    /**
+     * Checks whether there is an archive bucket; without one nothing is archived or deleted.
+     */
+    public boolean isArchiveConfigured() {
+        return bucketName != null && !bucketName.isBlank();
+    }
+
+    /**
+     * Archives and deletes one batch of read notifications created before the cutoff.
+     *
+     * @param cutoff the creation time before which read notifications expire
+     * @param limit  the maximum number of notifications in the batch
+     * @return the number of notifications archived
+     */
+    @Transactional
+    public int archiveBatch(OffsetDateTime cutoff, int limit) {
+        List<Notification> expired = notificationRepo.lockExpiredRead(cutoff, limit);
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        byte[] archive = compress(expired);
+        String keyName = archiveKey(expired.get(0).getCreatedAt());
+        awsService.uploadFile(bucketName, keyName, (long) archive.length, ARCHIVE_CONTENT_TYPE,
+                new ByteArrayInputStream(archive));
+        notificationRepo.deleteAllByIdInBatch(expired.stream().map(Notification::getId).toList());
+
+        log.debug("Archived {} read notifications to {} ({} bytes)", expired.size(), keyName, archive.length);
+        return expired.size();
+    }
+
+    byte[] compress(List<Notification> notifications) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytes), StandardCharsets.UTF_8)) {
+            for (Notification notification : notifications) {
+                writer.write(objectMapper.writeValueAsString(new ArchivedNotification(notification.getId(),
+                        notification.getReceiverId(), notification.getContent(), notification.getCreatedAt())));
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress notification archive", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String archiveKey(OffsetDateTime oldest) {
+        OffsetDateTime day = oldest == null ? OffsetDateTime.now(ZoneOffset.UTC) : oldest.withOffsetSameInstant(ZoneOffset.UTC);
+        return ARCHIVE_PREFIX + DAY_PATH.format(day) + "/" + System.currentTimeMillis() + "-" + UUID.randomUUID()
+                + ".jsonl.gz";
+    }
+
+    /**
+     * One line of an archive file.
+     */
+    record ArchivedNotification(UUID id, UUID receiverId, String content, OffsetDateTime createdAt) {
+    }
+}
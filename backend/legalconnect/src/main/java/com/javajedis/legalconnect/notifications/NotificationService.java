@@ -1,8 +1,13 @@
 package com.javajedis.legalconnect.notifications;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
@@ -11,11 +16,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.javajedis.legalconnect.common.dto.ApiResponse;
+import com.javajedis.legalconnect.common.service.UnreadCounterService;
 import com.javajedis.legalconnect.common.service.WebSocketService;
+import com.javajedis.legalconnect.notifications.dto.MarkReadResponseDTO;
 import com.javajedis.legalconnect.notifications.dto.NotificationListResponseDTO;
 import com.javajedis.legalconnect.notifications.dto.NotificationResponseDTO;
 import com.javajedis.legalconnect.notifications.dto.SendNotificationDTO;
@@ -35,13 +43,19 @@ public class NotificationService {
     private static final String UNREAD_COUNT_RETRIEVED_MSG = "Unread count retrieved successfully";
     private static final String NOTIFICATION_MARKED_READ_MSG = "Notification marked as read";
     private static final String ALL_NOTIFICATIONS_MARKED_READ_MSG = "All notifications marked as read";
+    private static final String NOTIFICATIONS_MARKED_READ_MSG = "Notifications marked as read";
+    private static final String UNREAD_COUNTER_SCOPE = "notifications";
+    private static final String UNREAD_COUNTER_BUCKET = "all";
 
     private final NotificationRepo notificationRepo;
     private final WebSocketService webSocketService;
+    private final UnreadCounterService unreadCounterService;
 
-    public NotificationService(NotificationRepo notificationRepo, WebSocketService webSocketService) {
+    public NotificationService(NotificationRepo notificationRepo, WebSocketService webSocketService,
+                               UnreadCounterService unreadCounterService) {
         this.notificationRepo = notificationRepo;
         this.webSocketService = webSocketService;
+        this.unreadCounterService = unreadCounterService;
     }
 
     /**
@@ -59,6 +73,7 @@ public class NotificationService {
         notification.setRead(false);
 
         Notification savedNotification = notificationRepo.save(notification);
+        unreadCounterService.increment(UNREAD_COUNTER_SCOPE, savedNotification.getReceiverId(), UNREAD_COUNTER_BUCKET, 1);
         log.info("Notification created with ID: {} for user: {}", savedNotification.getId(), notificationData.getReceiverId());
 
         NotificationResponseDTO responseDTO = mapNotificationToResponseDTO(savedNotification);
@@ -92,6 +107,7 @@ public class NotificationService {
         notification.setRead(false);
 
         Notification savedNotification = notificationRepo.save(notification);
+        unreadCounterService.increment(UNREAD_COUNTER_SCOPE, savedNotification.getReceiverId(), UNREAD_COUNTER_BUCKET, 1);
         log.info("Notification created with ID: {} for user: {}", savedNotification.getId(), receiverId);
 
         NotificationResponseDTO responseDTO = mapNotificationToResponseDTO(savedNotification);
@@ -101,6 +117,53 @@ public class NotificationService {
         return ApiResponse.success(responseDTO, HttpStatus.CREATED, NOTIFICATION_SENT_MSG);
     }
 
+    /**
+     * Sends the same notification to many users, for fan-outs such as blog subscribers or admin announcements.
+     * The notifications are written in JDBC batches in one transaction, the unread counters are updated in one
+     * Redis round trip and the WebSocket delivery is grouped by the node holding each user.
+     *
+     * @param receiverIds the users to notify, duplicates are notified once
+     * @param content     the notification content
+     * @return the number of notifications created
+     */
+    @Transactional
+    public int sendNotifications(Collection<UUID> receiverIds, String content) {
+        if (receiverIds == null || receiverIds.stream().anyMatch(Objects::isNull)) {
+            log.warn("Attempted to send notifications with a null receiver ID");
+            throw new IllegalArgumentException("Receiver IDs cannot be null");
+        }
+
+        if (content == null || content.trim().isEmpty()) {
+            log.warn("Attempted to send notification with empty content to {} users", receiverIds.size());
+            throw new IllegalArgumentException("Notification content cannot be empty");
+        }
+
+        if (receiverIds.isEmpty()) {
+            return 0;
+        }
+
+        String trimmedContent = content.trim();
+        List<Notification> notifications = new ArrayList<>();
+        for (UUID receiverId : new LinkedHashSet<>(receiverIds)) {
+            Notification notification = new Notification();
+            notification.setReceiverId(receiverId);
+            notification.setContent(trimmedContent);
+            notification.setRead(false);
+            notifications.add(notification);
+        }
+
+        List<Notification> savedNotifications = notificationRepo.saveAll(notifications);
+        Map<UUID, NotificationResponseDTO> responses = new LinkedHashMap<>();
+        savedNotifications.forEach(notification ->
+                responses.put(notification.getReceiverId(), mapNotificationToResponseDTO(notification)));
+        unreadCounterService.incrementAll(UNREAD_COUNTER_SCOPE, responses.keySet(), UNREAD_COUNTER_BUCKET, 1);
+        log.info("Created {} notifications", savedNotifications.size());
+
+        deliverNotificationsRealTime(responses);
+
+        return savedNotifications.size();
+    }
+
     /**
      * Delivers a notification via WebSocket in real-time with graceful degradation.
      * This method handles WebSocket delivery failures gracefully without blocking the caller.
@@ -135,6 +198,19 @@ public class NotificationService {
         }
     }
 
+    /**
+     * Delivers notifications to many users via WebSocket with the same graceful degradation as a single delivery.
+     */
+    private void deliverNotificationsRealTime(Map<UUID, NotificationResponseDTO> notifications) {
+        try {
+            int delivered = webSocketService.sendNotificationsToUsers(notifications);
+            log.debug("Real-time notifications delivered to {} of {} users", delivered, notifications.size());
+        } catch (Exception e) {
+            log.error("Unexpected error during WebSocket delivery to {} users: {} - notifications remain available via REST API",
+                    notifications.size(), e.getMessage(), e);
+        }
+    }
+
     /**
      * Retrieves notifications for a specific user with pagination support.
      * Returns notifications ordered by creation date (newest first).
@@ -193,7 +269,7 @@ public class NotificationService {
             throw new IllegalArgumentException(INVALID_RECEIVER_MSG);
         }
 
-        long unreadCount = notificationRepo.countUnreadByReceiverId(receiverId);
+        long unreadCount = unreadCounterService.getTotal(UNREAD_COUNTER_SCOPE, receiverId, this::loadUnreadCount);
         UnreadCountResponseDTO responseData = new UnreadCountResponseDTO((int) unreadCount);
 
         log.debug("User {} has {} unread notifications", receiverId, unreadCount);
@@ -226,6 +302,7 @@ public class NotificationService {
         if (!notification.isRead()) {
             notification.setRead(true);
             notification = notificationRepo.save(notification);
+            unreadCounterService.increment(UNREAD_COUNTER_SCOPE, receiverId, UNREAD_COUNTER_BUCKET, -1);
             log.info("Notification {} marked as read for user: {}", notificationId, receiverId);
         } else {
             log.debug("Notification {} was already marked as read for user: {}", notificationId, receiverId);
@@ -236,10 +313,10 @@ public class NotificationService {
     }
 
     /**
-     * Marks all notifications as read for a specific user.
+     * Marks all notifications as read for a specific user with a single update.
      */
     @Transactional
-    public ResponseEntity<ApiResponse<UnreadCountResponseDTO>> markAllAsRead(UUID receiverId) {
+    public ResponseEntity<ApiResponse<MarkReadResponseDTO>> markAllAsRead(UUID receiverId) {
         log.debug("Marking all notifications as read for user: {}", receiverId);
 
         if (receiverId == null) {
@@ -247,23 +324,66 @@ public class NotificationService {
             throw new IllegalArgumentException(INVALID_RECEIVER_MSG);
         }
 
-        List<Notification> unreadNotifications = notificationRepo.findByReceiverIdAndIsReadFalseOrderByCreatedAtDesc(
-                receiverId, Pageable.unpaged()).getContent();
-
-        if (!unreadNotifications.isEmpty()) {
-            unreadNotifications.forEach(notification -> notification.setRead(true));
-            notificationRepo.saveAll(unreadNotifications);
-
-            log.info("Marked {} notifications as read for user: {}", unreadNotifications.size(), receiverId);
+        int markedCount = notificationRepo.markAllAsReadByReceiverId(receiverId);
+        if (markedCount > 0) {
+            unreadCounterService.reset(UNREAD_COUNTER_SCOPE, receiverId, UNREAD_COUNTER_BUCKET);
+            log.info("Marked {} notifications as read for user: {}", markedCount, receiverId);
         } else {
             log.debug("No unread notifications found for user: {}", receiverId);
         }
 
-        // Return the new unread count (should be 0)
-        UnreadCountResponseDTO responseData = new UnreadCountResponseDTO(0);
+        MarkReadResponseDTO responseData = new MarkReadResponseDTO(markedCount, 0);
         return ApiResponse.success(responseData, HttpStatus.OK, ALL_NOTIFICATIONS_MARKED_READ_MSG);
     }
 
+    /**
+     * Marks a notification and every older notification of the user as read with a single update,
+     * so a client can acknowledge everything it has shown in one call.
+     */
+    @Transactional
+    public ResponseEntity<ApiResponse<MarkReadResponseDTO>> markAsReadUpTo(UUID notificationId, UUID receiverId) {
+        log.debug("Marking notifications up to {} as read for user: {}", notificationId, receiverId);
+
+        if (notificationId == null || receiverId == null) {
+            log.warn("Attempted to mark notifications as read with null ID(s)");
+            throw new IllegalArgumentException("Notification ID and receiver ID are required");
+        }
+
+        Notification cursor = notificationRepo.findById(notificationId)
+                .orElseThrow(() -> {
+                    log.warn("Notification not found with ID: {}", notificationId);
+                    return new NotificationNotFoundException("Notification not found with ID: " + notificationId);
+                });
+
+        if (!cursor.getReceiverId().equals(receiverId)) {
+            log.warn("User {} attempted to mark notifications up to {} that doesn't belong to them", receiverId, notificationId);
+            throw new SecurityException("You can only mark your own notifications as read");
+        }
+
+        int markedCount = notificationRepo.markAsReadUpToByReceiverId(receiverId, cursor.getCreatedAt());
+        if (markedCount > 0) {
+            unreadCounterService.increment(UNREAD_COUNTER_SCOPE, receiverId, UNREAD_COUNTER_BUCKET, -markedCount);
+            log.info("Marked {} notifications up to {} as read for user: {}", markedCount, notificationId, receiverId);
+        }
+
+        long unreadCount = unreadCounterService.getTotal(UNREAD_COUNTER_SCOPE, receiverId, this::loadUnreadCount);
+        MarkReadResponseDTO responseData = new MarkReadResponseDTO(markedCount, (int) unreadCount);
+        return ApiResponse.success(responseData, HttpStatus.OK, NOTIFICATIONS_MARKED_READ_MSG);
+    }
+
+    /**
+     * Corrects unread counters that drifted from the notifications table, for example after a failed Redis write.
+     */
+    @Scheduled(initialDelayString = "${spring.custom.unread.reconcile-interval-ms:300000}",
+            fixedDelayString = "${spring.custom.unread.reconcile-interval-ms:300000}")
+    public void reconcileUnreadCounters() {
+        unreadCounterService.reconcile(UNREAD_COUNTER_SCOPE, this::loadUnreadCount);
+    }
+
+    private Map<String, Long> loadUnreadCount(UUID receiverId) {
+        return Map.of(UNREAD_COUNTER_BUCKET, notificationRepo.countUnreadByReceiverId(receiverId));
+    }
+
     /**
      * Maps a Notification entity to NotificationResponseDTO.
      */
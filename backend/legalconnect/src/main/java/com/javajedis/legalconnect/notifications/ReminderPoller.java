@@ -0,0 +1,87 @@
+package com.javajedis.legalconnect.notifications;
+
+import java.time.OffsetDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import com.javajedis.legalconnect.jobscheduler.JobSchedulerService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fires due reminders in batches. Quartz drives it through one repeating job, registered at startup, in
+ * place of a job per reminder.
+ */
+@Slf4j
+@Component
+public class ReminderPoller {
+    static final String METRIC_FIRED = "notifications.reminders.fired";
+
+    private final ReminderService reminderService;
+    private final NotificationOutboxRelay outboxRelay;
+    private final JobSchedulerService jobSchedulerService;
+    private final long pollIntervalMillis;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Counter firedCounter;
+
+    public ReminderPoller(ReminderService reminderService,
+                          NotificationOutboxRelay outboxRelay,
+                          JobSchedulerService jobSchedulerService,
+                          MeterRegistry meterRegistry,
+                          @Value("${spring.custom.notifications.reminders.poll-interval-ms:5000}") long pollIntervalMillis,
+                          @Value("${spring.custom.notifications.reminders.batch-size:500}") int batchSize,
+                          @Value("${spring.custom.notifications.reminders.max-batches:20}") int maxBatches) {
+        this.reminderService = reminderService;
+        this.outboxRelay = outboxRelay;
+        this.jobSchedulerService = jobSchedulerService;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.firedCounter = Counter.builder(METRIC_FIRED)
+                .description("Reminders moved to the outbox")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers the repeating Quartz job that calls {@link #poll()}.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerPolling() {
+        jobSchedulerService.scheduleReminderPolling(pollIntervalMillis);
+    }
+
+    /**
+     * Fires due reminders, one batch per transaction, up to {@code max-batches} batches per poll.
+     *
+     * @return the number of reminders fired
+     */
+    public int poll() {
+        OffsetDateTime now = OffsetDateTime.now();
+        int fired = 0;
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                int count = reminderService.fireDue(now, batchSize);
+                fired += count;
+                firedCounter.increment(count);
+                if (count < batchSize) {
+                    break;
+                }
+            }
+        } catch (DataAccessException e) {
+            log.error("Reminder poll stopped after {} reminders: {}", fired, e.getMessage());
+        }
+
+        if (fired > 0) {
+            log.info("Fired {} reminders", fired);
+            outboxRelay.wakeUp();
+        }
+        return fired;
+    }
+}
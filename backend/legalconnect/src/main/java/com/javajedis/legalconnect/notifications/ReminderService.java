@@ -0,0 +1,143 @@
+package com.javajedis.legalconnect.notifications;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javajedis.legalconnect.notifications.NotificationEvent.Recipient;
+import com.javajedis.legalconnect.notifications.NotificationOutbox.Channel;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Stores task reminders as rows of the {@code reminders} table, ordered by fire time.
+ *
+ * <p>Scheduling and cancelling join the caller's transaction. When reminders fall due, the
+ * {@link ReminderPoller} claims them in batches and moves them to the outbox, which delivers them like any
+ * other notification; reminders firing at the same moment are therefore delivered in bulk.
+ */
+@Slf4j
+@Service
+public class ReminderService {
+    private final ScheduledReminderRepo reminderRepo;
+    private final NotificationOutboxService outboxService;
+    private final ObjectMapper objectMapper;
+
+    public ReminderService(ScheduledReminderRepo reminderRepo,
+                           NotificationOutboxService outboxService,
+                           ObjectMapper objectMapper) {
+        this.reminderRepo = reminderRepo;
+        this.outboxService = outboxService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Stores the reminders of a task.
+     *
+     * @param taskId            the task the reminders belong to
+     * @param fireAt            when the reminders fire
+     * @param webRecipients     the users to remind with a web notification
+     * @param emailRecipients   the users to remind by email
+     * @param subject           the email subject
+     * @param content           the notification text
+     * @param templateName      the email template
+     * @param templateVariables the email template variables
+     * @return the number of reminders stored
+     */
+    @Transactional
+    public int schedule(UUID taskId, OffsetDateTime fireAt, List<Recipient> webRecipients,
+                        List<Recipient> emailRecipients, String subject, String content, String templateName,
+                        Map<String, Object> templateVariables) {
+        if (taskId == null || fireAt == null) {
+            log.warn("Cannot schedule reminders: missing taskId or fireAt");
+            return 0;
+        }
+
+        List<ScheduledReminder> reminders = new ArrayList<>(webRecipients.size() + emailRecipients.size());
+        for (Recipient recipient : webRecipients) {
+            reminders.add(new ScheduledReminder(null, taskId, Channel.WEB_PUSH, recipient.userId(), null, null,
+                    content, null, fireAt, null));
+        }
+        if (!emailRecipients.isEmpty()) {
+            String variables = writeVariables(templateName, templateVariables);
+            for (Recipient recipient : emailRecipients) {
+                reminders.add(new ScheduledReminder(null, taskId, Channel.EMAIL, recipient.userId(),
+                        recipient.email(), subject, null, variables, fireAt, null));
+            }
+        }
+        reminderRepo.saveAll(reminders);
+        log.debug("Scheduled {} reminders for task {} at {}", reminders.size(), taskId, fireAt);
+        return reminders.size();
+    }
+
+    /**
+     * Deletes the pending reminders of a task.
+     *
+     * @param taskId the task ID
+     * @return the number of reminders deleted
+     */
+    @Transactional
+    public int cancel(UUID taskId) {
+        int deleted = reminderRepo.deleteByTaskId(taskId);
+        log.debug("Cancelled {} reminders for task {}", deleted, taskId);
+        return deleted;
+    }
+
+    /**
+     * Moves up to {@code limit} due reminders to the outbox.
+     *
+     * @param now   the current time
+     * @param limit the maximum number of reminders to fire
+     * @return the number of reminders fired
+     */
+    @Transactional
+    public int fireDue(OffsetDateTime now, int limit) {
+        List<ScheduledReminder> due = reminderRepo.lockDue(now, limit);
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        for (ScheduledReminder reminder : due) {
+            String dedupKey = "reminder:" + reminder.getId();
+            if (reminder.getChannel() == Channel.EMAIL) {
+                Stored stored = readVariables(reminder);
+                outboxService.enqueueEmail(dedupKey, reminder.getRecipientId(), reminder.getRecipientEmail(),
+                        reminder.getSubject(), stored.templateName(), stored.variables());
+            } else {
+                outboxService.enqueueWebPush(dedupKey, reminder.getRecipientId(), reminder.getContent());
+            }
+        }
+        reminderRepo.deleteAllInBatch(due);
+        return due.size();
+    }
+
+    private String writeVariables(String templateName, Map<String, Object> variables) {
+        try {
+            return objectMapper.writeValueAsString(new Stored(templateName, variables == null ? Map.of() : variables));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Template variables are not serializable: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private Stored readVariables(ScheduledReminder reminder) {
+        try {
+            return objectMapper.readValue(reminder.getTemplateVariables(), Stored.class);
+        } catch (JsonProcessingException e) {
+            log.error("Unreadable template variables of reminder {}, sending without them", reminder.getId(), e);
+            return new Stored(NotificationDispatcher.EMAIL_TEMPLATE, Map.of());
+        }
+    }
+
+    /**
+     * The stored email template and its variables.
+     */
+    record Stored(String templateName, Map<String, Object> variables) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.javajedis.legalconnect.notifications;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import com.javajedis.legalconnect.notifications.NotificationOutbox.Channel;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A reminder for one recipient on one channel, moved to the outbox by the {@link ReminderPoller} at {@code fireAt}.
+ */
+@Entity
+@Table(name = "reminders", indexes = {
+        @Index(name = "idx_reminders_fire_at", columnList = "fire_at"),
+        @Index(name = "idx_reminders_task_id", columnList = "task_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledReminder {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(name = "id", nullable = false, updatable = false, columnDefinition = "UUID")
+    private UUID id;
+
+    @Column(name = "task_id", nullable = false, columnDefinition = "UUID")
+    private UUID taskId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "channel", nullable = false)
+    private Channel channel;
+
+    @Column(name = "recipient_id", nullable = false, columnDefinition = "UUID")
+    private UUID recipientId;
+
+    @Column(name = "recipient_email")
+    private String recipientEmail;
+
+    @Column(name = "subject")
+    private String subject;
+
+    @Column(name = "content", columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "template_variables", columnDefinition = "TEXT")
+    private String templateVariables;
+
+    @Column(name = "fire_at", nullable = false, columnDefinition = "TIMESTAMPTZ")
+    private OffsetDateTime fireAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false, columnDefinition = "TIMESTAMPTZ DEFAULT now()")
+    private OffsetDateTime createdAt;
+}
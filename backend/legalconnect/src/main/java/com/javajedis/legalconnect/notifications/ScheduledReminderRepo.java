@@ -0,0 +1,33 @@
+package com.javajedis.legalconnect.notifications;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for ScheduledReminder entity.
+ */
+@Repository
+public interface ScheduledReminderRepo extends JpaRepository<ScheduledReminder, UUID> {
+
+    /**
+     * Lock due reminders, earliest first, skipping reminders locked by another poller.
+     * Must run inside a transaction; the locks are held until it ends.
+     */
+    @Query(value = "SELECT * FROM reminders WHERE fire_at <= :now ORDER BY fire_at LIMIT :limit "
+            + "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<ScheduledReminder> lockDue(@Param("now") OffsetDateTime now, @Param("limit") int limit);
+
+    /**
+     * Delete every pending reminder of a task.
+     */
+    @Modifying
+    @Query("DELETE FROM ScheduledReminder r WHERE r.taskId = :taskId")
+    int deleteByTaskId(@Param("taskId") UUID taskId);
+}
@@ -0,0 +1,16 @@
+package com.javajedis.legalconnect.notifications.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for returning the result of marking several notifications as read.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MarkReadResponseDTO {
+    private int markedCount;
+    private int unreadCount;
+}
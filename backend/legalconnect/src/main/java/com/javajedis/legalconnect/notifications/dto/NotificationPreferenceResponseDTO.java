@@ -1,5 +1,6 @@
 package com.javajedis.legalconnect.notifications.dto;
 
+import com.javajedis.legalconnect.notifications.EmailDigest;
 import com.javajedis.legalconnect.notifications.NotificationType;
 
 import lombok.AllArgsConstructor;
@@ -18,4 +19,10 @@ public class NotificationPreferenceResponseDTO {
     private String displayName;
     private boolean emailEnabled;
     private boolean webPushEnabled;
+    private EmailDigest emailDigest;
+
+    public NotificationPreferenceResponseDTO(NotificationType type, String displayName,
+                                             boolean emailEnabled, boolean webPushEnabled) {
+        this(type, displayName, emailEnabled, webPushEnabled, EmailDigest.IMMEDIATE);
+    }
 } 
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.javajedis.legalconnect.notifications.dto;
 
+import com.javajedis.legalconnect.notifications.EmailDigest;
+
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -7,6 +9,7 @@ import lombok.NoArgsConstructor;
 
 /**
  * DTO for updating notification preferences.
+ * A null email digest keeps the current one.
  */
 @Data
 @NoArgsConstructor
@@ -18,4 +21,10 @@ public class UpdateNotificationPreferenceDTO {
     
     @NotNull(message = "Web push enabled status is required")
     private boolean webPushEnabled;
-} 
\ No newline at end of file
+
+    private EmailDigest emailDigest;
+
+    public UpdateNotificationPreferenceDTO(boolean emailEnabled, boolean webPushEnabled) {
+        this(emailEnabled, webPushEnabled, null);
+    }
+}
@@ -17,6 +17,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -25,7 +26,9 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+        @Index(name = "idx_payments_status_release_at", columnList = "status, release_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -60,6 +63,9 @@ public class Payment {
     @Column(name = "transaction_id")
     private String transactionId;
 
+    @Column(name = "stripe_session_id", unique = true)
+    private String stripeSessionId;
+
     @Column(name = "payment_date", columnDefinition = "TIMESTAMPTZ")
     private OffsetDateTime paymentDate;
 
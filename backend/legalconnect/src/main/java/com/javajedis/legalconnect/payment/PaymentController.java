@@ -5,11 +5,13 @@ import com.javajedis.legalconnect.common.security.RequireUserOrVerifiedLawyer;
 import com.javajedis.legalconnect.payment.dto.CreatePaymentDTO;
 import com.javajedis.legalconnect.payment.dto.PaymentResponseDTO;
 import com.javajedis.legalconnect.payment.dto.StripeSessionResponseDTO;
+import com.stripe.exception.SignatureVerificationException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -28,6 +30,8 @@ import java.util.UUID;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final StripeWebhookService stripeWebhookService;
+    private final StripeEventProcessor stripeEventProcessor;
 
     /**
      * Creates a new payment with the provided data.
@@ -55,9 +59,31 @@ public class PaymentController {
     }
 
     /**
-     * Completes a payment using session ID and schedules payment release.
+     * Receives a signed Stripe webhook event and queues it for processing.
      */
-    @Operation(summary = "Complete payment", description = "Completes a payment using Stripe session ID and schedules payment release.")
+    @Operation(summary = "Stripe webhook", description = "Receives signed Stripe events. Events are processed asynchronously; redeliveries are ignored.")
+    @PostMapping("/webhook/stripe")
+    public ResponseEntity<ApiResponse<String>> receiveStripeEvent(
+            @RequestBody String payload,
+            @RequestHeader(value = "Stripe-Signature", required = false) String signature) {
+        log.info("POST /payments/webhook/stripe called");
+        try {
+            boolean stored = stripeWebhookService.receive(payload, signature);
+            if (stored) {
+                stripeEventProcessor.wakeUp();
+            }
+            return ApiResponse.success(stored ? "Event stored" : "Event already received", HttpStatus.OK,
+                    "Stripe event received");
+        } catch (SignatureVerificationException e) {
+            log.warn("Rejected Stripe event with invalid signature: {}", e.getMessage());
+            return ApiResponse.error("Invalid Stripe signature", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Reports whether the payment of a Stripe checkout session has been confirmed.
+     */
+    @Operation(summary = "Complete payment", description = "Returns the payment of a Stripe checkout session once Stripe has confirmed it; 202 while confirmation is pending.")
     @RequireUserOrVerifiedLawyer
     @PutMapping("/complete/{sessionId}")
     public ResponseEntity<ApiResponse<PaymentResponseDTO>> completePayment(@PathVariable String sessionId) {
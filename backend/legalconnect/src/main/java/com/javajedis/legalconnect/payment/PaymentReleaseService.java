@@ -0,0 +1,62 @@
+package com.javajedis.legalconnect.payment;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.javajedis.legalconnect.notifications.NotificationOutboxService;
+import com.javajedis.legalconnect.user.User;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Releases due payments in bulk.
+ *
+ * <p>Each batch locks its payments with {@code FOR UPDATE SKIP LOCKED}, so several instances can sweep at
+ * once without releasing a payment twice. The payee notifications are written to the outbox in the same
+ * transaction and delivered in batches by the outbox relay.
+ */
+@Slf4j
+@Service
+public class PaymentReleaseService {
+    private final PaymentRepo paymentRepo;
+    private final NotificationOutboxService outboxService;
+
+    public PaymentReleaseService(PaymentRepo paymentRepo, NotificationOutboxService outboxService) {
+        this.paymentRepo = paymentRepo;
+        this.outboxService = outboxService;
+    }
+
+    /**
+     * Releases up to {@code limit} paid payments whose release time has passed and queues their notifications.
+     *
+     * @param now   the current time, stored as the release time
+     * @param limit the maximum number of payments to release
+     * @return the number of payments released
+     */
+    @Transactional
+    public int releaseDue(OffsetDateTime now, int limit) {
+        List<UUID> ids = paymentRepo.lockDueForRelease(now, limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        List<Payment> payments = paymentRepo.findWithPartiesByIdIn(ids);
+        paymentRepo.updateReleased(ids, PaymentStatus.RELEASED, now);
+
+        for (Payment payment : payments) {
+            String content = PaymentService.releaseContent(payment);
+            User payee = payment.getPayee();
+            String dedupKey = "payment-release:" + payment.getId();
+            outboxService.enqueueWebPush(dedupKey + ":web", payee.getId(), content);
+            outboxService.enqueueEmail(dedupKey + ":email", payee.getId(), payee.getEmail(),
+                    PaymentService.RELEASE_SUBJECT, PaymentService.RELEASE_TEMPLATE,
+                    PaymentService.releaseTemplateVariables(content));
+        }
+        log.debug("Released {} payments due by {}", ids.size(), now);
+        return ids.size();
+    }
+}
@@ -0,0 +1,72 @@
+package com.javajedis.legalconnect.payment;
+
+import java.time.OffsetDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.javajedis.legalconnect.notifications.NotificationOutboxRelay;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically releases paid payments whose release time has passed, in place of a Quartz job per payment.
+ */
+@Slf4j
+@Component
+public class PaymentReleaseSweeper {
+    static final String METRIC_RELEASED = "payments.released";
+
+    private final PaymentReleaseService releaseService;
+    private final NotificationOutboxRelay outboxRelay;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Counter releasedCounter;
+
+    public PaymentReleaseSweeper(PaymentReleaseService releaseService,
+                                 NotificationOutboxRelay outboxRelay,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${spring.custom.payments.release.batch-size:500}") int batchSize,
+                                 @Value("${spring.custom.payments.release.max-batches:20}") int maxBatches) {
+        this.releaseService = releaseService;
+        this.outboxRelay = outboxRelay;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.releasedCounter = Counter.builder(METRIC_RELEASED)
+                .description("Payments released to their payee by the sweeper")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Releases due payments, one batch per transaction, up to {@code max-batches} batches per sweep.
+     *
+     * @return the number of payments released
+     */
+    @Scheduled(fixedDelayString = "${spring.custom.payments.release.sweep-interval-ms:60000}")
+    public int sweep() {
+        OffsetDateTime now = OffsetDateTime.now();
+        int released = 0;
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                int count = releaseService.releaseDue(now, batchSize);
+                released += count;
+                releasedCounter.increment(count);
+                if (count < batchSize) {
+                    break;
+                }
+            }
+        } catch (DataAccessException e) {
+            log.error("Payment release sweep stopped after {} payments: {}", released, e.getMessage());
+        }
+
+        if (released > 0) {
+            log.info("Released {} due payments", released);
+            outboxRelay.wakeUp();
+        }
+        return released;
+    }
+}
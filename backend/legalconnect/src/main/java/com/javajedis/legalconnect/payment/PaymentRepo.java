@@ -1,5 +1,7 @@
 package com.javajedis.legalconnect.payment;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -7,6 +9,7 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -76,6 +79,11 @@ public interface PaymentRepo extends JpaRepository<Payment, UUID> {
      */
     Optional<Payment> findByTransactionId(String transactionId);
     
+    /**
+     * Find payment by the ID of its Stripe checkout session
+     */
+    Optional<Payment> findByStripeSessionId(String stripeSessionId);
+    
     /**
      * Find payment by meeting ID
      */
@@ -102,4 +110,26 @@ public interface PaymentRepo extends JpaRepository<Payment, UUID> {
      * Check if payment exists by transaction ID
      */
     boolean existsByTransactionId(String transactionId);
+
+    /**
+     * Lock the IDs of paid payments due for release, oldest first, skipping rows locked by another sweeper
+     */
+    @Query(value = "SELECT id FROM payments WHERE status = 'PAID' AND release_at <= :now "
+            + "ORDER BY release_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<UUID> lockDueForRelease(@Param("now") OffsetDateTime now, @Param("limit") int limit);
+
+    /**
+     * Find payments by ID with their payer and payee loaded
+     */
+    @Query("SELECT p FROM Payment p JOIN FETCH p.payer JOIN FETCH p.payee WHERE p.id IN :ids")
+    List<Payment> findWithPartiesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Mark paid payments as released at the given time, skipping any no longer paid, and detach loaded payments
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Payment p SET p.status = :status, p.releaseAt = :releasedAt, p.updatedAt = :releasedAt "
+            + "WHERE p.id IN :ids AND p.status = com.javajedis.legalconnect.payment.PaymentStatus.PAID")
+    int updateReleased(@Param("ids") Collection<UUID> ids, @Param("status") PaymentStatus status,
+                       @Param("releasedAt") OffsetDateTime releasedAt);
 } 
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.javajedis.legalconnect.payment;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.List;
@@ -16,21 +18,28 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.javajedis.legalconnect.common.dto.ApiResponse;
 import com.javajedis.legalconnect.common.exception.UserNotFoundException;
+import com.javajedis.legalconnect.common.resilience.ExternalCallGuard;
+import com.javajedis.legalconnect.common.resilience.ExternalCallGuards;
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
 import com.javajedis.legalconnect.common.service.EmailService;
 import com.javajedis.legalconnect.common.utility.GetUserUtil;
-import com.javajedis.legalconnect.jobscheduler.JobSchedulerService;
 import com.javajedis.legalconnect.notifications.NotificationService;
 import com.javajedis.legalconnect.payment.dto.CreatePaymentDTO;
 import com.javajedis.legalconnect.payment.dto.PaymentResponseDTO;
 import com.javajedis.legalconnect.payment.dto.StripeSessionResponseDTO;
 import com.javajedis.legalconnect.user.User;
 import com.javajedis.legalconnect.user.UserRepo;
+import com.javajedis.legalconnect.videocall.Meeting;
 import com.javajedis.legalconnect.videocall.MeetingRepo;
 import com.stripe.Stripe;
+import com.stripe.exception.ApiConnectionException;
 import com.stripe.exception.StripeException;
 import com.stripe.model.checkout.Session;
+import com.stripe.net.RequestOptions;
 import com.stripe.param.checkout.SessionCreateParams;
 
 import jakarta.annotation.PostConstruct;
@@ -50,23 +59,57 @@ public class PaymentService {
     private static final String HTTP_CODE_STRING = "httpCode";
     private static final String SUCCESS_STRING = "success";
     private static final String MESSAGE_STRING = "message";
+    private static final String STRIPE_UNAVAILABLE = "Payment provider is temporarily unavailable, please try again later";
+    static final String RELEASE_SUBJECT = "Payment Received";
+    static final String RELEASE_TEMPLATE = "notification-email";
 
     private final PaymentRepo paymentRepo;
     private final UserRepo userRepo;
     private final NotificationService notificationService;
     private final EmailService emailService;
-    private final JobSchedulerService jobSchedulerService;
     private final MeetingRepo meetingRepo;
+    private final ExternalCallGuards externalCallGuards;
     
     @Value("${stripe.secret-key}")
     private String stripeSecretKey;
     @Value("${frontend.url}")
     private String frontendUrl;
+    @Value("${spring.custom.payments.confirmation-grace-ms:10000}")
+    private long confirmationGraceMillis = 10_000;
+
+    /** When each checkout session was first reported as still pending, to start its grace period. */
+    private final Cache<String, Instant> pendingSince = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(30))
+            .maximumSize(10_000)
+            .build();
 
     @PostConstruct
     @SuppressWarnings("java:S2696") // This method is from Stripe dependency can not enclose it in static
     public void initializeStripe() {
         Stripe.apiKey = stripeSecretKey;
+        // Let Stripe give up on its connection once the guard stops waiting for it
+        int timeoutMillis = (int) stripeGuard().getSettings().timeout().toMillis();
+        Stripe.setConnectTimeout(timeoutMillis);
+        Stripe.setReadTimeout(timeoutMillis);
+    }
+
+    /**
+     * Returns the guard of Stripe API calls. Only connection errors, rate limits and server errors count
+     * against its circuit; declined cards and invalid requests do not.
+     */
+    private ExternalCallGuard stripeGuard() {
+        return externalCallGuards.guard(ExternalCallGuards.STRIPE, PaymentService::isStripeOutage);
+    }
+
+    static boolean isStripeOutage(Throwable exception) {
+        if (exception instanceof ApiConnectionException) {
+            return true;
+        }
+        if (exception instanceof StripeException stripeException) {
+            Integer statusCode = stripeException.getStatusCode();
+            return statusCode == null || statusCode == 429 || statusCode >= 500;
+        }
+        return true;
     }
 
     /**
@@ -123,7 +166,7 @@ public class PaymentService {
     /**
      * Validates payment authorization and status for operations requiring PENDING status.
      */
-    private ResponseEntity<ApiResponse<Object>> validatePaymentForOperation(Payment payment, User currentUser, String operation) {
+    private ResponseEntity<ApiResponse<Object>> validatePaymentForOperation(Payment payment, AuthenticatedUser currentUser, String operation) {
         Map<String, Object> checkAuth = checkAuthorization(currentUser, payment, operation);
 
         if (Boolean.FALSE.equals(checkAuth.get(SUCCESS_STRING))) {
@@ -144,7 +187,13 @@ public class PaymentService {
     }
 
     /**
-     * Completes a payment using session ID verification and schedules payment release.
+     * Reports the outcome of a Stripe checkout session to its payer.
+     *
+     * <p>Payments are moved to {@code PAID} by the Stripe webhook, see {@link StripeWebhookService}, so this only
+     * reads the payment: a payment still {@code PENDING} means the webhook has not arrived yet. A payment still
+     * pending after the confirmation grace period is verified with Stripe directly, in case the webhook was lost
+     * or is delayed. Payments whose checkout session was created before session IDs were stored are verified
+     * with Stripe directly.
      */
     public ResponseEntity<ApiResponse<PaymentResponseDTO>> completePayment(String sessionId) {
         log.debug("Completing payment with session id: {}", sessionId);
@@ -154,9 +203,98 @@ public class PaymentService {
             return ApiResponse.error("Session ID is required", HttpStatus.BAD_REQUEST);
         }
 
+        Payment payment = paymentRepo.findByStripeSessionId(sessionId).orElse(null);
+        if (payment == null) {
+            return completePaymentWithStripe(sessionId);
+        }
+
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
+        Map<String, Object> checkAuth = checkAuthorization(currentUser, payment, "complete payment");
+        if (Boolean.FALSE.equals(checkAuth.get(SUCCESS_STRING))) {
+            HttpStatus status = HttpStatus.valueOf((int) checkAuth.get(HTTP_CODE_STRING));
+            log.warn("complete payment failed for payment id: {} - {}", payment.getId(), checkAuth.get(MESSAGE_STRING));
+            return ApiResponse.error(checkAuth.get(MESSAGE_STRING).toString(), status);
+        }
+
+        return switch (payment.getStatus()) {
+            case PENDING -> confirmPendingPayment(payment, sessionId);
+            case PAID, RELEASED -> ApiResponse.success(mapToPaymentResponseDTO(payment), HttpStatus.CREATED,
+                    "Payment completed successfully");
+            default -> ApiResponse.error("Payment was " + payment.getStatus().name().toLowerCase(),
+                    HttpStatus.BAD_REQUEST);
+        };
+    }
+
+    /**
+     * Answers for a payment still awaiting its webhook. Once the session has been pending for longer than the
+     * grace period, the checkout session is retrieved from Stripe and a paid session completes the payment.
+     */
+    private ResponseEntity<ApiResponse<PaymentResponseDTO>> confirmPendingPayment(Payment payment, String sessionId) {
+        Instant firstSeen = pendingSince.get(sessionId, key -> Instant.now());
+        if (Duration.between(firstSeen, Instant.now()).toMillis() >= confirmationGraceMillis) {
+            try {
+                Session session = stripeGuard().call(() -> Session.retrieve(sessionId), unavailable -> null);
+                if (session != null && "complete".equals(session.getStatus()) && "paid".equals(session.getPaymentStatus())) {
+                    Meeting meeting = meetingRepo.findById(payment.getMeetingId()).orElse(null);
+                    if (meeting != null) {
+                        applyPaid(payment, session.getPaymentIntent(), meeting);
+                        Payment updatedPayment = paymentRepo.save(payment);
+                        pendingSince.invalidate(sessionId);
+                        log.info("Payment {} confirmed with Stripe before its webhook, session id: {}",
+                                updatedPayment.getId(), sessionId);
+                        return ApiResponse.success(mapToPaymentResponseDTO(updatedPayment), HttpStatus.CREATED,
+                                "Payment completed successfully");
+                    }
+                }
+            } catch (StripeException e) {
+                log.warn("Could not verify pending payment {} with Stripe: {}", payment.getId(), e.getMessage());
+            }
+        }
+        return ApiResponse.success(mapToPaymentResponseDTO(payment), HttpStatus.ACCEPTED,
+                "Payment is awaiting confirmation from Stripe");
+    }
+
+    /**
+     * Marks a payment as paid once Stripe has confirmed it, and sets its release time, after which the
+     * {@link PaymentReleaseSweeper} releases it. Payments no longer {@code PENDING} are left unchanged.
+     *
+     * @param paymentId     the payment ID from the checkout session metadata
+     * @param sessionId     the checkout session ID
+     * @param transactionId the Stripe payment intent ID
+     * @return true if the payment was marked as paid
+     * @throws IllegalArgumentException if the payment or its meeting does not exist
+     */
+    @Transactional
+    public boolean markPaid(UUID paymentId, String sessionId, String transactionId) {
+        Payment payment = paymentRepo.findById(paymentId)
+                .orElseThrow(() -> new IllegalArgumentException(PAYMENT_NOT_FOUND + ": " + paymentId));
+        if (payment.getStatus() != PaymentStatus.PENDING) {
+            log.debug("Payment {} is already {}, skipping confirmation", paymentId, payment.getStatus());
+            return false;
+        }
+
+        Meeting meeting = meetingRepo.findById(payment.getMeetingId())
+                .orElseThrow(() -> new IllegalArgumentException("Meeting not found with id: " + payment.getMeetingId()));
+        if (payment.getStripeSessionId() == null) {
+            payment.setStripeSessionId(sessionId);
+        }
+        applyPaid(payment, transactionId, meeting);
+        paymentRepo.save(payment);
+        log.info("Payment {} confirmed by Stripe, due for release at: {}", paymentId, payment.getReleaseAt());
+        return true;
+    }
+
+    /**
+     * Completes a payment by retrieving its checkout session from Stripe.
+     */
+    private ResponseEntity<ApiResponse<PaymentResponseDTO>> completePaymentWithStripe(String sessionId) {
         try {
-            Session session = Session.retrieve(sessionId);
-            
+            Session session = stripeGuard().call(() -> Session.retrieve(sessionId), unavailable -> null);
+            if (session == null) {
+                log.warn("Stripe unavailable, cannot verify session: {}", sessionId);
+                return ApiResponse.error(STRIPE_UNAVAILABLE, HttpStatus.SERVICE_UNAVAILABLE);
+            }
+
             if (!"complete".equals(session.getStatus()) || !"paid".equals(session.getPaymentStatus())) {
                 log.warn("Stripe session not completed or not paid. Session ID: {}", sessionId);
                 return ApiResponse.error("Payment not completed on Stripe", HttpStatus.BAD_REQUEST);
@@ -174,33 +312,24 @@ public class PaymentService {
             }
 
             Payment payment = paymentRepo.findById(paymentId).orElse(null);
-            User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
+            AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
 
             ResponseEntity<ApiResponse<Object>> validationResult = validatePaymentForOperation(payment, currentUser, "complete payment");
             if (validationResult != null) {
                 return (ResponseEntity<ApiResponse<PaymentResponseDTO>>) (ResponseEntity<?>) validationResult;
             }
 
-            com.javajedis.legalconnect.videocall.Meeting meeting = meetingRepo.findById(payment.getMeetingId()).orElse(null);
+            Meeting meeting = meetingRepo.findById(payment.getMeetingId()).orElse(null);
             if (meeting == null) {
                 log.warn("Meeting not found with id: {}", payment.getMeetingId());
                 return ApiResponse.error("Meeting not found with this id", HttpStatus.NOT_FOUND);
             }
-            
-            
-            payment.setPaymentMethod(PaymentMethod.CARD);
-            payment.setTransactionId(session.getPaymentIntent());
-            payment.setPaymentDate(OffsetDateTime.now());
-            payment.setReleaseAt(meeting.getEndTimestamp().plusHours(6));
-            payment.setStatus(PaymentStatus.PAID);
 
+            applyPaid(payment, session.getPaymentIntent(), meeting);
             Payment updatedPayment = paymentRepo.save(payment);
             log.info("Payment completed successfully with id: {} and session id: {}",
                     updatedPayment.getId(), sessionId);
-
-            jobSchedulerService.schedulePaymentRelease(payment.getId(), payment.getReleaseAt());
-            log.debug("Payment release scheduled for payment id: {} at: {}",
-                    payment.getId(), payment.getReleaseAt());
+            log.debug("Payment id: {} due for release at: {}", payment.getId(), payment.getReleaseAt());
 
             return ApiResponse.success(
                     mapToPaymentResponseDTO(updatedPayment),
@@ -214,6 +343,14 @@ public class PaymentService {
         }
     }
 
+    private static void applyPaid(Payment payment, String transactionId, Meeting meeting) {
+        payment.setPaymentMethod(PaymentMethod.CARD);
+        payment.setTransactionId(transactionId);
+        payment.setPaymentDate(OffsetDateTime.now());
+        payment.setReleaseAt(meeting.getEndTimestamp().plusHours(6));
+        payment.setStatus(PaymentStatus.PAID);
+    }
+
     /**
      * Retrieves a payment by its ID.
      */
@@ -278,11 +415,12 @@ public class PaymentService {
     /**
      * Releases a payment to the payee and sends notifications.
      */
+    @Transactional
     public ResponseEntity<ApiResponse<PaymentResponseDTO>> releasePayment(UUID paymentId) {
         log.debug("Releasing payment with id: {}", paymentId);
 
         Payment payment = paymentRepo.findById(paymentId).orElse(null);
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
 
         Map<String, Object> checkAuth = checkAuthorization(currentUser, payment, "release payment");
 
@@ -299,7 +437,8 @@ public class PaymentService {
 
     /**
      * Executes payment release without authentication checks (for scheduled jobs).
-     * This method is intended for internal use by scheduled jobs and should not be called directly from controllers.
+     * This method is intended for internal use by release jobs scheduled before the {@link PaymentReleaseSweeper}
+     * and should not be called directly from controllers.
      */
     @Transactional
     public void executeScheduledPaymentRelease(UUID paymentId) {
@@ -332,50 +471,65 @@ public class PaymentService {
             throw new IllegalStateException("Payer or Payee cannot be null for payment release");
         }
 
+        // Conditional on the payment still being paid, so a release racing the sweeper or a repeated
+        // request neither releases twice nor notifies the payee twice
+        OffsetDateTime releasedAt = OffsetDateTime.now();
+        if (paymentRepo.updateReleased(List.of(payment.getId()), PaymentStatus.RELEASED, releasedAt) != 1) {
+            log.warn("Payment {} was not released, it is no longer paid", payment.getId());
+            return ApiResponse.error("Payment is not in paid status", HttpStatus.CONFLICT);
+        }
         payment.setStatus(PaymentStatus.RELEASED);
-        payment.setReleaseAt(OffsetDateTime.now());
-        Payment updatedPayment = paymentRepo.save(payment);
+        payment.setReleaseAt(releasedAt);
+        payment.setUpdatedAt(releasedAt);
 
         log.info("Payment released successfully with id: {} for amount: {}",
-                updatedPayment.getId(), updatedPayment.getAmount());
-
-        String subject = "Payment Received";
-        String content = String.format("You have received a payment of BDT '%s' from '%s' '%s'",
-                updatedPayment.getAmount(),
-                updatedPayment.getPayer().getFirstName(),
-                updatedPayment.getPayer().getLastName());
+                payment.getId(), payment.getAmount());
 
-        UUID recipientId = updatedPayment.getPayee().getId();
+        String content = releaseContent(payment);
+        UUID recipientId = payment.getPayee().getId();
 
         log.debug("Sending notification to payee: {} for payment release", recipientId);
         notificationService.sendNotification(recipientId, content);
 
-        Map<String, Object> templateVariables = new HashMap<>();
-        templateVariables.put("notificationType", "Payment Received");
-        templateVariables.put("content", content);
-
-        log.debug("Sending email notification to payee: {} for payment release", updatedPayment.getPayee().getEmail());
+        log.debug("Sending email notification to payee: {} for payment release", payment.getPayee().getEmail());
         emailService.sendTemplateEmail(
-                updatedPayment.getPayee().getEmail(),
-                subject,
-                "notification-email",
-                templateVariables
+                payment.getPayee().getEmail(),
+                RELEASE_SUBJECT,
+                RELEASE_TEMPLATE,
+                releaseTemplateVariables(content)
         );
 
-        jobSchedulerService.deletePaymentRelease(updatedPayment.getId());
-        log.debug("Payment release job deleted for payment id: {}", updatedPayment.getId());
-
-        return ApiResponse.success((mapToPaymentResponseDTO(updatedPayment)),
+        return ApiResponse.success((mapToPaymentResponseDTO(payment)),
                 HttpStatus.OK, "Payment released successfully");
     }
 
     /**
-     * Cancels a payment and removes scheduled release job.
+     * Builds the notification text sent to the payee of a released payment.
+     */
+    static String releaseContent(Payment payment) {
+        return String.format("You have received a payment of BDT '%s' from '%s' '%s'",
+                payment.getAmount(),
+                payment.getPayer().getFirstName(),
+                payment.getPayer().getLastName());
+    }
+
+    /**
+     * Builds the email template variables sent to the payee of a released payment.
+     */
+    static Map<String, Object> releaseTemplateVariables(String content) {
+        Map<String, Object> templateVariables = new HashMap<>();
+        templateVariables.put("notificationType", RELEASE_SUBJECT);
+        templateVariables.put("content", content);
+        return templateVariables;
+    }
+
+    /**
+     * Cancels a payment.
      */
     public ResponseEntity<ApiResponse<String>> cancelPayment(UUID paymentId) {
         log.debug("Canceling payment with id: {}", paymentId);
 
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
         Payment payment = paymentRepo.findById(paymentId).orElse(null);
 
         Map<String, Object> checkAuth = checkAuthorization(currentUser, payment, "cancel payment");
@@ -392,16 +546,13 @@ public class PaymentService {
         Payment updatedPayment = paymentRepo.save(payment);
         log.info("Payment canceled successfully with id: {}", updatedPayment.getId());
 
-        jobSchedulerService.deletePaymentRelease(paymentId);
-        log.debug("Payment release job deleted for canceled payment id: {}", paymentId);
-
         return ApiResponse.success("Payment canceled successfully", HttpStatus.OK, "Payment cancelled");
     }
 
     /**
      * Checks if the current user is authorized to perform the specified operation on the payment.
      */
-    public Map<String, Object> checkAuthorization(User currentUser, Payment payment, String operation) {
+    public Map<String, Object> checkAuthorization(AuthenticatedUser currentUser, Payment payment, String operation) {
         Map<String, Object> response = new HashMap<>();
 
         if (currentUser == null) {
@@ -414,15 +565,15 @@ public class PaymentService {
             response.put(SUCCESS_STRING, false);
             response.put(MESSAGE_STRING, PAYMENT_NOT_FOUND);
             response.put(HTTP_CODE_STRING, HttpStatus.NOT_FOUND.value());
-        } else if (!currentUser.equals(payment.getPayer())) {
+        } else if (!currentUser.matches(payment.getPayer())) {
             log.warn("Authorization check failed: user {} not authorized to {} payment {}",
-                    currentUser.getEmail(), operation, payment.getId());
+                    currentUser.email(), operation, payment.getId());
             response.put(SUCCESS_STRING, false);
             response.put(MESSAGE_STRING, NOT_AUTHORIZED_STRING + operation);
             response.put(HTTP_CODE_STRING, HttpStatus.FORBIDDEN.value());
         } else {
             log.debug("Authorization check passed: user {} authorized to {} payment {}",
-                    currentUser.getEmail(), operation, payment.getId());
+                    currentUser.email(), operation, payment.getId());
             response.put(SUCCESS_STRING, true);
             response.put(MESSAGE_STRING, "OK");
             response.put(HTTP_CODE_STRING, HttpStatus.OK.value()); 
@@ -439,7 +590,7 @@ public class PaymentService {
         log.debug("Creating Stripe session for payment id: {}", paymentId);
 
         Payment payment = paymentRepo.findById(paymentId).orElse(null);
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
 
         ResponseEntity<ApiResponse<Object>> validationResult = validatePaymentForOperation(payment, currentUser, "create Stripe session");
         if (validationResult != null) {
@@ -468,7 +619,16 @@ public class PaymentService {
                     .putMetadata("meeting_id", payment.getMeetingId().toString())
                     .build();
 
-            Session session = Session.create(params);
+            RequestOptions options = RequestOptions.builder()
+                    .setIdempotencyKey(checkoutIdempotencyKey(payment))
+                    .build();
+            Session session = stripeGuard().call(() -> Session.create(params, options), unavailable -> null);
+            if (session == null) {
+                log.warn("Stripe unavailable, cannot create session for payment id: {}", paymentId);
+                return ApiResponse.error(STRIPE_UNAVAILABLE, HttpStatus.SERVICE_UNAVAILABLE);
+            }
+            payment.setStripeSessionId(session.getId());
+            paymentRepo.save(payment);
 
             StripeSessionResponseDTO response = new StripeSessionResponseDTO();
             response.setSessionId(session.getId());
@@ -485,6 +645,17 @@ public class PaymentService {
         }
     }
 
+    /**
+     * Returns the idempotency key of a checkout session creation. Retrying a creation whose answer was lost,
+     * for example after the guard stopped waiting, returns the session Stripe already created instead of a
+     * second one. The key changes with the amount and once a session is stored, so a new checkout attempt
+     * gets a new session.
+     */
+    static String checkoutIdempotencyKey(Payment payment) {
+        String key = "checkout-" + payment.getId() + "-" + payment.getAmount().toPlainString();
+        return payment.getStripeSessionId() == null ? key : key + "-" + payment.getStripeSessionId();
+    }
+
     /**
      * Maps a Payment entity to PaymentResponseDTO.
      *
@@ -0,0 +1,65 @@
+package com.javajedis.legalconnect.payment;
+
+import java.time.OffsetDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A Stripe webhook event, stored once per Stripe event ID when it is received.
+ * Rows are processed by {@link StripeEventProcessor}.
+ */
+@Entity
+@Table(name = "stripe_events", indexes = {
+        @Index(name = "idx_stripe_events_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StripeEvent {
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    private String id;
+
+    @Column(name = "type", nullable = false, updatable = false)
+    private String type;
+
+    @Column(name = "payload", nullable = false, updatable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status = Status.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false, columnDefinition = "TIMESTAMPTZ")
+    private OffsetDateTime nextAttemptAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "received_at", nullable = false, updatable = false, columnDefinition = "TIMESTAMPTZ DEFAULT now()")
+    private OffsetDateTime receivedAt;
+
+    @Column(name = "processed_at", columnDefinition = "TIMESTAMPTZ")
+    private OffsetDateTime processedAt;
+
+    public enum Status {
+        PENDING,
+        PROCESSED,
+        FAILED
+    }
+}
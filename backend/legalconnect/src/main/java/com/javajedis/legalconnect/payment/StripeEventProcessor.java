@@ -0,0 +1,149 @@
+package com.javajedis.legalconnect.payment;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Processes the Stripe event inbox in batches.
+ *
+ * <p>Workers are started by a poll and whenever a webhook stores a new event. Each worker claims a batch and
+ * applies every event in its own transaction. A full batch starts another worker, up to {@code workers} per
+ * node. Events are claimed with {@code FOR UPDATE SKIP LOCKED} and leased, so processors on several nodes
+ * never apply the same event concurrently.
+ */
+@Slf4j
+@Component
+public class StripeEventProcessor {
+    static final String METRIC_PROCESSED = "payments.stripe.events.processed";
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+    private final StripeWebhookService webhookService;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int workers;
+    private final int retentionDays;
+    private final ExecutorService executor;
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+
+    public StripeEventProcessor(StripeWebhookService webhookService,
+                                MeterRegistry meterRegistry,
+                                @Value("${spring.custom.payments.stripe-events.batch-size:50}") int batchSize,
+                                @Value("${spring.custom.payments.stripe-events.workers:2}") int workers,
+                                @Value("${spring.custom.payments.stripe-events.retention-days:30}") int retentionDays) {
+        this.webhookService = webhookService;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.workers = workers;
+        this.retentionDays = retentionDays;
+        this.executor = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("stripe-events-"));
+    }
+
+    /**
+     * Picks up events that are due for a retry, or were stored while every worker was busy.
+     */
+    @Scheduled(fixedDelayString = "${spring.custom.payments.stripe-events.poll-interval-ms:5000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    /**
+     * Starts a worker unless {@code workers} are already draining the inbox.
+     */
+    public void wakeUp() {
+        int active;
+        do {
+            active = activeWorkers.get();
+            if (active >= workers) {
+                return;
+            }
+        } while (!activeWorkers.compareAndSet(active, active + 1));
+
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            activeWorkers.decrementAndGet();
+            log.debug("Stripe event processor is shut down");
+        }
+    }
+
+    /**
+     * Deletes processed events once they are older than the retention period. Stripe stops redelivering an
+     * event after three days, so the retention period only needs to outlast that.
+     */
+    @Scheduled(cron = "${spring.custom.payments.stripe-events.purge-cron:0 45 3 * * *}")
+    public void purgeProcessed() {
+        int purged = webhookService.purgeProcessedBefore(OffsetDateTime.now().minusDays(retentionDays));
+        if (purged > 0) {
+            log.info("Purged {} processed Stripe events", purged);
+        }
+    }
+
+    /**
+     * Stops the workers, letting the batches in flight finish.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                log.warn("Stripe event processor did not stop within {} ms", SHUTDOWN_TIMEOUT_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Claims and processes one batch.
+     *
+     * @return the number of events claimed
+     */
+    int processBatch() {
+        List<StripeEvent> events = webhookService.claim(batchSize);
+        for (StripeEvent event : events) {
+            try {
+                webhookService.process(event);
+                record(event, "processed");
+            } catch (IllegalArgumentException e) {
+                webhookService.markFailed(event, e.getMessage(), true);
+                record(event, "failed");
+            } catch (RuntimeException e) {
+                log.warn("Failed to process Stripe event {} (attempt {}): {}", event.getId(), event.getAttempts(),
+                        e.getMessage());
+                record(event, webhookService.markFailed(event, e.getMessage(), false) ? "retried" : "failed");
+            }
+        }
+        return events.size();
+    }
+
+    private void drain() {
+        try {
+            while (processBatch() >= batchSize) {
+                wakeUp();
+            }
+        } catch (RuntimeException e) {
+            log.error("Stripe event processor failed: {}", e.getMessage(), e);
+        } finally {
+            activeWorkers.decrementAndGet();
+        }
+    }
+
+    private void record(StripeEvent event, String outcome) {
+        meterRegistry.counter(METRIC_PROCESSED, "type", event.getType(), "outcome", outcome).increment();
+    }
+}
@@ -0,0 +1,67 @@
+package com.javajedis.legalconnect.payment;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for StripeEvent entity.
+ * Stripe delivers an event at least once, so events are inserted keyed by their Stripe ID and redeliveries are dropped.
+ */
+@Repository
+public interface StripeEventRepo extends JpaRepository<StripeEvent, String> {
+
+    /**
+     * Insert an event unless an event with the same ID was already received.
+     *
+     * @return 1 if the event was inserted, 0 if it was a redelivery
+     */
+    @Modifying
+    @Query(value = "INSERT INTO stripe_events (id, type, payload, status, attempts, next_attempt_at, received_at) "
+            + "VALUES (:id, :type, :payload, 'PENDING', 0, :receivedAt, :receivedAt) "
+            + "ON CONFLICT (id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("id") String id,
+                       @Param("type") String type,
+                       @Param("payload") String payload,
+                       @Param("receivedAt") OffsetDateTime receivedAt);
+
+    /**
+     * Lock up to {@code limit} pending events that are due, oldest first, skipping events locked by other workers.
+     * Must run inside a transaction; the locks are held until it ends.
+     */
+    @Query(value = "SELECT * FROM stripe_events WHERE status = 'PENDING' AND next_attempt_at <= :now "
+            + "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<StripeEvent> lockDue(@Param("now") OffsetDateTime now, @Param("limit") int limit);
+
+    /**
+     * Mark an event as processed.
+     */
+    @Modifying
+    @Query("UPDATE StripeEvent e SET e.status = com.javajedis.legalconnect.payment.StripeEvent.Status.PROCESSED, "
+            + "e.processedAt = :processedAt, e.lastError = null WHERE e.id = :id")
+    int markProcessed(@Param("id") String id, @Param("processedAt") OffsetDateTime processedAt);
+
+    /**
+     * Record a failed attempt, either rescheduling the event or giving up on it.
+     */
+    @Modifying
+    @Query("UPDATE StripeEvent e SET e.status = :status, e.nextAttemptAt = :nextAttemptAt, "
+            + "e.lastError = :lastError WHERE e.id = :id")
+    int markFailed(@Param("id") String id,
+                   @Param("status") StripeEvent.Status status,
+                   @Param("nextAttemptAt") OffsetDateTime nextAttemptAt,
+                   @Param("lastError") String lastError);
+
+    /**
+     * Delete events processed before the cutoff.
+     */
+    @Modifying
+    @Query("DELETE FROM StripeEvent e WHERE e.status = com.javajedis.legalconnect.payment.StripeEvent.Status.PROCESSED "
+            + "AND e.processedAt < :cutoff")
+    int deleteProcessedBefore(@Param("cutoff") OffsetDateTime cutoff);
+}
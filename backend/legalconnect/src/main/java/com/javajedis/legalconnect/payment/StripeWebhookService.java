@@ -0,0 +1,199 @@
+package com.javajedis.legalconnect.payment;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javajedis.legalconnect.payment.StripeEvent.Status;
+import com.stripe.exception.SignatureVerificationException;
+import com.stripe.model.Event;
+import com.stripe.net.Webhook;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Receives Stripe webhook events into the {@code stripe_events} inbox and applies them to payments.
+ *
+ * <p>Receiving only verifies the signature and stores the event, so Stripe gets its answer without waiting
+ * on payment processing. {@link StripeEventProcessor} then claims stored events and applies them. Stripe
+ * redelivers events until it gets a 2xx answer, so events are stored once per Stripe event ID and applying
+ * one twice leaves the payment as it was.
+ */
+@Slf4j
+@Service
+public class StripeWebhookService {
+    static final String CHECKOUT_COMPLETED = "checkout.session.completed";
+    static final String CHECKOUT_ASYNC_PAYMENT_SUCCEEDED = "checkout.session.async_payment_succeeded";
+    static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final StripeEventRepo eventRepo;
+    private final PaymentService paymentService;
+    private final ObjectMapper objectMapper;
+    private final String webhookSecret;
+    private final int maxAttempts;
+    private final Duration lease;
+
+    public StripeWebhookService(StripeEventRepo eventRepo,
+                                PaymentService paymentService,
+                                ObjectMapper objectMapper,
+                                @Value("${stripe.webhook-secret:}") String webhookSecret,
+                                @Value("${stripe.require-webhook-secret:false}") boolean requireWebhookSecret,
+                                @Value("${spring.custom.payments.stripe-events.max-attempts:8}") int maxAttempts,
+                                @Value("${spring.custom.payments.stripe-events.lease-ms:300000}") long leaseMillis) {
+        if (requireWebhookSecret && (webhookSecret == null || webhookSecret.isBlank())) {
+            // Without it every webhook is rejected and payments are only confirmed when their payer polls
+            throw new IllegalStateException("Stripe webhook secret is required but not configured");
+        }
+        this.eventRepo = eventRepo;
+        this.paymentService = paymentService;
+        this.objectMapper = objectMapper;
+        this.webhookSecret = webhookSecret;
+        this.maxAttempts = maxAttempts;
+        this.lease = Duration.ofMillis(leaseMillis);
+    }
+
+    /**
+     * Verifies the signature of a webhook delivery and stores its event.
+     *
+     * @param payload   the raw request body
+     * @param signature the {@code Stripe-Signature} header
+     * @return true if the event was stored, false if it had already been received
+     * @throws SignatureVerificationException if the signature is missing, invalid or too old
+     */
+    @Transactional
+    public boolean receive(String payload, String signature) throws SignatureVerificationException {
+        if (webhookSecret == null || webhookSecret.isBlank()) {
+            throw new IllegalStateException("Stripe webhook secret is not configured");
+        }
+        if (signature == null || signature.isBlank()) {
+            throw new SignatureVerificationException("Missing Stripe-Signature header", signature);
+        }
+
+        Event event = Webhook.constructEvent(payload, signature, webhookSecret);
+        boolean stored = eventRepo.insertIfAbsent(event.getId(), event.getType(), payload, OffsetDateTime.now()) > 0;
+        if (stored) {
+            log.debug("Stored Stripe event {} of type {}", event.getId(), event.getType());
+        } else {
+            log.debug("Skipping redelivered Stripe event {}", event.getId());
+        }
+        return stored;
+    }
+
+    /**
+     * Claims up to {@code batchSize} due events for processing, counting the attempt and leasing them.
+     *
+     * @param batchSize the maximum number of events to claim
+     * @return the claimed events, oldest first
+     */
+    @Transactional
+    public List<StripeEvent> claim(int batchSize) {
+        OffsetDateTime now = OffsetDateTime.now();
+        List<StripeEvent> events = eventRepo.lockDue(now, batchSize);
+        if (events.isEmpty()) {
+            return events;
+        }
+        OffsetDateTime leasedUntil = now.plus(lease);
+        for (StripeEvent event : events) {
+            event.setAttempts(event.getAttempts() + 1);
+            event.setNextAttemptAt(leasedUntil);
+        }
+        return eventRepo.saveAll(events);
+    }
+
+    /**
+     * Applies a claimed event and marks it as processed, in one transaction.
+     *
+     * @param event the claimed event
+     * @throws IllegalArgumentException if the event can never be applied, e.g. it names an unknown payment
+     */
+    @Transactional
+    public void process(StripeEvent event) {
+        switch (event.getType()) {
+            case CHECKOUT_COMPLETED, CHECKOUT_ASYNC_PAYMENT_SUCCEEDED -> applyCheckoutSession(event);
+            default -> log.debug("Ignoring Stripe event {} of type {}", event.getId(), event.getType());
+        }
+        eventRepo.markProcessed(event.getId(), OffsetDateTime.now());
+    }
+
+    /**
+     * Records a failed attempt. The event is retried with exponential backoff until it has been attempted
+     * {@code max-attempts} times, unless the failure is permanent.
+     *
+     * @param event     the claimed event
+     * @param error     the failure message
+     * @param permanent whether retrying cannot succeed
+     * @return true if the event will be retried
+     */
+    @Transactional
+    public boolean markFailed(StripeEvent event, String error, boolean permanent) {
+        boolean retry = !permanent && event.getAttempts() < maxAttempts;
+        OffsetDateTime nextAttemptAt = retry
+                ? OffsetDateTime.now().plus(backoff(event.getAttempts()))
+                : event.getNextAttemptAt();
+        eventRepo.markFailed(event.getId(), retry ? Status.PENDING : Status.FAILED, nextAttemptAt, truncate(error));
+        if (!retry) {
+            log.warn("Giving up on Stripe event {} of type {} after {} attempts: {}", event.getId(), event.getType(),
+                    event.getAttempts(), error);
+        }
+        return retry;
+    }
+
+    /**
+     * Deletes events processed before the cutoff.
+     *
+     * @param cutoff the cutoff
+     * @return the number of events deleted
+     */
+    @Transactional
+    public int purgeProcessedBefore(OffsetDateTime cutoff) {
+        return eventRepo.deleteProcessedBefore(cutoff);
+    }
+
+    static Duration backoff(int attempts) {
+        int doublings = Math.clamp(attempts - 1L, 0, 20);
+        Duration delay = BASE_BACKOFF.multipliedBy(1L << doublings);
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private void applyCheckoutSession(StripeEvent event) {
+        JsonNode session = readPayload(event).path("data").path("object");
+        String sessionId = session.path("id").asText(null);
+        if (!"paid".equals(session.path("payment_status").asText())) {
+            // Delayed payment methods complete later with checkout.session.async_payment_succeeded.
+            log.debug("Checkout session {} of Stripe event {} is not paid yet", sessionId, event.getId());
+            return;
+        }
+
+        String paymentId = session.path("metadata").path("payment_id").asText(null);
+        if (paymentId == null) {
+            throw new IllegalArgumentException("Checkout session " + sessionId + " has no payment_id metadata");
+        }
+        paymentService.markPaid(UUID.fromString(paymentId), sessionId, session.path("payment_intent").asText(null));
+    }
+
+    private JsonNode readPayload(StripeEvent event) {
+        try {
+            return objectMapper.readTree(event.getPayload());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unreadable payload: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
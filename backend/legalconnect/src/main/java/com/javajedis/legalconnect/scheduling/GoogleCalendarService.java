@@ -1,5 +1,8 @@
 package com.javajedis.legalconnect.scheduling;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
@@ -9,9 +12,13 @@ import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.google.api.client.auth.oauth2.BearerToken;
 import com.google.api.client.auth.oauth2.Credential;
-import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
+import com.google.api.client.googleapis.services.AbstractGoogleClientRequest;
+import com.google.api.client.http.HttpResponseException;
 import com.google.api.client.http.HttpTransport;
 import com.google.api.client.json.JsonFactory;
 import com.google.api.client.json.gson.GsonFactory;
@@ -22,6 +29,8 @@ import com.google.api.services.calendar.model.EventAttendee;
 import com.google.api.services.calendar.model.EventDateTime;
 import com.google.api.services.calendar.model.EventReminder;
 import com.javajedis.legalconnect.common.exception.GoogleCalendarException;
+import com.javajedis.legalconnect.common.resilience.ExternalCallGuard;
+import com.javajedis.legalconnect.common.resilience.ExternalCallGuards;
 import com.javajedis.legalconnect.scheduling.dto.CreateCalendarEventDTO;
 import com.javajedis.legalconnect.scheduling.dto.UpdateCalendarEventDTO;
 
@@ -37,30 +46,85 @@ public class GoogleCalendarService {
     private static final String TIME_ZONE = "Asia/Dhaka";
     private static final String CALENDAR_ID = "primary";
 
+    private static final long MAX_CACHED_CLIENTS = 10_000;
+    private static final Duration MAX_CLIENT_TTL = Duration.ofHours(1);
+
     private final OAuthCalendarTokenRepo oAuthCalendarTokenRepo;
+    private final ExternalCallGuards externalCallGuards;
+    private final HttpTransport googleHttpTransport;
+    private final Cache<String, CalendarClient> calendarClients = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_CLIENTS)
+            .expireAfter(Expiry.creating((String accessToken, CalendarClient client) -> client.timeToLive()))
+            .build();
 
     /**
-     * Creates a Google Calendar service instance with the user's access token.
+     * Returns the guard of Google API calls, shared with the OAuth token requests. Client errors such as
+     * 404 or an invalid grant do not count against its circuit.
      */
-    public Calendar getCalendar(String accessToken) throws GoogleCalendarException {
-        log.debug("Creating Google Calendar service with access token");
+    ExternalCallGuard googleGuard() {
+        return externalCallGuards.guard(ExternalCallGuards.GOOGLE, GoogleCalendarService::isGoogleOutage);
+    }
 
-        try {
-            HttpTransport transport = GoogleNetHttpTransport.newTrustedTransport();
-            JsonFactory jsonFactory = GsonFactory.getDefaultInstance();
+    static boolean isGoogleOutage(Throwable exception) {
+        if (exception instanceof HttpResponseException responseException) {
+            int statusCode = responseException.getStatusCode();
+            return statusCode == 429 || statusCode >= 500;
+        }
+        return true;
+    }
 
-            Credential credential = new Credential(BearerToken.authorizationHeaderAccessMethod())
-                    .setAccessToken(accessToken);
+    private <T> T execute(AbstractGoogleClientRequest<T> request) throws IOException {
+        return googleGuard().call(request::execute);
+    }
 
-            return new Calendar.Builder(transport, jsonFactory, credential)
-                    .setApplicationName(APPLICATION_NAME)
-                    .build();
+    /**
+     * Returns the Google Calendar client of an access token, building it on first use.
+     *
+     * <p>Clients are cached per access token until the token expires, so repeated calendar operations of a
+     * user reuse one client and the shared transport's pooled connections.
+     */
+    public Calendar getCalendar(String accessToken) throws GoogleCalendarException {
+        try {
+            return calendarClients.get(accessToken, this::buildCalendarClient).calendar();
         } catch (Exception e) {
             log.error("Failed to create Google Calendar service: {}", e.getMessage());
             throw new GoogleCalendarException("Failed to create Google Calendar service: " + e.getMessage(), e);
         }
     }
 
+    private CalendarClient buildCalendarClient(String accessToken) {
+        log.debug("Creating Google Calendar service with access token");
+
+        JsonFactory jsonFactory = GsonFactory.getDefaultInstance();
+        Credential credential = new Credential(BearerToken.authorizationHeaderAccessMethod())
+                .setAccessToken(accessToken);
+        int timeoutMillis = (int) googleGuard().getSettings().timeout().toMillis();
+
+        Calendar calendar = new Calendar.Builder(googleHttpTransport, jsonFactory, request -> {
+                    credential.initialize(request);
+                    request.setConnectTimeout(timeoutMillis);
+                    request.setReadTimeout(timeoutMillis);
+                })
+                .setApplicationName(APPLICATION_NAME)
+                .build();
+        return new CalendarClient(calendar, clientTimeToLive(accessToken));
+    }
+
+    /**
+     * Keeps a client until its token expires. Tokens without a known expiry are kept for at most the
+     * lifetime Google gives an access token.
+     */
+    private Duration clientTimeToLive(String accessToken) {
+        return oAuthCalendarTokenRepo.findAccessExpiryByAccessToken(accessToken)
+                .map(expiry -> Duration.between(OffsetDateTime.now(), expiry))
+                .map(ttl -> ttl.isNegative() ? Duration.ZERO : ttl)
+                .filter(ttl -> ttl.compareTo(MAX_CLIENT_TTL) < 0)
+                .orElse(MAX_CLIENT_TTL);
+    }
+
+    record CalendarClient(Calendar calendar, Duration timeToLive) {
+    }
+
     /**
      * Gets the access token for a user from the database.
      */
@@ -130,7 +194,7 @@ public class GoogleCalendarService {
                     .setOverrides(Arrays.asList(reminderOverrides));
             event.setReminders(reminders);
 
-            Event createdEvent = service.events().insert(CALENDAR_ID, event).execute();
+            Event createdEvent = execute(service.events().insert(CALENDAR_ID, event));
             log.info("Successfully created Google Calendar event with ID: {}", createdEvent.getId());
 
             return createdEvent;
@@ -151,11 +215,13 @@ public class GoogleCalendarService {
 
         try {
             Calendar service = getCalendar(eventData.getAccessToken());
-            Event event = service.events().get(CALENDAR_ID, eventData.getEventId()).execute();
 
-            event.setSummary(eventData.getTitle());
-            event.setDescription(eventData.getDescription());
-            event.setLocation("Online Meeting - LegalConnect");
+            // Patch only sends the changed fields, so the event is updated in one round trip without
+            // fetching it first; attendees and reminders left out of the patch are kept as they are
+            Event event = new Event()
+                    .setSummary(eventData.getTitle())
+                    .setDescription(eventData.getDescription())
+                    .setLocation("Online Meeting - LegalConnect");
 
             ZonedDateTime startDateTime = ZonedDateTime.of(eventData.getDate(), eventData.getStartTime(), ZoneId.of(TIME_ZONE));
             ZonedDateTime endDateTime = ZonedDateTime.of(eventData.getDate(), eventData.getEndTime(), ZoneId.of(TIME_ZONE));
@@ -173,7 +239,7 @@ public class GoogleCalendarService {
                 event.setAttendees(attendees);
             }
 
-            Event updatedEvent = service.events().update(CALENDAR_ID, eventData.getEventId(), event).execute();
+            Event updatedEvent = execute(service.events().patch(CALENDAR_ID, eventData.getEventId(), event));
             log.info("Successfully updated Google Calendar event with ID: {}", eventData.getEventId());
 
             return updatedEvent;
@@ -198,7 +264,7 @@ public class GoogleCalendarService {
         Calendar service = getCalendar(accessToken);
         
         try {
-            service.events().delete(CALENDAR_ID, eventId).execute();
+            execute(service.events().delete(CALENDAR_ID, eventId));
             log.info("Successfully deleted Google Calendar event with ID: {}", eventId);
         } catch (Exception e) {
             if (e.getMessage() != null && 
@@ -220,7 +286,7 @@ public class GoogleCalendarService {
     public boolean eventExists(String accessToken, String eventId) {
         try {
             Calendar service = getCalendar(accessToken);
-            Event event = service.events().get(CALENDAR_ID, eventId).execute();
+            Event event = execute(service.events().get(CALENDAR_ID, eventId));
             return event != null;
         } catch (Exception e) {
             log.debug("Event with ID {} does not exist or is not accessible: {}", eventId, e.getMessage());
@@ -1,9 +1,12 @@
 package com.javajedis.legalconnect.scheduling;
 
+import java.time.OffsetDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface OAuthCalendarTokenRepo extends JpaRepository<OAuthCalendarToken, UUID> {
 
@@ -11,6 +14,9 @@ public interface OAuthCalendarTokenRepo extends JpaRepository<OAuthCalendarToken
 
     Optional<OAuthCalendarToken> findByUserId(UUID userId);
 
+    @Query("SELECT t.accessExpiry FROM OAuthCalendarToken t WHERE t.accessToken = :accessToken")
+    Optional<OffsetDateTime> findAccessExpiryByAccessToken(@Param("accessToken") String accessToken);
+
     void deleteByUserId(UUID userId);
 
 } 
\ No newline at end of file
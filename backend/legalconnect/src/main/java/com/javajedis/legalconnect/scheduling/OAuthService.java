@@ -3,11 +3,14 @@ package com.javajedis.legalconnect.scheduling;
 import com.google.api.client.googleapis.auth.oauth2.GoogleAuthorizationCodeTokenRequest;
 import com.google.api.client.googleapis.auth.oauth2.GoogleRefreshTokenRequest;
 import com.google.api.client.googleapis.auth.oauth2.GoogleTokenResponse;
-import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
+import com.google.api.client.http.HttpRequestInitializer;
 import com.google.api.client.http.HttpTransport;
 import com.google.api.client.json.JsonFactory;
 import com.google.api.client.json.gson.GsonFactory;
 import com.javajedis.legalconnect.common.dto.ApiResponse;
+import com.javajedis.legalconnect.common.resilience.ExternalCallGuard;
+import com.javajedis.legalconnect.common.resilience.ExternalCallGuards;
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
 import com.javajedis.legalconnect.common.utility.GetUserUtil;
 import com.javajedis.legalconnect.user.User;
 import com.javajedis.legalconnect.user.UserRepo;
@@ -31,6 +34,8 @@ import java.util.UUID;
 public class OAuthService {
     private final OAuthCalendarTokenRepo oAuthCalendarTokenRepo;
     private final UserRepo userRepo;
+    private final ExternalCallGuards externalCallGuards;
+    private final HttpTransport googleHttpTransport;
 
     @Value("${google.oauth.client-id}")
     private String clientId;
@@ -48,7 +53,7 @@ public class OAuthService {
      * Generates the Google OAuth2 authorization URL for the authenticated user.
      */
     public ResponseEntity<ApiResponse<String>> oAuthAuthorize() {
-        User user = GetUserUtil.getAuthenticatedUser(userRepo);
+        AuthenticatedUser user = GetUserUtil.getAuthenticatedPrincipal(userRepo);
         if (user == null) {
             log.warn("Unauthorized OAuth authorize attempt");
             return ApiResponse.error("User is not authenticated", HttpStatus.UNAUTHORIZED);
@@ -61,7 +66,7 @@ public class OAuthService {
                 .queryParam("scope", scope)
                 .queryParam("access_type", "offline")
                 .queryParam("prompt", "consent")
-                .queryParam("state", user.getId().toString())
+                .queryParam("state", user.id().toString())
                 .build().toUriString();
 
         return ApiResponse.success(url, HttpStatus.OK, "OAuth Redirect Url Sent ");
@@ -87,18 +92,23 @@ public class OAuthService {
                 return ApiResponse.error("User not found", HttpStatus.NOT_FOUND);
             }
 
-            HttpTransport transport = GoogleNetHttpTransport.newTrustedTransport();
             JsonFactory jsonFactory = GsonFactory.getDefaultInstance();
 
-            GoogleTokenResponse tokenResponse = new GoogleAuthorizationCodeTokenRequest(
-                    transport,
+            GoogleAuthorizationCodeTokenRequest tokenRequest = new GoogleAuthorizationCodeTokenRequest(
+                    googleHttpTransport,
                     jsonFactory,
                     "https://oauth2.googleapis.com/token",
                     clientId,
                     clientSecret,
                     code,
-                    redirectUri)
-                    .execute();
+                    redirectUri);
+            tokenRequest.setRequestInitializer(timeouts());
+            GoogleTokenResponse tokenResponse = googleGuard().call(tokenRequest::execute, unavailable -> null);
+            if (tokenResponse == null) {
+                log.warn("Google unavailable, cannot exchange authorization code for user: {}", userId);
+                return ApiResponse.error("Google is temporarily unavailable, please try again later",
+                        HttpStatus.SERVICE_UNAVAILABLE);
+            }
 
             String accessToken = tokenResponse.getAccessToken();
             String refreshToken = tokenResponse.getRefreshToken();
@@ -152,6 +162,21 @@ public class OAuthService {
         }
     }
 
+    /**
+     * Returns the guard of Google API calls, shared with the calendar requests.
+     */
+    private ExternalCallGuard googleGuard() {
+        return externalCallGuards.guard(ExternalCallGuards.GOOGLE, GoogleCalendarService::isGoogleOutage);
+    }
+
+    private HttpRequestInitializer timeouts() {
+        int timeoutMillis = (int) googleGuard().getSettings().timeout().toMillis();
+        return request -> {
+            request.setConnectTimeout(timeoutMillis);
+            request.setReadTimeout(timeoutMillis);
+        };
+    }
+
     /**
      * Parses user ID from the OAuth state parameter.
      * Returns null if the state parameter is invalid.
@@ -203,16 +228,20 @@ public class OAuthService {
                 return false;
             }
 
-            HttpTransport transport = GoogleNetHttpTransport.newTrustedTransport();
             JsonFactory jsonFactory = GsonFactory.getDefaultInstance();
 
-            GoogleTokenResponse tokenResponse = new GoogleRefreshTokenRequest(
-                    transport,
+            GoogleRefreshTokenRequest refreshRequest = new GoogleRefreshTokenRequest(
+                    googleHttpTransport,
                     jsonFactory,
                     storedToken.getRefreshToken(),
                     clientId,
-                    clientSecret)
-                    .execute();
+                    clientSecret);
+            refreshRequest.setRequestInitializer(timeouts());
+            GoogleTokenResponse tokenResponse = googleGuard().call(refreshRequest::execute, unavailable -> null);
+            if (tokenResponse == null) {
+                log.warn("Google unavailable, cannot refresh access token for user: {}", user.getEmail());
+                return false;
+            }
 
             String newAccessToken = tokenResponse.getAccessToken();
             OffsetDateTime newAccessExpiry = null;
@@ -252,36 +281,36 @@ public class OAuthService {
         log.debug("Checking access token validity for current authenticated user");
 
         try {
-            User user = GetUserUtil.getAuthenticatedUser(userRepo);
+            AuthenticatedUser user = GetUserUtil.getAuthenticatedPrincipal(userRepo);
             if (user == null) {
                 log.warn("User is not authenticated");
                 return false;
             }
 
-            UUID userId = user.getId();
+            UUID userId = user.id();
             log.debug("Checking access token for user ID: {}", userId);
 
-            Optional<OAuthCalendarToken> tokenOptional = oAuthCalendarTokenRepo.findByUserId(user.getId());
+            Optional<OAuthCalendarToken> tokenOptional = oAuthCalendarTokenRepo.findByUserId(user.id());
 
             if (tokenOptional.isEmpty()) {
-                log.debug("No OAuth tokens found for user: {}", user.getEmail());
+                log.debug("No OAuth tokens found for user: {}", user.email());
                 return false;
             }
 
             OAuthCalendarToken storedToken = tokenOptional.get();
 
             if (storedToken.getAccessToken() == null || storedToken.getAccessToken().isEmpty()) {
-                log.debug("No access token present for user: {}", user.getEmail());
+                log.debug("No access token present for user: {}", user.email());
                 return false;
             }
 
             if (storedToken.getAccessExpiry() != null && storedToken.getAccessExpiry().isBefore(OffsetDateTime.now())) {
-                log.debug("Access token expired for user: {}, attempting to refresh", user.getEmail());
+                log.debug("Access token expired for user: {}, attempting to refresh", user.email());
 
                 return refreshAccessToken(userId);
             }
 
-            log.debug("Access token is valid for user: {}", user.getEmail());
+            log.debug("Access token is valid for user: {}", user.email());
             return true;
 
         } catch (Exception e) {
@@ -1,8 +1,10 @@
 package com.javajedis.legalconnect.scheduling;
 
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,13 +22,11 @@ import com.javajedis.legalconnect.caseassets.CaseAssetUtility;
 import com.javajedis.legalconnect.casemanagement.CaseRepo;
 import com.javajedis.legalconnect.common.dto.ApiResponse;
 import com.javajedis.legalconnect.common.exception.GoogleCalendarException;
-import com.javajedis.legalconnect.common.service.EmailService;
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
 import com.javajedis.legalconnect.common.utility.GetUserUtil;
-import com.javajedis.legalconnect.jobscheduler.EmailJobDTO;
-import com.javajedis.legalconnect.jobscheduler.JobSchedulerService;
-import com.javajedis.legalconnect.jobscheduler.WebPushJobDTO;
-import com.javajedis.legalconnect.notifications.NotificationPreferenceService;
-import com.javajedis.legalconnect.notifications.NotificationService;
+import com.javajedis.legalconnect.notifications.NotificationDispatcher;
+import com.javajedis.legalconnect.notifications.NotificationEvent;
+import com.javajedis.legalconnect.notifications.NotificationEvent.Reminder;
 import com.javajedis.legalconnect.notifications.NotificationType;
 import com.javajedis.legalconnect.scheduling.dto.CreateCalendarEventDTO;
 import com.javajedis.legalconnect.scheduling.dto.CreateScheduleDTO;
@@ -53,8 +53,10 @@ public class SchedulingService {
     private static final String NO_VALID_ACCESS_TOKEN_LOG = "No valid access token found for user: {}";
     private static final String NOTIFICATION_TYPE = "notificationType";
     private static final String CONTENT = "content";
-    private static final String EMAIIL_TEMPLATE = "notification-email";
     private static final String TIMESTAMP = "timestamp";
+    // Template variables are stored as JSON in the notification outbox, so the time is formatted up front
+    private static final DateTimeFormatter TIMESTAMP_FORMAT =
+            DateTimeFormatter.ofPattern("dd-MM-yyyy hh:mm a", Locale.ENGLISH);
     private static final int REMINDER_MINUTES_BEFORE = 1;
 
     private final ScheduleRepo scheduleRepo;
@@ -63,10 +65,7 @@ public class SchedulingService {
     private final GoogleCalendarService googleCalendarService;
     private final OAuthService oAuthService;
     private final ScheduleGoogleCalendarEventRepo scheduleGoogleCalendarEventRepo;
-    private final NotificationService notificationService;
-    private final NotificationPreferenceService notificationPreferenceService;
-    private final EmailService emailService;
-    private final JobSchedulerService jobSchedulerService;
+    private final NotificationDispatcher notificationDispatcher;
 
     /**
      * Create a new schedule event for a case.
@@ -106,7 +105,6 @@ public class SchedulingService {
         createGoogleCalendarEvent(savedSchedule, currentUser, client, lawyer);
 
         User recipient = currentUser.getId().equals(client.getId()) ? lawyer : client;
-        UUID recipientId = recipient.getId();
         String creatorName = currentUser.getFirstName() + " " + currentUser.getLastName();
 
         String subject = "New Schedule Created";
@@ -121,50 +119,12 @@ public class SchedulingService {
         Map<String, Object> templateVariables = new HashMap<>();
         templateVariables.put(NOTIFICATION_TYPE, "Schedule Created");
         templateVariables.put(CONTENT, content);
-        templateVariables.put(TIMESTAMP, savedSchedule.getStartTime());
+        templateVariables.put(TIMESTAMP, TIMESTAMP_FORMAT.format(savedSchedule.getStartTime()));
 
-        if (notificationPreferenceService.checkWebPushEnabled(recipientId, NotificationType.EVENT_ADD)) {
-            notificationService.sendNotification(recipientId, content);
-        }
-
-        if (notificationPreferenceService.checkEmailEnabled(recipientId, NotificationType.EVENT_ADD)) {
-            emailService.sendTemplateEmail(
-                    recipient.getEmail(),
-                    subject,
-                    EMAIIL_TEMPLATE,
-                    templateVariables
-            );
-        }
-
-        if (notificationPreferenceService.checkWebPushEnabled(client.getId(), NotificationType.SCHEDULE_REMINDER)) {
-            jobSchedulerService.scheduleWebPushNotification(new WebPushJobDTO(savedSchedule.getId(),
-                    client.getId(), content,
-                    savedSchedule.getStartTime().minusMinutes(REMINDER_MINUTES_BEFORE)));
-        }
-
-        if (notificationPreferenceService.checkWebPushEnabled(lawyer.getId(), NotificationType.SCHEDULE_REMINDER)) {
-            jobSchedulerService.scheduleWebPushNotification(new WebPushJobDTO(savedSchedule.getId(),
-                    lawyer.getId(), content,
-                    savedSchedule.getStartTime().minusMinutes(REMINDER_MINUTES_BEFORE)));
-        }
-
-        if (notificationPreferenceService.checkEmailEnabled(client.getId(), NotificationType.SCHEDULE_REMINDER)) {
-            jobSchedulerService.scheduleEmailNotification(new EmailJobDTO(savedSchedule.getId(),
-                    EMAIIL_TEMPLATE,
-                    client.getEmail(),
-                    subject,
-                    templateVariables,
-                    savedSchedule.getStartTime().minusMinutes(REMINDER_MINUTES_BEFORE)));
-        }
-
-        if (notificationPreferenceService.checkEmailEnabled(lawyer.getId(), NotificationType.SCHEDULE_REMINDER)) {
-            jobSchedulerService.scheduleEmailNotification(new EmailJobDTO(savedSchedule.getId(),
-                    EMAIIL_TEMPLATE,
-                    lawyer.getEmail(),
-                    subject,
-                    templateVariables,
-                    savedSchedule.getStartTime().minusMinutes(REMINDER_MINUTES_BEFORE)));
-        }
+        notificationDispatcher.dispatch(NotificationEvent.of(NotificationType.EVENT_ADD, recipient, subject, content,
+                templateVariables).withSource("schedule", savedSchedule.getId(), "created")
+                .withReminder(Reminder.schedule(savedSchedule.getId(),
+                savedSchedule.getStartTime().minusMinutes(REMINDER_MINUTES_BEFORE), client, lawyer)));
 
         log.info("Schedule created for case {} by user: {}", eventData.getCaseId(), currentUser.getEmail());
 
@@ -206,7 +166,6 @@ public class SchedulingService {
         Schedule updatedSchedule = scheduleRepo.save(existingSchedule);
 
         User recipient = validation.user().getId().equals(client.getId()) ? lawyer : client;
-        UUID recipientId = recipient.getId();
         String updaterName = validation.user().getFirstName() + " " + validation.user().getLastName();
 
         String subject = "Schedule Updated";
@@ -221,52 +180,11 @@ public class SchedulingService {
         Map<String, Object> templateVariables = new HashMap<>();
         templateVariables.put(NOTIFICATION_TYPE, "Schedule Updated");
         templateVariables.put(CONTENT, content);
-        templateVariables.put(TIMESTAMP, updatedSchedule.getStartTime());
-
-        if (notificationPreferenceService.checkWebPushEnabled(recipientId, NotificationType.EVENT_ADD)) {
-            notificationService.sendNotification(recipientId, content);
-        }
-
-        if (notificationPreferenceService.checkEmailEnabled(recipientId, NotificationType.EVENT_ADD)) {
-            emailService.sendTemplateEmail(
-                    recipient.getEmail(),
-                    subject,
-                    EMAIIL_TEMPLATE,
-                    templateVariables
-            );
-        }
-
-        jobSchedulerService.deleteAllJobsForTask(updatedSchedule.getId());
-
-        if (notificationPreferenceService.checkWebPushEnabled(client.getId(), NotificationType.SCHEDULE_REMINDER)) {
-            jobSchedulerService.scheduleWebPushNotification(new WebPushJobDTO(updatedSchedule.getId(),
-                    client.getId(), content,
-                    updatedSchedule.getStartTime().minusMinutes(REMINDER_MINUTES_BEFORE)));
-        }
-
-        if (notificationPreferenceService.checkWebPushEnabled(lawyer.getId(), NotificationType.SCHEDULE_REMINDER)) {
-            jobSchedulerService.scheduleWebPushNotification(new WebPushJobDTO(updatedSchedule.getId(),
-                    lawyer.getId(), content,
-                    updatedSchedule.getStartTime().minusMinutes(REMINDER_MINUTES_BEFORE)));
-        }
+        templateVariables.put(TIMESTAMP, TIMESTAMP_FORMAT.format(updatedSchedule.getStartTime()));
 
-        if (notificationPreferenceService.checkEmailEnabled(client.getId(), NotificationType.SCHEDULE_REMINDER)) {
-            jobSchedulerService.scheduleEmailNotification(new EmailJobDTO(updatedSchedule.getId(),
-                    EMAIIL_TEMPLATE,
-                    client.getEmail(),
-                    subject,
-                    templateVariables,
-                    updatedSchedule.getStartTime().minusMinutes(REMINDER_MINUTES_BEFORE)));
-        }
-
-        if (notificationPreferenceService.checkEmailEnabled(lawyer.getId(), NotificationType.SCHEDULE_REMINDER)) {
-            jobSchedulerService.scheduleEmailNotification(new EmailJobDTO(updatedSchedule.getId(),
-                    EMAIIL_TEMPLATE,
-                    lawyer.getEmail(),
-                    subject,
-                    templateVariables,
-                    updatedSchedule.getStartTime().minusMinutes(REMINDER_MINUTES_BEFORE)));
-        }
+        notificationDispatcher.dispatch(NotificationEvent.of(NotificationType.EVENT_ADD, recipient, subject, content,
+                templateVariables).withReminder(Reminder.reschedule(updatedSchedule.getId(),
+                updatedSchedule.getStartTime().minusMinutes(REMINDER_MINUTES_BEFORE), client, lawyer)));
 
         log.info("Schedule {} updated by user: {}", scheduleId, validation.user().getEmail());
 
@@ -297,7 +215,6 @@ public class SchedulingService {
         User client = existingSchedule.getCaseEntity().getClient();
         User lawyer = existingSchedule.getCaseEntity().getLawyer().getUser();
         User recipient = validation.user().getId().equals(client.getId()) ? lawyer : client;
-        UUID recipientId = recipient.getId();
         String deleterName = validation.user().getFirstName() + " " + validation.user().getLastName();
 
         String subject = "Schedule Cancelled";
@@ -310,22 +227,11 @@ public class SchedulingService {
         Map<String, Object> templateVariables = new HashMap<>();
         templateVariables.put(NOTIFICATION_TYPE, "Schedule Cancelled");
         templateVariables.put(CONTENT, content);
-        templateVariables.put(TIMESTAMP, existingSchedule.getStartTime());
-
-        if (notificationPreferenceService.checkWebPushEnabled(recipientId, NotificationType.EVENT_ADD)) {
-            notificationService.sendNotification(recipientId, content);
-        }
-
-        if (notificationPreferenceService.checkEmailEnabled(recipientId, NotificationType.EVENT_ADD)) {
-            emailService.sendTemplateEmail(
-                    recipient.getEmail(),
-                    subject,
-                    EMAIIL_TEMPLATE,
-                    templateVariables
-            );
-        }
+        templateVariables.put(TIMESTAMP, TIMESTAMP_FORMAT.format(existingSchedule.getStartTime()));
 
-        jobSchedulerService.deleteAllJobsForTask(existingSchedule.getId());
+        notificationDispatcher.dispatch(NotificationEvent.of(NotificationType.EVENT_ADD, recipient, subject, content,
+                templateVariables).withSource("schedule", existingSchedule.getId(), "cancelled"));
+        notificationDispatcher.cancelReminders(existingSchedule.getId());
 
         deleteGoogleCalendarEvent(existingSchedule, validation.user());
 
@@ -414,7 +320,7 @@ public class SchedulingService {
             int page, int size, String sortDirection) {
         log.debug("Getting schedules for user with page={}, size={}, sort={}", page, size, sortDirection);
 
-        User user = GetUserUtil.getAuthenticatedUser(userRepo);
+        AuthenticatedUser user = GetUserUtil.getAuthenticatedPrincipal(userRepo);
         if (user == null) {
             log.warn("Unauthorized schedule list access attempt");
             return ApiResponse.error(NOT_AUTHENTICATED_MSG, HttpStatus.UNAUTHORIZED);
@@ -424,7 +330,7 @@ public class SchedulingService {
         Sort sort = Sort.by(direction, CREATED_AT_FIELD);
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<Schedule> schedulePage = scheduleRepo.findByLawyerIdOrClientId(user.getId(), pageable);
+        Page<Schedule> schedulePage = scheduleRepo.findByLawyerIdOrClientId(user.id(), pageable);
 
         List<ScheduleResponseDTO> scheduleResponses = schedulePage.getContent().stream()
                 .map(this::mapToScheduleResponseDTO)
@@ -435,7 +341,7 @@ public class SchedulingService {
         Map<String, Object> metadata = buildPaginationMetadata(schedulePage, sortDirection, null);
 
         log.info("Retrieved {} schedules for user: {} (page {}/{})",
-                scheduleResponses.size(), user.getEmail(), page + 1, schedulePage.getTotalPages());
+                scheduleResponses.size(), user.email(), page + 1, schedulePage.getTotalPages());
 
         return ApiResponse.success(responseData, HttpStatus.OK, "Schedules retrieved successfully", metadata);
     }
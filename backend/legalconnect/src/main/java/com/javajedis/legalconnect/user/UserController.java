@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.javajedis.legalconnect.auth.dto.AuthResponseDTO;
 import com.javajedis.legalconnect.common.dto.ApiResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -53,7 +54,7 @@ public class UserController {
      */
     @Operation(summary = "Change password", description = "Changes the current user's password.")
     @PutMapping("/change-password")
-    public ResponseEntity<ApiResponse<Boolean>> changePassword(@Valid @RequestBody ChangePasswordReqDTO data) {
+    public ResponseEntity<ApiResponse<AuthResponseDTO>> changePassword(@Valid @RequestBody ChangePasswordReqDTO data) {
         log.info("PUT /user/change-password called for email: [from context]");
         return userService.changePassword(data);
     }
@@ -4,9 +4,7 @@ import java.io.IOException;
 import java.time.OffsetDateTime;
 import java.util.Date;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -14,9 +12,13 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.javajedis.legalconnect.auth.dto.AuthResponseDTO;
 import com.javajedis.legalconnect.common.dto.ApiResponse;
+import com.javajedis.legalconnect.common.security.TokenRevocationService;
+import com.javajedis.legalconnect.common.security.TokenVersionService;
 import com.javajedis.legalconnect.common.service.CloudinaryService;
 import com.javajedis.legalconnect.common.utility.GetUserUtil;
 import com.javajedis.legalconnect.common.utility.JWTUtil;
@@ -34,10 +36,11 @@ public class UserService {
     private static final String OLD_PASSWORD_INCORRECT_MSG = "Old password is incorrect";
     private static final String OLD_NEW_PASSWORD_SAME_MSG = "Old and new password cannot be the same";
     private final UserRepo userRepo;
-    private final StringRedisTemplate redisTemplate;
     private final JWTUtil jwtUtil;
     private final PasswordEncoder passwordEncoder;
     private final CloudinaryService cloudinaryService;
+    private final TokenVersionService tokenVersionService;
+    private final TokenRevocationService tokenRevocationService;
 
     /**
      * Retrieves the current authenticated user's information.
@@ -82,7 +85,7 @@ public class UserService {
     }
 
     /**
-     * Logs out the current user by blacklisting the JWT token in Redis.
+     * Logs out the current user by revoking the JWT token on every node.
      */
     public ResponseEntity<ApiResponse<String>> logout() {
         log.debug("Attempting to logout current user");
@@ -104,17 +107,18 @@ public class UserService {
         long exp = expiration.getTime();
         long ttl = Math.max(0, exp - now);
         if (ttl > 0) {
-            String blacklistKey = "blacklist:jwt:" + jwtToken;
-            redisTemplate.opsForValue().set(blacklistKey, "true", ttl, TimeUnit.MILLISECONDS);
+            tokenRevocationService.revoke(jwtToken, expiration);
         }
         log.info("User logged out successfully. JWT token blacklisted.");
         return ApiResponse.success("Logout successful", HttpStatus.OK, "Logout successful");
     }
 
     /**
-     * Changes the current user's password.
+     * Changes the current user's password. Tokens issued before the change are revoked, so the
+     * response carries a new token for the client to use instead.
      */
-    public ResponseEntity<ApiResponse<Boolean>> changePassword(ChangePasswordReqDTO data) {
+    @Transactional
+    public ResponseEntity<ApiResponse<AuthResponseDTO>> changePassword(ChangePasswordReqDTO data) {
         log.debug("Attempting to change password for current user");
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated()) {
@@ -141,8 +145,9 @@ public class UserService {
         }
         user.setPassword(passwordEncoder.encode(data.getPassword()));
         userRepo.save(user);
+        String token = jwtUtil.generateToken(user, tokenVersionService.bumpVersion(user.getId()));
         log.info("Password changed successfully for email: {}", email);
-        return ApiResponse.success(true, HttpStatus.OK, "Password changed successfully");
+        return ApiResponse.success(AuthResponseDTO.of(token, user), HttpStatus.OK, "Password changed successfully");
     }
 
     /**
@@ -15,15 +15,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.javajedis.legalconnect.common.dto.ApiResponse;
-import com.javajedis.legalconnect.common.service.EmailService;
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
 import com.javajedis.legalconnect.common.utility.GetUserUtil;
-import com.javajedis.legalconnect.jobscheduler.EmailJobDTO;
-import com.javajedis.legalconnect.jobscheduler.JobSchedulerService;
-import com.javajedis.legalconnect.jobscheduler.WebPushJobDTO;
 import com.javajedis.legalconnect.lawyer.Lawyer;
 import com.javajedis.legalconnect.lawyer.LawyerRepo;
-import com.javajedis.legalconnect.notifications.NotificationPreferenceService;
-import com.javajedis.legalconnect.notifications.NotificationService;
+import com.javajedis.legalconnect.notifications.NotificationDispatcher;
+import com.javajedis.legalconnect.notifications.NotificationEvent;
+import com.javajedis.legalconnect.notifications.NotificationEvent.Reminder;
 import com.javajedis.legalconnect.notifications.NotificationType;
 import com.javajedis.legalconnect.payment.Payment;
 import com.javajedis.legalconnect.payment.PaymentRepo;
@@ -64,7 +62,6 @@ public class VideoCallService {
     private static final String MEETING_ENDED = "Meeting has already ended";
     private static final String NOTIFICATION_TYPE = "notificationType";
     private static final String CONTENT = "content";
-    private static final String EMAIL_TEMPLATE = "notification-email";
     private static final int REMINDER_MINUTES_BEFORE = 5;
     private final MeetingRepo meetingRepo;
     private final UserRepo userRepo;
@@ -72,10 +69,7 @@ public class VideoCallService {
     private final PaymentService paymentService;
     private final PaymentRepo paymentRepo;
     private final JitsiJwtGenerator jaasJwtGenerator;
-    private final NotificationService notificationService;
-    private final NotificationPreferenceService notificationPreferenceService;
-    private final EmailService emailService;
-    private final JobSchedulerService jobSchedulerService;
+    private final NotificationDispatcher notificationDispatcher;
 
     /**
      * Schedules a new meeting between a client and lawyer, and creates a payment.
@@ -139,7 +133,7 @@ public class VideoCallService {
 
         log.info("Payment created successfully for meeting: {} with amount: {}", savedMeeting.getId(), totalAmount);
 
-        sendMeetingNotifications(savedMeeting, client, lawyerUser, "scheduled", "Meeting Scheduled");
+        sendMeetingNotifications(savedMeeting, client, lawyerUser, "scheduled", "Meeting Scheduled", false);
 
         MeetingResponseDTO responseDTO = mapToMeetingResponseDTO(savedMeeting, client, lawyerUser);
         return ApiResponse.success(responseDTO, HttpStatus.CREATED, "Meeting scheduled successfully");
@@ -202,9 +196,8 @@ public class VideoCallService {
             }
         }
 
-        jobSchedulerService.deleteAllJobsForTask(updatedMeeting.getId());
-
-        sendMeetingNotifications(updatedMeeting, updatedMeeting.getClient(), updatedMeeting.getLawyer(), "updated", "Meeting Updated");
+        sendMeetingNotifications(updatedMeeting, updatedMeeting.getClient(), updatedMeeting.getLawyer(), "updated", "Meeting Updated",
+                true);
 
         MeetingResponseDTO responseDTO = mapToMeetingResponseDTO(updatedMeeting,
                 updatedMeeting.getClient(), updatedMeeting.getLawyer());
@@ -247,7 +240,7 @@ public class VideoCallService {
             log.warn("Failed to delete payment for meeting id: {}", meetingId);
         }
 
-        jobSchedulerService.deleteAllJobsForTask(meeting.getId());
+        notificationDispatcher.cancelReminders(meeting.getId());
         meetingRepo.delete(meeting);
         log.info("Meeting deleted successfully with id: {}", meetingId);
 
@@ -363,7 +356,8 @@ public class VideoCallService {
     /**
      * Sends notifications and schedules reminders for meeting events.
      */
-    private void sendMeetingNotifications(Meeting meeting, User client, User lawyer, String action, String notificationType) {
+    private void sendMeetingNotifications(Meeting meeting, User client, User lawyer, String action, String notificationType,
+                                          boolean replaceReminders) {
         String creatorName = lawyer.getFirstName() + " " + lawyer.getLastName();
 
         String subject = "Video Meeting " + notificationType;
@@ -378,67 +372,17 @@ public class VideoCallService {
         templateVariables.put(NOTIFICATION_TYPE, notificationType);
         templateVariables.put(CONTENT, content);
 
-        if (notificationPreferenceService.checkWebPushEnabled(client.getId(), NotificationType.EVENT_ADD)) {
-            notificationService.sendNotification(client.getId(), content);
-        }
-
-        if (notificationPreferenceService.checkEmailEnabled(client.getId(), NotificationType.EVENT_ADD)) {
-            emailService.sendTemplateEmail(
-                    client.getEmail(),
-                    subject,
-                    EMAIL_TEMPLATE,
-                    templateVariables
-            );
-        }
-
-        scheduleMeetingReminders(meeting, client, lawyer, content, subject, templateVariables);
-    }
-
-    /**
-     * Schedules reminder notifications for meeting participants.
-     */
-    private void scheduleMeetingReminders(Meeting meeting, User client, User lawyer, String content, String subject, Map<String, Object> templateVariables) {
         OffsetDateTime reminderTime = meeting.getStartTimestamp().minusMinutes(REMINDER_MINUTES_BEFORE);
-
-        if (notificationPreferenceService.checkWebPushEnabled(client.getId(), NotificationType.SCHEDULE_REMINDER)) {
-            jobSchedulerService.scheduleWebPushNotification(new WebPushJobDTO(
-                    meeting.getId(),
-                    client.getId(),
-                    content,
-                    reminderTime
-            ));
-        }
-
-        if (notificationPreferenceService.checkWebPushEnabled(lawyer.getId(), NotificationType.SCHEDULE_REMINDER)) {
-            jobSchedulerService.scheduleWebPushNotification(new WebPushJobDTO(
-                    meeting.getId(),
-                    lawyer.getId(),
-                    content,
-                    reminderTime
-            ));
-        }
-
-        if (notificationPreferenceService.checkEmailEnabled(client.getId(), NotificationType.SCHEDULE_REMINDER)) {
-            jobSchedulerService.scheduleEmailNotification(new EmailJobDTO(
-                    meeting.getId(),
-                    EMAIL_TEMPLATE,
-                    client.getEmail(),
-                    subject,
-                    templateVariables,
-                    reminderTime
-            ));
-        }
-
-        if (notificationPreferenceService.checkEmailEnabled(lawyer.getId(), NotificationType.SCHEDULE_REMINDER)) {
-            jobSchedulerService.scheduleEmailNotification(new EmailJobDTO(
-                    meeting.getId(),
-                    EMAIL_TEMPLATE,
-                    lawyer.getEmail(),
-                    subject,
-                    templateVariables,
-                    reminderTime
-            ));
+        NotificationEvent event = NotificationEvent.of(NotificationType.EVENT_ADD, client, subject, content,
+                templateVariables);
+        if (replaceReminders) {
+            event = event.withReminder(Reminder.reschedule(meeting.getId(), reminderTime, client, lawyer));
+        } else {
+            event = event.withSource("meeting", meeting.getId(), "created")
+                    .withReminder(Reminder.schedule(meeting.getId(), reminderTime, client, lawyer));
         }
+
+        notificationDispatcher.dispatch(event);
     }
 
     /**
@@ -459,19 +403,8 @@ public class VideoCallService {
         templateVariables.put(NOTIFICATION_TYPE, "Meeting Cancelled");
         templateVariables.put(CONTENT, content);
 
-        if (notificationPreferenceService.checkWebPushEnabled(client.getId(), NotificationType.EVENT_ADD)) {
-            notificationService.sendNotification(client.getId(), content);
-        }
-
-        if (notificationPreferenceService.checkEmailEnabled(client.getId(), NotificationType.EVENT_ADD)) {
-            emailService.sendTemplateEmail(
-                    client.getEmail(),
-                    subject,
-                    EMAIL_TEMPLATE,
-                    templateVariables
-            );
-        }
-
+        notificationDispatcher.dispatch(NotificationEvent.of(NotificationType.EVENT_ADD, client, subject, content,
+                templateVariables).withSource("meeting", meeting.getId(), "cancelled"));
     }
 
     /**
@@ -545,14 +478,14 @@ public class VideoCallService {
             return ApiResponse.error(MEETING_NOT_FOUND, HttpStatus.NOT_FOUND);
         }
 
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
         if (currentUser == null) {
             log.warn("Unauthenticated user attempted to {} meeting", operation);
             return ApiResponse.error(NOT_AUTHENTICATED_STRING, HttpStatus.UNAUTHORIZED);
         }
 
-        if (!currentUser.equals(meeting.getLawyer())) {
-            log.warn("User {} not authorized to {} meeting {}", currentUser.getEmail(), operation, meeting.getId());
+        if (!currentUser.matches(meeting.getLawyer())) {
+            log.warn("User {} not authorized to {} meeting {}", currentUser.email(), operation, meeting.getId());
             return ApiResponse.error(NOT_AUTHORIZED_STRING + operation + " this meeting", HttpStatus.FORBIDDEN);
         }
 
@@ -569,14 +502,14 @@ public class VideoCallService {
             return ApiResponse.error(MEETING_NOT_FOUND, HttpStatus.NOT_FOUND);
         }
 
-        User currentUser = GetUserUtil.getAuthenticatedUser(userRepo);
+        AuthenticatedUser currentUser = GetUserUtil.getAuthenticatedPrincipal(userRepo);
         if (currentUser == null) {
             log.warn("Unauthenticated user attempted to {} meeting", operation);
             return ApiResponse.error(NOT_AUTHENTICATED_STRING, HttpStatus.UNAUTHORIZED);
         }
 
-        if (!currentUser.equals(meeting.getClient()) && !currentUser.equals(meeting.getLawyer())) {
-            log.warn("User {} not authorized to {} meeting {}", currentUser.getEmail(), operation, meeting.getId());
+        if (!currentUser.matches(meeting.getClient()) && !currentUser.matches(meeting.getLawyer())) {
+            log.warn("User {} not authorized to {} meeting {}", currentUser.email(), operation, meeting.getId());
             return ApiResponse.error(NOT_AUTHORIZED_STRING + operation + " this meeting", HttpStatus.FORBIDDEN);
         }
 
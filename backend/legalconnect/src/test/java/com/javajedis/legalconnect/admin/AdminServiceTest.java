@@ -2,7 +2,10 @@ package com.javajedis.legalconnect.admin;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.OffsetDateTime;
@@ -18,16 +21,17 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import com.javajedis.legalconnect.common.dto.ApiResponse;
-import com.javajedis.legalconnect.common.service.EmailService;
 import com.javajedis.legalconnect.lawyer.Lawyer;
 import com.javajedis.legalconnect.lawyer.LawyerRepo;
 import com.javajedis.legalconnect.lawyer.LawyerSpecializationRepo;
+import com.javajedis.legalconnect.lawyer.LawyerStatusChangedEvent;
 import com.javajedis.legalconnect.lawyer.enums.VerificationStatus;
-import com.javajedis.legalconnect.notifications.NotificationService;
+import com.javajedis.legalconnect.notifications.NotificationDispatcher;
 import com.javajedis.legalconnect.user.Role;
 import com.javajedis.legalconnect.user.User;
 
@@ -40,10 +44,10 @@ class AdminServiceTest {
     private LawyerSpecializationRepo lawyerSpecializationRepo;
 
     @Mock
-    private NotificationService notificationService;
+    private NotificationDispatcher notificationDispatcher;
 
     @Mock
-    private EmailService emailService;
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private AdminService adminService;
@@ -142,6 +146,9 @@ class AdminServiceTest {
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody().getData()).isNotNull();
+        verify(eventPublisher).publishEvent(new LawyerStatusChangedEvent(lawyer.getUser().getId()));
+        verify(notificationDispatcher).dispatch(argThat(event -> event.type() == null
+                && event.recipients().get(0).userId().equals(lawyer.getUser().getId())));
     }
 
     @Test
@@ -169,6 +176,7 @@ class AdminServiceTest {
         ResponseEntity<ApiResponse<AdminLawyerDTO>> response = adminService.updateLawyerVerificationStatus(lawyerId, VerificationStatus.APPROVED);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        verify(eventPublisher, never()).publishEvent(any(LawyerStatusChangedEvent.class));
     }
 
     @Test
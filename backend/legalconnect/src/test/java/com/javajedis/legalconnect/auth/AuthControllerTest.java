@@ -141,14 +141,17 @@ class AuthControllerTest {
         emailVerifyDTO.setEmail("test@test.com");
         emailVerifyDTO.setOtp("123456");
 
-        ResponseEntity<ApiResponse<Boolean>> responseEntity = ApiResponse.success(true, HttpStatus.OK, "Email verified successfully");
+        AuthResponseDTO authResponse = new AuthResponseDTO("new_token", UUID.randomUUID(), "Test", "User",
+                "test@test.com", Role.USER, true, OffsetDateTime.now(), OffsetDateTime.now());
+        ResponseEntity<ApiResponse<AuthResponseDTO>> responseEntity = ApiResponse.success(authResponse, HttpStatus.OK, "Email verified successfully");
         when(authService.verifyEmail(any(EmailVerifyDTO.class))).thenReturn(responseEntity);
 
         mockMvc.perform(post("/auth/verify-email")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(emailVerifyDTO)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data").value(true));
+                .andExpect(jsonPath("$.data.token").value("new_token"))
+                .andExpect(jsonPath("$.data.emailVerified").value(true));
     }
 
     @Test
@@ -31,6 +31,7 @@ import com.javajedis.legalconnect.auth.dto.LoginDTO;
 import com.javajedis.legalconnect.auth.dto.ResetPasswordDTO;
 import com.javajedis.legalconnect.auth.dto.UserRegisterDTO;
 import com.javajedis.legalconnect.common.dto.ApiResponse;
+import com.javajedis.legalconnect.common.security.TokenVersionService;
 import com.javajedis.legalconnect.common.service.EmailService;
 import com.javajedis.legalconnect.common.service.VerificationCodeService;
 import com.javajedis.legalconnect.common.utility.JWTUtil;
@@ -56,6 +57,8 @@ class AuthServiceTest {
     private VerificationCodeService verificationCodeService;
     @Mock
     private NotificationPreferenceService notificationPreferenceService;
+    @Mock
+    private TokenVersionService tokenVersionService;
 
     @InjectMocks
     private AuthService authService;
@@ -121,7 +124,7 @@ class AuthServiceTest {
         loginDTO.setPassword("password");
 
         when(userRepo.findByEmail(loginDTO.getEmail())).thenReturn(Optional.of(user));
-        when(jwtUtil.generateToken(user)).thenReturn("test_token");
+        when(jwtUtil.generateToken(user, 0L)).thenReturn("test_token");
 
         ResponseEntity<ApiResponse<AuthResponseDTO>> response = authService.loginUser(loginDTO.getEmail(), loginDTO.getPassword());
 
@@ -180,12 +183,15 @@ class AuthServiceTest {
 
         when(userRepo.findByEmail(emailVerifyDTO.getEmail())).thenReturn(Optional.of(user));
         when(verificationCodeService.isVerificationCodeValid(user.getId(), user.getEmail(), emailVerifyDTO.getOtp())).thenReturn(true);
+        when(tokenVersionService.bumpVersion(user.getId())).thenReturn(1L);
+        when(jwtUtil.generateToken(user, 1L)).thenReturn("new_token");
 
-        ResponseEntity<ApiResponse<Boolean>> response = authService.verifyEmail(emailVerifyDTO);
+        ResponseEntity<ApiResponse<AuthResponseDTO>> response = authService.verifyEmail(emailVerifyDTO);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertTrue(response.getBody().getData());
+        assertEquals("new_token", response.getBody().getData().getToken());
+        assertTrue(response.getBody().getData().isEmailVerified());
         assertEquals("Email verified successfully", response.getBody().getMessage());
     }
 
@@ -199,7 +205,7 @@ class AuthServiceTest {
 
         when(userRepo.findByEmail(emailVerifyDTO.getEmail())).thenReturn(Optional.of(user));
 
-        ResponseEntity<ApiResponse<Boolean>> response = authService.verifyEmail(emailVerifyDTO);
+        ResponseEntity<ApiResponse<AuthResponseDTO>> response = authService.verifyEmail(emailVerifyDTO);
 
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
         assertNotNull(response.getBody());
@@ -216,7 +222,7 @@ class AuthServiceTest {
         when(userRepo.findByEmail(emailVerifyDTO.getEmail())).thenReturn(Optional.of(user));
         when(verificationCodeService.isVerificationCodeValid(user.getId(), user.getEmail(), emailVerifyDTO.getOtp())).thenReturn(false);
 
-        ResponseEntity<ApiResponse<Boolean>> response = authService.verifyEmail(emailVerifyDTO);
+        ResponseEntity<ApiResponse<AuthResponseDTO>> response = authService.verifyEmail(emailVerifyDTO);
 
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
         assertNotNull(response.getBody());
@@ -241,6 +247,7 @@ class AuthServiceTest {
         assertNotNull(response.getBody());
         assertTrue(response.getBody().getData());
         assertEquals("Password reset successful", response.getBody().getMessage());
+        verify(tokenVersionService).bumpVersion(user.getId());
     }
 
     @Test
@@ -41,6 +41,7 @@ import com.javajedis.legalconnect.blogs.dto.WriteBlogDTO;
 import com.javajedis.legalconnect.blogs.search.EsBlog;
 import com.javajedis.legalconnect.blogs.search.EsBlogService;
 import com.javajedis.legalconnect.common.dto.ApiResponse;
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
 import com.javajedis.legalconnect.common.utility.GetUserUtil;
 import com.javajedis.legalconnect.user.Role;
 import com.javajedis.legalconnect.user.User;
@@ -121,7 +122,7 @@ class BlogServiceTest {
         when(blogRepo.save(any(Blog.class))).thenAnswer(inv -> inv.getArgument(0));
 
         try (MockedStatic<GetUserUtil> mocked = mockStatic(GetUserUtil.class)) {
-            mocked.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(author);
+            mocked.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(author));
             when(blogRepo.findById(blogId)).thenReturn(Optional.of(blog));
             ResponseEntity<ApiResponse<BlogResponseDTO>> res = blogService.updateBlog(blogId, dto);
             assertEquals(HttpStatus.OK, res.getStatusCode());
@@ -136,7 +137,7 @@ class BlogServiceTest {
         WriteBlogDTO dto = new WriteBlogDTO("New", "NewC", BlogStatus.PUBLISHED);
         when(blogRepo.findById(blogId)).thenReturn(Optional.of(blog)); // validate sees it
         try (MockedStatic<GetUserUtil> mocked = mockStatic(GetUserUtil.class)) {
-            mocked.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(author);
+            mocked.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(author));
             when(blogRepo.findById(blogId)).thenReturn(Optional.empty());
             ResponseEntity<ApiResponse<BlogResponseDTO>> res = blogService.updateBlog(blogId, dto);
             assertEquals(HttpStatus.NOT_FOUND, res.getStatusCode());
@@ -148,7 +149,7 @@ class BlogServiceTest {
     void deleteBlog_success() {
         when(blogRepo.findById(blogId)).thenReturn(Optional.of(blog)); // validate
         try (MockedStatic<GetUserUtil> mocked = mockStatic(GetUserUtil.class)) {
-            mocked.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(author);
+            mocked.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(author));
             when(blogRepo.findById(blogId)).thenReturn(Optional.of(blog));
             ResponseEntity<ApiResponse<String>> res = blogService.deleteBlog(blogId);
             assertEquals(HttpStatus.OK, res.getStatusCode());
@@ -161,7 +162,7 @@ class BlogServiceTest {
     void deleteBlog_notFound() {
         when(blogRepo.findById(blogId)).thenReturn(Optional.of(blog)); // validate
         try (MockedStatic<GetUserUtil> mocked = mockStatic(GetUserUtil.class)) {
-            mocked.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(author);
+            mocked.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(author));
             when(blogRepo.findById(blogId)).thenReturn(Optional.empty());
             ResponseEntity<ApiResponse<String>> res = blogService.deleteBlog(blogId);
             assertEquals(HttpStatus.NOT_FOUND, res.getStatusCode());
@@ -173,7 +174,7 @@ class BlogServiceTest {
     void changeStatus_success() {
         when(blogRepo.findById(blogId)).thenReturn(Optional.of(blog)); // validate
         try (MockedStatic<GetUserUtil> mocked = mockStatic(GetUserUtil.class)) {
-            mocked.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(author);
+            mocked.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(author));
             when(blogRepo.findById(blogId)).thenReturn(Optional.of(blog));
             when(blogRepo.save(any(Blog.class))).thenAnswer(inv -> inv.getArgument(0));
             ResponseEntity<ApiResponse<BlogResponseDTO>> res = blogService.changeStatus(blogId, BlogStatus.PUBLISHED);
@@ -199,7 +200,7 @@ class BlogServiceTest {
     void getAllAuthorBlogs_currentUserIsAuthor() {
         Page<Blog> page = new PageImpl<>(List.of(blog), PageRequest.of(0, 10), 1);
         try (MockedStatic<GetUserUtil> mocked = mockStatic(GetUserUtil.class)) {
-            mocked.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(author);
+            mocked.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(author));
             when(blogRepo.findByAuthorId(eq(author.getId()), any(Pageable.class))).thenReturn(page);
             ResponseEntity<ApiResponse<BlogListResponseDTO>> res = blogService.getAllAuthorBlogs(author.getId(), 0, 10, "DESC");
             assertEquals(HttpStatus.OK, res.getStatusCode());
@@ -212,7 +213,7 @@ class BlogServiceTest {
     void getAllAuthorBlogs_viewerNotAuthor() {
         Page<Blog> page = new PageImpl<>(List.of(blog), PageRequest.of(0, 10), 1);
         try (MockedStatic<GetUserUtil> mocked = mockStatic(GetUserUtil.class)) {
-            mocked.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(otherUser);
+            mocked.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(otherUser));
             when(blogRepo.findByAuthorIdAndStatus(eq(author.getId()), eq(BlogStatus.PUBLISHED), any(Pageable.class))).thenReturn(page);
             // New: subscription check invoked by mapper when viewer isn't the author
             when(subscriberRepo.findByAuthorIdAndSubscriberId(author.getId(), otherUser.getId())).thenReturn(Optional.empty());
@@ -265,12 +266,12 @@ class BlogServiceTest {
         UUID authorId = author.getId();
         try (MockedStatic<GetUserUtil> mocked = mockStatic(GetUserUtil.class)) {
             // Unauthorized
-            mocked.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(null);
+            mocked.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(null);
             ResponseEntity<ApiResponse<String>> unauth = blogService.unsubscribe(authorId);
             assertEquals(HttpStatus.UNAUTHORIZED, unauth.getStatusCode());
 
             // Not found
-            mocked.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(otherUser);
+            mocked.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(otherUser));
             when(subscriberRepo.findByAuthorIdAndSubscriberId(authorId, otherUser.getId())).thenReturn(Optional.empty());
             ResponseEntity<ApiResponse<String>> nf = blogService.unsubscribe(authorId);
             assertEquals(HttpStatus.NOT_FOUND, nf.getStatusCode());
@@ -286,11 +287,11 @@ class BlogServiceTest {
     @DisplayName("getSubscribers - unauthorized and success")
     void getSubscribers_cases() {
         try (MockedStatic<GetUserUtil> mocked = mockStatic(GetUserUtil.class)) {
-            mocked.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(null);
+            mocked.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(null);
             ResponseEntity<ApiResponse<AuthorSubscribersListResponseDTO>> unauth = blogService.getSubscribers(0, 10);
             assertEquals(HttpStatus.UNAUTHORIZED, unauth.getStatusCode());
 
-            mocked.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(author);
+            mocked.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(author));
             Subscriber sub = new Subscriber(UUID.randomUUID(), author, otherUser, OffsetDateTime.now(), OffsetDateTime.now());
             Page<Subscriber> page = new PageImpl<>(List.of(sub), PageRequest.of(0, 10), 1);
             when(subscriberRepo.findByAuthorId(eq(author.getId()), any(Pageable.class))).thenReturn(page);
@@ -304,11 +305,11 @@ class BlogServiceTest {
     @DisplayName("getSubscribedBlogs - unauthorized, empty, and non-empty")
     void getSubscribedBlogs_cases() {
         try (MockedStatic<GetUserUtil> mocked = mockStatic(GetUserUtil.class)) {
-            mocked.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(null);
+            mocked.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(null);
             ResponseEntity<ApiResponse<BlogListResponseDTO>> unauth = blogService.getSubscribedBlogs(0, 10, "DESC");
             assertEquals(HttpStatus.UNAUTHORIZED, unauth.getStatusCode());
 
-            mocked.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(otherUser);
+            mocked.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(otherUser));
             // Empty subscriptions
             Page<Subscriber> emptySubs = Page.empty(PageRequest.of(0, 10));
             when(subscriberRepo.findBySubscriberId(eq(otherUser.getId()), any(Pageable.class))).thenReturn(emptySubs);
@@ -335,11 +336,11 @@ class BlogServiceTest {
     @DisplayName("getSubscribedAuthors - unauthorized and success")
     void getSubscribedAuthors_cases() {
         try (MockedStatic<GetUserUtil> mocked = mockStatic(GetUserUtil.class)) {
-            mocked.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(null);
+            mocked.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(null);
             ResponseEntity<ApiResponse<UserSubscriptionsListResponseDTO>> unauth = blogService.getSubscribedAuthors(0, 10);
             assertEquals(HttpStatus.UNAUTHORIZED, unauth.getStatusCode());
 
-            mocked.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(otherUser);
+            mocked.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(otherUser));
             Subscriber sub = new Subscriber(UUID.randomUUID(), author, otherUser, OffsetDateTime.now(), OffsetDateTime.now());
             Page<Subscriber> subs = new PageImpl<>(List.of(sub), PageRequest.of(0, 10), 1);
             when(subscriberRepo.findBySubscriberId(eq(otherUser.getId()), any(Pageable.class))).thenReturn(subs);
@@ -369,7 +370,7 @@ class BlogServiceTest {
         when(esBlogService.searchPublishedBlogs(anyString(), eq(0), eq(10))).thenReturn(page);
 
         try (MockedStatic<GetUserUtil> mocked = mockStatic(GetUserUtil.class)) {
-            mocked.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(otherUser);
+            mocked.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(otherUser));
             when(subscriberRepo.findByAuthorIdAndSubscriberId(author.getId(), otherUser.getId()))
                     .thenReturn(Optional.of(new Subscriber()));
             ResponseEntity<ApiResponse<BlogSearchListResponseDTO>> res = blogService.searchPublished("t", 0, 10);
@@ -7,8 +7,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -22,12 +25,16 @@ import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.mock.env.MockEnvironment;
 
 import com.javajedis.legalconnect.blogs.Blog;
 import com.javajedis.legalconnect.blogs.BlogStatus;
+import com.javajedis.legalconnect.common.resilience.ExternalCallGuards;
 import com.javajedis.legalconnect.user.Role;
 import com.javajedis.legalconnect.user.User;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class EsBlogServiceTest {
 
     @Mock
@@ -36,6 +43,7 @@ class EsBlogServiceTest {
     @Mock
     private ElasticsearchOperations elasticOps;
 
+    private ExternalCallGuards externalCallGuards;
     private EsBlogService service;
 
     private Blog blog;
@@ -43,7 +51,8 @@ class EsBlogServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        service = new EsBlogService(esBlogRepo, elasticOps);
+        externalCallGuards = new ExternalCallGuards(new MockEnvironment(), new SimpleMeterRegistry());
+        service = new EsBlogService(esBlogRepo, elasticOps, externalCallGuards);
 
         User author = new User();
         author.setId(UUID.randomUUID());
@@ -137,4 +146,35 @@ class EsBlogServiceTest {
         assertEquals(0L, page.total());
         assertTrue(page.results().isEmpty());
     }
+
+    @Test
+    void testSearchPublishedBlogs_HangingElasticsearch_ReturnsEmptyPage() {
+        ExternalCallGuards guards = new ExternalCallGuards(new MockEnvironment()
+                .withProperty("spring.custom.resilience.elasticsearch.timeout-ms", "100"), new SimpleMeterRegistry());
+        EsBlogService guardedService = new EsBlogService(esBlogRepo, elasticOps, guards);
+        when(elasticOps.search(any(NativeQuery.class), eq(EsBlog.class))).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return null;
+        });
+        long start = System.nanoTime();
+
+        EsBlogService.SearchPage page = guardedService.searchPublishedBlogs("anything", 0, 10);
+
+        assertEquals(0L, page.total());
+        assertTrue(page.results().isEmpty());
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 5_000);
+    }
+
+    @Test
+    void testGetById_ElasticsearchDown_StopsCallingAfterRepeatedFailures() {
+        int threshold = externalCallGuards.settings(ExternalCallGuards.ELASTICSEARCH).failureThreshold();
+        UUID id = blog.getId();
+        doThrow(new RuntimeException("connection refused")).when(esBlogRepo).findById(id);
+
+        for (int i = 0; i < threshold + 2; i++) {
+            assertTrue(service.getById(id).isEmpty());
+        }
+
+        verify(esBlogRepo, times(threshold)).findById(id);
+    }
 } 
\ No newline at end of file
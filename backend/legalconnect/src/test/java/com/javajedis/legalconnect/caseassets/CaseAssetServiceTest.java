@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
@@ -48,15 +49,14 @@ import com.javajedis.legalconnect.casemanagement.Case;
 import com.javajedis.legalconnect.casemanagement.CaseRepo;
 import com.javajedis.legalconnect.casemanagement.CaseStatus;
 import com.javajedis.legalconnect.common.dto.ApiResponse;
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
 import com.javajedis.legalconnect.common.service.AwsService;
-import com.javajedis.legalconnect.common.service.EmailService;
 import com.javajedis.legalconnect.lawyer.Lawyer;
 import com.javajedis.legalconnect.lawyer.enums.District;
 import com.javajedis.legalconnect.lawyer.enums.Division;
 import com.javajedis.legalconnect.lawyer.enums.PracticingCourt;
 import com.javajedis.legalconnect.lawyer.enums.VerificationStatus;
-import com.javajedis.legalconnect.notifications.NotificationPreferenceService;
-import com.javajedis.legalconnect.notifications.NotificationService;
+import com.javajedis.legalconnect.notifications.NotificationDispatcher;
 import com.javajedis.legalconnect.notifications.NotificationType;
 import com.javajedis.legalconnect.user.Role;
 import com.javajedis.legalconnect.user.User;
@@ -80,13 +80,7 @@ class CaseAssetServiceTest {
     private AwsService awsService;
 
     @Mock
-    private NotificationService notificationService;
-
-    @Mock
-    private NotificationPreferenceService notificationPreferenceService;
-
-    @Mock
-    private EmailService emailService;
+    private NotificationDispatcher notificationDispatcher;
 
     @InjectMocks
     private CaseAssetService caseAssetService;
@@ -238,8 +232,6 @@ class CaseAssetServiceTest {
         // Arrange
         CaseAssetValidationResult<NoteResponseDTO> validationResult = new CaseAssetValidationResult<>(testUser, testCase, null);
         when(noteRepo.save(any(Note.class))).thenReturn(testNote);
-        when(notificationPreferenceService.checkWebPushEnabled(any(UUID.class), eq(NotificationType.NOTE_CREATE))).thenReturn(false);
-        when(notificationPreferenceService.checkEmailEnabled(any(UUID.class), eq(NotificationType.NOTE_CREATE))).thenReturn(false);
 
         try (MockedStatic<CaseAssetUtility> mockedUtility = org.mockito.Mockito.mockStatic(CaseAssetUtility.class)) {
             mockedUtility.when(() -> CaseAssetUtility.validateUserAndCaseAccess(
@@ -254,6 +246,7 @@ class CaseAssetServiceTest {
             assertNotNull(result.getBody());
             assertEquals("Note created successfully", result.getBody().getMessage());
             verify(noteRepo).save(any(Note.class));
+            verify(notificationDispatcher).dispatch(argThat(event -> event.type() == NotificationType.NOTE_CREATE));
         }
     }
 
@@ -442,8 +435,6 @@ class CaseAssetServiceTest {
         when(awsService.uploadFile(anyString(), anyString(), anyLong(), anyString(), any()))
             .thenReturn("uploaded-file-url");
         when(documentRepo.save(any(Document.class))).thenReturn(testDocument);
-        when(notificationPreferenceService.checkWebPushEnabled(any(UUID.class), eq(NotificationType.DOC_UPLOAD))).thenReturn(false);
-        when(notificationPreferenceService.checkEmailEnabled(any(UUID.class), eq(NotificationType.DOC_UPLOAD))).thenReturn(false);
 
         try (MockedStatic<CaseAssetUtility> mockedUtility = org.mockito.Mockito.mockStatic(CaseAssetUtility.class)) {
             mockedUtility.when(() -> CaseAssetUtility.validateUserAndCaseAccess(
@@ -459,6 +450,7 @@ class CaseAssetServiceTest {
             assertEquals("Document uploaded successfully", result.getBody().getMessage());
             verify(awsService).uploadFile(anyString(), anyString(), anyLong(), anyString(), any());
             verify(documentRepo).save(any(Document.class));
+            verify(notificationDispatcher).dispatch(argThat(event -> event.type() == NotificationType.DOC_UPLOAD));
         }
     }
 
@@ -736,8 +728,8 @@ class CaseAssetServiceTest {
         when(documentRepo.findByUploadedById(eq(testUserId), any(Pageable.class))).thenReturn(documentPage);
 
         try (MockedStatic<com.javajedis.legalconnect.common.utility.GetUserUtil> mockedUtil = org.mockito.Mockito.mockStatic(com.javajedis.legalconnect.common.utility.GetUserUtil.class)) {
-            mockedUtil.when(() -> com.javajedis.legalconnect.common.utility.GetUserUtil.getAuthenticatedUser(eq(userRepo)))
-                .thenReturn(testUser);
+            mockedUtil.when(() -> com.javajedis.legalconnect.common.utility.GetUserUtil.getAuthenticatedPrincipal(eq(userRepo)))
+                .thenReturn(AuthenticatedUser.from(testUser));
 
             // Act
             ResponseEntity<ApiResponse<DocumentListResponseDTO>> result = caseAssetService.getMyDocuments(page, size, sortDirection);
@@ -753,7 +745,7 @@ class CaseAssetServiceTest {
     void getMyDocuments_unauthenticated_returnsUnauthorized() {
         // Arrange
         try (MockedStatic<com.javajedis.legalconnect.common.utility.GetUserUtil> mockedUtil = org.mockito.Mockito.mockStatic(com.javajedis.legalconnect.common.utility.GetUserUtil.class)) {
-            mockedUtil.when(() -> com.javajedis.legalconnect.common.utility.GetUserUtil.getAuthenticatedUser(eq(userRepo)))
+            mockedUtil.when(() -> com.javajedis.legalconnect.common.utility.GetUserUtil.getAuthenticatedPrincipal(eq(userRepo)))
                 .thenReturn(null);
 
             // Act
@@ -774,8 +766,8 @@ class CaseAssetServiceTest {
         when(documentRepo.findVisibleDocumentsForUser(eq(testUserId), eq(AssetPrivacy.SHARED), any(Pageable.class))).thenReturn(documentPage);
 
         try (MockedStatic<com.javajedis.legalconnect.common.utility.GetUserUtil> mockedUtil = org.mockito.Mockito.mockStatic(com.javajedis.legalconnect.common.utility.GetUserUtil.class)) {
-            mockedUtil.when(() -> com.javajedis.legalconnect.common.utility.GetUserUtil.getAuthenticatedUser(eq(userRepo)))
-                .thenReturn(testUser);
+            mockedUtil.when(() -> com.javajedis.legalconnect.common.utility.GetUserUtil.getAuthenticatedPrincipal(eq(userRepo)))
+                .thenReturn(AuthenticatedUser.from(testUser));
 
             // Act
             ResponseEntity<ApiResponse<DocumentListResponseDTO>> result = caseAssetService.getVisibleDocumentsForCurrentUser(page, size, sortDirection);
@@ -791,7 +783,7 @@ class CaseAssetServiceTest {
     void getVisibleDocumentsForCurrentUser_unauthenticated_returnsUnauthorized() {
         // Arrange
         try (MockedStatic<com.javajedis.legalconnect.common.utility.GetUserUtil> mockedUtil = org.mockito.Mockito.mockStatic(com.javajedis.legalconnect.common.utility.GetUserUtil.class)) {
-            mockedUtil.when(() -> com.javajedis.legalconnect.common.utility.GetUserUtil.getAuthenticatedUser(eq(userRepo)))
+            mockedUtil.when(() -> com.javajedis.legalconnect.common.utility.GetUserUtil.getAuthenticatedPrincipal(eq(userRepo)))
                 .thenReturn(null);
 
             // Act
@@ -3,6 +3,7 @@ package com.javajedis.legalconnect.casemanagement;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -34,7 +35,7 @@ import com.javajedis.legalconnect.casemanagement.dto.UpdateCaseDTO;
 import com.javajedis.legalconnect.casemanagement.dto.UpdateCaseStatusDTO;
 import com.javajedis.legalconnect.common.dto.ApiResponse;
 import com.javajedis.legalconnect.common.exception.UserNotFoundException;
-import com.javajedis.legalconnect.common.service.EmailService;
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
 import com.javajedis.legalconnect.common.utility.GetUserUtil;
 import com.javajedis.legalconnect.lawyer.Lawyer;
 import com.javajedis.legalconnect.lawyer.LawyerRepo;
@@ -43,8 +44,8 @@ import com.javajedis.legalconnect.lawyer.enums.District;
 import com.javajedis.legalconnect.lawyer.enums.Division;
 import com.javajedis.legalconnect.lawyer.enums.PracticingCourt;
 import com.javajedis.legalconnect.lawyer.enums.VerificationStatus;
-import com.javajedis.legalconnect.notifications.NotificationPreferenceService;
-import com.javajedis.legalconnect.notifications.NotificationService;
+import com.javajedis.legalconnect.notifications.NotificationDispatcher;
+import com.javajedis.legalconnect.notifications.NotificationType;
 import com.javajedis.legalconnect.user.Role;
 import com.javajedis.legalconnect.user.User;
 import com.javajedis.legalconnect.user.UserRepo;
@@ -66,13 +67,7 @@ class CaseManagementServiceTest {
     private LawyerRepo lawyerRepo;
 
     @Mock
-    private NotificationService notificationService;
-
-    @Mock
-    private NotificationPreferenceService notificationPreferenceService;
-
-    @Mock
-    private EmailService emailService;
+    private NotificationDispatcher notificationDispatcher;
 
     @InjectMocks
     private CaseManagementService caseManagementService;
@@ -194,6 +189,7 @@ class CaseManagementServiceTest {
             assertEquals(testCase.getDescription(), result.getBody().getData().getDescription());
             
             verify(caseRepo).save(any(Case.class));
+            verify(notificationDispatcher).dispatch(argThat(event -> event.type() == NotificationType.CASE_CREATE));
         }
     }
 
@@ -452,7 +448,7 @@ class CaseManagementServiceTest {
     void getCaseById_AsLawyer_Success_ReturnsCase() {
         // Arrange
         try (var mockStatic = org.mockito.Mockito.mockStatic(GetUserUtil.class)) {
-            mockStatic.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(lawyerUser);
+            mockStatic.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(lawyerUser));
             
             when(caseRepo.findById(caseId)).thenReturn(Optional.of(testCase));
 
@@ -473,7 +469,7 @@ class CaseManagementServiceTest {
     void getCaseById_AsClient_Success_ReturnsCase() {
         // Arrange
         try (var mockStatic = org.mockito.Mockito.mockStatic(GetUserUtil.class)) {
-            mockStatic.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(clientUser);
+            mockStatic.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(clientUser));
             
             when(caseRepo.findById(caseId)).thenReturn(Optional.of(testCase));
 
@@ -493,7 +489,7 @@ class CaseManagementServiceTest {
     void getCaseById_CaseNotFound_ReturnsNotFound() {
         // Arrange
         try (var mockStatic = org.mockito.Mockito.mockStatic(GetUserUtil.class)) {
-            mockStatic.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(lawyerUser);
+            mockStatic.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(lawyerUser));
             
             when(caseRepo.findById(caseId)).thenReturn(Optional.empty());
 
@@ -517,7 +513,7 @@ class CaseManagementServiceTest {
         otherUser.setRole(Role.USER);
 
         try (var mockStatic = org.mockito.Mockito.mockStatic(GetUserUtil.class)) {
-            mockStatic.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(otherUser);
+            mockStatic.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(otherUser));
             
             when(caseRepo.findById(caseId)).thenReturn(Optional.of(testCase));
 
@@ -536,7 +532,7 @@ class CaseManagementServiceTest {
     void getCaseById_NotAuthenticated_ReturnsUnauthorized() {
         // Arrange
         try (var mockStatic = org.mockito.Mockito.mockStatic(GetUserUtil.class)) {
-            mockStatic.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(null);
+            mockStatic.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(null);
 
             // Act
             ResponseEntity<ApiResponse<CaseResponseDTO>> result = caseManagementService.getCaseById(caseId);
@@ -688,7 +684,7 @@ class CaseManagementServiceTest {
     void mapCaseToCaseResponseDTO_Success_ReturnsCorrectMapping() {
         // Arrange & Act
         try (var mockStatic = org.mockito.Mockito.mockStatic(GetUserUtil.class)) {
-            mockStatic.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(lawyerUser);
+            mockStatic.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(lawyerUser));
             
             when(caseRepo.findById(caseId)).thenReturn(Optional.of(testCase));
 
@@ -4,6 +4,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -35,11 +36,13 @@ import org.springframework.test.web.servlet.MockMvc;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.javajedis.legalconnect.chat.dto.ConversationListResponseDTO;
 import com.javajedis.legalconnect.chat.dto.ConversationResponseDTO;
+import com.javajedis.legalconnect.chat.dto.MessageHistoryResponseDTO;
 import com.javajedis.legalconnect.chat.dto.MessageListResponseDTO;
 import com.javajedis.legalconnect.chat.dto.MessageResponseDTO;
 import com.javajedis.legalconnect.chat.dto.SendMessageDTO;
 import com.javajedis.legalconnect.chat.dto.UnreadCountResponseDTO;
 import com.javajedis.legalconnect.common.dto.ApiResponse;
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
 import com.javajedis.legalconnect.common.utility.EmailVerificationFilter;
 import com.javajedis.legalconnect.common.utility.GetUserUtil;
 import com.javajedis.legalconnect.common.utility.JWTFilter;
@@ -141,7 +144,7 @@ class ChatControllerTest {
     @DisplayName("Should send message successfully")
     void sendMessage_Success() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
             
             ResponseEntity<ApiResponse<MessageResponseDTO>> responseEntity = 
                 ApiResponse.success(messageResponseDTO, HttpStatus.CREATED, "Message sent successfully");
@@ -161,7 +164,7 @@ class ChatControllerTest {
     @DisplayName("Should handle invalid send message request")
     void sendMessage_InvalidRequest() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
 
             SendMessageDTO invalidDTO = new SendMessageDTO();
             // Missing required fields
@@ -177,7 +180,7 @@ class ChatControllerTest {
     @DisplayName("Should handle unauthenticated user for send message")
     void sendMessage_Unauthenticated() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(null);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(null);
 
             mockMvc.perform(post("/chat/send")
                             .contentType(MediaType.APPLICATION_JSON)
@@ -190,7 +193,7 @@ class ChatControllerTest {
     @DisplayName("Should handle send message with empty content")
     void sendMessage_EmptyContent() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
 
             SendMessageDTO emptyContentDTO = new SendMessageDTO();
             emptyContentDTO.setReceiverId(UUID.randomUUID());
@@ -207,7 +210,7 @@ class ChatControllerTest {
     @DisplayName("Should handle send message with content too long")
     void sendMessage_ContentTooLong() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
 
             SendMessageDTO longContentDTO = new SendMessageDTO();
             longContentDTO.setReceiverId(UUID.randomUUID());
@@ -224,11 +227,11 @@ class ChatControllerTest {
     @DisplayName("Should get user conversations successfully")
     void getUserConversations_Success() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
             
             ResponseEntity<ApiResponse<ConversationListResponseDTO>> responseEntity = 
                 ApiResponse.success(conversationListResponseDTO, HttpStatus.OK, "Conversations retrieved successfully");
-            when(chatService.getUserConversations(testUser.getId())).thenReturn(responseEntity);
+            when(chatService.getUserConversations(testUser.getId(), 0, 20)).thenReturn(responseEntity);
 
             mockMvc.perform(get("/chat/conversations"))
                     .andExpect(status().isOk())
@@ -239,11 +242,30 @@ class ChatControllerTest {
         }
     }
 
+    @Test
+    @DisplayName("Should pass pagination parameters when getting conversations")
+    void getUserConversations_WithPagination() throws Exception {
+        try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
+
+            ResponseEntity<ApiResponse<ConversationListResponseDTO>> responseEntity =
+                ApiResponse.success(conversationListResponseDTO, HttpStatus.OK, "Conversations retrieved successfully");
+            when(chatService.getUserConversations(testUser.getId(), 2, 10)).thenReturn(responseEntity);
+
+            mockMvc.perform(get("/chat/conversations")
+                            .param("page", "2")
+                            .param("size", "10"))
+                    .andExpect(status().isOk());
+
+            verify(chatService).getUserConversations(testUser.getId(), 2, 10);
+        }
+    }
+
     @Test
     @DisplayName("Should handle unauthenticated user for get conversations")
     void getUserConversations_Unauthenticated() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(null);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(null);
 
             mockMvc.perform(get("/chat/conversations"))
                     .andExpect(status().isInternalServerError());
@@ -254,7 +276,7 @@ class ChatControllerTest {
     @DisplayName("Should get conversation messages successfully")
     void getConversationMessages_Success() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
             
             ResponseEntity<ApiResponse<MessageListResponseDTO>> responseEntity = 
                 ApiResponse.success(messageListResponseDTO, HttpStatus.OK, "Messages retrieved successfully");
@@ -271,11 +293,56 @@ class ChatControllerTest {
         }
     }
 
+    @Test
+    @DisplayName("Should get conversation message history with cursor")
+    void getConversationMessageHistory_Success() throws Exception {
+        try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
+
+            String before = "2025-01-31T10:15:30Z," + UUID.randomUUID();
+            String nextCursor = "2025-01-31T10:00:00Z," + UUID.randomUUID();
+            MessageHistoryResponseDTO history = new MessageHistoryResponseDTO(
+                    messageListResponseDTO.getMessages(), nextCursor, true);
+            ResponseEntity<ApiResponse<MessageHistoryResponseDTO>> responseEntity =
+                ApiResponse.success(history, HttpStatus.OK, "Messages retrieved successfully");
+            when(chatService.getConversationMessageHistory(conversationId, testUser.getId(), before, 50))
+                .thenReturn(responseEntity);
+
+            mockMvc.perform(get("/chat/conversations/{id}/messages/history", conversationId)
+                            .param("before", before)
+                            .param("size", "50"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.messages[0].content").value("Test message content"))
+                    .andExpect(jsonPath("$.data.nextCursor").value(nextCursor))
+                    .andExpect(jsonPath("$.data.hasMore").value(true));
+        }
+    }
+
+    @Test
+    @DisplayName("Should get newest message history without cursor")
+    void getConversationMessageHistory_DefaultParams() throws Exception {
+        try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
+
+            ResponseEntity<ApiResponse<MessageHistoryResponseDTO>> responseEntity = ApiResponse.success(
+                    new MessageHistoryResponseDTO(messageListResponseDTO.getMessages(), null, false),
+                    HttpStatus.OK, "Messages retrieved successfully");
+            when(chatService.getConversationMessageHistory(conversationId, testUser.getId(), null, 20))
+                .thenReturn(responseEntity);
+
+            mockMvc.perform(get("/chat/conversations/{id}/messages/history", conversationId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.hasMore").value(false));
+
+            verify(chatService).getConversationMessageHistory(conversationId, testUser.getId(), null, 20);
+        }
+    }
+
     @Test
     @DisplayName("Should get conversation messages with default parameters")
     void getConversationMessages_DefaultParams() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
             
             ResponseEntity<ApiResponse<MessageListResponseDTO>> responseEntity = 
                 ApiResponse.success(messageListResponseDTO, HttpStatus.OK, "Messages retrieved successfully");
@@ -292,7 +359,7 @@ class ChatControllerTest {
     @DisplayName("Should handle unauthenticated user for get conversation messages")
     void getConversationMessages_Unauthenticated() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(null);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(null);
 
             mockMvc.perform(get("/chat/conversations/{id}/messages", conversationId))
                     .andExpect(status().isInternalServerError());
@@ -303,7 +370,7 @@ class ChatControllerTest {
     @DisplayName("Should get conversation messages with custom pagination")
     void getConversationMessages_CustomPagination() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
             
             ResponseEntity<ApiResponse<MessageListResponseDTO>> responseEntity = 
                 ApiResponse.success(messageListResponseDTO, HttpStatus.OK, "Messages retrieved successfully");
@@ -322,7 +389,7 @@ class ChatControllerTest {
     @DisplayName("Should mark conversation as read successfully")
     void markConversationAsRead_Success() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
             
             ResponseEntity<ApiResponse<Void>> responseEntity = 
                 ApiResponse.success(null, HttpStatus.OK, "Messages marked as read successfully");
@@ -338,7 +405,7 @@ class ChatControllerTest {
     @DisplayName("Should handle unauthenticated user for mark conversation as read")
     void markConversationAsRead_Unauthenticated() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(null);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(null);
 
             mockMvc.perform(put("/chat/conversations/{id}/read", conversationId))
                     .andExpect(status().isInternalServerError());
@@ -349,7 +416,7 @@ class ChatControllerTest {
     @DisplayName("Should get total unread count successfully")
     void getTotalUnreadCount_Success() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
             
             ResponseEntity<ApiResponse<UnreadCountResponseDTO>> responseEntity = 
                 ApiResponse.success(unreadCountResponseDTO, HttpStatus.OK, "Unread count retrieved successfully");
@@ -366,7 +433,7 @@ class ChatControllerTest {
     @DisplayName("Should handle unauthenticated user for get total unread count")
     void getTotalUnreadCount_Unauthenticated() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(null);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(null);
 
             mockMvc.perform(get("/chat/unread-count"))
                     .andExpect(status().isInternalServerError());
@@ -377,7 +444,7 @@ class ChatControllerTest {
     @DisplayName("Should handle JSON parsing errors")
     void handleJsonParsingErrors() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
 
             mockMvc.perform(post("/chat/send")
                             .contentType(MediaType.APPLICATION_JSON)
@@ -390,7 +457,7 @@ class ChatControllerTest {
     @DisplayName("Should handle missing content type")
     void handleMissingContentType() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
 
             mockMvc.perform(post("/chat/send")
                             .content(objectMapper.writeValueAsString(sendMessageDTO)))
@@ -402,7 +469,7 @@ class ChatControllerTest {
     @DisplayName("Should handle service errors gracefully")
     void handleServiceErrors() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
             
             ResponseEntity<ApiResponse<MessageResponseDTO>> errorResponse = 
                 ApiResponse.error("Service error", HttpStatus.INTERNAL_SERVER_ERROR);
@@ -420,7 +487,7 @@ class ChatControllerTest {
     @DisplayName("Should handle invalid UUID in path parameter")
     void handleInvalidUuidInPath() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
 
             mockMvc.perform(get("/chat/conversations/{id}/messages", "invalid-uuid"))
                     .andExpect(status().isInternalServerError());
@@ -431,7 +498,7 @@ class ChatControllerTest {
     @DisplayName("Should handle negative page parameter")
     void handleNegativePageParameter() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
             
             ResponseEntity<ApiResponse<MessageListResponseDTO>> errorResponse = 
                 ApiResponse.error("Page number cannot be negative", HttpStatus.BAD_REQUEST);
@@ -450,7 +517,7 @@ class ChatControllerTest {
     @DisplayName("Should handle invalid size parameter")
     void handleInvalidSizeParameter() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
             
             ResponseEntity<ApiResponse<MessageListResponseDTO>> errorResponse = 
                 ApiResponse.error("Page size must be between 1 and 100", HttpStatus.BAD_REQUEST);
@@ -17,12 +17,15 @@ import static org.mockito.Mockito.when;
 import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -35,11 +38,13 @@ import org.springframework.http.ResponseEntity;
 
 import com.javajedis.legalconnect.chat.dto.ConversationListResponseDTO;
 import com.javajedis.legalconnect.chat.dto.ConversationResponseDTO;
+import com.javajedis.legalconnect.chat.dto.MessageHistoryResponseDTO;
 import com.javajedis.legalconnect.chat.dto.MessageListResponseDTO;
 import com.javajedis.legalconnect.chat.dto.MessageResponseDTO;
 import com.javajedis.legalconnect.chat.dto.SendMessageDTO;
 import com.javajedis.legalconnect.chat.dto.UnreadCountResponseDTO;
 import com.javajedis.legalconnect.common.dto.ApiResponse;
+import com.javajedis.legalconnect.common.service.UnreadCounterService;
 import com.javajedis.legalconnect.common.service.WebSocketService;
 import com.javajedis.legalconnect.user.User;
 import com.javajedis.legalconnect.user.UserRepo;
@@ -62,6 +67,9 @@ class ChatServiceTest {
     @Mock
     private ChatWebSocketController chatWebSocketController;
 
+    @Mock
+    private UnreadCounterService unreadCounterService;
+
     @InjectMocks
     private ChatService chatService;
 
@@ -141,6 +149,7 @@ class ChatServiceTest {
         verify(conversationRepo, times(2)).save(any(Conversation.class)); // Once to create, once to update timestamp
         verify(messageRepo).save(any(Message.class));
         verify(chatWebSocketController).sendMessageToUser(eq(receiverId), any(MessageResponseDTO.class));
+        verify(unreadCounterService).increment("chat", receiverId, conversationId.toString(), 1);
     }
 
     @Test
@@ -222,27 +231,22 @@ class ChatServiceTest {
     @Test
     void getUserConversations_Success() {
         // Arrange
-        Message latestMessage = new Message();
-        latestMessage.setId(UUID.randomUUID());
-        latestMessage.setConversationId(conversationId);
-        latestMessage.setSenderId(receiverId);
-        latestMessage.setContent("Latest message");
-        latestMessage.setRead(false);
-        latestMessage.setCreatedAt(OffsetDateTime.now());
+        UUID latestMessageId = UUID.randomUUID();
+        Object[] row = inboxRow(conversationId, receiverUser, latestMessageId, receiverId, "Latest message", 2L);
 
         when(userRepo.existsById(senderId)).thenReturn(true);
-        when(conversationRepo.findByParticipantOrderByUpdatedAtDesc(senderId)).thenReturn(Arrays.asList(conversation));
-        when(userRepo.findById(receiverId)).thenReturn(Optional.of(receiverUser));
-        when(messageRepo.findTopByConversationIdOrderByCreatedAtDesc(conversationId)).thenReturn(Optional.of(latestMessage));
-        when(messageRepo.countUnreadByConversationAndUser(conversationId, senderId)).thenReturn(2L);
+        when(conversationRepo.findInboxRawResultsByParticipant(senderId, PageRequest.of(0, 20)))
+                .thenReturn(new PageImpl<>(List.<Object[]>of(row), PageRequest.of(0, 20), 1));
 
         // Act
-        ResponseEntity<ApiResponse<ConversationListResponseDTO>> response = chatService.getUserConversations(senderId);
+        ResponseEntity<ApiResponse<ConversationListResponseDTO>> response = chatService.getUserConversations(senderId, 0, 20);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals("Conversations retrieved successfully", response.getBody().getMessage());
+        assertEquals(1L, response.getBody().getMetadata().get("totalCount"));
+        assertEquals(false, response.getBody().getMetadata().get("hasNext"));
 
         ConversationListResponseDTO data = response.getBody().getData();
         assertNotNull(data);
@@ -253,14 +257,25 @@ class ChatServiceTest {
         assertEquals(receiverId, conversationDTO.getOtherParticipantId());
         assertEquals("Jane Smith", conversationDTO.getOtherParticipantName());
         assertEquals(2, conversationDTO.getUnreadCount());
+        assertNotNull(conversationDTO.getUpdatedAt());
         assertNotNull(conversationDTO.getLatestMessage());
+        assertEquals(latestMessageId, conversationDTO.getLatestMessage().getId());
+        assertEquals(conversationId, conversationDTO.getLatestMessage().getConversationId());
+        assertEquals(receiverId, conversationDTO.getLatestMessage().getSenderId());
         assertEquals("Latest message", conversationDTO.getLatestMessage().getContent());
+        assertFalse(conversationDTO.getLatestMessage().isRead());
+        assertNotNull(conversationDTO.getLatestMessage().getCreatedAt());
         
         // Verify profile picture data
         assertNotNull(conversationDTO.getOtherParticipantProfilePicture());
         assertEquals("https://example.com/jane-full.jpg", conversationDTO.getOtherParticipantProfilePicture().getFullPictureUrl());
         assertEquals("https://example.com/jane-thumb.jpg", conversationDTO.getOtherParticipantProfilePicture().getThumbnailPictureUrl());
         assertEquals("jane-profile-pic", conversationDTO.getOtherParticipantProfilePicture().getPublicId());
+
+        // The inbox is read in a single query instead of per-conversation lookups
+        verify(userRepo, never()).findById(any());
+        verify(messageRepo, never()).findTopByConversationIdOrderByCreatedAtDesc(any());
+        verify(messageRepo, never()).countUnreadByConversationAndUser(any(), any());
     }
 
     @Test
@@ -269,24 +284,25 @@ class ChatServiceTest {
         when(userRepo.existsById(senderId)).thenReturn(false);
 
         // Act
-        ResponseEntity<ApiResponse<ConversationListResponseDTO>> response = chatService.getUserConversations(senderId);
+        ResponseEntity<ApiResponse<ConversationListResponseDTO>> response = chatService.getUserConversations(senderId, 0, 20);
 
         // Assert
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals("User not found", response.getBody().getError().getMessage());
 
-        verify(conversationRepo, never()).findByParticipantOrderByUpdatedAtDesc(any());
+        verify(conversationRepo, never()).findInboxRawResultsByParticipant(any(), any());
     }
 
     @Test
     void getUserConversations_EmptyList() {
         // Arrange
         when(userRepo.existsById(senderId)).thenReturn(true);
-        when(conversationRepo.findByParticipantOrderByUpdatedAtDesc(senderId)).thenReturn(Arrays.asList());
+        when(conversationRepo.findInboxRawResultsByParticipant(senderId, PageRequest.of(0, 20)))
+                .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
 
         // Act
-        ResponseEntity<ApiResponse<ConversationListResponseDTO>> response = chatService.getUserConversations(senderId);
+        ResponseEntity<ApiResponse<ConversationListResponseDTO>> response = chatService.getUserConversations(senderId, 0, 20);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -458,22 +474,147 @@ class ChatServiceTest {
     }
 
     @Test
-    void getUserConversations_OtherParticipantNotFound() {
+    void getUserConversations_NoMessages() {
         // Arrange
+        Object[] row = inboxRow(conversationId, receiverUser, null, null, null, 0L);
+
         when(userRepo.existsById(senderId)).thenReturn(true);
-        when(conversationRepo.findByParticipantOrderByUpdatedAtDesc(senderId)).thenReturn(Arrays.asList(conversation));
-        when(userRepo.findById(receiverId)).thenReturn(Optional.empty()); // Other participant not found
+        when(conversationRepo.findInboxRawResultsByParticipant(senderId, PageRequest.of(0, 20)))
+                .thenReturn(new PageImpl<>(List.<Object[]>of(row), PageRequest.of(0, 20), 1));
 
         // Act
-        ResponseEntity<ApiResponse<ConversationListResponseDTO>> response = chatService.getUserConversations(senderId);
+        ResponseEntity<ApiResponse<ConversationListResponseDTO>> response = chatService.getUserConversations(senderId, 0, 20);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
 
-        ConversationListResponseDTO data = response.getBody().getData();
-        assertNotNull(data);
-        assertTrue(data.getConversations().isEmpty()); // Should filter out conversations with missing participants
+        ConversationResponseDTO conversationDTO = response.getBody().getData().getConversations().get(0);
+        assertNull(conversationDTO.getLatestMessage());
+        assertEquals(0, conversationDTO.getUnreadCount());
+    }
+
+    @Test
+    void getUserConversations_InvalidPage() {
+        // Act
+        ResponseEntity<ApiResponse<ConversationListResponseDTO>> response = chatService.getUserConversations(senderId, -1, 20);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("Page number cannot be negative", response.getBody().getError().getMessage());
+        verify(conversationRepo, never()).findInboxRawResultsByParticipant(any(), any());
+    }
+
+    @Test
+    void getUserConversations_InvalidSize() {
+        // Act
+        ResponseEntity<ApiResponse<ConversationListResponseDTO>> response = chatService.getUserConversations(senderId, 0, 101);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("Page size must be between 1 and 100", response.getBody().getError().getMessage());
+        verify(conversationRepo, never()).findInboxRawResultsByParticipant(any(), any());
+    }
+
+    @Test
+    void getConversationMessageHistory_FirstPage_ReturnsNextCursor() {
+        // Arrange
+        OffsetDateTime now = OffsetDateTime.now();
+        Message newest = historyMessage(now);
+        Message middle = historyMessage(now.minusMinutes(1));
+        Message oldest = historyMessage(now.minusMinutes(2));
+
+        when(userRepo.existsById(senderId)).thenReturn(true);
+        when(conversationRepo.existsById(conversationId)).thenReturn(true);
+        when(conversationRepo.isUserParticipant(conversationId, senderId)).thenReturn(true);
+        when(messageRepo.findByConversationIdOrderByCreatedAtDescIdDesc(conversationId, PageRequest.of(0, 3)))
+                .thenReturn(List.of(newest, middle, oldest));
+
+        // Act
+        ResponseEntity<ApiResponse<MessageHistoryResponseDTO>> response =
+                chatService.getConversationMessageHistory(conversationId, senderId, null, 2);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        MessageHistoryResponseDTO data = response.getBody().getData();
+        assertEquals(2, data.getMessages().size());
+        assertEquals(newest.getId(), data.getMessages().get(0).getId());
+        assertEquals(middle.getId(), data.getMessages().get(1).getId());
+        assertTrue(data.isHasMore());
+        assertEquals(MessageCursor.of(middle).encode(), data.getNextCursor());
+        assertNull(response.getBody().getMetadata());
+
+        verify(messageRepo, never()).findByConversationIdOrderByCreatedAtDesc(any(), any());
+    }
+
+    @Test
+    void getConversationMessageHistory_WithCursor_SeeksBeforeCursor() {
+        // Arrange
+        OffsetDateTime cursorTime = OffsetDateTime.now();
+        UUID cursorId = UUID.randomUUID();
+        Message older = historyMessage(cursorTime.minusMinutes(1));
+
+        when(userRepo.existsById(senderId)).thenReturn(true);
+        when(conversationRepo.existsById(conversationId)).thenReturn(true);
+        when(conversationRepo.isUserParticipant(conversationId, senderId)).thenReturn(true);
+        when(messageRepo.findByConversationIdBefore(eq(conversationId), any(OffsetDateTime.class), eq(cursorId),
+                eq(PageRequest.of(0, 21)))).thenReturn(List.of(older));
+
+        // Act
+        ResponseEntity<ApiResponse<MessageHistoryResponseDTO>> response = chatService.getConversationMessageHistory(
+                conversationId, senderId, new MessageCursor(cursorTime, cursorId).encode(), 20);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        MessageHistoryResponseDTO data = response.getBody().getData();
+        assertEquals(1, data.getMessages().size());
+        assertFalse(data.isHasMore());
+        assertNull(data.getNextCursor());
+
+        verify(messageRepo).findByConversationIdBefore(eq(conversationId),
+                argThat(time -> time.isEqual(cursorTime)), eq(cursorId), eq(PageRequest.of(0, 21)));
+    }
+
+    @Test
+    void getConversationMessageHistory_InvalidCursor() {
+        // Act
+        ResponseEntity<ApiResponse<MessageHistoryResponseDTO>> response =
+                chatService.getConversationMessageHistory(conversationId, senderId, "garbage", 20);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Invalid cursor", response.getBody().getError().getMessage());
+        verify(messageRepo, never()).findByConversationIdBefore(any(), any(), any(), any());
+    }
+
+    @Test
+    void getConversationMessageHistory_InvalidSize() {
+        // Act
+        ResponseEntity<ApiResponse<MessageHistoryResponseDTO>> response =
+                chatService.getConversationMessageHistory(conversationId, senderId, null, 0);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Page size must be between 1 and 100", response.getBody().getError().getMessage());
+    }
+
+    @Test
+    void getConversationMessageHistory_NotParticipant() {
+        // Arrange
+        when(userRepo.existsById(senderId)).thenReturn(true);
+        when(conversationRepo.existsById(conversationId)).thenReturn(true);
+        when(conversationRepo.isUserParticipant(conversationId, senderId)).thenReturn(false);
+
+        // Act
+        ResponseEntity<ApiResponse<MessageHistoryResponseDTO>> response =
+                chatService.getConversationMessageHistory(conversationId, senderId, null, 20);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Access denied: You are not a participant in this conversation", response.getBody().getError().getMessage());
+        verify(messageRepo, never()).findByConversationIdOrderByCreatedAtDescIdDesc(any(), any());
     }
 
     // Read Status Management Tests
@@ -572,6 +713,7 @@ class ChatServiceTest {
 
         assertTrue(message.isRead()); // Message should be marked as read
         verify(messageRepo).save(message);
+        verify(unreadCounterService).increment("chat", senderId, conversationId.toString(), -1);
     }
 
     @Test
@@ -677,7 +819,10 @@ class ChatServiceTest {
         // Arrange
         long expectedUnreadCount = 5L;
         when(userRepo.existsById(senderId)).thenReturn(true);
-        when(messageRepo.countTotalUnreadByUser(senderId)).thenReturn(expectedUnreadCount);
+        stubUnreadCounterMiss();
+        when(messageRepo.countUnreadByUserGroupedByConversation(senderId)).thenReturn(List.of(
+                new Object[] {conversationId, 3L},
+                new Object[] {UUID.randomUUID(), 2L}));
 
         // Act
         ResponseEntity<ApiResponse<UnreadCountResponseDTO>> response = chatService.getTotalUnreadCount(senderId);
@@ -691,7 +836,23 @@ class ChatServiceTest {
         assertNotNull(data);
         assertEquals(expectedUnreadCount, data.getTotalUnreadCount());
 
-        verify(messageRepo).countTotalUnreadByUser(senderId);
+        verify(messageRepo).countUnreadByUserGroupedByConversation(senderId);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reconcileUnreadCounters_LoadsCountsPerConversation() {
+        // Arrange
+        when(messageRepo.countUnreadByUserGroupedByConversation(senderId)).thenReturn(List.<Object[]>of(
+                new Object[] {conversationId, 4L}));
+
+        // Act
+        chatService.reconcileUnreadCounters();
+
+        // Assert
+        ArgumentCaptor<Function<UUID, Map<String, Long>>> loader = ArgumentCaptor.forClass(Function.class);
+        verify(unreadCounterService).reconcile(eq("chat"), loader.capture());
+        assertEquals(Map.of(conversationId.toString(), 4L), loader.getValue().apply(senderId));
     }
 
     @Test
@@ -707,14 +868,15 @@ class ChatServiceTest {
         assertNotNull(response.getBody());
         assertEquals("User not found", response.getBody().getError().getMessage());
 
-        verify(messageRepo, never()).countTotalUnreadByUser(any());
+        verify(unreadCounterService, never()).getTotal(any(), any(), any());
     }
 
     @Test
     void getTotalUnreadCount_ZeroUnread() {
         // Arrange
         when(userRepo.existsById(senderId)).thenReturn(true);
-        when(messageRepo.countTotalUnreadByUser(senderId)).thenReturn(0L);
+        stubUnreadCounterMiss();
+        when(messageRepo.countUnreadByUserGroupedByConversation(senderId)).thenReturn(List.of());
 
         // Act
         ResponseEntity<ApiResponse<UnreadCountResponseDTO>> response = chatService.getTotalUnreadCount(senderId);
@@ -831,72 +993,6 @@ class ChatServiceTest {
         verify(conversationRepo, times(3)).save(any(Conversation.class)); // 1 create + 2 updates
     }
 
-    @Test
-    void getUserConversations_ParticipantValidation_UserAsParticipantOne() {
-        // Test conversation retrieval when user is participant one
-
-        // Arrange
-        Conversation userAsParticipantOne = new Conversation();
-        userAsParticipantOne.setId(conversationId);
-        userAsParticipantOne.setParticipantOneId(senderId); // User is participant one
-        userAsParticipantOne.setParticipantTwoId(receiverId);
-        userAsParticipantOne.setCreatedAt(OffsetDateTime.now());
-        userAsParticipantOne.setUpdatedAt(OffsetDateTime.now());
-
-        when(userRepo.existsById(senderId)).thenReturn(true);
-        when(conversationRepo.findByParticipantOrderByUpdatedAtDesc(senderId))
-                .thenReturn(Arrays.asList(userAsParticipantOne));
-        when(userRepo.findById(receiverId)).thenReturn(Optional.of(receiverUser));
-        when(messageRepo.findTopByConversationIdOrderByCreatedAtDesc(conversationId))
-                .thenReturn(Optional.of(message));
-        when(messageRepo.countUnreadByConversationAndUser(conversationId, senderId)).thenReturn(1L);
-
-        // Act
-        ResponseEntity<ApiResponse<ConversationListResponseDTO>> response = chatService.getUserConversations(senderId);
-
-        // Assert
-        assertEquals(HttpStatus.OK, response.getStatusCode());
-        ConversationListResponseDTO data = response.getBody().getData();
-        assertEquals(1, data.getConversations().size());
-
-        ConversationResponseDTO conversationDTO = data.getConversations().get(0);
-        assertEquals(receiverId, conversationDTO.getOtherParticipantId()); // Other participant should be receiver
-        assertEquals("Jane Smith", conversationDTO.getOtherParticipantName());
-    }
-
-    @Test
-    void getUserConversations_ParticipantValidation_UserAsParticipantTwo() {
-        // Test conversation retrieval when user is participant two
-
-        // Arrange
-        Conversation userAsParticipantTwo = new Conversation();
-        userAsParticipantTwo.setId(conversationId);
-        userAsParticipantTwo.setParticipantOneId(receiverId);
-        userAsParticipantTwo.setParticipantTwoId(senderId); // User is participant two
-        userAsParticipantTwo.setCreatedAt(OffsetDateTime.now());
-        userAsParticipantTwo.setUpdatedAt(OffsetDateTime.now());
-
-        when(userRepo.existsById(senderId)).thenReturn(true);
-        when(conversationRepo.findByParticipantOrderByUpdatedAtDesc(senderId))
-                .thenReturn(Arrays.asList(userAsParticipantTwo));
-        when(userRepo.findById(receiverId)).thenReturn(Optional.of(receiverUser));
-        when(messageRepo.findTopByConversationIdOrderByCreatedAtDesc(conversationId))
-                .thenReturn(Optional.of(message));
-        when(messageRepo.countUnreadByConversationAndUser(conversationId, senderId)).thenReturn(2L);
-
-        // Act
-        ResponseEntity<ApiResponse<ConversationListResponseDTO>> response = chatService.getUserConversations(senderId);
-
-        // Assert
-        assertEquals(HttpStatus.OK, response.getStatusCode());
-        ConversationListResponseDTO data = response.getBody().getData();
-        assertEquals(1, data.getConversations().size());
-
-        ConversationResponseDTO conversationDTO = data.getConversations().get(0);
-        assertEquals(receiverId, conversationDTO.getOtherParticipantId()); // Other participant should be receiver
-        assertEquals("Jane Smith", conversationDTO.getOtherParticipantName());
-    }
-
     @Test
     void getConversationMessages_ParticipantValidation_ValidParticipant() {
         // Test that valid participants can access conversation messages
@@ -933,7 +1029,7 @@ class ChatServiceTest {
         when(conversationRepo.existsById(conversationId)).thenReturn(true);
         when(conversationRepo.isUserParticipant(conversationId, senderId)).thenReturn(true);
         when(messageRepo.markMessagesAsReadByConversationAndReceiver(conversationId, senderId)).thenReturn(2);
-        when(messageRepo.countTotalUnreadByUser(senderId)).thenReturn(3L);
+        when(unreadCounterService.getTotal(eq("chat"), eq(senderId), any())).thenReturn(3L);
 
         // Act
         ResponseEntity<ApiResponse<Void>> response = chatService.markConversationAsRead(conversationId, senderId);
@@ -945,6 +1041,8 @@ class ChatServiceTest {
         // Verify participant validation was performed
         verify(conversationRepo).isUserParticipant(conversationId, senderId);
         verify(messageRepo).markMessagesAsReadByConversationAndReceiver(conversationId, senderId);
+        verify(unreadCounterService).reset("chat", senderId, conversationId.toString());
+        verify(chatWebSocketController).sendUnreadCountUpdate(eq(senderId), argThat(update -> update.getTotalUnreadCount() == 3L));
     }
 
     @Test
@@ -996,67 +1094,72 @@ class ChatServiceTest {
     }
 
     @Test
-    void getUserConversations_ParticipantValidation_MultipleConversations() {
-        // Test participant validation with multiple conversations
-
+    void getUserConversations_MultipleConversations() {
         // Arrange
         UUID thirdUserId = UUID.randomUUID();
         User thirdUser = new User();
         thirdUser.setId(thirdUserId);
         thirdUser.setFirstName("Bob");
         thirdUser.setLastName("Johnson");
+        UUID secondConversationId = UUID.randomUUID();
 
-        Conversation conversation2 = new Conversation();
-        conversation2.setId(UUID.randomUUID());
-        conversation2.setParticipantOneId(thirdUserId);
-        conversation2.setParticipantTwoId(senderId); // User is participant two
-        conversation2.setCreatedAt(OffsetDateTime.now());
-        conversation2.setUpdatedAt(OffsetDateTime.now());
+        List<Object[]> rows = List.of(
+                inboxRow(conversationId, receiverUser, message.getId(), senderId, "Test message", 1L),
+                inboxRow(secondConversationId, thirdUser, null, null, null, 0L));
 
         when(userRepo.existsById(senderId)).thenReturn(true);
-        when(conversationRepo.findByParticipantOrderByUpdatedAtDesc(senderId))
-                .thenReturn(Arrays.asList(conversation, conversation2));
-
-        // Mock user lookups for other participants
-        when(userRepo.findById(receiverId)).thenReturn(Optional.of(receiverUser));
-        when(userRepo.findById(thirdUserId)).thenReturn(Optional.of(thirdUser));
-
-        // Mock message and unread count lookups
-        when(messageRepo.findTopByConversationIdOrderByCreatedAtDesc(conversation.getId()))
-                .thenReturn(Optional.of(message));
-        when(messageRepo.findTopByConversationIdOrderByCreatedAtDesc(conversation2.getId()))
-                .thenReturn(Optional.empty());
-        when(messageRepo.countUnreadByConversationAndUser(conversation.getId(), senderId)).thenReturn(1L);
-        when(messageRepo.countUnreadByConversationAndUser(conversation2.getId(), senderId)).thenReturn(0L);
+        when(conversationRepo.findInboxRawResultsByParticipant(senderId, PageRequest.of(1, 2)))
+                .thenReturn(new PageImpl<>(rows, PageRequest.of(1, 2), 5));
 
         // Act
-        ResponseEntity<ApiResponse<ConversationListResponseDTO>> response = chatService.getUserConversations(senderId);
+        ResponseEntity<ApiResponse<ConversationListResponseDTO>> response = chatService.getUserConversations(senderId, 1, 2);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
         ConversationListResponseDTO data = response.getBody().getData();
         assertEquals(2, data.getConversations().size());
+        assertEquals(5L, response.getBody().getMetadata().get("totalCount"));
+        assertEquals(3, response.getBody().getMetadata().get("totalPages"));
+        assertEquals(true, response.getBody().getMetadata().get("hasNext"));
+        assertEquals(true, response.getBody().getMetadata().get("hasPrevious"));
+
+        // Rows keep the order returned by the query
+        assertEquals(receiverId, data.getConversations().get(0).getOtherParticipantId());
+        assertEquals(thirdUserId, data.getConversations().get(1).getOtherParticipantId());
+        assertEquals("Bob Johnson", data.getConversations().get(1).getOtherParticipantName());
 
-        // Verify both conversations are properly processed with correct other participants
-        List<UUID> otherParticipantIds = data.getConversations().stream()
-                .map(ConversationResponseDTO::getOtherParticipantId)
-                .toList();
-        assertTrue(otherParticipantIds.contains(receiverId));
-        assertTrue(otherParticipantIds.contains(thirdUserId));
-        
         // Verify profile picture handling
-        ConversationResponseDTO receiverConversation = data.getConversations().stream()
-                .filter(conv -> conv.getOtherParticipantId().equals(receiverId))
-                .findFirst().orElse(null);
-        assertNotNull(receiverConversation);
-        assertNotNull(receiverConversation.getOtherParticipantProfilePicture());
-        
-        ConversationResponseDTO thirdUserConversation = data.getConversations().stream()
-                .filter(conv -> conv.getOtherParticipantId().equals(thirdUserId))
-                .findFirst().orElse(null);
-        assertNotNull(thirdUserConversation);
-        assertNull(thirdUserConversation.getOtherParticipantProfilePicture()); // thirdUser has no profile picture
+        assertNotNull(data.getConversations().get(0).getOtherParticipantProfilePicture());
+        assertNull(data.getConversations().get(1).getOtherParticipantProfilePicture()); // thirdUser has no profile picture
     }
 
+    private Object[] inboxRow(UUID rowConversationId, User otherUser, UUID latestMessageId, UUID latestSenderId,
+                              String latestContent, long unreadCount) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return new Object[] {
+                rowConversationId, now,
+                otherUser.getId(), otherUser.getFirstName(), otherUser.getLastName(),
+                otherUser.getProfilePictureUrl(), otherUser.getProfilePictureThumbnailUrl(), otherUser.getProfilePicturePublicId(),
+                latestMessageId, latestSenderId, latestContent, latestMessageId != null ? Boolean.FALSE : null,
+                latestMessageId != null ? now : null,
+                unreadCount
+        };
+    }
+
+    private void stubUnreadCounterMiss() {
+        when(unreadCounterService.getTotal(eq("chat"), any(UUID.class), any())).thenAnswer(invocation -> {
+            Function<UUID, Map<String, Long>> loader = invocation.getArgument(2);
+            return loader.apply(invocation.getArgument(1)).values().stream().mapToLong(Long::longValue).sum();
+        });
+    }
 
-}
\ No newline at end of file
+    private Message historyMessage(OffsetDateTime createdAt) {
+        Message historyMessage = new Message();
+        historyMessage.setId(UUID.randomUUID());
+        historyMessage.setConversationId(conversationId);
+        historyMessage.setSenderId(receiverId);
+        historyMessage.setContent("Message at " + createdAt);
+        historyMessage.setCreatedAt(createdAt);
+        return historyMessage;
+    }
+}
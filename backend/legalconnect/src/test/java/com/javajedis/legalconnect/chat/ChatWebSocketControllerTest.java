@@ -216,13 +216,14 @@ class ChatWebSocketControllerTest {
         message.setContent("Test message");
         message.setCreatedAt(OffsetDateTime.now());
 
-        when(webSocketService.isUserConnected(testUserId)).thenReturn(true);
+        when(webSocketService.sendToUser(testUserId, "/topic/chat-" + testUserId, message)).thenReturn(true);
 
         // Act
         chatWebSocketController.sendMessageToUser(testUserId, message);
 
         // Assert
-        verify(messagingTemplate).convertAndSend(
+        verify(webSocketService).sendToUser(
+                testUserId,
                 "/topic/chat-" + testUserId,
                 message
         );
@@ -235,7 +236,7 @@ class ChatWebSocketControllerTest {
         message.setId(UUID.randomUUID());
         message.setContent("Test message");
 
-        when(webSocketService.isUserConnected(testUserId)).thenReturn(false);
+        when(webSocketService.sendToUser(testUserId, "/topic/chat-" + testUserId, message)).thenReturn(false);
 
         // Act
         chatWebSocketController.sendMessageToUser(testUserId, message);
@@ -287,13 +288,14 @@ class ChatWebSocketControllerTest {
     void sendUnreadCountUpdate_Success() {
         // Arrange
         UnreadCountResponseDTO unreadCount = new UnreadCountResponseDTO(5L);
-        when(webSocketService.isUserConnected(testUserId)).thenReturn(true);
+        when(webSocketService.sendToUser(testUserId, "/topic/chat-unread-" + testUserId, unreadCount)).thenReturn(true);
 
         // Act
         chatWebSocketController.sendUnreadCountUpdate(testUserId, unreadCount);
 
         // Assert
-        verify(messagingTemplate).convertAndSend(
+        verify(webSocketService).sendToUser(
+                testUserId,
                 "/topic/chat-unread-" + testUserId,
                 unreadCount
         );
@@ -303,7 +305,7 @@ class ChatWebSocketControllerTest {
     void sendUnreadCountUpdate_UserNotConnected_SkipsDelivery() {
         // Arrange
         UnreadCountResponseDTO unreadCount = new UnreadCountResponseDTO(5L);
-        when(webSocketService.isUserConnected(testUserId)).thenReturn(false);
+        when(webSocketService.sendToUser(testUserId, "/topic/chat-unread-" + testUserId, unreadCount)).thenReturn(false);
 
         // Act
         chatWebSocketController.sendUnreadCountUpdate(testUserId, unreadCount);
@@ -329,13 +331,15 @@ class ChatWebSocketControllerTest {
     void sendReadStatusUpdate_Success() {
         // Arrange
         UUID messageId = UUID.randomUUID();
-        when(webSocketService.isUserConnected(testUserId)).thenReturn(true);
+        when(webSocketService.sendToUser(eq(testUserId), eq("/topic/chat-read-status-" + testUserId),
+                any(ChatWebSocketController.ReadStatusUpdateDTO.class))).thenReturn(true);
 
         // Act
         chatWebSocketController.sendReadStatusUpdate(testUserId, messageId, true);
 
         // Assert
-        verify(messagingTemplate).convertAndSend(
+        verify(webSocketService).sendToUser(
+                eq(testUserId),
                 eq("/topic/chat-read-status-" + testUserId),
                 any(ChatWebSocketController.ReadStatusUpdateDTO.class)
         );
@@ -345,7 +349,8 @@ class ChatWebSocketControllerTest {
     void sendReadStatusUpdate_UserNotConnected_SkipsDelivery() {
         // Arrange
         UUID messageId = UUID.randomUUID();
-        when(webSocketService.isUserConnected(testUserId)).thenReturn(false);
+        when(webSocketService.sendToUser(eq(testUserId), eq("/topic/chat-read-status-" + testUserId),
+                any(ChatWebSocketController.ReadStatusUpdateDTO.class))).thenReturn(false);
 
         // Act
         chatWebSocketController.sendReadStatusUpdate(testUserId, messageId, true);
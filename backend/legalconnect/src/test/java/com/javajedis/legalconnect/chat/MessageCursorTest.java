@@ -0,0 +1,57 @@
+package com.javajedis.legalconnect.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MessageCursor Tests")
+class MessageCursorTest {
+
+    @Test
+    @DisplayName("Should round trip through its encoded form")
+    void encode_Parse_RoundTrip() {
+        OffsetDateTime createdAt = OffsetDateTime.of(2025, 1, 31, 16, 15, 30, 123_456_000, ZoneOffset.ofHours(6));
+        UUID id = UUID.randomUUID();
+
+        MessageCursor parsed = MessageCursor.parse(new MessageCursor(createdAt, id).encode());
+
+        assertEquals(createdAt.toInstant(), parsed.createdAt().toInstant());
+        assertEquals(id, parsed.id());
+    }
+
+    @Test
+    @DisplayName("Should encode timestamp in UTC so it needs no escaping")
+    void encode_UsesUtc() {
+        OffsetDateTime createdAt = OffsetDateTime.of(2025, 1, 31, 16, 15, 30, 0, ZoneOffset.ofHours(6));
+        UUID id = UUID.fromString("5f0c7a4e-1c1a-4c8e-9a7e-2b7f3d1e9c01");
+
+        assertEquals("2025-01-31T10:15:30Z,5f0c7a4e-1c1a-4c8e-9a7e-2b7f3d1e9c01", new MessageCursor(createdAt, id).encode());
+    }
+
+    @Test
+    @DisplayName("Should point at the given message")
+    void of_Message_UsesCreatedAtAndId() {
+        Message message = new Message();
+        message.setId(UUID.randomUUID());
+        message.setCreatedAt(OffsetDateTime.now());
+
+        MessageCursor cursor = MessageCursor.of(message);
+
+        assertEquals(message.getCreatedAt(), cursor.createdAt());
+        assertEquals(message.getId(), cursor.id());
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursors")
+    void parse_Malformed_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> MessageCursor.parse("not-a-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> MessageCursor.parse("yesterday," + UUID.randomUUID()));
+        assertThrows(IllegalArgumentException.class, () -> MessageCursor.parse("2025-01-31T10:15:30Z,not-a-uuid"));
+    }
+}
@@ -237,6 +237,43 @@ class MessageRepoTest {
         assertEquals(0L, result);
     }
 
+    @Test
+    @DisplayName("Should find messages before a cursor position")
+    void findByConversationIdBefore_Success() {
+        // Arrange
+        OffsetDateTime cursorTime = OffsetDateTime.now().minusHours(1);
+        UUID cursorId = UUID.randomUUID();
+        Pageable limit = PageRequest.of(0, 21);
+        when(messageRepo.findByConversationIdBefore(testConversationId, cursorTime, cursorId, limit))
+                .thenReturn(Arrays.asList(message1));
+
+        // Act
+        List<Message> result = messageRepo.findByConversationIdBefore(testConversationId, cursorTime, cursorId, limit);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals(message1, result.get(0));
+    }
+
+    @Test
+    @DisplayName("Should count unread messages per conversation")
+    void countUnreadByUserGroupedByConversation_Success() {
+        // Arrange
+        UUID otherConversationId = UUID.randomUUID();
+        List<Object[]> rows = List.of(
+                new Object[] {testConversationId, 2L},
+                new Object[] {otherConversationId, 1L});
+        when(messageRepo.countUnreadByUserGroupedByConversation(testUserId)).thenReturn(rows);
+
+        // Act
+        List<Object[]> result = messageRepo.countUnreadByUserGroupedByConversation(testUserId);
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals(testConversationId, result.get(0)[0]);
+        assertEquals(2L, result.get(0)[1]);
+    }
+
     @Test
     @DisplayName("Should handle pagination correctly")
     void testPaginationHandling() {
@@ -0,0 +1,83 @@
+package com.javajedis.legalconnect.chat.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MessageHistoryResponseDTO Tests")
+class MessageHistoryResponseDTOTest {
+
+    @Test
+    @DisplayName("Should create DTO with all args constructor")
+    void testAllArgsConstructor() {
+        // Arrange
+        List<MessageResponseDTO> messages = List.of(createMessage());
+
+        // Act
+        MessageHistoryResponseDTO dto = new MessageHistoryResponseDTO(messages, "cursor", true);
+
+        // Assert
+        assertEquals(messages, dto.getMessages());
+        assertEquals("cursor", dto.getNextCursor());
+        assertTrue(dto.isHasMore());
+    }
+
+    @Test
+    @DisplayName("Should create DTO with no args constructor")
+    void testNoArgsConstructor() {
+        // Act
+        MessageHistoryResponseDTO dto = new MessageHistoryResponseDTO();
+
+        // Assert
+        assertNull(dto.getMessages());
+        assertNull(dto.getNextCursor());
+        assertFalse(dto.isHasMore());
+    }
+
+    @Test
+    @DisplayName("Should handle getters and setters correctly")
+    void testGettersAndSetters() {
+        // Arrange
+        MessageHistoryResponseDTO dto = new MessageHistoryResponseDTO();
+        List<MessageResponseDTO> messages = List.of(createMessage());
+
+        // Act
+        dto.setMessages(messages);
+        dto.setNextCursor("cursor");
+        dto.setHasMore(true);
+
+        // Assert
+        assertEquals(messages, dto.getMessages());
+        assertEquals("cursor", dto.getNextCursor());
+        assertTrue(dto.isHasMore());
+    }
+
+    @Test
+    @DisplayName("Should implement equals and hashCode correctly")
+    void testEqualsAndHashCode() {
+        // Arrange
+        List<MessageResponseDTO> messages = List.of(createMessage());
+        MessageHistoryResponseDTO dto1 = new MessageHistoryResponseDTO(messages, "cursor", true);
+        MessageHistoryResponseDTO dto2 = new MessageHistoryResponseDTO(messages, "cursor", true);
+        MessageHistoryResponseDTO dto3 = new MessageHistoryResponseDTO(messages, null, false);
+
+        // Assert
+        assertEquals(dto1, dto2);
+        assertEquals(dto1.hashCode(), dto2.hashCode());
+        assertNotEquals(dto1, dto3);
+    }
+
+    private MessageResponseDTO createMessage() {
+        return new MessageResponseDTO(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                "Test message", false, OffsetDateTime.now());
+    }
+}
@@ -189,6 +189,24 @@ class GlobalExceptionHandlerTest {
         assertEquals("User not found with ID: 123", response.getBody().getError().getMessage());
     }
 
+    @Test
+    @DisplayName("Should handle ExternalServiceUnavailableException")
+    void shouldHandleExternalServiceUnavailableException() {
+        // Given
+        ExternalServiceUnavailableException exception = new ExternalServiceUnavailableException(
+                "stripe", ExternalServiceUnavailableException.Reason.CIRCUIT_OPEN);
+
+        // When
+        ResponseEntity<ApiResponse<String>> response = exceptionHandler.handleExternalServiceUnavailable(exception);
+
+        // Then
+        assertNotNull(response);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("A required service is temporarily unavailable. Please try again later.",
+                response.getBody().getError().getMessage());
+    }
+
     @Test
     @DisplayName("Should handle ServletException")
     void shouldHandleServletException() {
@@ -0,0 +1,313 @@
+package com.javajedis.legalconnect.common.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.javajedis.legalconnect.common.exception.ExternalServiceUnavailableException;
+import com.javajedis.legalconnect.common.exception.ExternalServiceUnavailableException.Reason;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("ExternalCallGuard Tests")
+class ExternalCallGuardTest {
+
+    private static final String INTEGRATION = "vendor";
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final AtomicInteger invocations = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should return the result of a successful call")
+    void call_Success_ReturnsResult() {
+        ExternalCallGuard guard = guard(2, Duration.ofSeconds(1), 3);
+
+        assertEquals("ok", guard.call(() -> "ok"));
+        assertEquals(1, calls("success"));
+        assertEquals(0, guard.getActiveCalls());
+    }
+
+    @Test
+    @DisplayName("Should rethrow the checked exception of a failed call")
+    void call_Failure_RethrowsException() {
+        ExternalCallGuard guard = guard(2, Duration.ofSeconds(1), 3);
+        IOException failure = new IOException("connection reset");
+
+        IOException thrown = assertThrows(IOException.class, () -> guard.call(() -> {
+            throw failure;
+        }));
+
+        assertSame(failure, thrown);
+        assertEquals(1, calls("failure"));
+        assertEquals(ExternalCallGuard.State.CLOSED, guard.getState());
+    }
+
+    @Test
+    @DisplayName("Should give up on a hanging call after the timeout")
+    void call_HangingCall_TimesOut() {
+        ExternalCallGuard guard = guard(2, Duration.ofMillis(100), 3);
+        long start = System.nanoTime();
+
+        ExternalServiceUnavailableException thrown = assertThrows(ExternalServiceUnavailableException.class,
+                () -> guard.call(() -> hang(Duration.ofSeconds(10))));
+
+        assertEquals(Reason.TIMEOUT, thrown.getReason());
+        assertEquals(INTEGRATION, thrown.getIntegration());
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 5_000);
+        assertEquals(1, calls("timeout"));
+    }
+
+    @Test
+    @DisplayName("Should answer with the fallback when a call times out")
+    void call_HangingCallWithFallback_ReturnsFallback() throws InterruptedException {
+        ExternalCallGuard guard = guard(2, Duration.ofMillis(100), 3);
+
+        String result = guard.call(() -> hang(Duration.ofSeconds(10)), unavailable -> "fallback " + unavailable.getReason());
+
+        assertEquals("fallback TIMEOUT", result);
+    }
+
+    @Test
+    @DisplayName("Should reject calls beyond the bulkhead and keep the permit of a timed out call")
+    void call_BulkheadFull_Rejected() throws Exception {
+        ExternalCallGuard guard = guard(1, Duration.ofMillis(100), 0);
+        CountDownLatch release = new CountDownLatch(1);
+
+        assertThrows(ExternalServiceUnavailableException.class, () -> guard.call(() -> awaitUninterruptibly(release)));
+        assertEquals(1, guard.getActiveCalls());
+
+        ExternalServiceUnavailableException thrown = assertThrows(ExternalServiceUnavailableException.class,
+                () -> guard.call(invocations::incrementAndGet));
+        assertEquals(Reason.BULKHEAD_FULL, thrown.getReason());
+        assertEquals(0, invocations.get());
+        assertEquals(1, calls("rejected"));
+
+        release.countDown();
+        awaitIdle(guard);
+        assertEquals(1, guard.call(invocations::incrementAndGet));
+    }
+
+    @Test
+    @DisplayName("Should run concurrent calls up to the bulkhead size")
+    void call_ConcurrentCalls_BoundedByBulkhead() throws Exception {
+        ExternalCallGuard guard = new ExternalCallGuard(INTEGRATION,
+                new ExternalCallGuard.Settings(3, Duration.ofSeconds(5), Duration.ofSeconds(5), 0, OPEN_DURATION),
+                exception -> true, executor, meterRegistry, nanoTime::get);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ExecutorService callers = Executors.newFixedThreadPool(6);
+        try {
+            Future<?>[] results = new Future<?>[6];
+            for (int i = 0; i < results.length; i++) {
+                results[i] = callers.submit(() -> guard.call(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    Thread.sleep(50);
+                    return running.decrementAndGet();
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertTrue(maxRunning.get() <= 3, "Ran " + maxRunning.get() + " calls at once");
+        assertEquals(6, calls("success"));
+    }
+
+    @Test
+    @DisplayName("Should open the circuit after consecutive failures and short-circuit calls")
+    void call_ConsecutiveFailures_OpenCircuit() {
+        ExternalCallGuard guard = guard(2, Duration.ofSeconds(1), 3);
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(IllegalStateException.class, () -> guard.call(this::fail));
+        }
+        assertEquals(ExternalCallGuard.State.OPEN, guard.getState());
+
+        ExternalServiceUnavailableException thrown = assertThrows(ExternalServiceUnavailableException.class,
+                () -> guard.call(invocations::incrementAndGet));
+
+        assertEquals(Reason.CIRCUIT_OPEN, thrown.getReason());
+        assertEquals(3, invocations.get());
+        assertEquals(1, calls("short_circuited"));
+        assertEquals(1.0, meterRegistry.get(ExternalCallGuard.METRIC_CIRCUIT_STATE).tag("integration", INTEGRATION)
+                .gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should reset the failure count after a success")
+    void call_SuccessBetweenFailures_KeepsCircuitClosed() {
+        ExternalCallGuard guard = guard(2, Duration.ofSeconds(1), 3);
+
+        assertThrows(IllegalStateException.class, () -> guard.call(this::fail));
+        assertThrows(IllegalStateException.class, () -> guard.call(this::fail));
+        guard.call(() -> "ok");
+        assertThrows(IllegalStateException.class, () -> guard.call(this::fail));
+        assertThrows(IllegalStateException.class, () -> guard.call(this::fail));
+
+        assertEquals(ExternalCallGuard.State.CLOSED, guard.getState());
+    }
+
+    @Test
+    @DisplayName("Should close the circuit when the trial call succeeds")
+    void call_OpenDurationElapsed_TrialSuccessClosesCircuit() {
+        ExternalCallGuard guard = openCircuit();
+
+        nanoTime.addAndGet(OPEN_DURATION.toNanos());
+        assertEquals("ok", guard.call(() -> "ok"));
+
+        assertEquals(ExternalCallGuard.State.CLOSED, guard.getState());
+        assertEquals("ok", guard.call(() -> "ok"));
+    }
+
+    @Test
+    @DisplayName("Should reopen the circuit when the trial call fails")
+    void call_OpenDurationElapsed_TrialFailureReopensCircuit() {
+        ExternalCallGuard guard = openCircuit();
+
+        nanoTime.addAndGet(OPEN_DURATION.toNanos());
+        assertThrows(IllegalStateException.class, () -> guard.call(this::fail));
+
+        assertEquals(ExternalCallGuard.State.OPEN, guard.getState());
+        assertThrows(ExternalServiceUnavailableException.class, () -> guard.call(() -> "ok"));
+    }
+
+    @Test
+    @DisplayName("Should let only one trial call through a half open circuit")
+    void call_HalfOpen_SingleTrialCall() throws Exception {
+        ExternalCallGuard guard = openCircuit();
+        nanoTime.addAndGet(OPEN_DURATION.toNanos());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> trial = executor.submit(() -> guard.call(() -> {
+            started.countDown();
+            release.await();
+            return "trial";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        ExternalServiceUnavailableException thrown = assertThrows(ExternalServiceUnavailableException.class,
+                () -> guard.call(() -> "second"));
+        assertEquals(Reason.CIRCUIT_OPEN, thrown.getReason());
+
+        release.countDown();
+        assertEquals("trial", trial.get(5, TimeUnit.SECONDS));
+        assertEquals(ExternalCallGuard.State.CLOSED, guard.getState());
+    }
+
+    @Test
+    @DisplayName("Should not count client errors against the circuit")
+    void call_ClientErrors_KeepCircuitClosed() {
+        ExternalCallGuard guard = new ExternalCallGuard(INTEGRATION,
+                new ExternalCallGuard.Settings(2, Duration.ZERO, Duration.ofSeconds(1), 2, OPEN_DURATION),
+                exception -> !(exception instanceof IllegalArgumentException), executor, meterRegistry, nanoTime::get);
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(IllegalArgumentException.class, () -> guard.call(() -> {
+                throw new IllegalArgumentException("not found");
+            }));
+        }
+
+        assertEquals(ExternalCallGuard.State.CLOSED, guard.getState());
+        assertEquals(3, calls("client_error"));
+    }
+
+    @Test
+    @DisplayName("Should count timeouts against the circuit")
+    void call_Timeouts_OpenCircuit() {
+        ExternalCallGuard guard = guard(4, Duration.ofMillis(50), 2);
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(ExternalServiceUnavailableException.class, () -> guard.call(() -> hang(Duration.ofSeconds(10))));
+        }
+
+        assertEquals(ExternalCallGuard.State.OPEN, guard.getState());
+    }
+
+    private ExternalCallGuard openCircuit() {
+        ExternalCallGuard guard = guard(2, Duration.ofSeconds(1), 1);
+        assertThrows(IllegalStateException.class, () -> guard.call(this::fail));
+        assertEquals(ExternalCallGuard.State.OPEN, guard.getState());
+        assertThrows(ExternalServiceUnavailableException.class, () -> guard.call(() -> "ok"));
+        return guard;
+    }
+
+    private ExternalCallGuard guard(int maxConcurrent, Duration timeout, int failureThreshold) {
+        return new ExternalCallGuard(INTEGRATION,
+                new ExternalCallGuard.Settings(maxConcurrent, Duration.ZERO, timeout, failureThreshold, OPEN_DURATION),
+                exception -> true, executor, meterRegistry, nanoTime::get);
+    }
+
+    private String fail() {
+        invocations.incrementAndGet();
+        throw new IllegalStateException("vendor down");
+    }
+
+    private static String hang(Duration duration) throws InterruptedException {
+        Thread.sleep(duration.toMillis());
+        return "too late";
+    }
+
+    /**
+     * Blocks like a socket read that ignores interrupts.
+     */
+    private static String awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (latch.getCount() > 0) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return "late";
+    }
+
+    private static void awaitIdle(ExternalCallGuard guard) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (guard.getActiveCalls() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private long calls(String outcome) {
+        return meterRegistry.get(ExternalCallGuard.METRIC_CALLS).tag("integration", INTEGRATION)
+                .tag("outcome", outcome).timer().count();
+    }
+}
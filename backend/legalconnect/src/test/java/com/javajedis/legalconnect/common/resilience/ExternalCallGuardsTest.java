@@ -0,0 +1,74 @@
+package com.javajedis.legalconnect.common.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("ExternalCallGuards Tests")
+class ExternalCallGuardsTest {
+
+    private MockEnvironment environment;
+    private SimpleMeterRegistry meterRegistry;
+    private ExternalCallGuards guards;
+
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment();
+        meterRegistry = new SimpleMeterRegistry();
+        guards = new ExternalCallGuards(environment, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        guards.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should read the limits of an integration")
+    void settings_Configured_ReadsProperties() {
+        environment.withProperty("spring.custom.resilience.stripe.max-concurrent", "7")
+                .withProperty("spring.custom.resilience.stripe.max-wait-ms", "25")
+                .withProperty("spring.custom.resilience.stripe.timeout-ms", "1500")
+                .withProperty("spring.custom.resilience.stripe.failure-threshold", "4")
+                .withProperty("spring.custom.resilience.stripe.open-ms", "9000");
+
+        ExternalCallGuard.Settings settings = guards.settings(ExternalCallGuards.STRIPE);
+
+        assertEquals(new ExternalCallGuard.Settings(7, Duration.ofMillis(25), Duration.ofMillis(1500), 4,
+                Duration.ofMillis(9000)), settings);
+    }
+
+    @Test
+    @DisplayName("Should fall back to default limits")
+    void settings_NotConfigured_UsesDefaults() {
+        ExternalCallGuard.Settings settings = guards.settings(ExternalCallGuards.S3);
+
+        assertEquals(ExternalCallGuards.DEFAULT_MAX_CONCURRENT, settings.maxConcurrent());
+        assertEquals(Duration.ofMillis(ExternalCallGuards.DEFAULT_MAX_WAIT_MS), settings.maxWait());
+        assertEquals(Duration.ofMillis(ExternalCallGuards.DEFAULT_TIMEOUT_MS), settings.timeout());
+        assertEquals(ExternalCallGuards.DEFAULT_FAILURE_THRESHOLD, settings.failureThreshold());
+        assertEquals(Duration.ofMillis(ExternalCallGuards.DEFAULT_OPEN_MS), settings.openDuration());
+    }
+
+    @Test
+    @DisplayName("Should return one guard per integration and register its gauges")
+    void guard_SameIntegration_ReturnsSameGuard() {
+        ExternalCallGuard google = guards.guard(ExternalCallGuards.GOOGLE);
+
+        assertSame(google, guards.guard(ExternalCallGuards.GOOGLE, exception -> false));
+        assertEquals(ExternalCallGuards.GOOGLE, google.getIntegration());
+        assertEquals(0.0, meterRegistry.get(ExternalCallGuard.METRIC_CIRCUIT_STATE)
+                .tag("integration", ExternalCallGuards.GOOGLE).gauge().value());
+        assertEquals(0.0, meterRegistry.get(ExternalCallGuard.METRIC_BULKHEAD_ACTIVE)
+                .tag("integration", ExternalCallGuards.GOOGLE).gauge().value());
+    }
+}
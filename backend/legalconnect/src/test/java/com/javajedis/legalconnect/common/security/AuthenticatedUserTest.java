@@ -0,0 +1,69 @@
+package com.javajedis.legalconnect.common.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.javajedis.legalconnect.user.Role;
+import com.javajedis.legalconnect.user.User;
+
+@DisplayName("AuthenticatedUser Tests")
+class AuthenticatedUserTest {
+
+    @Test
+    @DisplayName("Should expose role as granted authority")
+    void getAuthorities_ReturnsRoleAuthority() {
+        AuthenticatedUser principal = new AuthenticatedUser(UUID.randomUUID(), "test@example.com", Role.LAWYER, true);
+
+        assertEquals(1, principal.getAuthorities().size());
+        assertEquals("ROLE_LAWYER", principal.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    @DisplayName("Should use email as username and carry no password")
+    void getUsername_ReturnsEmail() {
+        AuthenticatedUser principal = new AuthenticatedUser(UUID.randomUUID(), "test@example.com", Role.USER, false);
+
+        assertEquals("test@example.com", principal.getUsername());
+        assertNull(principal.getPassword());
+        assertTrue(principal.isEnabled());
+    }
+
+    @Test
+    @DisplayName("Should copy identity fields from user entity")
+    void from_User_CopiesFields() {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setEmail("test@example.com");
+        user.setRole(Role.ADMIN);
+        user.setEmailVerified(true);
+
+        AuthenticatedUser principal = AuthenticatedUser.from(user);
+
+        assertEquals(user.getId(), principal.id());
+        assertEquals("test@example.com", principal.email());
+        assertEquals(Role.ADMIN, principal.role());
+        assertTrue(principal.emailVerified());
+    }
+
+    @Test
+    @DisplayName("Should match a user entity by id only")
+    void matches_ComparesById() {
+        UUID id = UUID.randomUUID();
+        AuthenticatedUser principal = new AuthenticatedUser(id, "test@example.com", Role.USER, true);
+        User same = new User();
+        same.setId(id);
+        User other = new User();
+        other.setId(UUID.randomUUID());
+
+        assertTrue(principal.matches(same));
+        assertFalse(principal.matches(other));
+        assertFalse(principal.matches(null));
+    }
+}
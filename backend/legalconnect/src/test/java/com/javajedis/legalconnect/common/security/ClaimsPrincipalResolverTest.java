@@ -0,0 +1,114 @@
+package com.javajedis.legalconnect.common.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.security.authentication.CredentialsExpiredException;
+
+import com.javajedis.legalconnect.common.utility.ParsedToken;
+import com.javajedis.legalconnect.user.Role;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClaimsPrincipalResolver Tests")
+class ClaimsPrincipalResolverTest {
+
+    private static final String TEST_EMAIL = "test@example.com";
+
+    @Mock
+    private TokenVersionService tokenVersionService;
+
+    private ClaimsPrincipalResolver resolver;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new ClaimsPrincipalResolver(tokenVersionService, true);
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should build principal from claims when version matches")
+    void resolve_MatchingVersion_ReturnsPrincipal() {
+        when(tokenVersionService.getCurrentVersion(userId)).thenReturn(2L);
+
+        Optional<AuthenticatedUser> result = resolver.resolve(token(userId.toString(), "LAWYER", true, 2L));
+
+        assertTrue(result.isPresent());
+        assertEquals(userId, result.get().id());
+        assertEquals(TEST_EMAIL, result.get().email());
+        assertEquals(Role.LAWYER, result.get().role());
+        assertTrue(result.get().emailVerified());
+    }
+
+    @Test
+    @DisplayName("Should treat missing version claim as version zero")
+    void resolve_MissingVersionClaim_TreatedAsZero() {
+        when(tokenVersionService.getCurrentVersion(userId)).thenReturn(0L);
+
+        assertTrue(resolver.resolve(token(userId.toString(), "USER", true, null)).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should reject token with stale version")
+    void resolve_StaleVersion_Throws() {
+        when(tokenVersionService.getCurrentVersion(userId)).thenReturn(3L);
+        ParsedToken token = token(userId.toString(), "USER", true, 2L);
+
+        assertThrows(CredentialsExpiredException.class, () -> resolver.resolve(token));
+    }
+
+    @Test
+    @DisplayName("Should fall back when disabled")
+    void resolve_Disabled_ReturnsEmpty() {
+        ClaimsPrincipalResolver disabled = new ClaimsPrincipalResolver(tokenVersionService, false);
+
+        assertFalse(disabled.isEnabled());
+        assertFalse(disabled.resolve(token(userId.toString(), "USER", true, 0L)).isPresent());
+        verify(tokenVersionService, never()).getCurrentVersion(any());
+    }
+
+    @Test
+    @DisplayName("Should fall back when identity claims are missing")
+    void resolve_MissingClaims_ReturnsEmpty() {
+        assertFalse(resolver.resolve(token(null, "USER", true, 0L)).isPresent());
+        assertFalse(resolver.resolve(token(userId.toString(), null, true, 0L)).isPresent());
+        assertFalse(resolver.resolve(token(userId.toString(), "USER", null, 0L)).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should fall back when identity claims are malformed")
+    void resolve_MalformedClaims_ReturnsEmpty() {
+        assertFalse(resolver.resolve(token("not-a-uuid", "USER", true, 0L)).isPresent());
+        assertFalse(resolver.resolve(token(userId.toString(), "SUPERUSER", true, 0L)).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should fall back when Redis is unavailable")
+    void resolve_RedisDown_ReturnsEmpty() {
+        when(tokenVersionService.getCurrentVersion(userId)).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertFalse(resolver.resolve(token(userId.toString(), "USER", true, 0L)).isPresent());
+    }
+
+    private ParsedToken token(String id, String role, Boolean emailVerified, Long version) {
+        return new ParsedToken(TEST_EMAIL, id, role, "John", "Doe", emailVerified, "ACCESS", version,
+                new Date(), new Date(System.currentTimeMillis() + 60_000));
+    }
+}
@@ -0,0 +1,116 @@
+package com.javajedis.legalconnect.common.security;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.javajedis.legalconnect.lawyer.LawyerStatusChangedEvent;
+import com.javajedis.legalconnect.lawyer.enums.VerificationStatus;
+import com.javajedis.legalconnect.user.Role;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LawyerStatusCache Tests")
+class LawyerStatusCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private LawyerStatusCache cache;
+    private UUID userId;
+    private AtomicInteger loads;
+    private Function<UUID, LawyerStatus> loader;
+
+    @BeforeEach
+    void setUp() {
+        cache = new LawyerStatusCache(redisTemplate);
+        userId = UUID.randomUUID();
+        loads = new AtomicInteger();
+        loader = id -> {
+            loads.incrementAndGet();
+            return new LawyerStatus(Role.LAWYER, UUID.randomUUID(), VerificationStatus.APPROVED);
+        };
+    }
+
+    @Test
+    @DisplayName("Should load status once and serve it from cache")
+    void get_CachesLoadedStatus() {
+        LawyerStatus first = cache.get(userId, loader);
+        LawyerStatus second = cache.get(userId, loader);
+
+        assertEquals(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should not cache missing users")
+    void get_LoaderReturnsNull_NotCached() {
+        assertNull(cache.get(userId, id -> null));
+        cache.get(userId, loader);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should evict locally and relay eviction on status change")
+    void onLawyerStatusChanged_EvictsAndPublishes() {
+        cache.get(userId, loader);
+
+        cache.onLawyerStatusChanged(new LawyerStatusChangedEvent(userId));
+        cache.get(userId, loader);
+
+        assertEquals(2, loads.get());
+        verify(redisTemplate).convertAndSend(LawyerStatusCache.EVICTION_CHANNEL, userId.toString());
+    }
+
+    @Test
+    @DisplayName("Should still evict locally when Redis is unavailable")
+    void onLawyerStatusChanged_RedisDown_EvictsLocally() {
+        cache.get(userId, loader);
+        when(redisTemplate.convertAndSend(LawyerStatusCache.EVICTION_CHANNEL, userId.toString()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertDoesNotThrow(() -> cache.onLawyerStatusChanged(new LawyerStatusChangedEvent(userId)));
+        cache.get(userId, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should evict on eviction relayed by another node")
+    void onMessage_EvictsUser() {
+        cache.get(userId, loader);
+
+        cache.onMessage(new DefaultMessage(new byte[0], userId.toString().getBytes(StandardCharsets.UTF_8)), null);
+        cache.get(userId, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should ignore malformed eviction message")
+    void onMessage_Malformed_Ignored() {
+        cache.get(userId, loader);
+
+        cache.onMessage(new DefaultMessage(new byte[0], "not-a-uuid".getBytes(StandardCharsets.UTF_8)), null);
+        cache.get(userId, loader);
+
+        assertEquals(1, loads.get());
+    }
+}
@@ -0,0 +1,52 @@
+package com.javajedis.legalconnect.common.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.javajedis.legalconnect.lawyer.enums.VerificationStatus;
+import com.javajedis.legalconnect.user.Role;
+
+@DisplayName("LawyerStatus Tests")
+class LawyerStatusTest {
+
+    @Test
+    @DisplayName("Should be verified lawyer with approved profile")
+    void approvedLawyer_IsVerifiedLawyer() {
+        LawyerStatus status = new LawyerStatus(Role.LAWYER, UUID.randomUUID(), VerificationStatus.APPROVED);
+
+        assertTrue(status.isLawyer());
+        assertTrue(status.isVerifiedLawyer());
+    }
+
+    @Test
+    @DisplayName("Should be lawyer but not verified with pending profile")
+    void pendingLawyer_IsNotVerified() {
+        LawyerStatus status = new LawyerStatus(Role.LAWYER, UUID.randomUUID(), VerificationStatus.PENDING);
+
+        assertTrue(status.isLawyer());
+        assertFalse(status.isVerifiedLawyer());
+    }
+
+    @Test
+    @DisplayName("Should not be lawyer without profile")
+    void lawyerWithoutProfile_IsNotLawyer() {
+        LawyerStatus status = new LawyerStatus(Role.LAWYER, null, null);
+
+        assertFalse(status.isLawyer());
+        assertFalse(status.isVerifiedLawyer());
+    }
+
+    @Test
+    @DisplayName("Should not be lawyer with non-lawyer role")
+    void userRole_IsNotLawyer() {
+        LawyerStatus status = new LawyerStatus(Role.USER, UUID.randomUUID(), VerificationStatus.APPROVED);
+
+        assertFalse(status.isLawyer());
+        assertFalse(status.isVerifiedLawyer());
+    }
+}
@@ -0,0 +1,277 @@
+package com.javajedis.legalconnect.common.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.javajedis.legalconnect.common.utility.JWTUtil;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenRevocationService Tests")
+class TokenRevocationServiceTest {
+
+    private static final String TOKEN = "header.payload.signature";
+    private static final String TOKEN_ID = JWTUtil.hashToken(TOKEN);
+    private static final String KEY = "blacklist:jwt:" + TOKEN_ID;
+    private static final long FULL_RESYNC_INTERVAL_MILLIS = 300_000;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRevocationService service;
+    private Date expiration;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new TokenRevocationService(redisTemplate, meterRegistry, FULL_RESYNC_INTERVAL_MILLIS);
+        expiration = new Date(System.currentTimeMillis() + 60_000);
+    }
+
+    @Test
+    @DisplayName("Should store hashed token and publish revocation")
+    void revoke_StoresHashAndPublishes() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        service.revoke(TOKEN, expiration);
+
+        verify(valueOperations).set(eq(KEY), eq("true"), anyLong(), eq(TimeUnit.MILLISECONDS));
+        verify(redisTemplate).convertAndSend(TokenRevocationService.REVOCATION_CHANNEL, TOKEN_ID + ":" + expiration.getTime());
+        assertTrue(service.isRevoked(TOKEN, expiration));
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("Should skip revocation of expired token")
+    void revoke_ExpiredToken_DoesNothing() {
+        service.revoke(TOKEN, new Date(System.currentTimeMillis() - 1_000));
+
+        verify(redisTemplate, never()).opsForValue();
+        verify(redisTemplate, never()).convertAndSend(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should check Redis before the local filter is loaded")
+    void isRevoked_NotSynced_ChecksRedis() {
+        when(redisTemplate.hasKey(KEY)).thenReturn(false);
+
+        assertFalse(service.isRevoked(TOKEN, expiration));
+        verify(redisTemplate).hasKey(KEY);
+        assertEquals(1.0, lookups("unsynced"));
+    }
+
+    @Test
+    @DisplayName("Should answer not revoked locally once synced")
+    void isRevoked_SyncedAndUnknown_SkipsRedis() {
+        syncWith(List.of());
+
+        assertFalse(service.isRevoked(TOKEN, expiration));
+        verify(redisTemplate, never()).hasKey(anyString());
+        assertEquals(1.0, lookups("local_negative"));
+    }
+
+    @Test
+    @DisplayName("Should confirm filter hit against Redis and cache the result")
+    void isRevoked_FilterHit_ConfirmsOnceInRedis() {
+        syncWith(List.of(KEY));
+        when(redisTemplate.hasKey(KEY)).thenReturn(true);
+
+        assertTrue(service.isRevoked(TOKEN, expiration));
+        assertTrue(service.isRevoked(TOKEN, expiration));
+
+        verify(redisTemplate).hasKey(KEY);
+        assertEquals(1.0, lookups("redis_confirmed"));
+        assertEquals(1.0, lookups("confirmed_hit"));
+    }
+
+    @Test
+    @DisplayName("Should count false positive when Redis has no entry")
+    void isRevoked_FilterHitWithoutRedisEntry_CountsFalsePositive() {
+        syncWith(List.of(KEY));
+        when(redisTemplate.hasKey(KEY)).thenReturn(false);
+
+        assertFalse(service.isRevoked(TOKEN, expiration));
+        assertEquals(1.0, lookups("false_positive"));
+    }
+
+    @Test
+    @DisplayName("Should apply revocation published by another node")
+    void onMessage_AppliesRevocation() {
+        syncWith(List.of());
+        byte[] body = (TOKEN_ID + ":" + expiration.getTime()).getBytes(StandardCharsets.UTF_8);
+
+        service.onMessage(new DefaultMessage(TokenRevocationService.REVOCATION_CHANNEL.getBytes(StandardCharsets.UTF_8), body), null);
+
+        assertTrue(service.isRevoked(TOKEN, expiration));
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("Should ignore malformed revocation message")
+    void onMessage_Malformed_Ignored() {
+        byte[] body = "garbage".getBytes(StandardCharsets.UTF_8);
+
+        service.onMessage(new DefaultMessage(new byte[0], body), null);
+
+        when(redisTemplate.hasKey(KEY)).thenReturn(false);
+        assertFalse(service.isRevoked(TOKEN, expiration));
+    }
+
+    @Test
+    @DisplayName("Should accept unknown tokens and mark filter unsynced when Redis is down")
+    void isRevoked_RedisDown_AnswersFromLocalState() {
+        when(redisTemplate.hasKey(KEY)).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertFalse(service.isRevoked(TOKEN, expiration));
+        assertFalse(service.isSynced());
+        assertEquals(1.0, lookups("redis_unavailable"));
+    }
+
+    @Test
+    @DisplayName("Should reject filter hits when Redis is down")
+    void isRevoked_RedisDownWithFilterHit_Rejects() {
+        syncWith(List.of(KEY));
+        when(redisTemplate.hasKey(KEY)).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertTrue(service.isRevoked(TOKEN, expiration));
+    }
+
+    @Test
+    @DisplayName("Should stay unsynced when loading from Redis fails")
+    void warmUp_RedisDown_StaysUnsynced() {
+        when(redisTemplate.scan(any(ScanOptions.class))).thenThrow(new RedisConnectionFailureException("down"));
+
+        service.warmUp();
+
+        assertFalse(service.isSynced());
+    }
+
+    @Test
+    @DisplayName("Should load entries keyed by raw token as confirmed revocations")
+    void warmUp_LegacyKey_ConfirmedRevocation() {
+        String legacyKey = "blacklist:jwt:" + TOKEN;
+        when(redisTemplate.getExpire(legacyKey, TimeUnit.MILLISECONDS)).thenReturn(30_000L);
+
+        syncWith(List.of(legacyKey));
+
+        assertTrue(service.isRevoked(TOKEN, expiration));
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("Should keep revocations for one more generation after rotation")
+    void rotateGenerations_KeepsPreviousGeneration() {
+        syncWith(List.of(KEY));
+        when(redisTemplate.hasKey(KEY)).thenReturn(true);
+
+        service.rotateGenerations();
+        assertTrue(service.isRevoked(TOKEN, expiration));
+    }
+
+    @Test
+    @DisplayName("Should not resync while synced, subscribed and within the resync interval")
+    void resyncIfNeeded_Synced_DoesNotScan() {
+        syncWith(List.of());
+
+        service.resyncIfNeeded();
+
+        verify(redisTemplate).scan(any(ScanOptions.class));
+    }
+
+    @Test
+    @DisplayName("Should resync on every tick while the subscription is down")
+    void resyncIfNeeded_SubscriptionDown_Scans() {
+        syncWith(List.of());
+        service.watchSubscription(() -> false);
+
+        service.resyncIfNeeded();
+        service.resyncIfNeeded();
+
+        verify(redisTemplate, times(3)).scan(any(ScanOptions.class));
+    }
+
+    @Test
+    @DisplayName("Should pick up a revocation whose announcement was missed at the periodic resync")
+    void resyncIfNeeded_IntervalElapsed_LoadsMissedRevocation() {
+        service = new TokenRevocationService(redisTemplate, meterRegistry, 0);
+        syncWith(List.of());
+        assertFalse(service.isRevoked(TOKEN, expiration));
+
+        syncWith(List.of(KEY), service::resyncIfNeeded);
+        when(redisTemplate.hasKey(KEY)).thenReturn(true);
+
+        assertTrue(service.isRevoked(TOKEN, expiration));
+    }
+
+    @Test
+    @DisplayName("Should keep revocations announced while a resync is scanning")
+    @SuppressWarnings("unchecked")
+    void warmUp_RevocationDuringScan_Kept() {
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenAnswer(invocation -> {
+            service.onMessage(new DefaultMessage(TokenRevocationService.REVOCATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                    (TOKEN_ID + ":" + expiration.getTime()).getBytes(StandardCharsets.UTF_8)), null);
+            return false;
+        });
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+
+        service.warmUp();
+
+        assertTrue(service.isRevoked(TOKEN, expiration));
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    private void syncWith(List<String> keys) {
+        syncWith(keys, service::warmUp);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void syncWith(List<String> keys, Runnable sync) {
+        Cursor<String> cursor = mock(Cursor.class);
+        Iterator<String> iterator = keys.iterator();
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        lenient().when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+        sync.run();
+        assertTrue(service.isSynced());
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("jwt.revocation.lookups").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,93 @@
+package com.javajedis.legalconnect.common.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenVersionService Tests")
+class TokenVersionServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private TokenVersionService tokenVersionService;
+
+    private UUID userId;
+    private String key;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        key = "token:version:" + userId;
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("Should return zero when user has no version")
+    void getCurrentVersion_NoKey_ReturnsZero() {
+        when(valueOperations.get(key)).thenReturn(null);
+
+        assertEquals(0L, tokenVersionService.getCurrentVersion(userId));
+    }
+
+    @Test
+    @DisplayName("Should return stored version")
+    void getCurrentVersion_StoredValue_ReturnsValue() {
+        when(valueOperations.get(key)).thenReturn("4");
+
+        assertEquals(4L, tokenVersionService.getCurrentVersion(userId));
+    }
+
+    @Test
+    @DisplayName("Should propagate Redis failure when reading version")
+    void getCurrentVersion_RedisDown_Throws() {
+        when(valueOperations.get(key)).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThrows(RedisConnectionFailureException.class, () -> tokenVersionService.getCurrentVersion(userId));
+    }
+
+    @Test
+    @DisplayName("Should fall back to zero when Redis is down")
+    void getCurrentVersionOrDefault_RedisDown_ReturnsZero() {
+        when(valueOperations.get(key)).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertEquals(0L, tokenVersionService.getCurrentVersionOrDefault(userId));
+    }
+
+    @Test
+    @DisplayName("Should increment version on bump")
+    void bumpVersion_IncrementsCounter() {
+        when(valueOperations.increment(key)).thenReturn(1L);
+
+        assertEquals(1L, tokenVersionService.bumpVersion(userId));
+
+        verify(valueOperations).increment(key);
+    }
+
+    @Test
+    @DisplayName("Should propagate Redis failure on bump so the change that revokes tokens fails")
+    void bumpVersion_RedisDown_Throws() {
+        when(valueOperations.increment(key)).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThrows(RedisConnectionFailureException.class, () -> tokenVersionService.bumpVersion(userId));
+    }
+}
@@ -8,6 +8,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -22,8 +23,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.mock.env.MockEnvironment;
 
 import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.ObjectMetadata;
@@ -31,12 +35,19 @@ import com.amazonaws.services.s3.model.PutObjectResult;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.javajedis.legalconnect.common.exception.ExternalServiceUnavailableException;
+import com.javajedis.legalconnect.common.resilience.ExternalCallGuards;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class AwsServiceImplementationTest {
 
     @Mock
     private AmazonS3 s3Client;
 
+    @Spy
+    private ExternalCallGuards externalCallGuards = new ExternalCallGuards(new MockEnvironment(), new SimpleMeterRegistry());
+
     @InjectMocks
     private AwsServiceImplementation awsService;
 
@@ -54,7 +65,7 @@ class AwsServiceImplementationTest {
     @Test
     void testConstructor() {
         // Arrange & Act
-        AwsServiceImplementation service = new AwsServiceImplementation(s3Client);
+        AwsServiceImplementation service = new AwsServiceImplementation(s3Client, externalCallGuards);
 
         // Assert
         assertNotNull(service);
@@ -239,6 +250,43 @@ class AwsServiceImplementationTest {
         });
     }
 
+    @Test
+    void testDeleteFile_RepeatedServerErrors_OpenCircuit() {
+        // Arrange
+        AmazonServiceException unavailable = new AmazonServiceException("Service Unavailable");
+        unavailable.setStatusCode(503);
+        int threshold = externalCallGuards.settings(ExternalCallGuards.S3).failureThreshold();
+        doThrow(unavailable).when(s3Client).deleteObject(TEST_BUCKET, TEST_KEY);
+
+        // Act
+        for (int i = 0; i < threshold; i++) {
+            assertThrows(AmazonServiceException.class, () -> awsService.deleteFile(TEST_BUCKET, TEST_KEY));
+        }
+        ExternalServiceUnavailableException exception = assertThrows(ExternalServiceUnavailableException.class,
+                () -> awsService.deleteFile(TEST_BUCKET, TEST_KEY));
+
+        // Assert
+        assertEquals(ExternalServiceUnavailableException.Reason.CIRCUIT_OPEN, exception.getReason());
+        verify(s3Client, times(threshold)).deleteObject(TEST_BUCKET, TEST_KEY);
+    }
+
+    @Test
+    void testDeleteFile_MissingKeys_KeepCircuitClosed() {
+        // Arrange
+        AmazonServiceException notFound = new AmazonServiceException("Not Found");
+        notFound.setStatusCode(404);
+        doThrow(notFound).when(s3Client).deleteObject(TEST_BUCKET, TEST_KEY);
+        int attempts = externalCallGuards.settings(ExternalCallGuards.S3).failureThreshold() + 1;
+
+        // Act
+        for (int i = 0; i < attempts; i++) {
+            assertThrows(AmazonServiceException.class, () -> awsService.deleteFile(TEST_BUCKET, TEST_KEY));
+        }
+
+        // Assert
+        verify(s3Client, times(attempts)).deleteObject(TEST_BUCKET, TEST_KEY);
+    }
+
     @Test
     void testUploadFile_WithLargeContent() throws AmazonClientException {
         // Arrange
@@ -24,6 +24,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.mock.env.MockEnvironment;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.AmazonS3;
@@ -33,12 +35,18 @@ import com.amazonaws.services.s3.model.PutObjectResult;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.javajedis.legalconnect.common.resilience.ExternalCallGuards;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class AwsServiceTest {
 
     @Mock
     private AmazonS3 s3Client;
 
+    @Spy
+    private ExternalCallGuards externalCallGuards = new ExternalCallGuards(new MockEnvironment(), new SimpleMeterRegistry());
+
     @InjectMocks
     private AwsServiceImplementation awsService;
 
@@ -7,6 +7,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.mock.env.MockEnvironment;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
@@ -26,8 +28,12 @@ import com.cloudinary.Cloudinary;
 import com.cloudinary.Transformation;
 import com.cloudinary.Uploader;
 import com.cloudinary.Url;
+import com.javajedis.legalconnect.common.exception.ExternalServiceUnavailableException;
+import com.javajedis.legalconnect.common.resilience.ExternalCallGuards;
 import com.javajedis.legalconnect.user.ProfilePictureDTO;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class CloudinaryServiceTest {
 
     @Mock
@@ -39,6 +45,7 @@ class CloudinaryServiceTest {
     @Mock
     private Url url;
 
+    private ExternalCallGuards externalCallGuards;
     private CloudinaryService cloudinaryService;
 
     private final String cloudName = "test-cloud-name";
@@ -48,7 +55,8 @@ class CloudinaryServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        cloudinaryService = new CloudinaryService(cloudName, apiKey, apiSecret);
+        externalCallGuards = new ExternalCallGuards(new MockEnvironment(), new SimpleMeterRegistry());
+        cloudinaryService = new CloudinaryService(cloudName, apiKey, apiSecret, externalCallGuards);
         ReflectionTestUtils.setField(cloudinaryService, "cloudinary", cloudinary);
     }
 
@@ -105,6 +113,28 @@ class CloudinaryServiceTest {
         verify(uploader).upload(eq(fileContent), anyMap());
     }
 
+    @Test
+    void testUploadProfilePictureHangingCloudinary() throws IOException {
+        // Arrange
+        CloudinaryService guardedService = new CloudinaryService(cloudName, apiKey, apiSecret, new ExternalCallGuards(
+                new MockEnvironment().withProperty("spring.custom.resilience.cloudinary.timeout-ms", "100"),
+                new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(guardedService, "cloudinary", cloudinary);
+        MultipartFile file = new MockMultipartFile("file", "test.jpg", "image/jpeg", "test image content".getBytes());
+        when(cloudinary.uploader()).thenReturn(uploader);
+        when(uploader.upload(any(byte[].class), anyMap())).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return Map.of();
+        });
+
+        // Act & Assert
+        ExternalServiceUnavailableException exception = assertThrows(ExternalServiceUnavailableException.class,
+                () -> guardedService.uploadProfilePicture(file, "test-user-789"));
+
+        assertEquals(ExternalServiceUnavailableException.Reason.TIMEOUT, exception.getReason());
+        verify(cloudinary, never()).url();
+    }
+
     @Test
     void testDeleteProfilePictureSuccess() throws IOException {
         // Arrange
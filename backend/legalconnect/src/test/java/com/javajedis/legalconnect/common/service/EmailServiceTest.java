@@ -1,16 +1,23 @@
 package com.javajedis.legalconnect.common.service;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -20,11 +27,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.mail.internet.MimeMessage;
 
 /**
@@ -50,6 +60,9 @@ class EmailServiceTest {
     @Mock
     private TemplateEngine templateEngine;
 
+    @Mock
+    private PooledSmtpSender smtpSender;
+
     @Mock
     private MimeMessage mimeMessage;
 
@@ -59,7 +72,8 @@ class EmailServiceTest {
     @BeforeEach
     void setUp() {
         // Initialize EmailService with mocked dependencies
-        emailService = new EmailService(mailSender, templateEngine, FROM_EMAIL);
+        emailService = new EmailService(mailSender, new EmailTemplateRenderer(templateEngine, new SimpleMeterRegistry()), smtpSender,
+                FROM_EMAIL);
     }
 
     @Test
@@ -118,7 +132,7 @@ class EmailServiceTest {
 
         // Then
         verify(templateEngine, times(1)).process(eq(TEST_TEMPLATE), any(Context.class));
-        verify(mailSender, times(1)).send(any(MimeMessage.class));
+        verify(smtpSender, times(1)).send(any(MimeMessage.class));
     }
 
     @Test
@@ -133,7 +147,7 @@ class EmailServiceTest {
 
         // Then
         verify(templateEngine, times(1)).process(eq(TEST_TEMPLATE), any(Context.class));
-        verify(mailSender, times(1)).send(any(MimeMessage.class));
+        verify(smtpSender, times(1)).send(any(MimeMessage.class));
     }
 
     @Test
@@ -148,7 +162,7 @@ class EmailServiceTest {
 
         // Then
         verify(templateEngine, never()).process(anyString(), any(Context.class));
-        verify(mailSender, never()).send(any(MimeMessage.class));
+        verify(smtpSender, never()).send(any(MimeMessage.class));
     }
 
     @Test
@@ -163,7 +177,7 @@ class EmailServiceTest {
 
         // Then
         verify(templateEngine, never()).process(anyString(), any(Context.class));
-        verify(mailSender, never()).send(any(MimeMessage.class));
+        verify(smtpSender, never()).send(any(MimeMessage.class));
     }
 
     @Test
@@ -178,7 +192,7 @@ class EmailServiceTest {
 
         // Then
         verify(templateEngine, never()).process(anyString(), any(Context.class));
-        verify(mailSender, never()).send(any(MimeMessage.class));
+        verify(smtpSender, never()).send(any(MimeMessage.class));
     }
 
     @Test
@@ -190,7 +204,7 @@ class EmailServiceTest {
 
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
         when(templateEngine.process(eq(TEST_TEMPLATE), any(Context.class))).thenReturn("<html>Test content</html>");
-        doThrow(new org.springframework.mail.MailException("Mail server error") {}).when(mailSender).send(any(MimeMessage.class));
+        doThrow(new org.springframework.mail.MailException("Mail server error") {}).when(smtpSender).send(any(MimeMessage.class));
 
         // When & Then
         assertDoesNotThrow(() -> emailService.sendTemplateEmail(VALID_EMAIL, TEST_SUBJECT, TEST_TEMPLATE, variables));
@@ -243,7 +257,7 @@ class EmailServiceTest {
 
         // Then
         verify(templateEngine, times(1)).process(eq(TEST_TEMPLATE), any(Context.class));
-        verify(mailSender, times(1)).send(any(MimeMessage.class));
+        verify(smtpSender, times(1)).send(any(MimeMessage.class));
     }
 
     @Test
@@ -259,6 +273,85 @@ class EmailServiceTest {
 
         // Then
         verify(templateEngine, times(1)).process(eq(TEST_TEMPLATE), any(Context.class));
-        verify(mailSender, times(1)).send(any(MimeMessage.class));
+        verify(smtpSender, times(1)).send(any(MimeMessage.class));
+    }
+
+    @Test
+    @DisplayName("Should deliver template email on the calling thread")
+    void shouldDeliverTemplateEmail() {
+        // Given
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("name", "John Doe");
+        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
+        when(templateEngine.process(eq(TEST_TEMPLATE), any(Context.class))).thenReturn("<html>Test content</html>");
+
+        // When
+        emailService.deliverTemplateEmail(VALID_EMAIL, TEST_SUBJECT, TEST_TEMPLATE, variables);
+
+        // Then
+        verify(smtpSender, times(1)).send(any(MimeMessage.class));
+    }
+
+    @Test
+    @DisplayName("Should reject template delivery to an invalid email address")
+    void shouldRejectTemplateDeliveryWithInvalidEmail() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> emailService.deliverTemplateEmail(INVALID_EMAIL, TEST_SUBJECT, TEST_TEMPLATE, null));
+        verify(smtpSender, never()).send(any(MimeMessage.class));
+    }
+
+    @Test
+    @DisplayName("Should propagate MailException from template delivery")
+    void shouldPropagateMailExceptionFromTemplateDelivery() {
+        // Given
+        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
+        when(templateEngine.process(eq(TEST_TEMPLATE), any(Context.class))).thenReturn("<html>Test content</html>");
+        doThrow(new MailSendException("Mail server error")).when(smtpSender).send(any(MimeMessage.class));
+
+        // When & Then
+        assertThrows(MailException.class,
+                () -> emailService.deliverTemplateEmail(VALID_EMAIL, TEST_SUBJECT, TEST_TEMPLATE, null));
+    }
+
+    @Test
+    @DisplayName("Should send a batch of template emails together and report failures per email")
+    void shouldDeliverTemplateEmailBatch() {
+        // Given
+        MimeMessage first = mock(MimeMessage.class);
+        MimeMessage second = mock(MimeMessage.class);
+        when(mailSender.createMimeMessage()).thenReturn(first, second);
+        when(templateEngine.process(eq(TEST_TEMPLATE), any(Context.class))).thenReturn("<html>Test content</html>");
+        MailSendException rejected = new MailSendException("Mailbox unavailable");
+        doThrow(new MailSendException(Map.<Object, Exception>of(second, rejected))).when(smtpSender).sendBatch(List.of(first, second));
+        List<EmailService.TemplateEmail> emails = List.of(
+                new EmailService.TemplateEmail(VALID_EMAIL, TEST_SUBJECT, TEST_TEMPLATE, null),
+                new EmailService.TemplateEmail(INVALID_EMAIL, TEST_SUBJECT, TEST_TEMPLATE, null),
+                new EmailService.TemplateEmail("other@example.com", TEST_SUBJECT, TEST_TEMPLATE, null));
+
+        // When
+        List<RuntimeException> failures = emailService.deliverTemplateEmails(emails);
+
+        // Then
+        assertNull(failures.get(0));
+        assertInstanceOf(IllegalArgumentException.class, failures.get(1));
+        assertSame(rejected, failures.get(2));
+    }
+
+    @Test
+    @DisplayName("Should fail every email of a batch when the send fails as a whole")
+    void shouldFailWholeTemplateEmailBatch() {
+        // Given
+        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
+        when(templateEngine.process(eq(TEST_TEMPLATE), any(Context.class))).thenReturn("<html>Test content</html>");
+        MailSendException timeout = new MailSendException("Timed out waiting for a pooled SMTP connection");
+        doThrow(timeout).when(smtpSender).sendBatch(any());
+
+        // When
+        List<RuntimeException> failures = emailService.deliverTemplateEmails(
+                List.of(new EmailService.TemplateEmail(VALID_EMAIL, TEST_SUBJECT, TEST_TEMPLATE, null)));
+
+        // Then
+        assertEquals(List.of(timeout), failures);
     }
-} 
\ No newline at end of file
+}
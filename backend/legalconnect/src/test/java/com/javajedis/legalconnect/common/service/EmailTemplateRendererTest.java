@@ -0,0 +1,166 @@
+package com.javajedis.legalconnect.common.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmailTemplateRenderer Tests")
+class EmailTemplateRendererTest {
+
+    private static final String TEMPLATE = "notification-email";
+
+    @Mock
+    private TemplateEngine templateEngine;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmailTemplateRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        renderer = new EmailTemplateRenderer(templateEngine, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should render identical variables once")
+    void render_IdenticalVariables_RenderedOnce() {
+        when(templateEngine.process(eq(TEMPLATE), any(Context.class))).thenReturn("<html>Hello</html>");
+
+        String first = renderer.render(TEMPLATE, Map.of("content", "Hello", "expirationMinutes", 5));
+        String second = renderer.render(TEMPLATE, new HashMap<>(Map.of("content", "Hello", "expirationMinutes", 5)));
+
+        assertEquals("<html>Hello</html>", first);
+        assertEquals(first, second);
+        verify(templateEngine, times(1)).process(eq(TEMPLATE), any(Context.class));
+        assertEquals(1.0, renderCount("hit"));
+        assertEquals(1.0, renderCount("miss"));
+    }
+
+    @Test
+    @DisplayName("Should render different variables separately")
+    void render_DifferentVariables_RenderedEach() {
+        when(templateEngine.process(eq(TEMPLATE), any(Context.class))).thenReturn("<html>Hello</html>");
+
+        renderer.render(TEMPLATE, Map.of("content", "Hello"));
+        renderer.render(TEMPLATE, Map.of("content", "Goodbye"));
+        renderer.render("otp-verification", Map.of("content", "Hello"));
+
+        verify(templateEngine, times(2)).process(eq(TEMPLATE), any(Context.class));
+        verify(templateEngine, times(1)).process(eq("otp-verification"), any(Context.class));
+    }
+
+    @Test
+    @DisplayName("Should not reuse renders of mutable variables")
+    void render_MutableVariables_NotMemoized() {
+        when(templateEngine.process(eq(TEMPLATE), any(Context.class))).thenReturn("<html>Hello</html>");
+        Map<String, Object> variables = Map.of("items", new ArrayList<>(List.of("a")));
+
+        renderer.render(TEMPLATE, variables);
+        renderer.render(TEMPLATE, variables);
+
+        verify(templateEngine, times(2)).process(eq(TEMPLATE), any(Context.class));
+        assertEquals(2.0, renderCount("uncacheable"));
+    }
+
+    @Test
+    @DisplayName("Should not memoize a missing render")
+    void render_NullOutput_NotMemoized() {
+        when(templateEngine.process(eq(TEMPLATE), any(Context.class))).thenReturn(null);
+
+        assertNull(renderer.render(TEMPLATE, null));
+        assertNull(renderer.render(TEMPLATE, null));
+
+        verify(templateEngine, times(2)).process(eq(TEMPLATE), any(Context.class));
+    }
+
+    @Test
+    @DisplayName("Should accept only immutable values for memoization")
+    void isMemoizable_ChecksValueTypes() {
+        Map<String, Object> withNull = new HashMap<>();
+        withNull.put("timestamp", null);
+
+        assertTrue(EmailTemplateRenderer.isMemoizable(Map.of("content", "Hello", "count", 3L,
+                "timestamp", OffsetDateTime.now(), "mode", TemplateMode.HTML)));
+        assertTrue(EmailTemplateRenderer.isMemoizable(withNull));
+        assertFalse(EmailTemplateRenderer.isMemoizable(Map.of("items", new ArrayList<>())));
+    }
+
+    @Test
+    @DisplayName("Should preload every email template")
+    void preloadTemplates_ProcessesEachTemplate() {
+        renderer.preloadTemplates();
+
+        for (String templateName : EmailTemplateRenderer.PRELOADED_TEMPLATES) {
+            verify(templateEngine).process(eq(templateName), any(Context.class));
+        }
+    }
+
+    @Test
+    @DisplayName("Should render the notification email template")
+    void render_RealTemplate_ContainsVariables() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        EmailTemplateRenderer realRenderer = new EmailTemplateRenderer(engine, meterRegistry);
+
+        String body = realRenderer.render(TEMPLATE, Map.of("notificationType", "Case Update",
+                "content", "Your case was updated"));
+
+        assertTrue(body.contains("Case Update"));
+        assertTrue(body.contains("Your case was updated"));
+    }
+
+    @Test
+    @DisplayName("Should render every notification of a digest")
+    void render_DigestTemplate_ContainsEachNotification() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        EmailTemplateRenderer realRenderer = new EmailTemplateRenderer(engine, meterRegistry);
+
+        String body = realRenderer.render("notification-digest", Map.of("notificationCount", 2, "notifications", List.of(
+                Map.of("notificationType", "Case Update", "content", "Your case was updated", "time", "05-08-2025 10:50 AM"),
+                Map.of("notificationType", "Note Added", "content", "A note was added"))));
+
+        assertTrue(body.contains("Your case was updated"));
+        assertTrue(body.contains("05-08-2025 10:50 AM"));
+        assertTrue(body.contains("A note was added"));
+    }
+
+    private double renderCount(String result) {
+        return meterRegistry.get(EmailTemplateRenderer.METRIC_RENDER).tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,183 @@
+package com.javajedis.legalconnect.common.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+
+@DisplayName("PooledSmtpSender Tests")
+class PooledSmtpSenderTest {
+
+    private static final String REJECTED = "rejected@example.com";
+
+    private FakeSmtpServer server;
+    private JavaMailSenderImpl mailSender;
+    private SimpleMeterRegistry meterRegistry;
+    private PooledSmtpSender smtpSender;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new FakeSmtpServer(REJECTED);
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(server.port());
+        Properties properties = new Properties();
+        properties.put("mail.smtp.connectiontimeout", "5000");
+        properties.put("mail.smtp.timeout", "5000");
+        mailSender.setJavaMailProperties(properties);
+        meterRegistry = new SimpleMeterRegistry();
+        smtpSender = sender(30_000, 500);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        smtpSender.shutdown();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Should send a whole batch over one connection")
+    void sendBatch_SharesOneConnection() throws MessagingException {
+        List<MimeMessage> messages = List.of(message("a@example.com"), message("b@example.com"),
+                message("c@example.com"), message("d@example.com"), message("e@example.com"));
+
+        smtpSender.sendBatch(messages);
+
+        assertEquals(List.of("a@example.com", "b@example.com", "c@example.com", "d@example.com", "e@example.com"),
+                server.deliveredTo());
+        assertEquals(1, server.connections());
+        assertEquals(1.0, meterRegistry.get(PooledSmtpSender.METRIC_CONNECTIONS).counter().count());
+        assertEquals(5, meterRegistry.get(PooledSmtpSender.METRIC_SEND).tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should reuse the pooled connection across sends")
+    void send_ReusesPooledConnection() throws MessagingException {
+        smtpSender.send(message("a@example.com"));
+        smtpSender.send(message("b@example.com"));
+        smtpSender.send(message("c@example.com"));
+
+        assertEquals(3, server.deliveredTo().size());
+        assertEquals(1, server.connections());
+    }
+
+    @Test
+    @DisplayName("Should report a rejected message without stopping the rest of the batch")
+    void sendBatch_RejectedRecipient_OthersDelivered() throws MessagingException {
+        MimeMessage rejected = message(REJECTED);
+        List<MimeMessage> messages = List.of(message("a@example.com"), rejected, message("b@example.com"));
+
+        MailSendException exception = assertThrows(MailSendException.class, () -> smtpSender.sendBatch(messages));
+
+        assertEquals(1, exception.getFailedMessages().size());
+        assertEquals(rejected, exception.getFailedMessages().keySet().iterator().next());
+        assertEquals(List.of("a@example.com", "b@example.com"), server.deliveredTo());
+        assertEquals(1, meterRegistry.get(PooledSmtpSender.METRIC_SEND).tag("outcome", "failure").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should reconnect when the server dropped the pooled connection")
+    void send_DroppedConnection_Reconnects() throws MessagingException, IOException {
+        smtpSender.send(message("a@example.com"));
+        server.dropConnections();
+
+        smtpSender.send(message("b@example.com"));
+
+        assertEquals(List.of("a@example.com", "b@example.com"), server.deliveredTo());
+        assertEquals(2, server.connections());
+    }
+
+    @Test
+    @DisplayName("Should close connections that stayed idle too long")
+    void send_IdleConnection_Replaced() throws MessagingException {
+        smtpSender = sender(0, 500);
+
+        smtpSender.send(message("a@example.com"));
+        smtpSender.send(message("b@example.com"));
+
+        assertEquals(2, server.connections());
+    }
+
+    @Test
+    @DisplayName("Should close connections that carried their message limit")
+    void send_MessageLimitReached_NewConnection() throws MessagingException {
+        smtpSender = sender(30_000, 2);
+
+        smtpSender.sendBatch(List.of(message("a@example.com"), message("b@example.com")));
+        smtpSender.send(message("c@example.com"));
+
+        assertEquals(3, server.deliveredTo().size());
+        assertEquals(2, server.connections());
+    }
+
+    @Test
+    @DisplayName("Should switch to a new connection when a batch exceeds the message limit")
+    void sendBatch_ExceedsMessageLimit_RotatesConnection() throws MessagingException {
+        smtpSender = sender(30_000, 2);
+        List<MimeMessage> messages = List.of(message("a@example.com"), message("b@example.com"),
+                message("c@example.com"), message("d@example.com"), message("e@example.com"));
+
+        smtpSender.sendBatch(messages);
+
+        assertEquals(5, server.deliveredTo().size());
+        assertEquals(3, server.connections());
+        assertEquals(3.0, meterRegistry.get(PooledSmtpSender.METRIC_CONNECTIONS).counter().count());
+    }
+
+    @Test
+    @DisplayName("Should fail every message when the server is unreachable")
+    void sendBatch_ServerDown_AllFailed() throws MessagingException, IOException {
+        List<MimeMessage> messages = List.of(message("a@example.com"), message("b@example.com"));
+        server.close();
+
+        MailSendException exception = assertThrows(MailSendException.class, () -> smtpSender.sendBatch(messages));
+
+        assertEquals(2, exception.getFailedMessages().size());
+        assertEquals(2, meterRegistry.get(PooledSmtpSender.METRIC_SEND).tag("outcome", "failure").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should hand the batch to a sender without session access")
+    void sendBatch_CustomSender_Delegates() throws MessagingException {
+        JavaMailSender customSender = mock(JavaMailSender.class);
+        PooledSmtpSender delegating = new PooledSmtpSender(customSender, meterRegistry, 2, 30_000, 500, 1_000);
+        MimeMessage first = message("a@example.com");
+        MimeMessage second = message("b@example.com");
+
+        delegating.sendBatch(List.of(first, second));
+
+        verify(customSender).send(first, second);
+    }
+
+    private PooledSmtpSender sender(long maxIdleMillis, int maxMessagesPerConnection) {
+        if (smtpSender != null) {
+            smtpSender.shutdown();
+        }
+        return new PooledSmtpSender(mailSender, meterRegistry, 2, maxIdleMillis, maxMessagesPerConnection, 1_000);
+    }
+
+    private MimeMessage message(String to) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        message.setFrom("noreply@legalconnect.live");
+        message.setRecipients(MimeMessage.RecipientType.TO, to);
+        message.setSubject("Reminder");
+        message.setText("Your meeting starts in one hour.");
+        return message;
+    }
+}
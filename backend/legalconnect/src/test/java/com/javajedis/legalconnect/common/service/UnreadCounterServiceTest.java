@@ -0,0 +1,268 @@
+package com.javajedis.legalconnect.common.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UnreadCounterService Tests")
+class UnreadCounterServiceTest {
+
+    private static final String SCOPE = "chat";
+    private static final String LOCK_KEY = "unread-reconcile:chat";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private UnreadCounterService service;
+    private UUID userId;
+    private String key;
+    private AtomicInteger loads;
+    private ArgumentCaptor<String> lockOwner;
+
+    @BeforeEach
+    void setUp() {
+        service = new UnreadCounterService(redisTemplate);
+        userId = UUID.randomUUID();
+        key = "unread:chat:" + userId;
+        loads = new AtomicInteger();
+        lenient().when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+    }
+
+    @Test
+    @DisplayName("Should sum loaded counters without querying the database")
+    void getTotal_Loaded_SumsBuckets() {
+        when(hashOperations.entries(key)).thenReturn(Map.of("_version", "4", "a", "2", "b", "3"));
+
+        long total = service.getTotal(SCOPE, userId, loader(Map.of()));
+
+        assertEquals(5L, total);
+        assertEquals(0, loads.get());
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Should load and store counters on a miss")
+    void getTotal_Missing_LoadsAndStores() {
+        when(hashOperations.entries(key)).thenReturn(Map.of());
+
+        long total = service.getTotal(SCOPE, userId, loader(Map.of("a", 2L, "b", 0L)));
+
+        assertEquals(2L, total);
+        assertEquals(1, loads.get());
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(key)),
+                eq(""), eq(String.valueOf(Duration.ofDays(1).toMillis())), eq("a"), eq("2"));
+    }
+
+    @Test
+    @DisplayName("Should count from the database when Redis is down")
+    void getTotal_RedisDown_UsesLoader() {
+        when(hashOperations.entries(key)).thenThrow(new RedisConnectionFailureException("down"));
+
+        long total = service.getTotal(SCOPE, userId, loader(Map.of("a", 3L)));
+
+        assertEquals(3L, total);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Should apply increments through a script")
+    void increment_ExecutesScript() {
+        service.increment(SCOPE, userId, "a", -1);
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(key)), eq("a"), eq("-1"));
+    }
+
+    @Test
+    @DisplayName("Should hold counter increases back until the transaction commits")
+    void increment_InTransaction_AppliedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.increment(SCOPE, userId, "a", 1);
+            service.incrementAll(SCOPE, List.of(userId), "a", 1);
+
+            verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+            verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(key)), eq("a"), eq("1"));
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("Should drop counter increases of a rolled back transaction")
+    void increment_RolledBack_NotApplied() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.increment(SCOPE, userId, "a", 1);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Should apply decreases at once inside a transaction")
+    void increment_Decrease_AppliedImmediately() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.increment(SCOPE, userId, "a", -2);
+
+            verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(key)), eq("a"), eq("-2"));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should apply a fan-out increment to every user in one pipeline")
+    void incrementAll_Pipelines() {
+        service.incrementAll(SCOPE, List.of(userId, UUID.randomUUID()), "a", 1);
+
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Should skip the pipeline when there is nobody to update")
+    void incrementAll_NoUsers_Skips() {
+        service.incrementAll(SCOPE, List.of(), "a", 1);
+
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("Should not fail the caller when a fan-out increment fails")
+    void incrementAll_RedisDown_Swallowed() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenThrow(new RedisConnectionFailureException("down"));
+
+        service.incrementAll(SCOPE, List.of(userId), "a", 1);
+
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("Should not fail the caller when a counter write fails")
+    void reset_RedisDown_Swallowed() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        service.reset(SCOPE, userId, "a");
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(key)), eq("a"));
+    }
+
+    @Test
+    @DisplayName("Should replace drifted counters guarded by their version")
+    void reconcile_Drifted_StoresWithVersion() {
+        holdLock(true);
+        scanKeys(List.of(key));
+        when(hashOperations.entries(key)).thenReturn(Map.of("_version", "7", "a", "5"));
+
+        service.reconcile(SCOPE, loader(Map.of("a", 2L)));
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(key)),
+                eq("7"), anyString(), eq("a"), eq("2"));
+        verifyLockReleased();
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+
+    @Test
+    @DisplayName("Should leave matching counters untouched")
+    void reconcile_InSync_NoWrite() {
+        holdLock(true);
+        scanKeys(List.of(key, "unread:chat:not-a-uuid"));
+        when(hashOperations.entries(key)).thenReturn(Map.of("_version", "7", "a", "2"));
+
+        service.reconcile(SCOPE, loader(Map.of("a", 2L, "b", 0L)));
+
+        assertEquals(1, loads.get());
+        verify(redisTemplate, never()).execute(any(RedisScript.class), eq(List.of(key)), any(Object[].class));
+        verifyLockReleased();
+    }
+
+    @Test
+    @DisplayName("Should skip reconciliation when another node holds the lock")
+    void reconcile_LockHeld_Skips() {
+        holdLock(false);
+
+        service.reconcile(SCOPE, loader(Map.of()));
+
+        verify(redisTemplate, never()).scan(any(ScanOptions.class));
+        verify(redisTemplate, never()).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), any(Object[].class));
+    }
+
+    private Function<UUID, Map<String, Long>> loader(Map<String, Long> counts) {
+        return id -> {
+            loads.incrementAndGet();
+            return counts;
+        };
+    }
+
+    private void holdLock(boolean acquired) {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lockOwner = ArgumentCaptor.forClass(String.class);
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), lockOwner.capture(), any(Duration.class))).thenReturn(acquired);
+    }
+
+    private void verifyLockReleased() {
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), eq(lockOwner.getValue()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void scanKeys(List<String> keys) {
+        Cursor<String> cursor = mock(Cursor.class);
+        Iterator<String> iterator = keys.iterator();
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+    }
+}
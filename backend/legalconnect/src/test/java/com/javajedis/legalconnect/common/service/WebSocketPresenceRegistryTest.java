@@ -0,0 +1,138 @@
+package com.javajedis.legalconnect.common.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebSocketPresenceRegistry Tests")
+class WebSocketPresenceRegistryTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private WebSocketPresenceRegistry registry;
+    private UUID userId;
+    private String key;
+
+    @BeforeEach
+    void setUp() {
+        registry = new WebSocketPresenceRegistry(redisTemplate);
+        userId = UUID.randomUUID();
+        key = "ws:presence:" + userId;
+        lenient().when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+    }
+
+    @Test
+    @DisplayName("Should record this node with an expiring key")
+    void markOnline_StoresNodeAndTtl() {
+        registry.markOnline(userId);
+
+        verify(hashOperations).put(eq(key), eq(registry.getNodeId()), anyString());
+        verify(redisTemplate).expire(key, WebSocketPresenceRegistry.PRESENCE_TTL);
+    }
+
+    @Test
+    @DisplayName("Should remove only this node on disconnect")
+    void markOffline_RemovesNode() {
+        registry.markOffline(userId);
+
+        verify(hashOperations).delete(key, registry.getNodeId());
+    }
+
+    @Test
+    @DisplayName("Should find fresh presence reported by another node")
+    void isOnlineElsewhere_FreshOtherNode_True() {
+        when(hashOperations.entries(key)).thenReturn(Map.of("other-node", String.valueOf(System.currentTimeMillis())));
+
+        assertTrue(registry.isOnlineElsewhere(userId));
+    }
+
+    @Test
+    @DisplayName("Should ignore this node and stale entries")
+    void isOnlineElsewhere_OwnOrStaleNode_False() {
+        long stale = System.currentTimeMillis() - WebSocketPresenceRegistry.PRESENCE_TTL.toMillis() - 1_000;
+        when(hashOperations.entries(key)).thenReturn(Map.of(
+                registry.getNodeId(), String.valueOf(System.currentTimeMillis()),
+                "dead-node", String.valueOf(stale),
+                "bad-node", "garbage"));
+
+        assertFalse(registry.isOnlineElsewhere(userId));
+    }
+
+    @Test
+    @DisplayName("Should treat users as offline elsewhere when Redis is down")
+    void isOnlineElsewhere_RedisDown_False() {
+        when(hashOperations.entries(key)).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertFalse(registry.isOnlineElsewhere(userId));
+    }
+
+    @Test
+    @DisplayName("Should refresh all local users in one pipeline")
+    void heartbeat_Pipelines() {
+        registry.heartbeat(List.of(userId, UUID.randomUUID()));
+
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("Should skip the heartbeat when no users are connected")
+    void heartbeat_NoUsers_Skips() {
+        registry.heartbeat(List.of());
+
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("Should find the live other nodes of several users in one pipeline")
+    void nodesElsewhere_PipelinedLookup() {
+        UUID offline = UUID.randomUUID();
+        UUID stale = UUID.randomUUID();
+        String now = String.valueOf(System.currentTimeMillis());
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(
+                Map.of("node-b", now, registry.getNodeId(), now),
+                Map.of(),
+                Map.of("node-c", "0")));
+
+        Map<UUID, Set<String>> nodes = registry.nodesElsewhere(new LinkedHashSet<>(List.of(userId, offline, stale)));
+
+        assertEquals(Map.of(userId, Set.of("node-b")), nodes);
+    }
+
+    @Test
+    @DisplayName("Should treat every user as local when the bulk presence lookup fails")
+    void nodesElsewhere_RedisDown_Empty() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertTrue(registry.nodesElsewhere(List.of(userId)).isEmpty());
+    }
+}
@@ -7,32 +7,46 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpSession;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.web.socket.messaging.SessionConnectEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
 import com.javajedis.legalconnect.notifications.dto.NotificationResponseDTO;
 import com.javajedis.legalconnect.notifications.exception.NotificationDeliveryException;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 @DisplayName("WebSocketService Tests")
 class WebSocketServiceTest {
@@ -49,7 +63,18 @@ class WebSocketServiceTest {
     @Mock
     private StompHeaderAccessor headerAccessor;
 
-    @InjectMocks
+    @Mock
+    private WebSocketPresenceRegistry presenceRegistry;
+
+    @Mock
+    private SimpUserRegistry simpUserRegistry;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private WebSocketSessionIndex sessionIndex;
     private WebSocketService webSocketService;
 
     private UUID testUserId;
@@ -59,6 +84,9 @@ class WebSocketServiceTest {
 
     @BeforeEach
     void setUp() {
+        sessionIndex = new WebSocketSessionIndex(new SimpleMeterRegistry());
+        webSocketService = new WebSocketService(messagingTemplate, sessionIndex, simpUserRegistry, presenceRegistry,
+                redisTemplate, objectMapper, "local");
         testUserId = UUID.randomUUID();
         testSessionId = "test-session-123";
         
@@ -289,8 +317,8 @@ class WebSocketServiceTest {
     }
 
     @Test
-    @DisplayName("Should replace existing session when user connects with new session")
-    void handleWebSocketConnectListener_ReplaceExistingSession() {
+    @DisplayName("Should keep existing session when user connects with another session")
+    void handleWebSocketConnectListener_SecondSession_KeepsBoth() {
         // Arrange - First connection
         simulateUserConnection();
         assertEquals(1, webSocketService.getActiveConnectionCount());
@@ -309,7 +337,31 @@ class WebSocketServiceTest {
 
             // Assert
             assertTrue(webSocketService.isUserConnected(testUserId));
-            assertEquals(1, webSocketService.getActiveConnectionCount()); // Still 1, replaced
+            assertEquals(2, webSocketService.getActiveConnectionCount());
+            assertEquals(Set.of(testSessionId, newSessionId), sessionIndex.getSessions(testUserId));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep user connected until the last session disconnects")
+    void handleWebSocketDisconnectListener_OtherSessionOpen_StaysConnected() {
+        // Arrange
+        useRedisBroker();
+        simulateUserConnection();
+        sessionIndex.add(testUserId, "phone-session");
+        when(sessionDisconnectEvent.getMessage()).thenReturn(mock(org.springframework.messaging.Message.class));
+        when(headerAccessor.getSessionId()).thenReturn(testSessionId);
+
+        try (var mockedStatic = mockStatic(StompHeaderAccessor.class)) {
+            mockedStatic.when(() -> StompHeaderAccessor.wrap(any())).thenReturn(headerAccessor);
+
+            // Act
+            webSocketService.handleWebSocketDisconnectListener(sessionDisconnectEvent);
+
+            // Assert
+            assertTrue(webSocketService.isUserConnected(testUserId));
+            assertEquals(1, webSocketService.getActiveConnectionCount());
+            verify(presenceRegistry, never()).markOffline(testUserId);
         }
     }
 
@@ -439,6 +491,257 @@ class WebSocketServiceTest {
         assertEquals("Broadcast message cannot be null", exception.getMessage());
     }
 
+    @Test
+    @DisplayName("Should sweep idle sessions the broker no longer holds")
+    void sweepStaleSessions_UnknownToBroker_Removed() {
+        // Arrange
+        simulateUserConnection();
+        sessionIndex.add(testUserId, "live-session");
+        SimpUser simpUser = mock(SimpUser.class);
+        when(simpUserRegistry.getUser(testUserId.toString())).thenReturn(simpUser);
+        when(simpUser.getSession("live-session")).thenReturn(mock(SimpSession.class));
+        when(simpUser.getSession(testSessionId)).thenReturn(null);
+
+        // Act
+        webSocketService.sweepStaleSessions(Long.MAX_VALUE);
+
+        // Assert
+        assertEquals(Set.of("live-session"), sessionIndex.getSessions(testUserId));
+    }
+
+    @Test
+    @DisplayName("Should keep recently active sessions during a sweep")
+    void sweepStaleSessions_RecentlyActive_Kept() {
+        // Arrange
+        simulateUserConnection();
+
+        // Act
+        webSocketService.sweepStaleSessions(0);
+
+        // Assert
+        assertTrue(webSocketService.isUserConnected(testUserId));
+        verify(simpUserRegistry, never()).getUser(anyString());
+    }
+
+    @Test
+    @DisplayName("Should relay message when user is connected to another node")
+    void sendToUser_RedisMode_ConnectedElsewhere_Relays() throws Exception {
+        // Arrange
+        useRedisBroker();
+        when(presenceRegistry.isOnlineElsewhere(testUserId)).thenReturn(true);
+
+        // Act
+        boolean result = webSocketService.sendToUser(testUserId, "/topic/chat-" + testUserId, "hello");
+
+        // Assert
+        assertTrue(result);
+        verify(messagingTemplate, never()).convertAndSend(anyString(), (Object) any());
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(WebSocketService.RELAY_CHANNEL), body.capture());
+        JsonNode relayed = objectMapper.readTree(body.getValue());
+        assertEquals("node-a", relayed.get("node").asText());
+        assertEquals(testUserId.toString(), relayed.get("userId").asText());
+        assertEquals("hello", relayed.get("payload").asText());
+    }
+
+    @Test
+    @DisplayName("Should look up presence once when relaying a notification")
+    void sendNotificationToUser_RedisMode_ConnectedElsewhere_OneLookup() {
+        // Arrange
+        useRedisBroker();
+        when(presenceRegistry.isOnlineElsewhere(testUserId)).thenReturn(true);
+        testNotification.setCreatedAt(null);
+
+        // Act
+        boolean result = webSocketService.sendNotificationToUser(testUserId, testNotification);
+
+        // Assert
+        assertTrue(result);
+        verify(presenceRegistry, times(1)).isOnlineElsewhere(testUserId);
+        verify(redisTemplate).convertAndSend(eq(WebSocketService.RELAY_CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("Should not consult presence registry in local broker mode")
+    void sendToUser_LocalMode_NotConnected_ReturnsFalse() {
+        // Act
+        boolean result = webSocketService.sendToUser(testUserId, "/topic/chat-" + testUserId, "hello");
+
+        // Assert
+        assertFalse(result);
+        verify(presenceRegistry, never()).isOnlineElsewhere(any());
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should report users connected to another node as connected")
+    void isUserConnected_RedisMode_ConnectedElsewhere() {
+        // Arrange
+        useRedisBroker();
+        when(presenceRegistry.isOnlineElsewhere(testUserId)).thenReturn(true);
+
+        // Act & Assert
+        assertTrue(webSocketService.isUserConnected(testUserId));
+        assertEquals(0, webSocketService.getActiveConnectionCount());
+    }
+
+    @Test
+    @DisplayName("Should record presence on connect and clear it on disconnect")
+    void connectAndDisconnect_RedisMode_UpdatesPresence() {
+        // Arrange
+        useRedisBroker();
+        simulateUserConnection();
+        verify(presenceRegistry).markOnline(testUserId);
+
+        // Act
+        webSocketService.disconnectUser(testUserId);
+
+        // Assert
+        verify(presenceRegistry).markOffline(testUserId);
+    }
+
+    @Test
+    @DisplayName("Should refresh presence of local users in redis broker mode only")
+    void refreshPresence_HeartbeatsLocalUsers() {
+        // Arrange
+        simulateUserConnection();
+        webSocketService.refreshPresence();
+        verify(presenceRegistry, never()).heartbeat(any());
+
+        useRedisBroker();
+        simulateUserConnection();
+
+        // Act
+        webSocketService.refreshPresence();
+
+        // Assert
+        verify(presenceRegistry).heartbeat(Set.of(testUserId));
+    }
+
+    @Test
+    @DisplayName("Should deliver relayed message to locally connected user")
+    void onMessage_LocalUser_Delivers() {
+        // Arrange
+        useRedisBroker();
+        simulateUserConnection();
+
+        // Act
+        webSocketService.onMessage(relayMessage("node-b", testUserId.toString()), null);
+
+        // Assert
+        verify(messagingTemplate).convertAndSend(eq("/topic/chat-" + testUserId), (Object) eq(TextNode.valueOf("hello")));
+    }
+
+    @Test
+    @DisplayName("Should ignore relayed messages published by this node or for other users")
+    void onMessage_OwnNodeOrUnknownUser_Ignored() {
+        // Arrange
+        useRedisBroker();
+        simulateUserConnection();
+
+        // Act
+        webSocketService.onMessage(relayMessage("node-a", testUserId.toString()), null);
+        webSocketService.onMessage(relayMessage("node-b", UUID.randomUUID().toString()), null);
+        webSocketService.onMessage(new DefaultMessage(new byte[0], "garbage".getBytes(StandardCharsets.UTF_8)), null);
+
+        // Assert
+        verify(messagingTemplate, never()).convertAndSend(anyString(), (Object) any());
+    }
+
+    @Test
+    @DisplayName("Should relay broadcast to other nodes in redis broker mode")
+    void broadcastToAllUsers_RedisMode_Relays() {
+        // Arrange
+        useRedisBroker();
+
+        // Act
+        webSocketService.broadcastToAllUsers("System announcement");
+
+        // Assert
+        verify(redisTemplate).convertAndSend(eq(WebSocketService.RELAY_CHANNEL), anyString());
+        verify(messagingTemplate, never()).convertAndSend(anyString(), (Object) any());
+    }
+
+    @Test
+    @DisplayName("Should send fan-out notifications to local users directly")
+    void sendNotificationsToUsers_LocalMode_SendsToConnected() {
+        // Arrange
+        simulateUserConnection();
+        UUID offlineUser = UUID.randomUUID();
+
+        // Act
+        int reached = webSocketService.sendNotificationsToUsers(Map.of(testUserId, testNotification,
+                offlineUser, testNotification));
+
+        // Assert
+        assertEquals(1, reached);
+        verify(messagingTemplate).convertAndSend("/topic/user-" + testUserId, testNotification);
+        verify(presenceRegistry, never()).nodesElsewhere(any());
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should relay fan-out notifications once per node holding the users")
+    void sendNotificationsToUsers_RedisMode_GroupsByNode() throws Exception {
+        // Arrange
+        useRedisBroker();
+        testNotification.setCreatedAt(null);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        when(presenceRegistry.nodesElsewhere(any())).thenReturn(Map.of(
+                first, Set.of("node-b"), second, Set.of("node-b"), third, Set.of("node-c")));
+
+        // Act
+        int reached = webSocketService.sendNotificationsToUsers(Map.of(first, testNotification,
+                second, testNotification, third, testNotification, UUID.randomUUID(), testNotification));
+
+        // Assert
+        assertEquals(3, reached);
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(WebSocketService.RELAY_CHANNEL + ":node-b"), body.capture());
+        JsonNode batch = objectMapper.readTree(body.getValue());
+        assertEquals("node-a", batch.get("node").asText());
+        assertEquals(2, batch.get("messages").size());
+        verify(redisTemplate).convertAndSend(eq(WebSocketService.RELAY_CHANNEL + ":node-c"), anyString());
+        verify(messagingTemplate, never()).convertAndSend(anyString(), (Object) any());
+    }
+
+    @Test
+    @DisplayName("Should deliver a relayed batch to the users connected here")
+    void onMessage_Batch_DeliversLocalUsers() {
+        // Arrange
+        useRedisBroker();
+        simulateUserConnection();
+        UUID elsewhere = UUID.randomUUID();
+        String body = "{\"node\":\"node-b\",\"messages\":["
+                + "{\"node\":\"node-b\",\"userId\":\"" + testUserId + "\",\"destination\":\"/topic/user-" + testUserId
+                + "\",\"payload\":\"hello\"},"
+                + "{\"node\":\"node-b\",\"userId\":\"" + elsewhere + "\",\"destination\":\"/topic/user-" + elsewhere
+                + "\",\"payload\":\"hello\"}]}";
+
+        // Act
+        webSocketService.onMessage(new DefaultMessage((WebSocketService.RELAY_CHANNEL + ":node-a").getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)), null);
+
+        // Assert
+        verify(messagingTemplate).convertAndSend(eq("/topic/user-" + testUserId), (Object) eq(TextNode.valueOf("hello")));
+        verify(messagingTemplate, never()).convertAndSend(eq("/topic/user-" + elsewhere), (Object) any());
+    }
+
+    private void useRedisBroker() {
+        webSocketService = new WebSocketService(messagingTemplate, sessionIndex, simpUserRegistry, presenceRegistry,
+                redisTemplate, objectMapper, "redis");
+        lenient().when(presenceRegistry.getNodeId()).thenReturn("node-a");
+    }
+
+    private DefaultMessage relayMessage(String node, String userId) {
+        String body = "{\"node\":\"" + node + "\",\"userId\":\"" + userId
+                + "\",\"destination\":\"/topic/chat-" + userId + "\",\"payload\":\"hello\"}";
+        return new DefaultMessage(WebSocketService.RELAY_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
     private void simulateUserConnection() {
         when(sessionConnectEvent.getMessage()).thenReturn(mock(org.springframework.messaging.Message.class));
         when(headerAccessor.getSessionId()).thenReturn(testSessionId);
@@ -0,0 +1,106 @@
+package com.javajedis.legalconnect.common.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("WebSocketSessionIndex Tests")
+class WebSocketSessionIndexTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private WebSocketSessionIndex index;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new WebSocketSessionIndex(meterRegistry);
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should track every session of a user")
+    void add_MultipleSessions_KeepsAll() {
+        assertTrue(index.add(userId, "laptop"));
+        assertFalse(index.add(userId, "phone"));
+
+        assertEquals(Set.of("laptop", "phone"), index.getSessions(userId));
+        assertEquals(2, index.getSessionCount());
+        assertEquals(1, index.getUserCount());
+        assertEquals(userId, index.getUserId("phone"));
+    }
+
+    @Test
+    @DisplayName("Should drop the user once the last session is removed")
+    void remove_LastSession_DisconnectsUser() {
+        index.add(userId, "laptop");
+        index.add(userId, "phone");
+
+        assertEquals(userId, index.remove("laptop"));
+        assertTrue(index.isConnected(userId));
+
+        assertEquals(userId, index.remove("phone"));
+        assertFalse(index.isConnected(userId));
+        assertEquals(0, index.getUserCount());
+    }
+
+    @Test
+    @DisplayName("Should ignore unknown sessions")
+    void remove_UnknownSession_ReturnsNull() {
+        assertNull(index.remove("unknown"));
+        index.touch("unknown");
+
+        assertEquals(0, index.getSessionCount());
+    }
+
+    @Test
+    @DisplayName("Should remove all sessions of a user")
+    void removeUser_RemovesAllSessions() {
+        index.add(userId, "laptop");
+        index.add(userId, "phone");
+        index.add(UUID.randomUUID(), "other");
+
+        assertEquals(2, index.removeUser(userId));
+        assertEquals(1, index.getSessionCount());
+        assertNull(index.getUserId("laptop"));
+        assertEquals(0, index.removeUser(userId));
+    }
+
+    @Test
+    @DisplayName("Should report sessions idle since before the cutoff")
+    void findIdleSessions_UsesLastSeen() throws InterruptedException {
+        index.add(userId, "idle");
+        Thread.sleep(5);
+        long cutoff = System.currentTimeMillis();
+        Thread.sleep(5);
+        index.add(userId, "active");
+
+        assertEquals(List.of("idle"), index.findIdleSessions(cutoff));
+
+        index.touch("idle");
+        assertTrue(index.findIdleSessions(cutoff).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should expose session gauges")
+    void gauges_ReflectIndex() {
+        index.add(userId, "laptop");
+        index.add(userId, "phone");
+        index.add(UUID.randomUUID(), "other");
+
+        assertEquals(3.0, meterRegistry.get("websocket.sessions").gauge().value());
+        assertEquals(2.0, meterRegistry.get("websocket.users").gauge().value());
+        assertEquals(2.0, meterRegistry.get("websocket.sessions.per.user.max").gauge().value());
+    }
+}
@@ -28,6 +28,7 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import com.javajedis.legalconnect.common.exception.EmailNotVerifiedException;
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
 import com.javajedis.legalconnect.user.Role;
 import com.javajedis.legalconnect.user.User;
 import com.javajedis.legalconnect.user.UserRepo;
@@ -250,6 +251,39 @@ class EmailVerificationFilterTest {
         verify(filterChain).doFilter(request, response);
     }
 
+    @Test
+    void doFilterInternal_ClaimsPrincipalVerified_SkipsDatabaseLookup() throws ServletException, IOException {
+        // Arrange
+        AuthenticatedUser principal = new AuthenticatedUser(testUser.getId(), testEmail, Role.USER, true);
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(authentication.getName()).thenReturn(testEmail);
+        when(authentication.getPrincipal()).thenReturn(principal);
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        SecurityContextHolder.setContext(securityContext);
+
+        // Act
+        emailVerificationFilter.doFilterInternal(request, response, filterChain);
+
+        // Assert
+        verify(filterChain).doFilter(request, response);
+        verify(userRepo, never()).findByEmail(anyString());
+    }
+
+    @Test
+    void doFilterInternal_ClaimsPrincipalNotVerified_ThrowsEmailNotVerifiedException() {
+        // Arrange
+        AuthenticatedUser principal = new AuthenticatedUser(testUser.getId(), testEmail, Role.USER, false);
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(authentication.getName()).thenReturn(testEmail);
+        when(authentication.getPrincipal()).thenReturn(principal);
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        SecurityContextHolder.setContext(securityContext);
+
+        // Act & Assert
+        assertThrows(EmailNotVerifiedException.class, this::runDoFilterInternal);
+        verify(userRepo, never()).findByEmail(anyString());
+    }
+
     // Helper method to wrap checked exceptions in RuntimeException for lambda use
     private void runDoFilterInternal() {
         try {
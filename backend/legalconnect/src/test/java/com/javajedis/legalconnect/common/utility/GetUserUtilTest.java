@@ -1,7 +1,11 @@
 package com.javajedis.legalconnect.common.utility;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.OffsetDateTime;
@@ -16,6 +20,8 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
+import com.javajedis.legalconnect.user.Role;
 import com.javajedis.legalconnect.user.User;
 import com.javajedis.legalconnect.user.UserRepo;
 
@@ -157,4 +163,57 @@ class GetUserUtilTest {
         // Then
         assertEquals(null, result);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void getAuthenticatedPrincipal_claimsPrincipal_returnsPrincipalWithoutLookup() {
+        // Given
+        AuthenticatedUser principal = new AuthenticatedUser(java.util.UUID.randomUUID(), "test@example.com", Role.USER, true);
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(authentication.getPrincipal()).thenReturn(principal);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        // When
+        AuthenticatedUser result = GetUserUtil.getAuthenticatedPrincipal(userRepo);
+
+        // Then
+        assertEquals(principal, result);
+        verify(userRepo, never()).findByEmail(anyString());
+    }
+
+    @Test
+    void getAuthenticatedPrincipal_databasePrincipal_mapsUser() {
+        // Given
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(authentication.getName()).thenReturn("test@example.com");
+        when(authentication.getPrincipal()).thenReturn("test@example.com");
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        User user = new User();
+        user.setId(java.util.UUID.randomUUID());
+        user.setEmail("test@example.com");
+        user.setRole(Role.LAWYER);
+        user.setEmailVerified(true);
+        when(userRepo.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+
+        // When
+        AuthenticatedUser result = GetUserUtil.getAuthenticatedPrincipal(userRepo);
+
+        // Then
+        assertEquals(user.getId(), result.id());
+        assertEquals(Role.LAWYER, result.role());
+        assertTrue(result.emailVerified());
+    }
+
+    @Test
+    void getAuthenticatedPrincipal_notAuthenticated_returnsNull() {
+        // Given
+        when(authentication.isAuthenticated()).thenReturn(false);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        // When
+        AuthenticatedUser result = GetUserUtil.getAuthenticatedPrincipal(userRepo);
+
+        // Then
+        assertNull(result);
+    }
+}
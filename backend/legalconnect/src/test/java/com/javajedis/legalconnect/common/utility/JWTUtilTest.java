@@ -2,7 +2,9 @@ package com.javajedis.legalconnect.common.utility;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -22,6 +24,7 @@ import com.javajedis.legalconnect.user.Role;
 import com.javajedis.legalconnect.user.User;
 
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.Keys;
@@ -393,4 +396,67 @@ class JWTUtilTest {
         assertEquals(true, jwtUtil.extractEmailVerified(token1));
         assertEquals(false, jwtUtil.extractEmailVerified(token2));
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should parse all claims from JWT token in one pass")
+    void shouldParseAllClaimsFromJWTTokenInOnePass() {
+        // Given
+        String token = jwtUtil.generateToken(testUser);
+
+        // When
+        ParsedToken parsedToken = jwtUtil.parseToken(token);
+
+        // Then
+        assertEquals(TEST_EMAIL, parsedToken.subject());
+        assertEquals(TEST_USER_ID.toString(), parsedToken.userId());
+        assertEquals(Role.USER.name(), parsedToken.role());
+        assertEquals(TEST_FIRST_NAME, parsedToken.firstName());
+        assertEquals(TEST_LAST_NAME, parsedToken.lastName());
+        assertEquals(true, parsedToken.emailVerified());
+        assertEquals("ACCESS", parsedToken.tokenType());
+        assertNotNull(parsedToken.issuedAt());
+        assertNotNull(parsedToken.expiration());
+        assertFalse(parsedToken.isExpired());
+    }
+
+    @Test
+    @DisplayName("Should return cached parsed token for repeated verification")
+    void shouldReturnCachedParsedTokenForRepeatedVerification() {
+        // Given
+        String token = jwtUtil.generateToken(testUser);
+
+        // When
+        ParsedToken first = jwtUtil.parseToken(token);
+        ParsedToken second = jwtUtil.parseToken(token);
+
+        // Then
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("Should not cache tokens that fail verification")
+    void shouldNotCacheTokensThatFailVerification() {
+        // Given
+        String tamperedToken = jwtUtil.generateToken(testUser) + "tampered";
+
+        // When & Then
+        assertThrows(JwtException.class, () -> jwtUtil.parseToken(tamperedToken));
+        assertThrows(JwtException.class, () -> jwtUtil.parseToken(tamperedToken));
+    }
+
+    @Test
+    @DisplayName("Should hash token to stable SHA-256 hex digest")
+    void shouldHashTokenToStableSha256HexDigest() {
+        // Given
+        String token = jwtUtil.generateToken(testUser);
+
+        // When
+        String firstHash = JWTUtil.hashToken(token);
+        String secondHash = JWTUtil.hashToken(token);
+
+        // Then
+        assertEquals(firstHash, secondHash);
+        assertEquals(64, firstHash.length());
+        assertNotEquals(firstHash, JWTUtil.hashToken(token + "x"));
+    }
+}
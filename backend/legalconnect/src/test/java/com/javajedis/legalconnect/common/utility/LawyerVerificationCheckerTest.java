@@ -2,6 +2,8 @@ package com.javajedis.legalconnect.common.utility;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collection;
@@ -14,13 +16,17 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
+import com.javajedis.legalconnect.common.security.LawyerStatusCache;
 import com.javajedis.legalconnect.common.security.LawyerVerificationChecker;
+import com.javajedis.legalconnect.lawyer.LawyerStatusChangedEvent;
 import com.javajedis.legalconnect.lawyer.Lawyer;
 import com.javajedis.legalconnect.lawyer.LawyerRepo;
 import com.javajedis.legalconnect.lawyer.enums.VerificationStatus;
@@ -42,8 +48,12 @@ class LawyerVerificationCheckerTest {
     
     @Mock
     private SecurityContext securityContext;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
     
     private LawyerVerificationChecker lawyerVerificationChecker;
+    private LawyerStatusCache lawyerStatusCache;
     private User testUser;
     private User testNonLawyerUser;
     private Lawyer testLawyer;
@@ -51,7 +61,8 @@ class LawyerVerificationCheckerTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        lawyerVerificationChecker = new LawyerVerificationChecker(userRepo, lawyerRepo);
+        lawyerStatusCache = new LawyerStatusCache(redisTemplate);
+        lawyerVerificationChecker = new LawyerVerificationChecker(userRepo, lawyerRepo, lawyerStatusCache);
         
         // Setup test lawyer user
         testUser = new User();
@@ -87,9 +98,9 @@ class LawyerVerificationCheckerTest {
         setupAuthenticationWithRole("ROLE_LAWYER");
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = org.mockito.Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo))
-                    .thenReturn(testUser);
-            when(lawyerRepo.findByUser(testUser)).thenReturn(Optional.of(testLawyer));
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo))
+                    .thenReturn(AuthenticatedUser.from(testUser));
+            when(lawyerRepo.findByUserId(testUser.getId())).thenReturn(Optional.of(testLawyer));
 
             // When
             boolean result = lawyerVerificationChecker.isVerifiedLawyer();
@@ -107,9 +118,9 @@ class LawyerVerificationCheckerTest {
         setupAuthenticationWithRole("ROLE_LAWYER");
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = org.mockito.Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo))
-                    .thenReturn(testUser);
-            when(lawyerRepo.findByUser(testUser)).thenReturn(Optional.of(testLawyer));
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo))
+                    .thenReturn(AuthenticatedUser.from(testUser));
+            when(lawyerRepo.findByUserId(testUser.getId())).thenReturn(Optional.of(testLawyer));
 
             // When
             boolean result = lawyerVerificationChecker.isVerifiedLawyer();
@@ -127,9 +138,9 @@ class LawyerVerificationCheckerTest {
         setupAuthenticationWithRole("ROLE_LAWYER");
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = org.mockito.Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo))
-                    .thenReturn(testUser);
-            when(lawyerRepo.findByUser(testUser)).thenReturn(Optional.of(testLawyer));
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo))
+                    .thenReturn(AuthenticatedUser.from(testUser));
+            when(lawyerRepo.findByUserId(testUser.getId())).thenReturn(Optional.of(testLawyer));
 
             // When
             boolean result = lawyerVerificationChecker.isVerifiedLawyer();
@@ -188,8 +199,8 @@ class LawyerVerificationCheckerTest {
         setupAuthenticationWithRole("ROLE_LAWYER");
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = org.mockito.Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo))
-                    .thenReturn(testNonLawyerUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo))
+                    .thenReturn(AuthenticatedUser.from(testNonLawyerUser));
 
             // When
             boolean result = lawyerVerificationChecker.isVerifiedLawyer();
@@ -206,7 +217,7 @@ class LawyerVerificationCheckerTest {
         setupAuthenticationWithRole("ROLE_LAWYER");
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = org.mockito.Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo))
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo))
                     .thenReturn(null);
 
             // When
@@ -224,9 +235,9 @@ class LawyerVerificationCheckerTest {
         setupAuthenticationWithRole("ROLE_LAWYER");
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = org.mockito.Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo))
-                    .thenReturn(testUser);
-            when(lawyerRepo.findByUser(testUser)).thenReturn(Optional.empty());
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo))
+                    .thenReturn(AuthenticatedUser.from(testUser));
+            when(lawyerRepo.findByUserId(testUser.getId())).thenReturn(Optional.empty());
 
             // When
             boolean result = lawyerVerificationChecker.isVerifiedLawyer();
@@ -243,7 +254,7 @@ class LawyerVerificationCheckerTest {
         setupAuthenticationWithRole("ROLE_LAWYER");
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = org.mockito.Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo))
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo))
                     .thenThrow(new RuntimeException("Database error"));
 
             // When
@@ -262,9 +273,9 @@ class LawyerVerificationCheckerTest {
         setupAuthenticationWithRole("ROLE_LAWYER");
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = org.mockito.Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo))
-                    .thenReturn(testUser);
-            when(lawyerRepo.findByUser(testUser)).thenReturn(Optional.of(testLawyer));
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo))
+                    .thenReturn(AuthenticatedUser.from(testUser));
+            when(lawyerRepo.findByUserId(testUser.getId())).thenReturn(Optional.of(testLawyer));
 
             // When
             boolean result = lawyerVerificationChecker.isLawyer();
@@ -294,7 +305,7 @@ class LawyerVerificationCheckerTest {
         setupAuthenticationWithRole("ROLE_LAWYER");
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = org.mockito.Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo))
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo))
                     .thenReturn(null);
 
             // When
@@ -312,9 +323,9 @@ class LawyerVerificationCheckerTest {
         setupAuthenticationWithRole("ROLE_LAWYER");
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = org.mockito.Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo))
-                    .thenReturn(testUser);
-            when(lawyerRepo.findByUser(testUser)).thenReturn(Optional.empty());
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo))
+                    .thenReturn(AuthenticatedUser.from(testUser));
+            when(lawyerRepo.findByUserId(testUser.getId())).thenReturn(Optional.empty());
 
             // When
             boolean result = lawyerVerificationChecker.isLawyer();
@@ -331,8 +342,8 @@ class LawyerVerificationCheckerTest {
         setupAuthenticationWithRole("ROLE_LAWYER");
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = org.mockito.Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo))
-                    .thenReturn(testNonLawyerUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo))
+                    .thenReturn(AuthenticatedUser.from(testNonLawyerUser));
 
             // When
             boolean result = lawyerVerificationChecker.isLawyer();
@@ -349,7 +360,7 @@ class LawyerVerificationCheckerTest {
         setupAuthenticationWithRole("ROLE_LAWYER");
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = org.mockito.Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo))
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo))
                     .thenThrow(new RuntimeException("Database error"));
 
             // When
@@ -368,9 +379,9 @@ class LawyerVerificationCheckerTest {
         setupAuthenticationWithRole("ROLE_LAWYER");
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = org.mockito.Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo))
-                    .thenReturn(testUser);
-            when(lawyerRepo.findByUser(testUser)).thenReturn(Optional.of(testLawyer));
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo))
+                    .thenReturn(AuthenticatedUser.from(testUser));
+            when(lawyerRepo.findByUserId(testUser.getId())).thenReturn(Optional.of(testLawyer));
 
             // When
             boolean result = lawyerVerificationChecker.isLawyer();
@@ -388,9 +399,9 @@ class LawyerVerificationCheckerTest {
         setupAuthenticationWithRole("ROLE_LAWYER");
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = org.mockito.Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo))
-                    .thenReturn(testUser);
-            when(lawyerRepo.findByUser(testUser)).thenReturn(Optional.of(testLawyer));
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo))
+                    .thenReturn(AuthenticatedUser.from(testUser));
+            when(lawyerRepo.findByUserId(testUser.getId())).thenReturn(Optional.of(testLawyer));
 
             // When
             boolean result = lawyerVerificationChecker.isLawyer();
@@ -429,6 +440,54 @@ class LawyerVerificationCheckerTest {
         assertFalse(result);
     }
 
+    @Test
+    @DisplayName("Should load lawyer status once for repeated checks")
+    void shouldLoadLawyerStatusOnceForRepeatedChecks() {
+        // Given
+        setupAuthenticationWithRole("ROLE_LAWYER");
+
+        try (MockedStatic<GetUserUtil> mockedGetUserUtil = org.mockito.Mockito.mockStatic(GetUserUtil.class)) {
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo))
+                    .thenReturn(AuthenticatedUser.from(testUser));
+            when(lawyerRepo.findByUserId(testUser.getId())).thenReturn(Optional.of(testLawyer));
+
+            // When
+            boolean verified = lawyerVerificationChecker.isVerifiedLawyer();
+            boolean lawyer = lawyerVerificationChecker.isLawyer();
+            boolean verifiedAgain = lawyerVerificationChecker.isVerifiedLawyer();
+
+            // Then
+            assertTrue(verified);
+            assertTrue(lawyer);
+            assertTrue(verifiedAgain);
+            verify(lawyerRepo, times(1)).findByUserId(testUser.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reload lawyer status after status change event")
+    void shouldReloadLawyerStatusAfterStatusChangeEvent() {
+        // Given
+        testLawyer.setVerificationStatus(VerificationStatus.PENDING);
+        setupAuthenticationWithRole("ROLE_LAWYER");
+
+        try (MockedStatic<GetUserUtil> mockedGetUserUtil = org.mockito.Mockito.mockStatic(GetUserUtil.class)) {
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo))
+                    .thenReturn(AuthenticatedUser.from(testUser));
+            when(lawyerRepo.findByUserId(testUser.getId())).thenReturn(Optional.of(testLawyer));
+            assertFalse(lawyerVerificationChecker.isVerifiedLawyer());
+
+            // When
+            testLawyer.setVerificationStatus(VerificationStatus.APPROVED);
+            lawyerStatusCache.onLawyerStatusChanged(new LawyerStatusChangedEvent(testUser.getId()));
+
+            // Then
+            assertTrue(lawyerVerificationChecker.isVerifiedLawyer());
+            verify(lawyerRepo, times(2)).findByUserId(testUser.getId());
+            verify(redisTemplate).convertAndSend(LawyerStatusCache.EVICTION_CHANNEL, testUser.getId().toString());
+        }
+    }
+
     private void setupAuthenticationWithRole(String role) {
         Collection<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(role));
         when(securityContext.getAuthentication()).thenReturn(authentication);
@@ -0,0 +1,66 @@
+package com.javajedis.legalconnect.common.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ParsedToken.
+ */
+@DisplayName("ParsedToken Tests")
+class ParsedTokenTest {
+
+    @Test
+    @DisplayName("Should report token with future expiration as not expired")
+    void shouldReportTokenWithFutureExpirationAsNotExpired() {
+        ParsedToken token = createToken(new Date(System.currentTimeMillis() + 60_000));
+
+        assertFalse(token.isExpired());
+    }
+
+    @Test
+    @DisplayName("Should report token with past expiration as expired")
+    void shouldReportTokenWithPastExpirationAsExpired() {
+        ParsedToken token = createToken(new Date(System.currentTimeMillis() - 60_000));
+
+        assertTrue(token.isExpired());
+    }
+
+    @Test
+    @DisplayName("Should treat token without expiration as not expired")
+    void shouldTreatTokenWithoutExpirationAsNotExpired() {
+        ParsedToken token = createToken(null);
+
+        assertFalse(token.isExpired());
+    }
+
+    @Test
+    @DisplayName("Should expose all claims")
+    void shouldExposeAllClaims() {
+        Date issuedAt = new Date();
+        Date expiration = new Date(issuedAt.getTime() + 60_000);
+        ParsedToken token = new ParsedToken("test@example.com", "user-id", "LAWYER", "John", "Doe",
+                false, "ACCESS", 3L, issuedAt, expiration);
+
+        assertEquals("test@example.com", token.subject());
+        assertEquals("user-id", token.userId());
+        assertEquals("LAWYER", token.role());
+        assertEquals("John", token.firstName());
+        assertEquals("Doe", token.lastName());
+        assertEquals(false, token.emailVerified());
+        assertEquals("ACCESS", token.tokenType());
+        assertEquals(3L, token.tokenVersion());
+        assertEquals(issuedAt, token.issuedAt());
+        assertEquals(expiration, token.expiration());
+    }
+
+    private ParsedToken createToken(Date expiration) {
+        return new ParsedToken("test@example.com", "user-id", "USER", "John", "Doe",
+                true, "ACCESS", 0L, new Date(), expiration);
+    }
+}
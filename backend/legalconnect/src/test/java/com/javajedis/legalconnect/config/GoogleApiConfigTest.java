@@ -0,0 +1,27 @@
+package com.javajedis.legalconnect.config;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.apache.v2.ApacheHttpTransport;
+
+@DisplayName("GoogleApiConfig Tests")
+class GoogleApiConfigTest {
+
+    @Test
+    @DisplayName("Should create a pooled transport trusting Google's certificates")
+    void googleHttpTransport_CreatesPooledTransport() throws Exception {
+        // Act
+        HttpTransport transport = new GoogleApiConfig().googleHttpTransport();
+
+        // Assert
+        assertNotNull(transport);
+        ApacheHttpTransport apacheTransport = assertInstanceOf(ApacheHttpTransport.class, transport);
+        assertNotNull(apacheTransport.getHttpClient());
+        apacheTransport.shutdown();
+    }
+}
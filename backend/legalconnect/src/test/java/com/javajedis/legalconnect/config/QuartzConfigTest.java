@@ -0,0 +1,32 @@
+package com.javajedis.legalconnect.config;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.quartz.SchedulerFactoryBean;
+
+import com.javajedis.legalconnect.jobscheduler.QuartzJobMetricsListener;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("QuartzConfig Tests")
+class QuartzConfigTest {
+
+    private final QuartzConfig quartzConfig = new QuartzConfig();
+
+    @Test
+    @DisplayName("Should register the metrics listener as global job and trigger listener")
+    void quartzJobMetricsCustomizer_RegistersListener() {
+        QuartzJobMetricsListener listener = quartzConfig.quartzJobMetricsListener(new SimpleMeterRegistry());
+        SchedulerFactoryBean schedulerFactoryBean = mock(SchedulerFactoryBean.class);
+
+        quartzConfig.quartzJobMetricsCustomizer(listener).customize(schedulerFactoryBean);
+
+        assertNotNull(listener);
+        verify(schedulerFactoryBean).setGlobalJobListeners(listener);
+        verify(schedulerFactoryBean).setGlobalTriggerListeners(listener);
+    }
+}
@@ -0,0 +1,38 @@
+package com.javajedis.legalconnect.config;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.javajedis.legalconnect.common.security.LawyerStatusCache;
+import com.javajedis.legalconnect.common.security.TokenRevocationService;
+import com.javajedis.legalconnect.common.service.WebSocketService;
+import com.javajedis.legalconnect.notifications.NotificationPreferenceCache;
+
+@DisplayName("RedisPubSubConfig Tests")
+class RedisPubSubConfigTest {
+
+    @Test
+    @DisplayName("Should create listener container bound to the connection factory")
+    void redisMessageListenerContainer_UsesConnectionFactory() {
+        RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+        TokenRevocationService tokenRevocationService = mock(TokenRevocationService.class);
+        LawyerStatusCache lawyerStatusCache = mock(LawyerStatusCache.class);
+        WebSocketService webSocketService = mock(WebSocketService.class);
+        when(webSocketService.nodeChannel()).thenReturn(WebSocketService.RELAY_CHANNEL + ":node-1");
+        NotificationPreferenceCache notificationPreferenceCache = mock(NotificationPreferenceCache.class);
+
+        RedisMessageListenerContainer container = new RedisPubSubConfig()
+                .redisMessageListenerContainer(connectionFactory, tokenRevocationService, lawyerStatusCache,
+                        webSocketService, notificationPreferenceCache);
+
+        assertNotNull(container);
+        assertSame(connectionFactory, container.getConnectionFactory());
+    }
+}
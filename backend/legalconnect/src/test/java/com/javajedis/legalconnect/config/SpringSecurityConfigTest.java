@@ -14,7 +14,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -22,6 +21,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import com.javajedis.legalconnect.common.security.TokenRevocationService;
 import com.javajedis.legalconnect.common.utility.EmailVerificationFilter;
 import com.javajedis.legalconnect.common.utility.JWTFilter;
 
@@ -34,7 +34,7 @@ import com.javajedis.legalconnect.common.utility.JWTFilter;
 class SpringSecurityConfigTest {
 
     @Mock
-    private StringRedisTemplate redisTemplate;
+    private TokenRevocationService tokenRevocationService;
 
 
 
@@ -46,27 +46,27 @@ class SpringSecurityConfigTest {
 
     @BeforeEach
     void setUp() {
-        springSecurityConfig = new SpringSecurityConfig(redisTemplate);
+        springSecurityConfig = new SpringSecurityConfig(tokenRevocationService);
     }
 
     // CONSTRUCTOR TESTS
 
     @Test
-    @DisplayName("Should create SpringSecurityConfig with RedisTemplate successfully")
-    void testConstructorWithRedisTemplate() {
+    @DisplayName("Should create SpringSecurityConfig with TokenRevocationService successfully")
+    void testConstructorWithTokenRevocationService() {
         // Arrange
-        StringRedisTemplate testRedisTemplate = mock(StringRedisTemplate.class);
+        TokenRevocationService testRevocationService = mock(TokenRevocationService.class);
 
         // Act
-        SpringSecurityConfig config = new SpringSecurityConfig(testRedisTemplate);
+        SpringSecurityConfig config = new SpringSecurityConfig(testRevocationService);
 
         // Assert
         assertNotNull(config);
     }
 
     @Test
-    @DisplayName("Should handle null RedisTemplate in constructor")
-    void testConstructorWithNullRedisTemplate() {
+    @DisplayName("Should handle null TokenRevocationService in constructor")
+    void testConstructorWithNullTokenRevocationService() {
         // Act & Assert - Should not throw exception
         SpringSecurityConfig config = new SpringSecurityConfig(null);
         assertNotNull(config);
@@ -242,15 +242,15 @@ class SpringSecurityConfigTest {
     // EDGE CASES
 
     @Test
-    @DisplayName("Should handle configuration with different RedisTemplate instances")
-    void testDifferentRedisTemplateInstancesCreation() {
+    @DisplayName("Should handle configuration with different TokenRevocationService instances")
+    void testDifferentTokenRevocationServiceInstancesCreation() {
         // Arrange
-        StringRedisTemplate redis1 = mock(StringRedisTemplate.class);
-        StringRedisTemplate redis2 = mock(StringRedisTemplate.class);
+        TokenRevocationService revocation1 = mock(TokenRevocationService.class);
+        TokenRevocationService revocation2 = mock(TokenRevocationService.class);
 
         // Act
-        SpringSecurityConfig config1 = new SpringSecurityConfig(redis1);
-        SpringSecurityConfig config2 = new SpringSecurityConfig(redis2);
+        SpringSecurityConfig config1 = new SpringSecurityConfig(revocation1);
+        SpringSecurityConfig config2 = new SpringSecurityConfig(revocation2);
 
         // Assert
         assertNotNull(config1);
@@ -9,8 +9,10 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -25,10 +27,14 @@ import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.GenericMessage;
+import org.springframework.security.authentication.CredentialsExpiredException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+import com.javajedis.legalconnect.common.security.ClaimsPrincipalResolver;
+import com.javajedis.legalconnect.common.service.WebSocketSessionIndex;
 import com.javajedis.legalconnect.common.utility.JWTUtil;
+import com.javajedis.legalconnect.common.utility.ParsedToken;
 
 /**
  * Unit tests for WebSocketAuthInterceptor.
@@ -51,6 +57,12 @@ class WebSocketAuthInterceptorTest {
     @Mock
     private MessageChannel messageChannel;
 
+    @Mock
+    private WebSocketSessionIndex sessionIndex;
+
+    @Mock
+    private ClaimsPrincipalResolver claimsPrincipalResolver;
+
     @InjectMocks
     private WebSocketAuthInterceptor interceptor;
 
@@ -68,6 +80,21 @@ class WebSocketAuthInterceptorTest {
         headerAccessor.setSessionAttributes(sessionAttributes);
     }
 
+    private ParsedToken createParsedToken(String userId, String email, String role) {
+        return new ParsedToken(email, userId, role, "John", "Doe", true, "ACCESS", 0L,
+                new Date(), new Date(System.currentTimeMillis() + 60_000));
+    }
+
+    private ParsedToken createVersionedToken(long tokenVersion) {
+        return new ParsedToken(TEST_EMAIL, TEST_USER_ID, TEST_ROLE, "John", "Doe", true, "ACCESS", tokenVersion,
+                new Date(), new Date(System.currentTimeMillis() + 60_000));
+    }
+
+    private ParsedToken createExpiredToken() {
+        return new ParsedToken(TEST_EMAIL, TEST_USER_ID, TEST_ROLE, "John", "Doe", true, "ACCESS", 0L,
+                new Date(System.currentTimeMillis() - 120_000), new Date(System.currentTimeMillis() - 60_000));
+    }
+
     private Message<?> createMessageWithHeaders(StompHeaderAccessor accessor) {
         // Create a message that can be properly processed by the interceptor
         // Use a mutable copy of the headers to avoid "Already immutable" errors
@@ -75,6 +102,44 @@ class WebSocketAuthInterceptorTest {
         return new GenericMessage<>("test", accessor.getMessageHeaders());
     }
 
+    @Test
+    @DisplayName("Should reject a token issued before the user's latest security change")
+    void preSend_StaleTokenVersion_ReturnsNull() {
+        // Given
+        headerAccessor.setNativeHeader("Authorization", "Bearer " + VALID_TOKEN);
+        Message<?> testMessage = createMessageWithHeaders(headerAccessor);
+
+        ParsedToken parsedToken = createVersionedToken(1L);
+        when(jwtUtil.parseToken(VALID_TOKEN)).thenReturn(parsedToken);
+        when(claimsPrincipalResolver.resolve(parsedToken)).thenThrow(new CredentialsExpiredException("stale"));
+
+        // When
+        Message<?> result = interceptor.preSend(testMessage, messageChannel);
+
+        // Then
+        assertNull(result);
+        assertTrue(sessionAttributes.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should accept an older token version when the version is not enforced")
+    void preSend_TokenVersionNotEnforced_Success() {
+        // Given
+        headerAccessor.setNativeHeader("Authorization", "Bearer " + VALID_TOKEN);
+        Message<?> testMessage = createMessageWithHeaders(headerAccessor);
+
+        ParsedToken parsedToken = createVersionedToken(1L);
+        when(jwtUtil.parseToken(VALID_TOKEN)).thenReturn(parsedToken);
+        when(claimsPrincipalResolver.resolve(parsedToken)).thenReturn(Optional.empty());
+
+        // When
+        Message<?> result = interceptor.preSend(testMessage, messageChannel);
+
+        // Then
+        assertEquals(testMessage, result);
+        assertEquals(TEST_USER_ID, sessionAttributes.get("userId"));
+    }
+
     @Test
     @DisplayName("Should authenticate valid JWT token from Authorization header")
     void preSend_ValidTokenFromAuthorizationHeader_Success() {
@@ -82,10 +147,7 @@ class WebSocketAuthInterceptorTest {
         headerAccessor.setNativeHeader("Authorization", "Bearer " + VALID_TOKEN);
         Message<?> testMessage = createMessageWithHeaders(headerAccessor);
         
-        when(jwtUtil.validateToken(VALID_TOKEN)).thenReturn(true);
-        when(jwtUtil.extractUserId(VALID_TOKEN)).thenReturn(TEST_USER_ID);
-        when(jwtUtil.extractUsername(VALID_TOKEN)).thenReturn(TEST_EMAIL);
-        when(jwtUtil.extractUserRole(VALID_TOKEN)).thenReturn(TEST_ROLE);
+        when(jwtUtil.parseToken(VALID_TOKEN)).thenReturn(createParsedToken(TEST_USER_ID, TEST_EMAIL, TEST_ROLE));
 
         // When
         Message<?> result = interceptor.preSend(testMessage, messageChannel);
@@ -95,10 +157,7 @@ class WebSocketAuthInterceptorTest {
         assertEquals(testMessage, result);
         
         // Verify JWT methods were called
-        verify(jwtUtil).validateToken(VALID_TOKEN);
-        verify(jwtUtil).extractUserId(VALID_TOKEN);
-        verify(jwtUtil).extractUsername(VALID_TOKEN);
-        verify(jwtUtil).extractUserRole(VALID_TOKEN);
+        verify(jwtUtil).parseToken(VALID_TOKEN);
         
         // Verify session attributes were set
         assertEquals(TEST_USER_ID, sessionAttributes.get("userId"));
@@ -120,10 +179,7 @@ class WebSocketAuthInterceptorTest {
         headerAccessor.setNativeHeader("token", VALID_TOKEN);
         Message<?> testMessage = createMessageWithHeaders(headerAccessor);
         
-        when(jwtUtil.validateToken(VALID_TOKEN)).thenReturn(true);
-        when(jwtUtil.extractUserId(VALID_TOKEN)).thenReturn(TEST_USER_ID);
-        when(jwtUtil.extractUsername(VALID_TOKEN)).thenReturn(TEST_EMAIL);
-        when(jwtUtil.extractUserRole(VALID_TOKEN)).thenReturn(TEST_ROLE);
+        when(jwtUtil.parseToken(VALID_TOKEN)).thenReturn(createParsedToken(TEST_USER_ID, TEST_EMAIL, TEST_ROLE));
 
         // When
         Message<?> result = interceptor.preSend(testMessage, messageChannel);
@@ -133,10 +189,7 @@ class WebSocketAuthInterceptorTest {
         assertEquals(testMessage, result);
         
         // Verify JWT methods were called
-        verify(jwtUtil).validateToken(VALID_TOKEN);
-        verify(jwtUtil).extractUserId(VALID_TOKEN);
-        verify(jwtUtil).extractUsername(VALID_TOKEN);
-        verify(jwtUtil).extractUserRole(VALID_TOKEN);
+        verify(jwtUtil).parseToken(VALID_TOKEN);
         
         // Verify session attributes were set
         assertEquals(TEST_USER_ID, sessionAttributes.get("userId"));
@@ -157,12 +210,27 @@ class WebSocketAuthInterceptorTest {
         assertNull(result);
         
         // Verify JWT methods were not called
-        verify(jwtUtil, never()).validateToken(anyString());
+        verify(jwtUtil, never()).parseToken(anyString());
         verify(jwtUtil, never()).extractUserId(anyString());
         verify(jwtUtil, never()).extractUsername(anyString());
         verify(jwtUtil, never()).extractUserRole(anyString());
     }
 
+    @Test
+    @DisplayName("Should record session activity for non-CONNECT messages")
+    void preSend_NonConnectMessage_TouchesSession() {
+        // Given
+        StompHeaderAccessor sendAccessor = StompHeaderAccessor.create(StompCommand.SEND);
+        sendAccessor.setSessionId(TEST_SESSION_ID);
+        Message<?> sendMessage = createMessageWithHeaders(sendAccessor);
+
+        // When
+        interceptor.preSend(sendMessage, messageChannel);
+
+        // Then
+        verify(sessionIndex).touch(TEST_SESSION_ID);
+    }
+
     @Test
     @DisplayName("Should reject connection when empty JWT token provided")
     void preSend_EmptyToken_ReturnsNull() {
@@ -177,7 +245,7 @@ class WebSocketAuthInterceptorTest {
         assertNull(result);
         
         // Verify JWT methods were not called
-        verify(jwtUtil, never()).validateToken(anyString());
+        verify(jwtUtil, never()).parseToken(anyString());
     }
 
     @Test
@@ -194,7 +262,7 @@ class WebSocketAuthInterceptorTest {
         assertNull(result);
         
         // Verify JWT methods were not called
-        verify(jwtUtil, never()).validateToken(anyString());
+        verify(jwtUtil, never()).parseToken(anyString());
     }
 
     @Test
@@ -204,7 +272,7 @@ class WebSocketAuthInterceptorTest {
         headerAccessor.setNativeHeader("Authorization", "Bearer " + INVALID_TOKEN);
         Message<?> testMessage = createMessageWithHeaders(headerAccessor);
         
-        when(jwtUtil.validateToken(INVALID_TOKEN)).thenReturn(false);
+        when(jwtUtil.parseToken(INVALID_TOKEN)).thenReturn(createExpiredToken());
 
         // When
         Message<?> result = interceptor.preSend(testMessage, messageChannel);
@@ -212,8 +280,8 @@ class WebSocketAuthInterceptorTest {
         // Then
         assertNull(result);
         
-        // Verify validation was called but extraction methods were not
-        verify(jwtUtil).validateToken(INVALID_TOKEN);
+        // Verify the token was parsed and rejected as expired
+        verify(jwtUtil).parseToken(INVALID_TOKEN);
         verify(jwtUtil, never()).extractUserId(anyString());
         verify(jwtUtil, never()).extractUsername(anyString());
         verify(jwtUtil, never()).extractUserRole(anyString());
@@ -226,10 +294,7 @@ class WebSocketAuthInterceptorTest {
         headerAccessor.setNativeHeader("Authorization", "Bearer " + VALID_TOKEN);
         Message<?> testMessage = createMessageWithHeaders(headerAccessor);
         
-        when(jwtUtil.validateToken(VALID_TOKEN)).thenReturn(true);
-        when(jwtUtil.extractUserId(VALID_TOKEN)).thenReturn(null);
-        when(jwtUtil.extractUsername(VALID_TOKEN)).thenReturn(TEST_EMAIL);
-        when(jwtUtil.extractUserRole(VALID_TOKEN)).thenReturn(TEST_ROLE);
+        when(jwtUtil.parseToken(VALID_TOKEN)).thenReturn(createParsedToken(null, TEST_EMAIL, TEST_ROLE));
 
         // When
         Message<?> result = interceptor.preSend(testMessage, messageChannel);
@@ -237,11 +302,8 @@ class WebSocketAuthInterceptorTest {
         // Then
         assertNull(result);
         
-        // Verify all JWT methods were called (interceptor extracts all claims first)
-        verify(jwtUtil).validateToken(VALID_TOKEN);
-        verify(jwtUtil).extractUserId(VALID_TOKEN);
-        verify(jwtUtil).extractUsername(VALID_TOKEN);
-        verify(jwtUtil).extractUserRole(VALID_TOKEN);
+        // Verify the token was parsed once (interceptor reads all claims from the parsed token)
+        verify(jwtUtil).parseToken(VALID_TOKEN);
     }
 
     @Test
@@ -251,10 +313,7 @@ class WebSocketAuthInterceptorTest {
         headerAccessor.setNativeHeader("Authorization", "Bearer " + VALID_TOKEN);
         Message<?> testMessage = createMessageWithHeaders(headerAccessor);
         
-        when(jwtUtil.validateToken(VALID_TOKEN)).thenReturn(true);
-        when(jwtUtil.extractUserId(VALID_TOKEN)).thenReturn("  ");
-        when(jwtUtil.extractUsername(VALID_TOKEN)).thenReturn(TEST_EMAIL);
-        when(jwtUtil.extractUserRole(VALID_TOKEN)).thenReturn(TEST_ROLE);
+        when(jwtUtil.parseToken(VALID_TOKEN)).thenReturn(createParsedToken("  ", TEST_EMAIL, TEST_ROLE));
 
         // When
         Message<?> result = interceptor.preSend(testMessage, messageChannel);
@@ -262,11 +321,8 @@ class WebSocketAuthInterceptorTest {
         // Then
         assertNull(result);
         
-        // Verify all JWT methods were called (interceptor extracts all claims first)
-        verify(jwtUtil).validateToken(VALID_TOKEN);
-        verify(jwtUtil).extractUserId(VALID_TOKEN);
-        verify(jwtUtil).extractUsername(VALID_TOKEN);
-        verify(jwtUtil).extractUserRole(VALID_TOKEN);
+        // Verify the token was parsed once (interceptor reads all claims from the parsed token)
+        verify(jwtUtil).parseToken(VALID_TOKEN);
     }
 
     @Test
@@ -276,10 +332,7 @@ class WebSocketAuthInterceptorTest {
         headerAccessor.setNativeHeader("Authorization", "Bearer " + VALID_TOKEN);
         Message<?> testMessage = createMessageWithHeaders(headerAccessor);
         
-        when(jwtUtil.validateToken(VALID_TOKEN)).thenReturn(true);
-        when(jwtUtil.extractUserId(VALID_TOKEN)).thenReturn(TEST_USER_ID);
-        when(jwtUtil.extractUsername(VALID_TOKEN)).thenReturn(null);
-        when(jwtUtil.extractUserRole(VALID_TOKEN)).thenReturn(TEST_ROLE);
+        when(jwtUtil.parseToken(VALID_TOKEN)).thenReturn(createParsedToken(TEST_USER_ID, null, TEST_ROLE));
 
         // When
         Message<?> result = interceptor.preSend(testMessage, messageChannel);
@@ -287,11 +340,8 @@ class WebSocketAuthInterceptorTest {
         // Then
         assertNull(result);
         
-        // Verify all JWT methods were called (interceptor extracts all claims first)
-        verify(jwtUtil).validateToken(VALID_TOKEN);
-        verify(jwtUtil).extractUserId(VALID_TOKEN);
-        verify(jwtUtil).extractUsername(VALID_TOKEN);
-        verify(jwtUtil).extractUserRole(VALID_TOKEN);
+        // Verify the token was parsed once (interceptor reads all claims from the parsed token)
+        verify(jwtUtil).parseToken(VALID_TOKEN);
     }
 
     @Test
@@ -301,10 +351,7 @@ class WebSocketAuthInterceptorTest {
         headerAccessor.setNativeHeader("Authorization", "Bearer " + VALID_TOKEN);
         Message<?> testMessage = createMessageWithHeaders(headerAccessor);
         
-        when(jwtUtil.validateToken(VALID_TOKEN)).thenReturn(true);
-        when(jwtUtil.extractUserId(VALID_TOKEN)).thenReturn(TEST_USER_ID);
-        when(jwtUtil.extractUsername(VALID_TOKEN)).thenReturn("   ");
-        when(jwtUtil.extractUserRole(VALID_TOKEN)).thenReturn(TEST_ROLE);
+        when(jwtUtil.parseToken(VALID_TOKEN)).thenReturn(createParsedToken(TEST_USER_ID, "   ", TEST_ROLE));
 
         // When
         Message<?> result = interceptor.preSend(testMessage, messageChannel);
@@ -312,11 +359,8 @@ class WebSocketAuthInterceptorTest {
         // Then
         assertNull(result);
         
-        // Verify all JWT methods were called (interceptor extracts all claims first)
-        verify(jwtUtil).validateToken(VALID_TOKEN);
-        verify(jwtUtil).extractUserId(VALID_TOKEN);
-        verify(jwtUtil).extractUsername(VALID_TOKEN);
-        verify(jwtUtil).extractUserRole(VALID_TOKEN);
+        // Verify the token was parsed once (interceptor reads all claims from the parsed token)
+        verify(jwtUtil).parseToken(VALID_TOKEN);
     }
 
     @Test
@@ -327,10 +371,7 @@ class WebSocketAuthInterceptorTest {
         headerAccessor.setSessionAttributes(null);
         Message<?> testMessage = createMessageWithHeaders(headerAccessor);
         
-        when(jwtUtil.validateToken(VALID_TOKEN)).thenReturn(true);
-        when(jwtUtil.extractUserId(VALID_TOKEN)).thenReturn(TEST_USER_ID);
-        when(jwtUtil.extractUsername(VALID_TOKEN)).thenReturn(TEST_EMAIL);
-        when(jwtUtil.extractUserRole(VALID_TOKEN)).thenReturn(TEST_ROLE);
+        when(jwtUtil.parseToken(VALID_TOKEN)).thenReturn(createParsedToken(TEST_USER_ID, TEST_EMAIL, TEST_ROLE));
 
         // When
         Message<?> result = interceptor.preSend(testMessage, messageChannel);
@@ -340,10 +381,7 @@ class WebSocketAuthInterceptorTest {
         assertEquals(testMessage, result);
         
         // Verify JWT methods were called
-        verify(jwtUtil).validateToken(VALID_TOKEN);
-        verify(jwtUtil).extractUserId(VALID_TOKEN);
-        verify(jwtUtil).extractUsername(VALID_TOKEN);
-        verify(jwtUtil).extractUserRole(VALID_TOKEN);
+        verify(jwtUtil).parseToken(VALID_TOKEN);
         
         // Verify authentication was still set despite null session attributes
         StompHeaderAccessor resultAccessor = StompHeaderAccessor.wrap(result);
@@ -359,10 +397,7 @@ class WebSocketAuthInterceptorTest {
         headerAccessor.setNativeHeader("Authorization", "Bearer " + VALID_TOKEN);
         Message<?> testMessage = createMessageWithHeaders(headerAccessor);
         
-        when(jwtUtil.validateToken(VALID_TOKEN)).thenReturn(true);
-        when(jwtUtil.extractUserId(VALID_TOKEN)).thenReturn(TEST_USER_ID);
-        when(jwtUtil.extractUsername(VALID_TOKEN)).thenReturn(TEST_EMAIL);
-        when(jwtUtil.extractUserRole(VALID_TOKEN)).thenReturn(null);
+        when(jwtUtil.parseToken(VALID_TOKEN)).thenReturn(createParsedToken(TEST_USER_ID, TEST_EMAIL, null));
 
         // When & Then - expect NullPointerException due to Map.of() not accepting null values
         try {
@@ -373,10 +408,7 @@ class WebSocketAuthInterceptorTest {
         }
         
         // Verify JWT methods were called
-        verify(jwtUtil).validateToken(VALID_TOKEN);
-        verify(jwtUtil).extractUserId(VALID_TOKEN);
-        verify(jwtUtil).extractUsername(VALID_TOKEN);
-        verify(jwtUtil).extractUserRole(VALID_TOKEN);
+        verify(jwtUtil).parseToken(VALID_TOKEN);
     }
 
     @Test
@@ -394,7 +426,7 @@ class WebSocketAuthInterceptorTest {
         assertEquals(nonConnectMessage, result);
         
         // Verify JWT methods were not called
-        verify(jwtUtil, never()).validateToken(anyString());
+        verify(jwtUtil, never()).parseToken(anyString());
         verify(jwtUtil, never()).extractUserId(anyString());
         verify(jwtUtil, never()).extractUsername(anyString());
         verify(jwtUtil, never()).extractUserRole(anyString());
@@ -414,7 +446,7 @@ class WebSocketAuthInterceptorTest {
         assertEquals(messageWithoutHeaders, result);
         
         // Verify JWT methods were not called
-        verify(jwtUtil, never()).validateToken(anyString());
+        verify(jwtUtil, never()).parseToken(anyString());
     }
 
     @Test
@@ -424,10 +456,7 @@ class WebSocketAuthInterceptorTest {
         headerAccessor.setNativeHeader("Authorization", "Bearer " + VALID_TOKEN);
         Message<?> testMessage = createMessageWithHeaders(headerAccessor);
         
-        when(jwtUtil.validateToken(VALID_TOKEN)).thenReturn(true);
-        when(jwtUtil.extractUserId(VALID_TOKEN)).thenReturn(TEST_USER_ID);
-        when(jwtUtil.extractUsername(VALID_TOKEN)).thenReturn(TEST_EMAIL);
-        when(jwtUtil.extractUserRole(VALID_TOKEN)).thenReturn(TEST_ROLE);
+        when(jwtUtil.parseToken(VALID_TOKEN)).thenReturn(createParsedToken(TEST_USER_ID, TEST_EMAIL, TEST_ROLE));
 
         // When
         Message<?> result = interceptor.preSend(testMessage, messageChannel);
@@ -467,7 +496,7 @@ class WebSocketAuthInterceptorTest {
         assertNull(result);
         
         // Verify JWT methods were not called since token extraction failed
-        verify(jwtUtil, never()).validateToken(anyString());
+        verify(jwtUtil, never()).parseToken(anyString());
     }
 
     @Test
@@ -478,10 +507,7 @@ class WebSocketAuthInterceptorTest {
         headerAccessor.setNativeHeader("token", "other-token");
         Message<?> testMessage = createMessageWithHeaders(headerAccessor);
         
-        when(jwtUtil.validateToken(VALID_TOKEN)).thenReturn(true);
-        when(jwtUtil.extractUserId(VALID_TOKEN)).thenReturn(TEST_USER_ID);
-        when(jwtUtil.extractUsername(VALID_TOKEN)).thenReturn(TEST_EMAIL);
-        when(jwtUtil.extractUserRole(VALID_TOKEN)).thenReturn(TEST_ROLE);
+        when(jwtUtil.parseToken(VALID_TOKEN)).thenReturn(createParsedToken(TEST_USER_ID, TEST_EMAIL, TEST_ROLE));
 
         // When
         Message<?> result = interceptor.preSend(testMessage, messageChannel);
@@ -490,8 +516,8 @@ class WebSocketAuthInterceptorTest {
         assertNotNull(result);
         
         // Verify the Authorization header token was used, not the token header
-        verify(jwtUtil).validateToken(VALID_TOKEN);
-        verify(jwtUtil, never()).validateToken("other-token");
+        verify(jwtUtil).parseToken(VALID_TOKEN);
+        verify(jwtUtil, never()).parseToken("other-token");
     }
 
     @Test
@@ -502,10 +528,7 @@ class WebSocketAuthInterceptorTest {
         headerAccessor.addNativeHeader("Authorization", "Bearer other-token");
         Message<?> testMessage = createMessageWithHeaders(headerAccessor);
         
-        when(jwtUtil.validateToken(VALID_TOKEN)).thenReturn(true);
-        when(jwtUtil.extractUserId(VALID_TOKEN)).thenReturn(TEST_USER_ID);
-        when(jwtUtil.extractUsername(VALID_TOKEN)).thenReturn(TEST_EMAIL);
-        when(jwtUtil.extractUserRole(VALID_TOKEN)).thenReturn(TEST_ROLE);
+        when(jwtUtil.parseToken(VALID_TOKEN)).thenReturn(createParsedToken(TEST_USER_ID, TEST_EMAIL, TEST_ROLE));
 
         // When
         Message<?> result = interceptor.preSend(testMessage, messageChannel);
@@ -514,8 +537,8 @@ class WebSocketAuthInterceptorTest {
         assertNotNull(result);
         
         // Verify the first Authorization header token was used
-        verify(jwtUtil).validateToken(VALID_TOKEN);
-        verify(jwtUtil, never()).validateToken("other-token");
+        verify(jwtUtil).parseToken(VALID_TOKEN);
+        verify(jwtUtil, never()).parseToken("other-token");
     }
 
     @Test
@@ -526,10 +549,7 @@ class WebSocketAuthInterceptorTest {
         headerAccessor.addNativeHeader("token", "other-token");
         Message<?> testMessage = createMessageWithHeaders(headerAccessor);
         
-        when(jwtUtil.validateToken(VALID_TOKEN)).thenReturn(true);
-        when(jwtUtil.extractUserId(VALID_TOKEN)).thenReturn(TEST_USER_ID);
-        when(jwtUtil.extractUsername(VALID_TOKEN)).thenReturn(TEST_EMAIL);
-        when(jwtUtil.extractUserRole(VALID_TOKEN)).thenReturn(TEST_ROLE);
+        when(jwtUtil.parseToken(VALID_TOKEN)).thenReturn(createParsedToken(TEST_USER_ID, TEST_EMAIL, TEST_ROLE));
 
         // When
         Message<?> result = interceptor.preSend(testMessage, messageChannel);
@@ -538,8 +558,8 @@ class WebSocketAuthInterceptorTest {
         assertNotNull(result);
         
         // Verify the first token header value was used
-        verify(jwtUtil).validateToken(VALID_TOKEN);
-        verify(jwtUtil, never()).validateToken("other-token");
+        verify(jwtUtil).parseToken(VALID_TOKEN);
+        verify(jwtUtil, never()).parseToken("other-token");
     }
 
     @Test
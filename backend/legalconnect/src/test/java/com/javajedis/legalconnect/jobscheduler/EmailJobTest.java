@@ -90,7 +90,7 @@ class EmailJobTest {
         assertDoesNotThrow(() -> emailJob.execute(context));
 
         // Then
-        verify(emailService, times(1)).sendTemplateEmail(
+        verify(emailService, times(1)).deliverTemplateEmail(
                 eq(testReceiverEmail),
                 eq(testSubject),
                 eq(testEmailTemplate),
@@ -111,7 +111,7 @@ class EmailJobTest {
         assertDoesNotThrow(() -> emailJob.execute(context));
 
         // Then
-        verify(emailService, times(1)).sendTemplateEmail(
+        verify(emailService, times(1)).deliverTemplateEmail(
                 testReceiverEmail,
                 testSubject,
                 testEmailTemplate,
@@ -131,7 +131,7 @@ class EmailJobTest {
         });
 
         assertEquals("Failed to execute Email notification job", exception.getMessage());
-        verify(emailService, never()).sendTemplateEmail(anyString(), anyString(), anyString(), anyMap());
+        verify(emailService, never()).deliverTemplateEmail(anyString(), anyString(), anyString(), anyMap());
     }
 
     @Test
@@ -146,7 +146,7 @@ class EmailJobTest {
         });
 
         assertEquals("Failed to execute Email notification job", exception.getMessage());
-        verify(emailService, never()).sendTemplateEmail(anyString(), anyString(), anyString(), anyMap());
+        verify(emailService, never()).deliverTemplateEmail(anyString(), anyString(), anyString(), anyMap());
     }
 
     @Test
@@ -154,7 +154,7 @@ class EmailJobTest {
     void execute_EmailServiceException_ThrowsJobExecutionException() {
         // Given
         doThrow(new RuntimeException("Email service error")).when(emailService)
-                .sendTemplateEmail(anyString(), anyString(), anyString(), anyMap());
+                .deliverTemplateEmail(anyString(), anyString(), anyString(), anyMap());
 
         // When & Then
         JobExecutionException exception = assertThrows(JobExecutionException.class, () -> {
@@ -162,7 +162,7 @@ class EmailJobTest {
         });
 
         assertEquals("Failed to execute Email notification job", exception.getMessage());
-        verify(emailService, times(1)).sendTemplateEmail(
+        verify(emailService, times(1)).deliverTemplateEmail(
                 eq(testReceiverEmail),
                 eq(testSubject),
                 eq(testEmailTemplate),
@@ -180,7 +180,7 @@ class EmailJobTest {
         assertDoesNotThrow(() -> emailJob.execute(context));
 
         // Then
-        verify(emailService, times(1)).sendTemplateEmail(
+        verify(emailService, times(1)).deliverTemplateEmail(
                 eq(testReceiverEmail),
                 eq(testSubject),
                 eq(testEmailTemplate),
@@ -198,7 +198,7 @@ class EmailJobTest {
         assertDoesNotThrow(() -> emailJob.execute(context));
 
         // Then
-        verify(emailService, times(1)).sendTemplateEmail(
+        verify(emailService, times(1)).deliverTemplateEmail(
                 eq(testReceiverEmail),
                 eq(testSubject),
                 eq(null),
@@ -216,7 +216,7 @@ class EmailJobTest {
         assertDoesNotThrow(() -> emailJob.execute(context));
 
         // Then
-        verify(emailService, times(1)).sendTemplateEmail(
+        verify(emailService, times(1)).deliverTemplateEmail(
                 eq(null),
                 eq(testSubject),
                 eq(testEmailTemplate),
@@ -234,7 +234,7 @@ class EmailJobTest {
         assertDoesNotThrow(() -> emailJob.execute(context));
 
         // Then
-        verify(emailService, times(1)).sendTemplateEmail(
+        verify(emailService, times(1)).deliverTemplateEmail(
                 eq(testReceiverEmail),
                 eq(null),
                 eq(testEmailTemplate),
@@ -254,7 +254,7 @@ class EmailJobTest {
         });
 
         assertEquals("Failed to execute Email notification job", exception.getMessage());
-        verify(emailService, never()).sendTemplateEmail(anyString(), anyString(), anyString(), anyMap());
+        verify(emailService, never()).deliverTemplateEmail(anyString(), anyString(), anyString(), anyMap());
     }
 
     @Test
@@ -270,7 +270,7 @@ class EmailJobTest {
         });
 
         assertEquals("Failed to execute Email notification job", exception.getMessage());
-        verify(emailService, never()).sendTemplateEmail(anyString(), anyString(), anyString(), anyMap());
+        verify(emailService, never()).deliverTemplateEmail(anyString(), anyString(), anyString(), anyMap());
     }
 
     @Test
@@ -291,7 +291,7 @@ class EmailJobTest {
         assertDoesNotThrow(() -> emailJob.execute(context));
 
         // Then
-        verify(emailService, times(1)).sendTemplateEmail(
+        verify(emailService, times(1)).deliverTemplateEmail(
                 eq(testReceiverEmail),
                 eq(testSubject),
                 eq(testEmailTemplate),
@@ -311,7 +311,7 @@ class EmailJobTest {
         assertDoesNotThrow(() -> emailJob.execute(context));
 
         // Then
-        verify(emailService, times(1)).sendTemplateEmail(
+        verify(emailService, times(1)).deliverTemplateEmail(
                 eq(""),
                 eq(""),
                 eq(""),
@@ -1,19 +1,21 @@
 package com.javajedis.legalconnect.jobscheduler;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.time.OffsetDateTime;
-import java.util.HashMap;
+import java.util.Date;
 import java.util.HashSet;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -21,17 +23,19 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobBuilder;
 import org.quartz.JobDetail;
 import org.quartz.JobKey;
+import org.quartz.ObjectAlreadyExistsException;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
-import org.quartz.SchedulerMetaData;
+import org.quartz.SimpleTrigger;
 import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
 import org.quartz.impl.matchers.GroupMatcher;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,14 +45,9 @@ class JobSchedulerServiceTest {
     @Mock
     private Scheduler scheduler;
 
-    @Mock
-    private SchedulerMetaData schedulerMetaData;
-
     @InjectMocks
     private JobSchedulerService jobSchedulerService;
 
-    private WebPushJobDTO webPushJobDTO;
-    private EmailJobDTO emailJobDTO;
     private UUID testTaskId;
     private UUID testRecipientId;
     private String testReceiverEmail;
@@ -60,230 +59,41 @@ class JobSchedulerServiceTest {
         testRecipientId = UUID.randomUUID();
         testReceiverEmail = "test@example.com";
         testPaymentId = UUID.randomUUID();
-
-        webPushJobDTO = new WebPushJobDTO();
-        webPushJobDTO.setTaskId(testTaskId);
-        webPushJobDTO.setRecipientId(testRecipientId);
-        webPushJobDTO.setContent("Test web push content");
-        webPushJobDTO.setDateTime(OffsetDateTime.now().plusHours(1));
-
-        Map<String, Object> templateVariables = new HashMap<>();
-        templateVariables.put("name", "John Doe");
-        templateVariables.put("otp", "123456");
-
-        emailJobDTO = new EmailJobDTO();
-        emailJobDTO.setTaskId(testTaskId);
-        emailJobDTO.setEmailTemplate("test-template");
-        emailJobDTO.setReceiverEmailAddress(testReceiverEmail);
-        emailJobDTO.setSubject("Test Subject");
-        emailJobDTO.setTemplateVariables(templateVariables);
-        emailJobDTO.setDateTime(OffsetDateTime.now().plusHours(1));
-    }
-
-    @Test
-    @DisplayName("Should schedule web push notification successfully")
-    void scheduleWebPushNotification_Success() throws SchedulerException {
-        // When
-        assertDoesNotThrow(() -> jobSchedulerService.scheduleWebPushNotification(webPushJobDTO));
-
-        // Then
-        verify(scheduler, times(1)).scheduleJob(any(JobDetail.class), any(Trigger.class));
-    }
-
-    @Test
-    @DisplayName("Should handle scheduler exception when scheduling web push notification")
-    void scheduleWebPushNotification_SchedulerException() throws SchedulerException {
-        // Given
-        doThrow(new SchedulerException("Scheduler error")).when(scheduler)
-                .scheduleJob(any(JobDetail.class), any(Trigger.class));
-
-        // When
-        assertDoesNotThrow(() -> jobSchedulerService.scheduleWebPushNotification(webPushJobDTO));
-
-        // Then
-        verify(scheduler, times(1)).scheduleJob(any(JobDetail.class), any(Trigger.class));
-    }
-
-    @Test
-    @DisplayName("Should schedule email notification successfully")
-    void scheduleEmailNotification_Success() throws SchedulerException {
-        // When
-        assertDoesNotThrow(() -> jobSchedulerService.scheduleEmailNotification(emailJobDTO));
-
-        // Then
-        verify(scheduler, times(1)).scheduleJob(any(JobDetail.class), any(Trigger.class));
-    }
-
-    @Test
-    @DisplayName("Should handle scheduler exception when scheduling email notification")
-    void scheduleEmailNotification_SchedulerException() throws SchedulerException {
-        // Given
-        doThrow(new SchedulerException("Scheduler error")).when(scheduler)
-                .scheduleJob(any(JobDetail.class), any(Trigger.class));
-
-        // When
-        assertDoesNotThrow(() -> jobSchedulerService.scheduleEmailNotification(emailJobDTO));
-
-        // Then
-        verify(scheduler, times(1)).scheduleJob(any(JobDetail.class), any(Trigger.class));
-    }
-
-    @Test
-    @DisplayName("Should handle null template variables in email notification")
-    void scheduleEmailNotification_NullTemplateVariables_Success() throws SchedulerException {
-        // Given
-        emailJobDTO.setTemplateVariables(null);
-
-        // When
-        assertDoesNotThrow(() -> jobSchedulerService.scheduleEmailNotification(emailJobDTO));
-
-        // Then
-        verify(scheduler, times(1)).scheduleJob(any(JobDetail.class), any(Trigger.class));
-    }
-
-    @Test
-    @DisplayName("Should handle empty template variables in email notification")
-    void scheduleEmailNotification_EmptyTemplateVariables_Success() throws SchedulerException {
-        // Given
-        emailJobDTO.setTemplateVariables(new HashMap<>());
-
-        // When
-        assertDoesNotThrow(() -> jobSchedulerService.scheduleEmailNotification(emailJobDTO));
-
-        // Then
-        verify(scheduler, times(1)).scheduleJob(any(JobDetail.class), any(Trigger.class));
-    }
-
-    @Test
-    @DisplayName("Should update web push notification successfully")
-    void updateWebPushNotification_Success() throws SchedulerException {
-        // Given
-        when(scheduler.deleteJob(any(JobKey.class))).thenReturn(true);
-
-        // When
-        assertDoesNotThrow(() -> jobSchedulerService.updateWebPushNotification(webPushJobDTO));
-
-        // Then
-        verify(scheduler, times(1)).deleteJob(any(JobKey.class));
-        verify(scheduler, times(1)).scheduleJob(any(JobDetail.class), any(Trigger.class));
-    }
-
-    @Test
-    @DisplayName("Should handle scheduler exception when updating web push notification")
-    void updateWebPushNotification_SchedulerException() throws SchedulerException {
-        // Given
-        doThrow(new SchedulerException("Scheduler error")).when(scheduler)
-                .deleteJob(any(JobKey.class));
-
-        // When
-        assertDoesNotThrow(() -> jobSchedulerService.updateWebPushNotification(webPushJobDTO));
-
-        // Then
-        verify(scheduler, times(1)).deleteJob(any(JobKey.class));
-        verify(scheduler, never()).scheduleJob(any(JobDetail.class), any(Trigger.class));
     }
 
     @Test
-    @DisplayName("Should update email notification successfully")
-    void updateEmailNotification_Success() throws SchedulerException {
-        // Given
-        when(scheduler.deleteJob(any(JobKey.class))).thenReturn(true);
-
-        // When
-        assertDoesNotThrow(() -> jobSchedulerService.updateEmailNotification(emailJobDTO));
-
-        // Then
-        verify(scheduler, times(1)).deleteJob(any(JobKey.class));
-        verify(scheduler, times(1)).scheduleJob(any(JobDetail.class), any(Trigger.class));
-    }
-
-    @Test
-    @DisplayName("Should handle scheduler exception when updating email notification")
-    void updateEmailNotification_SchedulerException() throws SchedulerException {
-        // Given
-        doThrow(new SchedulerException("Scheduler error")).when(scheduler)
-                .deleteJob(any(JobKey.class));
-
-        // When
-        assertDoesNotThrow(() -> jobSchedulerService.updateEmailNotification(emailJobDTO));
-
-        // Then
-        verify(scheduler, times(1)).deleteJob(any(JobKey.class));
-        verify(scheduler, never()).scheduleJob(any(JobDetail.class), any(Trigger.class));
-    }
-
-    @Test
-    @DisplayName("Should delete web push notification successfully")
-    void deleteWebPushNotification_Success() throws SchedulerException {
-        // Given
-        when(scheduler.deleteJob(any(JobKey.class))).thenReturn(true);
-
-        // When
-        assertDoesNotThrow(() -> jobSchedulerService.deleteWebPushNotification(testTaskId, testRecipientId));
-
-        // Then
-        verify(scheduler, times(1)).deleteJob(any(JobKey.class));
-    }
-
-    @Test
-    @DisplayName("Should handle scheduler exception when deleting web push notification")
-    void deleteWebPushNotification_SchedulerException() throws SchedulerException {
-        // Given
-        doThrow(new SchedulerException("Scheduler error")).when(scheduler)
-                .deleteJob(any(JobKey.class));
-
-        // When
-        assertDoesNotThrow(() -> jobSchedulerService.deleteWebPushNotification(testTaskId, testRecipientId));
-
-        // Then
-        verify(scheduler, times(1)).deleteJob(any(JobKey.class));
-    }
-
-    @Test
-    @DisplayName("Should delete email notification successfully")
-    void deleteEmailNotification_Success() throws SchedulerException {
+    @DisplayName("Should delete the jobs of a task by reading only its job group")
+    @SuppressWarnings("unchecked")
+    void deleteAllJobsForTask_Success() throws SchedulerException {
         // Given
-        when(scheduler.deleteJob(any(JobKey.class))).thenReturn(true);
-
-        // When
-        assertDoesNotThrow(() -> jobSchedulerService.deleteEmailNotification(testTaskId, testReceiverEmail));
-
-        // Then
-        verify(scheduler, times(1)).deleteJob(any(JobKey.class));
-    }
+        String group = "task_" + testTaskId;
+        Set<JobKey> jobKeys = new HashSet<>();
+        jobKeys.add(JobKey.jobKey("webpush_" + testTaskId + "_" + testRecipientId, group));
+        jobKeys.add(JobKey.jobKey("email_" + testTaskId + "_" + testReceiverEmail, group));
 
-    @Test
-    @DisplayName("Should handle scheduler exception when deleting email notification")
-    void deleteEmailNotification_SchedulerException() throws SchedulerException {
-        // Given
-        doThrow(new SchedulerException("Scheduler error")).when(scheduler)
-                .deleteJob(any(JobKey.class));
+        when(scheduler.getJobKeys(GroupMatcher.jobGroupEquals(group))).thenReturn(jobKeys);
 
         // When
-        assertDoesNotThrow(() -> jobSchedulerService.deleteEmailNotification(testTaskId, testReceiverEmail));
+        assertDoesNotThrow(() -> jobSchedulerService.deleteAllJobsForTask(testTaskId));
 
         // Then
-        verify(scheduler, times(1)).deleteJob(any(JobKey.class));
+        ArgumentCaptor<List<JobKey>> deleted = ArgumentCaptor.forClass(List.class);
+        verify(scheduler, times(1)).deleteJobs(deleted.capture());
+        assertEquals(jobKeys, new HashSet<>(deleted.getValue()));
+        verify(scheduler, never()).getJobKeys(GroupMatcher.anyJobGroup());
     }
 
     @Test
-    @DisplayName("Should delete all jobs for task successfully")
-    void deleteAllJobsForTask_Success() throws SchedulerException {
+    @DisplayName("Should not delete anything when a task has no jobs")
+    void deleteAllJobsForTask_NoJobs() throws SchedulerException {
         // Given
-        Set<JobKey> jobKeys = new HashSet<>();
-        jobKeys.add(JobKey.jobKey("webpush_" + testTaskId + "_" + testRecipientId));
-        jobKeys.add(JobKey.jobKey("email_" + testTaskId + "_" + testReceiverEmail));
-        jobKeys.add(JobKey.jobKey("other_job_key"));
-
-        when(scheduler.getJobKeys(any(GroupMatcher.class))).thenReturn(jobKeys);
-        when(scheduler.deleteJob(any(JobKey.class))).thenReturn(true);
+        when(scheduler.getJobKeys(any(GroupMatcher.class))).thenReturn(Set.of());
 
         // When
         assertDoesNotThrow(() -> jobSchedulerService.deleteAllJobsForTask(testTaskId));
 
         // Then
-        verify(scheduler, times(1)).getJobKeys(any(GroupMatcher.class));
-        verify(scheduler, times(2)).deleteJob(any(JobKey.class)); // Only 2 jobs match the task ID
+        verify(scheduler, never()).deleteJobs(any());
     }
 
     @Test
@@ -298,369 +108,168 @@ class JobSchedulerServiceTest {
 
         // Then
         verify(scheduler, times(1)).getJobKeys(any(GroupMatcher.class));
-        verify(scheduler, never()).deleteJob(any(JobKey.class));
-    }
-
-    @Test
-    @DisplayName("Should check web push job exists successfully")
-    void webPushJobExists_Success() throws SchedulerException {
-        // Given
-        when(scheduler.checkExists(any(JobKey.class))).thenReturn(true);
-
-        // When
-        boolean exists = jobSchedulerService.webPushJobExists(testTaskId, testRecipientId);
-
-        // Then
-        assertTrue(exists);
-        verify(scheduler, times(1)).checkExists(any(JobKey.class));
-    }
-
-    @Test
-    @DisplayName("Should return false when web push job does not exist")
-    void webPushJobExists_NotExists() throws SchedulerException {
-        // Given
-        when(scheduler.checkExists(any(JobKey.class))).thenReturn(false);
-
-        // When
-        boolean exists = jobSchedulerService.webPushJobExists(testTaskId, testRecipientId);
-
-        // Then
-        assertFalse(exists);
-        verify(scheduler, times(1)).checkExists(any(JobKey.class));
-    }
-
-    @Test
-    @DisplayName("Should handle scheduler exception when checking web push job exists")
-    void webPushJobExists_SchedulerException() throws SchedulerException {
-        // Given
-        doThrow(new SchedulerException("Scheduler error")).when(scheduler)
-                .checkExists(any(JobKey.class));
-
-        // When
-        boolean exists = jobSchedulerService.webPushJobExists(testTaskId, testRecipientId);
-
-        // Then
-        assertFalse(exists);
-        verify(scheduler, times(1)).checkExists(any(JobKey.class));
-    }
-
-    @Test
-    @DisplayName("Should check email job exists successfully")
-    void emailJobExists_Success() throws SchedulerException {
-        // Given
-        when(scheduler.checkExists(any(JobKey.class))).thenReturn(true);
-
-        // When
-        boolean exists = jobSchedulerService.emailJobExists(testTaskId, testReceiverEmail);
-
-        // Then
-        assertTrue(exists);
-        verify(scheduler, times(1)).checkExists(any(JobKey.class));
-    }
-
-    @Test
-    @DisplayName("Should return false when email job does not exist")
-    void emailJobExists_NotExists() throws SchedulerException {
-        // Given
-        when(scheduler.checkExists(any(JobKey.class))).thenReturn(false);
-
-        // When
-        boolean exists = jobSchedulerService.emailJobExists(testTaskId, testReceiverEmail);
-
-        // Then
-        assertFalse(exists);
-        verify(scheduler, times(1)).checkExists(any(JobKey.class));
-    }
-
-    @Test
-    @DisplayName("Should handle scheduler exception when checking email job exists")
-    void emailJobExists_SchedulerException() throws SchedulerException {
-        // Given
-        doThrow(new SchedulerException("Scheduler error")).when(scheduler)
-                .checkExists(any(JobKey.class));
-
-        // When
-        boolean exists = jobSchedulerService.emailJobExists(testTaskId, testReceiverEmail);
-
-        // Then
-        assertFalse(exists);
-        verify(scheduler, times(1)).checkExists(any(JobKey.class));
-    }
-
-    @Test
-    @DisplayName("Should log scheduler status successfully")
-    void logSchedulerStatus_Success() throws SchedulerException {
-        // Given
-        when(scheduler.getSchedulerName()).thenReturn("TestScheduler");
-        when(scheduler.getSchedulerInstanceId()).thenReturn("TestInstance");
-        when(scheduler.getMetaData()).thenReturn(schedulerMetaData);
-        when(schedulerMetaData.getRunningSince()).thenReturn(new java.util.Date());
-        
-        Set<JobKey> jobKeys = new HashSet<>();
-        jobKeys.add(JobKey.jobKey("job1"));
-        jobKeys.add(JobKey.jobKey("job2"));
-        when(scheduler.getJobKeys(any(GroupMatcher.class))).thenReturn(jobKeys);
-
-        // When
-        assertDoesNotThrow(() -> jobSchedulerService.logSchedulerStatus());
-
-        // Then
-        verify(scheduler, times(1)).getSchedulerName();
-        verify(scheduler, times(1)).getSchedulerInstanceId();
-        verify(scheduler, times(1)).getMetaData();
-        verify(scheduler, times(1)).getJobKeys(any(GroupMatcher.class));
+        verify(scheduler, never()).deleteJobs(any());
     }
 
     @Test
-    @DisplayName("Should handle scheduler exception when logging scheduler status")
-    void logSchedulerStatus_SchedulerException() throws SchedulerException {
+    @DisplayName("Should move pending legacy jobs into their task group and delete fired ones")
+    @SuppressWarnings("unchecked")
+    void migrateLegacyTaskJobs_MovesPendingAndDeletesFired() throws SchedulerException {
         // Given
-        doThrow(new SchedulerException("Scheduler error")).when(scheduler)
-                .getSchedulerName();
+        JobKey pending = JobKey.jobKey("webpush_" + testTaskId + "_" + testRecipientId);
+        UUID firedTaskId = UUID.randomUUID();
+        JobKey fired = JobKey.jobKey("email_" + firedTaskId + "_" + testReceiverEmail);
+        JobKey payment = JobKey.jobKey("payment release_" + testPaymentId);
+        when(scheduler.getJobKeys(GroupMatcher.jobGroupEquals(JobKey.DEFAULT_GROUP)))
+                .thenReturn(Set.of(pending, fired, payment));
+        when(scheduler.getJobDetail(pending)).thenReturn(JobBuilder.newJob(WebPushJob.class)
+                .withIdentity(pending)
+                .usingJobData("recipientId", testRecipientId.toString())
+                .storeDurably()
+                .build());
+        Trigger trigger = TriggerBuilder.newTrigger()
+                .withIdentity("trigger_" + pending.getName())
+                .forJob(pending)
+                .startAt(new Date(System.currentTimeMillis() + 3_600_000))
+                .build();
+        doReturn(List.of(trigger)).when(scheduler).getTriggersOfJob(pending);
+        doReturn(List.of()).when(scheduler).getTriggersOfJob(fired);
 
         // When
-        assertDoesNotThrow(() -> jobSchedulerService.logSchedulerStatus());
+        jobSchedulerService.migrateLegacyTaskJobs();
 
         // Then
-        verify(scheduler, times(1)).getSchedulerName();
+        ArgumentCaptor<JobDetail> job = ArgumentCaptor.forClass(JobDetail.class);
+        ArgumentCaptor<Set<? extends Trigger>> triggers = ArgumentCaptor.forClass(Set.class);
+        verify(scheduler).scheduleJob(job.capture(), triggers.capture(), eq(false));
+        assertEquals(JobKey.jobKey(pending.getName(), "task_" + testTaskId), job.getValue().getKey());
+        assertEquals(testRecipientId.toString(), job.getValue().getJobDataMap().getString("recipientId"));
+        Trigger moved = triggers.getValue().iterator().next();
+        assertEquals("task_" + testTaskId, moved.getKey().getGroup());
+        assertEquals(job.getValue().getKey(), moved.getJobKey());
+        assertEquals(trigger.getStartTime(), moved.getStartTime());
+        verify(scheduler).deleteJob(pending);
+        verify(scheduler).deleteJob(fired);
+        verify(scheduler, never()).deleteJob(payment);
+        verify(scheduler, never()).getTriggersOfJob(payment);
     }
 
     @Test
-    @DisplayName("Should handle null task ID in web push notification")
-    void scheduleWebPushNotification_NullTaskId() throws SchedulerException {
+    @DisplayName("Should only delete the legacy job when an earlier run already copied it into its task group")
+    void migrateLegacyTaskJobs_AlreadyCopied_DeletesLegacyOnly() throws SchedulerException {
         // Given
-        webPushJobDTO.setTaskId(null);
+        JobKey legacy = JobKey.jobKey("webpush_" + testTaskId + "_" + testRecipientId);
+        Trigger trigger = TriggerBuilder.newTrigger()
+                .withIdentity("trigger_" + legacy.getName())
+                .forJob(legacy)
+                .startAt(new Date(System.currentTimeMillis() + 3_600_000))
+                .build();
+        when(scheduler.getJobKeys(GroupMatcher.jobGroupEquals(JobKey.DEFAULT_GROUP))).thenReturn(Set.of(legacy));
+        doReturn(List.of(trigger)).when(scheduler).getTriggersOfJob(legacy);
+        when(scheduler.checkExists(JobKey.jobKey(legacy.getName(), "task_" + testTaskId))).thenReturn(true);
 
         // When
-        assertDoesNotThrow(() -> jobSchedulerService.scheduleWebPushNotification(webPushJobDTO));
+        jobSchedulerService.migrateLegacyTaskJobs();
 
         // Then
-        verify(scheduler, never()).scheduleJob(any(JobDetail.class), any(Trigger.class));
+        verify(scheduler, never()).scheduleJob(any(JobDetail.class), anySet(), anyBoolean());
+        verify(scheduler).deleteJob(legacy);
     }
 
     @Test
-    @DisplayName("Should handle null recipient ID in web push notification")
-    void scheduleWebPushNotification_NullRecipientId() throws SchedulerException {
+    @DisplayName("Should delete the legacy job when another node copies it first")
+    void migrateLegacyTaskJobs_CopiedConcurrently_DeletesLegacy() throws SchedulerException {
         // Given
-        webPushJobDTO.setRecipientId(null);
+        JobKey legacy = JobKey.jobKey("webpush_" + testTaskId + "_" + testRecipientId);
+        Trigger trigger = TriggerBuilder.newTrigger()
+                .withIdentity("trigger_" + legacy.getName())
+                .forJob(legacy)
+                .startAt(new Date(System.currentTimeMillis() + 3_600_000))
+                .build();
+        when(scheduler.getJobKeys(GroupMatcher.jobGroupEquals(JobKey.DEFAULT_GROUP))).thenReturn(Set.of(legacy));
+        doReturn(List.of(trigger)).when(scheduler).getTriggersOfJob(legacy);
+        when(scheduler.getJobDetail(legacy)).thenReturn(JobBuilder.newJob(WebPushJob.class)
+                .withIdentity(legacy)
+                .storeDurably()
+                .build());
+        doThrow(new ObjectAlreadyExistsException("exists")).when(scheduler)
+                .scheduleJob(any(JobDetail.class), anySet(), eq(false));
 
         // When
-        assertDoesNotThrow(() -> jobSchedulerService.scheduleWebPushNotification(webPushJobDTO));
+        jobSchedulerService.migrateLegacyTaskJobs();
 
         // Then
-        verify(scheduler, never()).scheduleJob(any(JobDetail.class), any(Trigger.class));
+        verify(scheduler).deleteJob(legacy);
     }
 
-    @Test
-    @DisplayName("Should handle null date time in web push notification")
-    void scheduleWebPushNotification_NullDateTime() throws SchedulerException {
-        // Given
-        webPushJobDTO.setDateTime(null);
-
-        // When
-        assertDoesNotThrow(() -> jobSchedulerService.scheduleWebPushNotification(webPushJobDTO));
-
-        // Then
-        verify(scheduler, never()).scheduleJob(any(JobDetail.class), any(Trigger.class));
-    }
+    // Payment Release Job Cleanup Tests
 
     @Test
-    @DisplayName("Should handle null task ID in email notification")
-    void scheduleEmailNotification_NullTaskId() throws SchedulerException {
+    @DisplayName("Should delete per-payment release jobs and keep other jobs")
+    void removePaymentReleaseJobs_DeletesPaymentJobsOnly() throws SchedulerException {
         // Given
-        emailJobDTO.setTaskId(null);
+        JobKey payment = JobKey.jobKey("payment release_" + testPaymentId);
+        JobKey webPush = JobKey.jobKey("webpush_" + testTaskId + "_" + testRecipientId);
+        when(scheduler.getJobKeys(GroupMatcher.jobGroupEquals(JobKey.DEFAULT_GROUP)))
+                .thenReturn(Set.of(payment, webPush));
 
         // When
-        assertDoesNotThrow(() -> jobSchedulerService.scheduleEmailNotification(emailJobDTO));
+        jobSchedulerService.removePaymentReleaseJobs();
 
         // Then
-        verify(scheduler, never()).scheduleJob(any(JobDetail.class), any(Trigger.class));
+        verify(scheduler).deleteJobs(List.of(payment));
+        verify(scheduler, never()).deleteJob(any(JobKey.class));
     }
 
     @Test
-    @DisplayName("Should handle null receiver email in email notification")
-    void scheduleEmailNotification_NullReceiverEmail() throws SchedulerException {
+    @DisplayName("Should not delete anything when no payment release jobs exist")
+    void removePaymentReleaseJobs_NoJobs_DeletesNothing() throws SchedulerException {
         // Given
-        emailJobDTO.setReceiverEmailAddress(null);
+        when(scheduler.getJobKeys(GroupMatcher.jobGroupEquals(JobKey.DEFAULT_GROUP))).thenReturn(Set.of());
 
         // When
-        assertDoesNotThrow(() -> jobSchedulerService.scheduleEmailNotification(emailJobDTO));
+        jobSchedulerService.removePaymentReleaseJobs();
 
         // Then
-        verify(scheduler, never()).scheduleJob(any(JobDetail.class), any(Trigger.class));
+        verify(scheduler, never()).deleteJobs(any());
     }
 
     @Test
-    @DisplayName("Should handle null date time in email notification")
-    void scheduleEmailNotification_NullDateTime() throws SchedulerException {
+    @DisplayName("Should handle scheduler exception when deleting payment release jobs")
+    void removePaymentReleaseJobs_SchedulerException() throws SchedulerException {
         // Given
-        emailJobDTO.setDateTime(null);
+        when(scheduler.getJobKeys(GroupMatcher.jobGroupEquals(JobKey.DEFAULT_GROUP)))
+                .thenThrow(new SchedulerException("Scheduler error"));
 
-        // When
-        assertDoesNotThrow(() -> jobSchedulerService.scheduleEmailNotification(emailJobDTO));
-
-        // Then
-        verify(scheduler, never()).scheduleJob(any(JobDetail.class), any(Trigger.class));
+        // When & Then
+        assertDoesNotThrow(() -> jobSchedulerService.removePaymentReleaseJobs());
     }
 
     @Test
-    @DisplayName("Should schedule web push notification with past date time")
-    void scheduleWebPushNotification_PastDateTime_Success() throws SchedulerException {
-        // Given
-        webPushJobDTO.setDateTime(OffsetDateTime.now().minusHours(1));
-
+    @DisplayName("Should schedule reminder polling as one repeating job, replacing any previous schedule")
+    @SuppressWarnings("unchecked")
+    void scheduleReminderPolling_RepeatingTrigger() throws SchedulerException {
         // When
-        assertDoesNotThrow(() -> jobSchedulerService.scheduleWebPushNotification(webPushJobDTO));
+        jobSchedulerService.scheduleReminderPolling(5000);
 
         // Then
-        verify(scheduler, times(1)).scheduleJob(any(JobDetail.class), any(Trigger.class));
+        ArgumentCaptor<JobDetail> job = ArgumentCaptor.forClass(JobDetail.class);
+        ArgumentCaptor<Set<? extends Trigger>> triggers = ArgumentCaptor.forClass(Set.class);
+        verify(scheduler).scheduleJob(job.capture(), triggers.capture(), eq(true));
+        assertEquals(ReminderPollJob.class, job.getValue().getJobClass());
+        SimpleTrigger trigger = (SimpleTrigger) triggers.getValue().iterator().next();
+        assertEquals(5000, trigger.getRepeatInterval());
+        assertEquals(SimpleTrigger.REPEAT_INDEFINITELY, trigger.getRepeatCount());
     }
 
     @Test
-    @DisplayName("Should schedule email notification with past date time")
-    void scheduleEmailNotification_PastDateTime_Success() throws SchedulerException {
+    @DisplayName("Should handle scheduler exception when scheduling reminder polling")
+    void scheduleReminderPolling_SchedulerException() throws SchedulerException {
         // Given
-        emailJobDTO.setDateTime(OffsetDateTime.now().minusHours(1));
-
-        // When
-        assertDoesNotThrow(() -> jobSchedulerService.scheduleEmailNotification(emailJobDTO));
-
-        // Then
-        verify(scheduler, times(1)).scheduleJob(any(JobDetail.class), any(Trigger.class));
-    }
-
-    // Payment Release Scheduling Tests
-
-    @ParameterizedTest
-    @ValueSource(ints = {1, 24, 48, 12})
-    @DisplayName("Should schedule payment release successfully with different time offsets")
-    void schedulePaymentRelease_Success(int hoursOffset) throws SchedulerException {
-        // Given
-        OffsetDateTime releaseAt = OffsetDateTime.now().plusHours(hoursOffset);
-
-        // When
-        assertDoesNotThrow(() -> jobSchedulerService.schedulePaymentRelease(testPaymentId, releaseAt));
-
-        // Then
-        verify(scheduler, times(1)).scheduleJob(any(JobDetail.class), any(Trigger.class));
-    }
-
-    @Test
-    @DisplayName("Should handle scheduler exception when scheduling payment release")
-    void schedulePaymentRelease_SchedulerException() throws SchedulerException {
-        // Given
-        OffsetDateTime releaseAt = OffsetDateTime.now().plusDays(1);
         doThrow(new SchedulerException("Scheduler error")).when(scheduler)
-                .scheduleJob(any(JobDetail.class), any(Trigger.class));
-
-        // When
-        assertDoesNotThrow(() -> jobSchedulerService.schedulePaymentRelease(testPaymentId, releaseAt));
-
-        // Then
-        verify(scheduler, times(1)).scheduleJob(any(JobDetail.class), any(Trigger.class));
-    }
-
-    @Test
-    @DisplayName("Should handle graceful error handling for scheduling failures")
-    void schedulePaymentRelease_SchedulingFailure_GracefulHandling() throws SchedulerException {
-        // Given
-        OffsetDateTime releaseAt = OffsetDateTime.now().plusHours(6);
-        doThrow(new SchedulerException("Job scheduling failed")).when(scheduler)
-                .scheduleJob(any(JobDetail.class), any(Trigger.class));
-
-        // When
-        assertDoesNotThrow(() -> jobSchedulerService.schedulePaymentRelease(testPaymentId, releaseAt));
-
-        // Then
-        verify(scheduler, times(1)).scheduleJob(any(JobDetail.class), any(Trigger.class));
-    }
-
-    @Test
-    @DisplayName("Should validate graceful error handling without propagation")
-    void schedulePaymentRelease_ErrorHandling_NoPropagation() throws SchedulerException {
-        // Given
-        OffsetDateTime releaseAt = OffsetDateTime.now().plusDays(3);
-        doThrow(new SchedulerException("Critical scheduler error")).when(scheduler)
-                .scheduleJob(any(JobDetail.class), any(Trigger.class));
-
-        // When & Then - Should not throw exception
-        assertDoesNotThrow(() -> jobSchedulerService.schedulePaymentRelease(testPaymentId, releaseAt));
-        verify(scheduler, times(1)).scheduleJob(any(JobDetail.class), any(Trigger.class));
-    }
-
-    // Payment Release Deletion Tests
-
-    @Test
-    @DisplayName("Should delete payment release successfully")
-    void deletePaymentRelease_Success() throws SchedulerException {
-        // Given
-        when(scheduler.deleteJob(any(JobKey.class))).thenReturn(true);
-
-        // When
-        assertDoesNotThrow(() -> jobSchedulerService.deletePaymentRelease(testPaymentId));
+                .scheduleJob(any(JobDetail.class), anySet(), eq(true));
 
-        // Then
-        verify(scheduler, times(1)).deleteJob(any(JobKey.class));
-    }
-
-    @ParameterizedTest
-    @ValueSource(strings = {"Scheduler error", "Job deletion failed", "Critical deletion error"})
-    @DisplayName("Should handle scheduler exceptions when deleting payment release")
-    void deletePaymentRelease_SchedulerException(String errorMessage) throws SchedulerException {
-        // Given
-        doThrow(new SchedulerException(errorMessage)).when(scheduler)
-                .deleteJob(any(JobKey.class));
-
-        // When
-        assertDoesNotThrow(() -> jobSchedulerService.deletePaymentRelease(testPaymentId));
-
-        // Then
-        verify(scheduler, times(1)).deleteJob(any(JobKey.class));
-    }
-
-    // Payment Release Existence Check Tests
-
-    @Test
-    @DisplayName("Should return true when payment release job exists")
-    void paymentReleaseJobExists_JobExists_ReturnsTrue() throws SchedulerException {
-        // Given
-        when(scheduler.checkExists(any(JobKey.class))).thenReturn(true);
-
-        // When
-        boolean exists = jobSchedulerService.paymentReleaseJobExists(testPaymentId);
-
-        // Then
-        assertTrue(exists);
-        verify(scheduler, times(1)).checkExists(any(JobKey.class));
-    }
-
-    @Test
-    @DisplayName("Should return false when payment release job does not exist")
-    void paymentReleaseJobExists_JobNotExists_ReturnsFalse() throws SchedulerException {
-        // Given
-        when(scheduler.checkExists(any(JobKey.class))).thenReturn(false);
-
-        // When
-        boolean exists = jobSchedulerService.paymentReleaseJobExists(testPaymentId);
-
-        // Then
-        assertFalse(exists);
-        verify(scheduler, times(1)).checkExists(any(JobKey.class));
-    }
-
-    @ParameterizedTest
-    @ValueSource(strings = {"Scheduler error", "Existence check failed", "Critical existence check error"})
-    @DisplayName("Should handle scheduler exceptions when checking payment release job exists")
-    void paymentReleaseJobExists_SchedulerException(String errorMessage) throws SchedulerException {
-        // Given
-        doThrow(new SchedulerException(errorMessage)).when(scheduler)
-                .checkExists(any(JobKey.class));
-
-        // When
-        boolean exists = jobSchedulerService.paymentReleaseJobExists(testPaymentId);
-
-        // Then
-        assertFalse(exists);
-        verify(scheduler, times(1)).checkExists(any(JobKey.class));
+        // When / Then
+        assertDoesNotThrow(() -> jobSchedulerService.scheduleReminderPolling(5000));
     }
-}
\ No newline at end of file
+}
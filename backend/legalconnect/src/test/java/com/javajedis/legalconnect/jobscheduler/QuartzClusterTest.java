@@ -0,0 +1,157 @@
+package com.javajedis.legalconnect.jobscheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.quartz.Job;
+import org.quartz.JobBuilder;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.TriggerBuilder;
+import org.quartz.impl.SchedulerRepository;
+import org.quartz.impl.StdSchedulerFactory;
+
+/**
+ * Runs two clustered scheduler instances in one JVM against a shared Postgres database and checks that
+ * every job fires exactly once.
+ *
+ * <p>Needs a local database: set {@code QUARTZ_CLUSTER_TEST_JDBC_URL}, and optionally
+ * {@code QUARTZ_CLUSTER_TEST_USER} and {@code QUARTZ_CLUSTER_TEST_PASSWORD}. The Quartz tables are created
+ * with {@code quartz_tables.sql} if missing; the test only touches rows of its own scheduler name.
+ */
+@EnabledIfEnvironmentVariable(named = "QUARTZ_CLUSTER_TEST_JDBC_URL", matches = ".+")
+@DisplayName("Quartz Cluster Tests")
+class QuartzClusterTest {
+
+    private static final String SCHEDULER_NAME = "LegalConnectClusterTest";
+    private static final int JOBS = 20;
+
+    private static final Map<String, List<String>> EXECUTIONS = new ConcurrentHashMap<>();
+    private static CountDownLatch executed;
+
+    private Scheduler nodeA;
+    private Scheduler nodeB;
+
+    @BeforeEach
+    void setUp() throws SQLException, IOException, SchedulerException {
+        createTables();
+        EXECUTIONS.clear();
+        executed = new CountDownLatch(JOBS);
+        nodeA = scheduler("node-a");
+        nodeA.clear();
+        nodeB = scheduler("node-b");
+    }
+
+    @AfterEach
+    void tearDown() throws SchedulerException {
+        nodeA.clear();
+        nodeA.shutdown(true);
+        nodeB.shutdown(true);
+    }
+
+    @Test
+    @DisplayName("Should fire every job exactly once across both nodes")
+    void clusteredSchedulers_FireEachJobOnce() throws Exception {
+        for (int i = 0; i < JOBS; i++) {
+            nodeA.scheduleJob(JobBuilder.newJob(RecordingJob.class).withIdentity("job-" + i).build(),
+                    TriggerBuilder.newTrigger().withIdentity("trigger-" + i).startNow().build());
+        }
+
+        nodeA.start();
+        nodeB.start();
+
+        assertTrue(executed.await(60, TimeUnit.SECONDS), "Not every job fired");
+        Thread.sleep(2_000);
+        assertEquals(JOBS, EXECUTIONS.size());
+        EXECUTIONS.forEach((job, instances) -> assertEquals(1, instances.size(), job + " fired on " + instances));
+        long nodesUsed = EXECUTIONS.values().stream().flatMap(List::stream).distinct().count();
+        assertEquals(2, nodesUsed, "Jobs were not shared between the nodes");
+    }
+
+    private static Scheduler scheduler(String instanceId) throws SchedulerException {
+        Properties properties = new Properties();
+        properties.setProperty("org.quartz.scheduler.instanceName", SCHEDULER_NAME);
+        properties.setProperty("org.quartz.scheduler.instanceId", instanceId);
+        properties.setProperty("org.quartz.scheduler.skipUpdateCheck", "true");
+        properties.setProperty("org.quartz.threadPool.class", VirtualThreadPool.class.getName());
+        properties.setProperty("org.quartz.threadPool.threadCount", "2");
+        properties.setProperty("org.quartz.jobStore.class", "org.quartz.impl.jdbcjobstore.JobStoreTX");
+        properties.setProperty("org.quartz.jobStore.driverDelegateClass", "org.quartz.impl.jdbcjobstore.PostgreSQLDelegate");
+        properties.setProperty("org.quartz.jobStore.tablePrefix", "QRTZ_");
+        properties.setProperty("org.quartz.jobStore.isClustered", "true");
+        properties.setProperty("org.quartz.jobStore.clusterCheckinInterval", "1000");
+        properties.setProperty("org.quartz.jobStore.acquireTriggersWithinLock", "true");
+        properties.setProperty("org.quartz.scheduler.batchTriggerAcquisitionMaxCount", "2");
+        properties.setProperty("org.quartz.jobStore.dataSource", "clusterTest");
+        properties.setProperty("org.quartz.dataSource.clusterTest.provider", "hikaricp");
+        properties.setProperty("org.quartz.dataSource.clusterTest.driver", "org.postgresql.Driver");
+        properties.setProperty("org.quartz.dataSource.clusterTest.URL", System.getenv("QUARTZ_CLUSTER_TEST_JDBC_URL"));
+        properties.setProperty("org.quartz.dataSource.clusterTest.user", env("QUARTZ_CLUSTER_TEST_USER"));
+        properties.setProperty("org.quartz.dataSource.clusterTest.password", env("QUARTZ_CLUSTER_TEST_PASSWORD"));
+        properties.setProperty("org.quartz.dataSource.clusterTest.maxConnections", "5");
+        Scheduler scheduler = new StdSchedulerFactory(properties).getScheduler();
+        // Both nodes share the scheduler name; unbind it so the next factory builds a second instance.
+        SchedulerRepository.getInstance().remove(SCHEDULER_NAME);
+        return scheduler;
+    }
+
+    private static void createTables() throws SQLException, IOException {
+        String script;
+        try (InputStream in = QuartzClusterTest.class.getClassLoader().getResourceAsStream("quartz_tables.sql")) {
+            script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        try (Connection connection = DriverManager.getConnection(System.getenv("QUARTZ_CLUSTER_TEST_JDBC_URL"),
+                env("QUARTZ_CLUSTER_TEST_USER"), env("QUARTZ_CLUSTER_TEST_PASSWORD"));
+             Statement statement = connection.createStatement()) {
+            for (String sql : script.replaceAll("(?m)^--.*$", "").split(";")) {
+                if (!sql.isBlank()) {
+                    statement.execute(sql);
+                }
+            }
+        }
+    }
+
+    private static String env(String name) {
+        String value = System.getenv(name);
+        return value == null ? "" : value;
+    }
+
+    public static class RecordingJob implements Job {
+        @Override
+        public void execute(JobExecutionContext context) throws JobExecutionException {
+            try {
+                EXECUTIONS.computeIfAbsent(context.getJobDetail().getKey().getName(), key -> new CopyOnWriteArrayList<>())
+                        .add(context.getScheduler().getSchedulerInstanceId());
+                Thread.sleep(200);
+            } catch (SchedulerException e) {
+                throw new JobExecutionException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                executed.countDown();
+            }
+        }
+    }
+}
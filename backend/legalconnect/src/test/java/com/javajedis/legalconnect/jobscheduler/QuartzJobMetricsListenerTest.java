@@ -0,0 +1,117 @@
+package com.javajedis.legalconnect.jobscheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.quartz.Job;
+import org.quartz.JobBuilder;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.TriggerBuilder;
+import org.quartz.impl.StdSchedulerFactory;
+import org.quartz.impl.matchers.EverythingMatcher;
+import org.quartz.listeners.JobListenerSupport;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("QuartzJobMetricsListener Tests")
+class QuartzJobMetricsListenerTest {
+
+    private final CountDownLatch executed = new CountDownLatch(3);
+
+    private SimpleMeterRegistry meterRegistry;
+    private Scheduler scheduler;
+    private QuartzJobMetricsListener listener;
+
+    @BeforeEach
+    void setUp() throws SchedulerException {
+        meterRegistry = new SimpleMeterRegistry();
+        Properties properties = new Properties();
+        properties.setProperty("org.quartz.scheduler.instanceName", "MetricsTestScheduler");
+        properties.setProperty("org.quartz.scheduler.skipUpdateCheck", "true");
+        properties.setProperty("org.quartz.threadPool.class", VirtualThreadPool.class.getName());
+        properties.setProperty("org.quartz.threadPool.threadCount", "4");
+        properties.setProperty("org.quartz.jobStore.class", "org.quartz.simpl.RAMJobStore");
+        scheduler = new StdSchedulerFactory(properties).getScheduler();
+        listener = new QuartzJobMetricsListener(meterRegistry);
+        scheduler.getListenerManager().addJobListener(listener, EverythingMatcher.allJobs());
+        scheduler.getListenerManager().addTriggerListener(listener, EverythingMatcher.allTriggers());
+        // Registered after the metrics listener, so it is notified once the execution has been recorded.
+        scheduler.getListenerManager().addJobListener(new JobListenerSupport() {
+            @Override
+            public String getName() {
+                return "executed";
+            }
+
+            @Override
+            public void jobWasExecuted(JobExecutionContext context, JobExecutionException jobException) {
+                executed.countDown();
+            }
+        }, EverythingMatcher.allJobs());
+    }
+
+    @AfterEach
+    void tearDown() throws SchedulerException {
+        scheduler.shutdown(true);
+    }
+
+    @Test
+    @DisplayName("Should time executions per job class and outcome")
+    void jobWasExecuted_RecordsExecutionTimePerJobClass() throws Exception {
+        scheduler.start();
+
+        runNow(SucceedingJob.class, "first");
+        runNow(SucceedingJob.class, "second");
+        runNow(FailingJob.class, "third");
+
+        assertTrue(executed.await(10, TimeUnit.SECONDS));
+        assertEquals(2, meterRegistry.get(QuartzJobMetricsListener.METRIC_EXECUTION)
+                .tag("job", "SucceedingJob").tag("outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get(QuartzJobMetricsListener.METRIC_EXECUTION)
+                .tag("job", "FailingJob").tag("outcome", "failure").timer().count());
+        assertEquals(2, meterRegistry.get(QuartzJobMetricsListener.METRIC_START_DELAY)
+                .tag("job", "SucceedingJob").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should count misfires per job kind without looking the job up")
+    void triggerMisfired_CountsPerJobKind() {
+        listener.triggerMisfired(TriggerBuilder.newTrigger().forJob("webpush_task1_user1", "task_task1").build());
+        listener.triggerMisfired(TriggerBuilder.newTrigger().forJob("webpush_task2_user2", "task_task2").build());
+        listener.triggerMisfired(TriggerBuilder.newTrigger().forJob("reminder poller").build());
+
+        assertEquals(2.0, meterRegistry.get(QuartzJobMetricsListener.METRIC_MISFIRES)
+                .tag("job", "webpush").counter().count());
+        assertEquals(1.0, meterRegistry.get(QuartzJobMetricsListener.METRIC_MISFIRES)
+                .tag("job", "reminder poller").counter().count());
+    }
+
+    private void runNow(Class<? extends Job> jobClass, String name) throws SchedulerException {
+        scheduler.scheduleJob(JobBuilder.newJob(jobClass).withIdentity(name).build(),
+                TriggerBuilder.newTrigger().withIdentity(name).startNow().build());
+    }
+
+    public static class SucceedingJob implements Job {
+        @Override
+        public void execute(JobExecutionContext context) {
+            // Nothing to do.
+        }
+    }
+
+    public static class FailingJob implements Job {
+        @Override
+        public void execute(JobExecutionContext context) throws JobExecutionException {
+            throw new JobExecutionException("Job failed");
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.javajedis.legalconnect.jobscheduler;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+
+import com.javajedis.legalconnect.notifications.ReminderPoller;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReminderPollJob Tests")
+class ReminderPollJobTest {
+
+    @Mock
+    private ReminderPoller reminderPoller;
+
+    @Mock
+    private JobExecutionContext context;
+
+    @InjectMocks
+    private ReminderPollJob reminderPollJob;
+
+    @Test
+    @DisplayName("Should poll for due reminders")
+    void execute_PollsReminders() {
+        // When
+        assertDoesNotThrow(() -> reminderPollJob.execute(context));
+
+        // Then
+        verify(reminderPoller).poll();
+    }
+
+    @Test
+    @DisplayName("Should wrap poll failures in JobExecutionException")
+    void execute_PollFails_ThrowsJobExecutionException() {
+        // Given
+        when(reminderPoller.poll()).thenThrow(new IllegalStateException("Poll failed"));
+
+        // When / Then
+        assertThrows(JobExecutionException.class, () -> reminderPollJob.execute(context));
+    }
+}
@@ -0,0 +1,126 @@
+package com.javajedis.legalconnect.jobscheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.quartz.SchedulerConfigException;
+
+@DisplayName("VirtualThreadPool Tests")
+class VirtualThreadPoolTest {
+
+    private VirtualThreadPool pool;
+
+    @BeforeEach
+    void setUp() throws SchedulerConfigException {
+        pool = new VirtualThreadPool();
+        pool.setInstanceName("TestScheduler");
+        pool.setThreadCount(2);
+        pool.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown(false);
+    }
+
+    @Test
+    @DisplayName("Should run jobs on virtual threads named after the scheduler")
+    void runInThread_RunsOnVirtualThread() throws InterruptedException {
+        AtomicBoolean virtual = new AtomicBoolean();
+        StringBuilder name = new StringBuilder();
+        CountDownLatch done = new CountDownLatch(1);
+
+        assertTrue(pool.runInThread(() -> {
+            virtual.set(Thread.currentThread().isVirtual());
+            name.append(Thread.currentThread().getName());
+            done.countDown();
+        }));
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(virtual.get());
+        assertTrue(name.toString().startsWith("TestScheduler-job-"));
+    }
+
+    @Test
+    @DisplayName("Should report no free thread until a running job finishes")
+    void blockForAvailableThreads_WaitsForRunningJobs() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        pool.runInThread(() -> await(release));
+        pool.runInThread(() -> await(release));
+
+        CompletableFuture<Integer> available = CompletableFuture.supplyAsync(pool::blockForAvailableThreads);
+        Thread.sleep(200);
+        assertFalse(available.isDone());
+
+        release.countDown();
+        assertTrue(available.get(5, TimeUnit.SECONDS) >= 1);
+    }
+
+    @Test
+    @DisplayName("Should wait for running jobs on shutdown when asked to")
+    void shutdown_WaitForJobs_JoinsRunningJobs() {
+        AtomicInteger completed = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            pool.runInThread(() -> {
+                sleep(200);
+                completed.incrementAndGet();
+            });
+        }
+
+        pool.shutdown(true);
+
+        assertEquals(2, completed.get());
+        assertEquals(0, pool.blockForAvailableThreads());
+        assertFalse(pool.runInThread(() -> { }));
+    }
+
+    @Test
+    @DisplayName("Should accept the settings of the simple thread pool")
+    void settings_SimpleThreadPoolCompatible() throws SchedulerConfigException {
+        VirtualThreadPool configured = new VirtualThreadPool();
+        configured.setThreadCount(10);
+        configured.setThreadPriority(5);
+        configured.setThreadsInheritContextClassLoaderOfInitializingThread(true);
+        configured.initialize();
+
+        assertEquals(10, configured.getPoolSize());
+        configured.shutdown(false);
+    }
+
+    @Test
+    @DisplayName("Should reject a thread count below one")
+    void initialize_InvalidThreadCount_Throws() {
+        VirtualThreadPool invalid = new VirtualThreadPool();
+        invalid.setThreadCount(0);
+
+        assertThrows(SchedulerConfigException.class, invalid::initialize);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
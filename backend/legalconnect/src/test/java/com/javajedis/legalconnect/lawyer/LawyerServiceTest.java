@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockMultipartFile;
@@ -58,6 +59,9 @@ class LawyerServiceTest {
     @Mock
     private AwsService awsService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private LawyerService lawyerService;
 
@@ -139,6 +143,7 @@ class LawyerServiceTest {
             assertEquals("Lawyer profile created successfully", result.getBody().getMessage());
             verify(lawyerRepo).save(any(Lawyer.class));
             verify(lawyerSpecializationRepo, times(2)).save(any(LawyerSpecialization.class));
+            verify(eventPublisher).publishEvent(new LawyerStatusChangedEvent(testUser.getId()));
         }
     }
 
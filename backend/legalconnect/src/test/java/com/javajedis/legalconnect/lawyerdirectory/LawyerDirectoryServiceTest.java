@@ -32,7 +32,7 @@ import com.javajedis.legalconnect.casemanagement.Case;
 import com.javajedis.legalconnect.casemanagement.CaseRepo;
 import com.javajedis.legalconnect.casemanagement.CaseStatus;
 import com.javajedis.legalconnect.common.dto.ApiResponse;
-import com.javajedis.legalconnect.common.service.EmailService;
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
 import com.javajedis.legalconnect.common.utility.GetUserUtil;
 import com.javajedis.legalconnect.lawyer.LawyerRepo;
 import com.javajedis.legalconnect.lawyer.enums.District;
@@ -44,8 +44,8 @@ import com.javajedis.legalconnect.lawyerdirectory.dto.LawyerReviewListResponseDT
 import com.javajedis.legalconnect.lawyerdirectory.dto.LawyerReviewResponseDTO;
 import com.javajedis.legalconnect.lawyerdirectory.dto.LawyerSearchResultDTO;
 import com.javajedis.legalconnect.lawyerdirectory.dto.UpdateLawyerReviewDTO;
-import com.javajedis.legalconnect.notifications.NotificationPreferenceService;
-import com.javajedis.legalconnect.notifications.NotificationService;
+import com.javajedis.legalconnect.notifications.NotificationDispatcher;
+import com.javajedis.legalconnect.notifications.NotificationEvent;
 import com.javajedis.legalconnect.user.User;
 import com.javajedis.legalconnect.user.UserRepo;
 
@@ -59,11 +59,7 @@ class LawyerDirectoryServiceTest {
     @Mock
     private CaseRepo caseRepo;
     @Mock
-    private NotificationService notificationService;
-    @Mock
-    private NotificationPreferenceService notificationPreferenceService;
-    @Mock
-    private EmailService emailService;
+    private NotificationDispatcher notificationDispatcher;
     @InjectMocks
     private LawyerDirectoryService lawyerDirectoryService;
 
@@ -152,11 +148,12 @@ class LawyerDirectoryServiceTest {
         reviewDTO.setReview("Excellent");
         when(caseRepo.findById(testCaseId)).thenReturn(Optional.of(testCase));
         try (MockedStatic<GetUserUtil> mockedUtil = mockStatic(GetUserUtil.class)) {
-            mockedUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
             when(lawyerReviewRepo.save(any(LawyerReview.class))).thenReturn(testReview);
             ResponseEntity<ApiResponse<LawyerReviewResponseDTO>> result = lawyerDirectoryService.addReview(reviewDTO);
             assertEquals(HttpStatus.CREATED, result.getStatusCode());
             assertEquals("Review added successfully", result.getBody().getMessage());
+            verify(notificationDispatcher).dispatch(any(NotificationEvent.class));
         }
     }
 
@@ -180,7 +177,7 @@ class LawyerDirectoryServiceTest {
         anotherUser.setId(UUID.randomUUID());
         when(caseRepo.findById(testCaseId)).thenReturn(Optional.of(testCase));
         try (MockedStatic<GetUserUtil> mockedUtil = mockStatic(GetUserUtil.class)) {
-            mockedUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(anotherUser);
+            mockedUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(anotherUser));
             ResponseEntity<ApiResponse<LawyerReviewResponseDTO>> result = lawyerDirectoryService.addReview(reviewDTO);
             assertEquals(HttpStatus.FORBIDDEN, result.getStatusCode());
             assertEquals("You are not authorized to create review for this case", result.getBody().getError().getMessage());
@@ -196,7 +193,7 @@ class LawyerDirectoryServiceTest {
         reviewDTO.setReview("Excellent");
         when(caseRepo.findById(testCaseId)).thenReturn(Optional.of(testCase));
         try (MockedStatic<GetUserUtil> mockedUtil = mockStatic(GetUserUtil.class)) {
-            mockedUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
             ResponseEntity<ApiResponse<LawyerReviewResponseDTO>> result = lawyerDirectoryService.addReview(reviewDTO);
             assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
             assertEquals("Can not create review for non resolved cases", result.getBody().getError().getMessage());
@@ -210,7 +207,7 @@ class LawyerDirectoryServiceTest {
         reviewDTO.setReview("Good");
         when(lawyerReviewRepo.findById(testReviewId)).thenReturn(Optional.of(testReview));
         try (MockedStatic<GetUserUtil> mockedUtil = mockStatic(GetUserUtil.class)) {
-            mockedUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
             when(lawyerReviewRepo.save(any(LawyerReview.class))).thenReturn(testReview);
             ResponseEntity<ApiResponse<LawyerReviewResponseDTO>> result = lawyerDirectoryService.updateReview(testReviewId, reviewDTO);
             assertEquals(HttpStatus.OK, result.getStatusCode());
@@ -234,7 +231,7 @@ class LawyerDirectoryServiceTest {
         anotherUser.setId(UUID.randomUUID());
         when(lawyerReviewRepo.findById(testReviewId)).thenReturn(Optional.of(testReview));
         try (MockedStatic<GetUserUtil> mockedUtil = mockStatic(GetUserUtil.class)) {
-            mockedUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(anotherUser);
+            mockedUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(anotherUser));
             ResponseEntity<ApiResponse<LawyerReviewResponseDTO>> result = lawyerDirectoryService.updateReview(testReviewId, reviewDTO);
             assertEquals(HttpStatus.FORBIDDEN, result.getStatusCode());
             assertEquals("You are not authorized to update this review", result.getBody().getError().getMessage());
@@ -245,7 +242,7 @@ class LawyerDirectoryServiceTest {
     void deleteReview_success_returnsSuccessMessage() {
         when(lawyerReviewRepo.findById(testReviewId)).thenReturn(Optional.of(testReview));
         try (MockedStatic<GetUserUtil> mockedUtil = mockStatic(GetUserUtil.class)) {
-            mockedUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
             ResponseEntity<ApiResponse<String>> result = lawyerDirectoryService.deleteReview(testReviewId);
             assertEquals(HttpStatus.OK, result.getStatusCode());
             assertEquals("Review deleted successfully", result.getBody().getMessage());
@@ -267,7 +264,7 @@ class LawyerDirectoryServiceTest {
         anotherUser.setId(UUID.randomUUID());
         when(lawyerReviewRepo.findById(testReviewId)).thenReturn(Optional.of(testReview));
         try (MockedStatic<GetUserUtil> mockedUtil = mockStatic(GetUserUtil.class)) {
-            mockedUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(anotherUser);
+            mockedUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(anotherUser));
             ResponseEntity<ApiResponse<String>> result = lawyerDirectoryService.deleteReview(testReviewId);
             assertEquals(HttpStatus.FORBIDDEN, result.getStatusCode());
             assertEquals("You are not authorized to delete this review", result.getBody().getError().getMessage());
@@ -0,0 +1,94 @@
+package com.javajedis.legalconnect.notifications;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("DispatchStage Tests")
+class DispatchStageTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DispatchStage stage;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        stage = new DispatchStage("test", 1, 1, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should run tasks on the stage threads")
+    void submit_RunsOnStageThread() {
+        AtomicReference<String> threadName = new AtomicReference<>();
+
+        stage.submit("record thread", () -> threadName.set(Thread.currentThread().getName()));
+
+        assertTrue(stage.shutdown(1_000));
+        assertEquals("notify-test-1", threadName.get());
+        assertEquals(1, meterRegistry.get(DispatchStage.METRIC_TASKS)
+                .tags("stage", "test", "outcome", "success").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should run the task in the caller when the queue is full")
+    void submit_QueueFull_RunsInCaller() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger completed = new AtomicInteger();
+        AtomicReference<Thread> overflowThread = new AtomicReference<>();
+
+        stage.submit("block", () -> {
+            started.countDown();
+            awaitQuietly(release);
+            completed.incrementAndGet();
+        });
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        stage.submit("queued", completed::incrementAndGet);
+        stage.submit("overflow", () -> {
+            overflowThread.set(Thread.currentThread());
+            completed.incrementAndGet();
+        });
+        release.countDown();
+
+        assertTrue(stage.shutdown(1_000));
+        assertEquals(Thread.currentThread(), overflowThread.get());
+        assertEquals(3, completed.get());
+        assertEquals(1.0, meterRegistry.get(DispatchStage.METRIC_SATURATED).tags("stage", "test").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should expose the stage queue size")
+    void queueGauge_ReflectsPendingTasks() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        stage.submit("block", () -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        stage.submit("queued", () -> { });
+
+        assertEquals(1.0, meterRegistry.get(DispatchStage.METRIC_QUEUE).tags("stage", "test").gauge().value());
+        release.countDown();
+        assertTrue(stage.shutdown(1_000));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
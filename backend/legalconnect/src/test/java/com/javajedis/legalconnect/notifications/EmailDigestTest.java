@@ -0,0 +1,52 @@
+package com.javajedis.legalconnect.notifications;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("EmailDigest Tests")
+class EmailDigestTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2025, 8, 5, 10, 7, 30, 0, ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("Should end windows on UTC boundaries")
+    void windowEnd_AlignedToUtc() {
+        assertEquals(OffsetDateTime.of(2025, 8, 5, 10, 15, 0, 0, ZoneOffset.UTC),
+                EmailDigest.FIFTEEN_MINUTES.windowEnd(NOW));
+        assertEquals(OffsetDateTime.of(2025, 8, 5, 11, 0, 0, 0, ZoneOffset.UTC), EmailDigest.HOURLY.windowEnd(NOW));
+        assertEquals(OffsetDateTime.of(2025, 8, 6, 0, 0, 0, 0, ZoneOffset.UTC), EmailDigest.DAILY.windowEnd(NOW));
+    }
+
+    @Test
+    @DisplayName("Should give every time of a window the same end regardless of offset")
+    void windowEnd_SameWindow_SameEnd() {
+        OffsetDateTime dhaka = NOW.withOffsetSameInstant(ZoneOffset.ofHours(6));
+
+        assertEquals(EmailDigest.HOURLY.windowEnd(NOW), EmailDigest.HOURLY.windowEnd(dhaka));
+        assertEquals(EmailDigest.HOURLY.windowEnd(NOW), EmailDigest.HOURLY.windowEnd(NOW.withMinute(59)));
+    }
+
+    @Test
+    @DisplayName("Should start a new window at the boundary")
+    void windowEnd_AtBoundary_NextWindow() {
+        OffsetDateTime boundary = OffsetDateTime.of(2025, 8, 5, 11, 0, 0, 0, ZoneOffset.UTC);
+
+        assertEquals(boundary.plusHours(1), EmailDigest.HOURLY.windowEnd(boundary));
+    }
+
+    @Test
+    @DisplayName("Should have no window for immediate emails")
+    void windowEnd_Immediate_Throws() {
+        assertTrue(EmailDigest.IMMEDIATE.isImmediate());
+        assertFalse(EmailDigest.DAILY.isImmediate());
+        assertThrows(IllegalStateException.class, () -> EmailDigest.IMMEDIATE.windowEnd(NOW));
+    }
+}
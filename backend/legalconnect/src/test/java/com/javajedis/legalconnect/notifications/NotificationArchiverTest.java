@@ -0,0 +1,109 @@
+package com.javajedis.legalconnect.notifications;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.amazonaws.AmazonClientException;
+import com.javajedis.legalconnect.common.exception.ExternalServiceUnavailableException;
+import com.javajedis.legalconnect.common.exception.ExternalServiceUnavailableException.Reason;
+import com.javajedis.legalconnect.common.resilience.ExternalCallGuards;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationArchiver Tests")
+class NotificationArchiverTest {
+
+    @Mock
+    private NotificationRetentionService retentionService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        archiver = new NotificationArchiver(retentionService, meterRegistry, 90, 2, 5);
+    }
+
+    @Test
+    @DisplayName("Should archive batches until one comes back short")
+    void compact_ArchivesUntilShortBatch() {
+        when(retentionService.isArchiveConfigured()).thenReturn(true);
+        when(retentionService.archiveBatch(any(), eq(2))).thenReturn(2, 2, 1);
+
+        OffsetDateTime before = OffsetDateTime.now().minusDays(90);
+        archiver.compact();
+
+        ArgumentCaptor<OffsetDateTime> cutoff = ArgumentCaptor.forClass(OffsetDateTime.class);
+        verify(retentionService, times(3)).archiveBatch(cutoff.capture(), eq(2));
+        assertTrue(!cutoff.getValue().isBefore(before) && cutoff.getValue().isBefore(before.plusMinutes(1)));
+        assertEquals(5.0, meterRegistry.get(NotificationArchiver.METRIC_ARCHIVED).counter().count());
+    }
+
+    @Test
+    @DisplayName("Should stop after the batch limit of a run")
+    void compact_BatchLimitReached_Stops() {
+        when(retentionService.isArchiveConfigured()).thenReturn(true);
+        when(retentionService.archiveBatch(any(), eq(2))).thenReturn(2);
+
+        archiver.compact();
+
+        verify(retentionService, times(5)).archiveBatch(any(), eq(2));
+        assertEquals(10.0, meterRegistry.get(NotificationArchiver.METRIC_ARCHIVED).counter().count());
+    }
+
+    @Test
+    @DisplayName("Should stop the run when an upload fails")
+    void compact_UploadFails_StopsRun() {
+        when(retentionService.isArchiveConfigured()).thenReturn(true);
+        when(retentionService.archiveBatch(any(), eq(2)))
+                .thenReturn(2)
+                .thenThrow(new AmazonClientException("S3 unavailable"));
+
+        archiver.compact();
+
+        verify(retentionService, times(2)).archiveBatch(any(), eq(2));
+        assertEquals(2.0, meterRegistry.get(NotificationArchiver.METRIC_ARCHIVED).counter().count());
+    }
+
+    @Test
+    @DisplayName("Should stop the run when the storage circuit is open")
+    void compact_StorageUnavailable_StopsRun() {
+        when(retentionService.isArchiveConfigured()).thenReturn(true);
+        when(retentionService.archiveBatch(any(), eq(2)))
+                .thenReturn(2)
+                .thenThrow(new ExternalServiceUnavailableException(ExternalCallGuards.S3, Reason.CIRCUIT_OPEN));
+
+        archiver.compact();
+
+        verify(retentionService, times(2)).archiveBatch(any(), eq(2));
+        assertEquals(2.0, meterRegistry.get(NotificationArchiver.METRIC_ARCHIVED).counter().count());
+    }
+
+    @Test
+    @DisplayName("Should not delete anything without an archive bucket")
+    void compact_NoBucket_Skips() {
+        when(retentionService.isArchiveConfigured()).thenReturn(false);
+
+        archiver.compact();
+
+        verify(retentionService, never()).archiveBatch(any(), eq(2));
+    }
+}
@@ -34,9 +34,11 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.javajedis.legalconnect.common.dto.ApiResponse;
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
 import com.javajedis.legalconnect.common.utility.EmailVerificationFilter;
 import com.javajedis.legalconnect.common.utility.GetUserUtil;
 import com.javajedis.legalconnect.common.utility.JWTFilter;
+import com.javajedis.legalconnect.notifications.dto.MarkReadResponseDTO;
 import com.javajedis.legalconnect.notifications.dto.NotificationListResponseDTO;
 import com.javajedis.legalconnect.notifications.dto.NotificationPreferenceListResponseDTO;
 import com.javajedis.legalconnect.notifications.dto.NotificationPreferenceResponseDTO;
@@ -175,7 +177,7 @@ class NotificationControllerTest {
     @DisplayName("Should get user notifications successfully")
     void getUserNotifications_Success() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
             
             ResponseEntity<ApiResponse<NotificationListResponseDTO>> responseEntity = 
                 ApiResponse.success(notificationListResponseDTO, HttpStatus.OK, "Notifications retrieved successfully");
@@ -196,7 +198,7 @@ class NotificationControllerTest {
     @DisplayName("Should get user notifications with default parameters")
     void getUserNotifications_DefaultParams() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
             
             ResponseEntity<ApiResponse<NotificationListResponseDTO>> responseEntity = 
                 ApiResponse.success(notificationListResponseDTO, HttpStatus.OK, "Notifications retrieved successfully");
@@ -213,7 +215,7 @@ class NotificationControllerTest {
     @DisplayName("Should handle unauthenticated user for get notifications")
     void getUserNotifications_Unauthenticated() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(null);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(null);
 
             mockMvc.perform(get("/notifications/"))
                     .andExpect(status().isInternalServerError());
@@ -224,7 +226,7 @@ class NotificationControllerTest {
     @DisplayName("Should get unread count successfully")
     void getUnreadCount_Success() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
             
             ResponseEntity<ApiResponse<UnreadCountResponseDTO>> responseEntity = 
                 ApiResponse.success(unreadCountResponseDTO, HttpStatus.OK, "Unread count retrieved successfully");
@@ -240,7 +242,7 @@ class NotificationControllerTest {
     @DisplayName("Should handle unauthenticated user for unread count")
     void getUnreadCount_Unauthenticated() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(null);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(null);
 
             mockMvc.perform(get("/notifications/unread-count"))
                     .andExpect(status().isInternalServerError());
@@ -253,7 +255,7 @@ class NotificationControllerTest {
         UUID notificationId = UUID.randomUUID();
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
             
             NotificationResponseDTO readNotification = new NotificationResponseDTO();
             readNotification.setId(notificationId);
@@ -277,7 +279,7 @@ class NotificationControllerTest {
         UUID notificationId = UUID.randomUUID();
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(null);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(null);
 
             mockMvc.perform(put("/notifications/{id}/read", notificationId))
                     .andExpect(status().isInternalServerError());
@@ -288,26 +290,55 @@ class NotificationControllerTest {
     @DisplayName("Should mark all notifications as read successfully")
     void markAllNotificationsAsRead_Success() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
             
-            UnreadCountResponseDTO zeroCount = new UnreadCountResponseDTO();
-            zeroCount.setUnreadCount(0);
+            MarkReadResponseDTO marked = new MarkReadResponseDTO(3, 0);
             
-            ResponseEntity<ApiResponse<UnreadCountResponseDTO>> responseEntity = 
-                ApiResponse.success(zeroCount, HttpStatus.OK, "All notifications marked as read");
+            ResponseEntity<ApiResponse<MarkReadResponseDTO>> responseEntity = 
+                ApiResponse.success(marked, HttpStatus.OK, "All notifications marked as read");
             when(notificationService.markAllAsRead(testUser.getId())).thenReturn(responseEntity);
 
             mockMvc.perform(put("/notifications/mark-all-read"))
                     .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.markedCount").value(3))
                     .andExpect(jsonPath("$.data.unreadCount").value(0));
         }
     }
 
+    @Test
+    @DisplayName("Should mark notifications up to a cursor as read successfully")
+    void markNotificationsAsReadUpTo_Success() throws Exception {
+        UUID notificationId = UUID.randomUUID();
+        try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
+
+            ResponseEntity<ApiResponse<MarkReadResponseDTO>> responseEntity =
+                ApiResponse.success(new MarkReadResponseDTO(5, 2), HttpStatus.OK, "Notifications marked as read");
+            when(notificationService.markAsReadUpTo(notificationId, testUser.getId())).thenReturn(responseEntity);
+
+            mockMvc.perform(put("/notifications/{id}/read-up-to", notificationId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.markedCount").value(5))
+                    .andExpect(jsonPath("$.data.unreadCount").value(2));
+        }
+    }
+
+    @Test
+    @DisplayName("Should handle unauthenticated user for mark read up to a cursor")
+    void markNotificationsAsReadUpTo_Unauthenticated() throws Exception {
+        try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(null);
+
+            mockMvc.perform(put("/notifications/{id}/read-up-to", UUID.randomUUID()))
+                    .andExpect(status().isInternalServerError());
+        }
+    }
+
     @Test
     @DisplayName("Should handle unauthenticated user for mark all as read")
     void markAllNotificationsAsRead_Unauthenticated() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(null);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(null);
 
             mockMvc.perform(put("/notifications/mark-all-read"))
                     .andExpect(status().isInternalServerError());
@@ -318,7 +349,7 @@ class NotificationControllerTest {
     @DisplayName("Should get notification preferences successfully")
     void getNotificationPreferences_Success() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
             
             ResponseEntity<ApiResponse<NotificationPreferenceListResponseDTO>> responseEntity = 
                 ApiResponse.success(preferenceListResponseDTO, HttpStatus.OK, "Preferences retrieved successfully");
@@ -335,7 +366,7 @@ class NotificationControllerTest {
     @DisplayName("Should handle unauthenticated user for get preferences")
     void getNotificationPreferences_Unauthenticated() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(null);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(null);
 
             mockMvc.perform(get("/notifications/preferences"))
                     .andExpect(status().isInternalServerError());
@@ -346,7 +377,7 @@ class NotificationControllerTest {
     @DisplayName("Should update notification preference successfully")
     void updateNotificationPreference_Success() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
             
             NotificationPreferenceResponseDTO updatedPreference = new NotificationPreferenceResponseDTO();
             updatedPreference.setType(NotificationType.CASE_CREATE);
@@ -372,7 +403,7 @@ class NotificationControllerTest {
     @DisplayName("Should handle invalid notification type for preference update")
     void updateNotificationPreference_InvalidType() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
 
             mockMvc.perform(put("/notifications/preferences/{type}", "INVALID_TYPE")
                             .contentType(MediaType.APPLICATION_JSON)
@@ -385,7 +416,7 @@ class NotificationControllerTest {
     @DisplayName("Should handle unauthenticated user for preference update")
     void updateNotificationPreference_Unauthenticated() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(null);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(null);
 
             mockMvc.perform(put("/notifications/preferences/{type}", "CASE_CREATE")
                             .contentType(MediaType.APPLICATION_JSON)
@@ -398,7 +429,7 @@ class NotificationControllerTest {
     @DisplayName("Should handle preference update request with default values")
     void updateNotificationPreference_DefaultValues() throws Exception {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
 
             UpdateNotificationPreferenceDTO defaultDTO = new UpdateNotificationPreferenceDTO();
             // Primitive booleans default to false, so this is valid
@@ -0,0 +1,91 @@
+package com.javajedis.legalconnect.notifications;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationDigestFlusher Tests")
+class NotificationDigestFlusherTest {
+
+    @Mock
+    private NotificationDigestService digestService;
+
+    @Mock
+    private NotificationOutboxRelay outboxRelay;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationDigestFlusher flusher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        flusher = new NotificationDigestFlusher(digestService, outboxRelay, meterRegistry, 2);
+    }
+
+    @Test
+    @DisplayName("Should flush every due user page by page and wake the relay")
+    void flushDue_FullPages_FlushesAll() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        when(digestService.recipientsDue(any(), eq(2))).thenReturn(List.of(first, second), List.of(third));
+        when(digestService.flush(eq(first), any())).thenReturn(3);
+        when(digestService.flush(eq(second), any())).thenReturn(1);
+        when(digestService.flush(eq(third), any())).thenReturn(2);
+
+        flusher.flushDue();
+
+        verify(digestService, times(2)).recipientsDue(any(), eq(2));
+        verify(outboxRelay).wakeUp();
+        assertEquals(3.0, meterRegistry.get(NotificationDigestFlusher.METRIC_DIGESTS).counter().count());
+        assertEquals(6.0, meterRegistry.get(NotificationDigestFlusher.METRIC_ITEMS).counter().count());
+    }
+
+    @Test
+    @DisplayName("Should stop when a full page makes no progress")
+    void flushDue_PageLockedElsewhere_Stops() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(digestService.recipientsDue(any(), eq(2))).thenReturn(List.of(first, second));
+        when(digestService.flush(any(), any())).thenReturn(0);
+
+        flusher.flushDue();
+
+        verify(digestService, times(1)).recipientsDue(any(), eq(2));
+        verify(outboxRelay, never()).wakeUp();
+    }
+
+    @Test
+    @DisplayName("Should keep flushing other users when one flush fails")
+    void flushDue_FlushFails_ContinuesWithOthers() {
+        UUID failing = UUID.randomUUID();
+        UUID healthy = UUID.randomUUID();
+        when(digestService.recipientsDue(any(), eq(2))).thenReturn(List.of(failing, healthy), List.of());
+        when(digestService.flush(eq(failing), any())).thenThrow(new QueryTimeoutException("timeout"));
+        when(digestService.flush(eq(healthy), any())).thenReturn(1);
+
+        flusher.flushDue();
+
+        verify(digestService).flush(eq(healthy), any());
+        verify(outboxRelay).wakeUp();
+        assertEquals(1.0, meterRegistry.get(NotificationDigestFlusher.METRIC_DIGESTS).counter().count());
+    }
+}
@@ -0,0 +1,116 @@
+package com.javajedis.legalconnect.notifications;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.javajedis.legalconnect.notifications.NotificationEvent.Recipient;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationDigestService Tests")
+class NotificationDigestServiceTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2025, 8, 5, 11, 0, 0, 0, ZoneOffset.UTC);
+
+    @Mock
+    private NotificationDigestItemRepo digestItemRepo;
+
+    @Mock
+    private NotificationOutboxService outboxService;
+
+    private NotificationDigestService digestService;
+    private UUID recipientId;
+
+    @BeforeEach
+    void setUp() {
+        digestService = new NotificationDigestService(digestItemRepo, outboxService);
+        recipientId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should hold a notification until the end of its window")
+    void add_StoresItemWithWindowEnd() {
+        OffsetDateTime before = OffsetDateTime.now();
+
+        digestService.add(new Recipient(recipientId, "user@example.com"), NotificationType.NOTE_CREATE, "Subject",
+                "Hello", EmailDigest.HOURLY);
+
+        ArgumentCaptor<NotificationDigestItem> captor = ArgumentCaptor.forClass(NotificationDigestItem.class);
+        verify(digestItemRepo).save(captor.capture());
+        NotificationDigestItem item = captor.getValue();
+        assertEquals(recipientId, item.getRecipientId());
+        assertEquals("user@example.com", item.getRecipientEmail());
+        assertEquals(NotificationType.NOTE_CREATE, item.getNotificationType());
+        assertEquals("Hello", item.getContent());
+        assertEquals(EmailDigest.HOURLY.windowEnd(before).toInstant(), item.getFlushAt().toInstant());
+    }
+
+    @Test
+    @DisplayName("Should send one digest email for every due notification and delete them")
+    @SuppressWarnings("unchecked")
+    void flush_DueItems_EnqueuesOneEmail() {
+        NotificationDigestItem first = item(NotificationType.CASE_CREATE, "Case opened", NOW.minusMinutes(50));
+        NotificationDigestItem second = item(NotificationType.NOTE_CREATE, "Note added", NOW.minusMinutes(10));
+        List<NotificationDigestItem> items = List.of(first, second);
+        when(digestItemRepo.lockDueForRecipient(recipientId, NOW)).thenReturn(items);
+
+        int flushed = digestService.flush(recipientId, NOW);
+
+        assertEquals(2, flushed);
+        ArgumentCaptor<Map<String, Object>> variables = ArgumentCaptor.forClass(Map.class);
+        verify(outboxService).enqueueEmail(eq("digest:" + first.getId()), eq(recipientId), eq("user@example.com"),
+                eq("LegalConnect: 2 new notifications"), eq(NotificationDigestService.DIGEST_TEMPLATE),
+                variables.capture());
+        assertEquals(2, variables.getValue().get("notificationCount"));
+        List<Map<String, Object>> entries = (List<Map<String, Object>>) variables.getValue().get("notifications");
+        assertEquals("Case opened", entries.get(0).get("content"));
+        assertEquals(NotificationType.NOTE_CREATE.getDisplayName(), entries.get(1).get("notificationType"));
+        assertEquals("05-08-2025 10:50 AM", entries.get(1).get("time"));
+        verify(digestItemRepo).deleteAllInBatch(items);
+    }
+
+    @Test
+    @DisplayName("Should keep the original subject of a single notification")
+    void flush_SingleItem_KeepsSubject() {
+        when(digestItemRepo.lockDueForRecipient(recipientId, NOW))
+                .thenReturn(List.of(item(NotificationType.CASE_CREATE, "Case opened", NOW.minusMinutes(5))));
+
+        digestService.flush(recipientId, NOW);
+
+        verify(outboxService).enqueueEmail(anyString(), eq(recipientId), anyString(), eq("Subject"), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when no notification is due")
+    void flush_NothingDue_ReturnsZero() {
+        when(digestItemRepo.lockDueForRecipient(recipientId, NOW)).thenReturn(List.of());
+
+        assertEquals(0, digestService.flush(recipientId, NOW));
+
+        verify(outboxService, never()).enqueueEmail(any(), any(), any(), any(), any(), any());
+        verify(digestItemRepo, never()).deleteAllInBatch(any());
+    }
+
+    private NotificationDigestItem item(NotificationType type, String content, OffsetDateTime createdAt) {
+        return new NotificationDigestItem(UUID.randomUUID(), recipientId, "user@example.com", type, "Subject", content,
+                NOW, createdAt);
+    }
+}
@@ -0,0 +1,301 @@
+package com.javajedis.legalconnect.notifications;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.javajedis.legalconnect.jobscheduler.JobSchedulerService;
+import com.javajedis.legalconnect.notifications.NotificationEvent.Recipient;
+import com.javajedis.legalconnect.notifications.NotificationEvent.Reminder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationDispatcher Tests")
+class NotificationDispatcherTest {
+
+    private static final Map<String, Object> TEMPLATE_VARIABLES = Map.of("notificationType", "Test", "content", "Hello");
+
+    @Mock
+    private NotificationOutboxService outboxService;
+
+    @Mock
+    private NotificationOutboxRelay outboxRelay;
+
+    @Mock
+    private NotificationDigestService digestService;
+
+    @Mock
+    private ReminderService reminderService;
+
+    @Mock
+    private NotificationPreferenceService preferenceService;
+
+    @Mock
+    private JobSchedulerService jobSchedulerService;
+
+    private NotificationDispatcher dispatcher;
+    private Recipient client;
+    private Recipient lawyer;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new NotificationDispatcher(outboxService, outboxRelay, digestService, reminderService, preferenceService,
+                jobSchedulerService,
+                new SimpleMeterRegistry(), 100);
+        client = new Recipient(UUID.randomUUID(), "client@example.com");
+        lawyer = new Recipient(UUID.randomUUID(), "lawyer@example.com");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should enqueue web notification and email when both are enabled")
+    void dispatch_AllEnabled_EnqueuesBothChannels() {
+        when(preferenceService.preferencesFor(Set.of(client.userId())))
+                .thenReturn(Map.of(client.userId(), NotificationPreferenceMask.ALL_ENABLED));
+
+        dispatcher.dispatch(event(NotificationType.CASE_CREATE, null, client));
+
+        verify(outboxService).enqueueWebPush(anyString(), eq(client.userId()), eq("Hello"));
+        verify(outboxService).enqueueEmail(anyString(), eq(client.userId()), eq("client@example.com"), eq("Subject"),
+                eq(NotificationDispatcher.EMAIL_TEMPLATE), eq(TEMPLATE_VARIABLES));
+        verify(outboxRelay).wakeUp();
+    }
+
+    @Test
+    @DisplayName("Should resolve all recipients with one preference lookup and skip disabled channels")
+    void dispatch_DisabledChannels_Skipped() {
+        when(preferenceService.preferencesFor(Set.of(client.userId(), lawyer.userId()))).thenReturn(Map.of(
+                client.userId(), disabled(NotificationType.DOC_UPLOAD, true, false),
+                lawyer.userId(), disabled(NotificationType.DOC_UPLOAD, false, true)));
+
+        dispatcher.dispatch(event(NotificationType.DOC_UPLOAD, null, client, lawyer));
+
+        verify(outboxService).enqueueWebPush(anyString(), eq(lawyer.userId()), anyString());
+        verify(outboxService, never()).enqueueWebPush(anyString(), eq(client.userId()), anyString());
+        verify(outboxService).enqueueEmail(anyString(), eq(client.userId()), anyString(), anyString(), anyString(), any());
+        verify(outboxService, never()).enqueueEmail(anyString(), eq(lawyer.userId()), anyString(), anyString(),
+                anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should bypass preferences when the event has no type")
+    void dispatch_NoType_AlwaysDelivers() {
+        dispatcher.dispatch(event(null, null, lawyer));
+
+        verify(preferenceService, never()).preferencesFor(any());
+        verify(outboxService).enqueueWebPush(anyString(), eq(lawyer.userId()), eq("Hello"));
+        verify(outboxService).enqueueEmail(anyString(), eq(lawyer.userId()), eq("lawyer@example.com"), eq("Subject"),
+                eq(NotificationDispatcher.EMAIL_TEMPLATE), eq(TEMPLATE_VARIABLES));
+    }
+
+    @Test
+    @DisplayName("Should give every channel and recipient of an event its own dedup key")
+    void dispatch_DedupKeysPerChannelAndRecipient() {
+        ArgumentCaptor<String> webKeys = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> emailKeys = ArgumentCaptor.forClass(String.class);
+
+        dispatcher.dispatch(event(null, null, client, lawyer));
+        dispatcher.dispatch(event(null, null, client));
+
+        verify(outboxService, times(3)).enqueueWebPush(webKeys.capture(), any(), anyString());
+        verify(outboxService, times(3)).enqueueEmail(emailKeys.capture(), any(), anyString(), anyString(),
+                anyString(), any());
+        Set<String> keys = new HashSet<>(webKeys.getAllValues());
+        keys.addAll(emailKeys.getAllValues());
+        assertEquals(6, keys.size());
+    }
+
+    @Test
+    @DisplayName("Should key a sourced event by its occurrence so dispatching it again is deduplicated")
+    void dispatch_SameSource_SameDedupKeys() {
+        ArgumentCaptor<String> webKeys = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> emailKeys = ArgumentCaptor.forClass(String.class);
+        UUID caseId = UUID.randomUUID();
+
+        dispatcher.dispatch(event(null, null, client).withSource("case", caseId, "created"));
+        dispatcher.dispatch(event(null, null, client).withSource("case", caseId, "created"));
+
+        verify(outboxService, times(2)).enqueueWebPush(webKeys.capture(), any(), anyString());
+        verify(outboxService, times(2)).enqueueEmail(emailKeys.capture(), any(), anyString(), anyString(),
+                anyString(), any());
+        assertEquals(webKeys.getAllValues().get(0), webKeys.getAllValues().get(1));
+        assertEquals(emailKeys.getAllValues().get(0), emailKeys.getAllValues().get(1));
+        assertEquals("case:" + caseId + ":created:notice:web:" + client.userId(), webKeys.getValue());
+        assertNotEquals(webKeys.getValue(), emailKeys.getValue());
+    }
+
+    @Test
+    @DisplayName("Should store reminders on the channels each participant enabled")
+    void dispatch_Reminder_RespectsReminderPreferences() {
+        UUID taskId = UUID.randomUUID();
+        OffsetDateTime fireAt = OffsetDateTime.now().plusHours(1);
+        when(preferenceService.preferencesFor(Set.of(client.userId(), lawyer.userId()))).thenReturn(Map.of(
+                client.userId(), disabled(NotificationType.SCHEDULE_REMINDER, true, false),
+                lawyer.userId(), disabled(NotificationType.SCHEDULE_REMINDER, false, true)));
+
+        dispatcher.dispatch(event(NotificationType.EVENT_ADD,
+                new Reminder(taskId, fireAt, List.of(client, lawyer), false), client));
+        dispatcher.shutdown();
+
+        verify(reminderService, never()).cancel(any());
+        verify(reminderService).schedule(taskId, fireAt, List.of(lawyer), List.of(client), "Subject", "Hello",
+                NotificationDispatcher.EMAIL_TEMPLATE, TEMPLATE_VARIABLES);
+        verifyNoInteractions(jobSchedulerService);
+    }
+
+    @Test
+    @DisplayName("Should replace existing reminders when rescheduling")
+    void dispatch_Reschedule_CancelsBeforeScheduling() {
+        UUID taskId = UUID.randomUUID();
+        OffsetDateTime fireAt = OffsetDateTime.now().plusHours(1);
+        when(preferenceService.preferencesFor(Set.of(client.userId())))
+                .thenReturn(Map.of(client.userId(), NotificationPreferenceMask.ALL_ENABLED));
+
+        dispatcher.dispatch(event(NotificationType.EVENT_ADD,
+                new Reminder(taskId, fireAt, List.of(client), true), client));
+        dispatcher.shutdown();
+
+        InOrder order = inOrder(reminderService);
+        order.verify(reminderService).cancel(taskId);
+        order.verify(reminderService).schedule(eq(taskId), eq(fireAt), eq(List.of(client)), eq(List.of(client)),
+                any(), any(), any(), any());
+        verify(jobSchedulerService).deleteAllJobsForTask(taskId);
+    }
+
+    @Test
+    @DisplayName("Should cancel the reminders of a task and its legacy reminder jobs")
+    void cancelReminders_DeletesRemindersAndJobs() {
+        UUID taskId = UUID.randomUUID();
+
+        dispatcher.cancelReminders(taskId);
+        dispatcher.shutdown();
+
+        verify(reminderService).cancel(taskId);
+        verify(jobSchedulerService).deleteAllJobsForTask(taskId);
+    }
+
+    @Test
+    @DisplayName("Should cancel reminders in the surrounding transaction and delete jobs after it commits")
+    void cancelReminders_InTransaction_DeletesJobsAfterCommit() {
+        UUID taskId = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+
+        dispatcher.cancelReminders(taskId);
+
+        verify(reminderService).cancel(taskId);
+        verifyNoInteractions(jobSchedulerService);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        dispatcher.shutdown();
+        verify(jobSchedulerService).deleteAllJobsForTask(taskId);
+    }
+
+    @Test
+    @DisplayName("Should enqueue in the surrounding transaction and wake the relay after it commits")
+    void dispatch_InTransaction_RelayWokenAfterCommit() {
+        when(preferenceService.preferencesFor(Set.of(client.userId())))
+                .thenReturn(Map.of(client.userId(), NotificationPreferenceMask.ALL_ENABLED));
+        TransactionSynchronizationManager.initSynchronization();
+
+        dispatcher.dispatch(event(NotificationType.CASE_CREATE, null, client));
+
+        verify(outboxService).enqueueWebPush(anyString(), eq(client.userId()), eq("Hello"));
+        verifyNoInteractions(outboxRelay);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        verify(outboxRelay).wakeUp();
+    }
+
+    @Test
+    @DisplayName("Should not wake the relay when every channel is disabled")
+    void dispatch_NothingEnqueued_RelayNotWoken() {
+        when(preferenceService.preferencesFor(Set.of(client.userId())))
+                .thenReturn(Map.of(client.userId(), disabled(NotificationType.CASE_CREATE, true, true)));
+
+        dispatcher.dispatch(event(NotificationType.CASE_CREATE, null, client));
+
+        verifyNoInteractions(outboxService, outboxRelay);
+    }
+
+    @Test
+    @DisplayName("Should hold the email of a digest recipient and send the web notification")
+    void dispatch_DigestRecipient_EmailHeld() {
+        when(preferenceService.preferencesFor(Set.of(client.userId(), lawyer.userId()))).thenReturn(Map.of(
+                client.userId(), digest(NotificationType.NOTE_CREATE, EmailDigest.HOURLY),
+                lawyer.userId(), NotificationPreferenceMask.ALL_ENABLED));
+
+        dispatcher.dispatch(event(NotificationType.NOTE_CREATE, null, client, lawyer));
+
+        verify(digestService).add(client, NotificationType.NOTE_CREATE, "Subject", "Hello", EmailDigest.HOURLY);
+        verify(outboxService, never()).enqueueEmail(anyString(), eq(client.userId()), anyString(), anyString(),
+                anyString(), any());
+        verify(outboxService).enqueueEmail(anyString(), eq(lawyer.userId()), anyString(), anyString(), anyString(), any());
+        verify(outboxService).enqueueWebPush(anyString(), eq(client.userId()), eq("Hello"));
+    }
+
+    @Test
+    @DisplayName("Should not wake the relay when only digest emails were held")
+    void dispatch_OnlyDigestEmails_RelayNotWoken() {
+        NotificationPreferenceMask mask = digest(NotificationType.NOTE_CREATE, EmailDigest.DAILY);
+        when(preferenceService.preferencesFor(Set.of(client.userId()))).thenReturn(Map.of(client.userId(),
+                new NotificationPreferenceMask(mask.emailMask(), 0L, mask.emailDigests())));
+
+        dispatcher.dispatch(event(NotificationType.NOTE_CREATE, null, client));
+
+        verify(digestService).add(client, NotificationType.NOTE_CREATE, "Subject", "Hello", EmailDigest.DAILY);
+        verifyNoInteractions(outboxService, outboxRelay);
+    }
+
+    private NotificationEvent event(NotificationType type, Reminder reminder, Recipient... recipients) {
+        return new NotificationEvent(type, List.of(recipients), "Subject", "Hello", TEMPLATE_VARIABLES, reminder, null);
+    }
+
+    private static NotificationPreferenceMask disabled(NotificationType type, boolean webPush, boolean email) {
+        long bit = 1L << type.ordinal();
+        return new NotificationPreferenceMask(email ? ~bit : -1L, webPush ? ~bit : -1L);
+    }
+
+    private static NotificationPreferenceMask digest(NotificationType type, EmailDigest digest) {
+        NotificationPreference preference = new NotificationPreference();
+        preference.setNotificationType(type);
+        preference.setEmailDigest(digest);
+        return NotificationPreferenceMask.of(List.of(preference));
+    }
+}
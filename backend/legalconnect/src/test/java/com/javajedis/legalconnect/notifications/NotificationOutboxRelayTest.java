@@ -0,0 +1,303 @@
+package com.javajedis.legalconnect.notifications;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.thymeleaf.exceptions.TemplateProcessingException;
+
+import com.javajedis.legalconnect.common.service.EmailService;
+import com.javajedis.legalconnect.common.service.EmailService.TemplateEmail;
+import com.javajedis.legalconnect.common.service.EmailTemplateRenderer;
+import com.javajedis.legalconnect.common.service.PooledSmtpSender;
+import com.javajedis.legalconnect.notifications.NotificationOutbox.Channel;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationOutboxRelay Tests")
+class NotificationOutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private NotificationOutboxService outboxService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private EmailService emailService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new NotificationOutboxRelay(outboxService, notificationService, emailService, meterRegistry,
+                BATCH_SIZE, 1, 7);
+    }
+
+    @AfterEach
+    void tearDown() {
+        relay.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should deliver each channel and mark the batch sent together")
+    void relayBatch_DeliversAndMarksSent() {
+        NotificationOutbox email = email("user@example.com");
+        NotificationOutbox webPush = webPush();
+        when(outboxService.claim(BATCH_SIZE)).thenReturn(List.of(email, webPush));
+        when(outboxService.readVariables(email)).thenReturn(Map.of("content", "Hello"));
+
+        when(emailService.deliverTemplateEmails(List.of(new TemplateEmail("user@example.com", "Subject",
+                "notification-email", Map.of("content", "Hello"))))).thenReturn(Collections.singletonList(null));
+
+        assertEquals(2, relay.relayBatch());
+
+        verify(notificationService).sendNotifications(Set.of(webPush.getRecipientId()), "Hello");
+        verify(outboxService).markSent(List.of(webPush.getId(), email.getId()));
+        assertEquals(1.0, relayed(Channel.EMAIL, "sent"));
+        assertEquals(1.0, relayed(Channel.WEB_PUSH, "sent"));
+    }
+
+    @Test
+    @DisplayName("Should schedule a retry when the mail server fails")
+    void relayBatch_TransientFailure_Retried() {
+        NotificationOutbox email = email("user@example.com");
+        when(outboxService.claim(BATCH_SIZE)).thenReturn(List.of(email));
+        when(outboxService.readVariables(email)).thenReturn(Map.of());
+        when(emailService.deliverTemplateEmails(any()))
+                .thenReturn(List.of(new MailSendException("Connection refused")));
+        when(outboxService.markFailed(email, "Connection refused", false)).thenReturn(true);
+
+        relay.relayBatch();
+
+        verify(outboxService).markSent(List.of());
+        assertEquals(1.0, relayed(Channel.EMAIL, "retried"));
+    }
+
+    @Test
+    @DisplayName("Should give up at once on an invalid address")
+    void relayBatch_InvalidAddress_FailedPermanently() {
+        NotificationOutbox email = email("invalid-email");
+        when(outboxService.claim(BATCH_SIZE)).thenReturn(List.of(email));
+        when(outboxService.readVariables(email)).thenReturn(Map.of());
+        when(emailService.deliverTemplateEmails(any()))
+                .thenReturn(List.of(new IllegalArgumentException("Invalid email address: invalid-email")));
+
+        relay.relayBatch();
+
+        verify(outboxService).markFailed(email, "Invalid email address: invalid-email", true);
+        assertEquals(1.0, relayed(Channel.EMAIL, "failed"));
+    }
+
+    @Test
+    @DisplayName("Should send the emails of a batch together")
+    void relayBatch_EmailsSentTogether() {
+        NotificationOutbox first = email("first@example.com");
+        NotificationOutbox second = email("second@example.com");
+        when(outboxService.claim(BATCH_SIZE)).thenReturn(List.of(first, second));
+        when(outboxService.readVariables(any())).thenReturn(Map.of());
+        when(emailService.deliverTemplateEmails(any())).thenReturn(Arrays.asList(null, null));
+
+        relay.relayBatch();
+
+        verify(emailService, times(1)).deliverTemplateEmails(List.of(
+                new TemplateEmail("first@example.com", "Subject", "notification-email", Map.of()),
+                new TemplateEmail("second@example.com", "Subject", "notification-email", Map.of())));
+        verify(outboxService).markSent(List.of(first.getId(), second.getId()));
+    }
+
+    @Test
+    @DisplayName("Should give up on an email whose variables cannot be read")
+    void relayBatch_UnreadableVariables_FailedPermanently() {
+        NotificationOutbox email = email("user@example.com");
+        when(outboxService.claim(BATCH_SIZE)).thenReturn(List.of(email));
+        when(outboxService.readVariables(email)).thenThrow(new IllegalArgumentException("Unreadable template variables"));
+
+        relay.relayBatch();
+
+        verify(emailService, never()).deliverTemplateEmails(any());
+        verify(outboxService).markFailed(email, "Unreadable template variables", true);
+    }
+
+    @Test
+    @DisplayName("Should write the web notifications of a fan-out together")
+    void relayBatch_SameContent_SentTogether() {
+        NotificationOutbox first = webPush();
+        NotificationOutbox second = webPush();
+        when(outboxService.claim(BATCH_SIZE)).thenReturn(List.of(first, second));
+
+        relay.relayBatch();
+
+        verify(notificationService).sendNotifications(Set.of(first.getRecipientId(), second.getRecipientId()), "Hello");
+        verify(notificationService, never()).sendNotification(any(UUID.class), any());
+        verify(outboxService).markSent(List.of(first.getId(), second.getId()));
+    }
+
+    @Test
+    @DisplayName("Should send a repeated notification for the same user on its own")
+    void relayBatch_SameUserTwice_BothSent() {
+        NotificationOutbox first = webPush();
+        NotificationOutbox repeated = webPush();
+        repeated.setRecipientId(first.getRecipientId());
+        when(outboxService.claim(BATCH_SIZE)).thenReturn(List.of(first, repeated));
+
+        relay.relayBatch();
+
+        verify(notificationService).sendNotification(first.getRecipientId(), "Hello");
+        verify(notificationService).sendNotifications(Set.of(first.getRecipientId()), "Hello");
+        verify(outboxService).markSent(List.of(repeated.getId(), first.getId()));
+    }
+
+    @Test
+    @DisplayName("Should retry every web notification of a failed fan-out")
+    void relayBatch_FanOutFails_AllRetried() {
+        NotificationOutbox first = webPush();
+        NotificationOutbox second = webPush();
+        when(outboxService.claim(BATCH_SIZE)).thenReturn(List.of(first, second));
+        when(notificationService.sendNotifications(any(), eq("Hello")))
+                .thenThrow(new QueryTimeoutException("Database timeout"));
+        when(outboxService.markFailed(any(), eq("Database timeout"), eq(false))).thenReturn(true);
+
+        relay.relayBatch();
+
+        verify(outboxService).markFailed(first, "Database timeout", false);
+        verify(outboxService).markFailed(second, "Database timeout", false);
+        verify(outboxService).markSent(List.of());
+        assertEquals(2.0, relayed(Channel.WEB_PUSH, "retried"));
+    }
+
+    @Test
+    @DisplayName("Should record the rest of the batch when an email template fails to render")
+    void relayBatch_TemplateFails_OtherRowsRecorded() {
+        EmailTemplateRenderer renderer = mock(EmailTemplateRenderer.class);
+        PooledSmtpSender smtpSender = mock(PooledSmtpSender.class);
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+        EmailService realEmailService = new EmailService(mailSender, renderer, smtpSender, "noreply@legalconnect.live");
+        relay = new NotificationOutboxRelay(outboxService, notificationService, realEmailService, meterRegistry,
+                BATCH_SIZE, 1, 7);
+
+        NotificationOutbox webPush = webPush();
+        NotificationOutbox broken = email("broken@example.com");
+        broken.setTemplateName("broken-template");
+        NotificationOutbox working = email("user@example.com");
+        when(outboxService.claim(BATCH_SIZE)).thenReturn(List.of(webPush, broken, working));
+        when(outboxService.readVariables(any())).thenReturn(Map.of());
+        when(renderer.render("broken-template", Map.of()))
+                .thenThrow(new TemplateProcessingException("Method format cannot be found"));
+        when(renderer.render("notification-email", Map.of())).thenReturn("<html>Hello</html>");
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        when(outboxService.markFailed(eq(broken), any(), eq(false))).thenReturn(true);
+
+        assertEquals(3, relay.relayBatch());
+
+        verify(smtpSender).sendBatch(argThat(messages -> messages.size() == 1));
+        verify(outboxService).markFailed(eq(broken), any(), eq(false));
+        verify(outboxService).markSent(List.of(webPush.getId(), working.getId()));
+        assertEquals(1.0, relayed(Channel.EMAIL, "retried"));
+    }
+
+    @Test
+    @DisplayName("Should mark delivered rows sent even when recording a failure fails")
+    void relayBatch_RecordingFails_DeliveredRowsMarkedSent() {
+        NotificationOutbox webPush = webPush();
+        NotificationOutbox email = email("user@example.com");
+        when(outboxService.claim(BATCH_SIZE)).thenReturn(List.of(webPush, email));
+        when(outboxService.readVariables(email)).thenReturn(Map.of());
+        when(emailService.deliverTemplateEmails(any()))
+                .thenReturn(List.of(new MailSendException("Connection refused")));
+        when(outboxService.markFailed(email, "Connection refused", false))
+                .thenThrow(new QueryTimeoutException("Database timeout"));
+
+        assertThrows(QueryTimeoutException.class, () -> relay.relayBatch());
+
+        verify(outboxService).markSent(List.of(webPush.getId()));
+    }
+
+    @Test
+    @DisplayName("Should keep claiming while batches come back full")
+    void wakeUp_DrainsUntilPartialBatch() {
+        when(outboxService.claim(BATCH_SIZE))
+                .thenReturn(List.of(webPush(), webPush()))
+                .thenReturn(List.of(webPush()));
+
+        relay.wakeUp();
+        relay.shutdown();
+
+        verify(outboxService, times(2)).claim(BATCH_SIZE);
+        verify(notificationService).sendNotifications(argThat(receivers -> receivers.size() == 2), eq("Hello"));
+        verify(notificationService).sendNotifications(argThat(receivers -> receivers.size() == 1), eq("Hello"));
+        verify(outboxService, never()).markFailed(any(), any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Should purge sent rows older than the retention period")
+    void purgeSent_UsesRetention() {
+        OffsetDateTime before = OffsetDateTime.now().minusDays(7);
+
+        relay.purgeSent();
+
+        verify(outboxService).purgeSentBefore(argThat(cutoff -> !cutoff.isBefore(before)
+                && cutoff.isBefore(before.plusMinutes(1))));
+    }
+
+    private double relayed(Channel channel, String outcome) {
+        return meterRegistry.get(NotificationOutboxRelay.METRIC_RELAYED)
+                .tags("channel", channel.name(), "outcome", outcome).counter().count();
+    }
+
+    private static NotificationOutbox email(String address) {
+        NotificationOutbox row = row(Channel.EMAIL);
+        row.setRecipientEmail(address);
+        row.setSubject("Subject");
+        row.setTemplateName("notification-email");
+        return row;
+    }
+
+    private static NotificationOutbox webPush() {
+        NotificationOutbox row = row(Channel.WEB_PUSH);
+        row.setContent("Hello");
+        return row;
+    }
+
+    private static NotificationOutbox row(Channel channel) {
+        NotificationOutbox row = new NotificationOutbox();
+        row.setId(UUID.randomUUID());
+        row.setChannel(channel);
+        row.setRecipientId(UUID.randomUUID());
+        row.setAttempts(1);
+        return row;
+    }
+}
@@ -0,0 +1,216 @@
+package com.javajedis.legalconnect.notifications;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javajedis.legalconnect.common.service.EmailTemplateRenderer;
+import com.javajedis.legalconnect.notifications.NotificationOutbox.Channel;
+import com.javajedis.legalconnect.notifications.NotificationOutbox.Status;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationOutboxService Tests")
+class NotificationOutboxServiceTest {
+
+    private static final long LEASE_MILLIS = 60_000;
+
+    @Mock
+    private NotificationOutboxRepo outboxRepo;
+
+    private NotificationOutboxService outboxService;
+    private UUID recipientId;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = new NotificationOutboxService(outboxRepo, new ObjectMapper(), 3, LEASE_MILLIS);
+        recipientId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should render a schedule email after its variables round-trip through the outbox")
+    void readVariables_RoundTrippedScheduleEmail_Renders() {
+        when(outboxRepo.insertIfAbsent(any(), anyString(), anyString(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(1);
+        outboxService.enqueueEmail("event:email:user", recipientId, "user@example.com", "New Schedule Created",
+                "notification-email", Map.of("notificationType", "Schedule Created",
+                        "content", "Meeting scheduled", "timestamp", "05-08-2025 02:30 PM"));
+        ArgumentCaptor<String> variables = ArgumentCaptor.forClass(String.class);
+        verify(outboxRepo).insertIfAbsent(any(), anyString(), anyString(), any(), any(), any(), any(), any(),
+                variables.capture(), any());
+        NotificationOutbox row = new NotificationOutbox();
+        row.setTemplateVariables(variables.getValue());
+
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        String body = new EmailTemplateRenderer(engine, new SimpleMeterRegistry())
+                .render("notification-email", outboxService.readVariables(row));
+
+        assertTrue(body.contains("Meeting scheduled"));
+        assertTrue(body.contains("05-08-2025 02:30 PM"));
+    }
+
+    @Test
+    @DisplayName("Should store an email with its template variables as JSON")
+    void enqueueEmail_StoresSerializedVariables() {
+        when(outboxRepo.insertIfAbsent(any(), anyString(), anyString(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(1);
+
+        boolean stored = outboxService.enqueueEmail("event:email:user", recipientId, "user@example.com", "Subject",
+                "notification-email", Map.of("content", "Hello"));
+
+        assertTrue(stored);
+        verify(outboxRepo).insertIfAbsent(any(UUID.class), eq("event:email:user"), eq("EMAIL"), eq(recipientId),
+                eq("user@example.com"), eq("Subject"), eq("notification-email"), isNull(),
+                eq("{\"content\":\"Hello\"}"), any(OffsetDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should report a duplicate web notification as not stored")
+    void enqueueWebPush_Duplicate_ReturnsFalse() {
+        when(outboxRepo.insertIfAbsent(any(), anyString(), anyString(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(0);
+
+        boolean stored = outboxService.enqueueWebPush("event:web:user", recipientId, "Hello");
+
+        assertFalse(stored);
+        verify(outboxRepo).insertIfAbsent(any(UUID.class), eq("event:web:user"), eq("WEB_PUSH"), eq(recipientId),
+                isNull(), isNull(), isNull(), eq("Hello"), isNull(), any(OffsetDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should count the attempt and lease claimed rows")
+    void claim_LeasesRows() {
+        NotificationOutbox row = row(Channel.WEB_PUSH, 0);
+        when(outboxRepo.lockDue(any(OffsetDateTime.class), eq(10))).thenReturn(List.of(row));
+        when(outboxRepo.saveAll(List.of(row))).thenReturn(List.of(row));
+        OffsetDateTime before = OffsetDateTime.now();
+
+        List<NotificationOutbox> claimed = outboxService.claim(10);
+
+        assertEquals(List.of(row), claimed);
+        assertEquals(1, row.getAttempts());
+        assertFalse(row.getNextAttemptAt().isBefore(before.plus(Duration.ofMillis(LEASE_MILLIS))));
+    }
+
+    @Test
+    @DisplayName("Should not write anything when no rows are due")
+    void claim_NothingDue_NoWrite() {
+        when(outboxRepo.lockDue(any(OffsetDateTime.class), anyInt())).thenReturn(List.of());
+
+        assertTrue(outboxService.claim(10).isEmpty());
+        verify(outboxRepo, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Should skip the update when there is nothing to mark sent")
+    void markSent_Empty_NoWrite() {
+        outboxService.markSent(List.of());
+
+        verify(outboxRepo, never()).markSent(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("Should reschedule a transient failure with backoff")
+    void markFailed_Transient_Rescheduled() {
+        NotificationOutbox row = row(Channel.EMAIL, 2);
+        OffsetDateTime before = OffsetDateTime.now();
+
+        boolean retry = outboxService.markFailed(row, "Connection refused", false);
+
+        assertTrue(retry);
+        ArgumentCaptor<OffsetDateTime> nextAttempt = ArgumentCaptor.forClass(OffsetDateTime.class);
+        verify(outboxRepo).markFailed(eq(row.getId()), eq(Status.PENDING), nextAttempt.capture(),
+                eq("Connection refused"));
+        assertFalse(nextAttempt.getValue().isBefore(before.plus(Duration.ofSeconds(60))));
+    }
+
+    @Test
+    @DisplayName("Should give up once the row has used all its attempts")
+    void markFailed_AttemptsExhausted_Failed() {
+        NotificationOutbox row = row(Channel.EMAIL, 3);
+
+        assertFalse(outboxService.markFailed(row, "Connection refused", false));
+        verify(outboxRepo).markFailed(row.getId(), Status.FAILED, row.getNextAttemptAt(), "Connection refused");
+    }
+
+    @Test
+    @DisplayName("Should give up at once on a permanent failure")
+    void markFailed_Permanent_Failed() {
+        NotificationOutbox row = row(Channel.EMAIL, 1);
+
+        assertFalse(outboxService.markFailed(row, "Invalid email address", true));
+        verify(outboxRepo).markFailed(row.getId(), Status.FAILED, row.getNextAttemptAt(), "Invalid email address");
+    }
+
+    @Test
+    @DisplayName("Should double the backoff per attempt up to the cap")
+    void backoff_DoublesUpToCap() {
+        assertEquals(Duration.ofSeconds(30), NotificationOutboxService.backoff(1));
+        assertEquals(Duration.ofSeconds(60), NotificationOutboxService.backoff(2));
+        assertEquals(Duration.ofMinutes(4), NotificationOutboxService.backoff(4));
+        assertEquals(NotificationOutboxService.MAX_BACKOFF, NotificationOutboxService.backoff(50));
+    }
+
+    @Test
+    @DisplayName("Should read back stored template variables")
+    void readVariables_RoundTrips() {
+        NotificationOutbox row = row(Channel.EMAIL, 1);
+        row.setTemplateVariables("{\"content\":\"Hello\"}");
+
+        assertEquals(Map.of("content", "Hello"), outboxService.readVariables(row));
+    }
+
+    @Test
+    @DisplayName("Should reject unreadable template variables")
+    void readVariables_Corrupt_Throws() {
+        NotificationOutbox row = row(Channel.EMAIL, 1);
+        row.setTemplateVariables("{not json");
+
+        assertThrows(IllegalArgumentException.class, () -> outboxService.readVariables(row));
+    }
+
+    private NotificationOutbox row(Channel channel, int attempts) {
+        NotificationOutbox row = new NotificationOutbox();
+        row.setId(UUID.randomUUID());
+        row.setDedupKey(UUID.randomUUID() + ":" + channel);
+        row.setChannel(channel);
+        row.setRecipientId(recipientId);
+        row.setAttempts(attempts);
+        row.setNextAttemptAt(OffsetDateTime.now().plusMinutes(5));
+        return row;
+    }
+}
@@ -0,0 +1,125 @@
+package com.javajedis.legalconnect.notifications;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationPreferenceCache Tests")
+class NotificationPreferenceCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private NotificationPreferenceCache cache;
+    private UUID userId;
+    private AtomicInteger loads;
+    private Function<UUID, NotificationPreferenceMask> loader;
+
+    @BeforeEach
+    void setUp() {
+        cache = new NotificationPreferenceCache(redisTemplate);
+        userId = UUID.randomUUID();
+        loads = new AtomicInteger();
+        loader = id -> {
+            loads.incrementAndGet();
+            return NotificationPreferenceMask.ALL_ENABLED;
+        };
+    }
+
+    @Test
+    @DisplayName("Should load preferences once and serve them from cache")
+    void get_CachesLoadedMask() {
+        cache.get(userId, loader);
+        cache.get(userId, loader);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should only load users missing from the cache in bulk")
+    void getAll_LoadsOnlyMisses() {
+        cache.get(userId, loader);
+        UUID otherUserId = UUID.randomUUID();
+        List<Set<? extends UUID>> requested = new ArrayList<>();
+
+        Map<UUID, NotificationPreferenceMask> result = cache.getAll(List.of(userId, otherUserId), ids -> {
+            requested.add(Set.copyOf(ids));
+            Map<UUID, NotificationPreferenceMask> masks = new HashMap<>();
+            ids.forEach(id -> masks.put(id, new NotificationPreferenceMask(0L, 0L)));
+            return masks;
+        });
+
+        assertEquals(List.of(Set.of(otherUserId)), requested);
+        assertEquals(NotificationPreferenceMask.ALL_ENABLED, result.get(userId));
+        assertEquals(new NotificationPreferenceMask(0L, 0L), result.get(otherUserId));
+    }
+
+    @Test
+    @DisplayName("Should evict locally and relay invalidation")
+    void invalidate_EvictsAndPublishes() {
+        cache.get(userId, loader);
+
+        cache.invalidate(userId);
+        cache.get(userId, loader);
+
+        assertEquals(2, loads.get());
+        verify(redisTemplate).convertAndSend(NotificationPreferenceCache.INVALIDATION_CHANNEL, userId.toString());
+    }
+
+    @Test
+    @DisplayName("Should still evict locally when Redis is unavailable")
+    void invalidate_RedisDown_EvictsLocally() {
+        cache.get(userId, loader);
+        when(redisTemplate.convertAndSend(NotificationPreferenceCache.INVALIDATION_CHANNEL, userId.toString()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertDoesNotThrow(() -> cache.invalidate(userId));
+        cache.get(userId, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should evict on invalidation relayed by another node")
+    void onMessage_EvictsUser() {
+        cache.get(userId, loader);
+
+        cache.onMessage(new DefaultMessage(new byte[0], userId.toString().getBytes(StandardCharsets.UTF_8)), null);
+        cache.get(userId, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should ignore malformed invalidation message")
+    void onMessage_Malformed_Ignored() {
+        cache.get(userId, loader);
+
+        cache.onMessage(new DefaultMessage(new byte[0], "not-a-uuid".getBytes(StandardCharsets.UTF_8)), null);
+        cache.get(userId, loader);
+
+        assertEquals(1, loads.get());
+    }
+}
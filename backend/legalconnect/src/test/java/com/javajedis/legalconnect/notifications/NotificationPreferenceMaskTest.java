@@ -0,0 +1,70 @@
+package com.javajedis.legalconnect.notifications;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("NotificationPreferenceMask Tests")
+class NotificationPreferenceMaskTest {
+
+    @Test
+    @DisplayName("Should enable every type when no preference is stored")
+    void of_NoPreferences_AllEnabled() {
+        NotificationPreferenceMask mask = NotificationPreferenceMask.of(List.of());
+
+        assertEquals(NotificationPreferenceMask.ALL_ENABLED, mask);
+        for (NotificationType type : NotificationType.values()) {
+            assertTrue(mask.isEmailEnabled(type));
+            assertTrue(mask.isWebPushEnabled(type));
+        }
+    }
+
+    @Test
+    @DisplayName("Should clear only the channels disabled for each type")
+    void of_DisabledPreferences_ClearsMatchingBits() {
+        NotificationPreferenceMask mask = NotificationPreferenceMask.of(List.of(
+                preference(NotificationType.CASE_CREATE, false, true),
+                preference(NotificationType.NOTE_CREATE, true, false),
+                preference(NotificationType.EVENT_ADD, true, true)));
+
+        assertFalse(mask.isEmailEnabled(NotificationType.CASE_CREATE));
+        assertTrue(mask.isWebPushEnabled(NotificationType.CASE_CREATE));
+        assertTrue(mask.isEmailEnabled(NotificationType.NOTE_CREATE));
+        assertFalse(mask.isWebPushEnabled(NotificationType.NOTE_CREATE));
+        assertTrue(mask.isEmailEnabled(NotificationType.EVENT_ADD));
+        assertTrue(mask.isWebPushEnabled(NotificationType.DOC_UPLOAD));
+    }
+
+    @Test
+    @DisplayName("Should keep the digest mode of each type")
+    void of_DigestPreferences_PackedPerType() {
+        NotificationPreference hourly = preference(NotificationType.CASE_CREATE, true, true);
+        hourly.setEmailDigest(EmailDigest.HOURLY);
+        NotificationPreference daily = preference(NotificationType.DOC_UPLOAD, true, true);
+        daily.setEmailDigest(EmailDigest.DAILY);
+
+        NotificationPreferenceMask mask = NotificationPreferenceMask.of(List.of(hourly, daily,
+                preference(NotificationType.EVENT_ADD, true, true)));
+
+        assertEquals(EmailDigest.HOURLY, mask.emailDigest(NotificationType.CASE_CREATE));
+        assertEquals(EmailDigest.DAILY, mask.emailDigest(NotificationType.DOC_UPLOAD));
+        assertEquals(EmailDigest.IMMEDIATE, mask.emailDigest(NotificationType.EVENT_ADD));
+        assertEquals(EmailDigest.IMMEDIATE, mask.emailDigest(NotificationType.NOTE_CREATE));
+        assertEquals(EmailDigest.IMMEDIATE, NotificationPreferenceMask.ALL_ENABLED.emailDigest(NotificationType.CASE_CREATE));
+    }
+
+    private NotificationPreference preference(NotificationType type, boolean email, boolean webPush) {
+        NotificationPreference preference = new NotificationPreference();
+        preference.setUserId(UUID.randomUUID());
+        preference.setNotificationType(type);
+        preference.setEmailEnabled(email);
+        preference.setWebPushEnabled(webPush);
+        return preference;
+    }
+}
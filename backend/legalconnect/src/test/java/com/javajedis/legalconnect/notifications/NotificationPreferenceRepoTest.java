@@ -257,6 +257,22 @@ class NotificationPreferenceRepoTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    @DisplayName("Should find preferences of several users at once")
+    void findByUserIdIn_MultipleUsers_ReturnsAllTheirPreferences() {
+        // Arrange
+        List<UUID> userIds = List.of(testUserId1, testUserId2);
+        when(notificationPreferenceRepo.findByUserIdIn(userIds))
+            .thenReturn(Arrays.asList(preference1, preference2, preference3, preference4));
+
+        // Act
+        List<NotificationPreference> result = notificationPreferenceRepo.findByUserIdIn(userIds);
+
+        // Assert
+        assertEquals(4, result.size());
+        assertTrue(result.stream().allMatch(preference -> userIds.contains(preference.getUserId())));
+    }
+
     @Test
     @DisplayName("Should handle different notification types correctly")
     void testDifferentNotificationTypes() {
@@ -5,7 +5,6 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -16,6 +15,7 @@ import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -26,14 +26,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import com.javajedis.legalconnect.common.dto.ApiResponse;
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
 import com.javajedis.legalconnect.common.utility.GetUserUtil;
 import com.javajedis.legalconnect.notifications.dto.NotificationPreferenceListResponseDTO;
 import com.javajedis.legalconnect.notifications.dto.NotificationPreferenceResponseDTO;
@@ -52,7 +53,9 @@ class NotificationPreferenceServiceTest {
     @Mock
     private UserRepo userRepo;
 
-    @InjectMocks
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
     private NotificationPreferenceService notificationPreferenceService;
 
     private User testUser;
@@ -62,6 +65,9 @@ class NotificationPreferenceServiceTest {
 
     @BeforeEach
     void setUp() {
+        notificationPreferenceService = new NotificationPreferenceService(notificationPreferenceRepo, userRepo,
+                new NotificationPreferenceCache(redisTemplate));
+
         // Setup test user
         testUser = new User();
         testUser.setId(UUID.randomUUID());
@@ -105,8 +111,8 @@ class NotificationPreferenceServiceTest {
         List<NotificationPreference> preferences = Arrays.asList(testPreference1, testPreference2);
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo))
-                    .thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo))
+                    .thenReturn(AuthenticatedUser.from(testUser));
             when(notificationPreferenceRepo.findByUserId(testUser.getId()))
                     .thenReturn(preferences);
 
@@ -146,7 +152,7 @@ class NotificationPreferenceServiceTest {
     void getAllPreferences_Unauthorized() {
         // Arrange
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo))
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo))
                     .thenReturn(null);
 
             // Act
@@ -167,8 +173,8 @@ class NotificationPreferenceServiceTest {
     void getAllPreferences_EmptyList() {
         // Arrange
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo))
-                    .thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo))
+                    .thenReturn(AuthenticatedUser.from(testUser));
             when(notificationPreferenceRepo.findByUserId(testUser.getId()))
                     .thenReturn(Arrays.asList());
 
@@ -203,8 +209,8 @@ class NotificationPreferenceServiceTest {
         updatedPreference.setUpdatedAt(OffsetDateTime.now());
 
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo))
-                    .thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo))
+                    .thenReturn(AuthenticatedUser.from(testUser));
             when(notificationPreferenceRepo.findByUserIdAndNotificationType(
                     testUser.getId(), NotificationType.CASE_CREATE))
                     .thenReturn(Optional.of(testPreference1));
@@ -238,7 +244,7 @@ class NotificationPreferenceServiceTest {
     void updateNotificationPref_Unauthorized() {
         // Arrange
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo))
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo))
                     .thenReturn(null);
 
             // Act
@@ -260,8 +266,8 @@ class NotificationPreferenceServiceTest {
     void updateNotificationPref_PreferenceNotFound() {
         // Arrange
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo))
-                    .thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo))
+                    .thenReturn(AuthenticatedUser.from(testUser));
             when(notificationPreferenceRepo.findByUserIdAndNotificationType(
                     testUser.getId(), NotificationType.CASE_CREATE))
                     .thenReturn(Optional.empty());
@@ -285,9 +291,7 @@ class NotificationPreferenceServiceTest {
     @DisplayName("Should check email enabled status successfully when preference exists")
     void checkEmailEnabled_PreferenceExists_True() {
         // Arrange
-        when(notificationPreferenceRepo.findByUserIdAndNotificationType(
-                testUser.getId(), NotificationType.CASE_CREATE))
-                .thenReturn(Optional.of(testPreference1));
+        when(notificationPreferenceRepo.findByUserId(testUser.getId())).thenReturn(List.of(testPreference1));
 
         // Act
         boolean result = notificationPreferenceService.checkEmailEnabled(
@@ -295,8 +299,7 @@ class NotificationPreferenceServiceTest {
 
         // Assert
         assertTrue(result);
-        verify(notificationPreferenceRepo).findByUserIdAndNotificationType(
-                testUser.getId(), NotificationType.CASE_CREATE);
+        verify(notificationPreferenceRepo).findByUserId(testUser.getId());
     }
 
     @Test
@@ -304,9 +307,7 @@ class NotificationPreferenceServiceTest {
     void checkEmailEnabled_PreferenceExists_False() {
         // Arrange
         testPreference1.setEmailEnabled(false);
-        when(notificationPreferenceRepo.findByUserIdAndNotificationType(
-                testUser.getId(), NotificationType.CASE_CREATE))
-                .thenReturn(Optional.of(testPreference1));
+        when(notificationPreferenceRepo.findByUserId(testUser.getId())).thenReturn(List.of(testPreference1));
 
         // Act
         boolean result = notificationPreferenceService.checkEmailEnabled(
@@ -314,17 +315,14 @@ class NotificationPreferenceServiceTest {
 
         // Assert
         assertFalse(result);
-        verify(notificationPreferenceRepo).findByUserIdAndNotificationType(
-                testUser.getId(), NotificationType.CASE_CREATE);
+        verify(notificationPreferenceRepo).findByUserId(testUser.getId());
     }
 
     @Test
     @DisplayName("Should return true by default when preference does not exist for checkEmailEnabled")
     void checkEmailEnabled_PreferenceNotExists_DefaultTrue() {
         // Arrange
-        when(notificationPreferenceRepo.findByUserIdAndNotificationType(
-                testUser.getId(), NotificationType.CASE_CREATE))
-                .thenReturn(Optional.empty());
+        when(notificationPreferenceRepo.findByUserId(testUser.getId())).thenReturn(List.of());
 
         // Act
         boolean result = notificationPreferenceService.checkEmailEnabled(
@@ -332,17 +330,14 @@ class NotificationPreferenceServiceTest {
 
         // Assert
         assertTrue(result);
-        verify(notificationPreferenceRepo).findByUserIdAndNotificationType(
-                testUser.getId(), NotificationType.CASE_CREATE);
+        verify(notificationPreferenceRepo).findByUserId(testUser.getId());
     }
 
     @Test
     @DisplayName("Should check web push enabled status successfully when preference exists")
     void checkWebPushEnabled_PreferenceExists_True() {
         // Arrange
-        when(notificationPreferenceRepo.findByUserIdAndNotificationType(
-                testUser.getId(), NotificationType.CASE_CREATE))
-                .thenReturn(Optional.of(testPreference1));
+        when(notificationPreferenceRepo.findByUserId(testUser.getId())).thenReturn(List.of(testPreference1));
 
         // Act
         boolean result = notificationPreferenceService.checkWebPushEnabled(
@@ -350,8 +345,7 @@ class NotificationPreferenceServiceTest {
 
         // Assert
         assertTrue(result);
-        verify(notificationPreferenceRepo).findByUserIdAndNotificationType(
-                testUser.getId(), NotificationType.CASE_CREATE);
+        verify(notificationPreferenceRepo).findByUserId(testUser.getId());
     }
 
     @Test
@@ -359,9 +353,7 @@ class NotificationPreferenceServiceTest {
     void checkWebPushEnabled_PreferenceExists_False() {
         // Arrange
         testPreference1.setWebPushEnabled(false);
-        when(notificationPreferenceRepo.findByUserIdAndNotificationType(
-                testUser.getId(), NotificationType.CASE_CREATE))
-                .thenReturn(Optional.of(testPreference1));
+        when(notificationPreferenceRepo.findByUserId(testUser.getId())).thenReturn(List.of(testPreference1));
 
         // Act
         boolean result = notificationPreferenceService.checkWebPushEnabled(
@@ -369,17 +361,14 @@ class NotificationPreferenceServiceTest {
 
         // Assert
         assertFalse(result);
-        verify(notificationPreferenceRepo).findByUserIdAndNotificationType(
-                testUser.getId(), NotificationType.CASE_CREATE);
+        verify(notificationPreferenceRepo).findByUserId(testUser.getId());
     }
 
     @Test
     @DisplayName("Should return true by default when preference does not exist for checkWebPushEnabled")
     void checkWebPushEnabled_PreferenceNotExists_DefaultTrue() {
         // Arrange
-        when(notificationPreferenceRepo.findByUserIdAndNotificationType(
-                testUser.getId(), NotificationType.CASE_CREATE))
-                .thenReturn(Optional.empty());
+        when(notificationPreferenceRepo.findByUserId(testUser.getId())).thenReturn(List.of());
 
         // Act
         boolean result = notificationPreferenceService.checkWebPushEnabled(
@@ -387,8 +376,7 @@ class NotificationPreferenceServiceTest {
 
         // Assert
         assertTrue(result);
-        verify(notificationPreferenceRepo).findByUserIdAndNotificationType(
-                testUser.getId(), NotificationType.CASE_CREATE);
+        verify(notificationPreferenceRepo).findByUserId(testUser.getId());
     }
 
     @Test
@@ -397,18 +385,8 @@ class NotificationPreferenceServiceTest {
         // Arrange
         UUID userId = testUser.getId();
         
-        // Setup different preferences for different types
-        when(notificationPreferenceRepo.findByUserIdAndNotificationType(
-                userId, NotificationType.CASE_CREATE))
-                .thenReturn(Optional.of(testPreference1)); // email=true, webPush=true
-        
-        when(notificationPreferenceRepo.findByUserIdAndNotificationType(
-                userId, NotificationType.EVENT_ADD))
-                .thenReturn(Optional.of(testPreference2)); // email=false, webPush=true
-        
-        when(notificationPreferenceRepo.findByUserIdAndNotificationType(
-                userId, NotificationType.DOC_UPLOAD))
-                .thenReturn(Optional.empty()); // defaults to true
+        // CASE_CREATE: email=true, webPush=true; EVENT_ADD: email=false, webPush=true; DOC_UPLOAD: defaults to true
+        when(notificationPreferenceRepo.findByUserId(userId)).thenReturn(List.of(testPreference1, testPreference2));
 
         // Act & Assert
         assertTrue(notificationPreferenceService.checkEmailEnabled(userId, NotificationType.CASE_CREATE));
@@ -420,10 +398,9 @@ class NotificationPreferenceServiceTest {
         assertTrue(notificationPreferenceService.checkEmailEnabled(userId, NotificationType.DOC_UPLOAD));
         assertTrue(notificationPreferenceService.checkWebPushEnabled(userId, NotificationType.DOC_UPLOAD));
 
-        // Verify repository calls - each type is called twice (once for email, once for webPush)
-        verify(notificationPreferenceRepo, times(2)).findByUserIdAndNotificationType(userId, NotificationType.CASE_CREATE);
-        verify(notificationPreferenceRepo, times(2)).findByUserIdAndNotificationType(userId, NotificationType.EVENT_ADD);
-        verify(notificationPreferenceRepo, times(2)).findByUserIdAndNotificationType(userId, NotificationType.DOC_UPLOAD);
+        // Verify the preferences were loaded once and served from the cache afterwards
+        verify(notificationPreferenceRepo, times(1)).findByUserId(userId);
+        verify(notificationPreferenceRepo, never()).findByUserIdAndNotificationType(any(), any());
     }
 
     @Test
@@ -444,8 +421,8 @@ class NotificationPreferenceServiceTest {
         updatedPreference.setUpdatedAt(OffsetDateTime.now());
 
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo))
-                    .thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo))
+                    .thenReturn(AuthenticatedUser.from(testUser));
             when(notificationPreferenceRepo.findByUserIdAndNotificationType(
                     testUser.getId(), NotificationType.CASE_CREATE))
                     .thenReturn(Optional.of(testPreference1));
@@ -469,21 +446,46 @@ class NotificationPreferenceServiceTest {
         }
     }
 
+    @Test
+    @DisplayName("Should change the email digest only when one is given")
+    void updateNotificationPref_EmailDigest() {
+        // Arrange
+        testPreference1.setEmailDigest(EmailDigest.HOURLY);
+
+        try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo))
+                    .thenReturn(AuthenticatedUser.from(testUser));
+            when(notificationPreferenceRepo.findByUserIdAndNotificationType(
+                    testUser.getId(), NotificationType.CASE_CREATE))
+                    .thenReturn(Optional.of(testPreference1));
+            when(notificationPreferenceRepo.save(any(NotificationPreference.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            NotificationPreferenceResponseDTO kept = notificationPreferenceService.updateNotificationPref(
+                    NotificationType.CASE_CREATE, new UpdateNotificationPreferenceDTO(true, true)).getBody().getData();
+            NotificationPreferenceResponseDTO changed = notificationPreferenceService.updateNotificationPref(
+                    NotificationType.CASE_CREATE, new UpdateNotificationPreferenceDTO(true, true, EmailDigest.DAILY))
+                    .getBody().getData();
+
+            // Assert
+            assertEquals(EmailDigest.HOURLY, kept.getEmailDigest());
+            assertEquals(EmailDigest.DAILY, changed.getEmailDigest());
+            assertEquals(EmailDigest.DAILY, testPreference1.getEmailDigest());
+        }
+    }
+
     @Test
     @DisplayName("Should handle null user ID gracefully in check methods")
     void checkPreferences_NullUserId() {
         // Arrange
         UUID nullUserId = null;
-        
-        when(notificationPreferenceRepo.findByUserIdAndNotificationType(
-                eq(nullUserId), any(NotificationType.class)))
-                .thenReturn(Optional.empty());
 
         // Act & Assert
         assertTrue(notificationPreferenceService.checkEmailEnabled(nullUserId, NotificationType.CASE_CREATE));
         assertTrue(notificationPreferenceService.checkWebPushEnabled(nullUserId, NotificationType.CASE_CREATE));
 
-        verify(notificationPreferenceRepo, times(2)).findByUserIdAndNotificationType(nullUserId, NotificationType.CASE_CREATE);
+        verify(notificationPreferenceRepo, never()).findByUserId(any());
     }
 
     @Test
@@ -492,11 +494,8 @@ class NotificationPreferenceServiceTest {
         // Arrange
         UUID userId = testUser.getId();
         
-        // Mock empty responses for all types (testing default behavior)
-        for (NotificationType type : NotificationType.values()) {
-            when(notificationPreferenceRepo.findByUserIdAndNotificationType(userId, type))
-                    .thenReturn(Optional.empty());
-        }
+        // Mock no stored preferences (testing default behavior)
+        when(notificationPreferenceRepo.findByUserId(userId)).thenReturn(List.of());
 
         // Act & Assert - all should default to true
         for (NotificationType type : NotificationType.values()) {
@@ -506,10 +505,56 @@ class NotificationPreferenceServiceTest {
                     "Web push should be enabled by default for " + type);
         }
 
-        // Verify all types were checked
-        for (NotificationType type : NotificationType.values()) {
-            verify(notificationPreferenceRepo, times(2)).findByUserIdAndNotificationType(userId, type);
+        // Verify all types were answered from one load
+        verify(notificationPreferenceRepo, times(1)).findByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("Should reload preferences after an update and announce the invalidation")
+    void updateNotificationPref_InvalidatesCachedPreferences() {
+        // Arrange
+        when(notificationPreferenceRepo.findByUserId(testUser.getId())).thenReturn(List.of(testPreference1));
+        assertTrue(notificationPreferenceService.checkEmailEnabled(testUser.getId(), NotificationType.CASE_CREATE));
+
+        try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
+            when(notificationPreferenceRepo.findByUserIdAndNotificationType(testUser.getId(), NotificationType.CASE_CREATE))
+                    .thenReturn(Optional.of(testPreference1));
+            when(notificationPreferenceRepo.save(any(NotificationPreference.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            notificationPreferenceService.updateNotificationPref(NotificationType.CASE_CREATE, updateDTO);
         }
+
+        // Assert
+        assertFalse(notificationPreferenceService.checkEmailEnabled(testUser.getId(), NotificationType.CASE_CREATE));
+        verify(notificationPreferenceRepo, times(2)).findByUserId(testUser.getId());
+        verify(redisTemplate).convertAndSend(NotificationPreferenceCache.INVALIDATION_CHANNEL, testUser.getId().toString());
+    }
+
+    @Test
+    @DisplayName("Should load preferences of uncached users in one query")
+    void preferencesFor_LoadsMissesInBulk() {
+        // Arrange
+        UUID cachedUserId = testUser.getId();
+        UUID otherUserId = UUID.randomUUID();
+        when(notificationPreferenceRepo.findByUserId(cachedUserId)).thenReturn(List.of(testPreference2));
+        notificationPreferenceService.checkEmailEnabled(cachedUserId, NotificationType.EVENT_ADD);
+        NotificationPreference otherPreference = new NotificationPreference();
+        otherPreference.setUserId(otherUserId);
+        otherPreference.setNotificationType(NotificationType.DOC_UPLOAD);
+        otherPreference.setWebPushEnabled(false);
+        when(notificationPreferenceRepo.findByUserIdIn(Set.of(otherUserId))).thenReturn(List.of(otherPreference));
+
+        // Act
+        Map<UUID, NotificationPreferenceMask> result =
+                notificationPreferenceService.preferencesFor(List.of(cachedUserId, otherUserId));
+
+        // Assert
+        assertFalse(result.get(cachedUserId).isEmailEnabled(NotificationType.EVENT_ADD));
+        assertFalse(result.get(otherUserId).isWebPushEnabled(NotificationType.DOC_UPLOAD));
+        assertTrue(result.get(otherUserId).isEmailEnabled(NotificationType.DOC_UPLOAD));
+        verify(notificationPreferenceRepo).findByUserIdIn(Set.of(otherUserId));
     }
 
     @Test
@@ -53,6 +53,7 @@ class NotificationPreferenceTest {
         assertNull(defaultPreference.getNotificationType());
         assertTrue(defaultPreference.isEmailEnabled()); // Default value should be true
         assertTrue(defaultPreference.isWebPushEnabled()); // Default value should be true
+        assertEquals(EmailDigest.IMMEDIATE, defaultPreference.getEmailDigest());
         assertNull(defaultPreference.getCreatedAt());
         assertNull(defaultPreference.getUpdatedAt());
     }
@@ -63,7 +64,7 @@ class NotificationPreferenceTest {
         OffsetDateTime now = OffsetDateTime.now();
         OffsetDateTime created = now.minusMinutes(30);
         NotificationPreference constructedPreference = new NotificationPreference(
-            testPreferenceId, testUserId, NotificationType.EVENT_ADD, false, false, created, now
+            testPreferenceId, testUserId, NotificationType.EVENT_ADD, false, false, EmailDigest.DAILY, created, now
         );
 
         assertEquals(testPreferenceId, constructedPreference.getId());
@@ -71,6 +72,7 @@ class NotificationPreferenceTest {
         assertEquals(NotificationType.EVENT_ADD, constructedPreference.getNotificationType());
         assertFalse(constructedPreference.isEmailEnabled());
         assertFalse(constructedPreference.isWebPushEnabled());
+        assertEquals(EmailDigest.DAILY, constructedPreference.getEmailDigest());
         assertEquals(created, constructedPreference.getCreatedAt());
         assertEquals(now, constructedPreference.getUpdatedAt());
     }
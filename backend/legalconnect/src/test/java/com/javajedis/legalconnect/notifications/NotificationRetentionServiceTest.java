@@ -0,0 +1,141 @@
+package com.javajedis.legalconnect.notifications;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.amazonaws.AmazonClientException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javajedis.legalconnect.common.service.AwsService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationRetentionService Tests")
+class NotificationRetentionServiceTest {
+
+    private static final String BUCKET = "legalconnect-test";
+    private static final OffsetDateTime CUTOFF = OffsetDateTime.of(2025, 5, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @Mock
+    private NotificationRepo notificationRepo;
+
+    @Mock
+    private AwsService awsService;
+
+    private ObjectMapper objectMapper;
+    private NotificationRetentionService retentionService;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        retentionService = new NotificationRetentionService(notificationRepo, awsService, objectMapper, BUCKET);
+    }
+
+    @Test
+    @DisplayName("Should upload expired notifications as compressed JSON lines and delete them")
+    void archiveBatch_ExpiredNotifications_UploadedAndDeleted() throws IOException {
+        Notification first = notification("Case updated", OffsetDateTime.of(2025, 2, 3, 10, 0, 0, 0, ZoneOffset.UTC));
+        Notification second = notification("Note added", OffsetDateTime.of(2025, 2, 4, 10, 0, 0, 0, ZoneOffset.UTC));
+        when(notificationRepo.lockExpiredRead(CUTOFF, 100)).thenReturn(List.of(first, second));
+
+        int archived = retentionService.archiveBatch(CUTOFF, 100);
+
+        assertEquals(2, archived);
+        ArgumentCaptor<String> key = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Long> length = ArgumentCaptor.forClass(Long.class);
+        ArgumentCaptor<InputStream> content = ArgumentCaptor.forClass(InputStream.class);
+        verify(awsService).uploadFile(eq(BUCKET), key.capture(), length.capture(),
+                eq(NotificationRetentionService.ARCHIVE_CONTENT_TYPE), content.capture());
+        assertTrue(key.getValue().startsWith(NotificationRetentionService.ARCHIVE_PREFIX + "2025/02/03/"));
+        assertTrue(key.getValue().endsWith(".jsonl.gz"));
+
+        byte[] compressed = content.getValue().readAllBytes();
+        assertEquals(compressed.length, length.getValue());
+        List<JsonNode> lines = readLines(compressed);
+        assertEquals(2, lines.size());
+        assertEquals(first.getId().toString(), lines.get(0).get("id").asText());
+        assertEquals(first.getReceiverId().toString(), lines.get(0).get("receiverId").asText());
+        assertEquals("Note added", lines.get(1).get("content").asText());
+
+        verify(notificationRepo).deleteAllByIdInBatch(List.of(first.getId(), second.getId()));
+    }
+
+    @Test
+    @DisplayName("Should do nothing when no notification has expired")
+    void archiveBatch_NothingExpired_NoUpload() {
+        when(notificationRepo.lockExpiredRead(CUTOFF, 100)).thenReturn(List.of());
+
+        assertEquals(0, retentionService.archiveBatch(CUTOFF, 100));
+
+        verifyNoInteractions(awsService);
+        verify(notificationRepo, never()).deleteAllByIdInBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("Should keep notifications whose upload failed")
+    void archiveBatch_UploadFails_NothingDeleted() {
+        when(notificationRepo.lockExpiredRead(CUTOFF, 100))
+                .thenReturn(List.of(notification("Case updated", CUTOFF.minusDays(1))));
+        when(awsService.uploadFile(anyString(), anyString(), anyLong(), anyString(), any(InputStream.class)))
+                .thenThrow(new AmazonClientException("S3 unavailable"));
+
+        assertThrows(AmazonClientException.class, () -> retentionService.archiveBatch(CUTOFF, 100));
+
+        verify(notificationRepo, never()).deleteAllByIdInBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("Should report whether an archive bucket is configured")
+    void isArchiveConfigured_DependsOnBucket() {
+        assertTrue(retentionService.isArchiveConfigured());
+        assertFalse(new NotificationRetentionService(notificationRepo, awsService, objectMapper, "").isArchiveConfigured());
+        assertFalse(new NotificationRetentionService(notificationRepo, awsService, objectMapper, null).isArchiveConfigured());
+    }
+
+    private List<JsonNode> readLines(byte[] compressed) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(compressed)), StandardCharsets.UTF_8))) {
+            return reader.lines().map(line -> {
+                try {
+                    return objectMapper.readTree(line);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }).toList();
+        }
+    }
+
+    private static Notification notification(String content, OffsetDateTime createdAt) {
+        return new Notification(UUID.randomUUID(), UUID.randomUUID(), content, true, createdAt);
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -18,12 +19,15 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -36,7 +40,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import com.javajedis.legalconnect.common.dto.ApiResponse;
+import com.javajedis.legalconnect.common.service.UnreadCounterService;
 import com.javajedis.legalconnect.common.service.WebSocketService;
+import com.javajedis.legalconnect.notifications.dto.MarkReadResponseDTO;
 import com.javajedis.legalconnect.notifications.dto.NotificationListResponseDTO;
 import com.javajedis.legalconnect.notifications.dto.NotificationResponseDTO;
 import com.javajedis.legalconnect.notifications.dto.SendNotificationDTO;
@@ -54,6 +60,9 @@ class NotificationServiceTest {
     @Mock
     private WebSocketService webSocketService;
 
+    @Mock
+    private UnreadCounterService unreadCounterService;
+
     @InjectMocks
     private NotificationService notificationService;
 
@@ -104,6 +113,7 @@ class NotificationServiceTest {
 
         verify(notificationRepo, times(1)).save(any(Notification.class));
         verify(webSocketService, times(1)).sendNotificationToUser(eq(testUserId), any(NotificationResponseDTO.class));
+        verify(unreadCounterService).increment("notifications", testUserId, "all", 1);
     }
 
     @Test
@@ -236,6 +246,60 @@ class NotificationServiceTest {
         verify(notificationRepo, times(1)).save(any(Notification.class));
     }
 
+    @Test
+    @DisplayName("Should save a fan-out in one batch and deliver it once per user")
+    @SuppressWarnings("unchecked")
+    void sendNotifications_SavesAllAndDeliversTogether() {
+        UUID otherUserId = UUID.randomUUID();
+        when(notificationRepo.saveAll(any())).thenAnswer(invocation -> {
+            List<Notification> saved = (List<Notification>) invocation.getArgument(0);
+            saved.forEach(item -> item.setId(UUID.randomUUID()));
+            return saved;
+        });
+
+        int created = notificationService.sendNotifications(List.of(testUserId, otherUserId, testUserId), "  Blog published ");
+
+        assertEquals(2, created);
+        ArgumentCaptor<List<Notification>> saved = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepo).saveAll(saved.capture());
+        assertEquals(List.of(testUserId, otherUserId), saved.getValue().stream().map(Notification::getReceiverId).toList());
+        assertTrue(saved.getValue().stream().allMatch(item -> item.getContent().equals("Blog published") && !item.isRead()));
+        verify(unreadCounterService).incrementAll("notifications", Set.of(testUserId, otherUserId), "all", 1);
+        ArgumentCaptor<Map<UUID, NotificationResponseDTO>> delivered = ArgumentCaptor.forClass(Map.class);
+        verify(webSocketService).sendNotificationsToUsers(delivered.capture());
+        assertEquals(Set.of(testUserId, otherUserId), delivered.getValue().keySet());
+        verify(notificationRepo, never()).save(any(Notification.class));
+    }
+
+    @Test
+    @DisplayName("Should keep a fan-out when WebSocket delivery fails")
+    void sendNotifications_WebSocketFailure_GracefulDegradation() {
+        when(notificationRepo.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(webSocketService.sendNotificationsToUsers(any())).thenThrow(new RuntimeException("Redis down"));
+
+        assertEquals(1, notificationService.sendNotifications(List.of(testUserId), "Hello"));
+    }
+
+    @Test
+    @DisplayName("Should reject a fan-out with a null receiver or empty content")
+    void sendNotifications_InvalidInput_ThrowsException() {
+        List<UUID> withNull = Arrays.asList(testUserId, null);
+
+        assertThrows(IllegalArgumentException.class, () -> notificationService.sendNotifications(withNull, "Hello"));
+        assertThrows(IllegalArgumentException.class, () -> notificationService.sendNotifications(null, "Hello"));
+        assertThrows(IllegalArgumentException.class, () -> notificationService.sendNotifications(List.of(testUserId), " "));
+        verify(notificationRepo, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Should do nothing for a fan-out without receivers")
+    void sendNotifications_NoReceivers_ReturnsZero() {
+        assertEquals(0, notificationService.sendNotifications(List.of(), "Hello"));
+
+        verify(notificationRepo, never()).saveAll(any());
+        verify(webSocketService, never()).sendNotificationsToUsers(any());
+    }
+
     @Test
     @DisplayName("Should get user notifications successfully")
     void getUserNotifications_Success() {
@@ -345,6 +409,7 @@ class NotificationServiceTest {
     @Test
     @DisplayName("Should get unread count successfully")
     void getUnreadCount_Success() {
+        stubUnreadCounterMiss();
         when(notificationRepo.countUnreadByReceiverId(testUserId)).thenReturn(5L);
 
         ResponseEntity<ApiResponse<UnreadCountResponseDTO>> response = notificationService.getUnreadCount(testUserId);
@@ -360,6 +425,7 @@ class NotificationServiceTest {
     @Test
     @DisplayName("Should return zero unread count when no unread notifications")
     void getUnreadCount_ZeroCount_Success() {
+        stubUnreadCounterMiss();
         when(notificationRepo.countUnreadByReceiverId(testUserId)).thenReturn(0L);
 
         ResponseEntity<ApiResponse<UnreadCountResponseDTO>> response = notificationService.getUnreadCount(testUserId);
@@ -368,6 +434,30 @@ class NotificationServiceTest {
         assertEquals(0, response.getBody().getData().getUnreadCount());
     }
 
+    @Test
+    @DisplayName("Should serve unread count from maintained counter")
+    void getUnreadCount_CounterLoaded_SkipsCountQuery() {
+        when(unreadCounterService.getTotal(eq("notifications"), eq(testUserId), any())).thenReturn(7L);
+
+        ResponseEntity<ApiResponse<UnreadCountResponseDTO>> response = notificationService.getUnreadCount(testUserId);
+
+        assertEquals(7, response.getBody().getData().getUnreadCount());
+        verify(notificationRepo, never()).countUnreadByReceiverId(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Should reconcile notification unread counters against the database")
+    @SuppressWarnings("unchecked")
+    void reconcileUnreadCounters_UsesUnreadCountQuery() {
+        when(notificationRepo.countUnreadByReceiverId(testUserId)).thenReturn(4L);
+
+        notificationService.reconcileUnreadCounters();
+
+        ArgumentCaptor<Function<UUID, Map<String, Long>>> loader = ArgumentCaptor.forClass(Function.class);
+        verify(unreadCounterService).reconcile(eq("notifications"), loader.capture());
+        assertEquals(Map.of("all", 4L), loader.getValue().apply(testUserId));
+    }
+
     @Test
     @DisplayName("Should throw IllegalArgumentException for null receiver ID in getUnreadCount")
     void getUnreadCount_NullReceiverId_ThrowsException() {
@@ -403,6 +493,7 @@ class NotificationServiceTest {
 
         verify(notificationRepo, times(1)).findById(testNotificationId);
         verify(notificationRepo, times(1)).save(any(Notification.class));
+        verify(unreadCounterService).increment("notifications", testUserId, "all", -1);
     }
 
     @Test
@@ -485,44 +576,35 @@ class NotificationServiceTest {
     }
 
     @Test
-    @DisplayName("Should mark all notifications as read successfully")
+    @DisplayName("Should mark all notifications as read with one update")
     void markAllAsRead_Success() {
-        List<Notification> unreadNotifications = Arrays.asList(
-                createUnreadNotification(UUID.randomUUID()),
-                createUnreadNotification(UUID.randomUUID()),
-                createUnreadNotification(UUID.randomUUID())
-        );
-        Page<Notification> unreadPage = new PageImpl<>(unreadNotifications);
+        when(notificationRepo.markAllAsReadByReceiverId(testUserId)).thenReturn(3);
 
-        when(notificationRepo.findByReceiverIdAndIsReadFalseOrderByCreatedAtDesc(testUserId, Pageable.unpaged()))
-                .thenReturn(unreadPage);
-
-        ResponseEntity<ApiResponse<UnreadCountResponseDTO>> response = notificationService.markAllAsRead(testUserId);
+        ResponseEntity<ApiResponse<MarkReadResponseDTO>> response = notificationService.markAllAsRead(testUserId);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals("All notifications marked as read", response.getBody().getMessage());
+        assertEquals(3, response.getBody().getData().getMarkedCount());
         assertEquals(0, response.getBody().getData().getUnreadCount());
 
-        verify(notificationRepo, times(1)).findByReceiverIdAndIsReadFalseOrderByCreatedAtDesc(testUserId, Pageable.unpaged());
-        verify(notificationRepo, times(1)).saveAll(unreadNotifications);
+        verify(notificationRepo, never()).findByReceiverIdAndIsReadFalseOrderByCreatedAtDesc(any(UUID.class), any(Pageable.class));
+        verify(notificationRepo, never()).saveAll(any());
+        verify(unreadCounterService).reset("notifications", testUserId, "all");
     }
 
     @Test
     @DisplayName("Should handle mark all as read when no unread notifications")
     void markAllAsRead_NoUnreadNotifications_Success() {
-        Page<Notification> emptyPage = new PageImpl<>(Collections.emptyList());
-
-        when(notificationRepo.findByReceiverIdAndIsReadFalseOrderByCreatedAtDesc(testUserId, Pageable.unpaged()))
-                .thenReturn(emptyPage);
+        when(notificationRepo.markAllAsReadByReceiverId(testUserId)).thenReturn(0);
 
-        ResponseEntity<ApiResponse<UnreadCountResponseDTO>> response = notificationService.markAllAsRead(testUserId);
+        ResponseEntity<ApiResponse<MarkReadResponseDTO>> response = notificationService.markAllAsRead(testUserId);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(0, response.getBody().getData().getMarkedCount());
         assertEquals(0, response.getBody().getData().getUnreadCount());
 
-        verify(notificationRepo, times(1)).findByReceiverIdAndIsReadFalseOrderByCreatedAtDesc(testUserId, Pageable.unpaged());
-        verify(notificationRepo, never()).saveAll(any());
+        verify(unreadCounterService, never()).reset(any(), any(), any());
     }
 
     @Test
@@ -533,7 +615,58 @@ class NotificationServiceTest {
         });
 
         assertEquals("Invalid receiver ID", exception.getMessage());
-        verify(notificationRepo, never()).findByReceiverIdAndIsReadFalseOrderByCreatedAtDesc(any(UUID.class), any(Pageable.class));
+        verify(notificationRepo, never()).markAllAsReadByReceiverId(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Should mark notifications up to the cursor as read with one update")
+    void markAsReadUpTo_Success() {
+        when(notificationRepo.findById(testNotificationId)).thenReturn(Optional.of(notification));
+        when(notificationRepo.markAsReadUpToByReceiverId(testUserId, notification.getCreatedAt())).thenReturn(4);
+        when(unreadCounterService.getTotal(eq("notifications"), eq(testUserId), any())).thenReturn(2L);
+
+        ResponseEntity<ApiResponse<MarkReadResponseDTO>> response =
+                notificationService.markAsReadUpTo(testNotificationId, testUserId);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("Notifications marked as read", response.getBody().getMessage());
+        assertEquals(4, response.getBody().getData().getMarkedCount());
+        assertEquals(2, response.getBody().getData().getUnreadCount());
+        verify(unreadCounterService).increment("notifications", testUserId, "all", -4);
+    }
+
+    @Test
+    @DisplayName("Should not touch counters when nothing up to the cursor was unread")
+    void markAsReadUpTo_NothingUnread_CountersUnchanged() {
+        when(notificationRepo.findById(testNotificationId)).thenReturn(Optional.of(notification));
+        when(notificationRepo.markAsReadUpToByReceiverId(testUserId, notification.getCreatedAt())).thenReturn(0);
+
+        ResponseEntity<ApiResponse<MarkReadResponseDTO>> response =
+                notificationService.markAsReadUpTo(testNotificationId, testUserId);
+
+        assertEquals(0, response.getBody().getData().getMarkedCount());
+        verify(unreadCounterService, never()).increment(any(), any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor that belongs to another user")
+    void markAsReadUpTo_OtherUsersNotification_ThrowsSecurityException() {
+        UUID otherUserId = UUID.randomUUID();
+        when(notificationRepo.findById(testNotificationId)).thenReturn(Optional.of(notification));
+
+        assertThrows(SecurityException.class, () -> notificationService.markAsReadUpTo(testNotificationId, otherUserId));
+
+        verify(notificationRepo, never()).markAsReadUpToByReceiverId(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor that does not exist")
+    void markAsReadUpTo_UnknownNotification_ThrowsNotFound() {
+        when(notificationRepo.findById(testNotificationId)).thenReturn(Optional.empty());
+
+        assertThrows(NotificationNotFoundException.class,
+                () -> notificationService.markAsReadUpTo(testNotificationId, testUserId));
+        assertThrows(IllegalArgumentException.class, () -> notificationService.markAsReadUpTo(null, testUserId));
     }
 
     private Notification createUnreadNotification(UUID notificationId) {
@@ -545,4 +678,11 @@ class NotificationServiceTest {
         unreadNotification.setCreatedAt(OffsetDateTime.now());
         return unreadNotification;
     }
-}
\ No newline at end of file
+
+    private void stubUnreadCounterMiss() {
+        when(unreadCounterService.getTotal(eq("notifications"), any(UUID.class), any())).thenAnswer(invocation -> {
+            Function<UUID, Map<String, Long>> loader = invocation.getArgument(2);
+            return loader.apply(invocation.getArgument(1)).values().stream().mapToLong(Long::longValue).sum();
+        });
+    }
+}
@@ -0,0 +1,96 @@
+package com.javajedis.legalconnect.notifications;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.javajedis.legalconnect.jobscheduler.JobSchedulerService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReminderPoller Tests")
+class ReminderPollerTest {
+
+    @Mock
+    private ReminderService reminderService;
+
+    @Mock
+    private NotificationOutboxRelay outboxRelay;
+
+    @Mock
+    private JobSchedulerService jobSchedulerService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReminderPoller poller;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        poller = new ReminderPoller(reminderService, outboxRelay, jobSchedulerService, meterRegistry, 5000, 2, 3);
+    }
+
+    @Test
+    @DisplayName("Should fire batches until one comes back short and wake the relay")
+    void poll_FiresUntilShortBatch() {
+        when(reminderService.fireDue(any(), eq(2))).thenReturn(2, 1);
+
+        assertEquals(3, poller.poll());
+
+        verify(reminderService, times(2)).fireDue(any(), eq(2));
+        verify(outboxRelay).wakeUp();
+        assertEquals(3.0, meterRegistry.get(ReminderPoller.METRIC_FIRED).counter().count());
+    }
+
+    @Test
+    @DisplayName("Should stop after the batch limit of a poll")
+    void poll_BatchLimitReached_Stops() {
+        when(reminderService.fireDue(any(), eq(2))).thenReturn(2);
+
+        assertEquals(6, poller.poll());
+
+        verify(reminderService, times(3)).fireDue(any(), eq(2));
+    }
+
+    @Test
+    @DisplayName("Should not wake the relay when nothing was due")
+    void poll_NothingDue_RelayNotWoken() {
+        when(reminderService.fireDue(any(), eq(2))).thenReturn(0);
+
+        assertEquals(0, poller.poll());
+
+        verify(outboxRelay, never()).wakeUp();
+    }
+
+    @Test
+    @DisplayName("Should keep reminders fired before a database failure")
+    void poll_DatabaseFails_WakesRelayForFiredReminders() {
+        when(reminderService.fireDue(any(), eq(2)))
+                .thenReturn(2)
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        assertEquals(2, poller.poll());
+
+        verify(outboxRelay).wakeUp();
+    }
+
+    @Test
+    @DisplayName("Should register the polling job with the configured interval")
+    void registerPolling_SchedulesJob() {
+        poller.registerPolling();
+
+        verify(jobSchedulerService).scheduleReminderPolling(5000);
+    }
+}
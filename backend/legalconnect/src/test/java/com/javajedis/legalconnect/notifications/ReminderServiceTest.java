@@ -0,0 +1,147 @@
+package com.javajedis.legalconnect.notifications;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javajedis.legalconnect.notifications.NotificationEvent.Recipient;
+import com.javajedis.legalconnect.notifications.NotificationOutbox.Channel;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReminderService Tests")
+class ReminderServiceTest {
+
+    private static final Map<String, Object> TEMPLATE_VARIABLES = Map.of("notificationType", "Schedule Reminder",
+            "content", "Hearing tomorrow");
+
+    @Mock
+    private ScheduledReminderRepo reminderRepo;
+
+    @Mock
+    private NotificationOutboxService outboxService;
+
+    private ReminderService reminderService;
+    private Recipient client;
+    private Recipient lawyer;
+
+    @BeforeEach
+    void setUp() {
+        reminderService = new ReminderService(reminderRepo, outboxService, new ObjectMapper());
+        client = new Recipient(UUID.randomUUID(), "client@example.com");
+        lawyer = new Recipient(UUID.randomUUID(), "lawyer@example.com");
+    }
+
+    @Test
+    @DisplayName("Should store one reminder per recipient and channel")
+    @SuppressWarnings("unchecked")
+    void schedule_StoresReminderPerRecipientAndChannel() {
+        UUID taskId = UUID.randomUUID();
+        OffsetDateTime fireAt = OffsetDateTime.now().plusHours(1);
+
+        int stored = reminderService.schedule(taskId, fireAt, List.of(client, lawyer), List.of(client), "Subject",
+                "Hearing tomorrow", NotificationDispatcher.EMAIL_TEMPLATE, TEMPLATE_VARIABLES);
+
+        assertEquals(3, stored);
+        ArgumentCaptor<List<ScheduledReminder>> captor = ArgumentCaptor.forClass(List.class);
+        verify(reminderRepo).saveAll(captor.capture());
+        List<ScheduledReminder> reminders = captor.getValue();
+        assertEquals(3, reminders.size());
+        assertEquals(Channel.WEB_PUSH, reminders.get(0).getChannel());
+        assertEquals(lawyer.userId(), reminders.get(1).getRecipientId());
+        ScheduledReminder email = reminders.get(2);
+        assertEquals(Channel.EMAIL, email.getChannel());
+        assertEquals("client@example.com", email.getRecipientEmail());
+        assertNull(email.getContent());
+        reminders.forEach(reminder -> {
+            assertEquals(taskId, reminder.getTaskId());
+            assertEquals(fireAt, reminder.getFireAt());
+        });
+    }
+
+    @Test
+    @DisplayName("Should not store reminders without a fire time")
+    void schedule_MissingFireAt_NothingStored() {
+        assertEquals(0, reminderService.schedule(UUID.randomUUID(), null, List.of(client), List.of(client),
+                "Subject", "Hello", NotificationDispatcher.EMAIL_TEMPLATE, TEMPLATE_VARIABLES));
+
+        verifyNoInteractions(reminderRepo);
+    }
+
+    @Test
+    @DisplayName("Should delete the reminders of a task")
+    void cancel_DeletesByTask() {
+        UUID taskId = UUID.randomUUID();
+        when(reminderRepo.deleteByTaskId(taskId)).thenReturn(4);
+
+        assertEquals(4, reminderService.cancel(taskId));
+    }
+
+    @Test
+    @DisplayName("Should move due reminders to the outbox and delete them")
+    @SuppressWarnings("unchecked")
+    void fireDue_MovesRemindersToOutbox() {
+        UUID taskId = UUID.randomUUID();
+        OffsetDateTime now = OffsetDateTime.now();
+        reminderService.schedule(taskId, now, List.of(lawyer), List.of(client), "Subject", "Hearing tomorrow",
+                NotificationDispatcher.EMAIL_TEMPLATE, TEMPLATE_VARIABLES);
+        ArgumentCaptor<List<ScheduledReminder>> captor = ArgumentCaptor.forClass(List.class);
+        verify(reminderRepo).saveAll(captor.capture());
+        List<ScheduledReminder> due = captor.getValue();
+        due.forEach(reminder -> reminder.setId(UUID.randomUUID()));
+        when(reminderRepo.lockDue(now, 100)).thenReturn(due);
+
+        int fired = reminderService.fireDue(now, 100);
+
+        assertEquals(2, fired);
+        verify(outboxService).enqueueWebPush("reminder:" + due.get(0).getId(), lawyer.userId(), "Hearing tomorrow");
+        verify(outboxService).enqueueEmail("reminder:" + due.get(1).getId(), client.userId(), "client@example.com",
+                "Subject", NotificationDispatcher.EMAIL_TEMPLATE, TEMPLATE_VARIABLES);
+        verify(reminderRepo).deleteAllInBatch(due);
+    }
+
+    @Test
+    @DisplayName("Should send an email reminder with unreadable variables using the default template")
+    void fireDue_UnreadableVariables_SendsWithDefaults() {
+        OffsetDateTime now = OffsetDateTime.now();
+        ScheduledReminder reminder = new ScheduledReminder(UUID.randomUUID(), UUID.randomUUID(), Channel.EMAIL,
+                client.userId(), client.email(), "Subject", null, "{not json", now, null);
+        when(reminderRepo.lockDue(now, 100)).thenReturn(List.of(reminder));
+
+        assertEquals(1, reminderService.fireDue(now, 100));
+
+        verify(outboxService).enqueueEmail(anyString(), eq(client.userId()), eq(client.email()), eq("Subject"),
+                eq(NotificationDispatcher.EMAIL_TEMPLATE), eq(Map.of()));
+    }
+
+    @Test
+    @DisplayName("Should do nothing when no reminder is due")
+    void fireDue_NothingDue_NothingDeleted() {
+        OffsetDateTime now = OffsetDateTime.now();
+        when(reminderRepo.lockDue(now, 100)).thenReturn(List.of());
+
+        assertEquals(0, reminderService.fireDue(now, 100));
+
+        verifyNoInteractions(outboxService);
+        verify(reminderRepo, never()).deleteAllInBatch(any());
+    }
+}
@@ -0,0 +1,62 @@
+package com.javajedis.legalconnect.notifications.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MarkReadResponseDTO Tests")
+class MarkReadResponseDTOTest {
+
+    @Test
+    @DisplayName("Should create DTO with all args constructor")
+    void testAllArgsConstructor() {
+        // Act
+        MarkReadResponseDTO dto = new MarkReadResponseDTO(5, 2);
+
+        // Assert
+        assertEquals(5, dto.getMarkedCount());
+        assertEquals(2, dto.getUnreadCount());
+    }
+
+    @Test
+    @DisplayName("Should create DTO with no args constructor")
+    void testNoArgsConstructor() {
+        // Act
+        MarkReadResponseDTO dto = new MarkReadResponseDTO();
+
+        // Assert
+        assertEquals(0, dto.getMarkedCount());
+        assertEquals(0, dto.getUnreadCount());
+    }
+
+    @Test
+    @DisplayName("Should handle getters and setters correctly")
+    void testGettersAndSetters() {
+        // Arrange
+        MarkReadResponseDTO dto = new MarkReadResponseDTO();
+
+        // Act
+        dto.setMarkedCount(7);
+        dto.setUnreadCount(3);
+
+        // Assert
+        assertEquals(7, dto.getMarkedCount());
+        assertEquals(3, dto.getUnreadCount());
+    }
+
+    @Test
+    @DisplayName("Should implement equals and hashCode correctly")
+    void testEqualsAndHashCode() {
+        // Arrange
+        MarkReadResponseDTO dto1 = new MarkReadResponseDTO(5, 0);
+        MarkReadResponseDTO dto2 = new MarkReadResponseDTO(5, 0);
+        MarkReadResponseDTO dto3 = new MarkReadResponseDTO(4, 1);
+
+        // Assert
+        assertEquals(dto1, dto2);
+        assertEquals(dto1.hashCode(), dto2.hashCode());
+        assertNotEquals(dto1, dto3);
+    }
+}
@@ -1,7 +1,11 @@
 package com.javajedis.legalconnect.payment;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -38,6 +42,7 @@ import com.javajedis.legalconnect.common.utility.JWTFilter;
 import com.javajedis.legalconnect.payment.dto.CreatePaymentDTO;
 import com.javajedis.legalconnect.payment.dto.PaymentResponseDTO;
 import com.javajedis.legalconnect.payment.dto.StripeSessionResponseDTO;
+import com.stripe.exception.SignatureVerificationException;
 
 @WebMvcTest(controllers = PaymentController.class,
         excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, 
@@ -55,6 +60,12 @@ class PaymentControllerTest {
     @Autowired
     private PaymentService paymentService;
 
+    @Autowired
+    private StripeWebhookService stripeWebhookService;
+
+    @Autowired
+    private StripeEventProcessor stripeEventProcessor;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -72,10 +83,21 @@ class PaymentControllerTest {
         public PaymentService paymentService() {
             return mock(PaymentService.class);
         }
+
+        @Bean
+        public StripeWebhookService stripeWebhookService() {
+            return mock(StripeWebhookService.class);
+        }
+
+        @Bean
+        public StripeEventProcessor stripeEventProcessor() {
+            return mock(StripeEventProcessor.class);
+        }
     }
 
     @BeforeEach
     void setUp() {
+        reset(stripeWebhookService, stripeEventProcessor);
         testPaymentId = UUID.randomUUID();
         testPayerId = UUID.randomUUID();
         testPayeeId = UUID.randomUUID();
@@ -226,6 +248,53 @@ class PaymentControllerTest {
                 .andExpect(jsonPath("$.error.message").value("Payment not found"));
     }
 
+    @Test
+    @DisplayName("Should store a signed Stripe event and wake the processor")
+    void receiveStripeEvent_NewEvent_WakesProcessor() throws Exception {
+        when(stripeWebhookService.receive("{\"id\":\"evt_1\"}", "t=1,v1=abc")).thenReturn(true);
+
+        mockMvc.perform(post("/payments/webhook/stripe")
+                        .header("Stripe-Signature", "t=1,v1=abc")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\":\"evt_1\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value("Event stored"));
+
+        verify(stripeEventProcessor).wakeUp();
+    }
+
+    @Test
+    @DisplayName("Should acknowledge a redelivered Stripe event without processing it again")
+    void receiveStripeEvent_Redelivery_Acknowledged() throws Exception {
+        when(stripeWebhookService.receive(anyString(), anyString())).thenReturn(false);
+
+        mockMvc.perform(post("/payments/webhook/stripe")
+                        .header("Stripe-Signature", "t=1,v1=abc")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\":\"evt_1\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value("Event already received"));
+
+        verify(stripeEventProcessor, never()).wakeUp();
+    }
+
+    @Test
+    @DisplayName("Should reject a Stripe event with an invalid signature")
+    void receiveStripeEvent_InvalidSignature_ReturnsBadRequest() throws Exception {
+        when(stripeWebhookService.receive(anyString(), anyString()))
+                .thenThrow(new SignatureVerificationException("No signatures found matching the expected signature",
+                        "t=1,v1=abc"));
+
+        mockMvc.perform(post("/payments/webhook/stripe")
+                        .header("Stripe-Signature", "t=1,v1=abc")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\":\"evt_1\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.message").value("Invalid Stripe signature"));
+
+        verify(stripeEventProcessor, never()).wakeUp();
+    }
+
     // Task 5.3: Create payment retrieval endpoint tests
     @Test
     @DisplayName("Should retrieve payment successfully with valid ID")
@@ -0,0 +1,112 @@
+package com.javajedis.legalconnect.payment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.javajedis.legalconnect.notifications.NotificationOutboxService;
+import com.javajedis.legalconnect.user.User;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentReleaseService Tests")
+class PaymentReleaseServiceTest {
+
+    @Mock
+    private PaymentRepo paymentRepo;
+
+    @Mock
+    private NotificationOutboxService outboxService;
+
+    private PaymentReleaseService releaseService;
+    private OffsetDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        releaseService = new PaymentReleaseService(paymentRepo, outboxService);
+        now = OffsetDateTime.now();
+    }
+
+    @Test
+    @DisplayName("Should release locked payments in one update and queue their notifications")
+    void releaseDue_ReleasesAndQueuesNotifications() {
+        Payment first = payment("payee1@test.com", "100.00");
+        Payment second = payment("payee2@test.com", "250.00");
+        List<UUID> ids = List.of(first.getId(), second.getId());
+        when(paymentRepo.lockDueForRelease(now, 10)).thenReturn(ids);
+        when(paymentRepo.findWithPartiesByIdIn(ids)).thenReturn(List.of(first, second));
+
+        assertEquals(2, releaseService.releaseDue(now, 10));
+
+        verify(paymentRepo).updateReleased(ids, PaymentStatus.RELEASED, now);
+        String content = "You have received a payment of BDT '100.00' from 'John' 'Doe'";
+        verify(outboxService).enqueueWebPush("payment-release:" + first.getId() + ":web",
+                first.getPayee().getId(), content);
+        verify(outboxService).enqueueEmail("payment-release:" + first.getId() + ":email",
+                first.getPayee().getId(), "payee1@test.com", "Payment Received", "notification-email",
+                Map.of("notificationType", "Payment Received", "content", content));
+        verify(outboxService).enqueueWebPush(eq("payment-release:" + second.getId() + ":web"),
+                eq(second.getPayee().getId()), anyString());
+        verify(outboxService).enqueueEmail(eq("payment-release:" + second.getId() + ":email"),
+                eq(second.getPayee().getId()), eq("payee2@test.com"), anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when no payment is due")
+    void releaseDue_NothingDue_NoUpdate() {
+        when(paymentRepo.lockDueForRelease(now, 10)).thenReturn(List.of());
+
+        assertEquals(0, releaseService.releaseDue(now, 10));
+
+        verify(paymentRepo, never()).findWithPartiesByIdIn(any());
+        verify(paymentRepo, never()).updateReleased(any(), any(), any());
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    @DisplayName("Should pass the batch limit to the locking query")
+    void releaseDue_UsesLimit() {
+        when(paymentRepo.lockDueForRelease(eq(now), anyInt())).thenReturn(List.of());
+
+        releaseService.releaseDue(now, 500);
+
+        verify(paymentRepo).lockDueForRelease(now, 500);
+    }
+
+    private static Payment payment(String payeeEmail, String amount) {
+        User payer = new User();
+        payer.setId(UUID.randomUUID());
+        payer.setFirstName("John");
+        payer.setLastName("Doe");
+
+        User payee = new User();
+        payee.setId(UUID.randomUUID());
+        payee.setEmail(payeeEmail);
+
+        Payment payment = new Payment();
+        payment.setId(UUID.randomUUID());
+        payment.setPayer(payer);
+        payment.setPayee(payee);
+        payment.setAmount(new BigDecimal(amount));
+        payment.setStatus(PaymentStatus.PAID);
+        return payment;
+    }
+}
@@ -0,0 +1,85 @@
+package com.javajedis.legalconnect.payment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.javajedis.legalconnect.notifications.NotificationOutboxRelay;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentReleaseSweeper Tests")
+class PaymentReleaseSweeperTest {
+
+    @Mock
+    private PaymentReleaseService releaseService;
+
+    @Mock
+    private NotificationOutboxRelay outboxRelay;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentReleaseSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sweeper = new PaymentReleaseSweeper(releaseService, outboxRelay, meterRegistry, 2, 3);
+    }
+
+    @Test
+    @DisplayName("Should release batches until one comes back short and wake the relay")
+    void sweep_ReleasesUntilShortBatch() {
+        when(releaseService.releaseDue(any(), eq(2))).thenReturn(2, 1);
+
+        assertEquals(3, sweeper.sweep());
+
+        verify(releaseService, times(2)).releaseDue(any(), eq(2));
+        verify(outboxRelay).wakeUp();
+        assertEquals(3.0, meterRegistry.get(PaymentReleaseSweeper.METRIC_RELEASED).counter().count());
+    }
+
+    @Test
+    @DisplayName("Should stop after the batch limit of a sweep")
+    void sweep_BatchLimitReached_Stops() {
+        when(releaseService.releaseDue(any(), eq(2))).thenReturn(2);
+
+        assertEquals(6, sweeper.sweep());
+
+        verify(releaseService, times(3)).releaseDue(any(), eq(2));
+    }
+
+    @Test
+    @DisplayName("Should not wake the relay when nothing was due")
+    void sweep_NothingDue_RelayNotWoken() {
+        when(releaseService.releaseDue(any(), eq(2))).thenReturn(0);
+
+        assertEquals(0, sweeper.sweep());
+
+        verify(outboxRelay, never()).wakeUp();
+    }
+
+    @Test
+    @DisplayName("Should keep payments released before a database failure")
+    void sweep_DatabaseFails_WakesRelayForReleasedPayments() {
+        when(releaseService.releaseDue(any(), eq(2)))
+                .thenReturn(2)
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        assertEquals(2, sweeper.sweep());
+
+        verify(outboxRelay).wakeUp();
+    }
+}
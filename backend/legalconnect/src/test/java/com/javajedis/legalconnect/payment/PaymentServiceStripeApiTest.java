@@ -0,0 +1,395 @@
+package com.javajedis.legalconnect.payment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.javajedis.legalconnect.common.dto.ApiResponse;
+import com.javajedis.legalconnect.common.resilience.ExternalCallGuards;
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
+import com.javajedis.legalconnect.common.service.EmailService;
+import com.javajedis.legalconnect.common.utility.GetUserUtil;
+import com.javajedis.legalconnect.notifications.NotificationService;
+import com.javajedis.legalconnect.payment.dto.PaymentResponseDTO;
+import com.javajedis.legalconnect.payment.dto.StripeSessionResponseDTO;
+import com.javajedis.legalconnect.user.User;
+import com.javajedis.legalconnect.user.UserRepo;
+import com.javajedis.legalconnect.videocall.Meeting;
+import com.javajedis.legalconnect.videocall.MeetingRepo;
+import com.stripe.Stripe;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Runs the Stripe calls of {@link PaymentService} against a local stub of the Stripe API that answers with
+ * recorded responses, or with injected delays and server errors.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentService Stripe API Tests")
+class PaymentServiceStripeApiTest {
+
+    private static final String API_KEY = "sk_test_stub";
+
+    @Mock
+    private PaymentRepo paymentRepo;
+
+    @Mock
+    private UserRepo userRepo;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private MeetingRepo meetingRepo;
+
+    @Spy
+    private ExternalCallGuards externalCallGuards = new ExternalCallGuards(new MockEnvironment(), new SimpleMeterRegistry());
+
+    @InjectMocks
+    private PaymentService paymentService;
+
+    private final Map<String, String> responses = new ConcurrentHashMap<>();
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private final List<String> idempotencyKeys = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private volatile long stubDelayMillis;
+    private volatile int stubFailureStatus;
+    private HttpServer stripeStub;
+    private String previousApiKey;
+    private int previousMaxNetworkRetries;
+    private User payer;
+    private Payment payment;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stripeStub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stripeStub.createContext("/", this::answer);
+        stripeStub.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        stripeStub.start();
+        previousApiKey = Stripe.apiKey;
+        previousMaxNetworkRetries = Stripe.getMaxNetworkRetries();
+        Stripe.apiKey = API_KEY;
+        Stripe.setMaxNetworkRetries(0);
+        Stripe.overrideApiBase("http://localhost:" + stripeStub.getAddress().getPort());
+        ReflectionTestUtils.setField(paymentService, "frontendUrl", "http://localhost:3000");
+
+        payer = new User();
+        payer.setId(UUID.fromString("0d9c8b7a-6f5e-4d3c-2b1a-0f9e8d7c6b5a"));
+        payer.setFirstName("John");
+        payer.setLastName("Doe");
+        payer.setEmail("payer@test.com");
+        User payee = new User();
+        payee.setId(UUID.fromString("1e2d3c4b-5a69-4788-96a5-b4c3d2e1f0a9"));
+        payee.setEmail("payee@test.com");
+
+        payment = new Payment();
+        payment.setId(StripeWebhookServiceTest.FIXTURE_PAYMENT_ID);
+        payment.setPayer(payer);
+        payment.setPayee(payee);
+        payment.setMeetingId(UUID.fromString("7a6b5c4d-3e2f-4a1b-8c9d-0e1f2a3b4c5d"));
+        payment.setAmount(new BigDecimal("1500.00"));
+        payment.setStatus(PaymentStatus.PENDING);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Stripe.overrideApiBase(Stripe.LIVE_API_BASE);
+        Stripe.apiKey = previousApiKey;
+        Stripe.setMaxNetworkRetries(previousMaxNetworkRetries);
+        stripeStub.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should store the checkout session ID when creating a Stripe session")
+    void createStripeSession_StoresSessionId() throws IOException {
+        responses.put("POST /v1/checkout/sessions", StripeWebhookServiceTest.fixture("checkout_session.json"));
+        when(paymentRepo.findById(payment.getId())).thenReturn(Optional.of(payment));
+
+        try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(payer));
+
+            ResponseEntity<ApiResponse<StripeSessionResponseDTO>> response =
+                    paymentService.createStripeSession(payment.getId());
+
+            assertEquals(HttpStatus.CREATED, response.getStatusCode());
+            assertNotNull(response.getBody());
+            assertEquals(StripeWebhookServiceTest.FIXTURE_SESSION_ID, response.getBody().getData().getSessionId());
+            assertEquals(StripeWebhookServiceTest.FIXTURE_SESSION_ID, payment.getStripeSessionId());
+            verify(paymentRepo).save(payment);
+            assertEquals(List.of("POST /v1/checkout/sessions Bearer " + API_KEY), requests);
+            assertEquals(List.of("checkout-" + payment.getId() + "-1500.00"), idempotencyKeys);
+        }
+    }
+
+    @Test
+    @DisplayName("Should send the same idempotency key when a session creation is retried")
+    void createStripeSession_Retry_ReusesIdempotencyKey() throws IOException {
+        guardStripe(5_000);
+        stubFailureStatus = 500;
+        when(paymentRepo.findById(payment.getId())).thenReturn(Optional.of(payment));
+
+        try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(payer));
+
+            paymentService.createStripeSession(payment.getId());
+            stubFailureStatus = 0;
+            responses.put("POST /v1/checkout/sessions", StripeWebhookServiceTest.fixture("checkout_session.json"));
+            paymentService.createStripeSession(payment.getId());
+        }
+
+        assertEquals(2, idempotencyKeys.size());
+        assertEquals(idempotencyKeys.get(0), idempotencyKeys.get(1));
+    }
+
+    @Test
+    @DisplayName("Should verify a session created before session IDs were stored with Stripe")
+    void completePayment_UnknownSession_VerifiedWithStripe() throws IOException {
+        String sessionId = StripeWebhookServiceTest.FIXTURE_SESSION_ID;
+        responses.put("GET /v1/checkout/sessions/" + sessionId, StripeWebhookServiceTest.fixture("checkout_session.json"));
+        Meeting meeting = new Meeting();
+        meeting.setEndTimestamp(OffsetDateTime.now().plusDays(1));
+        when(paymentRepo.findByStripeSessionId(sessionId)).thenReturn(Optional.empty());
+        when(paymentRepo.findById(payment.getId())).thenReturn(Optional.of(payment));
+        when(meetingRepo.findById(payment.getMeetingId())).thenReturn(Optional.of(meeting));
+        when(paymentRepo.save(payment)).thenReturn(payment);
+
+        try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(payer));
+
+            ResponseEntity<ApiResponse<PaymentResponseDTO>> response = paymentService.completePayment(sessionId);
+
+            assertEquals(HttpStatus.CREATED, response.getStatusCode());
+            assertEquals(PaymentStatus.PAID, payment.getStatus());
+            assertEquals(StripeWebhookServiceTest.FIXTURE_PAYMENT_INTENT, payment.getTransactionId());
+            assertEquals(meeting.getEndTimestamp().plusHours(6), payment.getReleaseAt());
+            assertEquals(List.of("GET /v1/checkout/sessions/" + sessionId + " Bearer " + API_KEY), requests);
+        }
+    }
+
+    @Test
+    @DisplayName("Should leave a pending payment to its webhook during the grace period")
+    void completePayment_PendingWithinGrace_DoesNotCallStripe() {
+        String sessionId = StripeWebhookServiceTest.FIXTURE_SESSION_ID;
+        payment.setStripeSessionId(sessionId);
+        when(paymentRepo.findByStripeSessionId(sessionId)).thenReturn(Optional.of(payment));
+
+        try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(payer));
+
+            ResponseEntity<ApiResponse<PaymentResponseDTO>> response = paymentService.completePayment(sessionId);
+
+            assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+            assertEquals(PaymentStatus.PENDING, payment.getStatus());
+            assertTrue(requests.isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Should verify a payment still pending after the grace period with Stripe")
+    void completePayment_PendingAfterGrace_VerifiedWithStripe() throws IOException {
+        String sessionId = StripeWebhookServiceTest.FIXTURE_SESSION_ID;
+        responses.put("GET /v1/checkout/sessions/" + sessionId, StripeWebhookServiceTest.fixture("checkout_session.json"));
+        ReflectionTestUtils.setField(paymentService, "confirmationGraceMillis", 0L);
+        payment.setStripeSessionId(sessionId);
+        Meeting meeting = new Meeting();
+        meeting.setEndTimestamp(OffsetDateTime.now().plusDays(1));
+        when(paymentRepo.findByStripeSessionId(sessionId)).thenReturn(Optional.of(payment));
+        when(meetingRepo.findById(payment.getMeetingId())).thenReturn(Optional.of(meeting));
+        when(paymentRepo.save(payment)).thenReturn(payment);
+
+        try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(payer));
+
+            ResponseEntity<ApiResponse<PaymentResponseDTO>> response = paymentService.completePayment(sessionId);
+
+            assertEquals(HttpStatus.CREATED, response.getStatusCode());
+            assertEquals(PaymentStatus.PAID, payment.getStatus());
+            assertEquals(StripeWebhookServiceTest.FIXTURE_PAYMENT_INTENT, payment.getTransactionId());
+            assertEquals(List.of("GET /v1/checkout/sessions/" + sessionId + " Bearer " + API_KEY), requests);
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep a pending payment accepted when Stripe has not been paid yet")
+    void completePayment_PendingAfterGraceUnpaid_ReturnsAccepted() throws IOException {
+        String sessionId = StripeWebhookServiceTest.FIXTURE_SESSION_ID;
+        responses.put("GET /v1/checkout/sessions/" + sessionId, StripeWebhookServiceTest.fixture("checkout_session.json")
+                .replace("\"payment_status\": \"paid\"", "\"payment_status\": \"unpaid\""));
+        ReflectionTestUtils.setField(paymentService, "confirmationGraceMillis", 0L);
+        payment.setStripeSessionId(sessionId);
+        when(paymentRepo.findByStripeSessionId(sessionId)).thenReturn(Optional.of(payment));
+
+        try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(payer));
+
+            ResponseEntity<ApiResponse<PaymentResponseDTO>> response = paymentService.completePayment(sessionId);
+
+            assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+            assertEquals(PaymentStatus.PENDING, payment.getStatus());
+            verify(paymentRepo, never()).save(any());
+        }
+    }
+
+    @Test
+    @DisplayName("Should not complete a payment whose session Stripe reports as unpaid")
+    void completePayment_UnpaidSession_ReturnsBadRequest() throws IOException {
+        String sessionId = StripeWebhookServiceTest.FIXTURE_SESSION_ID;
+        responses.put("GET /v1/checkout/sessions/" + sessionId, StripeWebhookServiceTest.fixture("checkout_session.json")
+                .replace("\"payment_status\": \"paid\"", "\"payment_status\": \"unpaid\"")
+                .replace("\"status\": \"complete\"", "\"status\": \"open\""));
+        when(paymentRepo.findByStripeSessionId(sessionId)).thenReturn(Optional.empty());
+
+        ResponseEntity<ApiResponse<PaymentResponseDTO>> response = paymentService.completePayment(sessionId);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(PaymentStatus.PENDING, payment.getStatus());
+    }
+
+    @Test
+    @DisplayName("Should answer 503 and stop calling a Stripe API that hangs")
+    void createStripeSession_HangingStripe_TimesOutThenShortCircuits() throws Exception {
+        guardStripe(200);
+        stubDelayMillis = 5_000;
+        responses.put("POST /v1/checkout/sessions", StripeWebhookServiceTest.fixture("checkout_session.json"));
+        when(paymentRepo.findById(payment.getId())).thenReturn(Optional.of(payment));
+
+        try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(payer));
+
+            for (int i = 0; i < 3; i++) {
+                long start = System.nanoTime();
+                ResponseEntity<ApiResponse<StripeSessionResponseDTO>> response =
+                        paymentService.createStripeSession(payment.getId());
+
+                assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+                assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 2_000);
+            }
+        }
+
+        Thread.sleep(100);
+        assertEquals(2, requests.size());
+        assertEquals(2, stripeCalls("timeout"));
+        assertEquals(1, stripeCalls("short_circuited"));
+        assertNull(payment.getStripeSessionId());
+        verify(paymentRepo, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should open the circuit after repeated Stripe server errors")
+    void createStripeSession_StripeServerErrors_OpenCircuit() throws IOException {
+        guardStripe(5_000);
+        stubFailureStatus = 500;
+        when(paymentRepo.findById(payment.getId())).thenReturn(Optional.of(payment));
+
+        try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(payer));
+
+            assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, paymentService.createStripeSession(payment.getId()).getStatusCode());
+            assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, paymentService.createStripeSession(payment.getId()).getStatusCode());
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, paymentService.createStripeSession(payment.getId()).getStatusCode());
+        }
+
+        assertEquals(2, requests.size());
+        assertEquals(2, stripeCalls("failure"));
+    }
+
+    @Test
+    @DisplayName("Should keep calling Stripe when it rejects invalid requests")
+    void completePayment_InvalidRequests_KeepCircuitClosed() {
+        guardStripe(5_000);
+        when(paymentRepo.findByStripeSessionId("cs_test_unknown")).thenReturn(Optional.empty());
+
+        for (int i = 0; i < 3; i++) {
+            ResponseEntity<ApiResponse<PaymentResponseDTO>> response = paymentService.completePayment("cs_test_unknown");
+
+            assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+        }
+
+        assertEquals(3, requests.size());
+        assertEquals(3, stripeCalls("client_error"));
+    }
+
+    private void guardStripe(long timeoutMillis) {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.custom.resilience.stripe.timeout-ms", String.valueOf(timeoutMillis))
+                .withProperty("spring.custom.resilience.stripe.failure-threshold", "2");
+        ReflectionTestUtils.setField(paymentService, "externalCallGuards", new ExternalCallGuards(environment, meterRegistry));
+    }
+
+    private long stripeCalls(String outcome) {
+        return meterRegistry.get("integration.calls").tag("integration", "stripe").tag("outcome", outcome).timer().count();
+    }
+
+    private void answer(HttpExchange exchange) throws IOException {
+        String route = exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath();
+        requests.add(route + " " + exchange.getRequestHeaders().getFirst("Authorization"));
+        String idempotencyKey = exchange.getRequestHeaders().getFirst("Idempotency-Key");
+        if (idempotencyKey != null) {
+            idempotencyKeys.add(idempotencyKey);
+        }
+        if (stubDelayMillis > 0) {
+            try {
+                Thread.sleep(stubDelayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (stubFailureStatus > 0) {
+            respond(exchange, stubFailureStatus, "{\"error\":{\"type\":\"api_error\",\"message\":\"Injected fault\"}}");
+            return;
+        }
+        String body = responses.get(route);
+        respond(exchange, body != null ? 200 : 404, body != null ? body
+                : "{\"error\":{\"type\":\"invalid_request_error\",\"message\":\"No stub for " + route + "\"}}");
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
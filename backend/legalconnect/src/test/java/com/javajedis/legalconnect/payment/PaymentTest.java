@@ -96,7 +96,7 @@ class PaymentTest {
         
         Payment constructedPayment = new Payment(
             testId, payer, payee, meetingId, testAmount, PaymentStatus.PAID,
-            PaymentMethod.MFS, "TXN789012", paymentDate, releaseAt, now, now
+            PaymentMethod.MFS, "TXN789012", "cs_test_123", paymentDate, releaseAt, now, now
         );
         
         assertEquals(testId, constructedPayment.getId());
@@ -107,6 +107,7 @@ class PaymentTest {
         assertEquals(PaymentStatus.PAID, constructedPayment.getStatus());
         assertEquals(PaymentMethod.MFS, constructedPayment.getPaymentMethod());
         assertEquals("TXN789012", constructedPayment.getTransactionId());
+        assertEquals("cs_test_123", constructedPayment.getStripeSessionId());
         assertEquals(paymentDate, constructedPayment.getPaymentDate());
         assertEquals(releaseAt, constructedPayment.getReleaseAt());
         assertEquals(now, constructedPayment.getCreatedAt());
@@ -593,7 +594,7 @@ class PaymentTest {
     void testConstructorWithNullValues() {
         Payment constructedPayment = new Payment(
             testId, null, null, meetingId, testAmount, PaymentStatus.PENDING,
-            null, null, null, null, null, null
+            null, null, null, null, null, null, null
         );
         
         assertEquals(testId, constructedPayment.getId());
@@ -604,6 +605,7 @@ class PaymentTest {
         assertEquals(PaymentStatus.PENDING, constructedPayment.getStatus());
         assertNull(constructedPayment.getPaymentMethod());
         assertNull(constructedPayment.getTransactionId());
+        assertNull(constructedPayment.getStripeSessionId());
         assertNull(constructedPayment.getPaymentDate());
         assertNull(constructedPayment.getReleaseAt());
         assertNull(constructedPayment.getCreatedAt());
@@ -0,0 +1,130 @@
+package com.javajedis.legalconnect.payment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StripeEventProcessor Tests")
+class StripeEventProcessorTest {
+
+    @Mock
+    private StripeWebhookService webhookService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StripeEventProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        processor = new StripeEventProcessor(webhookService, meterRegistry, 2, 1, 30);
+    }
+
+    @AfterEach
+    void tearDown() {
+        processor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should process every claimed event")
+    void processBatch_ProcessesEachEvent() {
+        StripeEvent first = event("evt_1");
+        StripeEvent second = event("evt_2");
+        when(webhookService.claim(2)).thenReturn(List.of(first, second));
+
+        assertEquals(2, processor.processBatch());
+
+        verify(webhookService).process(first);
+        verify(webhookService).process(second);
+        verify(webhookService, never()).markFailed(any(), any(), anyBoolean());
+        assertEquals(2.0, processed("processed"));
+    }
+
+    @Test
+    @DisplayName("Should fail an event permanently when it can never be applied")
+    void processBatch_InvalidEvent_FailedPermanently() {
+        StripeEvent event = event("evt_1");
+        when(webhookService.claim(2)).thenReturn(List.of(event));
+        doThrow(new IllegalArgumentException("unknown payment")).when(webhookService).process(event);
+
+        processor.processBatch();
+
+        verify(webhookService).markFailed(event, "unknown payment", true);
+        assertEquals(1.0, processed("failed"));
+    }
+
+    @Test
+    @DisplayName("Should retry an event after a transient failure and continue with the batch")
+    void processBatch_TransientFailure_Retried() {
+        StripeEvent failing = event("evt_1");
+        StripeEvent next = event("evt_2");
+        when(webhookService.claim(2)).thenReturn(List.of(failing, next));
+        doThrow(new QueryTimeoutException("timeout")).when(webhookService).process(failing);
+        when(webhookService.markFailed(failing, "timeout", false)).thenReturn(true);
+
+        processor.processBatch();
+
+        verify(webhookService).process(next);
+        assertEquals(1.0, processed("retried"));
+        assertEquals(1.0, processed("processed"));
+    }
+
+    @Test
+    @DisplayName("Should drain the inbox on a worker when woken up")
+    void wakeUp_DrainsUntilShortBatch() {
+        StripeEvent first = event("evt_1");
+        StripeEvent second = event("evt_2");
+        when(webhookService.claim(2)).thenReturn(List.of(first, second), List.of());
+
+        processor.wakeUp();
+
+        verify(webhookService, timeout(5000)).process(second);
+        verify(webhookService, timeout(5000).times(2)).claim(2);
+    }
+
+    @Test
+    @DisplayName("Should purge events processed before the retention period")
+    void purgeProcessed_UsesRetention() {
+        when(webhookService.purgeProcessedBefore(any())).thenReturn(3);
+
+        processor.purgeProcessed();
+
+        ArgumentCaptor<OffsetDateTime> cutoff = ArgumentCaptor.forClass(OffsetDateTime.class);
+        verify(webhookService).purgeProcessedBefore(cutoff.capture());
+        assertTrue(cutoff.getValue().isBefore(OffsetDateTime.now().minusDays(29)));
+        assertTrue(cutoff.getValue().isAfter(OffsetDateTime.now().minusDays(31)));
+    }
+
+    private double processed(String outcome) {
+        return meterRegistry.get(StripeEventProcessor.METRIC_PROCESSED).tag("outcome", outcome).counter().count();
+    }
+
+    private static StripeEvent event(String id) {
+        StripeEvent event = new StripeEvent();
+        event.setId(id);
+        event.setType("checkout.session.completed");
+        event.setAttempts(1);
+        return event;
+    }
+}
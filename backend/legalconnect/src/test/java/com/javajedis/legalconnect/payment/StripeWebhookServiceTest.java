@@ -0,0 +1,244 @@
+package com.javajedis.legalconnect.payment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javajedis.legalconnect.payment.StripeEvent.Status;
+import com.stripe.exception.SignatureVerificationException;
+import com.stripe.net.Webhook;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StripeWebhookService Tests")
+class StripeWebhookServiceTest {
+
+    static final String SECRET = "whsec_test_secret";
+    static final String COMPLETED_EVENT_ID = "evt_1PkLmNoPqRsTuVwXcompleted";
+    static final UUID FIXTURE_PAYMENT_ID = UUID.fromString("5b0f6a1e-3c2d-4e8f-9a7b-1c2d3e4f5a6b");
+    static final String FIXTURE_SESSION_ID = "cs_test_a1b2c3d4e5f6g7h8i9j0";
+    static final String FIXTURE_PAYMENT_INTENT = "pi_3PkLmNoPqRsTuVwX1a2b3c4d";
+
+    @Mock
+    private StripeEventRepo eventRepo;
+
+    @Mock
+    private PaymentService paymentService;
+
+    private StripeWebhookService webhookService;
+
+    @BeforeEach
+    void setUp() {
+        webhookService = new StripeWebhookService(eventRepo, paymentService, new ObjectMapper(), SECRET, true, 3, 60_000);
+    }
+
+    @Test
+    @DisplayName("Should store an event with a valid signature")
+    void receive_ValidSignature_StoresEvent() throws Exception {
+        String payload = fixture("checkout_session_completed.json");
+        when(eventRepo.insertIfAbsent(eq(COMPLETED_EVENT_ID), eq("checkout.session.completed"), eq(payload), any()))
+                .thenReturn(1);
+
+        assertTrue(webhookService.receive(payload, sign(payload, SECRET, Webhook.Util.getTimeNow())));
+    }
+
+    @Test
+    @DisplayName("Should drop a redelivered event")
+    void receive_Redelivery_ReturnsFalse() throws Exception {
+        String payload = fixture("checkout_session_completed.json");
+        when(eventRepo.insertIfAbsent(anyString(), anyString(), anyString(), any())).thenReturn(0);
+
+        assertFalse(webhookService.receive(payload, sign(payload, SECRET, Webhook.Util.getTimeNow())));
+    }
+
+    @Test
+    @DisplayName("Should reject an event signed with another secret")
+    void receive_WrongSecret_Throws() throws Exception {
+        String payload = fixture("checkout_session_completed.json");
+        String signature = sign(payload, "whsec_other_secret", Webhook.Util.getTimeNow());
+
+        assertThrows(SignatureVerificationException.class, () -> webhookService.receive(payload, signature));
+        verifyNoInteractions(eventRepo);
+    }
+
+    @Test
+    @DisplayName("Should reject an event whose body was changed after signing")
+    void receive_TamperedPayload_Throws() throws Exception {
+        String payload = fixture("checkout_session_completed.json");
+        String signature = sign(payload, SECRET, Webhook.Util.getTimeNow());
+        String tampered = payload.replace("150000", "1");
+
+        assertThrows(SignatureVerificationException.class, () -> webhookService.receive(tampered, signature));
+        verifyNoInteractions(eventRepo);
+    }
+
+    @Test
+    @DisplayName("Should reject a replayed event outside the signature tolerance")
+    void receive_StaleSignature_Throws() throws Exception {
+        String payload = fixture("checkout_session_completed.json");
+        String signature = sign(payload, SECRET, Webhook.Util.getTimeNow() - 3600);
+
+        assertThrows(SignatureVerificationException.class, () -> webhookService.receive(payload, signature));
+    }
+
+    @Test
+    @DisplayName("Should reject an event without a signature")
+    void receive_MissingSignature_Throws() throws Exception {
+        String payload = fixture("checkout_session_completed.json");
+
+        assertThrows(SignatureVerificationException.class, () -> webhookService.receive(payload, null));
+        verifyNoInteractions(eventRepo);
+    }
+
+    @Test
+    @DisplayName("Should refuse events when no webhook secret is configured")
+    void receive_NoSecret_Throws() throws Exception {
+        StripeWebhookService unconfigured = new StripeWebhookService(eventRepo, paymentService, new ObjectMapper(),
+                "", false, 3, 60_000);
+        String payload = fixture("checkout_session_completed.json");
+
+        assertThrows(IllegalStateException.class, () -> unconfigured.receive(payload, "t=1,v1=abc"));
+    }
+
+    @Test
+    @DisplayName("Should fail to start when a required webhook secret is empty")
+    void constructor_RequiredSecretMissing_Throws() {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        assertThrows(IllegalStateException.class,
+                () -> new StripeWebhookService(eventRepo, paymentService, objectMapper, "", true, 3, 60_000));
+    }
+
+    @Test
+    @DisplayName("Should mark the payment of a completed checkout session as paid")
+    void process_CheckoutCompleted_MarksPaymentPaid() throws IOException {
+        StripeEvent event = event(COMPLETED_EVENT_ID, "checkout.session.completed", fixture("checkout_session_completed.json"));
+
+        webhookService.process(event);
+
+        verify(paymentService).markPaid(FIXTURE_PAYMENT_ID, FIXTURE_SESSION_ID, FIXTURE_PAYMENT_INTENT);
+        verify(eventRepo).markProcessed(eq(COMPLETED_EVENT_ID), any());
+    }
+
+    @Test
+    @DisplayName("Should wait for the async payment of an unpaid checkout session")
+    void process_UnpaidSession_PaymentUnchanged() throws IOException {
+        StripeEvent event = event("evt_1PkLmNoPqRsTuVwXunpaid00", "checkout.session.completed",
+                fixture("checkout_session_completed_unpaid.json"));
+
+        webhookService.process(event);
+
+        verifyNoInteractions(paymentService);
+        verify(eventRepo).markProcessed(eq(event.getId()), any());
+    }
+
+    @Test
+    @DisplayName("Should mark events of other types as processed without touching payments")
+    void process_OtherType_Ignored() throws IOException {
+        StripeEvent event = event("evt_1PkLmNoPqRsTuVwXintent00", "payment_intent.succeeded",
+                fixture("payment_intent_succeeded.json"));
+
+        webhookService.process(event);
+
+        verifyNoInteractions(paymentService);
+        verify(eventRepo).markProcessed(eq(event.getId()), any());
+    }
+
+    @Test
+    @DisplayName("Should fail permanently on a checkout session without a payment ID")
+    void process_MissingPaymentId_Throws() throws IOException {
+        String payload = fixture("checkout_session_completed.json").replace("\"payment_id\"", "\"other_id\"");
+        StripeEvent event = event(COMPLETED_EVENT_ID, "checkout.session.completed", payload);
+
+        assertThrows(IllegalArgumentException.class, () -> webhookService.process(event));
+        verify(eventRepo, never()).markProcessed(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should count the attempt and lease claimed events")
+    void claim_LeasesEvents() {
+        StripeEvent event = event(COMPLETED_EVENT_ID, "checkout.session.completed", "{}");
+        when(eventRepo.lockDue(any(), eq(10))).thenReturn(List.of(event));
+        when(eventRepo.saveAll(List.of(event))).thenReturn(List.of(event));
+
+        List<StripeEvent> claimed = webhookService.claim(10);
+
+        assertEquals(1, claimed.size());
+        assertEquals(1, event.getAttempts());
+        assertTrue(event.getNextAttemptAt().isAfter(OffsetDateTime.now().plusSeconds(30)));
+    }
+
+    @Test
+    @DisplayName("Should retry a failed event until the attempt limit")
+    void markFailed_RetriesUntilLimit() {
+        StripeEvent event = event(COMPLETED_EVENT_ID, "checkout.session.completed", "{}");
+        event.setAttempts(2);
+
+        assertTrue(webhookService.markFailed(event, "timeout", false));
+        verify(eventRepo).markFailed(eq(COMPLETED_EVENT_ID), eq(Status.PENDING), any(), eq("timeout"));
+
+        event.setAttempts(3);
+        assertFalse(webhookService.markFailed(event, "timeout", false));
+        verify(eventRepo).markFailed(eq(COMPLETED_EVENT_ID), eq(Status.FAILED), any(), eq("timeout"));
+    }
+
+    @Test
+    @DisplayName("Should not retry a permanent failure")
+    void markFailed_Permanent_NotRetried() {
+        StripeEvent event = event(COMPLETED_EVENT_ID, "checkout.session.completed", "{}");
+        event.setAttempts(1);
+
+        assertFalse(webhookService.markFailed(event, "unknown payment", true));
+        verify(eventRepo).markFailed(eq(COMPLETED_EVENT_ID), eq(Status.FAILED), any(), eq("unknown payment"));
+    }
+
+    @Test
+    @DisplayName("Should back off exponentially up to the maximum")
+    void backoff_DoublesUpToMaximum() {
+        assertEquals(Duration.ofSeconds(30), StripeWebhookService.backoff(1));
+        assertEquals(Duration.ofSeconds(60), StripeWebhookService.backoff(2));
+        assertEquals(StripeWebhookService.MAX_BACKOFF, StripeWebhookService.backoff(50));
+    }
+
+    static String fixture(String name) throws IOException {
+        try (InputStream in = StripeWebhookServiceTest.class.getResourceAsStream("/stripe/" + name)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    static String sign(String payload, String secret, long timestamp) throws Exception {
+        return "t=" + timestamp + ",v1=" + Webhook.Util.computeHmacSha256(secret, timestamp + "." + payload);
+    }
+
+    private static StripeEvent event(String id, String type, String payload) {
+        StripeEvent event = new StripeEvent();
+        event.setId(id);
+        event.setType(type);
+        event.setPayload(payload);
+        event.setNextAttemptAt(OffsetDateTime.now());
+        return event;
+    }
+}
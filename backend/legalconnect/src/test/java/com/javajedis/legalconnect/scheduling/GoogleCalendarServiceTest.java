@@ -3,6 +3,9 @@ package com.javajedis.legalconnect.scheduling;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -12,13 +15,16 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,22 +32,38 @@ import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.mock.env.MockEnvironment;
 
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.javanet.NetHttpTransport;
 import com.google.api.services.calendar.Calendar;
 import com.google.api.services.calendar.model.Event;
 import com.javajedis.legalconnect.common.exception.GoogleCalendarException;
+import com.javajedis.legalconnect.common.resilience.ExternalCallGuards;
 import com.javajedis.legalconnect.scheduling.dto.CreateCalendarEventDTO;
 import com.javajedis.legalconnect.scheduling.dto.UpdateCalendarEventDTO;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @DisplayName("GoogleCalendarService Tests")
 class GoogleCalendarServiceTest {
 
     @Mock
     private OAuthCalendarTokenRepo oAuthCalendarTokenRepo;
 
+    @Spy
+    private HttpTransport googleHttpTransport = new NetHttpTransport();
+
+    @Spy
+    private ExternalCallGuards externalCallGuards = new ExternalCallGuards(new MockEnvironment(), new SimpleMeterRegistry());
+
     @InjectMocks
     private GoogleCalendarService googleCalendarService;
 
@@ -168,24 +190,24 @@ class GoogleCalendarServiceTest {
         GoogleCalendarService spyService = spy(googleCalendarService);
         Calendar calendar = mock(Calendar.class);
         Calendar.Events events = mock(Calendar.Events.class);
-        Calendar.Events.Get get = mock(Calendar.Events.Get.class);
-        Calendar.Events.Update update = mock(Calendar.Events.Update.class);
-        Event existingEvent = new Event();
+        Calendar.Events.Patch patch = mock(Calendar.Events.Patch.class);
         Event updatedEvent = new Event();
         updatedEvent.setId("updated-event-id");
 
         doReturn(calendar).when(spyService).getCalendar(anyString());
         when(calendar.events()).thenReturn(events);
-        when(events.get("primary", testEventId)).thenReturn(get);
-        when(get.execute()).thenReturn(existingEvent);
-        when(events.update(eq("primary"), eq(testEventId), any(Event.class))).thenReturn(update);
-        when(update.execute()).thenReturn(updatedEvent);
+        when(events.patch(eq("primary"), eq(testEventId), any(Event.class))).thenReturn(patch);
+        when(patch.execute()).thenReturn(updatedEvent);
 
         Event result = spyService.updateEvent(testUpdateDTO);
 
         assertNotNull(result);
         assertEquals(updatedEvent, result);
-        verify(events).update(eq("primary"), eq(testEventId), any(Event.class));
+        ArgumentCaptor<Event> patchCaptor = ArgumentCaptor.forClass(Event.class);
+        verify(events).patch(eq("primary"), eq(testEventId), patchCaptor.capture());
+        assertEquals("Updated Event", patchCaptor.getValue().getSummary());
+        assertEquals(1, patchCaptor.getValue().getAttendees().size());
+        verify(events, never()).get(anyString(), anyString());
     }
 
     @Test
@@ -297,9 +319,7 @@ class GoogleCalendarServiceTest {
         GoogleCalendarService spyService = spy(googleCalendarService);
         Calendar calendar = mock(Calendar.class);
         Calendar.Events events = mock(Calendar.Events.class);
-        Calendar.Events.Get get = mock(Calendar.Events.Get.class);
-        Calendar.Events.Update update = mock(Calendar.Events.Update.class);
-        Event existingEvent = new Event();
+        Calendar.Events.Patch patch = mock(Calendar.Events.Patch.class);
         Event updatedEvent = new Event();
 
         UpdateCalendarEventDTO dtoWithoutAttendees = new UpdateCalendarEventDTO(
@@ -315,14 +335,85 @@ class GoogleCalendarServiceTest {
 
         doReturn(calendar).when(spyService).getCalendar(anyString());
         when(calendar.events()).thenReturn(events);
-        when(events.get("primary", testEventId)).thenReturn(get);
-        when(get.execute()).thenReturn(existingEvent);
-        when(events.update(eq("primary"), eq(testEventId), any(Event.class))).thenReturn(update);
-        when(update.execute()).thenReturn(updatedEvent);
+        when(events.patch(eq("primary"), eq(testEventId), any(Event.class))).thenReturn(patch);
+        when(patch.execute()).thenReturn(updatedEvent);
 
         Event result = spyService.updateEvent(dtoWithoutAttendees);
 
         assertNotNull(result);
-        verify(events).update(eq("primary"), eq(testEventId), any(Event.class));
+        // Attendees left out of the patch keep their current value on Google's side
+        ArgumentCaptor<Event> patchCaptor = ArgumentCaptor.forClass(Event.class);
+        verify(events).patch(eq("primary"), eq(testEventId), patchCaptor.capture());
+        assertNull(patchCaptor.getValue().getAttendees());
+    }
+
+    @Test
+    @DisplayName("Should stop calling Google after repeated server errors")
+    void eventExists_GoogleServerErrors_OpenCircuit() throws Exception {
+        int threshold = externalCallGuards.settings(ExternalCallGuards.GOOGLE).failureThreshold();
+        GoogleCalendarService spyService = spy(googleCalendarService);
+        Calendar calendar = mock(Calendar.class);
+        Calendar.Events events = mock(Calendar.Events.class);
+        Calendar.Events.Get get = mock(Calendar.Events.Get.class);
+
+        doReturn(calendar).when(spyService).getCalendar(anyString());
+        when(calendar.events()).thenReturn(events);
+        when(events.get("primary", testEventId)).thenReturn(get);
+        when(get.execute()).thenThrow(googleError(503));
+
+        for (int i = 0; i < threshold + 2; i++) {
+            assertFalse(spyService.eventExists(testAccessToken, testEventId));
+        }
+
+        verify(get, times(threshold)).execute();
+    }
+
+    @Test
+    @DisplayName("Should reuse the calendar client of an access token")
+    void getCalendar_SameToken_ReturnsCachedClient() {
+        when(oAuthCalendarTokenRepo.findAccessExpiryByAccessToken(testAccessToken))
+                .thenReturn(Optional.of(OffsetDateTime.now().plusMinutes(30)));
+
+        Calendar first = googleCalendarService.getCalendar(testAccessToken);
+        Calendar second = googleCalendarService.getCalendar(testAccessToken);
+
+        assertSame(first, second);
+        assertNotSame(first, googleCalendarService.getCalendar("other_access_token"));
+        verify(oAuthCalendarTokenRepo, times(1)).findAccessExpiryByAccessToken(testAccessToken);
+    }
+
+    @Test
+    @DisplayName("Should not keep the calendar client of an expired access token")
+    void getCalendar_ExpiredToken_BuildsNewClient() {
+        when(oAuthCalendarTokenRepo.findAccessExpiryByAccessToken(testAccessToken))
+                .thenReturn(Optional.of(OffsetDateTime.now().minusMinutes(1)));
+
+        Calendar first = googleCalendarService.getCalendar(testAccessToken);
+        Calendar second = googleCalendarService.getCalendar(testAccessToken);
+
+        assertNotSame(first, second);
+        verify(oAuthCalendarTokenRepo, times(2)).findAccessExpiryByAccessToken(testAccessToken);
+    }
+
+    @Test
+    @DisplayName("Should build calendar clients on the shared transport")
+    void getCalendar_UsesSharedTransport() {
+        Calendar calendar = googleCalendarService.getCalendar(testAccessToken);
+
+        assertSame(googleHttpTransport, calendar.getRequestFactory().getTransport());
+    }
+
+    @Test
+    @DisplayName("Should count only server errors and rate limits as Google outages")
+    void isGoogleOutage_ClassifiesErrors() {
+        assertTrue(GoogleCalendarService.isGoogleOutage(googleError(503)));
+        assertTrue(GoogleCalendarService.isGoogleOutage(googleError(429)));
+        assertTrue(GoogleCalendarService.isGoogleOutage(new IOException("Connection reset")));
+        assertFalse(GoogleCalendarService.isGoogleOutage(googleError(404)));
+        assertFalse(GoogleCalendarService.isGoogleOutage(googleError(401)));
+    }
+
+    private static HttpResponseException googleError(int statusCode) {
+        return new HttpResponseException.Builder(statusCode, "error", new HttpHeaders()).build();
     }
-} 
\ No newline at end of file
+}
@@ -12,6 +12,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,21 +30,26 @@ import org.mockito.ArgumentCaptor;
 import com.google.api.client.googleapis.auth.oauth2.GoogleAuthorizationCodeTokenRequest;
 import com.google.api.client.googleapis.auth.oauth2.GoogleRefreshTokenRequest;
 import com.google.api.client.googleapis.auth.oauth2.GoogleTokenResponse;
-import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.http.HttpTransport;
 import com.google.api.client.json.gson.GsonFactory;
-import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
 import org.mockito.MockedConstruction;
 import static org.mockito.Mockito.doThrow;
 
 import com.javajedis.legalconnect.common.dto.ApiResponse;
+import com.javajedis.legalconnect.common.resilience.ExternalCallGuards;
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
 import com.javajedis.legalconnect.common.utility.GetUserUtil;
 import com.javajedis.legalconnect.user.Role;
 import com.javajedis.legalconnect.user.User;
 import com.javajedis.legalconnect.user.UserRepo;
+import org.mockito.Spy;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.env.MockEnvironment;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * Comprehensive unit tests for OAuthService.
  * Tests all service methods with various scenarios including success cases and error handling.
@@ -57,6 +63,12 @@ class OAuthServiceTest {
     @Mock
     private UserRepo userRepo;
 
+    @Mock
+    private HttpTransport googleHttpTransport;
+
+    @Spy
+    private ExternalCallGuards externalCallGuards = new ExternalCallGuards(new MockEnvironment(), new SimpleMeterRegistry());
+
     @InjectMocks
     private OAuthService oAuthService;
 
@@ -126,7 +138,7 @@ class OAuthServiceTest {
     void oAuthAuthorize_Success_ReturnsUrlInJsonResponse() {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
             // Arrange
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
 
             // Act
             ResponseEntity<ApiResponse<String>> result = oAuthService.oAuthAuthorize();
@@ -154,7 +166,7 @@ class OAuthServiceTest {
     void oAuthAuthorize_UserNotAuthenticated_ReturnsUnauthorized() {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
             // Arrange
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(null);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(null);
 
             // Act
             ResponseEntity<ApiResponse<String>> result = oAuthService.oAuthAuthorize();
@@ -171,7 +183,6 @@ class OAuthServiceTest {
     @DisplayName("Should handle OAuth callback successfully for new user")
     void callback_NewUser_Success_ReturnsSuccessResponse() {
         try (
-            MockedStatic<GoogleNetHttpTransport> mockedTransport = mockStatic(GoogleNetHttpTransport.class);
             MockedStatic<GsonFactory> mockedJsonFactory = mockStatic(GsonFactory.class);
             MockedConstruction<GoogleAuthorizationCodeTokenRequest> mockedRequest = Mockito.mockConstruction(GoogleAuthorizationCodeTokenRequest.class, (mock, context) -> {
                 GoogleTokenResponse response = new GoogleTokenResponse();
@@ -182,9 +193,7 @@ class OAuthServiceTest {
             })
         ) {
             // Arrange
-            NetHttpTransport testTransport = Mockito.mock(NetHttpTransport.class);
             GsonFactory testJsonFactory = Mockito.mock(GsonFactory.class);
-            mockedTransport.when(GoogleNetHttpTransport::newTrustedTransport).thenReturn(testTransport);
             mockedJsonFactory.when(GsonFactory::getDefaultInstance).thenReturn(testJsonFactory);
 
             when(userRepo.findById(testUserId)).thenReturn(Optional.of(testUser));
@@ -216,7 +225,6 @@ class OAuthServiceTest {
     @DisplayName("Should handle OAuth callback successfully for existing user")
     void callback_ExistingUser_Success_ReturnsSuccessResponse() {
         try (
-            MockedStatic<GoogleNetHttpTransport> mockedTransport = mockStatic(GoogleNetHttpTransport.class);
             MockedStatic<GsonFactory> mockedJsonFactory = mockStatic(GsonFactory.class);
             MockedConstruction<GoogleAuthorizationCodeTokenRequest> mockedRequest = Mockito.mockConstruction(GoogleAuthorizationCodeTokenRequest.class, (mock, context) -> {
                 GoogleTokenResponse response = new GoogleTokenResponse();
@@ -227,9 +235,7 @@ class OAuthServiceTest {
             })
         ) {
             // Arrange
-            NetHttpTransport testTransport = Mockito.mock(NetHttpTransport.class);
             GsonFactory testJsonFactory = Mockito.mock(GsonFactory.class);
-            mockedTransport.when(GoogleNetHttpTransport::newTrustedTransport).thenReturn(testTransport);
             mockedJsonFactory.when(GsonFactory::getDefaultInstance).thenReturn(testJsonFactory);
 
             when(userRepo.findById(testUserId)).thenReturn(Optional.of(testUser));
@@ -295,7 +301,6 @@ class OAuthServiceTest {
     @DisplayName("Should refresh access token successfully")
     void refreshAccessToken_Success_ReturnsTrue() {
         try (
-            MockedStatic<GoogleNetHttpTransport> mockedTransport = mockStatic(GoogleNetHttpTransport.class);
             MockedStatic<GsonFactory> mockedJsonFactory = mockStatic(GsonFactory.class);
             MockedConstruction<GoogleRefreshTokenRequest> mockedRequest = Mockito.mockConstruction(GoogleRefreshTokenRequest.class, (mock, context) -> {
                 GoogleTokenResponse response = new GoogleTokenResponse();
@@ -305,9 +310,7 @@ class OAuthServiceTest {
             })
         ) {
             // Arrange
-            NetHttpTransport testTransport = Mockito.mock(NetHttpTransport.class);
             GsonFactory testJsonFactory = Mockito.mock(GsonFactory.class);
-            mockedTransport.when(GoogleNetHttpTransport::newTrustedTransport).thenReturn(testTransport);
             mockedJsonFactory.when(GsonFactory::getDefaultInstance).thenReturn(testJsonFactory);
 
             when(userRepo.findById(testUserId)).thenReturn(Optional.of(testUser));
@@ -333,7 +336,6 @@ class OAuthServiceTest {
     @DisplayName("Should refresh access token with new refresh token")
     void refreshAccessToken_WithNewRefreshToken_UpdatesRefreshToken() {
         try (
-            MockedStatic<GoogleNetHttpTransport> mockedTransport = mockStatic(GoogleNetHttpTransport.class);
             MockedStatic<GsonFactory> mockedJsonFactory = mockStatic(GsonFactory.class);
             MockedConstruction<GoogleRefreshTokenRequest> mockedRequest = Mockito.mockConstruction(GoogleRefreshTokenRequest.class, (mock, context) -> {
                 GoogleTokenResponse response = new GoogleTokenResponse();
@@ -344,9 +346,7 @@ class OAuthServiceTest {
             })
         ) {
             // Arrange
-            NetHttpTransport testTransport = Mockito.mock(NetHttpTransport.class);
             GsonFactory testJsonFactory = Mockito.mock(GsonFactory.class);
-            mockedTransport.when(GoogleNetHttpTransport::newTrustedTransport).thenReturn(testTransport);
             mockedJsonFactory.when(GsonFactory::getDefaultInstance).thenReturn(testJsonFactory);
 
             when(userRepo.findById(testUserId)).thenReturn(Optional.of(testUser));
@@ -372,16 +372,13 @@ class OAuthServiceTest {
     @DisplayName("Should handle refresh access token failure")
     void refreshAccessToken_Failure_ReturnsFalse() {
         try (
-            MockedStatic<GoogleNetHttpTransport> mockedTransport = mockStatic(GoogleNetHttpTransport.class);
             MockedStatic<GsonFactory> mockedJsonFactory = mockStatic(GsonFactory.class);
             MockedConstruction<GoogleRefreshTokenRequest> mockedRequest = Mockito.mockConstruction(GoogleRefreshTokenRequest.class, (mock, context) -> {
                 doThrow(new IOException("Refresh failed")).when(mock).execute();
             })
         ) {
             // Arrange
-            NetHttpTransport testTransport = Mockito.mock(NetHttpTransport.class);
             GsonFactory testJsonFactory = Mockito.mock(GsonFactory.class);
-            mockedTransport.when(GoogleNetHttpTransport::newTrustedTransport).thenReturn(testTransport);
             mockedJsonFactory.when(GsonFactory::getDefaultInstance).thenReturn(testJsonFactory);
 
             when(userRepo.findById(testUserId)).thenReturn(Optional.of(testUser));
@@ -396,12 +393,41 @@ class OAuthServiceTest {
         }
     }
 
+    @Test
+    @DisplayName("Should give up refreshing the access token when Google hangs")
+    void refreshAccessToken_GoogleHangs_ReturnsFalse() {
+        ReflectionTestUtils.setField(oAuthService, "externalCallGuards", new ExternalCallGuards(new MockEnvironment()
+                .withProperty("spring.custom.resilience.google.timeout-ms", "100"), new SimpleMeterRegistry()));
+        try (
+            MockedStatic<GsonFactory> mockedJsonFactory = mockStatic(GsonFactory.class);
+            MockedConstruction<GoogleRefreshTokenRequest> mockedRequest = Mockito.mockConstruction(GoogleRefreshTokenRequest.class, (mock, context) -> {
+                when(mock.execute()).thenAnswer(invocation -> {
+                    Thread.sleep(10_000);
+                    return new GoogleTokenResponse();
+                });
+            })
+        ) {
+            // Arrange
+            mockedJsonFactory.when(GsonFactory::getDefaultInstance).thenReturn(Mockito.mock(GsonFactory.class));
+            when(userRepo.findById(testUserId)).thenReturn(Optional.of(testUser));
+            when(oAuthCalendarTokenRepo.findByUserId(testUserId)).thenReturn(Optional.of(testToken));
+            long start = System.nanoTime();
+
+            // Act
+            boolean result = oAuthService.refreshAccessToken(testUserId);
+
+            // Assert
+            assertFalse(result);
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 5_000);
+            verify(oAuthCalendarTokenRepo, never()).save(any());
+        }
+    }
+
     @Test
     @DisplayName("Should check and refresh when token expired and refresh succeeds")
     void checkAndRefreshAccessToken_ExpiredToken_RefreshSucceeds_ReturnsTrue() {
         try (
             MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class);
-            MockedStatic<GoogleNetHttpTransport> mockedTransport = mockStatic(GoogleNetHttpTransport.class);
             MockedStatic<GsonFactory> mockedJsonFactory = mockStatic(GsonFactory.class);
             MockedConstruction<GoogleRefreshTokenRequest> mockedRequest = Mockito.mockConstruction(GoogleRefreshTokenRequest.class, (mock, context) -> {
                 GoogleTokenResponse response = new GoogleTokenResponse();
@@ -412,14 +438,12 @@ class OAuthServiceTest {
         ) {
             // Arrange
             testToken.setAccessExpiry(OffsetDateTime.now().minusHours(1));
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
             when(oAuthCalendarTokenRepo.findByUserId(testUserId)).thenReturn(Optional.of(testToken));
             when(userRepo.findById(testUserId)).thenReturn(Optional.of(testUser));
             when(oAuthCalendarTokenRepo.save(any(OAuthCalendarToken.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-            NetHttpTransport testTransport = Mockito.mock(NetHttpTransport.class);
             GsonFactory testJsonFactory = Mockito.mock(GsonFactory.class);
-            mockedTransport.when(GoogleNetHttpTransport::newTrustedTransport).thenReturn(testTransport);
             mockedJsonFactory.when(GsonFactory::getDefaultInstance).thenReturn(testJsonFactory);
 
             // Act
@@ -437,7 +461,6 @@ class OAuthServiceTest {
     void checkAndRefreshAccessToken_ExpiredToken_RefreshFails_ReturnsFalse() {
         try (
             MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class);
-            MockedStatic<GoogleNetHttpTransport> mockedTransport = mockStatic(GoogleNetHttpTransport.class);
             MockedStatic<GsonFactory> mockedJsonFactory = mockStatic(GsonFactory.class);
             MockedConstruction<GoogleRefreshTokenRequest> mockedRequest = Mockito.mockConstruction(GoogleRefreshTokenRequest.class, (mock, context) -> {
                 doThrow(new IOException("Refresh failed")).when(mock).execute();
@@ -445,13 +468,11 @@ class OAuthServiceTest {
         ) {
             // Arrange
             testToken.setAccessExpiry(OffsetDateTime.now().minusHours(1));
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
             when(oAuthCalendarTokenRepo.findByUserId(testUserId)).thenReturn(Optional.of(testToken));
             when(userRepo.findById(testUserId)).thenReturn(Optional.of(testUser));
 
-            NetHttpTransport testTransport = Mockito.mock(NetHttpTransport.class);
             GsonFactory testJsonFactory = Mockito.mock(GsonFactory.class);
-            mockedTransport.when(GoogleNetHttpTransport::newTrustedTransport).thenReturn(testTransport);
             mockedJsonFactory.when(GsonFactory::getDefaultInstance).thenReturn(testJsonFactory);
 
             // Act
@@ -503,7 +524,7 @@ class OAuthServiceTest {
     void checkAndRefreshAccessToken_Exception_ReturnsFalse() {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
             // Arrange
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenThrow(new RuntimeException("Auth error"));
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenThrow(new RuntimeException("Auth error"));
 
             // Act
             boolean result = oAuthService.checkAndRefreshAccessToken();
@@ -537,7 +558,7 @@ class OAuthServiceTest {
     void oAuthAuthorize_ConfigurationProperties_AllPropertiesUsedInURL() {
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = mockStatic(GetUserUtil.class)) {
             // Arrange
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testUser));
 
             // Act
             ResponseEntity<ApiResponse<String>> result = oAuthService.oAuthAuthorize();
@@ -3,22 +3,23 @@ package com.javajedis.legalconnect.scheduling;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,6 +27,7 @@ import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
@@ -44,18 +46,15 @@ import com.javajedis.legalconnect.casemanagement.CaseRepo;
 import com.javajedis.legalconnect.casemanagement.CaseStatus;
 import com.javajedis.legalconnect.common.dto.ApiResponse;
 import com.javajedis.legalconnect.common.exception.GoogleCalendarException;
-import com.javajedis.legalconnect.common.service.EmailService;
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
 import com.javajedis.legalconnect.common.utility.GetUserUtil;
-import com.javajedis.legalconnect.jobscheduler.EmailJobDTO;
-import com.javajedis.legalconnect.jobscheduler.JobSchedulerService;
-import com.javajedis.legalconnect.jobscheduler.WebPushJobDTO;
 import com.javajedis.legalconnect.lawyer.Lawyer;
 import com.javajedis.legalconnect.lawyer.enums.District;
 import com.javajedis.legalconnect.lawyer.enums.Division;
 import com.javajedis.legalconnect.lawyer.enums.PracticingCourt;
 import com.javajedis.legalconnect.lawyer.enums.VerificationStatus;
-import com.javajedis.legalconnect.notifications.NotificationPreferenceService;
-import com.javajedis.legalconnect.notifications.NotificationService;
+import com.javajedis.legalconnect.notifications.NotificationDispatcher;
+import com.javajedis.legalconnect.notifications.NotificationEvent;
 import com.javajedis.legalconnect.notifications.NotificationType;
 import com.javajedis.legalconnect.scheduling.dto.CreateCalendarEventDTO;
 import com.javajedis.legalconnect.scheduling.dto.CreateScheduleDTO;
@@ -94,16 +93,7 @@ class SchedulingServiceTest {
     private ScheduleGoogleCalendarEventRepo scheduleGoogleCalendarEventRepo;
 
     @Mock
-    private NotificationService notificationService;
-
-    @Mock
-    private NotificationPreferenceService notificationPreferenceService;
-
-    @Mock
-    private EmailService emailService;
-
-    @Mock
-    private JobSchedulerService jobSchedulerService;
+    private NotificationDispatcher notificationDispatcher;
 
     @InjectMocks
     private SchedulingService schedulingService;
@@ -134,7 +124,6 @@ class SchedulingServiceTest {
         setupTestSchedule();
         setupTestDTOs();
         setupGoogleCalendarMocks();
-        setupNotificationPreferences();
         
         // Default Google Calendar integration mocks (simulate no integration)
         when(oAuthService.checkAndRefreshAccessToken()).thenReturn(false);
@@ -246,26 +235,6 @@ class SchedulingServiceTest {
         mockScheduleGoogleCalendarEvent.setGoogleCalendarEventId("google-event-id-123");
     }
 
-    private void setupNotificationPreferences() {
-        // Mock notification preferences for both users
-        when(notificationPreferenceService.checkWebPushEnabled(lawyerId, NotificationType.EVENT_ADD))
-                .thenReturn(true);
-        when(notificationPreferenceService.checkEmailEnabled(lawyerId, NotificationType.EVENT_ADD))
-                .thenReturn(true);
-        when(notificationPreferenceService.checkWebPushEnabled(lawyerId, NotificationType.SCHEDULE_REMINDER))
-                .thenReturn(true);
-        when(notificationPreferenceService.checkEmailEnabled(lawyerId, NotificationType.SCHEDULE_REMINDER))
-                .thenReturn(true);
-        when(notificationPreferenceService.checkWebPushEnabled(clientUserId, NotificationType.EVENT_ADD))
-                .thenReturn(true);
-        when(notificationPreferenceService.checkEmailEnabled(clientUserId, NotificationType.EVENT_ADD))
-                .thenReturn(true);
-        when(notificationPreferenceService.checkWebPushEnabled(clientUserId, NotificationType.SCHEDULE_REMINDER))
-                .thenReturn(true);
-        when(notificationPreferenceService.checkEmailEnabled(clientUserId, NotificationType.SCHEDULE_REMINDER))
-                .thenReturn(true);
-    }
-
     @Test
     @DisplayName("Should create schedule successfully")
     void createSchedule_Success_ReturnsCreatedResponse() {
@@ -926,7 +895,7 @@ class SchedulingServiceTest {
     void getAllUserSchedules_Success_ReturnsScheduleListResponse() {
         // Arrange
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = org.mockito.Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(lawyerUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(lawyerUser));
             
             List<Schedule> schedules = Arrays.asList(testSchedule);
             Page<Schedule> schedulePage = new PageImpl<>(schedules, PageRequest.of(0, 10), 1);
@@ -959,7 +928,7 @@ class SchedulingServiceTest {
     void getAllUserSchedules_Unauthorized_ReturnsUnauthorizedResponse() {
         // Arrange
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = org.mockito.Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(null);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(null);
 
             // Act
             ResponseEntity<ApiResponse<ScheduleListResponseDTO>> result = schedulingService.getAllUserSchedules(0, 10, "DESC");
@@ -976,7 +945,7 @@ class SchedulingServiceTest {
     void testPaginationWithDifferentSortDirections() {
         // Arrange
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = org.mockito.Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(lawyerUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(lawyerUser));
             
             List<Schedule> schedules = Arrays.asList(testSchedule);
             Page<Schedule> schedulePage = new PageImpl<>(schedules, PageRequest.of(1, 5), 10);
@@ -1010,7 +979,7 @@ class SchedulingServiceTest {
     void testEmptyScheduleList() {
         // Arrange
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = org.mockito.Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(lawyerUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(lawyerUser));
             
             List<Schedule> schedules = Arrays.asList();
             Page<Schedule> schedulePage = new PageImpl<>(schedules, PageRequest.of(0, 10), 0);
@@ -1227,11 +1196,11 @@ class SchedulingServiceTest {
         }
     }
 
-    // ==================== JOB SCHEDULING TESTS ====================
+    // ==================== NOTIFICATION DISPATCH TESTS ====================
 
     @Test
-    @DisplayName("Should schedule WebPush and Email notifications when creating schedule")
-    void createSchedule_WithJobScheduling_SchedulesNotifications() {
+    @DisplayName("Should dispatch notification with reminders when creating schedule")
+    void createSchedule_DispatchesNotificationWithReminders() {
         // Arrange
         try (MockedStatic<CaseAssetUtility> mockedCaseAssetUtility = org.mockito.Mockito.mockStatic(CaseAssetUtility.class)) {
             CaseAssetUtility.CaseAssetValidationResult<ScheduleResponseDTO> validationResult = 
@@ -1251,35 +1220,23 @@ class SchedulingServiceTest {
 
             // Assert
             assertEquals(HttpStatus.CREATED, result.getStatusCode());
-            assertNotNull(result.getBody());
-            assertEquals("Schedule created successfully", result.getBody().getMessage());
             
-            // Verify job scheduling calls (2 WebPush + 2 Email for both users)
-            verify(jobSchedulerService, times(2)).scheduleWebPushNotification(any(WebPushJobDTO.class));
-            verify(jobSchedulerService, times(2)).scheduleEmailNotification(any(EmailJobDTO.class));
-            
-            // Verify WebPush job scheduling with correct data for client
-            verify(jobSchedulerService).scheduleWebPushNotification(argThat(webPushJobDTO -> 
-                webPushJobDTO.getTaskId().equals(scheduleId) &&
-                webPushJobDTO.getRecipientId().equals(clientUserId) &&
-                webPushJobDTO.getContent().contains("Initial Consultation") &&
-                webPushJobDTO.getDateTime().equals(testSchedule.getStartTime().minusMinutes(1))
-            ));
-            
-            // Verify Email job scheduling with correct data for client
-            verify(jobSchedulerService).scheduleEmailNotification(argThat(emailJobDTO -> 
-                emailJobDTO.getTaskId().equals(scheduleId) &&
-                emailJobDTO.getReceiverEmailAddress().equals(clientUser.getEmail()) &&
-                emailJobDTO.getSubject().contains("New Schedule Created") &&
-                emailJobDTO.getEmailTemplate().equals("notification-email") &&
-                emailJobDTO.getDateTime().equals(testSchedule.getStartTime().minusMinutes(1))
-            ));
+            NotificationEvent event = captureDispatchedEvent();
+            assertEquals(NotificationType.EVENT_ADD, event.type());
+            assertEquals(List.of(clientUserId), event.recipients().stream().map(NotificationEvent.Recipient::userId).toList());
+            assertTrue(event.subject().contains("New Schedule Created"));
+            assertTrue(event.content().contains("Initial Consultation"));
+            
+            NotificationEvent.Reminder reminder = event.reminder();
+            assertNotNull(reminder);
+            assertEquals(scheduleId, reminder.taskId());
+            assertFalse(reminder.replaceExisting());
         }
     }
 
     @Test
-    @DisplayName("Should update scheduled notifications when updating schedule")
-    void updateSchedule_WithJobScheduling_UpdatesNotifications() {
+    @DisplayName("Should replace scheduled reminders when updating schedule")
+    void updateSchedule_DispatchesRescheduledReminders() {
         // Arrange
         try (MockedStatic<CaseAssetUtility> mockedCaseAssetUtility = org.mockito.Mockito.mockStatic(CaseAssetUtility.class)) {
             CaseAssetUtility.CaseAssetValidationResult<ScheduleResponseDTO> validationResult = 
@@ -1303,33 +1260,18 @@ class SchedulingServiceTest {
             assertNotNull(result.getBody());
             assertEquals("Schedule updated successfully", result.getBody().getMessage());
             
-            // Verify job scheduling update calls (delete + reschedule for both users)
-            verify(jobSchedulerService).deleteAllJobsForTask(scheduleId);
-            verify(jobSchedulerService, times(2)).scheduleWebPushNotification(any(WebPushJobDTO.class));
-            verify(jobSchedulerService, times(2)).scheduleEmailNotification(any(EmailJobDTO.class));
-            
-            // Verify WebPush job update with correct data for client
-            verify(jobSchedulerService).scheduleWebPushNotification(argThat(webPushJobDTO -> 
-                webPushJobDTO.getTaskId().equals(scheduleId) &&
-                webPushJobDTO.getRecipientId().equals(clientUserId) &&
-                webPushJobDTO.getContent().contains("Updated Consultation") &&
-                webPushJobDTO.getDateTime().equals(updateScheduleDTO.getStartTime().minusMinutes(1))
-            ));
-            
-            // Verify Email job update with correct data for client
-            verify(jobSchedulerService).scheduleEmailNotification(argThat(emailJobDTO -> 
-                emailJobDTO.getTaskId().equals(scheduleId) &&
-                emailJobDTO.getReceiverEmailAddress().equals(clientUser.getEmail()) &&
-                emailJobDTO.getSubject().contains("Schedule Updated") &&
-                emailJobDTO.getEmailTemplate().equals("notification-email") &&
-                emailJobDTO.getDateTime().equals(updateScheduleDTO.getStartTime().minusMinutes(1))
-            ));
+            NotificationEvent event = captureDispatchedEvent();
+            assertTrue(event.subject().contains("Schedule Updated"));
+            assertTrue(event.content().contains("Updated Consultation"));
+            assertEquals(scheduleId, event.reminder().taskId());
+            assertTrue(event.reminder().replaceExisting());
+            assertEquals(updateScheduleDTO.getStartTime().minusMinutes(1), event.reminder().fireAt());
         }
     }
 
     @Test
-    @DisplayName("Should delete scheduled notifications when deleting schedule")
-    void deleteSchedule_WithJobScheduling_DeletesNotifications() {
+    @DisplayName("Should cancel scheduled reminders when deleting schedule")
+    void deleteSchedule_CancelsReminders() {
         // Arrange
         try (MockedStatic<CaseAssetUtility> mockedCaseAssetUtility = org.mockito.Mockito.mockStatic(CaseAssetUtility.class)) {
             when(scheduleRepo.findById(scheduleId)).thenReturn(Optional.of(testSchedule));
@@ -1352,59 +1294,16 @@ class SchedulingServiceTest {
             assertNotNull(result.getBody());
             assertEquals("Schedule deleted successfully", result.getBody().getMessage());
             
-            // Verify job deletion calls
-            verify(jobSchedulerService).deleteAllJobsForTask(scheduleId);
-        }
-    }
-
-    @Test
-    @DisplayName("Should schedule notifications for both lawyer and client")
-    void createSchedule_SchedulesNotificationsForBothUsers() {
-        // Arrange
-        try (MockedStatic<CaseAssetUtility> mockedCaseAssetUtility = org.mockito.Mockito.mockStatic(CaseAssetUtility.class)) {
-            CaseAssetUtility.CaseAssetValidationResult<ScheduleResponseDTO> validationResult = 
-                    new CaseAssetUtility.CaseAssetValidationResult<>(lawyerUser, testCase, null);
-            
-            mockedCaseAssetUtility.when(() -> CaseAssetUtility.validateUserAndCaseAccess(
-                    eq(caseId), 
-                    eq("create schedule"), 
-                    eq(userRepo), 
-                    eq(caseRepo)
-            )).thenReturn(validationResult);
-
-            when(scheduleRepo.save(any(Schedule.class))).thenReturn(testSchedule);
-
-            // Act
-            ResponseEntity<ApiResponse<ScheduleResponseDTO>> result = schedulingService.createSchedule(createScheduleDTO);
-
-            // Assert
-            assertEquals(HttpStatus.CREATED, result.getStatusCode());
-            
-            // Verify notifications are scheduled for both users (2 WebPush + 2 Email)
-            verify(jobSchedulerService, times(2)).scheduleWebPushNotification(any(WebPushJobDTO.class));
-            verify(jobSchedulerService, times(2)).scheduleEmailNotification(any(EmailJobDTO.class));
-            
-            // Verify client notifications
-            verify(jobSchedulerService).scheduleWebPushNotification(argThat(webPushJobDTO -> 
-                webPushJobDTO.getRecipientId().equals(clientUserId)
-            ));
-            verify(jobSchedulerService).scheduleEmailNotification(argThat(emailJobDTO -> 
-                emailJobDTO.getReceiverEmailAddress().equals(clientUser.getEmail())
-            ));
-            
-            // Verify lawyer notifications
-            verify(jobSchedulerService).scheduleWebPushNotification(argThat(webPushJobDTO -> 
-                webPushJobDTO.getRecipientId().equals(lawyerId)
-            ));
-            verify(jobSchedulerService).scheduleEmailNotification(argThat(emailJobDTO -> 
-                emailJobDTO.getReceiverEmailAddress().equals(lawyerUser.getEmail())
-            ));
+            NotificationEvent event = captureDispatchedEvent();
+            assertTrue(event.subject().contains("Schedule Cancelled"));
+            assertNull(event.reminder());
+            verify(notificationDispatcher).cancelReminders(scheduleId);
         }
     }
 
     @Test
-    @DisplayName("Should handle notification preferences when scheduling jobs")
-    void createSchedule_RespectsNotificationPreferences() {
+    @DisplayName("Should remind both lawyer and client")
+    void createSchedule_RemindsBothUsers() {
         // Arrange
         try (MockedStatic<CaseAssetUtility> mockedCaseAssetUtility = org.mockito.Mockito.mockStatic(CaseAssetUtility.class)) {
             CaseAssetUtility.CaseAssetValidationResult<ScheduleResponseDTO> validationResult = 
@@ -1418,16 +1317,6 @@ class SchedulingServiceTest {
             )).thenReturn(validationResult);
 
             when(scheduleRepo.save(any(Schedule.class))).thenReturn(testSchedule);
-            
-            // Mock different notification preferences
-            when(notificationPreferenceService.checkWebPushEnabled(clientUserId, NotificationType.SCHEDULE_REMINDER))
-                    .thenReturn(false); // Client doesn't want WebPush
-            when(notificationPreferenceService.checkEmailEnabled(clientUserId, NotificationType.SCHEDULE_REMINDER))
-                    .thenReturn(true);  // Client wants Email
-            when(notificationPreferenceService.checkWebPushEnabled(lawyerId, NotificationType.SCHEDULE_REMINDER))
-                    .thenReturn(true);  // Lawyer wants WebPush
-            when(notificationPreferenceService.checkEmailEnabled(lawyerId, NotificationType.SCHEDULE_REMINDER))
-                    .thenReturn(false); // Lawyer doesn't want Email
 
             // Act
             ResponseEntity<ApiResponse<ScheduleResponseDTO>> result = schedulingService.createSchedule(createScheduleDTO);
@@ -1435,31 +1324,17 @@ class SchedulingServiceTest {
             // Assert
             assertEquals(HttpStatus.CREATED, result.getStatusCode());
             
-            // Verify only appropriate notifications are scheduled
-            verify(jobSchedulerService, times(1)).scheduleWebPushNotification(any(WebPushJobDTO.class)); // Only lawyer
-            verify(jobSchedulerService, times(1)).scheduleEmailNotification(any(EmailJobDTO.class)); // Only client
-            
-            // Verify client gets email but not WebPush
-            verify(jobSchedulerService).scheduleEmailNotification(argThat(emailJobDTO -> 
-                emailJobDTO.getReceiverEmailAddress().equals(clientUser.getEmail())
-            ));
-            verify(jobSchedulerService, never()).scheduleWebPushNotification(argThat(webPushJobDTO -> 
-                webPushJobDTO.getRecipientId().equals(clientUserId)
-            ));
-            
-            // Verify lawyer gets WebPush but not email
-            verify(jobSchedulerService).scheduleWebPushNotification(argThat(webPushJobDTO -> 
-                webPushJobDTO.getRecipientId().equals(lawyerId)
-            ));
-            verify(jobSchedulerService, never()).scheduleEmailNotification(argThat(emailJobDTO -> 
-                emailJobDTO.getReceiverEmailAddress().equals(lawyerUser.getEmail())
-            ));
+            NotificationEvent.Reminder reminder = captureDispatchedEvent().reminder();
+            assertEquals(List.of(clientUserId, lawyerId),
+                    reminder.recipients().stream().map(NotificationEvent.Recipient::userId).toList());
+            assertEquals(List.of(clientUser.getEmail(), lawyerUser.getEmail()),
+                    reminder.recipients().stream().map(NotificationEvent.Recipient::email).toList());
         }
     }
 
     @Test
-    @DisplayName("Should schedule notifications with correct reminder time")
-    void createSchedule_SchedulesNotificationsWithCorrectReminderTime() {
+    @DisplayName("Should schedule reminders with correct reminder time")
+    void createSchedule_RemindersUseCorrectReminderTime() {
         // Arrange
         try (MockedStatic<CaseAssetUtility> mockedCaseAssetUtility = org.mockito.Mockito.mockStatic(CaseAssetUtility.class)) {
             CaseAssetUtility.CaseAssetValidationResult<ScheduleResponseDTO> validationResult = 
@@ -1480,51 +1355,9 @@ class SchedulingServiceTest {
             // Assert
             assertEquals(HttpStatus.CREATED, result.getStatusCode());
             
-            // Verify notifications are scheduled 1 minute before start time (REMINDER_MINUTES_BEFORE = 1)
+            // Reminders fire 1 minute before start time (REMINDER_MINUTES_BEFORE = 1)
             OffsetDateTime expectedReminderTime = testSchedule.getStartTime().minusMinutes(1);
-            
-            verify(jobSchedulerService, times(2)).scheduleWebPushNotification(argThat(webPushJobDTO -> 
-                webPushJobDTO.getDateTime().equals(expectedReminderTime)
-            ));
-            verify(jobSchedulerService, times(2)).scheduleEmailNotification(argThat(emailJobDTO -> 
-                emailJobDTO.getDateTime().equals(expectedReminderTime)
-            ));
-        }
-    }
-
-    @Test
-    @DisplayName("Should handle job scheduling failures gracefully")
-    void createSchedule_JobSchedulingFailure_ContinuesSuccessfully() {
-        // Arrange
-        try (MockedStatic<CaseAssetUtility> mockedCaseAssetUtility = org.mockito.Mockito.mockStatic(CaseAssetUtility.class)) {
-            CaseAssetUtility.CaseAssetValidationResult<ScheduleResponseDTO> validationResult = 
-                    new CaseAssetUtility.CaseAssetValidationResult<>(lawyerUser, testCase, null);
-            
-            mockedCaseAssetUtility.when(() -> CaseAssetUtility.validateUserAndCaseAccess(
-                    eq(caseId), 
-                    eq("create schedule"), 
-                    eq(userRepo), 
-                    eq(caseRepo)
-            )).thenReturn(validationResult);
-
-            when(scheduleRepo.save(any(Schedule.class))).thenReturn(testSchedule);
-            
-            // Mock job scheduling to throw exception
-            doThrow(new RuntimeException("Job scheduling failed"))
-                    .when(jobSchedulerService).scheduleWebPushNotification(any(WebPushJobDTO.class));
-
-            // Act & Assert
-            // The actual implementation doesn't handle job scheduling exceptions gracefully
-            // So we expect the exception to be thrown
-            assertThrows(RuntimeException.class, () -> {
-                schedulingService.createSchedule(createScheduleDTO);
-            });
-            
-            // Verify schedule was still saved despite job scheduling failure
-            verify(scheduleRepo).save(any(Schedule.class));
-            
-            // Verify job scheduling was attempted
-            verify(jobSchedulerService).scheduleWebPushNotification(any(WebPushJobDTO.class));
+            assertEquals(expectedReminderTime, captureDispatchedEvent().reminder().fireAt());
         }
     }
 
@@ -1551,15 +1384,18 @@ class SchedulingServiceTest {
             // Assert
             assertEquals(HttpStatus.CREATED, result.getStatusCode());
             
-            // Verify email notifications include correct template variables
-            verify(jobSchedulerService, times(2)).scheduleEmailNotification(argThat(emailJobDTO -> {
-                Map<String, Object> templateVariables = emailJobDTO.getTemplateVariables();
-                return templateVariables.containsKey("notificationType") &&
-                       templateVariables.containsKey("content") &&
-                       templateVariables.get("notificationType").equals("Schedule Created") &&
-                       templateVariables.get("content").toString().contains("Initial Consultation") &&
-                       templateVariables.get("content").toString().contains("Test Case Title");
-            }));
+            Map<String, Object> templateVariables = captureDispatchedEvent().templateVariables();
+            assertEquals("Schedule Created", templateVariables.get("notificationType"));
+            assertTrue(templateVariables.get("content").toString().contains("Initial Consultation"));
+            assertTrue(templateVariables.get("content").toString().contains("Test Case Title"));
+            assertEquals(DateTimeFormatter.ofPattern("dd-MM-yyyy hh:mm a", Locale.ENGLISH)
+                    .format(testSchedule.getStartTime()), templateVariables.get("timestamp"));
         }
     }
-} 
\ No newline at end of file
+
+    private NotificationEvent captureDispatchedEvent() {
+        ArgumentCaptor<NotificationEvent> captor = ArgumentCaptor.forClass(NotificationEvent.class);
+        verify(notificationDispatcher).dispatch(captor.capture());
+        return captor.getValue();
+    }
+}
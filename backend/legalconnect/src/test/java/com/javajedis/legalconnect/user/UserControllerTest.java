@@ -6,6 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -18,6 +21,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.javajedis.legalconnect.auth.dto.AuthResponseDTO;
 import com.javajedis.legalconnect.common.dto.ApiResponse;
 
 class UserControllerTest {
@@ -102,21 +106,23 @@ class UserControllerTest {
         SecurityContextHolder.getContext().setAuthentication(authentication);
         
         ChangePasswordReqDTO req = new ChangePasswordReqDTO();
-        ApiResponse<Boolean> apiResponse = ApiResponse.success(true, HttpStatus.OK, "Password changed successfully").getBody();
+        AuthResponseDTO authResponse = new AuthResponseDTO("new.jwt.token", UUID.randomUUID(), "John", "Doe",
+                "john@example.com", Role.USER, true, OffsetDateTime.now(), OffsetDateTime.now());
+        ApiResponse<AuthResponseDTO> apiResponse = ApiResponse.success(authResponse, HttpStatus.OK, "Password changed successfully").getBody();
         when(userService.changePassword(req)).thenReturn(ResponseEntity.ok(apiResponse));
-        ResponseEntity<ApiResponse<Boolean>> result = userController.changePassword(req);
+        ResponseEntity<ApiResponse<AuthResponseDTO>> result = userController.changePassword(req);
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertNotNull(result.getBody());
-        assertTrue(result.getBody().getData());
+        assertEquals("new.jwt.token", result.getBody().getData().getToken());
     }
 
     @Test
     void changePassword_withMissingHeader_returnsError() {
         // No authentication context set up - should return unauthorized
         ChangePasswordReqDTO req = new ChangePasswordReqDTO();
-        ApiResponse<Boolean> apiResponse = ApiResponse.<Boolean>error("Not authenticated", HttpStatus.UNAUTHORIZED).getBody();
+        ApiResponse<AuthResponseDTO> apiResponse = ApiResponse.<AuthResponseDTO>error("Not authenticated", HttpStatus.UNAUTHORIZED).getBody();
         when(userService.changePassword(req)).thenReturn(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(apiResponse));
-        ResponseEntity<ApiResponse<Boolean>> result = userController.changePassword(req);
+        ResponseEntity<ApiResponse<AuthResponseDTO>> result = userController.changePassword(req);
         assertEquals(HttpStatus.UNAUTHORIZED, result.getStatusCode());
         assertNotNull(result.getBody());
         assertNull(result.getBody().getData());
@@ -131,9 +137,9 @@ class UserControllerTest {
         SecurityContextHolder.getContext().setAuthentication(authentication);
         
         ChangePasswordReqDTO req = new ChangePasswordReqDTO();
-        ApiResponse<Boolean> apiResponse = ApiResponse.<Boolean>error("JWT token not found in authentication context", HttpStatus.UNAUTHORIZED).getBody();
+        ApiResponse<AuthResponseDTO> apiResponse = ApiResponse.<AuthResponseDTO>error("JWT token not found in authentication context", HttpStatus.UNAUTHORIZED).getBody();
         when(userService.changePassword(req)).thenReturn(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(apiResponse));
-        ResponseEntity<ApiResponse<Boolean>> result = userController.changePassword(req);
+        ResponseEntity<ApiResponse<AuthResponseDTO>> result = userController.changePassword(req);
         assertEquals(HttpStatus.UNAUTHORIZED, result.getStatusCode());
         assertNotNull(result.getBody());
         assertNull(result.getBody().getData());
@@ -5,11 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.ArgumentMatchers.startsWith;
-import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -22,15 +18,13 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockMultipartFile;
@@ -39,7 +33,10 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.javajedis.legalconnect.auth.dto.AuthResponseDTO;
 import com.javajedis.legalconnect.common.dto.ApiResponse;
+import com.javajedis.legalconnect.common.security.TokenRevocationService;
+import com.javajedis.legalconnect.common.security.TokenVersionService;
 import com.javajedis.legalconnect.common.service.CloudinaryService;
 import com.javajedis.legalconnect.common.utility.GetUserUtil;
 import com.javajedis.legalconnect.common.utility.JWTUtil;
@@ -48,17 +45,17 @@ class UserServiceTest {
     @Mock
     private UserRepo userRepo;
     @Mock
-    private StringRedisTemplate redisTemplate;
-    @Mock
     private JWTUtil jwtUtil;
     @Mock
     private PasswordEncoder passwordEncoder;
     @Mock
     private CloudinaryService cloudinaryService;
     @Mock
+    private TokenVersionService tokenVersionService;
+    @Mock
     private Authentication authentication;
     @Mock
-    private ValueOperations<String, String> valueOperations;
+    private TokenRevocationService tokenRevocationService;
 
     @InjectMocks
     private UserService userService;
@@ -67,7 +64,6 @@ class UserServiceTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
         SecurityContextHolder.clearContext();
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
     }
 
     @Test
@@ -112,7 +108,7 @@ class UserServiceTest {
         when(jwtUtil.extractExpiration(jwt)).thenReturn(expiration);
         ResponseEntity<ApiResponse<String>> result = userService.logout();
         assertEquals(HttpStatus.OK, result.getStatusCode());
-        verify(redisTemplate.opsForValue(), atLeastOnce()).set(startsWith("blacklist:jwt:"), eq("true"), anyLong(), eq(TimeUnit.MILLISECONDS));
+        verify(tokenRevocationService).revoke(jwt, expiration);
     }
 
     @Test
@@ -147,12 +143,31 @@ class UserServiceTest {
         req.setPassword("new");
         when(passwordEncoder.matches("old", "oldHash")).thenReturn(true);
         when(passwordEncoder.encode("new")).thenReturn("newHash");
-        ResponseEntity<ApiResponse<Boolean>> result = userService.changePassword(req);
+        when(tokenVersionService.bumpVersion(user.getId())).thenReturn(2L);
+        when(jwtUtil.generateToken(user, 2L)).thenReturn("new.jwt.token");
+        ResponseEntity<ApiResponse<AuthResponseDTO>> result = userService.changePassword(req);
         assertEquals(HttpStatus.OK, result.getStatusCode());
-        assertTrue(result.getBody().getData());
+        assertEquals("new.jwt.token", result.getBody().getData().getToken());
         verify(userRepo).save(user);
     }
 
+    @Test
+    void changePassword_tokenVersionUnavailable_fails() {
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(authentication.getName()).thenReturn("john@example.com");
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        User user = new User();
+        user.setPassword("oldHash");
+        when(userRepo.findByEmail("john@example.com")).thenReturn(Optional.of(user));
+        ChangePasswordReqDTO req = new ChangePasswordReqDTO();
+        req.setOldPassword("old");
+        req.setPassword("new");
+        when(passwordEncoder.matches("old", "oldHash")).thenReturn(true);
+        when(passwordEncoder.encode("new")).thenReturn("newHash");
+        when(tokenVersionService.bumpVersion(user.getId())).thenThrow(new RedisConnectionFailureException("down"));
+        assertThrows(RedisConnectionFailureException.class, () -> userService.changePassword(req));
+    }
+
     @Test
     void changePassword_wrongOldPassword_returnsError() {
         when(authentication.isAuthenticated()).thenReturn(true);
@@ -167,7 +182,7 @@ class UserServiceTest {
         req.setOldPassword("wrong");
         req.setPassword("new");
         when(passwordEncoder.matches("wrong", "oldHash")).thenReturn(false);
-        ResponseEntity<ApiResponse<Boolean>> result = userService.changePassword(req);
+        ResponseEntity<ApiResponse<AuthResponseDTO>> result = userService.changePassword(req);
         assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
         assertNotNull(result.getBody().getError());
     }
@@ -186,7 +201,7 @@ class UserServiceTest {
         req.setOldPassword("same");
         req.setPassword("same");
         when(passwordEncoder.matches("same", "oldHash")).thenReturn(true);
-        ResponseEntity<ApiResponse<Boolean>> result = userService.changePassword(req);
+        ResponseEntity<ApiResponse<AuthResponseDTO>> result = userService.changePassword(req);
         assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
         assertNotNull(result.getBody().getError());
     }
@@ -196,7 +211,7 @@ class UserServiceTest {
         when(authentication.isAuthenticated()).thenReturn(false);
         SecurityContextHolder.getContext().setAuthentication(authentication);
         ChangePasswordReqDTO req = new ChangePasswordReqDTO();
-        ResponseEntity<ApiResponse<Boolean>> result = userService.changePassword(req);
+        ResponseEntity<ApiResponse<AuthResponseDTO>> result = userService.changePassword(req);
         assertEquals(HttpStatus.UNAUTHORIZED, result.getStatusCode());
     }
 
@@ -207,7 +222,7 @@ class UserServiceTest {
         when(authentication.getName()).thenReturn(null);
         SecurityContextHolder.getContext().setAuthentication(authentication);
         ChangePasswordReqDTO req = new ChangePasswordReqDTO();
-        ResponseEntity<ApiResponse<Boolean>> result = userService.changePassword(req);
+        ResponseEntity<ApiResponse<AuthResponseDTO>> result = userService.changePassword(req);
         assertEquals(HttpStatus.UNAUTHORIZED, result.getStatusCode());
     }
 
@@ -232,8 +247,8 @@ class UserServiceTest {
         when(jwtUtil.extractExpiration(jwt)).thenReturn(expiration);
         ResponseEntity<ApiResponse<String>> result = userService.logout();
         assertEquals(HttpStatus.OK, result.getStatusCode());
-        // No call to valueOperations.set should be made
-        verify(valueOperations, never()).set(anyString(), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        // No revocation should be recorded for an expired token
+        verify(tokenRevocationService, never()).revoke(anyString(), any(Date.class));
     }
 
     @Test
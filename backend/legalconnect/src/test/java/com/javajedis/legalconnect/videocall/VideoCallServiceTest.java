@@ -5,7 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -14,7 +14,6 @@ import static org.mockito.Mockito.when;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -24,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
@@ -33,16 +33,13 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import com.javajedis.legalconnect.common.dto.ApiResponse;
-import com.javajedis.legalconnect.common.service.EmailService;
+import com.javajedis.legalconnect.common.security.AuthenticatedUser;
 import com.javajedis.legalconnect.common.utility.GetUserUtil;
-import com.javajedis.legalconnect.jobscheduler.EmailJobDTO;
-import com.javajedis.legalconnect.jobscheduler.JobSchedulerService;
-import com.javajedis.legalconnect.jobscheduler.WebPushJobDTO;
 import com.javajedis.legalconnect.lawyer.Lawyer;
 import com.javajedis.legalconnect.lawyer.LawyerRepo;
 import com.javajedis.legalconnect.lawyer.enums.VerificationStatus;
-import com.javajedis.legalconnect.notifications.NotificationPreferenceService;
-import com.javajedis.legalconnect.notifications.NotificationService;
+import com.javajedis.legalconnect.notifications.NotificationDispatcher;
+import com.javajedis.legalconnect.notifications.NotificationEvent;
 import com.javajedis.legalconnect.notifications.NotificationType;
 import com.javajedis.legalconnect.payment.Payment;
 import com.javajedis.legalconnect.payment.PaymentRepo;
@@ -80,16 +77,7 @@ class VideoCallServiceTest {
     private JitsiJwtGenerator jaasJwtGenerator;
     
     @Mock
-    private NotificationService notificationService;
-    
-    @Mock
-    private NotificationPreferenceService notificationPreferenceService;
-    
-    @Mock
-    private EmailService emailService;
-    
-    @Mock
-    private JobSchedulerService jobSchedulerService;
+    private NotificationDispatcher notificationDispatcher;
 
     @InjectMocks
     private VideoCallService videoCallService;
@@ -179,8 +167,6 @@ class VideoCallServiceTest {
             when(meetingRepo.save(any(Meeting.class))).thenReturn(testMeeting);
             when(paymentService.createPayment(any(CreatePaymentDTO.class))).thenReturn(true);
             when(paymentRepo.findBymeetingId(testMeeting.getId())).thenReturn(testPayment);
-            when(notificationPreferenceService.checkWebPushEnabled(any(UUID.class), any(NotificationType.class))).thenReturn(true);
-            when(notificationPreferenceService.checkEmailEnabled(any(UUID.class), any(NotificationType.class))).thenReturn(true);
 
             // Act
             ResponseEntity<ApiResponse<MeetingResponseDTO>> response = videoCallService.scheduleMeeting(scheduleMeetingDTO);
@@ -193,8 +179,7 @@ class VideoCallServiceTest {
             
             verify(meetingRepo, times(2)).save(any(Meeting.class)); // Once for initial save, once for payment association
             verify(paymentService, times(1)).createPayment(any(CreatePaymentDTO.class));
-            verify(notificationService, times(1)).sendNotification(eq(testClient.getId()), anyString());
-            verify(emailService, times(1)).sendTemplateEmail(eq(testClient.getEmail()), anyString(), eq("notification-email"), any(Map.class));
+            verify(notificationDispatcher, times(1)).dispatch(any(NotificationEvent.class));
         }
     }
 
@@ -339,14 +324,12 @@ class VideoCallServiceTest {
     void updateMeeting_ValidData_Success() {
         // Arrange
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testLawyer);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testLawyer));
             when(meetingRepo.findById(updateMeetingDTO.getMeetingId())).thenReturn(Optional.of(testMeeting));
             when(meetingRepo.save(any(Meeting.class))).thenReturn(testMeeting);
             when(lawyerRepo.findByUser(testLawyer)).thenReturn(Optional.of(testLawyerProfile));
             when(paymentService.updatePaymentAmount(any(UUID.class), any(BigDecimal.class))).thenReturn(true);
             when(paymentRepo.findBymeetingId(testMeeting.getId())).thenReturn(testPayment);
-            when(notificationPreferenceService.checkWebPushEnabled(any(UUID.class), any(NotificationType.class))).thenReturn(true);
-            when(notificationPreferenceService.checkEmailEnabled(any(UUID.class), any(NotificationType.class))).thenReturn(true);
 
             // Act
             ResponseEntity<ApiResponse<MeetingResponseDTO>> response = videoCallService.updateMeeting(updateMeetingDTO);
@@ -358,7 +341,7 @@ class VideoCallServiceTest {
             
             verify(meetingRepo, times(2)).save(any(Meeting.class)); // Once for meeting update, once for payment association
             verify(paymentService, times(1)).updatePaymentAmount(any(UUID.class), any(BigDecimal.class));
-            verify(jobSchedulerService, times(1)).deleteAllJobsForTask(testMeeting.getId());
+            verify(notificationDispatcher, times(1)).dispatch(argThat(event -> event.reminder().replaceExisting()));
         }
     }
 
@@ -367,7 +350,7 @@ class VideoCallServiceTest {
     void updateMeeting_MeetingNotFound_ReturnsNotFound() {
         // Arrange
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testLawyer);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testLawyer));
             when(meetingRepo.findById(updateMeetingDTO.getMeetingId())).thenReturn(Optional.empty());
 
             // Act
@@ -389,7 +372,7 @@ class VideoCallServiceTest {
         unauthorizedUser.setEmail("unauthorized@test.com");
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(unauthorizedUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(unauthorizedUser));
             when(meetingRepo.findById(updateMeetingDTO.getMeetingId())).thenReturn(Optional.of(testMeeting));
 
             // Act
@@ -409,7 +392,7 @@ class VideoCallServiceTest {
         testMeeting.setPaid(true);
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testLawyer);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testLawyer));
             when(meetingRepo.findById(updateMeetingDTO.getMeetingId())).thenReturn(Optional.of(testMeeting));
 
             // Act
@@ -429,7 +412,7 @@ class VideoCallServiceTest {
         testMeeting.setStartTimestamp(OffsetDateTime.now().minusHours(1));
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testLawyer);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testLawyer));
             when(meetingRepo.findById(updateMeetingDTO.getMeetingId())).thenReturn(Optional.of(testMeeting));
 
             // Act
@@ -450,10 +433,9 @@ class VideoCallServiceTest {
         // Arrange
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
             mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testLawyer);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testLawyer));
             when(meetingRepo.findById(testMeeting.getId())).thenReturn(Optional.of(testMeeting));
             when(paymentService.deletePaymentByMeetingId(testMeeting.getId())).thenReturn(true);
-            when(notificationPreferenceService.checkWebPushEnabled(any(UUID.class), any(NotificationType.class))).thenReturn(true);
-            when(notificationPreferenceService.checkEmailEnabled(any(UUID.class), any(NotificationType.class))).thenReturn(true);
 
             // Act
             ResponseEntity<ApiResponse<String>> response = videoCallService.deleteMeeting(testMeeting.getId());
@@ -467,7 +449,7 @@ class VideoCallServiceTest {
             verify(meetingRepo, times(1)).save(any(Meeting.class)); // To set payment to null
             verify(meetingRepo, times(1)).delete(testMeeting);
             verify(paymentService, times(1)).deletePaymentByMeetingId(testMeeting.getId());
-            verify(jobSchedulerService, times(1)).deleteAllJobsForTask(testMeeting.getId());
+            verify(notificationDispatcher, times(1)).cancelReminders(testMeeting.getId());
         }
     }
 
@@ -479,6 +461,7 @@ class VideoCallServiceTest {
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
             mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testLawyer);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testLawyer));
             when(meetingRepo.findById(nonExistentMeetingId)).thenReturn(Optional.empty());
 
             // Act
@@ -499,6 +482,7 @@ class VideoCallServiceTest {
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
             mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testLawyer);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testLawyer));
             when(meetingRepo.findById(testMeeting.getId())).thenReturn(Optional.of(testMeeting));
 
             // Act
@@ -518,7 +502,7 @@ class VideoCallServiceTest {
     void getMeeting_ValidMeetingId_Success() {
         // Arrange
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testClient);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testClient));
             when(meetingRepo.findById(testMeeting.getId())).thenReturn(Optional.of(testMeeting));
 
             // Act
@@ -540,7 +524,7 @@ class VideoCallServiceTest {
         UUID nonExistentMeetingId = UUID.randomUUID();
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testClient);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testClient));
             when(meetingRepo.findById(nonExistentMeetingId)).thenReturn(Optional.empty());
 
             // Act
@@ -562,7 +546,7 @@ class VideoCallServiceTest {
         unauthorizedUser.setEmail("unauthorized@test.com");
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(unauthorizedUser);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(unauthorizedUser));
             when(meetingRepo.findById(testMeeting.getId())).thenReturn(Optional.of(testMeeting));
 
             // Act
@@ -629,6 +613,7 @@ class VideoCallServiceTest {
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
             mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testLawyer);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testLawyer));
             when(meetingRepo.findById(testMeeting.getId())).thenReturn(Optional.of(testMeeting));
             when(jaasJwtGenerator.generateLawyerToken(anyString(), anyString(), anyString())).thenReturn(expectedToken);
 
@@ -658,6 +643,7 @@ class VideoCallServiceTest {
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
             mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testClient);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testClient));
             when(meetingRepo.findById(testMeeting.getId())).thenReturn(Optional.of(testMeeting));
             when(paymentRepo.findBymeetingIdAndStatus(testMeeting.getId(), PaymentStatus.PAID)).thenReturn(paidPayment);
             when(paymentRepo.findBymeetingIdAndStatus(testMeeting.getId(), PaymentStatus.RELEASED)).thenReturn(null);
@@ -684,6 +670,7 @@ class VideoCallServiceTest {
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
             mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testClient);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testClient));
             when(meetingRepo.findById(testMeeting.getId())).thenReturn(Optional.of(testMeeting));
             when(paymentRepo.findBymeetingIdAndStatus(testMeeting.getId(), PaymentStatus.PAID)).thenReturn(null);
             when(paymentRepo.findBymeetingIdAndStatus(testMeeting.getId(), PaymentStatus.RELEASED)).thenReturn(null);
@@ -707,6 +694,7 @@ class VideoCallServiceTest {
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
             mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testLawyer);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testLawyer));
             when(meetingRepo.findById(testMeeting.getId())).thenReturn(Optional.of(testMeeting));
 
             // Act
@@ -728,6 +716,7 @@ class VideoCallServiceTest {
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
             mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testLawyer);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testLawyer));
             when(meetingRepo.findById(testMeeting.getId())).thenReturn(Optional.of(testMeeting));
 
             // Act
@@ -749,6 +738,7 @@ class VideoCallServiceTest {
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
             mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testLawyer);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testLawyer));
             when(meetingRepo.findById(testMeeting.getId())).thenReturn(Optional.of(testMeeting));
             when(jaasJwtGenerator.generateLawyerToken(anyString(), anyString(), anyString()))
                 .thenThrow(new RuntimeException("JWT generation failed"));
@@ -774,6 +764,7 @@ class VideoCallServiceTest {
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
             mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testLawyer);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testLawyer));
             when(userRepo.findByEmail(scheduleMeetingDTO.getEmail())).thenReturn(Optional.of(testClient));
             when(userRepo.findById(testClient.getId())).thenReturn(Optional.of(testClient));
             when(userRepo.findById(testLawyer.getId())).thenReturn(Optional.of(testLawyer));
@@ -870,12 +861,6 @@ class VideoCallServiceTest {
             when(meetingRepo.save(any(Meeting.class))).thenReturn(testMeeting);
             when(paymentService.createPayment(any(CreatePaymentDTO.class))).thenReturn(true);
             when(paymentRepo.findBymeetingId(testMeeting.getId())).thenReturn(testPayment);
-            when(notificationPreferenceService.checkWebPushEnabled(testClient.getId(), NotificationType.EVENT_ADD)).thenReturn(true);
-            when(notificationPreferenceService.checkEmailEnabled(testClient.getId(), NotificationType.EVENT_ADD)).thenReturn(true);
-            when(notificationPreferenceService.checkWebPushEnabled(testClient.getId(), NotificationType.SCHEDULE_REMINDER)).thenReturn(true);
-            when(notificationPreferenceService.checkWebPushEnabled(testLawyer.getId(), NotificationType.SCHEDULE_REMINDER)).thenReturn(true);
-            when(notificationPreferenceService.checkEmailEnabled(testClient.getId(), NotificationType.SCHEDULE_REMINDER)).thenReturn(true);
-            when(notificationPreferenceService.checkEmailEnabled(testLawyer.getId(), NotificationType.SCHEDULE_REMINDER)).thenReturn(true);
 
             // Act
             ResponseEntity<ApiResponse<MeetingResponseDTO>> response = videoCallService.scheduleMeeting(scheduleMeetingDTO);
@@ -883,19 +868,24 @@ class VideoCallServiceTest {
             // Assert
             assertEquals(HttpStatus.CREATED, response.getStatusCode());
             
-            // Verify immediate notifications
-            verify(notificationService, times(1)).sendNotification(eq(testClient.getId()), anyString());
-            verify(emailService, times(1)).sendTemplateEmail(eq(testClient.getEmail()), anyString(), eq("notification-email"), any(Map.class));
+            ArgumentCaptor<NotificationEvent> eventCaptor = ArgumentCaptor.forClass(NotificationEvent.class);
+            verify(notificationDispatcher).dispatch(eventCaptor.capture());
+            NotificationEvent event = eventCaptor.getValue();
+            assertEquals(NotificationType.EVENT_ADD, event.type());
+            assertEquals(testClient.getId(), event.recipients().get(0).userId());
+            assertEquals(testClient.getEmail(), event.recipients().get(0).email());
+            assertEquals("Meeting Scheduled", event.templateVariables().get("notificationType"));
             
-            // Verify scheduled reminder notifications
-            verify(jobSchedulerService, times(2)).scheduleWebPushNotification(any(WebPushJobDTO.class)); // Client and lawyer
-            verify(jobSchedulerService, times(2)).scheduleEmailNotification(any(EmailJobDTO.class)); // Client and lawyer
+            // Verify scheduled reminder notifications for client and lawyer
+            assertEquals(List.of(testClient.getId(), testLawyer.getId()),
+                    event.reminder().recipients().stream().map(NotificationEvent.Recipient::userId).toList());
+            assertEquals(testMeeting.getId(), event.reminder().taskId());
         }
     }
 
     @Test
-    @DisplayName("Should not send notifications when preferences are disabled")
-    void scheduleMeeting_NotificationsDisabled_DoesNotSendNotifications() {
+    @DisplayName("Should schedule reminders five minutes before the meeting starts")
+    void scheduleMeeting_RemindersFireBeforeStart() {
         // Arrange
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
             mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testLawyer);
@@ -906,8 +896,6 @@ class VideoCallServiceTest {
             when(meetingRepo.save(any(Meeting.class))).thenReturn(testMeeting);
             when(paymentService.createPayment(any(CreatePaymentDTO.class))).thenReturn(true);
             when(paymentRepo.findBymeetingId(testMeeting.getId())).thenReturn(testPayment);
-            when(notificationPreferenceService.checkWebPushEnabled(any(UUID.class), any(NotificationType.class))).thenReturn(false);
-            when(notificationPreferenceService.checkEmailEnabled(any(UUID.class), any(NotificationType.class))).thenReturn(false);
 
             // Act
             ResponseEntity<ApiResponse<MeetingResponseDTO>> response = videoCallService.scheduleMeeting(scheduleMeetingDTO);
@@ -915,11 +903,8 @@ class VideoCallServiceTest {
             // Assert
             assertEquals(HttpStatus.CREATED, response.getStatusCode());
             
-            // Verify no notifications are sent
-            verify(notificationService, never()).sendNotification(any(UUID.class), anyString());
-            verify(emailService, never()).sendTemplateEmail(anyString(), anyString(), anyString(), any(Map.class));
-            verify(jobSchedulerService, never()).scheduleWebPushNotification(any(WebPushJobDTO.class));
-            verify(jobSchedulerService, never()).scheduleEmailNotification(any(EmailJobDTO.class));
+            verify(notificationDispatcher).dispatch(argThat(event -> !event.reminder().replaceExisting()
+                    && event.reminder().fireAt().equals(testMeeting.getStartTimestamp().minusMinutes(5))));
         }
     }
 
@@ -930,7 +915,7 @@ class VideoCallServiceTest {
     void getMeeting_ValidMeeting_MapsAllFieldsCorrectly() {
         // Arrange
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testClient);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testClient));
             when(meetingRepo.findById(testMeeting.getId())).thenReturn(Optional.of(testMeeting));
 
             // Act
@@ -976,7 +961,7 @@ class VideoCallServiceTest {
         testMeeting.setPayment(null);
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testClient);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testClient));
             when(meetingRepo.findById(testMeeting.getId())).thenReturn(Optional.of(testMeeting));
 
             // Act
@@ -1027,13 +1012,11 @@ class VideoCallServiceTest {
     void updateMeeting_PaymentUpdateFails_ContinuesSuccessfully() {
         // Arrange
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testLawyer);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testLawyer));
             when(meetingRepo.findById(updateMeetingDTO.getMeetingId())).thenReturn(Optional.of(testMeeting));
             when(meetingRepo.save(any(Meeting.class))).thenReturn(testMeeting);
             when(lawyerRepo.findByUser(testLawyer)).thenReturn(Optional.of(testLawyerProfile));
             when(paymentService.updatePaymentAmount(any(UUID.class), any(BigDecimal.class))).thenReturn(false);
-            when(notificationPreferenceService.checkWebPushEnabled(any(UUID.class), any(NotificationType.class))).thenReturn(false);
-            when(notificationPreferenceService.checkEmailEnabled(any(UUID.class), any(NotificationType.class))).thenReturn(false);
 
             // Act
             ResponseEntity<ApiResponse<MeetingResponseDTO>> response = videoCallService.updateMeeting(updateMeetingDTO);
@@ -1054,10 +1037,9 @@ class VideoCallServiceTest {
         // Arrange
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
             mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testLawyer);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testLawyer));
             when(meetingRepo.findById(testMeeting.getId())).thenReturn(Optional.of(testMeeting));
             when(paymentService.deletePaymentByMeetingId(testMeeting.getId())).thenReturn(false);
-            when(notificationPreferenceService.checkWebPushEnabled(any(UUID.class), any(NotificationType.class))).thenReturn(false);
-            when(notificationPreferenceService.checkEmailEnabled(any(UUID.class), any(NotificationType.class))).thenReturn(false);
 
             // Act
             ResponseEntity<ApiResponse<String>> response = videoCallService.deleteMeeting(testMeeting.getId());
@@ -1100,8 +1082,6 @@ class VideoCallServiceTest {
                 return true;
             });
             when(paymentRepo.findBymeetingId(testMeeting.getId())).thenReturn(testPayment);
-            when(notificationPreferenceService.checkWebPushEnabled(any(UUID.class), any(NotificationType.class))).thenReturn(false);
-            when(notificationPreferenceService.checkEmailEnabled(any(UUID.class), any(NotificationType.class))).thenReturn(false);
 
             // Act
             ResponseEntity<ApiResponse<MeetingResponseDTO>> response = videoCallService.scheduleMeeting(scheduleMeetingDTO);
@@ -1125,8 +1105,6 @@ class VideoCallServiceTest {
             when(meetingRepo.save(any(Meeting.class))).thenReturn(testMeeting);
             when(paymentService.createPayment(any(CreatePaymentDTO.class))).thenReturn(true);
             when(paymentRepo.findBymeetingId(testMeeting.getId())).thenReturn(null); // Return null payment
-            when(notificationPreferenceService.checkWebPushEnabled(any(UUID.class), any(NotificationType.class))).thenReturn(false);
-            when(notificationPreferenceService.checkEmailEnabled(any(UUID.class), any(NotificationType.class))).thenReturn(false);
 
             // Act
             ResponseEntity<ApiResponse<MeetingResponseDTO>> response = videoCallService.scheduleMeeting(scheduleMeetingDTO);
@@ -1146,12 +1124,10 @@ class VideoCallServiceTest {
     void updateMeeting_NullLawyerProfile_ContinuesSuccessfully() {
         // Arrange
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testLawyer);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testLawyer));
             when(meetingRepo.findById(updateMeetingDTO.getMeetingId())).thenReturn(Optional.of(testMeeting));
             when(meetingRepo.save(any(Meeting.class))).thenReturn(testMeeting);
             when(lawyerRepo.findByUser(testLawyer)).thenReturn(Optional.empty()); // Return empty lawyer profile
-            when(notificationPreferenceService.checkWebPushEnabled(any(UUID.class), any(NotificationType.class))).thenReturn(false);
-            when(notificationPreferenceService.checkEmailEnabled(any(UUID.class), any(NotificationType.class))).thenReturn(false);
 
             // Act
             ResponseEntity<ApiResponse<MeetingResponseDTO>> response = videoCallService.updateMeeting(updateMeetingDTO);
@@ -1163,7 +1139,7 @@ class VideoCallServiceTest {
             
             verify(meetingRepo, times(1)).save(any(Meeting.class)); // Only called once since no payment update
             verify(paymentService, never()).updatePaymentAmount(any(UUID.class), any(BigDecimal.class));
-            verify(jobSchedulerService, times(1)).deleteAllJobsForTask(testMeeting.getId());
+            verify(notificationDispatcher, times(1)).dispatch(argThat(event -> event.reminder().replaceExisting()));
         }
     }
 
@@ -1174,12 +1150,10 @@ class VideoCallServiceTest {
         testLawyerProfile.setHourlyCharge(null); // Set hourly charge to null
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testLawyer);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testLawyer));
             when(meetingRepo.findById(updateMeetingDTO.getMeetingId())).thenReturn(Optional.of(testMeeting));
             when(meetingRepo.save(any(Meeting.class))).thenReturn(testMeeting);
             when(lawyerRepo.findByUser(testLawyer)).thenReturn(Optional.of(testLawyerProfile));
-            when(notificationPreferenceService.checkWebPushEnabled(any(UUID.class), any(NotificationType.class))).thenReturn(false);
-            when(notificationPreferenceService.checkEmailEnabled(any(UUID.class), any(NotificationType.class))).thenReturn(false);
 
             // Act
             ResponseEntity<ApiResponse<MeetingResponseDTO>> response = videoCallService.updateMeeting(updateMeetingDTO);
@@ -1191,7 +1165,7 @@ class VideoCallServiceTest {
             
             verify(meetingRepo, times(1)).save(any(Meeting.class)); // Only called once since no payment update
             verify(paymentService, never()).updatePaymentAmount(any(UUID.class), any(BigDecimal.class));
-            verify(jobSchedulerService, times(1)).deleteAllJobsForTask(testMeeting.getId());
+            verify(notificationDispatcher, times(1)).dispatch(argThat(event -> event.reminder().replaceExisting()));
         }
     }
 
@@ -1200,14 +1174,12 @@ class VideoCallServiceTest {
     void updateMeeting_NullUpdatedPayment_ContinuesSuccessfully() {
         // Arrange
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
-            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testLawyer);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testLawyer));
             when(meetingRepo.findById(updateMeetingDTO.getMeetingId())).thenReturn(Optional.of(testMeeting));
             when(meetingRepo.save(any(Meeting.class))).thenReturn(testMeeting);
             when(lawyerRepo.findByUser(testLawyer)).thenReturn(Optional.of(testLawyerProfile));
             when(paymentService.updatePaymentAmount(any(UUID.class), any(BigDecimal.class))).thenReturn(true);
             when(paymentRepo.findBymeetingId(testMeeting.getId())).thenReturn(null); // Return null payment
-            when(notificationPreferenceService.checkWebPushEnabled(any(UUID.class), any(NotificationType.class))).thenReturn(false);
-            when(notificationPreferenceService.checkEmailEnabled(any(UUID.class), any(NotificationType.class))).thenReturn(false);
 
             // Act
             ResponseEntity<ApiResponse<MeetingResponseDTO>> response = videoCallService.updateMeeting(updateMeetingDTO);
@@ -1219,7 +1191,7 @@ class VideoCallServiceTest {
             
             verify(meetingRepo, times(1)).save(any(Meeting.class)); // Only called once since payment is null
             verify(paymentService, times(1)).updatePaymentAmount(any(UUID.class), any(BigDecimal.class));
-            verify(jobSchedulerService, times(1)).deleteAllJobsForTask(testMeeting.getId());
+            verify(notificationDispatcher, times(1)).dispatch(argThat(event -> event.reminder().replaceExisting()));
         }
     }
 
@@ -1235,6 +1207,7 @@ class VideoCallServiceTest {
         
         try (MockedStatic<GetUserUtil> mockedGetUserUtil = Mockito.mockStatic(GetUserUtil.class)) {
             mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedUser(userRepo)).thenReturn(testClient);
+            mockedGetUserUtil.when(() -> GetUserUtil.getAuthenticatedPrincipal(userRepo)).thenReturn(AuthenticatedUser.from(testClient));
             when(meetingRepo.findById(testMeeting.getId())).thenReturn(Optional.of(testMeeting));
             when(paymentRepo.findBymeetingIdAndStatus(testMeeting.getId(), PaymentStatus.PAID)).thenReturn(null);
             when(paymentRepo.findBymeetingIdAndStatus(testMeeting.getId(), PaymentStatus.RELEASED)).thenReturn(releasedPayment);
@@ -708,12 +708,16 @@ export const chatAPI = {
   },
 
   /**
-   * Get all conversations for the authenticated user
+   * Get conversations for the authenticated user with pagination support
    * Returns conversations ordered by most recent activity with unread counts and latest messages
+   * @param {number} page - Page number (default: 0)
+   * @param {number} size - Page size (default: 20)
    * @returns {Promise<Object>} Response containing conversations list
    */
-  getConversations: async () => {
-    const response = await api.get(API_CONFIG.ENDPOINTS.CHAT.GET_CONVERSATIONS);
+  getConversations: async (page = 0, size = 20) => {
+    const response = await api.get(API_CONFIG.ENDPOINTS.CHAT.GET_CONVERSATIONS, {
+      params: { page, size },
+    });
     return response.data;
   },
 
@@ -82,15 +82,17 @@ export const chatService = {
   },
 
   /**
-   * Get all conversations for the authenticated user
+   * Get conversations for the authenticated user with pagination support
    * Returns conversations ordered by most recent activity with unread counts and latest messages
+   * @param {number} page - Page number (default: 0)
+   * @param {number} size - Page size (default: 20)
    * @param {number} retryCount - Number of retry attempts (default: 0)
    * @param {number} maxRetries - Maximum number of retry attempts (default: 2)
    * @returns {Promise<Object>} Response containing conversations list
    */
-  getConversations: async (retryCount = 0, maxRetries = 2) => {
+  getConversations: async (page = 0, size = 20, retryCount = 0, maxRetries = 2) => {
     try {
-      const response = await chatAPI.getConversations();
+      const response = await chatAPI.getConversations(page, size);
       return response;
     } catch (error) {
       console.error(
@@ -114,7 +116,7 @@ export const chatService = {
         await new Promise((resolve) => setTimeout(resolve, delay));
 
         // Retry with incremented retry count
-        return chatService.getConversations(retryCount + 1, maxRetries);
+        return chatService.getConversations(page, size, retryCount + 1, maxRetries);
       }
 
       // Don't retry on client errors (4xx) or max retries reached
@@ -2,6 +2,7 @@ import { defineStore } from "pinia";
 import { ref } from "vue";
 import { authAPI, userAPI } from "../services/api";
 import { initializeApp } from "../services/init";
+import websocketManager from "../utils/websocketManager";
 import { useNotificationStore } from "./notification";
 
 export const useAuthStore = defineStore("auth", () => {
@@ -29,6 +30,24 @@ export const useAuthStore = defineStore("auth", () => {
     };
   };
 
+  // Password changes and email verification revoke the previous token, so the
+  // server answers them with a fresh one that replaces it everywhere
+  const applyRefreshedToken = (authData) => {
+    if (!authData?.token) {
+      return;
+    }
+    token.value = authData.token;
+    localStorage.setItem("auth_token", authData.token);
+    websocketManager.updateToken(authData.token);
+
+    userInfo.value = {
+      ...userInfo.value,
+      emailVerified: authData.emailVerified,
+      updatedAt: authData.updatedAt,
+    };
+    localStorage.setItem("auth_userInfo", JSON.stringify(userInfo.value));
+  };
+
   const login = async (credentials) => {
     try {
       const response = await authAPI.login(credentials);
@@ -354,6 +373,7 @@ export const useAuthStore = defineStore("auth", () => {
       const response = await authAPI.verifyEmail(verificationData);
 
       // If we reach here, the request was successful
+      applyRefreshedToken(response.data);
       return {
         success: true,
         message:
@@ -384,8 +404,9 @@ export const useAuthStore = defineStore("auth", () => {
   const changePassword = async (data) => {
     try {
       const response = await authAPI.changePassword(data);
-      // Success if response.status is 200 and response.data is true
-      if (response.status === 200 && response.data === true) {
+      // Success if response.status is 200 and response.data carries the new token
+      if (response.status === 200 && response.data?.token) {
+        applyRefreshedToken(response.data);
         return {
           success: true,
           message: response.message || "Password changed successfully.",
@@ -498,6 +519,7 @@ export const useAuthStore = defineStore("auth", () => {
     sendVerificationCode,
     verifyEmail,
     changePassword,
+    applyRefreshedToken,
     fetchUserInfo,
     uploadProfilePicture,
   };
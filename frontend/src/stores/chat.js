@@ -39,6 +39,7 @@ export const useChatStore = defineStore("chat", () => {
   const isLoadingMessages = ref(false);
   const isSendingMessage = ref(false);
   const isLoadingMoreMessages = ref(false);
+  const isLoadingMoreConversations = ref(false);
 
   // WebSocket
   const isConnected = ref(false);
@@ -711,6 +712,24 @@ export const useChatStore = defineStore("chat", () => {
     return result;
   };
 
+  const fetchMoreConversations = async () => {
+    if (!checkAuthentication()) {
+      return { success: false, message: "Authentication required" };
+    }
+
+    const pagination = conversationPagination.value;
+    if (!pagination.hasMore || isLoadingMoreConversations.value) {
+      return { success: false, message: "No more conversations to load" };
+    }
+
+    // Nothing fetched from the server yet, e.g. the list came from the cache
+    if (pagination.totalPages === 0) {
+      return await fetchConversationsWithRetry();
+    }
+
+    return await fetchConversationsWithRetry(pagination.currentPage + 1, 20);
+  };
+
   const fetchConversationMessages = async (
     conversationId,
     page = 0,
@@ -1038,6 +1057,7 @@ export const useChatStore = defineStore("chat", () => {
       isLoadingMessages.value = false;
       isSendingMessage.value = false;
       isLoadingMoreMessages.value = false;
+      isLoadingMoreConversations.value = false;
       isConnected.value = false;
 
       // Reset pagination
@@ -1231,23 +1251,27 @@ export const useChatStore = defineStore("chat", () => {
   };
 
   // Enhanced API methods with better error handling
-  const fetchConversationsWithRetry = async () => {
+  const fetchConversationsWithRetry = async (page = 0, size = 20) => {
     if (!checkNetworkStatus()) {
       return { success: false, message: "No internet connection" };
     }
 
     return await retryWithBackoff(async () => {
-      isLoading.value = true;
+      if (page === 0) {
+        isLoading.value = true;
+      } else {
+        isLoadingMoreConversations.value = true;
+      }
 
       try {
-        const response = await chatService.getConversations();
+        const response = await chatService.getConversations(page, size);
 
         if (response && response.data) {
           const conversationList = response.data.conversations || [];
           const authStore = useAuthStore();
           const currentUserId = authStore.userInfo?.id;
 
-          conversations.value = conversationList.map((conv) => {
+          const pageConversations = conversationList.map((conv) => {
             const authStore = useAuthStore();
             const currentUserId = authStore.userInfo?.id;
             const currentUserFullName =
@@ -1283,17 +1307,49 @@ export const useChatStore = defineStore("chat", () => {
             return mappedConversation;
           });
 
+          const metadata = response.metadata || {};
+          const wholeInbox = page === 0 && metadata.hasNext !== true;
+
+          // A refresh of the first page keeps the older pages already loaded,
+          // unless the whole inbox fits in that page
+          if (wholeInbox) {
+            conversations.value = pageConversations;
+          } else {
+            const pageIds = new Set(pageConversations.map((conv) => conv.id));
+            conversations.value = [
+              ...pageConversations,
+              ...conversations.value.filter((conv) => !pageIds.has(conv.id)),
+            ];
+          }
+
+          const loadedPage =
+            page === 0 && !wholeInbox
+              ? conversationPagination.value.currentPage
+              : page;
+          const totalPages = metadata.totalPages || 0;
+          conversationPagination.value = {
+            currentPage: loadedPage,
+            totalPages,
+            hasMore: loadedPage < totalPages - 1,
+          };
+
           // Update unread counts from conversation data
-          const newUnreadCounts = {};
-          let totalUnread = 0;
+          const newUnreadCounts = wholeInbox ? {} : { ...unreadCounts.value };
           conversationList.forEach((conv) => {
             if (conv.unreadCount !== undefined) {
               newUnreadCounts[conv.id] = conv.unreadCount;
-              totalUnread += conv.unreadCount;
             }
           });
           unreadCounts.value = newUnreadCounts;
-          totalUnreadCount.value = totalUnread;
+          if (wholeInbox) {
+            totalUnreadCount.value = Object.values(newUnreadCounts).reduce(
+              (total, count) => total + count,
+              0
+            );
+          } else {
+            // Only part of the inbox is loaded; the server knows the total
+            await fetchUnreadCount();
+          }
 
           // Cache conversations and unread counts
           _cacheConversations();
@@ -1308,6 +1364,7 @@ export const useChatStore = defineStore("chat", () => {
         }
       } finally {
         isLoading.value = false;
+        isLoadingMoreConversations.value = false;
       }
     });
   };
@@ -1520,6 +1577,7 @@ export const useChatStore = defineStore("chat", () => {
     isLoadingMessages,
     isSendingMessage,
     isLoadingMoreMessages,
+    isLoadingMoreConversations,
     isConnected,
     conversationPagination,
     messagePagination,
@@ -1546,6 +1604,7 @@ export const useChatStore = defineStore("chat", () => {
     disconnectWebSocket,
     manualReconnect,
     fetchConversations,
+    fetchMoreConversations,
     fetchConversationMessages,
     fetchMoreMessages,
     sendMessage,
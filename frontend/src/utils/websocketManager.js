@@ -293,6 +293,16 @@ class WebSocketManager {
     }
   }
 
+  /**
+   * Replace the token used for reconnecting, after the server issued a new one
+   * @param {string} token - JWT authentication token
+   */
+  updateToken(token) {
+    if (token) {
+      this.token = token;
+    }
+  }
+
   /**
    * Get connection status
    * @returns {boolean}